@@ -0,0 +1,96 @@
+package com.gongdel.promptserver.common.security;
+
+import com.gongdel.promptserver.application.port.out.query.LoadUserPort;
+import com.gongdel.promptserver.application.usecase.query.TokenValidationService;
+import com.gongdel.promptserver.domain.user.Email;
+import com.gongdel.promptserver.domain.user.User;
+import com.gongdel.promptserver.domain.user.UserId;
+import io.jsonwebtoken.security.Keys;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link JwtAuthenticationFilter}의 요청당 인증 비용을 측정하는 JMH 벤치마크입니다.
+ * <p>
+ * 같은 토큰이 반복되는 경우(검증 캐시 적중)와 매 요청 서명을 다시 검증하는 경우를 비교합니다.
+ * 블랙리스트와 사용자 조회는 메모리 스텁으로 대체하여 토큰 처리 비용만 측정합니다.
+ * 실행: {@code ./gradlew jmh}
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> {
+    };
+
+    private JwtTokenProvider jwtTokenProvider;
+    private JwtAuthenticationFilter filter;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtTokenProvider = new JwtTokenProvider(
+            Keys.hmacShaKeyFor("benchmark-secret-key-must-be-at-least-256-bits".getBytes(StandardCharsets.UTF_8)),
+            3_600_000L, 604_800_000L);
+        User user = User.builder()
+            .id(1L)
+            .uuid(UserId.randomId())
+            .email(new Email("bench@example.com"))
+            .name("bench")
+            .build();
+        LoadUserPort loadUserPort = new LoadUserPort() {
+            @Override
+            public Optional<User> loadUserByUserId(UserId userId) {
+                return Optional.of(user);
+            }
+
+            @Override
+            public Optional<User> loadUserByEmail(Email email) {
+                return Optional.of(user);
+            }
+
+            @Override
+            public Optional<User> loadUserById(Long id) {
+                return Optional.of(user);
+            }
+        };
+        TokenValidationService tokenValidationService = new TokenValidationService(jwtTokenProvider, tokenId -> false);
+        JwtAuthenticationProvider jwtAuthenticationProvider =
+            new JwtAuthenticationProvider(loadUserPort, new AuthenticatedUserCache(30));
+        filter = new JwtAuthenticationFilter(jwtAuthenticationProvider, tokenValidationService);
+        token = jwtTokenProvider.generateAccessToken(user);
+    }
+
+    /**
+     * 같은 토큰이 반복되는 요청. 검증 캐시에서 결과를 가져오므로 서명 검증을 생략합니다.
+     */
+    @Benchmark
+    public Object filterWithRepeatedToken() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer " + token);
+        filter.doFilter(request, new MockHttpServletResponse(), NO_OP_CHAIN);
+        Object authentication = SecurityContextHolder.getContext().getAuthentication();
+        SecurityContextHolder.clearContext();
+        return authentication;
+    }
+
+    /**
+     * 비교 기준: 캐시 없이 토큰을 한 번 파싱하고 서명을 검증하는 비용.
+     */
+    @Benchmark
+    public Object parseWithoutCache() {
+        return jwtTokenProvider.getClaims(token);
+    }
+}
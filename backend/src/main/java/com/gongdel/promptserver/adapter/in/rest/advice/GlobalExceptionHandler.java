@@ -2,11 +2,13 @@ package com.gongdel.promptserver.adapter.in.rest.advice;
 
 import com.gongdel.promptserver.application.exception.ApplicationErrorCode;
 import com.gongdel.promptserver.application.exception.ApplicationException;
+import com.gongdel.promptserver.domain.exception.AuthBusyException;
 import com.gongdel.promptserver.domain.exception.BaseException;
 import com.gongdel.promptserver.domain.exception.CategoryErrorType;
 import com.gongdel.promptserver.domain.exception.ErrorCode;
 import com.gongdel.promptserver.domain.exception.PromptErrorType;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -52,6 +54,26 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errorResponse, determineHttpStatus(ex));
     }
 
+    /**
+     * 비밀번호 해시 대기열 초과 예외를 503 응답과 Retry-After 헤더로 처리합니다.
+     *
+     * @param ex 인증 과부하 예외
+     * @return 표준화된 에러 응답
+     */
+    @ExceptionHandler(AuthBusyException.class)
+    public ResponseEntity<Map<String, Object>> handleAuthBusyException(AuthBusyException ex) {
+        log.warn("Authentication request rejected: {}", ex.getMessage());
+        ErrorCode errorCode = ex.getErrorCode();
+        Map<String, Object> errorResponse = createErrorResponse(
+            errorCode.getClass().getSimpleName(),
+            errorCode.getMessage(),
+            errorCode.name(),
+            errorCode.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+            .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+            .body(errorResponse);
+    }
+
     /**
      * 애플리케이션 계층의 비즈니스 예외(ApplicationException)를 처리합니다.
      *
@@ -10,14 +10,17 @@ import com.gongdel.promptserver.application.port.in.command.LoginCommand;
 import com.gongdel.promptserver.application.port.in.command.LogoutCommand;
 import com.gongdel.promptserver.application.port.in.command.SignUpCommand;
 import com.gongdel.promptserver.application.port.in.command.TokenRefreshCommand;
+import com.gongdel.promptserver.common.web.ClientIpResolver;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
 
@@ -31,6 +34,7 @@ import org.springframework.web.bind.annotation.*;
 @RequiredArgsConstructor
 public class AuthController {
     private final AuthCommandUseCase authCommandUseCase;
+    private final ClientIpResolver clientIpResolver;
 
     /**
      * 회원가입 API
@@ -60,9 +64,9 @@ public class AuthController {
         @ApiResponse(responseCode = "401", description = "인증 실패")
     })
     @PostMapping("/login")
-    public LoginResponse login(@Valid @RequestBody LoginRequest request) {
+    public LoginResponse login(@Valid @RequestBody LoginRequest request, HttpServletRequest httpRequest) {
         log.info("Login request received for email: {}", request.getEmail());
-        LoginCommand command = buildLoginCommand(request);
+        LoginCommand command = buildLoginCommand(request, httpRequest);
         return authCommandUseCase.login(command);
     }
 
@@ -109,10 +113,12 @@ public class AuthController {
             .build();
     }
 
-    private LoginCommand buildLoginCommand(LoginRequest request) {
+    private LoginCommand buildLoginCommand(LoginRequest request, HttpServletRequest httpRequest) {
         return LoginCommand.builder()
             .email(request.getEmail())
             .password(request.getPassword())
+            .ipAddress(clientIpResolver.resolve(httpRequest))
+            .userAgent(httpRequest.getHeader(HttpHeaders.USER_AGENT))
             .build();
     }
 
@@ -0,0 +1,52 @@
+package com.gongdel.promptserver.adapter.in.rest.controller.auth;
+
+import com.gongdel.promptserver.adapter.in.rest.response.auth.LoginHistoryResponse;
+import com.gongdel.promptserver.application.port.in.LoginHistoryQueryUseCase;
+import com.gongdel.promptserver.common.security.CurrentUserProvider;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.Assert;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * 로그인 이력 조회 API 컨트롤러입니다.
+ */
+@Slf4j
+@Tag(name = "로그인 이력 - Query", description = "내 로그인 이력 조회 API")
+@RestController
+@RequestMapping("/api/v1/users/me")
+@RequiredArgsConstructor
+public class LoginHistoryQueryController {
+    private final LoginHistoryQueryUseCase loginHistoryQueryUseCase;
+    private final CurrentUserProvider currentUserProvider;
+
+    @Operation(summary = "내 최근 로그인 이력 조회", description = "현재 사용자의 최근 로그인 이력을 최신순으로 조회합니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "로그인 이력 조회 성공"),
+        @ApiResponse(responseCode = "401", description = "인증되지 않은 요청")
+    })
+    @GetMapping("/login-history")
+    public ResponseEntity<List<LoginHistoryResponse>> getRecentLoginHistories(
+        @Parameter(description = "최대 조회 건수 (최대 100)", example = "20") @RequestParam(defaultValue = "20") int limit) {
+        Long userId = currentUserProvider.getCurrentUserId();
+        Assert.notNull(userId, "User ID must not be null");
+        log.info("Querying login histories. userId={}, limit={}", userId, limit);
+
+        List<LoginHistoryResponse> histories = loginHistoryQueryUseCase.getRecentLoginHistories(userId, limit)
+            .stream()
+            .map(LoginHistoryResponse::from)
+            .toList();
+        return ResponseEntity.ok(histories);
+    }
+}
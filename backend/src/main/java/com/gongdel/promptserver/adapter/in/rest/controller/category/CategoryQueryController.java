@@ -12,6 +12,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -34,8 +35,9 @@ public class CategoryQueryController {
     public ResponseEntity<CategoryResponse> getCategoryById(
         @Parameter(description = "카테고리 ID", example = "1") @PathVariable Long id) {
         log.info("Retrieving category with id: {}", id);
+        ResponseEntity.BodyBuilder ok = okWithCatalogETag();
         return categoryQueryUseCase.getCategoryById(id)
-            .map(category -> ResponseEntity.ok(CategoryResponse.from(category)))
+            .map(category -> ok.body(CategoryResponse.from(category)))
             .orElseGet(() -> {
                 log.warn("Category not found with id: {}", id);
                 return ResponseEntity.notFound().build();
@@ -50,13 +52,14 @@ public class CategoryQueryController {
     public ResponseEntity<List<CategoryResponse>> getCategories(
         @Parameter(description = "카테고리 이름으로 검색", example = "AI") @RequestParam(required = false) String name,
         @Parameter(description = "시스템 카테고리 여부", example = "false") @RequestParam(required = false) Boolean isSystem) {
+        ResponseEntity.BodyBuilder ok = okWithCatalogETag();
         if (name != null && !name.isEmpty()) {
             log.info("Retrieving category with name: {}", name);
             return categoryQueryUseCase.getCategoryByName(name)
-                .map(category -> ResponseEntity.ok(List.of(CategoryResponse.from(category))))
+                .map(category -> ok.body(List.of(CategoryResponse.from(category))))
                 .orElseGet(() -> {
                     log.warn("Category not found with name: {}", name);
-                    return ResponseEntity.ok(List.of());
+                    return ok.body(List.of());
                 });
         }
         if (isSystem != null) {
@@ -65,14 +68,14 @@ public class CategoryQueryController {
             List<CategoryResponse> response = categories.stream()
                 .map(CategoryResponse::from)
                 .collect(Collectors.toList());
-            return ResponseEntity.ok(response);
+            return ok.body(response);
         }
         log.info("Retrieving all categories");
         List<Category> categories = categoryQueryUseCase.getAllCategories();
         List<CategoryResponse> response = categories.stream()
             .map(CategoryResponse::from)
             .collect(Collectors.toList());
-        return ResponseEntity.ok(response);
+        return ok.body(response);
     }
 
     @Operation(summary = "루트 카테고리 목록 조회", description = "최상위 카테고리 목록을 조회합니다.")
@@ -82,11 +85,12 @@ public class CategoryQueryController {
     @GetMapping("/roots")
     public ResponseEntity<List<CategoryResponse>> getRootCategories() {
         log.info("Retrieving root categories");
+        ResponseEntity.BodyBuilder ok = okWithCatalogETag();
         List<Category> categories = categoryQueryUseCase.getRootCategories();
         List<CategoryResponse> response = categories.stream()
             .map(CategoryResponse::from)
             .collect(Collectors.toList());
-        return ResponseEntity.ok(response);
+        return ok.body(response);
     }
 
     @Operation(summary = "하위 카테고리 목록 조회", description = "특정 카테고리의 하위 카테고리 목록을 조회합니다.")
@@ -99,14 +103,27 @@ public class CategoryQueryController {
         @Parameter(description = "상위 카테고리 ID", example = "1") @PathVariable Long parentId) {
         log.info("Retrieving subcategories of parent ID: {}", parentId);
         try {
+            ResponseEntity.BodyBuilder ok = okWithCatalogETag();
             List<Category> categories = categoryQueryUseCase.getSubCategories(parentId);
             List<CategoryResponse> response = categories.stream()
                 .map(CategoryResponse::from)
                 .collect(Collectors.toList());
-            return ResponseEntity.ok(response);
+            return ok.body(response);
         } catch (CategoryNotFoundException e) {
             log.warn("Parent category not found with id: {}", parentId, e);
             return ResponseEntity.notFound().build();
         }
     }
+
+    /**
+     * 카탈로그 버전을 ETag로 담은 200 응답 빌더를 생성합니다.
+     * <p>
+     * If-None-Match가 ETag와 같으면 Spring이 본문 없이 304로 응답합니다. 버전을 데이터보다 먼저 조회하므로,
+     * 그 사이 카탈로그가 바뀌어도 이전 데이터가 새 ETag로 캐시되지 않습니다.
+     */
+    private ResponseEntity.BodyBuilder okWithCatalogETag() {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok();
+        String version = categoryQueryUseCase.getCatalogVersion();
+        return StringUtils.hasText(version) ? builder.eTag(version) : builder;
+    }
 }
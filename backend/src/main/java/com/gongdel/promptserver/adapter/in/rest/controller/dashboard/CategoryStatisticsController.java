@@ -45,7 +45,7 @@ public class CategoryStatisticsController {
         log.info("Request root category statistics for dashboard");
         List<CategoryPromptCount> counts = categoryStatisticsQueryUseCase.getRootCategoryPromptCounts();
         log.debug("Fetched {} root category statistics", counts.size());
-        return ResponseEntity.ok(mapToResponse(counts));
+        return ResponseEntity.ok(CategoryStatisticsResponse.from(counts));
     }
 
     /**
@@ -67,25 +67,6 @@ public class CategoryStatisticsController {
         log.info("Request child category statistics for rootId: {}", rootId);
         List<CategoryPromptCount> counts = categoryStatisticsQueryUseCase.getChildCategoryPromptCounts(rootId);
         log.debug("Fetched {} child category statistics for rootId: {}", counts.size(), rootId);
-        return ResponseEntity.ok(mapToResponse(counts));
-    }
-
-    /**
-     * CategoryPromptCount 리스트를 CategoryStatisticsResponse로 변환합니다.
-     *
-     * @param counts 카테고리별 프롬프트 개수 목록
-     * @return 카테고리 통계 응답 객체
-     */
-    private CategoryStatisticsResponse mapToResponse(List<CategoryPromptCount> counts) {
-        return CategoryStatisticsResponse.builder()
-            .categories(
-                counts.stream()
-                    .map(c -> CategoryStatisticsResponse.CategoryStat.builder()
-                        .categoryId(c.getCategoryId())
-                        .categoryName(c.getCategoryName())
-                        .promptCount(c.getPromptCount())
-                        .build())
-                    .toList())
-            .build();
+        return ResponseEntity.ok(CategoryStatisticsResponse.from(counts));
     }
 }
@@ -0,0 +1,44 @@
+package com.gongdel.promptserver.adapter.in.rest.controller.dashboard;
+
+import com.gongdel.promptserver.adapter.in.rest.response.dashboard.DashboardSnapshotResponse;
+import com.gongdel.promptserver.application.port.in.DashboardSnapshotQueryUseCase;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 미리 계산한 대시보드 통계 스냅샷을 제공하는 컨트롤러입니다.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/dashboard/snapshot")
+@RequiredArgsConstructor
+@Tag(name = "대시보드 스냅샷", description = "미리 계산한 대시보드 통계 API")
+public class DashboardSnapshotController {
+
+    private final DashboardSnapshotQueryUseCase dashboardSnapshotQueryUseCase;
+
+    /**
+     * 대시보드 통계 스냅샷을 조회합니다.
+     *
+     * @return 대시보드 통계 스냅샷 응답
+     */
+    @GetMapping
+    @Operation(summary = "대시보드 통계 스냅샷 조회", description = "주기적으로 미리 계산한 대시보드 전역 통계를 조회합니다. generatedAt으로 계산 시각을 확인할 수 있습니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "대시보드 통계 스냅샷 조회 성공"),
+        @ApiResponse(responseCode = "500", description = "서버 오류 - 통계 데이터 조회 실패")
+    })
+    public ResponseEntity<DashboardSnapshotResponse> getDashboardSnapshot() {
+        DashboardSnapshotResponse response = DashboardSnapshotResponse.from(dashboardSnapshotQueryUseCase.getSnapshot());
+        log.debug("Dashboard snapshot served: generatedAt={}", response.getGeneratedAt());
+        return ResponseEntity.ok(response);
+    }
+}
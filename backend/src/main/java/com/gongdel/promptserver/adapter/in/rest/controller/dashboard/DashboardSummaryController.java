@@ -0,0 +1,202 @@
+package com.gongdel.promptserver.adapter.in.rest.controller.dashboard;
+
+import com.gongdel.promptserver.adapter.in.rest.response.dashboard.CategoryStatisticsResponse;
+import com.gongdel.promptserver.adapter.in.rest.response.dashboard.DashboardSummaryResponse;
+import com.gongdel.promptserver.adapter.in.rest.response.dashboard.FavoriteStatisticsResponse;
+import com.gongdel.promptserver.adapter.in.rest.response.dashboard.PromptStatisticsResponse;
+import com.gongdel.promptserver.adapter.in.rest.response.dashboard.TeamMemberStatisticsResponse;
+import com.gongdel.promptserver.adapter.in.rest.response.dashboard.UserStatisticsResponse;
+import com.gongdel.promptserver.adapter.in.rest.response.dashboard.WeeklyViewStatisticsResponse;
+import com.gongdel.promptserver.adapter.in.rest.response.prompt.PromptListResponse;
+import com.gongdel.promptserver.application.port.in.CategoryStatisticsQueryUseCase;
+import com.gongdel.promptserver.application.port.in.PromptDashboardQueryUseCase;
+import com.gongdel.promptserver.application.port.in.PromptStatisticsQueryUseCase;
+import com.gongdel.promptserver.application.port.in.TeamMemberStatisticsQueryUseCase;
+import com.gongdel.promptserver.application.port.in.UserStatisticsQueryUseCase;
+import com.gongdel.promptserver.application.port.in.ViewStatisticsQueryUseCase;
+import com.gongdel.promptserver.application.port.in.query.FavoriteQueryUseCase;
+import com.gongdel.promptserver.domain.statistics.ComparisonPeriod;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 대시보드 화면에 필요한 위젯 데이터를 한 번의 요청으로 제공하는 컨트롤러입니다.
+ * <p>
+ * 위젯별 유스케이스를 전용 스레드 풀에서 동시에 실행하고, 요청 시작 시점부터 위젯 제한 시간까지만 결과를 기다립니다.
+ * 따라서 응답 시간은 위젯 조회 시간의 합이 아니라 가장 느린 위젯(최대 제한 시간)으로 제한됩니다.
+ * 제한 시간을 넘기거나 실패한 위젯은 비워 두고 unavailableWidgets에 이름을 담아 나머지 결과만 반환합니다.
+ * 제한 시간을 넘긴 위젯 작업은 실행 중인 스레드를 인터럽트하여 취소하며, 실행 중인 쿼리는 Executor가 거는 트랜잭션
+ * 타임아웃으로 DB에서 중단됩니다.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/dashboard/summary")
+@Tag(name = "대시보드 요약", description = "대시보드 위젯 통합 조회 API")
+public class DashboardSummaryController {
+
+    private static final int DEFAULT_RECENT_PROMPT_SIZE = 4;
+
+    private final PromptStatisticsQueryUseCase promptStatisticsQueryUseCase;
+    private final UserStatisticsQueryUseCase userStatisticsQueryUseCase;
+    private final FavoriteQueryUseCase favoriteQueryUseCase;
+    private final TeamMemberStatisticsQueryUseCase teamMemberStatisticsQueryUseCase;
+    private final ViewStatisticsQueryUseCase viewStatisticsQueryUseCase;
+    private final CategoryStatisticsQueryUseCase categoryStatisticsQueryUseCase;
+    private final PromptDashboardQueryUseCase promptDashboardQueryUseCase;
+    private final Executor dashboardExecutor;
+    private final long widgetTimeoutMillis;
+
+    public DashboardSummaryController(PromptStatisticsQueryUseCase promptStatisticsQueryUseCase,
+                                      UserStatisticsQueryUseCase userStatisticsQueryUseCase,
+                                      FavoriteQueryUseCase favoriteQueryUseCase,
+                                      TeamMemberStatisticsQueryUseCase teamMemberStatisticsQueryUseCase,
+                                      ViewStatisticsQueryUseCase viewStatisticsQueryUseCase,
+                                      CategoryStatisticsQueryUseCase categoryStatisticsQueryUseCase,
+                                      PromptDashboardQueryUseCase promptDashboardQueryUseCase,
+                                      @Qualifier("dashboardExecutor") Executor dashboardExecutor,
+                                      @Value("${dashboard.summary.widget-timeout-millis:2000}") long widgetTimeoutMillis) {
+        this.promptStatisticsQueryUseCase = promptStatisticsQueryUseCase;
+        this.userStatisticsQueryUseCase = userStatisticsQueryUseCase;
+        this.favoriteQueryUseCase = favoriteQueryUseCase;
+        this.teamMemberStatisticsQueryUseCase = teamMemberStatisticsQueryUseCase;
+        this.viewStatisticsQueryUseCase = viewStatisticsQueryUseCase;
+        this.categoryStatisticsQueryUseCase = categoryStatisticsQueryUseCase;
+        this.promptDashboardQueryUseCase = promptDashboardQueryUseCase;
+        this.dashboardExecutor = dashboardExecutor;
+        this.widgetTimeoutMillis = widgetTimeoutMillis;
+    }
+
+    /**
+     * 대시보드 위젯 데이터를 병렬로 조회합니다.
+     *
+     * @param startDate 통계 시작 날짜 (기본값: 7일 전)
+     * @param endDate   통계 종료 날짜 (기본값: 현재)
+     * @param pageSize  최근 프롬프트 개수 (기본값: 4)
+     * @return 대시보드 요약 응답
+     */
+    @GetMapping
+    @Operation(summary = "대시보드 요약 조회", description = "대시보드 위젯 통계를 한 번에 조회합니다. 제한 시간 안에 조회하지 못한 위젯은 비워 두고 unavailableWidgets에 표시합니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "대시보드 요약 조회 성공 (일부 위젯이 비어 있을 수 있음)"),
+        @ApiResponse(responseCode = "400", description = "잘못된 요청 - 날짜 형식 오류")
+    })
+    public ResponseEntity<DashboardSummaryResponse> getDashboardSummary(
+        @Parameter(description = "통계 시작 날짜 (YYYY-MM-DD'T'HH:mm:ss)", example = "2024-01-01T00:00:00") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
+
+        @Parameter(description = "통계 종료 날짜 (YYYY-MM-DD'T'HH:mm:ss)", example = "2024-01-07T23:59:59") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
+
+        @Parameter(description = "최근 프롬프트 개수", example = "4") @RequestParam(required = false, defaultValue = "4") Integer pageSize) {
+
+        log.info("Request dashboard summary: startDate={}, endDate={}, pageSize={}", startDate, endDate, pageSize);
+
+        // 기본값 설정 (7일 전부터 현재까지)
+        LocalDateTime now = LocalDateTime.now();
+        ComparisonPeriod period = new ComparisonPeriod(
+            startDate != null ? startDate : now.minusDays(7),
+            endDate != null ? endDate : now);
+        int recentSize = pageSize != null && pageSize > 0 ? pageSize : DEFAULT_RECENT_PROMPT_SIZE;
+
+        // 이번주 기간 계산 (월요일~일요일)
+        LocalDate today = now.toLocalDate();
+        LocalDate thisWeekStart = today.with(DayOfWeek.MONDAY);
+        LocalDate thisWeekEnd = today.with(DayOfWeek.SUNDAY);
+        ComparisonPeriod weeklyPeriod = new ComparisonPeriod(thisWeekStart.atStartOfDay(),
+            thisWeekEnd.atTime(23, 59, 59));
+
+        // 모든 위젯을 먼저 제출한 뒤 결과를 기다림
+        Future<PromptStatisticsResponse> promptStatistics = submit(
+            () -> PromptStatisticsResponse.from(promptStatisticsQueryUseCase.getPromptStatistics(period)));
+        Future<UserStatisticsResponse> userStatistics = submit(
+            () -> UserStatisticsResponse.from(userStatisticsQueryUseCase.getUserStatistics(period)));
+        Future<FavoriteStatisticsResponse> favoriteStatistics = submit(
+            () -> FavoriteStatisticsResponse.from(favoriteQueryUseCase.getFavoriteStatistics(period)));
+        Future<TeamMemberStatisticsResponse> teamMemberStatistics = submit(
+            () -> TeamMemberStatisticsResponse.from(teamMemberStatisticsQueryUseCase.getTotalActiveMemberCount()));
+        Future<WeeklyViewStatisticsResponse> weeklyViewStatistics = submit(
+            () -> WeeklyViewStatisticsResponse.of(viewStatisticsQueryUseCase.getViewStatistics(weeklyPeriod),
+                thisWeekStart, thisWeekEnd));
+        Future<CategoryStatisticsResponse> rootCategoryStatistics = submit(
+            () -> CategoryStatisticsResponse.from(categoryStatisticsQueryUseCase.getRootCategoryPromptCounts()));
+        Future<List<PromptListResponse>> recentPrompts = submit(
+            () -> promptDashboardQueryUseCase.getRecentPrompts(recentSize).stream()
+                .map(PromptListResponse::from)
+                .toList());
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(widgetTimeoutMillis);
+        List<String> unavailable = new ArrayList<>();
+        DashboardSummaryResponse response = DashboardSummaryResponse.builder()
+            .promptStatistics(await("promptStatistics", promptStatistics, deadline, unavailable))
+            .userStatistics(await("userStatistics", userStatistics, deadline, unavailable))
+            .favoriteStatistics(await("favoriteStatistics", favoriteStatistics, deadline, unavailable))
+            .teamMemberStatistics(await("teamMemberStatistics", teamMemberStatistics, deadline, unavailable))
+            .weeklyViewStatistics(await("weeklyViewStatistics", weeklyViewStatistics, deadline, unavailable))
+            .rootCategoryStatistics(await("rootCategoryStatistics", rootCategoryStatistics, deadline, unavailable))
+            .recentPrompts(await("recentPrompts", recentPrompts, deadline, unavailable))
+            .unavailableWidgets(unavailable)
+            .build();
+
+        log.info("Dashboard summary loaded: unavailableWidgets={}", unavailable);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 위젯 조회를 전용 스레드 풀에 제출합니다. 풀이 가득 차 거절되면 실패한 Future를 반환합니다.
+     * {@link FutureTask}는 {@code cancel(true)} 시 실행 중인 스레드를 인터럽트하므로 제한 시간을 넘긴 작업을 멈출 수 있습니다.
+     */
+    private <T> Future<T> submit(Supplier<T> widget) {
+        FutureTask<T> task = new FutureTask<>(widget::get);
+        try {
+            dashboardExecutor.execute(task);
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        return task;
+    }
+
+    /**
+     * 공통 기한까지 위젯 결과를 기다립니다. 기한을 넘기거나 실패하면 null을 반환하고 위젯 이름을 기록합니다.
+     */
+    private <T> T await(String widgetName, Future<T> future, long deadline, List<String> unavailable) {
+        try {
+            long remaining = Math.max(0, deadline - System.nanoTime());
+            return future.get(remaining, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            log.warn("Dashboard widget timed out after {}ms: {}", widgetTimeoutMillis, widgetName);
+        } catch (ExecutionException e) {
+            log.error("Failed to load dashboard widget: {}", widgetName, e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            log.warn("Interrupted while waiting for dashboard widget: {}", widgetName);
+        }
+        unavailable.add(widgetName);
+        return null;
+    }
+}
@@ -59,14 +59,7 @@ public class DashboardViewStatisticsController {
         ViewStatistics statistics = viewStatisticsQueryUseCase.getViewStatistics(weeklyPeriod);
 
         // 주간 응답 DTO로 변환
-        WeeklyViewStatisticsResponse response = WeeklyViewStatisticsResponse.builder()
-            .thisWeekViewCount(statistics.getCurrentPeriodViewCount())
-            .lastWeekViewCount(statistics.getPreviousPeriodViewCount())
-            .changeCount(statistics.getChangeCount())
-            .changeRate(statistics.getChangeRate())
-            .weekStartDate(thisWeekStart)
-            .weekEndDate(thisWeekEnd)
-            .build();
+        WeeklyViewStatisticsResponse response = WeeklyViewStatisticsResponse.of(statistics, thisWeekStart, thisWeekEnd);
 
         log.info("Weekly view statistics loaded: thisWeek={}, changeRate={}%",
             response.getThisWeekViewCount(), response.getChangeRate());
@@ -3,6 +3,7 @@ package com.gongdel.promptserver.adapter.in.rest.controller.prompt;
 import com.gongdel.promptserver.adapter.in.rest.response.PageResponse;
 import com.gongdel.promptserver.adapter.in.rest.response.favorite.FavoriteCountResponse;
 import com.gongdel.promptserver.adapter.in.rest.response.favorite.FavoritePromptResponse;
+import com.gongdel.promptserver.adapter.in.rest.response.favorite.FavoriteScrollResponse;
 import com.gongdel.promptserver.adapter.in.rest.response.prompt.MyPromptLikeStatisticsResponse;
 import com.gongdel.promptserver.adapter.in.rest.response.prompt.MyPromptListResponse;
 import com.gongdel.promptserver.adapter.in.rest.response.prompt.MyPromptStatisticsResponse;
@@ -27,6 +28,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -154,6 +156,43 @@ public class MyPromptQueryController {
         return ResponseEntity.ok(PageResponse.from(result));
     }
 
+    /**
+     * 내 즐겨찾기 프롬프트 목록을 커서 기반으로 조회합니다.
+     *
+     * @param cursor        이전 페이지의 마지막 즐겨찾기 ID (없으면 첫 페이지)
+     * @param size          페이지 크기
+     * @param searchKeyword 검색어
+     * @return 즐겨찾기 목록 커서 응답 객체
+     */
+    @Operation(summary = "내 즐겨찾기 프롬프트 목록 커서 조회",
+        description = "즐겨찾기 등록 최신순으로 cursor 이후의 목록을 조회합니다. 전체 개수는 제공하지 않습니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "즐겨찾기 목록 조회 성공"),
+        @ApiResponse(responseCode = "400", description = "잘못된 요청 파라미터"),
+        @ApiResponse(responseCode = "401", description = "인증 필요"),
+        @ApiResponse(responseCode = "500", description = "서버 오류")
+    })
+    @GetMapping("/favorites/scroll")
+    public ResponseEntity<FavoriteScrollResponse> scrollMyFavoritePrompts(
+        @Parameter(description = "이전 페이지의 마지막 즐겨찾기 ID", required = false) @RequestParam(required = false) Long cursor,
+        @Parameter(description = "페이지 크기", example = "20") @RequestParam(defaultValue = "20") int size,
+        @Parameter(description = "검색어", required = false) @RequestParam(required = false) String searchKeyword) {
+        org.springframework.util.Assert.isTrue(size > 0, "Page size must be greater than zero");
+        Long userId = currentUserProvider.getCurrentUserId();
+        log.info("Request my favorite prompts by cursor: userId={}, cursor={}, size={}, searchKeyword={}",
+            userId, cursor, size, searchKeyword);
+        FavoriteSearchCondition condition = FavoriteSearchCondition.builder()
+            .userId(userId)
+            .searchKeyword(searchKeyword)
+            .pageable(PageRequest.of(0, size))
+            .cursor(cursor)
+            .build();
+        Slice<FavoritePromptResult> results = favoriteQueryUseCase.scrollFavorites(condition);
+        log.info("My favorite prompts successfully retrieved by cursor for userId={}, cursor={}, size={}", userId,
+            cursor, size);
+        return ResponseEntity.ok(FavoriteScrollResponse.from(results));
+    }
+
     /**
      * 내 즐겨찾기 프롬프트 개수를 조회합니다.
      *
@@ -6,6 +6,7 @@ import com.gongdel.promptserver.adapter.in.rest.request.prompt.UpdatePromptReque
 import com.gongdel.promptserver.adapter.in.rest.response.prompt.CreatePromptResponse;
 import com.gongdel.promptserver.adapter.in.rest.response.prompt.DeletePromptResponse;
 import com.gongdel.promptserver.adapter.in.rest.response.prompt.UpdatePromptResponse;
+import com.gongdel.promptserver.adapter.in.rest.util.PromptRequestParser;
 import com.gongdel.promptserver.application.dto.RegisterPromptResponse;
 import com.gongdel.promptserver.application.port.in.PromptCommandUseCase;
 import com.gongdel.promptserver.application.port.in.command.DeletePromptCommand;
@@ -15,8 +16,6 @@ import com.gongdel.promptserver.application.port.in.result.UpdatePromptResult;
 import com.gongdel.promptserver.common.security.CurrentUserProvider;
 import com.gongdel.promptserver.domain.exception.PromptValidationException;
 import com.gongdel.promptserver.domain.model.InputVariable;
-import com.gongdel.promptserver.domain.model.PromptStatus;
-import com.gongdel.promptserver.domain.model.Visibility;
 import com.gongdel.promptserver.domain.user.User;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -105,8 +104,8 @@ public class PromptCommandController {
             .tags(request.getTags())
             .inputVariables(inputVariables)
             .categoryId(request.getCategoryId())
-            .visibility(parseVisibility(request.getVisibility(), author))
-            .status(parseStatus(request.getStatus()))
+            .visibility(PromptRequestParser.parseVisibility(request.getVisibility(), author))
+            .status(PromptRequestParser.parseStatus(request.getStatus()))
             .build();
     }
 
@@ -125,83 +124,6 @@ public class PromptCommandController {
             .collect(Collectors.toUnmodifiableList());
     }
 
-    /**
-     * 가시성 파싱 (문자열, isPublic, 팀 여부 등)
-     *
-     * @param visibility 가시성 문자열
-     * @param author     작성자
-     * @return Visibility 열거형
-     */
-    private Visibility parseVisibility(final String visibility, final User author) {
-        if (visibility != null && !visibility.isBlank()) {
-            try {
-                return Visibility.valueOf(visibility.toUpperCase());
-            } catch (Exception e) {
-                log.warn("Invalid visibility value: {}. Defaulting to PRIVATE or TEAM.", visibility);
-            }
-        }
-        return (author.getTeam() != null) ? Visibility.TEAM : Visibility.PRIVATE;
-    }
-
-    /**
-     * 상태 파싱 (문자열 → PromptStatus)
-     *
-     * @param status 상태 문자열
-     * @return PromptStatus 열거형
-     */
-    private PromptStatus parseStatus(final String status) {
-        if (status != null && !status.isBlank()) {
-            try {
-                return PromptStatus.valueOf(status.toUpperCase());
-            } catch (Exception e) {
-                log.warn("Invalid status value: {}. Defaulting to DRAFT.", status);
-            }
-        }
-        return PromptStatus.DRAFT;
-    }
-
-    /**
-     * 프롬프트를 논리적으로 삭제합니다.
-     *
-     * @param id 삭제할 프롬프트의 UUID
-     * @return 삭제 결과 정보
-     */
-    @Operation(summary = "프롬프트 삭제", description = "프롬프트를 논리적으로 삭제합니다.")
-    @ApiResponses({
-        @ApiResponse(responseCode = "200", description = "프롬프트 삭제 성공"),
-        @ApiResponse(responseCode = "400", description = "잘못된 요청"),
-        @ApiResponse(responseCode = "401", description = "인증되지 않은 요청"),
-        @ApiResponse(responseCode = "403", description = "삭제 권한 없음"),
-        @ApiResponse(responseCode = "404", description = "프롬프트를 찾을 수 없음")
-    })
-    @DeleteMapping("/{id}")
-    public ResponseEntity<DeletePromptResponse> deletePrompt(@PathVariable("id") final UUID id) {
-        final User currentUser = currentUserProvider.getCurrentUser();
-        com.gongdel.promptserver.application.dto.DeletePromptResponse response = promptCommandUseCase.deletePrompt(
-            DeletePromptCommand.builder()
-                .uuid(id)
-                .currentUser(currentUser)
-                .build());
-        log.info("Prompt logically deleted. ID: {}", id);
-        return ResponseEntity.ok(DeletePromptResponse.from(response));
-    }
-
-    @Operation(summary = "프롬프트 수정", description = "프롬프트를 소프트 업데이트(수정)합니다.")
-    @ApiResponses({
-        @ApiResponse(responseCode = "200", description = "프롬프트 수정 성공"),
-        @ApiResponse(responseCode = "400", description = "잘못된 요청"),
-        @ApiResponse(responseCode = "401", description = "인증되지 않은 요청"),
-        @ApiResponse(responseCode = "403", description = "수정 권한 없음"),
-        @ApiResponse(responseCode = "404", description = "프롬프트를 찾을 수 없음")
-    })
-    @PutMapping("/{id}")
-    public ResponseEntity<UpdatePromptResponse> updatePrompt(@PathVariable("id") final UUID id,
-                                                             @Valid @RequestBody final UpdatePromptRequest request) {
-        final User currentUser = currentUserProvider.getCurrentUser();
-        final UpdatePromptCommand command = buildUpdatePromptCommand(id, request, currentUser);
-        final UpdatePromptResult result = promptCommandUseCase.updatePrompt(command);
-        return ResponseEntity.ok(toUpdatePromptResponse(result));
-    }
 
     private UpdatePromptCommand buildUpdatePromptCommand(
         UUID id,
@@ -216,8 +138,8 @@ public class PromptCommandController {
             .categoryId(request.getCategoryId())
             .tags(request.getTags())
             .inputVariables(mapInputVariables(request.getInputVariables()))
-            .visibility(parseVisibility(request.getVisibility(), user))
-            .status(parseStatus(request.getStatus()))
+            .visibility(PromptRequestParser.parseVisibility(request.getVisibility(), user))
+            .status(PromptRequestParser.parseStatus(request.getStatus()))
             .build();
     }
 
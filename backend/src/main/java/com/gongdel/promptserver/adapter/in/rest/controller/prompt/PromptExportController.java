@@ -0,0 +1,198 @@
+package com.gongdel.promptserver.adapter.in.rest.controller.prompt;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.gongdel.promptserver.adapter.in.rest.response.prompt.PromptExportItemResponse;
+import com.gongdel.promptserver.application.port.in.PromptExportUseCase;
+import com.gongdel.promptserver.common.security.CurrentUserProvider;
+import com.gongdel.promptserver.domain.model.PromptExportCondition;
+import com.gongdel.promptserver.domain.model.PromptExportRow;
+import com.gongdel.promptserver.domain.model.PromptStatus;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Locale;
+
+/**
+ * 프롬프트 내보내기(NDJSON, CSV)를 처리하는 REST 컨트롤러입니다.
+ * <p>
+ * 서버 측 커서에서 읽은 행을 응답 출력 스트림에 바로 기록하므로, 내보내는 행 수와 무관하게 메모리 사용량이 일정합니다.
+ */
+@Slf4j
+@Tag(name = "프롬프트 조회", description = "프롬프트 조회 API")
+@RestController
+@RequestMapping("/api/v1")
+@RequiredArgsConstructor
+public class PromptExportController {
+
+    private static final String TEXT_CSV_VALUE = "text/csv";
+    private static final String[] CSV_HEADER = {
+        "uuid", "title", "description", "category", "visibility", "status",
+        "versionNumber", "content", "tags", "createdAt", "updatedAt"
+    };
+    private static final String CSV_TAG_DELIMITER = "|";
+
+    private final PromptExportUseCase promptExportUseCase;
+    private final CurrentUserProvider currentUserProvider;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 내보내기 형식
+     */
+    enum ExportFormat {
+        NDJSON, CSV;
+
+        static ExportFormat from(String value) {
+            try {
+                return ExportFormat.valueOf(value.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Unsupported export format: " + value);
+            }
+        }
+    }
+
+    /**
+     * 공개 프롬프트와 본인 프롬프트를 현재 버전 내용·태그와 함께 내보냅니다.
+     *
+     * @param format      내보내기 형식 (ndjson, csv)
+     * @param categoryId  카테고리 ID
+     * @param status      프롬프트 상태
+     * @param createdFrom 생성일 시작 (포함)
+     * @param createdTo   생성일 종료 (포함)
+     * @param response    행을 기록할 HTTP 응답
+     * @throws IOException 응답 기록에 실패한 경우
+     */
+    @Operation(summary = "프롬프트 내보내기", description = "프롬프트를 NDJSON 또는 CSV로 스트리밍합니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "내보내기 스트림"),
+        @ApiResponse(responseCode = "400", description = "잘못된 요청"),
+        @ApiResponse(responseCode = "401", description = "인증되지 않은 요청")
+    })
+    @GetMapping("/prompts:export")
+    public void exportPrompts(
+        @Parameter(description = "내보내기 형식 (ndjson, csv)", example = "ndjson") @RequestParam(defaultValue = "ndjson") String format,
+        @Parameter(description = "카테고리 ID", example = "1") @RequestParam(required = false) Long categoryId,
+        @Parameter(description = "프롬프트 상태", example = "PUBLISHED") @RequestParam(required = false) PromptStatus status,
+        @Parameter(description = "생성일 시작 (포함)", example = "2024-01-01") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate createdFrom,
+        @Parameter(description = "생성일 종료 (포함)", example = "2024-12-31") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate createdTo,
+        final HttpServletResponse response) throws IOException {
+        final ExportFormat exportFormat = ExportFormat.from(format);
+        final PromptExportCondition condition = PromptExportCondition.builder()
+            .requesterId(currentUserProvider.getCurrentUserId())
+            .categoryId(categoryId)
+            .status(status)
+            .createdFrom(createdFrom != null ? createdFrom.atStartOfDay() : null)
+            .createdTo(createdTo != null ? createdTo.plusDays(1).atStartOfDay() : null)
+            .build();
+        log.info("Start prompt export. Format: {}, condition: {}", exportFormat, condition);
+
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        final long exported;
+        if (exportFormat == ExportFormat.CSV) {
+            response.setContentType(TEXT_CSV_VALUE);
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"prompts.csv\"");
+            exported = writeCsv(condition, response);
+        } else {
+            response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"prompts.ndjson\"");
+            exported = writeNdjson(condition, response);
+        }
+        log.info("Prompt export completed. Format: {}, rows: {}", exportFormat, exported);
+    }
+
+    /**
+     * 행마다 한 줄의 JSON 객체를 기록합니다.
+     */
+    private long writeNdjson(final PromptExportCondition condition, final HttpServletResponse response)
+        throws IOException {
+        try (SequenceWriter writer = objectMapper.writer()
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+            .withRootValueSeparator("\n")
+            .writeValues(response.getOutputStream())) {
+            final long exported = promptExportUseCase.exportPrompts(condition, row -> {
+                try {
+                    writer.write(PromptExportItemResponse.from(row));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            if (exported > 0) {
+                // 구분자는 값 사이에만 기록되므로 마지막 줄의 개행을 직접 추가
+                writer.flush();
+                response.getOutputStream().write('\n');
+            }
+            return exported;
+        }
+    }
+
+    /**
+     * 헤더 행과 RFC 4180 형식의 데이터 행을 기록합니다. 태그는 '|'로 연결합니다.
+     */
+    private long writeCsv(final PromptExportCondition condition, final HttpServletResponse response)
+        throws IOException {
+        final Writer writer = new BufferedWriter(
+            new OutputStreamWriter(response.getOutputStream(), StandardCharsets.UTF_8));
+        writeCsvRow(writer, (Object[]) CSV_HEADER);
+        final long exported = promptExportUseCase.exportPrompts(condition, row -> {
+            try {
+                writeCsvRow(writer, toCsvValues(row));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        writer.flush();
+        return exported;
+    }
+
+    private Object[] toCsvValues(final PromptExportRow row) {
+        return new Object[]{
+            row.getUuid(), row.getTitle(), row.getDescription(), row.getCategoryName(),
+            row.getVisibility() != null ? row.getVisibility().name() : null,
+            row.getStatus() != null ? row.getStatus().name() : null, row.getVersionNumber(), row.getContent(), String.join(CSV_TAG_DELIMITER, row.getTags()),
+            row.getCreatedAt(), row.getUpdatedAt()
+        };
+    }
+
+    private void writeCsvRow(final Writer writer, final Object... values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(escapeCsv(values[i]));
+        }
+        writer.write("\r\n");
+    }
+
+    private String escapeCsv(final Object value) {
+        if (value == null) {
+            return "";
+        }
+        final String text = String.valueOf(value);
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+}
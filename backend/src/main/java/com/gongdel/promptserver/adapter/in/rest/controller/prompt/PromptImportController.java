@@ -0,0 +1,231 @@
+package com.gongdel.promptserver.adapter.in.rest.controller.prompt;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gongdel.promptserver.adapter.in.rest.request.prompt.CreatePromptRequest;
+import com.gongdel.promptserver.adapter.in.rest.request.prompt.InputVariableDto;
+import com.gongdel.promptserver.adapter.in.rest.response.prompt.ImportPromptLineResponse;
+import com.gongdel.promptserver.adapter.in.rest.util.PromptRequestParser;
+import com.gongdel.promptserver.application.port.in.PromptImportUseCase;
+import com.gongdel.promptserver.application.port.in.command.ImportPromptLine;
+import com.gongdel.promptserver.application.port.in.command.RegisterPromptCommand;
+import com.gongdel.promptserver.application.port.in.result.ImportPromptLineResult;
+import com.gongdel.promptserver.common.security.CurrentUserProvider;
+import com.gongdel.promptserver.domain.user.User;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 프롬프트 템플릿 벌크 가져오기(NDJSON)를 처리하는 REST 컨트롤러입니다.
+ * <p>
+ * 요청 본문을 한 줄씩 읽어 청크 단위로 유스케이스에 전달하고, 줄별 결과를 즉시 NDJSON으로 응답에 기록합니다.
+ * 요청·응답 전체를 메모리에 올리지 않으므로 입력 크기와 무관하게 메모리 사용량이 청크 크기로 제한됩니다.
+ */
+@Slf4j
+@Tag(name = "프롬프트 관리", description = "프롬프트 생성, 수정, 삭제 API")
+@RestController
+@RequestMapping("/api/v1")
+@RequiredArgsConstructor
+public class PromptImportController {
+
+    /**
+     * 한 트랜잭션으로 처리할 줄 수 (hibernate.jdbc.batch_size와 동일)
+     */
+    static final int CHUNK_SIZE = 50;
+
+    private final PromptImportUseCase promptImportUseCase;
+    private final CurrentUserProvider currentUserProvider;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+
+    /**
+     * NDJSON 형식의 프롬프트 목록을 가져옵니다.
+     * 각 줄은 {@link CreatePromptRequest}와 같은 형식이며, 응답은 줄별 처리 결과를 담은 NDJSON입니다.
+     *
+     * @param request  NDJSON 본문을 담은 HTTP 요청
+     * @param response 줄별 결과를 기록할 HTTP 응답
+     * @throws IOException 요청 본문 읽기 또는 응답 기록에 실패한 경우
+     */
+    @Operation(summary = "프롬프트 벌크 가져오기", description = "NDJSON 형식의 프롬프트 목록을 스트리밍으로 등록합니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "줄별 처리 결과 스트림"),
+        @ApiResponse(responseCode = "401", description = "인증되지 않은 요청")
+    })
+    @PostMapping(value = "/prompts:import",
+        consumes = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_PLAIN_VALUE},
+        produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void importPrompts(final HttpServletRequest request, final HttpServletResponse response)
+        throws IOException {
+        final User author = currentUserProvider.getCurrentUser();
+        log.info("Start prompt import. User: {}", author.getId());
+
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+
+        final BufferedReader reader = new BufferedReader(
+            new InputStreamReader(request.getInputStream(), StandardCharsets.UTF_8));
+        final Writer writer = response.getWriter();
+
+        final ImportChunk chunk = new ImportChunk();
+        long lineNumber = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            chunk.add(lineNumber, line, author);
+            if (chunk.size() >= CHUNK_SIZE) {
+                flush(chunk, writer);
+            }
+        }
+        flush(chunk, writer);
+        log.info("Prompt import completed. User: {}, Succeeded: {}, Failed: {}",
+            author.getId(), chunk.succeeded, chunk.failed);
+    }
+
+    /**
+     * 누적된 청크를 등록하고 결과를 줄 번호 순으로 기록한 뒤 청크를 비웁니다.
+     * 청크 트랜잭션이 실패하면 문제 줄을 격리하기 위해 각 줄을 개별 트랜잭션으로 다시 시도합니다.
+     *
+     * @param chunk  처리할 청크
+     * @param writer 응답 writer
+     * @throws IOException 응답 기록에 실패한 경우
+     */
+    private void flush(final ImportChunk chunk, final Writer writer) throws IOException {
+        if (chunk.size() == 0) {
+            return;
+        }
+        final List<ImportPromptLineResult> results = new ArrayList<>(chunk.rejected);
+        if (!chunk.lines.isEmpty()) {
+            results.addAll(importChunk(List.copyOf(chunk.lines)));
+        }
+        results.sort(Comparator.comparingLong(ImportPromptLineResult::getLineNumber));
+
+        for (ImportPromptLineResult result : results) {
+            if (result.isSuccess()) {
+                chunk.succeeded++;
+            } else {
+                chunk.failed++;
+            }
+            writer.write(objectMapper.writeValueAsString(ImportPromptLineResponse.from(result)));
+            writer.write('\n');
+        }
+        writer.flush();
+        chunk.clear();
+    }
+
+    /**
+     * 청크를 유스케이스에 전달합니다. 청크 전체가 롤백되면 줄 단위로 재시도합니다.
+     *
+     * @param lines 등록할 줄 목록
+     * @return 줄별 결과
+     */
+    private List<ImportPromptLineResult> importChunk(final List<ImportPromptLine> lines) {
+        try {
+            return promptImportUseCase.importChunk(lines);
+        } catch (RuntimeException e) {
+            if (lines.size() == 1) {
+                log.warn("Import line {} failed: {}", lines.get(0).getLineNumber(), e.getMessage());
+                return List.of(ImportPromptLineResult.failure(lines.get(0).getLineNumber(), e.getMessage()));
+            }
+            log.warn("Import chunk of {} lines rolled back, retrying line by line: {}", lines.size(), e.getMessage());
+            final List<ImportPromptLineResult> results = new ArrayList<>(lines.size());
+            for (ImportPromptLine line : lines) {
+                results.addAll(importChunk(List.of(line)));
+            }
+            return results;
+        }
+    }
+
+    /**
+     * 한 줄을 파싱·검증하여 등록 커맨드로 변환합니다.
+     *
+     * @param line   NDJSON 한 줄
+     * @param author 작성자
+     * @return 프롬프트 등록 커맨드
+     * @throws IllegalArgumentException 줄의 형식이나 값이 유효하지 않은 경우
+     */
+    private RegisterPromptCommand toCommand(final String line, final User author) {
+        final CreatePromptRequest request;
+        try {
+            request = objectMapper.readValue(line, CreatePromptRequest.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Malformed JSON: " + e.getOriginalMessage(), e);
+        }
+        final Set<ConstraintViolation<CreatePromptRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            throw new IllegalArgumentException(violations.stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.joining(", ")));
+        }
+
+        return RegisterPromptCommand.builder()
+            .title(request.getTitle())
+            .description(request.getDescription())
+            .content(request.getContent())
+            .createdBy(author)
+            .tags(request.getTags() == null ? Set.of() : request.getTags())
+            .inputVariables(request.getInputVariables() == null ? List.of()
+                : request.getInputVariables().stream().map(InputVariableDto::toDomain).toList())
+            .categoryId(request.getCategoryId())
+            .visibility(PromptRequestParser.parseVisibility(request.getVisibility(), author))
+            .status(PromptRequestParser.parseStatus(request.getStatus()))
+            .build();
+    }
+
+    /**
+     * 하나의 청크에 누적된 줄과 파싱 단계에서 거부된 줄, 요청 전체의 누적 처리 건수를 보관합니다.
+     */
+    private final class ImportChunk {
+        private final List<ImportPromptLine> lines = new ArrayList<>(CHUNK_SIZE);
+        private final List<ImportPromptLineResult> rejected = new ArrayList<>();
+        private long succeeded;
+        private long failed;
+
+        void add(final long lineNumber, final String line, final User author) {
+            try {
+                lines.add(ImportPromptLine.builder()
+                    .lineNumber(lineNumber)
+                    .command(toCommand(line, author))
+                    .build());
+            } catch (IllegalArgumentException e) {
+                rejected.add(ImportPromptLineResult.failure(lineNumber, e.getMessage()));
+            }
+        }
+
+        int size() {
+            return lines.size() + rejected.size();
+        }
+
+        void clear() {
+            lines.clear();
+            rejected.clear();
+        }
+    }
+}
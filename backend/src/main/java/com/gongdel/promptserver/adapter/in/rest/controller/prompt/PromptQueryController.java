@@ -67,6 +67,7 @@ public class PromptQueryController {
      * @param description 설명(옵션)
      * @param tag         태그(옵션)
      * @param categoryId  카테고리 ID(옵션)
+     * @param includeDescendants 카테고리 필터에 하위 카테고리 포함 여부(옵션, 기본값: false)
      * @param status      프롬프트 상태(옵션, 기본값: PUBLISHED)
      * @param sortType    정렬 기준(옵션, 기본값: LATEST_MODIFIED)
      * @param pageable    페이징 정보
@@ -84,6 +85,7 @@ public class PromptQueryController {
         @Parameter(description = "프롬프트 설명", example = "이미지 생성") @RequestParam(required = false) String description,
         @Parameter(description = "태그", example = "stable-diffusion") @RequestParam(required = false) String tag,
         @Parameter(description = "카테고리 ID", example = "1") @RequestParam(required = false) Long categoryId,
+        @Parameter(description = "하위 카테고리 포함 여부", example = "false") @RequestParam(required = false, defaultValue = "false") boolean includeDescendants,
         @Parameter(description = "프롬프트 상태", example = "PUBLISHED", required = false) @RequestParam(required = false, defaultValue = "PUBLISHED") String status,
         @Parameter(description = "정렬 기준 (LATEST_MODIFIED: 최근 수정순, TITLE: 프롬프트 이름순, TITLE_ASC: 프롬프트 이름 오름차순, MOST_FAVORITE: 인기순, MOST_VIEWS: 조회수순)", example = "LATEST_MODIFIED", required = false) @RequestParam(required = false, defaultValue = "LATEST_MODIFIED") PromptSortType sortType,
         @Parameter(description = "검색어", required = false) @RequestParam(required = false) String searchKeyword,
@@ -92,14 +94,15 @@ public class PromptQueryController {
 
         PromptStatus promptStatus = PromptStatus.fromString(status, PromptStatus.PUBLISHED);
 
-        log.info("Advanced search: title={}, description={}, tag={}, categoryId={}, status={}, sortType={}",
-            title, description, tag, categoryId, promptStatus, sortType);
+        log.info("Advanced search: title={}, description={}, tag={}, categoryId={}, includeDescendants={}, status={}, sortType={}",
+            title, description, tag, categoryId, includeDescendants, promptStatus, sortType);
 
         PromptSearchCondition condition = PromptSearchCondition.builder()
             .title(title)
             .description(description)
             .tag(tag)
             .categoryId(categoryId)
+            .includeDescendants(includeDescendants)
             .status(promptStatus)
             .searchKeyword(searchKeyword)
             .sortType(sortType)
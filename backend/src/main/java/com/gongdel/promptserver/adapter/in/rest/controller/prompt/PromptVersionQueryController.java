@@ -0,0 +1,111 @@
+package com.gongdel.promptserver.adapter.in.rest.controller.prompt;
+
+import com.gongdel.promptserver.adapter.in.rest.response.prompt.PromptVersionDetailResponse;
+import com.gongdel.promptserver.adapter.in.rest.response.prompt.PromptVersionDiffResponse;
+import com.gongdel.promptserver.adapter.in.rest.response.prompt.PromptVersionHistoryResponse;
+import com.gongdel.promptserver.application.port.in.query.FindPromptVersionsUseCase;
+import com.gongdel.promptserver.application.port.in.query.GetPromptVersionDiffUseCase;
+import com.gongdel.promptserver.application.port.in.query.GetPromptVersionUseCase;
+import com.gongdel.promptserver.application.port.in.result.PromptVersionHistoryResult;
+import com.gongdel.promptserver.domain.model.PromptVersion;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.UUID;
+
+/**
+ * 프롬프트 버전 이력 조회 REST API를 제공하는 컨트롤러입니다.
+ * <p>
+ * 이력 목록은 본문 없이 요약만 키셋 페이지네이션으로 반환하고, 본문은 사용자가 연 버전에 대해서만 단건으로 조회합니다.
+ * 버전 간 차이는 줄 단위 연산 목록으로 반환합니다.
+ */
+@Slf4j
+@Tag(name = "프롬프트 조회", description = "프롬프트 조회 API")
+@RestController
+@RequestMapping("/api/v1/prompts/{id}/versions")
+@RequiredArgsConstructor
+public class PromptVersionQueryController {
+
+    private final FindPromptVersionsUseCase findPromptVersionsUseCase;
+    private final GetPromptVersionUseCase getPromptVersionUseCase;
+    private final GetPromptVersionDiffUseCase getPromptVersionDiffUseCase;
+
+    /**
+     * 프롬프트의 버전 이력을 최신 버전부터 조회합니다.
+     *
+     * @param id     프롬프트 UUID
+     * @param before 이전 페이지 응답의 nextCursor (생략 시 최신 버전부터)
+     * @param size   페이지 크기 (기본 20, 최대 100)
+     * @return 버전 이력 한 페이지
+     */
+    @Operation(summary = "프롬프트 버전 이력 조회", description = "본문을 제외한 버전 요약을 버전 번호 내림차순으로 페이지 조회합니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "버전 이력 조회 성공"),
+        @ApiResponse(responseCode = "400", description = "잘못된 요청 파라미터"),
+        @ApiResponse(responseCode = "404", description = "프롬프트 없음")
+    })
+    @GetMapping
+    public ResponseEntity<PromptVersionHistoryResponse> getVersionHistory(
+        @Parameter(description = "프롬프트 UUID") @PathVariable UUID id,
+        @Parameter(description = "다음 페이지 커서(이전 응답의 nextCursor)", example = "21") @RequestParam(required = false) Integer before,
+        @Parameter(description = "페이지 크기", example = "20") @RequestParam(defaultValue = "20") int size) {
+        log.info("Retrieving prompt version history: promptId={}, before={}, size={}", id, before, size);
+        PromptVersionHistoryResult result = findPromptVersionsUseCase.findHistory(id, before, size);
+        return ResponseEntity.ok(PromptVersionHistoryResponse.from(result));
+    }
+
+    /**
+     * 프롬프트의 특정 버전을 본문과 함께 조회합니다.
+     *
+     * @param id          프롬프트 UUID
+     * @param versionUuid 버전 UUID
+     * @return 버전 상세 정보
+     */
+    @Operation(summary = "프롬프트 버전 상세 조회", description = "버전 이력에서 선택한 버전의 본문과 입력 변수를 조회합니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "버전 조회 성공"),
+        @ApiResponse(responseCode = "404", description = "프롬프트 또는 버전 없음")
+    })
+    @GetMapping("/{versionUuid}")
+    public ResponseEntity<PromptVersionDetailResponse> getVersion(
+        @Parameter(description = "프롬프트 UUID") @PathVariable UUID id,
+        @Parameter(description = "버전 UUID") @PathVariable UUID versionUuid) {
+        log.info("Retrieving prompt version: promptId={}, versionId={}", id, versionUuid);
+        PromptVersion version = getPromptVersionUseCase.getByPromptUuidAndUuid(id, versionUuid);
+        return ResponseEntity.ok(PromptVersionDetailResponse.from(version));
+    }
+
+    /**
+     * 프롬프트 버전과 비교 기준 버전 사이의 줄 단위 차이를 조회합니다.
+     *
+     * @param id          프롬프트 UUID
+     * @param versionUuid 대상 버전 UUID
+     * @param against     비교 기준 버전 UUID (생략 시 직전 버전)
+     * @return 버전 차이
+     */
+    @Operation(summary = "프롬프트 버전 차이 조회", description = "직전 버전 또는 지정한 버전과의 줄 단위 차이를 조회합니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "버전 차이 조회 성공"),
+        @ApiResponse(responseCode = "404", description = "프롬프트 또는 버전 없음")
+    })
+    @GetMapping("/{versionUuid}/diff")
+    public ResponseEntity<PromptVersionDiffResponse> getVersionDiff(
+        @Parameter(description = "프롬프트 UUID") @PathVariable UUID id,
+        @Parameter(description = "대상 버전 UUID") @PathVariable UUID versionUuid,
+        @Parameter(description = "비교 기준 버전 UUID (생략 시 직전 버전)") @RequestParam(required = false) UUID against) {
+        log.info("Retrieving prompt version diff: promptId={}, versionId={}, against={}", id, versionUuid, against);
+        return ResponseEntity.ok(PromptVersionDiffResponse.from(
+            getPromptVersionDiffUseCase.getDiff(id, versionUuid, against)));
+    }
+}
@@ -16,6 +16,9 @@ public class TokenRefreshResponse {
     @Schema(description = "새로 발급된 액세스 토큰", example = "eyJhbGciOiJIUzI1NiIsInR5cCI6IkpXVCJ9...")
     private String accessToken;
 
+    @Schema(description = "새로 발급된 리프레시 토큰 (기존 리프레시 토큰은 더 이상 사용할 수 없음)", example = "eyJhbGciOiJIUzI1NiIsInR5cCI6IkpXVCJ9...")
+    private String refreshToken;
+
     @Schema(description = "토큰 타입", example = "Bearer")
     private String tokenType;
 }
@@ -0,0 +1,52 @@
+package com.gongdel.promptserver.adapter.in.rest.response.auth;
+
+import com.gongdel.promptserver.domain.login.LoginHistory;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 로그인 이력 응답 DTO 클래스입니다.
+ */
+@NoArgsConstructor
+@Builder
+@AllArgsConstructor
+@Getter
+@ToString
+@EqualsAndHashCode
+@Schema(description = "로그인 이력 응답 DTO")
+public class LoginHistoryResponse {
+
+    @Schema(description = "로그인 이력 고유 식별자", example = "123e4567-e89b-12d3-a456-426614174000")
+    private UUID id;
+
+    @Schema(description = "로그인 일시", example = "2024-01-01T09:00:00")
+    private LocalDateTime loginAt;
+
+    @Schema(description = "클라이언트 IP 주소", example = "203.0.113.10")
+    private String ipAddress;
+
+    @Schema(description = "클라이언트 User-Agent", example = "Mozilla/5.0")
+    private String userAgent;
+
+    @Schema(description = "로그인 결과", example = "SUCCESS")
+    private LoginHistory.LoginStatus status;
+
+    /**
+     * 로그인 이력 도메인 모델로부터 응답 DTO를 생성합니다.
+     *
+     * @param loginHistory 변환할 로그인 이력 도메인 객체
+     * @return 로그인 이력 응답 DTO
+     */
+    public static LoginHistoryResponse from(LoginHistory loginHistory) {
+        return LoginHistoryResponse.builder()
+                .id(loginHistory.getLoginHistoryId().getValue())
+                .loginAt(loginHistory.getLoginAt())
+                .ipAddress(loginHistory.getIpAddress())
+                .userAgent(loginHistory.getUserAgent())
+                .status(loginHistory.getStatus())
+                .build();
+    }
+}
@@ -1,5 +1,6 @@
 package com.gongdel.promptserver.adapter.in.rest.response.dashboard;
 
+import com.gongdel.promptserver.domain.model.statistics.CategoryPromptCount;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Builder;
 import lombok.Getter;
@@ -30,4 +31,23 @@ public class CategoryStatisticsResponse {
         @Schema(description = "프롬프트 개수", example = "342")
         private final long promptCount;
     }
+
+    /**
+     * 카테고리별 프롬프트 개수 목록으로부터 응답 DTO를 생성합니다.
+     *
+     * @param counts 카테고리별 프롬프트 개수 목록
+     * @return CategoryStatisticsResponse
+     */
+    public static CategoryStatisticsResponse from(List<CategoryPromptCount> counts) {
+        return CategoryStatisticsResponse.builder()
+            .categories(
+                counts.stream()
+                    .map(c -> CategoryStat.builder()
+                        .categoryId(c.getCategoryId())
+                        .categoryName(c.getCategoryName())
+                        .promptCount(c.getPromptCount())
+                        .build())
+                    .toList())
+            .build();
+    }
 }
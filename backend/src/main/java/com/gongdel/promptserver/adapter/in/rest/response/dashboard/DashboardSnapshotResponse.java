@@ -0,0 +1,58 @@
+package com.gongdel.promptserver.adapter.in.rest.response.dashboard;
+
+import com.gongdel.promptserver.domain.statistics.DashboardSnapshot;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 미리 계산한 대시보드 통계 스냅샷 응답 DTO입니다.
+ */
+@Getter
+@Builder
+@Schema(description = "대시보드 통계 스냅샷 응답 DTO")
+public class DashboardSnapshotResponse {
+
+    @Schema(description = "프롬프트 통계 (최근 7일 기준)")
+    private final PromptStatisticsResponse promptStatistics;
+
+    @Schema(description = "유저 통계 (최근 7일 기준)")
+    private final UserStatisticsResponse userStatistics;
+
+    @Schema(description = "즐겨찾기 통계 (최근 7일 기준)")
+    private final FavoriteStatisticsResponse favoriteStatistics;
+
+    @Schema(description = "팀멤버 통계")
+    private final TeamMemberStatisticsResponse teamMemberStatistics;
+
+    @Schema(description = "주간 조회수 통계")
+    private final WeeklyViewStatisticsResponse weeklyViewStatistics;
+
+    @Schema(description = "루트 카테고리별 프롬프트 통계")
+    private final CategoryStatisticsResponse rootCategoryStatistics;
+
+    @Schema(description = "스냅샷 계산 시각", example = "2024-01-15T10:00:00")
+    private final LocalDateTime generatedAt;
+
+    /**
+     * 도메인 스냅샷으로부터 응답 DTO를 생성합니다.
+     *
+     * @param snapshot 대시보드 통계 스냅샷
+     * @return DashboardSnapshotResponse
+     */
+    public static DashboardSnapshotResponse from(DashboardSnapshot snapshot) {
+        return DashboardSnapshotResponse.builder()
+            .promptStatistics(PromptStatisticsResponse.from(snapshot.getPromptStatistics()))
+            .userStatistics(UserStatisticsResponse.from(snapshot.getUserStatistics()))
+            .favoriteStatistics(FavoriteStatisticsResponse.from(snapshot.getFavoriteStatistics()))
+            .teamMemberStatistics(TeamMemberStatisticsResponse.from(snapshot.getActiveMemberCount()))
+            .weeklyViewStatistics(WeeklyViewStatisticsResponse.of(snapshot.getWeeklyViewStatistics(),
+                snapshot.getWeeklyViewStatistics().getPeriod().getStartDate().toLocalDate(),
+                snapshot.getWeeklyViewStatistics().getPeriod().getEndDate().toLocalDate()))
+            .rootCategoryStatistics(CategoryStatisticsResponse.from(snapshot.getRootCategoryCounts()))
+            .generatedAt(snapshot.getGeneratedAt())
+            .build();
+    }
+}
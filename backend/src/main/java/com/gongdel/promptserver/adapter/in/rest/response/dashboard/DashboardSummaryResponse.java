@@ -0,0 +1,42 @@
+package com.gongdel.promptserver.adapter.in.rest.response.dashboard;
+
+import com.gongdel.promptserver.adapter.in.rest.response.prompt.PromptListResponse;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 대시보드 화면에 필요한 위젯 데이터를 한 번에 담는 응답 DTO입니다.
+ * 제한 시간 안에 조회하지 못한 위젯은 null이며, 위젯 이름이 unavailableWidgets에 포함됩니다.
+ */
+@Getter
+@Builder
+@Schema(description = "대시보드 요약 응답 DTO")
+public class DashboardSummaryResponse {
+
+    @Schema(description = "프롬프트 통계")
+    private final PromptStatisticsResponse promptStatistics;
+
+    @Schema(description = "유저 통계")
+    private final UserStatisticsResponse userStatistics;
+
+    @Schema(description = "즐겨찾기 통계")
+    private final FavoriteStatisticsResponse favoriteStatistics;
+
+    @Schema(description = "팀멤버 통계")
+    private final TeamMemberStatisticsResponse teamMemberStatistics;
+
+    @Schema(description = "주간 조회수 통계")
+    private final WeeklyViewStatisticsResponse weeklyViewStatistics;
+
+    @Schema(description = "루트 카테고리별 프롬프트 통계")
+    private final CategoryStatisticsResponse rootCategoryStatistics;
+
+    @Schema(description = "최근 프롬프트 목록")
+    private final List<PromptListResponse> recentPrompts;
+
+    @Schema(description = "제한 시간 초과나 오류로 조회하지 못한 위젯 이름 목록", example = "[\"userStatistics\"]")
+    private final List<String> unavailableWidgets;
+}
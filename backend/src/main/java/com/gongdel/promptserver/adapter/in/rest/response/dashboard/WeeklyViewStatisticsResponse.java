@@ -1,5 +1,6 @@
 package com.gongdel.promptserver.adapter.in.rest.response.dashboard;
 
+import com.gongdel.promptserver.domain.view.ViewStatistics;
 import com.gongdel.promptserver.domain.view.WeeklyViewStatistics;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Builder;
@@ -49,4 +50,24 @@ public class WeeklyViewStatisticsResponse {
             .weekEndDate(weeklyStats.getWeekEndDate())
             .build();
     }
+
+    /**
+     * 기간 비교 조회수 통계로부터 주간 응답 DTO를 생성합니다.
+     *
+     * @param statistics    이번 주와 지난주를 비교한 조회수 통계
+     * @param weekStartDate 이번 주 시작일
+     * @param weekEndDate   이번 주 종료일
+     * @return WeeklyViewStatisticsResponse
+     */
+    public static WeeklyViewStatisticsResponse of(ViewStatistics statistics, LocalDate weekStartDate,
+                                                  LocalDate weekEndDate) {
+        return WeeklyViewStatisticsResponse.builder()
+            .thisWeekViewCount(statistics.getCurrentPeriodViewCount())
+            .lastWeekViewCount(statistics.getPreviousPeriodViewCount())
+            .changeCount(statistics.getChangeCount())
+            .changeRate(statistics.getChangeRate())
+            .weekStartDate(weekStartDate)
+            .weekEndDate(weekEndDate)
+            .build();
+    }
 }
@@ -0,0 +1,48 @@
+package com.gongdel.promptserver.adapter.in.rest.response.favorite;
+
+import com.gongdel.promptserver.domain.model.favorite.FavoritePromptResult;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+
+/**
+ * 즐겨찾기 목록 커서 기반 조회 응답 DTO입니다.
+ */
+@Getter
+@Builder
+@Schema(description = "즐겨찾기 목록 커서 응답 DTO")
+public class FavoriteScrollResponse {
+    @Schema(description = "즐겨찾기 목록 (즐겨찾기 등록 최신순)")
+    private final List<FavoritePromptResponse> content;
+
+    @Schema(description = "페이지 크기", example = "20")
+    private final int size;
+
+    @Schema(description = "다음 페이지 존재 여부", example = "true")
+    private final boolean hasNext;
+
+    @Schema(description = "다음 페이지 조회 시 cursor 파라미터로 전달할 즐겨찾기 ID", example = "1024")
+    private final Long nextCursor;
+
+    /**
+     * 즐겨찾기 결과 슬라이스로부터 응답 DTO를 생성합니다.
+     *
+     * @param slice 즐겨찾기 결과 슬라이스
+     * @return FavoriteScrollResponse
+     */
+    public static FavoriteScrollResponse from(Slice<FavoritePromptResult> slice) {
+        List<FavoritePromptResult> results = slice.getContent();
+        Long nextCursor = slice.hasNext() && !results.isEmpty()
+            ? results.get(results.size() - 1).getFavoriteId()
+            : null;
+        return FavoriteScrollResponse.builder()
+            .content(results.stream().map(FavoritePromptResponse::from).toList())
+            .size(slice.getSize())
+            .hasNext(slice.hasNext())
+            .nextCursor(nextCursor)
+            .build();
+    }
+}
@@ -0,0 +1,34 @@
+package com.gongdel.promptserver.adapter.in.rest.response.prompt;
+
+import com.gongdel.promptserver.application.port.in.result.ImportPromptLineResult;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.UUID;
+
+/**
+ * 프롬프트 벌크 가져오기의 줄별 처리 결과 응답 DTO입니다. NDJSON 응답의 한 줄로 직렬화됩니다.
+ */
+@Getter
+@Builder
+@Schema(description = "프롬프트 벌크 가져오기 줄별 결과 DTO")
+public class ImportPromptLineResponse {
+    @Schema(description = "입력 NDJSON의 줄 번호", example = "3")
+    private final long line;
+    @Schema(description = "처리 결과 (SUCCESS, FAILED)", example = "SUCCESS")
+    private final String status;
+    @Schema(description = "등록된 프롬프트 UUID (성공 시)")
+    private final UUID promptUuid;
+    @Schema(description = "실패 사유 (실패 시)", example = "Title is required")
+    private final String message;
+
+    public static ImportPromptLineResponse from(ImportPromptLineResult result) {
+        return ImportPromptLineResponse.builder()
+            .line(result.getLineNumber())
+            .status(result.getStatus().name())
+            .promptUuid(result.getPromptUuid())
+            .message(result.getMessage())
+            .build();
+    }
+}
@@ -0,0 +1,57 @@
+package com.gongdel.promptserver.adapter.in.rest.response.prompt;
+
+import com.gongdel.promptserver.domain.model.PromptExportRow;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 프롬프트 내보내기 응답의 한 행 DTO입니다. NDJSON 응답의 한 줄로 직렬화됩니다.
+ */
+@Getter
+@Builder
+@Schema(description = "프롬프트 내보내기 행 DTO")
+public class PromptExportItemResponse {
+    @Schema(description = "프롬프트 UUID")
+    private final UUID uuid;
+    @Schema(description = "제목", example = "AI 추천")
+    private final String title;
+    @Schema(description = "설명")
+    private final String description;
+    @Schema(description = "카테고리 이름", example = "AI")
+    private final String category;
+    @Schema(description = "공개 범위", example = "PUBLIC")
+    private final String visibility;
+    @Schema(description = "상태", example = "PUBLISHED")
+    private final String status;
+    @Schema(description = "현재 버전 번호", example = "3")
+    private final Integer versionNumber;
+    @Schema(description = "현재 버전 내용")
+    private final String content;
+    @Schema(description = "태그 이름 목록")
+    private final List<String> tags;
+    @Schema(description = "생성일시")
+    private final LocalDateTime createdAt;
+    @Schema(description = "수정일시")
+    private final LocalDateTime updatedAt;
+
+    public static PromptExportItemResponse from(PromptExportRow row) {
+        return PromptExportItemResponse.builder()
+            .uuid(row.getUuid())
+            .title(row.getTitle())
+            .description(row.getDescription())
+            .category(row.getCategoryName())
+            .visibility(row.getVisibility() != null ? row.getVisibility().name() : null)
+            .status(row.getStatus() != null ? row.getStatus().name() : null)
+            .versionNumber(row.getVersionNumber())
+            .content(row.getContent())
+            .tags(row.getTags())
+            .createdAt(row.getCreatedAt())
+            .updatedAt(row.getUpdatedAt())
+            .build();
+    }
+}
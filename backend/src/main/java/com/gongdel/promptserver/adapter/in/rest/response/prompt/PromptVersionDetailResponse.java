@@ -0,0 +1,63 @@
+package com.gongdel.promptserver.adapter.in.rest.response.prompt;
+
+import com.gongdel.promptserver.domain.model.InputVariable;
+import com.gongdel.promptserver.domain.model.PromptVersion;
+import com.gongdel.promptserver.domain.model.PromptVersionActionType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 프롬프트 버전 단건(본문 포함) 응답 DTO입니다.
+ */
+@Getter
+@Builder
+@Schema(description = "프롬프트 버전 상세 응답 DTO")
+public class PromptVersionDetailResponse {
+    @Schema(description = "버전 UUID", example = "b7e6c1a2-3f4d-4e2a-9c1a-123456789abc")
+    private final UUID id;
+
+    @Schema(description = "버전 번호", example = "3")
+    private final Integer versionNumber;
+
+    @Schema(description = "버전 본문", example = "ChatGPT를 사용할 때 다음과 같이 질문하세요...")
+    private final String content;
+
+    @Schema(description = "변경 사항")
+    private final String changes;
+
+    @Schema(description = "입력 변수 목록")
+    private final List<InputVariable> inputVariables;
+
+    @Schema(description = "작업 유형", example = "EDIT")
+    private final PromptVersionActionType actionType;
+
+    @Schema(description = "작성자 ID", example = "1")
+    private final Long authorId;
+
+    @Schema(description = "생성 일시", example = "2024-05-01T12:00:00")
+    private final LocalDateTime createdAt;
+
+    /**
+     * 도메인 객체로부터 응답 DTO를 생성합니다.
+     *
+     * @param version 프롬프트 버전
+     * @return PromptVersionDetailResponse
+     */
+    public static PromptVersionDetailResponse from(PromptVersion version) {
+        return PromptVersionDetailResponse.builder()
+            .id(version.getUuid())
+            .versionNumber(version.getVersionNumber())
+            .content(version.getContent())
+            .changes(version.getChanges())
+            .inputVariables(version.getInputVariables())
+            .actionType(version.getActionType())
+            .authorId(version.getCreatedById())
+            .createdAt(version.getCreatedAt())
+            .build();
+    }
+}
@@ -0,0 +1,83 @@
+package com.gongdel.promptserver.adapter.in.rest.response.prompt;
+
+import com.gongdel.promptserver.application.port.in.result.PromptVersionDiffResult;
+import com.gongdel.promptserver.domain.model.PromptContentDiff;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 프롬프트 버전 간 줄 단위 차이 응답 DTO입니다.
+ */
+@Getter
+@Builder
+@Schema(description = "프롬프트 버전 차이 응답 DTO")
+public class PromptVersionDiffResponse {
+    @Schema(description = "비교 기준 버전 UUID (최초 버전이면 null)")
+    private final UUID fromVersionId;
+
+    @Schema(description = "비교 기준 버전 번호 (최초 버전이면 null)", example = "2")
+    private final Integer fromVersionNumber;
+
+    @Schema(description = "대상 버전 UUID")
+    private final UUID toVersionId;
+
+    @Schema(description = "대상 버전 번호", example = "3")
+    private final Integer toVersionNumber;
+
+    @Schema(description = "추가된 줄 수", example = "4")
+    private final int addedLines;
+
+    @Schema(description = "삭제된 줄 수", example = "1")
+    private final int removedLines;
+
+    @Schema(description = "차이 연산 목록 (EQUAL은 줄 수만, DELETE/INSERT는 해당 줄 포함)")
+    private final List<Operation> operations;
+
+    /**
+     * 애플리케이션 결과로부터 응답 DTO를 생성합니다.
+     *
+     * @param result 버전 차이 결과
+     * @return PromptVersionDiffResponse
+     */
+    public static PromptVersionDiffResponse from(PromptVersionDiffResult result) {
+        PromptContentDiff diff = result.getDiff();
+        return PromptVersionDiffResponse.builder()
+            .fromVersionId(result.getFromVersionUuid())
+            .fromVersionNumber(result.getFromVersionNumber())
+            .toVersionId(result.getToVersionUuid())
+            .toVersionNumber(result.getToVersionNumber())
+            .addedLines(diff.getAddedLineCount())
+            .removedLines(diff.getRemovedLineCount())
+            .operations(diff.getOperations().stream().map(Operation::from).toList())
+            .build();
+    }
+
+    /**
+     * 차이 연산 응답 DTO
+     */
+    @Getter
+    @Builder
+    @Schema(description = "차이 연산")
+    public static class Operation {
+        @Schema(description = "연산 유형", example = "INSERT")
+        private final PromptContentDiff.OperationType type;
+
+        @Schema(description = "줄 수", example = "2")
+        private final int count;
+
+        @Schema(description = "삭제되거나 추가된 줄 (EQUAL이면 빈 목록)")
+        private final List<String> lines;
+
+        static Operation from(PromptContentDiff.Operation operation) {
+            return Operation.builder()
+                .type(operation.getType())
+                .count(operation.getCount())
+                .lines(operation.getLines())
+                .build();
+        }
+    }
+}
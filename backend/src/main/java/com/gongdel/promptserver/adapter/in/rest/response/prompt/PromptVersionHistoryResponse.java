@@ -0,0 +1,39 @@
+package com.gongdel.promptserver.adapter.in.rest.response.prompt;
+
+import com.gongdel.promptserver.application.port.in.result.PromptVersionHistoryResult;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 프롬프트 버전 이력 한 페이지 응답 DTO입니다.
+ */
+@Getter
+@Builder
+@Schema(description = "프롬프트 버전 이력 응답 DTO")
+public class PromptVersionHistoryResponse {
+    @Schema(description = "버전 이력 (버전 번호 내림차순)")
+    private final List<PromptVersionSummaryResponse> versions;
+
+    @Schema(description = "다음 페이지 존재 여부", example = "true")
+    private final boolean hasNext;
+
+    @Schema(description = "다음 페이지 조회 시 before 파라미터로 전달할 커서", example = "21")
+    private final Integer nextCursor;
+
+    /**
+     * 애플리케이션 결과로부터 응답 DTO를 생성합니다.
+     *
+     * @param result 버전 이력 결과
+     * @return PromptVersionHistoryResponse
+     */
+    public static PromptVersionHistoryResponse from(PromptVersionHistoryResult result) {
+        return PromptVersionHistoryResponse.builder()
+            .versions(result.getVersions().stream().map(PromptVersionSummaryResponse::from).toList())
+            .hasNext(result.isHasNext())
+            .nextCursor(result.getNextCursor())
+            .build();
+    }
+}
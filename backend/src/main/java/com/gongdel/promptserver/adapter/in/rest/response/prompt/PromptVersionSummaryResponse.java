@@ -0,0 +1,53 @@
+package com.gongdel.promptserver.adapter.in.rest.response.prompt;
+
+import com.gongdel.promptserver.domain.model.PromptVersionActionType;
+import com.gongdel.promptserver.domain.model.PromptVersionSummary;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 프롬프트 버전 이력 목록의 항목 응답 DTO입니다. 본문은 포함하지 않습니다.
+ */
+@Getter
+@Builder
+@Schema(description = "프롬프트 버전 이력 항목 응답 DTO")
+public class PromptVersionSummaryResponse {
+    @Schema(description = "버전 UUID", example = "b7e6c1a2-3f4d-4e2a-9c1a-123456789abc")
+    private final UUID id;
+
+    @Schema(description = "버전 번호", example = "3")
+    private final Integer versionNumber;
+
+    @Schema(description = "작업 유형", example = "EDIT")
+    private final PromptVersionActionType actionType;
+
+    @Schema(description = "작성자 ID", example = "1")
+    private final Long authorId;
+
+    @Schema(description = "작성자 이름", example = "홍길동")
+    private final String authorName;
+
+    @Schema(description = "생성 일시", example = "2024-05-01T12:00:00")
+    private final LocalDateTime createdAt;
+
+    /**
+     * 도메인 객체로부터 응답 DTO를 생성합니다.
+     *
+     * @param summary 프롬프트 버전 요약
+     * @return PromptVersionSummaryResponse
+     */
+    public static PromptVersionSummaryResponse from(PromptVersionSummary summary) {
+        return PromptVersionSummaryResponse.builder()
+            .id(summary.getUuid())
+            .versionNumber(summary.getVersionNumber())
+            .actionType(summary.getActionType())
+            .authorId(summary.getCreatedById())
+            .authorName(summary.getAuthorName())
+            .createdAt(summary.getCreatedAt())
+            .build();
+    }
+}
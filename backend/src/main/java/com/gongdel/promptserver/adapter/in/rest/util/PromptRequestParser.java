@@ -0,0 +1,52 @@
+package com.gongdel.promptserver.adapter.in.rest.util;
+
+import com.gongdel.promptserver.domain.model.PromptStatus;
+import com.gongdel.promptserver.domain.model.Visibility;
+import com.gongdel.promptserver.domain.user.User;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 프롬프트 요청의 문자열 값을 도메인 열거형으로 변환하는 유틸리티 클래스입니다.
+ * 단건 등록·수정과 벌크 가져오기가 같은 기본값 규칙을 쓰도록 한곳에 둡니다.
+ */
+@Slf4j
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class PromptRequestParser {
+
+    /**
+     * 가시성 파싱 (문자열 → Visibility, 비었거나 잘못된 값은 작성자 기준 기본값)
+     *
+     * @param visibility 가시성 문자열
+     * @param author     작성자
+     * @return Visibility 열거형
+     */
+    public static Visibility parseVisibility(final String visibility, final User author) {
+        if (visibility != null && !visibility.isBlank()) {
+            try {
+                return Visibility.valueOf(visibility.toUpperCase());
+            } catch (Exception e) {
+                log.warn("Invalid visibility value: {}. Defaulting to PRIVATE or TEAM.", visibility);
+            }
+        }
+        return (author.getTeam() != null) ? Visibility.TEAM : Visibility.PRIVATE;
+    }
+
+    /**
+     * 상태 파싱 (문자열 → PromptStatus, 비었거나 잘못된 값은 DRAFT)
+     *
+     * @param status 상태 문자열
+     * @return PromptStatus 열거형
+     */
+    public static PromptStatus parseStatus(final String status) {
+        if (status != null && !status.isBlank()) {
+            try {
+                return PromptStatus.valueOf(status.toUpperCase());
+            } catch (Exception e) {
+                log.warn("Invalid status value: {}. Defaulting to DRAFT.", status);
+            }
+        }
+        return PromptStatus.DRAFT;
+    }
+}
@@ -4,6 +4,7 @@ import com.gongdel.promptserver.adapter.out.persistence.repository.CategoryStati
 import com.gongdel.promptserver.application.port.out.CategoryStatisticsQueryPort;
 import com.gongdel.promptserver.domain.exception.PromptStatisticsErrorType;
 import com.gongdel.promptserver.domain.exception.PromptStatisticsException;
+import com.gongdel.promptserver.domain.model.statistics.CategoryDirectPromptCount;
 import com.gongdel.promptserver.domain.model.statistics.CategoryPromptCount;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -88,4 +89,30 @@ public class CategoryStatisticsQueryPersistenceAdapter implements CategoryStatis
                 e);
         }
     }
+
+    /**
+     * 모든 카테고리의 상위 카테고리와 직접 속한 프롬프트 개수 목록을 조회합니다.
+     *
+     * @return 카테고리별 직접 프롬프트 개수 목록
+     * @throws PromptStatisticsException 집계 중 예외 발생 시
+     */
+    @Override
+    public List<CategoryDirectPromptCount> getCategoryDirectPromptCounts() {
+        try {
+            log.debug("Fetching category direct prompt counts");
+            return categoryStatisticsQueryRepository.findCategoryDirectPromptCounts();
+        } catch (DataAccessException e) {
+            log.error("Database access error while fetching category direct prompt counts", e);
+            throw new PromptStatisticsException(
+                PromptStatisticsErrorType.DATABASE_ERROR,
+                "Database error occurred while fetching category direct prompt counts",
+                e);
+        } catch (Exception e) {
+            log.error("Unexpected error while fetching category direct prompt counts", e);
+            throw new PromptStatisticsException(
+                PromptStatisticsErrorType.GENERAL,
+                "Unexpected error occurred while fetching category direct prompt counts",
+                e);
+        }
+    }
 }
@@ -0,0 +1,161 @@
+package com.gongdel.promptserver.adapter.out.persistence;
+
+import com.gongdel.promptserver.adapter.out.persistence.repository.RefreshTokenRepository;
+import com.gongdel.promptserver.adapter.out.persistence.repository.TokenBlacklistRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+
+/**
+ * 만료된 토큰 블랙리스트 행과 리프레시 토큰 행을 주기적으로 삭제하는 배치 컴포넌트입니다.
+ * <p>
+ * 한 번에 최대 chunk-size건만 별도 트랜잭션으로 삭제하고 청크 사이에 잠시 쉬어, 긴 잠금이나 복제 지연 없이
+ * 조금씩 정리합니다. 여러 인스턴스가 동시에 같은 행을 삭제하지 않도록 Redis 락을 잡은 인스턴스만 실행하며,
+ * 락 TTL을 넘겨 실행하지 않도록 TTL 안에서만 청크를 반복합니다. 남은 행은 다음 주기에 이어서 삭제합니다.
+ * <p>
+ * 지표:
+ * - auth.token.purge.deleted (tag table): 삭제된 행 수
+ * - auth.token.purge.duration: 한 번 실행에 걸린 시간
+ */
+@Slf4j
+@Component
+public class ExpiredTokenPurger {
+
+    static final String DELETED_METRIC = "auth.token.purge.deleted";
+    static final String DURATION_METRIC = "auth.token.purge.duration";
+    static final String LOCK_KEY = "lock:token-purge";
+
+    /**
+     * 락을 잡은 인스턴스일 때만 락을 해제합니다.
+     */
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+        if redis.call('GET', KEYS[1]) == ARGV[1] then
+            return redis.call('DEL', KEYS[1])
+        end
+        return 0
+        """, Long.class);
+
+    private final TokenBlacklistRepository tokenBlacklistRepository;
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final Counter blacklistDeleted;
+    private final Counter refreshTokenDeleted;
+    private final Timer duration;
+
+    @Value("${security.token-purge.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${security.token-purge.pause-millis:200}")
+    private long pauseMillis;
+
+    @Value("${security.token-purge.lock-ttl-minutes:10}")
+    private long lockTtlMinutes;
+
+    public ExpiredTokenPurger(TokenBlacklistRepository tokenBlacklistRepository,
+                              RefreshTokenRepository refreshTokenRepository,
+                              TransactionTemplate transactionTemplate,
+                              StringRedisTemplate stringRedisTemplate,
+                              MeterRegistry meterRegistry) {
+        this.tokenBlacklistRepository = tokenBlacklistRepository;
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.blacklistDeleted = Counter.builder(DELETED_METRIC)
+            .description("Expired token rows deleted by the purge job")
+            .tag("table", "token_blacklist")
+            .register(meterRegistry);
+        this.refreshTokenDeleted = Counter.builder(DELETED_METRIC)
+            .description("Expired token rows deleted by the purge job")
+            .tag("table", "refresh_token")
+            .register(meterRegistry);
+        this.duration = Timer.builder(DURATION_METRIC)
+            .description("Time spent purging expired token rows")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 1시간마다 만료된 행을 삭제합니다. 다른 인스턴스가 실행 중이면 건너뜁니다.
+     */
+    @Scheduled(fixedDelay = 1, initialDelay = 1, timeUnit = TimeUnit.HOURS)
+    public void purgeExpiredTokens() {
+        String owner = UUID.randomUUID().toString();
+        if (!acquireLock(owner)) {
+            log.debug("Token purge is running on another instance, skipping");
+            return;
+        }
+        long startedAt = System.nanoTime();
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            long deadline = startedAt + TimeUnit.MINUTES.toNanos(lockTtlMinutes);
+            long blacklist = purge(tokenBlacklistRepository::deleteExpiredChunk, now, deadline, blacklistDeleted);
+            long refreshTokens = purge(refreshTokenRepository::deleteExpiredChunk, now, deadline, refreshTokenDeleted);
+            if (blacklist + refreshTokens > 0) {
+                log.info("Purged expired tokens: blacklist={}, refreshTokens={}, took={}ms", blacklist, refreshTokens,
+                    Duration.ofNanos(System.nanoTime() - startedAt).toMillis());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Token purge interrupted");
+        } catch (Exception e) {
+            log.error("Failed to purge expired tokens", e);
+        } finally {
+            duration.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            releaseLock(owner);
+        }
+    }
+
+    /**
+     * 삭제할 행이 없거나 실행 기한이 지날 때까지 청크 단위로 삭제합니다.
+     *
+     * @return 삭제한 행 수
+     */
+    private long purge(BiFunction<LocalDateTime, Integer, Integer> deleteChunk, LocalDateTime now, long deadline,
+                       Counter counter) throws InterruptedException {
+        long total = 0;
+        while (System.nanoTime() < deadline) {
+            Integer deleted = transactionTemplate.execute(status -> deleteChunk.apply(now, chunkSize));
+            int count = deleted != null ? deleted : 0;
+            counter.increment(count);
+            total += count;
+            if (count < chunkSize) {
+                break;
+            }
+            Thread.sleep(pauseMillis);
+        }
+        return total;
+    }
+
+    private boolean acquireLock(String owner) {
+        try {
+            return Boolean.TRUE.equals(stringRedisTemplate.opsForValue()
+                .setIfAbsent(LOCK_KEY, owner, lockTtlMinutes, TimeUnit.MINUTES));
+        } catch (Exception e) {
+            log.warn("Failed to acquire token purge lock, skipping this run", e);
+            return false;
+        }
+    }
+
+    private void releaseLock(String owner) {
+        try {
+            stringRedisTemplate.execute(RELEASE_SCRIPT, List.of(LOCK_KEY), owner);
+        } catch (Exception e) {
+            log.warn("Failed to release token purge lock, it will expire after {} minutes", lockTtlMinutes, e);
+        }
+    }
+}
@@ -1,12 +1,17 @@
 package com.gongdel.promptserver.adapter.out.persistence;
 
 import com.gongdel.promptserver.adapter.out.persistence.entity.PromptTemplateEntity;
+import com.gongdel.promptserver.adapter.out.persistence.entity.PromptVersionEntity;
+import com.gongdel.promptserver.adapter.out.persistence.mapper.PromptVersionMapper;
 import com.gongdel.promptserver.adapter.out.persistence.repository.PromptTemplateJpaRepository;
 import com.gongdel.promptserver.application.port.out.SavePromptPort;
 import com.gongdel.promptserver.domain.exception.PromptErrorType;
 import com.gongdel.promptserver.domain.exception.PromptOperationException;
 import com.gongdel.promptserver.domain.exception.PromptValidationException;
 import com.gongdel.promptserver.domain.model.PromptTemplate;
+import com.gongdel.promptserver.domain.model.PromptVersion;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataAccessException;
@@ -15,6 +20,11 @@ import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.Assert;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
 /**
  * SavePromptPort 인터페이스를 구현하는 영속성 어댑터 클래스입니다. 프롬프트 템플릿을 저장하는 책임을 담당합니다.
  */
@@ -26,6 +36,11 @@ public class PromptPersistenceAdapter implements SavePromptPort {
 
     private final PromptTemplateJpaRepository promptTemplateRepository;
     private final com.gongdel.promptserver.adapter.out.persistence.mapper.PromptTemplateMapper promptTemplateMapper;
+    private final PromptVersionMapper promptVersionMapper;
+    private final PromptVersionIdAllocator promptVersionIdAllocator;
+    private final PromptVersionContentStore promptVersionContentStore;
+    @PersistenceContext
+    private EntityManager entityManager;
 
     /**
      * 프롬프트 템플릿을 저장합니다.
@@ -85,4 +100,181 @@ public class PromptPersistenceAdapter implements SavePromptPort {
                 e);
         }
     }
+
+    /**
+     * 신규 프롬프트 템플릿과 최초 버전을 한 번의 flush로 저장합니다.
+     * <p>
+     * 버전 ID를 미리 할당해 템플릿의 current_version_id를 persist 전에 채우므로, 템플릿 행에 대한 후속 UPDATE 없이
+     * 템플릿·버전·태그 관계가 각각 한 번씩 INSERT 됩니다. current_version_id FK는 커밋 시점에 검증됩니다.
+     *
+     * @param promptTemplate        저장할 신규 프롬프트 템플릿
+     * @param initialVersionFactory 할당된 템플릿 ID로 최초 버전을 생성하는 함수
+     * @return currentVersionId가 설정된 저장된 프롬프트 템플릿
+     * @throws PromptValidationException 템플릿 또는 최초 버전 데이터가 유효하지 않은 경우
+     * @throws PromptOperationException  저장 중 오류가 발생한 경우
+     */
+    @Override
+    public PromptTemplate savePromptWithInitialVersion(PromptTemplate promptTemplate,
+                                                       Function<Long, PromptVersion> initialVersionFactory) {
+        try {
+            Assert.notNull(promptTemplate, "Prompt template must not be null");
+            Assert.notNull(initialVersionFactory, "Initial version factory must not be null");
+            Assert.isNull(promptTemplate.getId(), "Prompt template must be new");
+
+            log.debug("Saving new prompt template with initial version. Title: {}", promptTemplate.getTitle());
+
+            List<PromptVersionEntity> versionEntities = new ArrayList<>(1);
+            PromptTemplateEntity templateEntity = persistWithInitialVersion(promptTemplate,
+                (template, templateId) -> initialVersionFactory.apply(templateId), versionEntities);
+            persistInitialVersions(versionEntities);
+
+            promptTemplateRepository.flush();
+
+            log.info("Prompt template saved with initial version. ID: {}, versionId: {}",
+                templateEntity.getId(), templateEntity.getCurrentVersionId());
+            return toSavedDomain(templateEntity, promptTemplate);
+        } catch (PromptValidationException e) {
+            throw e;
+        } catch (DataIntegrityViolationException e) {
+            log.error("Database constraint violation while saving prompt template: {}", promptTemplate.getTitle(), e);
+            throw new PromptOperationException(
+                PromptErrorType.DUPLICATE_TITLE,
+                "Prompt template with the same title already exists: " + promptTemplate.getTitle(),
+                e);
+        } catch (DataAccessException e) {
+            log.error("Database access error while saving prompt template: {}", promptTemplate.getTitle(), e);
+            throw new PromptOperationException(
+                PromptErrorType.PERSISTENCE_ERROR,
+                "Database error occurred while saving prompt template",
+                e);
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid prompt template data: {}", e.getMessage(), e);
+            throw new PromptValidationException(
+                "Invalid prompt template data: " + e.getMessage(),
+                e);
+        } catch (Exception e) {
+            log.error("Unexpected error while saving prompt template: {}", promptTemplate.getTitle(), e);
+            throw new PromptOperationException(
+                PromptErrorType.UNKNOWN_ERROR,
+                "Unexpected error occurred while saving prompt template",
+                e);
+        }
+    }
+
+    /**
+     * 신규 프롬프트 템플릿 여러 건을 최초 버전과 함께 한 번의 flush로 저장합니다.
+     * <p>
+     * 모든 행을 persist 한 뒤 마지막에 한 번만 flush 하므로, {@code hibernate.jdbc.batch_size} 단위의 JDBC 배치로
+     * 템플릿·버전·태그 관계 INSERT가 전송됩니다. 한 건이라도 실패하면 예외가 전파되어 호출 트랜잭션 전체가 롤백됩니다.
+     *
+     * @param promptTemplates       저장할 신규 프롬프트 템플릿 목록
+     * @param initialVersionFactory 원본 템플릿과 할당된 템플릿 ID로 최초 버전을 생성하는 함수
+     * @return 입력 순서대로 정렬된 저장된 프롬프트 템플릿 목록
+     * @throws PromptValidationException 템플릿 또는 최초 버전 데이터가 유효하지 않은 경우
+     * @throws PromptOperationException  저장 중 오류가 발생한 경우
+     */
+    @Override
+    public List<PromptTemplate> savePromptsWithInitialVersions(
+        List<PromptTemplate> promptTemplates,
+        BiFunction<PromptTemplate, Long, PromptVersion> initialVersionFactory) {
+        try {
+            Assert.notNull(promptTemplates, "Prompt templates must not be null");
+            Assert.notNull(initialVersionFactory, "Initial version factory must not be null");
+
+            log.debug("Saving {} new prompt templates with initial versions", promptTemplates.size());
+
+            List<PromptTemplateEntity> templateEntities = new ArrayList<>(promptTemplates.size());
+            List<PromptVersionEntity> versionEntities = new ArrayList<>(promptTemplates.size());
+            for (PromptTemplate promptTemplate : promptTemplates) {
+                Assert.isNull(promptTemplate.getId(), "Prompt template must be new");
+                templateEntities.add(persistWithInitialVersion(promptTemplate, initialVersionFactory, versionEntities));
+            }
+            persistInitialVersions(versionEntities);
+
+            promptTemplateRepository.flush();
+
+            log.info("Saved {} prompt templates with initial versions", templateEntities.size());
+            List<PromptTemplate> savedTemplates = new ArrayList<>(templateEntities.size());
+            for (int i = 0; i < templateEntities.size(); i++) {
+                savedTemplates.add(toSavedDomain(templateEntities.get(i), promptTemplates.get(i)));
+            }
+            return savedTemplates;
+        } catch (PromptValidationException e) {
+            throw e;
+        } catch (DataIntegrityViolationException e) {
+            log.error("Database constraint violation while saving {} prompt templates", promptTemplates.size(), e);
+            throw new PromptOperationException(
+                PromptErrorType.DUPLICATE_TITLE,
+                "Constraint violation occurred while saving prompt templates",
+                e);
+        } catch (DataAccessException e) {
+            log.error("Database access error while saving {} prompt templates", promptTemplates.size(), e);
+            throw new PromptOperationException(
+                PromptErrorType.PERSISTENCE_ERROR,
+                "Database error occurred while saving prompt templates",
+                e);
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid prompt template data: {}", e.getMessage(), e);
+            throw new PromptValidationException(
+                "Invalid prompt template data: " + e.getMessage(),
+                e);
+        } catch (Exception e) {
+            log.error("Unexpected error while saving prompt templates", e);
+            throw new PromptOperationException(
+                PromptErrorType.UNKNOWN_ERROR,
+                "Unexpected error occurred while saving prompt templates",
+                e);
+        }
+    }
+
+    /**
+     * 미리 할당한 버전 ID로 템플릿을 persist 하고 최초 버전 엔티티를 생성합니다.
+     * 최초 버전은 {@link #persistInitialVersions}에서 본문 블롭과 함께 persist 되며, flush는 호출자가 수행합니다.
+     *
+     * @param promptTemplate        저장할 신규 프롬프트 템플릿
+     * @param initialVersionFactory 원본 템플릿과 할당된 템플릿 ID로 최초 버전을 생성하는 함수
+     * @param versionEntities       생성한 최초 버전 엔티티를 담을 목록
+     * @return persist 된 템플릿 엔티티
+     */
+    private PromptTemplateEntity persistWithInitialVersion(
+        PromptTemplate promptTemplate,
+        BiFunction<PromptTemplate, Long, PromptVersion> initialVersionFactory,
+        List<PromptVersionEntity> versionEntities) {
+        long initialVersionId = promptVersionIdAllocator.nextId();
+        PromptTemplateEntity templateEntity = promptTemplateMapper.toEntity(promptTemplate);
+        templateEntity.setCurrentVersionId(initialVersionId);
+        promptTemplateRepository.save(templateEntity);
+
+        PromptVersion initialVersion = initialVersionFactory.apply(promptTemplate, templateEntity.getId());
+        PromptVersionEntity versionEntity = promptVersionMapper.toEntity(initialVersion);
+        versionEntity.setId(initialVersionId);
+        versionEntity.setPromptTemplate(templateEntity);
+        versionEntities.add(versionEntity);
+        return templateEntity;
+    }
+
+    /**
+     * 저장된 템플릿 엔티티를 도메인으로 변환합니다. 매퍼는 태그 관계를 옮기지 않으므로, 방금 저장한 원본 템플릿의
+     * 태그를 그대로 설정합니다(재조회 없이 메모리상의 애그리거트로 응답).
+     *
+     * @param templateEntity 저장된 템플릿 엔티티
+     * @param source         저장을 요청한 원본 템플릿
+     * @return 태그가 포함된 저장된 프롬프트 템플릿
+     */
+    private PromptTemplate toSavedDomain(PromptTemplateEntity templateEntity, PromptTemplate source) {
+        PromptTemplate saved = promptTemplateMapper.toDomain(templateEntity);
+        saved.updateTags(source.getTags());
+        return saved;
+    }
+
+    /**
+     * 최초 버전들을 본문 블롭 스냅샷으로 인코딩한 뒤 persist 합니다.
+     * 기존 블롭 확인은 목록 전체에 대해 한 번만 수행되고, 새 블롭은 버전과 함께 JDBC 배치로 INSERT 됩니다.
+     *
+     * @param versionEntities persist 할 최초 버전 엔티티 목록
+     */
+    private void persistInitialVersions(List<PromptVersionEntity> versionEntities) {
+        promptVersionContentStore.encodeSnapshots(versionEntities);
+        versionEntities.forEach(entityManager::persist);
+    }
 }
@@ -0,0 +1,453 @@
+package com.gongdel.promptserver.adapter.out.persistence;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.gongdel.promptserver.adapter.out.persistence.entity.ContentBlobEntity;
+import com.gongdel.promptserver.adapter.out.persistence.entity.PromptVersionEntity;
+import com.gongdel.promptserver.adapter.out.persistence.entity.PromptVersionEntity.StorageType;
+import com.gongdel.promptserver.adapter.out.persistence.mapper.PromptVersionMapper;
+import com.gongdel.promptserver.adapter.out.persistence.repository.ContentBlobRepository;
+import com.gongdel.promptserver.adapter.out.persistence.repository.PromptVersionRepository;
+import com.gongdel.promptserver.domain.model.PromptVersion;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.Assert;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 프롬프트 버전 내용을 주기적 스냅샷과 줄 단위 델타로 저장하고 복원하는 컴포넌트입니다.
+ * <p>
+ * 스냅샷 본문은 SHA-256 해시를 키로 하는 content_blobs에 한 번만 저장되며, 같은 본문이 이미 있으면 새 버전은 기존 블롭을
+ * 참조하는 스냅샷이 됩니다. 그렇지 않으면 같은 템플릿의 직전 버전에 대한 델타로 저장하되, 델타 체인이
+ * {@link #SNAPSHOT_INTERVAL}에 도달하거나 델타가 전체 내용보다 작지 않으면 새 블롭을 저장합니다.
+ * 복원한 내용은 버전 ID 기준 크기 제한 Caffeine 캐시에 보관하여 최근 조회·저장된 버전은 다시 읽지 않습니다.
+ * <p>
+ * 쓰기 트랜잭션 안에서 만든 캐시 항목은 커밋 이후에만 반영하므로 롤백된 내용은 캐시에 남지 않습니다.
+ * 각 항목은 저장 형태(블롭 해시 또는 기준 버전과 델타)의 지문과 함께 보관하고 엔티티와 지문이 같을 때만 사용하므로,
+ * 다른 인스턴스가 버전을 수정하더라도 새로 읽은 행과 맞지 않는 항목은 쓰이지 않습니다.
+ */
+@Slf4j
+@Component
+public class PromptVersionContentStore {
+
+    /**
+     * 스냅샷 사이에 허용하는 최대 델타 수. 복원 시 읽어야 하는 행 수의 상한입니다.
+     */
+    static final int SNAPSHOT_INTERVAL = 10;
+
+    /**
+     * 복원된 내용을 보관하는 캐시 크기
+     */
+    static final int CACHE_SIZE = 512;
+
+    static final String BLOB_WRITES_METRIC = "prompt.version.content.blobs";
+    static final String DEDUP_RATIO_METRIC = "prompt.version.content.dedup.ratio";
+
+    private final PromptVersionRepository promptVersionRepository;
+    private final ContentBlobRepository contentBlobRepository;
+    private final PromptVersionMapper promptVersionMapper;
+    private final Counter blobsCreated;
+    private final Counter blobsReused;
+
+    private final Cache<Long, Materialized> cache = Caffeine.newBuilder()
+        .maximumSize(CACHE_SIZE)
+        .build();
+
+    public PromptVersionContentStore(PromptVersionRepository promptVersionRepository,
+                                     ContentBlobRepository contentBlobRepository,
+                                     PromptVersionMapper promptVersionMapper,
+                                     MeterRegistry meterRegistry) {
+        this.promptVersionRepository = promptVersionRepository;
+        this.contentBlobRepository = contentBlobRepository;
+        this.promptVersionMapper = promptVersionMapper;
+        this.blobsCreated = Counter.builder(BLOB_WRITES_METRIC)
+            .description("Snapshot bodies written to content_blobs")
+            .tag("result", "created")
+            .register(meterRegistry);
+        this.blobsReused = Counter.builder(BLOB_WRITES_METRIC)
+            .description("Snapshot bodies that referenced an existing content blob")
+            .tag("result", "reused")
+            .register(meterRegistry);
+        Gauge.builder(DEDUP_RATIO_METRIC, this, PromptVersionContentStore::dedupRatio)
+            .description("Share of snapshot bodies served by an existing content blob")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 복원된 내용과 가장 가까운 스냅샷까지의 델타 수, 복원 당시 행의 저장 형태 지문
+     */
+    private record Materialized(String content, int depth, String fingerprint) {
+    }
+
+    /**
+     * 저장 전의 신규 버전 엔티티를 직전 버전 기준으로 인코딩합니다.
+     * 엔티티의 content에는 전체 내용이 들어 있어야 하며, ID는 미리 할당되어 있어야 합니다.
+     *
+     * @param entity 저장할 프롬프트 버전 엔티티
+     */
+    public void encode(PromptVersionEntity entity) {
+        Assert.notNull(entity, "PromptVersionEntity must not be null");
+        Assert.notNull(entity.getId(), "PromptVersion ID must be assigned before encoding");
+        String content = entity.getContent();
+        PromptVersionEntity base = entity.getPromptTemplate() == null ? null
+            : promptVersionRepository
+            .findFirstByPromptTemplateIdAndVersionNumberLessThanOrderByVersionNumberDesc(
+                entity.getPromptTemplate().getId(), entity.getVersionNumber())
+            .orElse(null);
+        Materialized baseContent = base != null ? materialize(base, Lookup.EMPTY) : null;
+        int depth = applyEncoding(entity, content, base, baseContent);
+        cacheAfterCommit(entity, content, depth);
+        log.debug("Encoded prompt version {} as {} (depth: {})", entity.getId(), entity.getStorageType(), depth);
+    }
+
+    /**
+     * 직전 버전이 없는 최초 버전들을 스냅샷으로 인코딩합니다.
+     * 기존 블롭 존재 여부를 한 번의 조회로 확인하고, 목록 안에서 같은 본문은 블롭을 한 번만 저장합니다.
+     *
+     * @param entities 저장할 최초 버전 엔티티 목록 (전체 내용과 ID가 설정되어 있어야 함)
+     */
+    public void encodeSnapshots(List<PromptVersionEntity> entities) {
+        Assert.notNull(entities, "Entities must not be null");
+        if (entities.isEmpty()) {
+            return;
+        }
+        Map<PromptVersionEntity, String> hashes = new IdentityHashMap<>();
+        entities.forEach(entity -> hashes.put(entity, sha256(entity.getContent())));
+        Set<String> stored = new HashSet<>(contentBlobRepository.findExistingHashes(new HashSet<>(hashes.values())));
+        for (PromptVersionEntity entity : entities) {
+            String content = entity.getContent();
+            String hash = hashes.get(entity);
+            storeSnapshot(entity, content, hash, !stored.add(hash));
+            cacheAfterCommit(entity, content, 0);
+        }
+    }
+
+    /**
+     * 기존 버전 엔티티를 수정된 전체 내용의 스냅샷으로 인코딩합니다.
+     *
+     * @param entity 수정할 프롬프트 버전 엔티티 (content에 전체 내용이 설정되어 있어야 함)
+     */
+    public void encodeSnapshot(PromptVersionEntity entity) {
+        Assert.notNull(entity, "PromptVersionEntity must not be null");
+        String content = entity.getContent();
+        String hash = sha256(content);
+        storeSnapshot(entity, content, hash, blobExists(hash));
+        if (entity.getId() != null) {
+            evict(entity.getId());
+            cacheAfterCommit(entity, content, 0);
+        }
+    }
+
+    /**
+     * 한 템플릿의 버전 전체를 버전 번호 순으로 다시 인코딩합니다. 기존 행을 새 저장 방식으로 변환할 때 사용합니다.
+     *
+     * @param versions 같은 템플릿의 버전 번호 오름차순 엔티티 목록
+     */
+    public void reencode(List<PromptVersionEntity> versions) {
+        Assert.notNull(versions, "Versions must not be null");
+        // 인코딩을 바꾸기 전에 모든 내용을 먼저 복원합니다.
+        Map<Long, String> contents = contentsOf(versions);
+        PromptVersionEntity previous = null;
+        Materialized previousContent = null;
+        for (PromptVersionEntity version : versions) {
+            String content = contents.get(version.getId());
+            int depth = applyEncoding(version, content, previous, previousContent);
+            previousContent = new Materialized(content, depth, fingerprint(version));
+            cacheAfterCommit(version, content, depth);
+            previous = version;
+        }
+    }
+
+    /**
+     * 버전을 수정하거나 삭제하기 전에, 이 버전을 기준으로 하는 델타 버전들을 스냅샷으로 바꾸고 캐시에서 제거합니다.
+     *
+     * @param versionId 수정 또는 삭제할 버전 ID
+     */
+    public void detachDependents(Long versionId) {
+        Assert.notNull(versionId, "PromptVersion ID must not be null");
+        List<PromptVersionEntity> dependents = promptVersionRepository.findAllByBaseVersionId(versionId);
+        for (PromptVersionEntity dependent : dependents) {
+            String content = contentOf(dependent);
+            applyEncoding(dependent, content, null, null);
+            cacheAfterCommit(dependent, content, 0);
+        }
+        evict(versionId);
+        if (!dependents.isEmpty()) {
+            log.debug("Converted {} dependent versions of {} to snapshots", dependents.size(), versionId);
+        }
+    }
+
+    /**
+     * 버전 엔티티의 전체 내용을 반환합니다.
+     *
+     * @param entity 프롬프트 버전 엔티티
+     * @return 전체 내용
+     */
+    public String contentOf(PromptVersionEntity entity) {
+        Assert.notNull(entity, "PromptVersionEntity must not be null");
+        return materialize(entity, Lookup.EMPTY).content();
+    }
+
+    /**
+     * 여러 버전의 전체 내용을 복원합니다. 목록 안의 엔티티는 서로의 기준 버전으로 재사용되고,
+     * 스냅샷 본문은 한 번의 조회로 함께 읽습니다.
+     *
+     * @param entities 프롬프트 버전 엔티티 목록
+     * @return 버전 ID별 전체 내용
+     */
+    public Map<Long, String> contentsOf(Collection<PromptVersionEntity> entities) {
+        Assert.notNull(entities, "Entities must not be null");
+        Map<Long, PromptVersionEntity> loaded = entities.stream()
+            .collect(Collectors.toMap(PromptVersionEntity::getId, Function.identity(), (a, b) -> a));
+        Set<String> hashes = entities.stream()
+            .filter(entity -> entity.getContentHash() != null && cached(entity) == null)
+            .map(PromptVersionEntity::getContentHash)
+            .collect(Collectors.toSet());
+        Map<String, String> blobs = hashes.isEmpty() ? Map.of()
+            : contentBlobRepository.findAllById(hashes).stream()
+            .collect(Collectors.toMap(ContentBlobEntity::getSha256, ContentBlobEntity::getContent));
+
+        Lookup lookup = new Lookup(loaded, blobs);
+        Map<Long, String> contents = new HashMap<>();
+        entities.stream()
+            .sorted(Comparator.comparing(PromptVersionEntity::getVersionNumber))
+            .forEach(entity -> contents.put(entity.getId(), materialize(entity, lookup).content()));
+        return contents;
+    }
+
+    /**
+     * 버전 ID 목록의 전체 내용을 한 번의 조회로 복원합니다.
+     *
+     * @param versionIds 프롬프트 버전 ID 목록
+     * @return 버전 ID별 전체 내용 (존재하지 않는 ID는 포함되지 않음)
+     */
+    public Map<Long, String> contentsByIds(Collection<Long> versionIds) {
+        Assert.notNull(versionIds, "Version IDs must not be null");
+        if (versionIds.isEmpty()) {
+            return Map.of();
+        }
+        return contentsOf(promptVersionRepository.findAllById(versionIds));
+    }
+
+    /**
+     * 전체 내용을 복원하여 도메인 객체로 변환합니다.
+     *
+     * @param entity 프롬프트 버전 엔티티
+     * @return 프롬프트 버전 도메인 객체
+     */
+    public PromptVersion toDomain(PromptVersionEntity entity) {
+        return promptVersionMapper.toDomain(entity, contentOf(entity));
+    }
+
+    /**
+     * 엔티티 목록을 전체 내용이 복원된 도메인 객체 목록으로 변환합니다. 순서는 입력 목록과 같습니다.
+     *
+     * @param entities 프롬프트 버전 엔티티 목록
+     * @return 프롬프트 버전 도메인 목록
+     */
+    public List<PromptVersion> toDomainList(List<PromptVersionEntity> entities) {
+        Map<Long, String> contents = contentsOf(entities);
+        return entities.stream()
+            .map(entity -> promptVersionMapper.toDomain(entity, contents.get(entity.getId())))
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * 지금까지 저장한 스냅샷 본문 중 기존 블롭을 재사용한 비율을 반환합니다.
+     *
+     * @return 0.0 ~ 1.0 사이의 중복 제거 비율 (저장 이력이 없으면 0)
+     */
+    double dedupRatio() {
+        double reused = blobsReused.count();
+        double total = reused + blobsCreated.count();
+        return total == 0 ? 0.0 : reused / total;
+    }
+
+    /**
+     * 저장 정책에 따라 엔티티를 블롭 스냅샷 또는 델타로 설정합니다.
+     *
+     * @return 설정된 버전의 델타 깊이 (스냅샷은 0)
+     */
+    private int applyEncoding(PromptVersionEntity entity, String content, PromptVersionEntity base,
+                              Materialized baseContent) {
+        String hash = sha256(content);
+        boolean blobExists = blobExists(hash);
+        if (!blobExists && base != null && baseContent.depth() + 1 < SNAPSHOT_INTERVAL) {
+            String delta = PromptVersionDeltaCodec.diff(baseContent.content(), content);
+            if (delta.length() < content.length()) {
+                entity.setStorageType(StorageType.DELTA);
+                entity.setBaseVersionId(base.getId());
+                entity.setContentDelta(delta);
+                entity.setContentHash(null);
+                entity.setContent(null);
+                return baseContent.depth() + 1;
+            }
+        }
+        storeSnapshot(entity, content, hash, blobExists);
+        return 0;
+    }
+
+    /**
+     * 엔티티를 블롭 참조 스냅샷으로 설정하고, 블롭이 없으면 새로 저장합니다.
+     */
+    private void storeSnapshot(PromptVersionEntity entity, String content, String hash, boolean blobExists) {
+        if (blobExists) {
+            blobsReused.increment();
+        } else {
+            contentBlobRepository.save(ContentBlobEntity.of(hash, content));
+            blobsCreated.increment();
+        }
+        entity.setStorageType(StorageType.SNAPSHOT);
+        entity.setContentHash(hash);
+        entity.setBaseVersionId(null);
+        entity.setContentDelta(null);
+        entity.setContent(null);
+    }
+
+    private boolean blobExists(String hash) {
+        return !contentBlobRepository.findExistingHashes(List.of(hash)).isEmpty();
+    }
+
+    /**
+     * 스냅샷 또는 캐시된 버전까지 기준 버전을 거슬러 올라간 뒤 델타를 차례로 적용하여 내용을 복원합니다.
+     *
+     * @param entity 복원할 버전 엔티티
+     * @param lookup 이미 읽은 엔티티와 블롭 (저장소 조회 전에 먼저 확인)
+     * @return 복원된 내용
+     */
+    private Materialized materialize(PromptVersionEntity entity, Lookup lookup) {
+        Materialized cached = cached(entity);
+        if (cached != null) {
+            return cached;
+        }
+
+        Deque<PromptVersionEntity> chain = new ArrayDeque<>();
+        PromptVersionEntity current = entity;
+        Materialized base = null;
+        while (current.isDelta()) {
+            chain.push(current);
+            Long baseVersionId = current.getBaseVersionId();
+            // 기준 버전을 수정·삭제할 때는 의존 델타를 먼저 스냅샷으로 바꾸므로, 커밋된 델타가 가리키는 기준 버전의 내용은 바뀌지 않습니다.
+            base = cache.getIfPresent(baseVersionId);
+            if (base != null) {
+                break;
+            }
+            current = lookup.entities().containsKey(baseVersionId) ? lookup.entities().get(baseVersionId)
+                : promptVersionRepository.findById(baseVersionId).orElseThrow(() -> new IllegalStateException(
+                "Base prompt version not found: " + baseVersionId));
+        }
+        if (base == null) {
+            base = new Materialized(snapshotContent(current, lookup), 0, fingerprint(current));
+            if (current.getContentHash() != null) {
+                cacheAfterCommit(current, base);
+            }
+        }
+        while (!chain.isEmpty()) {
+            PromptVersionEntity version = chain.pop();
+            base = new Materialized(PromptVersionDeltaCodec.apply(base.content(), version.getContentDelta()),
+                base.depth() + 1, fingerprint(version));
+            cacheAfterCommit(version, base);
+        }
+        return base;
+    }
+
+    /**
+     * 엔티티의 현재 저장 형태와 지문이 같은 캐시 항목을 반환합니다.
+     */
+    private Materialized cached(PromptVersionEntity entity) {
+        Materialized cached = cache.getIfPresent(entity.getId());
+        return cached != null && cached.fingerprint().equals(fingerprint(entity)) ? cached : null;
+    }
+
+    private void cacheAfterCommit(PromptVersionEntity entity, String content, int depth) {
+        cacheAfterCommit(entity, new Materialized(content, depth, fingerprint(entity)));
+    }
+
+    /**
+     * 캐시 항목을 보관합니다. 쓰기 트랜잭션 안이면 커밋 이후에 보관하여 롤백된 내용이 캐시에 남지 않게 합니다.
+     */
+    private void cacheAfterCommit(PromptVersionEntity entity, Materialized materialized) {
+        Long id = entity.getId();
+        if (TransactionSynchronizationManager.isSynchronizationActive()
+            && !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.put(id, materialized);
+                }
+            });
+        } else {
+            cache.put(id, materialized);
+        }
+    }
+
+    /**
+     * 캐시 항목을 즉시 제거하고, 트랜잭션 안이면 커밋 이후에 한 번 더 제거하여 그사이 읽어 들인 이전 내용도 지웁니다.
+     */
+    private void evict(Long versionId) {
+        cache.invalidate(versionId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.invalidate(versionId);
+                }
+            });
+        }
+    }
+
+    /**
+     * 행의 저장 형태 지문. 스냅샷은 블롭 해시, 델타는 기준 버전과 델타 본문으로 정해집니다.
+     * 델타는 전체 내용보다 작을 때만 저장되므로 본문을 그대로 지문에 씁니다.
+     */
+    private static String fingerprint(PromptVersionEntity entity) {
+        if (entity.isDelta()) {
+            return "D:" + entity.getBaseVersionId() + ":" + entity.getContentDelta();
+        }
+        return "S:" + entity.getContentHash();
+    }
+
+    /**
+     * 스냅샷 버전의 본문을 반환합니다. 블롭을 참조하지 않는 행은 변환 전의 인라인 내용을 사용합니다.
+     */
+    private String snapshotContent(PromptVersionEntity snapshot, Lookup lookup) {
+        String hash = snapshot.getContentHash();
+        if (hash == null) {
+            return snapshot.getContent();
+        }
+        String content = lookup.blobs().get(hash);
+        if (content != null) {
+            return content;
+        }
+        return contentBlobRepository.findById(hash)
+            .map(ContentBlobEntity::getContent)
+            .orElseThrow(() -> new IllegalStateException("Content blob not found: " + hash));
+    }
+
+    private static String sha256(String content) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 algorithm not available", e);
+        }
+    }
+
+    /**
+     * 복원 중 저장소 조회 전에 먼저 확인할 엔티티와 블롭 본문
+     */
+    private record Lookup(Map<Long, PromptVersionEntity> entities, Map<String, String> blobs) {
+        static final Lookup EMPTY = new Lookup(Map.of(), Map.of());
+    }
+}
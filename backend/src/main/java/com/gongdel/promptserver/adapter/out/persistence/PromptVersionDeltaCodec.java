@@ -0,0 +1,104 @@
+package com.gongdel.promptserver.adapter.out.persistence;
+
+import com.gongdel.promptserver.domain.model.PromptContentDiff;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 프롬프트 버전 내용의 줄 단위 델타를 만들고 적용하는 코덱입니다.
+ * <p>
+ * 델타는 이전 버전 내용에 대한 편집 스크립트이며, 각 연산은 헤더 줄 하나와(삽입의 경우) 삽입할 줄들로 구성됩니다.
+ * <ul>
+ * <li>{@code =n}: 이전 내용의 다음 n줄을 복사</li>
+ * <li>{@code -n}: 이전 내용의 다음 n줄을 건너뜀</li>
+ * <li>{@code +n}: 뒤따르는 n줄을 삽입</li>
+ * </ul>
+ * 줄은 {@code '\n'} 기준으로 나누며 마지막 빈 줄까지 보존하므로, 적용 결과는 원본 문자열과 정확히 일치합니다.
+ * 차이 계산은 {@link PromptContentDiff}를 사용하며, 기준 내용에 이미 있는 삭제 줄은 델타에 담지 않습니다.
+ */
+public final class PromptVersionDeltaCodec {
+
+    private static final String LINE_SEPARATOR = "\n";
+
+    private PromptVersionDeltaCodec() {
+    }
+
+    /**
+     * 이전 내용을 대상 내용으로 바꾸는 델타를 생성합니다.
+     *
+     * @param base   이전 버전 내용
+     * @param target 대상 버전 내용
+     * @return 직렬화된 델타
+     */
+    public static String diff(String base, String target) {
+        StringBuilder delta = new StringBuilder();
+        for (PromptContentDiff.Operation operation : PromptContentDiff.between(base, target).getOperations()) {
+            if (!delta.isEmpty()) {
+                delta.append(LINE_SEPARATOR);
+            }
+            delta.append(operation.getType().getSymbol()).append(operation.getCount());
+            if (operation.getType() == PromptContentDiff.OperationType.INSERT) {
+                for (String line : operation.getLines()) {
+                    delta.append(LINE_SEPARATOR).append(line);
+                }
+            }
+        }
+        return delta.toString();
+    }
+
+    /**
+     * 이전 내용에 델타를 적용하여 대상 내용을 복원합니다.
+     *
+     * @param base  이전 버전 내용
+     * @param delta 직렬화된 델타
+     * @return 복원된 내용
+     * @throws IllegalStateException 델타가 이전 내용과 맞지 않는 경우
+     */
+    public static String apply(String base, String delta) {
+        String[] a = split(base);
+        String[] ops = split(delta);
+        List<String> result = new ArrayList<>(a.length);
+        int position = 0;
+        int i = 0;
+        while (i < ops.length) {
+            String header = ops[i++];
+            if (header.length() < 2) {
+                throw new IllegalStateException("Corrupted prompt version delta: invalid header '" + header + "'");
+            }
+            int count = Integer.parseInt(header.substring(1));
+            switch (header.charAt(0)) {
+                case '=' -> {
+                    checkRange(position + count <= a.length, header);
+                    for (int k = 0; k < count; k++) {
+                        result.add(a[position++]);
+                    }
+                }
+                case '-' -> {
+                    checkRange(position + count <= a.length, header);
+                    position += count;
+                }
+                case '+' -> {
+                    checkRange(i + count <= ops.length, header);
+                    for (int k = 0; k < count; k++) {
+                        result.add(ops[i++]);
+                    }
+                }
+                default -> throw new IllegalStateException(
+                    "Corrupted prompt version delta: unknown operation '" + header + "'");
+            }
+        }
+        checkRange(position == a.length, "end of delta");
+        return String.join(LINE_SEPARATOR, result);
+    }
+
+    private static String[] split(String text) {
+        return text.split(LINE_SEPARATOR, -1);
+    }
+
+    private static void checkRange(boolean valid, String header) {
+        if (!valid) {
+            throw new IllegalStateException("Corrupted prompt version delta: out of range at '" + header + "'");
+        }
+    }
+}
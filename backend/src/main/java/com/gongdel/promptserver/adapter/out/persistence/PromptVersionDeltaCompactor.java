@@ -0,0 +1,133 @@
+package com.gongdel.promptserver.adapter.out.persistence;
+
+import com.gongdel.promptserver.adapter.out.persistence.entity.PromptVersionEntity;
+import com.gongdel.promptserver.adapter.out.persistence.repository.PromptVersionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 델타 저장 도입 이전에 전체 내용으로 저장된 프롬프트 버전을 블롭 스냅샷·델타 형식으로 변환하는 배치 컴포넌트입니다.
+ * <p>
+ * V12 마이그레이션은 컬럼만 추가하고 기존 행의 storage_type을 null로 남겨 두며, 이 컴포넌트가 템플릿 단위 청크로
+ * 행을 변환합니다. 청크마다 별도 트랜잭션으로 커밋하므로 긴 트랜잭션이나 테이블 전체 잠금 없이 진행되고,
+ * 중단되더라도 다음 실행에서 남은 템플릿부터 이어서 처리합니다.
+ * <p>
+ * 여러 인스턴스가 같은 템플릿을 동시에 변환하지 않도록 Redis 락을 잡은 인스턴스만 실행하며,
+ * 락 TTL을 넘겨 실행하지 않도록 TTL 안에서만 청크를 반복합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PromptVersionDeltaCompactor {
+
+    /**
+     * 한 트랜잭션에서 변환할 템플릿 수
+     */
+    static final int CHUNK_SIZE = 100;
+    static final String LOCK_KEY = "lock:prompt-version-compaction";
+
+    /**
+     * 락을 잡은 인스턴스일 때만 락을 해제합니다.
+     */
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+        if redis.call('GET', KEYS[1]) == ARGV[1] then
+            return redis.call('DEL', KEYS[1])
+        end
+        return 0
+        """, Long.class);
+
+    private final PromptVersionRepository promptVersionRepository;
+    private final PromptVersionContentStore promptVersionContentStore;
+    private final TransactionTemplate transactionTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Value("${prompt.version.compaction.lock-ttl-minutes:30}")
+    private long lockTtlMinutes;
+
+    /**
+     * 변환 대상이 남아 있지 않거나 락 TTL이 끝날 때까지 청크 단위로 변환합니다. 다른 인스턴스가 실행 중이면 건너뜁니다.
+     * 변환이 끝난 뒤에는 대상 조회가 부분 인덱스로 즉시 끝나므로 주기 실행 비용이 거의 없습니다.
+     */
+    @Scheduled(fixedDelay = 6, initialDelay = 1, timeUnit = TimeUnit.HOURS)
+    public void convertLegacyVersions() {
+        String owner = UUID.randomUUID().toString();
+        if (!acquireLock(owner)) {
+            log.debug("Prompt version compaction is running on another instance, skipping");
+            return;
+        }
+        try {
+            long deadline = System.nanoTime() + TimeUnit.MINUTES.toNanos(lockTtlMinutes);
+            long templates = 0;
+            int converted;
+            while (System.nanoTime() < deadline && (converted = convertNextChunk()) > 0) {
+                templates += converted;
+            }
+            if (templates > 0) {
+                log.info("Converted prompt versions of {} templates to delta storage", templates);
+            }
+        } catch (Exception e) {
+            log.error("Failed to convert prompt versions to delta storage", e);
+        } finally {
+            releaseLock(owner);
+        }
+    }
+
+    /**
+     * 변환되지 않은 버전을 가진 템플릿 한 청크를 하나의 트랜잭션으로 변환합니다.
+     *
+     * @return 변환한 템플릿 수
+     */
+    int convertNextChunk() {
+        Integer converted = transactionTemplate.execute(status -> {
+            List<Long> templateIds = promptVersionRepository.findTemplateIdsWithUnconvertedVersions(CHUNK_SIZE);
+            if (templateIds.isEmpty()) {
+                return 0;
+            }
+            List<PromptVersionEntity> versions = promptVersionRepository.findAllByPromptTemplateIdsOrdered(templateIds);
+            int from = 0;
+            for (int i = 1; i <= versions.size(); i++) {
+                if (i == versions.size() || !sameTemplate(versions.get(i), versions.get(from))) {
+                    promptVersionContentStore.reencode(versions.subList(from, i));
+                    from = i;
+                }
+            }
+            log.debug("Converted {} prompt versions of {} templates", versions.size(), templateIds.size());
+            return templateIds.size();
+        });
+        return converted != null ? converted : 0;
+    }
+
+    private boolean acquireLock(String owner) {
+        try {
+            return Boolean.TRUE.equals(stringRedisTemplate.opsForValue()
+                .setIfAbsent(LOCK_KEY, owner, lockTtlMinutes, TimeUnit.MINUTES));
+        } catch (Exception e) {
+            log.warn("Failed to acquire prompt version compaction lock, skipping this run", e);
+            return false;
+        }
+    }
+
+    private void releaseLock(String owner) {
+        try {
+            stringRedisTemplate.execute(RELEASE_SCRIPT, List.of(LOCK_KEY), owner);
+        } catch (Exception e) {
+            log.warn("Failed to release prompt version compaction lock, it will expire after {} minutes",
+                lockTtlMinutes, e);
+        }
+    }
+
+    private boolean sameTemplate(PromptVersionEntity a, PromptVersionEntity b) {
+        return a.getPromptTemplate().getId().equals(b.getPromptTemplate().getId());
+    }
+}
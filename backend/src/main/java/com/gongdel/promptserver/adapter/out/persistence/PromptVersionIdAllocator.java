@@ -0,0 +1,44 @@
+package com.gongdel.promptserver.adapter.out.persistence;
+
+import com.gongdel.promptserver.adapter.out.persistence.repository.PromptVersionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 프롬프트 버전 ID를 시퀀스에서 블록 단위로 미리 할당하는 컴포넌트입니다.
+ * <p>
+ * Hibernate pooled 옵티마이저와 동일하게 시퀀스 값을 블록의 상한으로 해석하여, 시퀀스 한 번 조회로 {@link #ALLOCATION_SIZE}개의
+ * ID를 메모리에서 발급합니다. 템플릿 INSERT 전에 버전 ID가 필요하므로 JPA 생성 전략 대신 이 할당기를 사용합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PromptVersionIdAllocator {
+
+    /**
+     * prompt_versions_id_seq의 INCREMENT 값과 반드시 일치해야 합니다.
+     */
+    static final int ALLOCATION_SIZE = 50;
+
+    private final PromptVersionRepository promptVersionRepository;
+
+    private long next = 1;
+    private long upperBound = 0;
+
+    /**
+     * 다음 프롬프트 버전 ID를 반환합니다.
+     *
+     * @return 새 프롬프트 버전 ID
+     */
+    public synchronized long nextId() {
+        if (next > upperBound) {
+            long sequenceValue = promptVersionRepository.nextSequenceValue();
+            // 새로 생성된 시퀀스의 첫 값(1)은 하한이 음수가 되지 않도록 단일 ID 블록으로 취급합니다.
+            next = Math.max(sequenceValue - ALLOCATION_SIZE + 1, 1);
+            upperBound = sequenceValue;
+            log.debug("Allocated prompt version id block: [{}, {}]", next, upperBound);
+        }
+        return next++;
+    }
+}
@@ -10,6 +10,9 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
+
 /**
  * 태그 저장을 위한 어댑터 구현체
  */
@@ -38,4 +41,25 @@ public class SaveTagAdapter implements SaveTagPort {
         log.debug("태그 저장 완료. 태그 ID: {}", savedEntity.getId());
         return tagMapper.toDomain(savedEntity);
     }
+
+    /**
+     * 여러 태그를 한 번에 저장합니다.
+     *
+     * @param tags 저장할 태그 목록
+     * @return 저장된 태그 목록
+     */
+    @Override
+    public List<Tag> saveTags(Collection<Tag> tags) {
+        log.debug("태그 일괄 저장. 태그 수: {}", tags.size());
+
+        List<TagEntity> entities = tags.stream()
+            .map(tagMapper::toEntity)
+            .toList();
+        List<TagEntity> savedEntities = tagRepository.saveAll(entities);
+
+        log.debug("태그 일괄 저장 완료. 저장 수: {}", savedEntities.size());
+        return savedEntities.stream()
+            .map(tagMapper::toDomain)
+            .toList();
+    }
 }
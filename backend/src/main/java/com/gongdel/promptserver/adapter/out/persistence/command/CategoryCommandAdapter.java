@@ -1,6 +1,7 @@
 package com.gongdel.promptserver.adapter.out.persistence.command;
 
 import com.gongdel.promptserver.adapter.out.persistence.entity.CategoryEntity;
+import com.gongdel.promptserver.adapter.out.persistence.repository.CategoryClosureRepository;
 import com.gongdel.promptserver.adapter.out.persistence.repository.JpaCategoryRepository;
 import com.gongdel.promptserver.application.port.out.command.DeleteCategoryPort;
 import com.gongdel.promptserver.application.port.out.command.SaveCategoryPort;
@@ -21,6 +22,13 @@ import java.util.Optional;
 
 /**
  * 카테고리 명령 포트 구현체입니다. JpaCategoryRepository를 사용하여 카테고리 저장, 업데이트 및 삭제 작업을 수행합니다.
+ * <p>
+ * 같은 트랜잭션에서 카테고리 클로저 테이블(category_closure)의 경로 행도 함께 유지합니다.
+ * <p>
+ * 상위 카테고리를 읽고 경로 행을 바꾸는 작업(하위 카테고리 생성, 수정, 삭제)은 계층 advisory lock을 잡은 뒤 수행합니다.
+ * 잠그지 않으면 A를 B의 하위로, B를 A의 하위로 옮기는 두 트랜잭션이 서로의 변경을 보지 못한 채 순환 참조 검사를 통과할 수
+ * 있습니다. 순환은 이동하는 두 카테고리가 아닌 깊은 하위 카테고리를 거쳐서도 생기므로, 개별 카테고리 행 대신 계층 전체를
+ * 하나의 잠금으로 직렬화합니다. 계층 변경은 드물어 대기 비용이 작습니다.
  */
 @Slf4j
 @Component
@@ -28,6 +36,7 @@ import java.util.Optional;
 public class CategoryCommandAdapter implements SaveCategoryPort, UpdateCategoryPort, DeleteCategoryPort {
 
     private final JpaCategoryRepository jpaCategoryRepository;
+    private final CategoryClosureRepository categoryClosureRepository;
 
     /**
      * 새 카테고리를 생성합니다.
@@ -45,9 +54,17 @@ public class CategoryCommandAdapter implements SaveCategoryPort, UpdateCategoryP
         log.debug("Creating category: {}", category.getName());
 
         try {
+            Long parentId = parentIdOf(category);
+            if (parentId != null) {
+                categoryClosureRepository.lockHierarchy();
+            }
             CategoryEntity entity = CategoryEntity.fromDomain(category);
             CategoryEntity savedEntity = jpaCategoryRepository.save(entity);
             Category savedCategory = savedEntity.toDomain();
+            categoryClosureRepository.insertSelfPath(savedCategory.getId());
+            if (parentId != null) {
+                categoryClosureRepository.attachSubtree(savedCategory.getId(), parentId);
+            }
 
             log.info("Category created with id: {}, name: {}",
                 savedCategory.getId(),
@@ -85,10 +102,19 @@ public class CategoryCommandAdapter implements SaveCategoryPort, UpdateCategoryP
             throw new CategoryNotFoundDomainException(category.getId());
         }
 
+        // 순환 참조 검사와 하위 트리 이동 사이에 다른 계층 변경이 끼어들지 않도록 잠근 뒤 최신 경로를 읽음
+        categoryClosureRepository.lockHierarchy();
+        Long parentId = parentIdOf(category);
+        checkCircularReference(category.getId(), parentId);
+        boolean parentChanged = isParentChanged(category.getId(), parentId);
+
         try {
             CategoryEntity entity = CategoryEntity.fromDomain(category);
             CategoryEntity updatedEntity = jpaCategoryRepository.save(entity);
             Category updatedCategory = updatedEntity.toDomain();
+            if (parentChanged) {
+                moveSubtree(category.getId(), parentId);
+            }
 
             log.info("Category updated with id: {}, name: {}",
                 updatedCategory.getId(),
@@ -120,6 +146,10 @@ public class CategoryCommandAdapter implements SaveCategoryPort, UpdateCategoryP
 
         log.debug("Deleting category with id: {}", id);
         try {
+            // 하위 카테고리는 최상위가 되므로(ON DELETE SET NULL) 하위 트리를 먼저 조상들로부터 분리하고,
+            // 삭제되는 카테고리 자신의 경로 행은 외래 키 CASCADE로 정리됩니다.
+            categoryClosureRepository.lockHierarchy();
+            categoryClosureRepository.detachSubtree(id);
             jpaCategoryRepository.deleteById(id);
             log.info("Category with id: {} successfully deleted", id);
         } catch (EmptyResultDataAccessException e) {
@@ -186,6 +216,52 @@ public class CategoryCommandAdapter implements SaveCategoryPort, UpdateCategoryP
         }
     }
 
+    /**
+     * 새 상위 카테고리가 자기 자신이거나 자신의 하위 카테고리인지 검사합니다.
+     *
+     * @param categoryId 업데이트할 카테고리 ID
+     * @param parentId   새 상위 카테고리 ID
+     * @throws CategoryOperationException 순환 참조가 발생하는 경우
+     */
+    private void checkCircularReference(Long categoryId, Long parentId) {
+        if (parentId != null && categoryClosureRepository.existsByAncestorIdAndDescendantId(categoryId, parentId)) {
+            log.warn("Attempted to move category {} under its own subtree: {}", categoryId, parentId);
+            throw new CategoryOperationException(
+                CategoryErrorType.CIRCULAR_REFERENCE,
+                "Category " + categoryId + " cannot be moved under its own subtree: " + parentId);
+        }
+    }
+
+    /**
+     * 클로저 테이블의 직접 상위 경로(depth 1)와 비교하여 상위 카테고리가 바뀌는지 확인합니다.
+     *
+     * @param categoryId 카테고리 ID
+     * @param parentId   새 상위 카테고리 ID
+     * @return 상위 카테고리 변경 여부
+     */
+    private boolean isParentChanged(Long categoryId, Long parentId) {
+        return parentId != null
+            ? !categoryClosureRepository.existsByAncestorIdAndDescendantIdAndDepth(parentId, categoryId, 1)
+            : categoryClosureRepository.existsByDescendantIdAndDepth(categoryId, 1);
+    }
+
+    /**
+     * 하위 트리를 기존 조상들로부터 분리한 뒤 새 상위 카테고리 아래에 다시 연결합니다.
+     *
+     * @param categoryId 이동할 카테고리 ID
+     * @param parentId   새 상위 카테고리 ID (null이면 최상위로 이동)
+     */
+    private void moveSubtree(Long categoryId, Long parentId) {
+        int detached = categoryClosureRepository.detachSubtree(categoryId);
+        int attached = parentId != null ? categoryClosureRepository.attachSubtree(categoryId, parentId) : 0;
+        log.debug("Moved category subtree {} under {}: {} paths removed, {} paths added",
+            categoryId, parentId, detached, attached);
+    }
+
+    private Long parentIdOf(Category category) {
+        return category.getParentCategory() != null ? category.getParentCategory().getId() : null;
+    }
+
     /**
      * 카테고리 작업 예외 생성
      *
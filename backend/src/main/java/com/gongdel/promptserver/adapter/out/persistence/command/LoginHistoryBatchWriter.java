@@ -0,0 +1,238 @@
+package com.gongdel.promptserver.adapter.out.persistence.command;
+
+import com.gongdel.promptserver.application.port.out.command.RecordLoginHistoryPort;
+import com.gongdel.promptserver.domain.login.LoginHistory;
+import com.gongdel.promptserver.domain.user.Email;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * 로그인 이력을 비동기로 모아 JDBC 배치로 저장하는 어댑터입니다.
+ * <p>
+ * 로그인 요청 스레드는 이력을 고정 크기 대기열에 넣기만 하고 바로 반환하므로, 감사 기록 INSERT가 로그인 트랜잭션의
+ * 지연이나 잠금 시간에 더해지지 않습니다. 백그라운드 작업이 주기적으로 대기열을 비우며 batch-size 단위로 INSERT합니다.
+ * 배치 저장이 실패하면 한 건씩 다시 저장하여, 제약 조건을 위반한 행(예: 삭제된 사용자) 하나 때문에 같은 배치의
+ * 다른 이력까지 버리지 않습니다. 한 건씩 저장하다 DB 연결 오류처럼 행과 무관한 오류가 나면 남은 이력은 다시 시도하지 않습니다.
+ * 대기열이 가득 차거나 저장에 실패한 이력은 로그인을 실패시키지 않고 버리며, 버린 건수를 지표로 남깁니다.
+ * <p>
+ * 실패한 로그인은 이메일만 받아 두고, 저장할 때 INSERT ... SELECT로 사용자 PK를 찾아 함께 기록합니다.
+ * 로그인 실패 요청 스레드에서 사용자를 조회하지 않으므로 무차별 대입 시도가 DB 조회를 늘리지 않으며,
+ * 가입되지 않은 이메일은 삽입되는 행이 없어 기록되지 않습니다.
+ * <p>
+ * 지표:
+ * - auth.login.history.written: 저장된 이력 수
+ * - auth.login.history.dropped (tag reason=queue_full|write_failed): 버린 이력 수
+ * - auth.login.history.queue.size: 대기 중인 이력 수
+ */
+@Slf4j
+@Component
+public class LoginHistoryBatchWriter implements RecordLoginHistoryPort, DisposableBean {
+
+    static final String WRITTEN_METRIC = "auth.login.history.written";
+    static final String DROPPED_METRIC = "auth.login.history.dropped";
+    static final String QUEUE_SIZE_METRIC = "auth.login.history.queue.size";
+
+    static final String INSERT_SQL = "INSERT INTO login_history "
+        + "(uuid, user_id, login_at, ip_address, user_agent, status, created_at, updated_at) "
+        + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    static final String INSERT_BY_EMAIL_SQL = "INSERT INTO login_history "
+        + "(uuid, user_id, login_at, ip_address, user_agent, status, created_at, updated_at) "
+        + "SELECT ?, u.id, ?, ?, ?, ?, ?, ? FROM users u WHERE u.email = ?";
+
+    private static final int MAX_IP_ADDRESS_LENGTH = 45;
+    private static final int MAX_USER_AGENT_LENGTH = 255;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BlockingQueue<PendingLoginHistory> queue;
+    private final int batchSize;
+    private final Counter written;
+    private final Counter droppedQueueFull;
+    private final Counter droppedWriteFailed;
+
+    public LoginHistoryBatchWriter(JdbcTemplate jdbcTemplate,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${security.login-history.queue-capacity:10000}") int queueCapacity,
+                                   @Value("${security.login-history.batch-size:200}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.written = Counter.builder(WRITTEN_METRIC)
+            .description("Login history rows written in batches")
+            .register(meterRegistry);
+        this.droppedQueueFull = Counter.builder(DROPPED_METRIC)
+            .description("Login history entries dropped without being written")
+            .tag("reason", "queue_full")
+            .register(meterRegistry);
+        this.droppedWriteFailed = Counter.builder(DROPPED_METRIC)
+            .description("Login history entries dropped without being written")
+            .tag("reason", "write_failed")
+            .register(meterRegistry);
+        Gauge.builder(QUEUE_SIZE_METRIC, queue, BlockingQueue::size)
+            .description("Login history entries waiting to be written")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 로그인 이력을 대기열에 추가합니다. 대기열이 가득 차면 기다리지 않고 버립니다.
+     *
+     * @param loginHistory 기록할 로그인 이력
+     */
+    @Override
+    public void recordLogin(LoginHistory loginHistory) {
+        if (loginHistory == null) {
+            return;
+        }
+        enqueue(new PendingLoginHistory(loginHistory, null));
+    }
+
+    /**
+     * 실패한 로그인 시도를 대기열에 추가합니다. 사용자 PK는 저장할 때 이메일로 찾습니다.
+     *
+     * @param email     로그인 시도 이메일
+     * @param ipAddress 클라이언트 IP
+     * @param userAgent 클라이언트 User-Agent
+     */
+    @Override
+    public void recordFailedLogin(Email email, String ipAddress, String userAgent) {
+        if (email == null) {
+            return;
+        }
+        enqueue(new PendingLoginHistory(
+            LoginHistory.create(null, ipAddress, userAgent, LoginHistory.LoginStatus.FAILED), email.getValue()));
+    }
+
+    private void enqueue(PendingLoginHistory pending) {
+        if (!queue.offer(pending)) {
+            droppedQueueFull.increment();
+            log.warn("Login history queue is full, dropping entry for userId={}", pending.history().getUserId());
+        }
+    }
+
+    /**
+     * 대기열이 빌 때까지 batch-size 단위로 저장합니다.
+     */
+    @Scheduled(fixedDelayString = "${security.login-history.flush-interval-millis:1000}")
+    public void flush() {
+        List<PendingLoginHistory> batch = new ArrayList<>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            List<PendingLoginHistory> byUserId = new ArrayList<>(batch.size());
+            List<PendingLoginHistory> byEmail = new ArrayList<>();
+            for (PendingLoginHistory pending : batch) {
+                (pending.email() == null ? byUserId : byEmail).add(pending);
+            }
+            writeBatch(INSERT_SQL, byUserId);
+            writeBatch(INSERT_BY_EMAIL_SQL, byEmail);
+            batch.clear();
+        }
+    }
+
+    /**
+     * 종료 시 대기 중인 이력을 저장합니다.
+     */
+    @Override
+    public void destroy() {
+        flush();
+    }
+
+    private void writeBatch(String sql, List<PendingLoginHistory> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            int[][] counts = jdbcTemplate.batchUpdate(sql, batch, batch.size(), this::bind);
+            int rows = countRows(counts);
+            written.increment(rows);
+            log.debug("Wrote {} login history entries", rows);
+        } catch (Exception e) {
+            log.warn("Failed to write {} login history entries in batch, retrying one by one", batch.size(), e);
+            writeOneByOne(sql, batch);
+        }
+    }
+
+    /**
+     * 배치에서 삽입된 행 수를 셉니다. 가입되지 않은 이메일의 실패 이력은 0건으로 집계됩니다.
+     */
+    private int countRows(int[][] counts) {
+        int rows = 0;
+        for (int[] chunk : counts) {
+            for (int count : chunk) {
+                rows += count == Statement.SUCCESS_NO_INFO ? 1 : Math.max(count, 0);
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * 배치 저장에 실패한 이력을 한 건씩 저장합니다. 제약 조건 위반은 해당 행만 버리고,
+     * 그 밖의 오류는 나머지 행도 실패할 것이므로 남은 이력을 모두 버립니다.
+     */
+    private void writeOneByOne(String sql, List<PendingLoginHistory> batch) {
+        for (int i = 0; i < batch.size(); i++) {
+            PendingLoginHistory pending = batch.get(i);
+            try {
+                written.increment(jdbcTemplate.update(sql, ps -> bind(ps, pending)));
+            } catch (DataIntegrityViolationException e) {
+                droppedWriteFailed.increment();
+                log.error("Dropping login history entry rejected by the database: userId={}",
+                    pending.history().getUserId(), e);
+            } catch (Exception e) {
+                int remaining = batch.size() - i;
+                droppedWriteFailed.increment(remaining);
+                log.error("Failed to write login history, dropping {} remaining entries", remaining, e);
+                return;
+            }
+        }
+    }
+
+    /**
+     * 이력 값을 바인딩합니다. 이메일로 저장하는 이력은 사용자 PK 대신 마지막 파라미터에 이메일을 바인딩합니다.
+     */
+    private void bind(PreparedStatement ps, PendingLoginHistory pending) throws SQLException {
+        LoginHistory history = pending.history();
+        int index = 1;
+        ps.setObject(index++, history.getLoginHistoryId().getValue());
+        if (pending.email() == null) {
+            ps.setLong(index++, history.getUserId());
+        }
+        ps.setTimestamp(index++, Timestamp.valueOf(history.getLoginAt()));
+        ps.setString(index++, truncate(history.getIpAddress(), MAX_IP_ADDRESS_LENGTH));
+        ps.setString(index++, truncate(history.getUserAgent(), MAX_USER_AGENT_LENGTH));
+        ps.setString(index++, history.getStatus().name());
+        ps.setTimestamp(index++, Timestamp.valueOf(history.getCreatedAt()));
+        ps.setTimestamp(index++, Timestamp.valueOf(history.getUpdatedAt()));
+        if (pending.email() != null) {
+            ps.setString(index, pending.email());
+        }
+    }
+
+    private String truncate(String value, int maxLength) {
+        if (value == null || value.length() <= maxLength) {
+            return value;
+        }
+        return value.substring(0, maxLength);
+    }
+
+    /**
+     * 저장 대기 중인 이력입니다. 이메일이 있으면 저장할 때 이메일로 사용자 PK를 찾습니다.
+     */
+    private record PendingLoginHistory(LoginHistory history, String email) {
+    }
+}
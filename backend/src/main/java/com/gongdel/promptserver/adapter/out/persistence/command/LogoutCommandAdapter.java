@@ -2,7 +2,9 @@ package com.gongdel.promptserver.adapter.out.persistence.command;
 
 import com.gongdel.promptserver.application.port.out.command.BlacklistTokenPort;
 import com.gongdel.promptserver.application.port.out.command.DeleteRefreshTokenPort;
+import com.gongdel.promptserver.application.port.out.command.EvictAuthenticatedUserPort;
 import com.gongdel.promptserver.application.port.out.command.LogoutPort;
+import com.gongdel.promptserver.application.port.out.command.SaveTokenBlacklistPort;
 import com.gongdel.promptserver.domain.exception.InvalidJwtException;
 import com.gongdel.promptserver.domain.logout.LogoutToken;
 import com.gongdel.promptserver.domain.user.UserId;
@@ -15,6 +17,7 @@ import org.springframework.util.Assert;
 /**
  * 로그아웃 처리를 위한 어댑터입니다.
  * 토큰을 블랙리스트에 등록하고 관련 리소스를 정리합니다.
+ * 블랙리스트는 원본인 DB에 먼저 기록한 뒤 요청마다 조회되는 캐시에 등록하며, 캐시 등록 실패는 로그아웃을 실패시키지 않습니다.
  */
 @Slf4j
 @Component
@@ -26,7 +29,9 @@ public class LogoutCommandAdapter implements LogoutPort {
     private static final String DELETE_REFRESH_ERROR_MESSAGE = "Failed to delete refresh token";
     private static final String VALIDATION_ERROR_MESSAGE = "Invalid logout token: %s";
     private final BlacklistTokenPort blacklistTokenPort;
+    private final SaveTokenBlacklistPort saveTokenBlacklistPort;
     private final DeleteRefreshTokenPort deleteRefreshTokenPort;
+    private final EvictAuthenticatedUserPort evictAuthenticatedUserPort;
 
     /**
      * 로그아웃 처리를 수행합니다.
@@ -76,6 +81,7 @@ public class LogoutCommandAdapter implements LogoutPort {
     private void processLogout(LogoutToken logoutToken) {
         blacklistToken(logoutToken);
         deleteRefreshToken(logoutToken);
+        evictAuthenticatedUserPort.evictAuthenticatedUser(logoutToken.getUserId());
     }
 
     /**
@@ -92,6 +98,7 @@ public class LogoutCommandAdapter implements LogoutPort {
                 logoutToken.getTokenId(),
                 userId,
                 logoutToken.getExpiresAt());
+            saveTokenBlacklistPort.addToBlacklist(logoutToken.getTokenId(), logoutToken.getExpiresAt());
         } catch (Exception e) {
             log.error("Failed to blacklist token for user: [{}], error: {}", userId, e.getMessage());
             throw new InvalidJwtException(BLACKLIST_ERROR_MESSAGE, e);
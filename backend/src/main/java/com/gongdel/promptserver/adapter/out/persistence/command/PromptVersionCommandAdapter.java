@@ -1,11 +1,15 @@
 package com.gongdel.promptserver.adapter.out.persistence.command;
 
+import com.gongdel.promptserver.adapter.out.persistence.PromptVersionContentStore;
+import com.gongdel.promptserver.adapter.out.persistence.PromptVersionIdAllocator;
 import com.gongdel.promptserver.adapter.out.persistence.entity.PromptVersionEntity;
 import com.gongdel.promptserver.adapter.out.persistence.repository.PromptVersionRepository;
 import com.gongdel.promptserver.application.port.out.command.DeletePromptVersionPort;
 import com.gongdel.promptserver.application.port.out.command.SavePromptVersionPort;
 import com.gongdel.promptserver.application.port.out.command.UpdatePromptVersionPort;
 import com.gongdel.promptserver.domain.model.PromptVersion;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -23,9 +27,14 @@ public class PromptVersionCommandAdapter
 
     private final PromptVersionRepository promptVersionRepository;
     private final com.gongdel.promptserver.adapter.out.persistence.mapper.PromptVersionMapper promptVersionMapper;
+    private final PromptVersionIdAllocator promptVersionIdAllocator;
+    private final PromptVersionContentStore promptVersionContentStore;
+    @PersistenceContext
+    private EntityManager entityManager;
 
     /**
-     * 프롬프트 버전을 저장합니다.
+     * 프롬프트 버전을 저장합니다. ID가 없는 신규 버전은 시퀀스 블록에서 ID를 할당받아 persist 하므로
+     * merge에 따른 선조회 없이 INSERT 한 번으로 저장됩니다. 신규 버전의 내용은 직전 버전에 대한 델타 또는 스냅샷으로 인코딩됩니다.
      *
      * @param promptVersion 저장할 프롬프트 버전 도메인 객체
      * @return 저장된 프롬프트 버전 도메인 객체
@@ -37,8 +46,18 @@ public class PromptVersionCommandAdapter
         log.debug("Saving prompt version: {}", promptVersion);
         try {
             PromptVersionEntity entity = promptVersionMapper.toEntity(promptVersion);
-            PromptVersionEntity savedEntity = promptVersionRepository.save(entity);
-            PromptVersion saved = promptVersionMapper.toDomain(savedEntity);
+            PromptVersionEntity savedEntity;
+            if (entity.getId() == null) {
+                entity.setId(promptVersionIdAllocator.nextId());
+                promptVersionContentStore.encode(entity);
+                entityManager.persist(entity);
+                savedEntity = entity;
+            } else {
+                promptVersionContentStore.detachDependents(entity.getId());
+                promptVersionContentStore.encodeSnapshot(entity);
+                savedEntity = promptVersionRepository.save(entity);
+            }
+            PromptVersion saved = promptVersionMapper.toDomain(savedEntity, promptVersion.getContent());
             log.info("Prompt version saved: id={}", saved.getId());
             return saved;
         } catch (Exception e) {
@@ -48,7 +67,7 @@ public class PromptVersionCommandAdapter
     }
 
     /**
-     * 프롬프트 버전을 업데이트합니다.
+     * 프롬프트 버전을 업데이트합니다. 수정된 버전은 스냅샷으로 저장되며, 이 버전을 기준으로 하던 델타 버전은 먼저 스냅샷으로 변환됩니다.
      *
      * @param promptVersion 업데이트할 프롬프트 버전 도메인 객체
      * @return 업데이트된 프롬프트 버전 도메인 객체
@@ -60,8 +79,10 @@ public class PromptVersionCommandAdapter
         log.debug("Updating prompt version: {}", promptVersion);
         try {
             PromptVersionEntity entity = promptVersionMapper.toEntity(promptVersion);
+            promptVersionContentStore.detachDependents(entity.getId());
+            promptVersionContentStore.encodeSnapshot(entity);
             PromptVersionEntity updatedEntity = promptVersionRepository.save(entity);
-            PromptVersion updated = promptVersionMapper.toDomain(updatedEntity);
+            PromptVersion updated = promptVersionMapper.toDomain(updatedEntity, promptVersion.getContent());
             log.info("Prompt version updated: id={}", updated.getId());
             return updated;
         } catch (Exception e) {
@@ -71,7 +92,7 @@ public class PromptVersionCommandAdapter
     }
 
     /**
-     * 프롬프트 버전을 삭제합니다.
+     * 프롬프트 버전을 삭제합니다. 이 버전을 기준으로 하던 델타 버전은 먼저 스냅샷으로 변환됩니다.
      *
      * @param id 삭제할 프롬프트 버전의 ID
      */
@@ -81,6 +102,7 @@ public class PromptVersionCommandAdapter
         Assert.notNull(id, "PromptVersion id must not be null");
         log.debug("Deleting prompt version with id: {}", id);
         try {
+            promptVersionContentStore.detachDependents(id);
             promptVersionRepository.deleteById(id);
             log.info("Prompt version with id: {} successfully deleted", id);
         } catch (Exception e) {
@@ -1,16 +1,12 @@
 package com.gongdel.promptserver.adapter.out.persistence.command;
 
-import com.gongdel.promptserver.adapter.out.persistence.entity.RefreshTokenEntity;
 import com.gongdel.promptserver.adapter.out.persistence.entity.TokenBlacklistEntity;
-import com.gongdel.promptserver.adapter.out.persistence.mapper.TokenMapper;
 import com.gongdel.promptserver.adapter.out.persistence.repository.RefreshTokenRepository;
 import com.gongdel.promptserver.adapter.out.persistence.repository.TokenBlacklistRepository;
 import com.gongdel.promptserver.application.port.out.command.BlacklistTokenPort;
-import com.gongdel.promptserver.application.port.out.command.DeleteRefreshTokenPort;
-import com.gongdel.promptserver.application.port.out.command.SaveRefreshTokenPort;
+import com.gongdel.promptserver.application.port.out.command.ConsumeLegacyRefreshTokenPort;
 import com.gongdel.promptserver.domain.exception.TokenException;
 import com.gongdel.promptserver.domain.exception.TokenValidationException;
-import com.gongdel.promptserver.domain.refreshtoken.RefreshToken;
 import com.gongdel.promptserver.domain.user.UserId;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -22,91 +18,15 @@ import java.time.LocalDateTime;
 
 /**
  * 토큰 관련 명령을 처리하는 어댑터입니다.
- * 리프레시 토큰의 저장, 삭제 및 블랙리스트 관리를 담당합니다.
+ * 블랙리스트의 감사 기록(DB) 저장을 담당합니다. 리프레시 토큰은 {@code RefreshTokenRedisAdapter}가 관리하며,
+ * 이 어댑터는 패밀리 도입 이전에 DB에 저장된 리프레시 토큰을 한 번 소비하는 일만 처리합니다.
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
-public class TokenCommandAdapter implements SaveRefreshTokenPort, DeleteRefreshTokenPort, BlacklistTokenPort {
-    private final RefreshTokenRepository refreshTokenRepository;
+public class TokenCommandAdapter implements BlacklistTokenPort, ConsumeLegacyRefreshTokenPort {
     private final TokenBlacklistRepository tokenBlacklistRepository;
-    private final TokenMapper tokenMapper;
-
-    /**
-     * 리프레시 토큰을 저장합니다.
-     *
-     * @param refreshToken 저장할 리프레시 토큰
-     * @throws TokenException           토큰 저장 실패 시
-     * @throws TokenValidationException 입력값 검증 실패 시
-     */
-    @Override
-    @Transactional
-    public void saveRefreshToken(RefreshToken refreshToken) {
-        try {
-            validateRefreshToken(refreshToken);
-            log.debug("Starting to save refresh token for userId: {}", refreshToken.getUserId());
-
-            RefreshTokenEntity entity = tokenMapper.toEntity(refreshToken);
-            refreshTokenRepository.save(entity);
-            log.info("Successfully saved refresh token for userId: {}", refreshToken.getUserId());
-        } catch (TokenValidationException e) {
-            log.error("Token validation failed: {}", e.getMessage());
-            throw e;
-        } catch (Exception e) {
-            log.error("Failed to save refresh token for userId: {}", refreshToken.getUserId(), e);
-            throw TokenException.saveFailed(refreshToken.getUserId().toString(), e);
-        }
-    }
-
-    /**
-     * 사용자 ID에 해당하는 리프레시 토큰을 삭제합니다.
-     *
-     * @param userId 삭제할 리프레시 토큰의 사용자 ID
-     * @throws TokenException           토큰 삭제 실패 시
-     * @throws TokenValidationException 입력값 검증 실패 시
-     */
-    @Override
-    @Transactional
-    public void deleteByUserId(UserId userId) {
-        try {
-            validateUserId(userId);
-            log.debug("Starting to delete refresh token for userId: {}", userId.getValue());
-
-            refreshTokenRepository.deleteByUserId(userId.getValue().toString());
-            log.info("Successfully deleted refresh token for userId: {}", userId.getValue());
-        } catch (TokenValidationException e) {
-            log.error("Token validation failed: {}", e.getMessage());
-            throw e;
-        } catch (Exception e) {
-            log.error("Failed to delete refresh token for userId: {}", userId.getValue(), e);
-            throw TokenException.deleteFailed(userId.getValue().toString(), e);
-        }
-    }
-
-    /**
-     * 특정 리프레시 토큰을 삭제합니다.
-     *
-     * @param token 삭제할 리프레시 토큰
-     * @throws TokenException           토큰 삭제 실패 시
-     * @throws TokenValidationException 입력값 검증 실패 시
-     */
-    @Override
-    @Transactional
-    public void deleteRefreshToken(String token) {
-        try {
-            validateToken(token);
-            log.debug("Starting to delete refresh token: {}", token);
-
-            refreshTokenRepository.deleteByToken(token);
-            log.info("Successfully deleted refresh token");
-        } catch (TokenValidationException e) {
-            log.error("Token validation failed: {}", e.getMessage());
-            throw e;
-        } catch (Exception e) {
-            log.error("Failed to delete refresh token", e);
-            throw TokenException.deleteFailed(token, e);
-        }
-    }
+    private final RefreshTokenRepository refreshTokenRepository;
 
     /**
      * 토큰을 블랙리스트에 추가합니다.
@@ -140,22 +60,29 @@ public class TokenCommandAdapter implements SaveRefreshTokenPort, DeleteRefreshT
         }
     }
 
-    private void validateRefreshToken(RefreshToken refreshToken) {
-        if (refreshToken == null) {
-            throw TokenValidationException.nullRefreshToken();
-        }
-    }
-
-    private void validateUserId(UserId userId) {
-        if (userId == null) {
-            throw TokenValidationException.nullUserId();
-        }
-    }
-
-    private void validateToken(String token) {
+    /**
+     * 패밀리 도입 이전에 저장된 유효한 리프레시 토큰을 삭제합니다.
+     * 삭제된 행이 있을 때만 true를 반환하므로, 같은 토큰은 한 번만 새 패밀리로 교환됩니다.
+     *
+     * @param token 클라이언트가 제시한 리프레시 토큰
+     * @return 유효한 토큰을 삭제했으면 true
+     * @throws TokenValidationException 토큰이 비어있는 경우
+     * @throws TokenException           DB 처리 실패 시
+     */
+    @Override
+    @Transactional
+    public boolean consumeLegacyRefreshToken(String token) {
         if (!StringUtils.hasText(token)) {
             throw TokenValidationException.emptyToken();
         }
+        try {
+            boolean consumed = refreshTokenRepository.deleteActiveByToken(token, LocalDateTime.now()) > 0;
+            log.debug("Legacy refresh token consumed: {}", consumed);
+            return consumed;
+        } catch (Exception e) {
+            log.error("Failed to consume legacy refresh token", e);
+            throw TokenException.deleteFailed("legacy-refresh-token", e);
+        }
     }
 
     private void validateBlacklistInput(String tokenId, UserId userId, LocalDateTime expiresAt) {
@@ -4,6 +4,7 @@ import com.gongdel.promptserver.adapter.out.persistence.entity.UserEntity;
 import com.gongdel.promptserver.adapter.out.persistence.mapper.UserMapper;
 import com.gongdel.promptserver.adapter.out.persistence.repository.UserJpaRepository;
 import com.gongdel.promptserver.application.port.out.command.DeleteUserPort;
+import com.gongdel.promptserver.application.port.out.command.EvictAuthenticatedUserPort;
 import com.gongdel.promptserver.application.port.out.command.SaveUserPort;
 import com.gongdel.promptserver.application.port.out.command.UpdateUserPort;
 import com.gongdel.promptserver.domain.exception.UserOperationException;
@@ -25,6 +26,7 @@ import org.springframework.util.Assert;
  * - 사용자 정보 저장
  * - 사용자 정보 수정
  * - 사용자 정보 삭제
+ * 수정·삭제 시에는 인증용 사용자 캐시도 함께 제거합니다.
  * </p>
  */
 @Slf4j
@@ -34,6 +36,7 @@ import org.springframework.util.Assert;
 public class UserCommandAdapter implements SaveUserPort, UpdateUserPort, DeleteUserPort {
     private final UserJpaRepository userJpaRepository;
     private final UserMapper userMapper;
+    private final EvictAuthenticatedUserPort evictAuthenticatedUserPort;
 
     /**
      * 사용자를 저장합니다.
@@ -75,6 +78,7 @@ public class UserCommandAdapter implements SaveUserPort, UpdateUserPort, DeleteU
         try {
             UserEntity entity = userMapper.toEntity(user);
             UserEntity updated = userJpaRepository.save(entity);
+            evictAuthenticatedUserPort.evictAuthenticatedUser(user.getUuid());
             log.info("User updated successfully - email: {}, id: {}", user.getEmail(), updated.getId());
             return userMapper.toDomain(updated);
         } catch (DataAccessException e) {
@@ -98,6 +102,7 @@ public class UserCommandAdapter implements SaveUserPort, UpdateUserPort, DeleteU
 
         try {
             userJpaRepository.deleteByUuid(userId.getValue());
+            evictAuthenticatedUserPort.evictAuthenticatedUser(userId);
             log.info("User deleted successfully - id: {}", userId.getValue());
         } catch (DataAccessException e) {
             String errorMessage = String.format("Failed to delete user - id: %s, cause: %s",
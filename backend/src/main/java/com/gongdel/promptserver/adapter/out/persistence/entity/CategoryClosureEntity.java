@@ -0,0 +1,33 @@
+package com.gongdel.promptserver.adapter.out.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 카테고리 계층의 모든 (조상, 자손) 쌍을 저장하는 클로저 테이블 JPA 엔티티입니다.
+ * <p>
+ * 각 카테고리는 자기 자신과 depth 0으로 연결되며, 하위 트리 조회를 재귀 없이 인덱스 조회 한 번으로 처리합니다.
+ * 행은 {@code CategoryCommandAdapter}가 네이티브 쿼리로 유지하므로 엔티티는 조회 전용입니다.
+ */
+@Entity
+@Table(name = "category_closure", indexes = {
+    @Index(name = "idx_category_closure_descendant", columnList = "descendant_id, ancestor_id")
+})
+@IdClass(CategoryClosureId.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CategoryClosureEntity {
+
+    @Id
+    @Column(name = "ancestor_id")
+    private Long ancestorId;
+
+    @Id
+    @Column(name = "descendant_id")
+    private Long descendantId;
+
+    @Column(nullable = false)
+    private int depth;
+}
@@ -0,0 +1,22 @@
+package com.gongdel.promptserver.adapter.out.persistence.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * 카테고리 클로저 엔티티의 복합 키(조상 ID, 자손 ID)입니다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class CategoryClosureId implements Serializable {
+
+    private Long ancestorId;
+
+    private Long descendantId;
+}
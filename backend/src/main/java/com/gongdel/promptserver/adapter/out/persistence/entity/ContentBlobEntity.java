@@ -0,0 +1,70 @@
+package com.gongdel.promptserver.adapter.out.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ResultCheckStyle;
+import org.hibernate.annotations.SQLInsert;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * 프롬프트 버전 본문을 SHA-256 해시로 한 번만 저장하는 내용 주소 기반 JPA 엔티티입니다.
+ * <p>
+ * 해시가 곧 ID이므로 항상 신규로 persist 하며(merge 선조회 없음), 동시에 같은 본문이 저장되는 경우를 위해
+ * INSERT는 충돌 시 아무것도 하지 않습니다. 저장된 본문은 변경하지 않습니다.
+ */
+@Entity
+@Table(name = "content_blobs")
+@SQLInsert(sql = "INSERT INTO content_blobs (content, created_at, sha256) VALUES (?, ?, ?) "
+    + "ON CONFLICT (sha256) DO NOTHING", check = ResultCheckStyle.NONE)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ContentBlobEntity implements Persistable<String> {
+
+    @Id
+    @Column(length = 64)
+    private String sha256;
+
+    @Column(columnDefinition = "TEXT", nullable = false, updatable = false)
+    private String content;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Transient
+    private boolean isNew = true;
+
+    /**
+     * 본문 블롭 엔티티를 생성합니다.
+     *
+     * @param sha256  본문의 SHA-256 해시 (16진수 소문자)
+     * @param content 본문
+     * @return 새로운 ContentBlobEntity 인스턴스
+     */
+    public static ContentBlobEntity of(String sha256, String content) {
+        ContentBlobEntity entity = new ContentBlobEntity();
+        entity.sha256 = sha256;
+        entity.content = content;
+        entity.createdAt = LocalDateTime.now();
+        return entity;
+    }
+
+    @Override
+    public String getId() {
+        return sha256;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+}
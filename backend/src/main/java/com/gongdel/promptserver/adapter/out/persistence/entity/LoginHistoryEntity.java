@@ -14,7 +14,7 @@ import java.util.UUID;
  */
 @Entity
 @Table(name = "login_history", indexes = {
-    @Index(name = "idx_login_history_user", columnList = "user_id"),
+    @Index(name = "idx_login_history_user_login_at", columnList = "user_id, login_at DESC"),
     @Index(name = "idx_login_history_login_at", columnList = "login_at"),
     @Index(name = "idx_login_history_uuid", columnList = "uuid", unique = true)
 })
@@ -30,7 +30,8 @@ import java.util.stream.Collectors;
 public class PromptTemplateEntity extends BaseJpaEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "prompt_templates_id_seq")
+    @SequenceGenerator(name = "prompt_templates_id_seq", sequenceName = "prompt_templates_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, unique = true)
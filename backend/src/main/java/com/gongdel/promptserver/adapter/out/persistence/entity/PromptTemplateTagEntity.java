@@ -19,7 +19,9 @@ import java.time.LocalDateTime;
 public class PromptTemplateTagEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "prompt_template_tags_id_seq")
+    @SequenceGenerator(name = "prompt_template_tags_id_seq", sequenceName = "prompt_template_tags_id_seq",
+        allocationSize = 50)
     private Long id;
 
     /**
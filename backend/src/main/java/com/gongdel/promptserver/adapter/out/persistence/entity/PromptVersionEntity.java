@@ -18,16 +18,20 @@ import java.util.UUID;
  */
 @Entity
 @Table(name = "prompt_versions", indexes = {
-    @Index(name = "idx_prompt_version_template", columnList = "prompt_template_id"),
-    @Index(name = "idx_prompt_version_uuid", columnList = "uuid", unique = true)
+    @Index(name = "idx_prompt_version_template_number", columnList = "prompt_template_id, version_number DESC"),
+    @Index(name = "idx_prompt_version_uuid", columnList = "uuid", unique = true),
+    @Index(name = "idx_prompt_version_base", columnList = "base_version_id")
 })
 @Getter
 @Setter
 @NoArgsConstructor
 public class PromptVersionEntity {
 
+    /**
+     * 버전 ID는 {@code PromptVersionIdAllocator}가 prompt_versions_id_seq에서 미리 할당합니다.
+     * 템플릿의 current_version_id를 INSERT 시점에 채우려면 버전 ID가 템플릿 저장 전에 확정되어야 하기 때문입니다.
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
     @Column(nullable = false, unique = true)
@@ -40,12 +44,46 @@ public class PromptVersionEntity {
     @Column(name = "version_number", nullable = false)
     private Integer versionNumber;
 
-    @Column(columnDefinition = "TEXT", nullable = false)
+    /**
+     * 델타 저장 도입 이전 행의 전체 내용. 이후 저장되는 버전은 null이며 {@code PromptVersionContentStore}로 복원합니다.
+     */
+    @Column(columnDefinition = "TEXT")
     private String content;
 
+    /**
+     * 스냅샷 본문이 저장된 content_blobs 행의 SHA-256 해시
+     */
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
+    /**
+     * 내용 저장 방식. 델타 저장 도입 이전의 행은 변환 전까지 null이며 스냅샷으로 취급합니다.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "storage_type", length = 16)
+    private StorageType storageType = StorageType.SNAPSHOT;
+
+    /**
+     * 델타의 기준이 되는 이전 버전 ID
+     */
+    @Column(name = "base_version_id")
+    private Long baseVersionId;
+
+    /**
+     * 기준 버전 내용에 대한 줄 단위 편집 스크립트 ({@code PromptVersionDeltaCodec} 형식)
+     */
+    @Column(name = "content_delta", columnDefinition = "TEXT")
+    private String contentDelta;
+
     @Column(columnDefinition = "TEXT")
     private String changes;
 
+    /**
+     * 직전 버전 대비 줄 단위 차이 ({@code PromptContentDiff} 압축 표현). 수정으로 생성된 버전에만 기록됩니다.
+     */
+    @Column(name = "content_diff", columnDefinition = "TEXT")
+    private String contentDiff;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "created_by_id", nullable = false)
     private UserEntity createdBy;
@@ -66,4 +104,19 @@ public class PromptVersionEntity {
         this.id = id;
     }
 
+    /**
+     * 델타로 저장된 버전인지 여부를 반환합니다.
+     *
+     * @return 델타 저장 여부
+     */
+    public boolean isDelta() {
+        return storageType == StorageType.DELTA;
+    }
+
+    /**
+     * 버전 내용의 저장 방식을 정의하는 열거형
+     */
+    public enum StorageType {
+        SNAPSHOT, DELTA
+    }
 }
@@ -13,7 +13,8 @@ import java.time.LocalDateTime;
  */
 @Entity
 @Table(name = "refresh_token", indexes = {
-    @Index(name = "idx_refresh_token_user_id", columnList = "userId")
+    @Index(name = "idx_refresh_token_user_id", columnList = "userId"),
+    @Index(name = "idx_refresh_token_expires_at", columnList = "expiresAt")
 })
 @Getter
 @Setter
@@ -20,7 +20,8 @@ import java.time.LocalDateTime;
 public class TagEntity extends BaseJpaEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tags_id_seq")
+    @SequenceGenerator(name = "tags_id_seq", sequenceName = "tags_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, unique = true)
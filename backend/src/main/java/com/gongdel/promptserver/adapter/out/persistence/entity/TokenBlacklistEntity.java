@@ -12,7 +12,10 @@ import java.time.LocalDateTime;
  * </p>
  */
 @Entity
-@Table(name = "token_blacklist", indexes = @Index(name = "idx_token_blacklist_token_id", columnList = "tokenId"))
+@Table(name = "token_blacklist", indexes = {
+    @Index(name = "idx_token_blacklist_token_id", columnList = "tokenId"),
+    @Index(name = "idx_token_blacklist_expires_at", columnList = "expiresAt")
+})
 @Getter
 @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
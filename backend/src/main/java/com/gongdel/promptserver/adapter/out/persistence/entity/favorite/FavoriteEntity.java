@@ -12,11 +12,13 @@ import org.springframework.util.Assert;
 
 /**
  * 프롬프트 즐겨찾기 정보를 저장하는 JPA 엔티티입니다.
+ * <p>
+ * 사용자별 즐겨찾기 목록은 (user_id, created_at DESC, id DESC) 인덱스 순서로 조회하여 정렬 없이 커서 페이징합니다.
  */
 @Entity
 @Table(name = "favorites", uniqueConstraints = {@UniqueConstraint(name = "uk_favorite_user_prompt", columnNames = {
     "user_id", "prompt_template_id"})}, indexes = {
-    @Index(name = "idx_favorite_user", columnList = "user_id"),
+    @Index(name = "idx_favorite_user_created", columnList = "user_id, created_at DESC, id DESC"),
     @Index(name = "idx_favorite_prompt", columnList = "prompt_template_id")
 })
 @Getter
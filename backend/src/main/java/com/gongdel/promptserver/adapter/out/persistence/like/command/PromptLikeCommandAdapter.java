@@ -1,8 +1,5 @@
 package com.gongdel.promptserver.adapter.out.persistence.like.command;
 
-import com.gongdel.promptserver.adapter.out.persistence.entity.PromptTemplateEntity;
-import com.gongdel.promptserver.adapter.out.persistence.entity.UserEntity;
-import com.gongdel.promptserver.adapter.out.persistence.entity.like.PromptLikeEntity;
 import com.gongdel.promptserver.adapter.out.persistence.repository.PromptLikeJpaRepository;
 import com.gongdel.promptserver.application.port.out.like.command.AddPromptLike;
 import com.gongdel.promptserver.application.port.out.like.command.AddPromptLikePort;
@@ -28,30 +25,27 @@ public class PromptLikeCommandAdapter implements AddPromptLikePort, RemovePrompt
 
     /**
      * 프롬프트 좋아요를 추가합니다. (멱등성 보장)
+     * 존재 확인 후 저장하는 대신 {@code INSERT ... ON CONFLICT DO NOTHING} 한 문장으로 처리하므로 동시 요청에도 중복 행이 생기지 않습니다.
      *
      * @param addPromptLike 좋아요 추가 요청 값
+     * @return 좋아요 행이 새로 추가되었으면 true
      * @throws LikeOperationException   추가 실패 시 발생
      * @throws IllegalArgumentException 파라미터가 null인 경우 발생
      */
     @Override
-    public void addLike(AddPromptLike addPromptLike) {
+    public boolean addLike(AddPromptLike addPromptLike) {
         Assert.notNull(addPromptLike, "addPromptLike must not be null");
         try {
-            boolean exists = promptLikeJpaRepository.existsByUserIdAndPromptTemplateId(
+            int inserted = promptLikeJpaRepository.insertIfAbsent(
                 addPromptLike.getUserId(), addPromptLike.getPromptTemplateId());
-            if (exists) {
+            if (inserted == 0) {
                 log.info("Like already exists for userId={}, promptTemplateId={}", addPromptLike.getUserId(),
                     addPromptLike.getPromptTemplateId());
-                return;
+                return false;
             }
-            // 실제 UserEntity, PromptTemplateEntity 조회 및 생성 생략(실제 구현시 필요)
-            PromptLikeEntity entity = PromptLikeEntity.builder()
-                .user(new UserEntity(addPromptLike.getUserId()))
-                .promptTemplate(new PromptTemplateEntity(addPromptLike.getPromptTemplateId()))
-                .build();
-            promptLikeJpaRepository.save(entity);
             log.info("Like added for userId={}, promptTemplateId={}", addPromptLike.getUserId(),
                 addPromptLike.getPromptTemplateId());
+            return true;
         } catch (DataAccessException e) {
             log.error("Failed to add like for userId={}, promptTemplateId={}", addPromptLike.getUserId(),
                 addPromptLike.getPromptTemplateId(), e);
@@ -68,17 +62,19 @@ public class PromptLikeCommandAdapter implements AddPromptLikePort, RemovePrompt
      * 프롬프트 좋아요를 취소합니다. (멱등성 보장)
      *
      * @param removePromptLike 좋아요 취소 요청 값
+     * @return 좋아요 행이 실제로 삭제되었으면 true
      * @throws LikeOperationException   삭제 실패 시 발생
      * @throws IllegalArgumentException 파라미터가 null인 경우 발생
      */
     @Override
-    public void removeLike(RemovePromptLike removePromptLike) {
+    public boolean removeLike(RemovePromptLike removePromptLike) {
         Assert.notNull(removePromptLike, "removePromptLike must not be null");
         try {
-            promptLikeJpaRepository.deleteByUserIdAndPromptTemplateId(
+            int deleted = promptLikeJpaRepository.deleteByUserIdAndPromptTemplateId(
                 removePromptLike.getUserId(), removePromptLike.getPromptTemplateId());
-            log.info("Like removed for userId={}, promptTemplateId={}", removePromptLike.getUserId(),
-                removePromptLike.getPromptTemplateId());
+            log.info("Like removed for userId={}, promptTemplateId={}, deleted={}", removePromptLike.getUserId(),
+                removePromptLike.getPromptTemplateId(), deleted);
+            return deleted > 0;
         } catch (DataAccessException e) {
             log.error("Failed to remove like for userId={}, promptTemplateId={}", removePromptLike.getUserId(),
                 removePromptLike.getPromptTemplateId(), e);
@@ -1,7 +1,7 @@
 package com.gongdel.promptserver.adapter.out.persistence.like.command;
 
-import com.gongdel.promptserver.adapter.out.persistence.entity.like.PromptLikeCountEntity;
 import com.gongdel.promptserver.adapter.out.persistence.repository.PromptLikeCountRepository;
+import com.gongdel.promptserver.application.port.out.like.command.RebuildPromptLikeCountPort;
 import com.gongdel.promptserver.application.port.out.like.command.UpdatePromptLikeCount;
 import com.gongdel.promptserver.application.port.out.like.command.UpdatePromptLikeCountPort;
 import com.gongdel.promptserver.domain.exception.LikeOperationException;
@@ -12,7 +12,7 @@ import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.Assert;
 
-import java.time.LocalDateTime;
+import java.util.Map;
 
 /**
  * 프롬프트별 좋아요 수 Projection을 갱신하는 Command 어댑터입니다.
@@ -21,11 +21,11 @@ import java.time.LocalDateTime;
 @Component
 @RequiredArgsConstructor
 @Transactional
-public class PromptLikeCountCommandAdapter implements UpdatePromptLikeCountPort {
+public class PromptLikeCountCommandAdapter implements UpdatePromptLikeCountPort, RebuildPromptLikeCountPort {
     private final PromptLikeCountRepository promptLikeCountRepository;
 
     /**
-     * 좋아요 수를 갱신합니다.
+     * 좋아요 수를 단일 upsert 문으로 원자적으로 증감합니다.
      *
      * @param update Projection 갱신 요청 값
      * @return 갱신된 좋아요 수
@@ -36,22 +36,54 @@ public class PromptLikeCountCommandAdapter implements UpdatePromptLikeCountPort
     public long updateLikeCount(UpdatePromptLikeCount update) {
         Assert.notNull(update, "update must not be null");
         try {
-            PromptLikeCountEntity entity = promptLikeCountRepository
-                .findByPromptTemplateId(update.getPromptTemplateId())
-                .orElse(PromptLikeCountEntity.builder()
-                    .promptTemplateId(update.getPromptTemplateId())
-                    .likeCount(0L)
-                    .updatedAt(LocalDateTime.now())
-                    .build());
-            entity.applyLikeCountChange(update.getLikeCount());
-            promptLikeCountRepository.save(entity);
+            long likeCount = promptLikeCountRepository.upsertLikeCount(
+                update.getPromptTemplateId(), update.getLikeCount());
             log.info("Updated like count for promptTemplateId={}, likeCount={}", update.getPromptTemplateId(),
-                entity.getLikeCount());
-            return entity.getLikeCount();
+                likeCount);
+            return likeCount;
         } catch (DataAccessException e) {
             log.error("Failed to update like count for promptTemplateId={}", update.getPromptTemplateId(), e);
             throw new LikeOperationException(
                 "Failed to update like count for promptTemplateId: " + update.getPromptTemplateId(), e);
         }
     }
+
+    /**
+     * 캐시에 누적된 증감량을 한 트랜잭션에서 Projection 값에 더합니다.
+     * 상대 증감이므로 캐시를 사용할 수 없을 때 {@link #updateLikeCount}로 직접 반영된 값과 서로 덮어쓰지 않습니다.
+     *
+     * @param deltas 프롬프트 ID별 증감량
+     * @throws LikeOperationException   저장 실패 시 발생
+     * @throws IllegalArgumentException 파라미터가 null인 경우 발생
+     */
+    @Override
+    public void addLikeCounts(Map<Long, Long> deltas) {
+        Assert.notNull(deltas, "deltas must not be null");
+        try {
+            deltas.forEach(promptLikeCountRepository::upsertLikeCount);
+            log.debug("Added like count deltas for {} prompts", deltas.size());
+        } catch (DataAccessException e) {
+            log.error("Failed to add like count deltas for promptTemplateIds={}", deltas.keySet(), e);
+            throw new LikeOperationException("Failed to add like count deltas", e);
+        }
+    }
+
+    /**
+     * prompt_like 행을 집계하여 Projection 값을 보정합니다.
+     *
+     * @return 값이 보정된 Projection 행 수
+     * @throws LikeOperationException 보정 실패 시 발생
+     */
+    @Override
+    public int rebuildLikeCounts() {
+        try {
+            int rebuilt = promptLikeCountRepository.rebuildLikeCountsFromLikes()
+                + promptLikeCountRepository.resetOrphanLikeCounts();
+            log.info("Rebuilt like counts from prompt_like, corrected rows={}", rebuilt);
+            return rebuilt;
+        } catch (DataAccessException e) {
+            log.error("Failed to rebuild like counts", e);
+            throw new LikeOperationException("Failed to rebuild like counts", e);
+        }
+    }
 }
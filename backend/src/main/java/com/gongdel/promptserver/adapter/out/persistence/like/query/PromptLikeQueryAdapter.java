@@ -11,12 +11,15 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataAccessException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.Assert;
 
+import java.util.List;
+
 /**
- * 내가 좋아요한 프롬프트 목록을 조회하는 Query 어댑터입니다.
+ * 내가 좋아요한 프롬프트 목록과 ID를 조회하는 Query 어댑터입니다.
  * JPA와 MapStruct를 활용하여 도메인 객체로 변환합니다.
  */
 @Slf4j
@@ -57,4 +60,46 @@ public class PromptLikeQueryAdapter implements FindLikedPromptsPort {
                 "Unexpected error while loading liked prompts for userId: " + findLikedPrompts.getUserId(), e);
         }
     }
+
+    /**
+     * 사용자가 좋아요한 프롬프트 ID를 최대 limit개 조회합니다.
+     *
+     * @param userId 사용자 ID
+     * @param limit  최대 개수
+     * @return 좋아요한 프롬프트 ID 목록
+     * @throws LikeOperationException   조회 실패 시 발생
+     * @throws IllegalArgumentException 파라미터가 올바르지 않은 경우 발생
+     */
+    @Override
+    public List<Long> findLikedPromptIds(Long userId, int limit) {
+        Assert.notNull(userId, "userId must not be null");
+        Assert.isTrue(limit > 0, "limit must be positive");
+        try {
+            return promptLikeJpaRepository.findPromptTemplateIdsByUserId(userId, PageRequest.of(0, limit));
+        } catch (DataAccessException e) {
+            log.error("Failed to load liked prompt IDs for userId={}", userId, e);
+            throw new LikeOperationException("Failed to load liked prompt IDs for userId: " + userId, e);
+        }
+    }
+
+    /**
+     * 주어진 프롬프트 중 사용자가 좋아요한 프롬프트 ID를 조회합니다.
+     *
+     * @param userId            사용자 ID
+     * @param promptTemplateIds 확인할 프롬프트 ID 목록
+     * @return 좋아요한 프롬프트 ID 목록
+     * @throws LikeOperationException   조회 실패 시 발생
+     * @throws IllegalArgumentException 파라미터가 올바르지 않은 경우 발생
+     */
+    @Override
+    public List<Long> findLikedPromptIdsAmong(Long userId, List<Long> promptTemplateIds) {
+        Assert.notNull(userId, "userId must not be null");
+        Assert.notEmpty(promptTemplateIds, "promptTemplateIds must not be empty");
+        try {
+            return promptLikeJpaRepository.findPromptTemplateIdsLikedByUser(userId, promptTemplateIds);
+        } catch (DataAccessException e) {
+            log.error("Failed to load liked prompt IDs for userId={}", userId, e);
+            throw new LikeOperationException("Failed to load liked prompt IDs for userId: " + userId, e);
+        }
+    }
 }
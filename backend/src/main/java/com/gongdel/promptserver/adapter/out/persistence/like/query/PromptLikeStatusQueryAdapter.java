@@ -3,6 +3,7 @@ package com.gongdel.promptserver.adapter.out.persistence.like.query;
 import com.gongdel.promptserver.adapter.out.persistence.repository.PromptLikeJpaRepository;
 import com.gongdel.promptserver.application.port.out.like.query.LoadPromptLikeStatus;
 import com.gongdel.promptserver.application.port.out.like.query.LoadPromptLikeStatusPort;
+import com.gongdel.promptserver.application.port.out.query.LoadUserPromptMembershipPort;
 import com.gongdel.promptserver.domain.exception.LikeOperationException;
 import com.gongdel.promptserver.domain.like.LikeStatus;
 import lombok.RequiredArgsConstructor;
@@ -21,6 +22,7 @@ import org.springframework.util.Assert;
 @Transactional(readOnly = true)
 public class PromptLikeStatusQueryAdapter implements LoadPromptLikeStatusPort {
     private final PromptLikeJpaRepository promptLikeJpaRepository;
+    private final LoadUserPromptMembershipPort loadUserPromptMembershipPort;
 
     /**
      * 프롬프트 좋아요 상태 및 카운트를 조회합니다.
@@ -36,8 +38,7 @@ public class PromptLikeStatusQueryAdapter implements LoadPromptLikeStatusPort {
         Assert.notNull(query.getUserId(), "userId must not be null");
         Assert.notNull(query.getPromptTemplateId(), "promptTemplateId must not be null");
         try {
-            boolean liked = promptLikeJpaRepository.existsByUserIdAndPromptTemplateId(
-                query.getUserId(), query.getPromptTemplateId());
+            boolean liked = loadUserPromptMembershipPort.isLiked(query.getUserId(), query.getPromptTemplateId());
             long likeCount = promptLikeJpaRepository.countByPromptTemplateId(query.getPromptTemplateId());
             log.debug("Loaded like status for userId={}, promptTemplateId={}, liked={}, likeCount={}",
                 query.getUserId(), query.getPromptTemplateId(), liked, likeCount);
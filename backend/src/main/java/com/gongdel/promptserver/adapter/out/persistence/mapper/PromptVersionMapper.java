@@ -15,9 +15,27 @@ public interface PromptVersionMapper {
     })
     PromptVersion toDomain(PromptVersionEntity entity);
 
+    /**
+     * 델타로 저장된 버전처럼 엔티티의 content가 비어 있을 수 있는 경우, 복원된 내용으로 도메인 객체를 생성합니다.
+     *
+     * @param entity  프롬프트 버전 엔티티
+     * @param content 복원된 전체 내용
+     * @return 프롬프트 버전 도메인 객체
+     */
+    @Mappings({
+        @Mapping(target = "promptTemplateId", source = "entity.promptTemplate.id"),
+        @Mapping(target = "createdById", source = "entity.createdBy.id"),
+        @Mapping(target = "content", source = "content")
+    })
+    PromptVersion toDomain(PromptVersionEntity entity, String content);
+
     @Mappings({
         @Mapping(target = "promptTemplate", expression = "java(domain.getPromptTemplateId() != null ? new PromptTemplateEntity(domain.getPromptTemplateId()) : null)"),
-        @Mapping(target = "createdBy", expression = "java(domain.getCreatedById() != null ? new UserEntity(domain.getCreatedById()) : null)")
+        @Mapping(target = "createdBy", expression = "java(domain.getCreatedById() != null ? new UserEntity(domain.getCreatedById()) : null)"),
+        @Mapping(target = "contentHash", ignore = true),
+        @Mapping(target = "storageType", ignore = true),
+        @Mapping(target = "baseVersionId", ignore = true),
+        @Mapping(target = "contentDelta", ignore = true)
     })
     PromptVersionEntity toEntity(PromptVersion domain);
 }
@@ -11,10 +11,13 @@ import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.Assert;
 
+import java.util.List;
+
 /**
  * 즐겨찾기 쿼리 어댑터 (CQRS Query Adapter)
  */
@@ -58,4 +61,18 @@ public class FavoriteQueryAdapter implements FindFavoritesPort, LoadFavoritesPor
         log.debug("Favorite count for period: {}", count);
         return count;
     }
+
+    @Override
+    public List<Long> findFavoritePromptIds(Long userId, int limit) {
+        Assert.notNull(userId, "userId must not be null");
+        Assert.isTrue(limit > 0, "limit must be positive");
+        return favoriteRepository.findPromptTemplateIdsByUserId(userId, PageRequest.of(0, limit));
+    }
+
+    @Override
+    public List<Long> findFavoritePromptIdsAmong(Long userId, List<Long> promptTemplateIds) {
+        Assert.notNull(userId, "userId must not be null");
+        Assert.notEmpty(promptTemplateIds, "promptTemplateIds must not be empty");
+        return favoriteRepository.findPromptTemplateIdsByUserIdAndPromptTemplateIdsIn(userId, promptTemplateIds);
+    }
 }
@@ -10,6 +10,8 @@ import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.Assert;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -53,4 +55,19 @@ public class LoadTagAdapter implements LoadTagPort {
                 return tag;
             });
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Tag> loadTagsByNames(Collection<String> names) {
+        Assert.notNull(names, "Tag names must not be null");
+        if (names.isEmpty()) {
+            return List.of();
+        }
+        log.debug("Loading {} tags by name", names.size());
+        return tagRepository.findAllByNameIn(names).stream()
+            .map(tagMapper::toDomain)
+            .toList();
+    }
 }
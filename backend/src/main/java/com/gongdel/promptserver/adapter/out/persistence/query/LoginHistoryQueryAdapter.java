@@ -0,0 +1,51 @@
+package com.gongdel.promptserver.adapter.out.persistence.query;
+
+import com.gongdel.promptserver.adapter.out.persistence.mapper.LoginHistoryMapper;
+import com.gongdel.promptserver.adapter.out.persistence.repository.LoginHistoryRepository;
+import com.gongdel.promptserver.application.port.out.query.LoadLoginHistoryPort;
+import com.gongdel.promptserver.domain.exception.UserOperationException;
+import com.gongdel.promptserver.domain.login.LoginHistory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.Assert;
+
+import java.util.List;
+
+/**
+ * 로그인 이력 조회를 담당하는 Query 어댑터입니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class LoginHistoryQueryAdapter implements LoadLoginHistoryPort {
+    private final LoginHistoryRepository loginHistoryRepository;
+    private final LoginHistoryMapper loginHistoryMapper;
+
+    /**
+     * 사용자의 최근 로그인 이력을 최신순으로 조회합니다.
+     *
+     * @param userId 사용자 PK
+     * @param limit  최대 조회 건수
+     * @return 최신순 로그인 이력 목록
+     * @throws UserOperationException 조회 실패 시 발생
+     */
+    @Override
+    public List<LoginHistory> loadRecentLoginHistories(Long userId, int limit) {
+        Assert.notNull(userId, "userId must not be null");
+        Assert.isTrue(limit > 0, "limit must be positive");
+        try {
+            return loginHistoryRepository.findByUserIdOrderByLoginAtDesc(userId, PageRequest.of(0, limit))
+                .stream()
+                .map(loginHistoryMapper::toDomain)
+                .toList();
+        } catch (DataAccessException e) {
+            log.error("Failed to load login histories for userId: {}", userId, e);
+            throw new UserOperationException("Failed to load login histories for userId: " + userId, e);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.gongdel.promptserver.adapter.out.persistence.query;
+
+import com.gongdel.promptserver.adapter.out.persistence.PromptVersionContentStore;
+import com.gongdel.promptserver.adapter.out.persistence.repository.PromptTemplateQueryRepository;
+import com.gongdel.promptserver.application.port.out.query.ExportPromptsPort;
+import com.gongdel.promptserver.domain.model.PromptExportCondition;
+import com.gongdel.promptserver.domain.model.PromptExportRow;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.Assert;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * 프롬프트 내보내기를 위한 어댑터 구현체입니다.
+ * <p>
+ * 커서에서 fetchSize 만큼 행을 모은 뒤 해당 행들의 태그를 한 번의 IN 쿼리로 채워 전달합니다.
+ * 태그 조인으로 행이 곱해지지 않고, 메모리에는 최대 한 블록의 행만 유지됩니다.
+ * 현재 버전이 델타로 저장된 행의 내용도 블록 단위로 한 번에 복원합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class PromptExportAdapter implements ExportPromptsPort {
+
+    /**
+     * 커서 fetchSize이자 태그 조회 블록 크기
+     */
+    static final int FETCH_SIZE = 500;
+
+    private final PromptTemplateQueryRepository promptTemplateQueryRepository;
+    private final PromptVersionContentStore promptVersionContentStore;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long exportPrompts(PromptExportCondition condition, Consumer<PromptExportRow> consumer) {
+        Assert.notNull(condition, "Export condition must not be null");
+        Assert.notNull(consumer, "Consumer must not be null");
+
+        long exported = 0;
+        List<PromptExportRow> block = new ArrayList<>(FETCH_SIZE);
+        try (Stream<PromptExportRow> rows = promptTemplateQueryRepository.streamForExport(condition, FETCH_SIZE)) {
+            Iterator<PromptExportRow> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                block.add(iterator.next());
+                if (block.size() == FETCH_SIZE) {
+                    exported += emitBlock(block, consumer);
+                }
+            }
+            exported += emitBlock(block, consumer);
+        }
+        log.debug("Prompt export cursor closed. Rows: {}", exported);
+        return exported;
+    }
+
+    /**
+     * 블록의 태그와 델타로 저장된 버전 내용을 채워 전달하고 블록을 비웁니다.
+     *
+     * @param block    전달할 행 블록
+     * @param consumer 행을 처리할 함수
+     * @return 전달된 행 수
+     */
+    private int emitBlock(List<PromptExportRow> block, Consumer<PromptExportRow> consumer) {
+        if (block.isEmpty()) {
+            return 0;
+        }
+        Map<Long, List<String>> tagNames = promptTemplateQueryRepository.findTagNamesByPromptIds(
+            block.stream().map(PromptExportRow::getId).toList());
+        Map<Long, String> deltaContents = promptVersionContentStore.contentsByIds(block.stream()
+            .filter(row -> row.getContent() == null && row.getVersionId() != null)
+            .map(PromptExportRow::getVersionId)
+            .toList());
+        for (PromptExportRow row : block) {
+            PromptExportRow resolved = row.getContent() == null && deltaContents.containsKey(row.getVersionId())
+                ? row.withContent(deltaContents.get(row.getVersionId()))
+                : row;
+            consumer.accept(resolved.withTags(tagNames.get(row.getId())));
+        }
+        int emitted = block.size();
+        block.clear();
+        return emitted;
+    }
+}
@@ -1,14 +1,14 @@
 package com.gongdel.promptserver.adapter.out.persistence.query;
 
+import com.gongdel.promptserver.adapter.out.persistence.PromptVersionContentStore;
 import com.gongdel.promptserver.adapter.out.persistence.entity.PromptTemplateEntity;
-import com.gongdel.promptserver.adapter.out.persistence.entity.UserEntity;
 import com.gongdel.promptserver.adapter.out.persistence.mapper.PromptTemplateMapper;
-import com.gongdel.promptserver.adapter.out.persistence.mapper.PromptVersionMapper;
 import com.gongdel.promptserver.adapter.out.persistence.mapper.UserMapper;
 import com.gongdel.promptserver.adapter.out.persistence.repository.*;
 import com.gongdel.promptserver.application.port.in.query.LoadPromptDetailQuery;
 import com.gongdel.promptserver.application.port.out.query.LoadPromptPort;
 import com.gongdel.promptserver.application.port.out.query.LoadPromptTemplateIdPort;
+import com.gongdel.promptserver.application.port.out.query.LoadUserPromptMembershipPort;
 import com.gongdel.promptserver.domain.exception.PromptErrorType;
 import com.gongdel.promptserver.domain.exception.PromptOperationException;
 import com.gongdel.promptserver.domain.model.PromptDetail;
@@ -39,11 +39,10 @@ public class PromptLoadAdapter implements LoadPromptPort, LoadPromptTemplateIdPo
     private final PromptTemplateJpaRepository promptTemplateJpaRepository;
     private final PromptVersionRepository promptVersionRepository;
     private final PromptTemplateMapper promptTemplateMapper;
-    private final PromptVersionMapper promptVersionMapper;
+    private final PromptVersionContentStore promptVersionContentStore;
     private final UserMapper userMapper;
-    private final FavoriteRepository favoriteRepository;
     private final PromptLikeCountRepository promptLikeCountRepository;
-    private final PromptLikeJpaRepository promptLikeJpaRepository;
+    private final LoadUserPromptMembershipPort loadUserPromptMembershipPort;
 
     /**
      * {@inheritDoc}
@@ -117,9 +116,8 @@ public class PromptLoadAdapter implements LoadPromptPort, LoadPromptTemplateIdPo
             .findByPromptTemplateId(entity.getId())
             .map(c -> c.getLikeCount().intValue())
             .orElse(0);
-        boolean isLiked = (currentUserId != null)
-            && promptLikeJpaRepository.existsByUserIdAndPromptTemplateId(currentUserId, entity.getId());
-        boolean isFavorite = favoriteRepository.existsByUserAndPromptTemplate(new UserEntity(currentUserId), entity);
+        boolean isLiked = loadUserPromptMembershipPort.isLiked(currentUserId, entity.getId());
+        boolean isFavorite = loadUserPromptMembershipPort.isFavorite(currentUserId, entity.getId());
 
         return PromptDetail.builder()
             .id(template.getUuid())
@@ -151,7 +149,7 @@ public class PromptLoadAdapter implements LoadPromptPort, LoadPromptTemplateIdPo
         if (currentVersionId == null)
             return null;
         return promptVersionRepository.findById(currentVersionId)
-            .map(promptVersionMapper::toDomain)
+            .map(promptVersionContentStore::toDomain)
             .orElse(null);
     }
 
@@ -2,6 +2,7 @@ package com.gongdel.promptserver.adapter.out.persistence.query;
 
 import com.gongdel.promptserver.adapter.out.persistence.entity.PromptTemplateEntity;
 import com.gongdel.promptserver.adapter.out.persistence.repository.*;
+import com.gongdel.promptserver.application.port.out.query.LoadUserPromptMembershipPort;
 import com.gongdel.promptserver.application.port.out.query.SearchPromptsPort;
 import com.gongdel.promptserver.domain.exception.PromptErrorType;
 import com.gongdel.promptserver.domain.exception.PromptOperationException;
@@ -28,9 +29,8 @@ import java.util.*;
 public class PromptSearchAdapter implements SearchPromptsPort {
 
     private final PromptTemplateQueryRepository promptTemplateQueryRepository;
-    private final FavoriteRepository favoriteRepository;
     private final PromptLikeCountRepository promptLikeCountRepository;
-    private final PromptLikeJpaRepository promptLikeJpaRepository;
+    private final LoadUserPromptMembershipPort loadUserPromptMembershipPort;
 
     /**
      * 프롬프트 검색 조건에 따라 프롬프트 목록을 조회합니다.
@@ -54,7 +54,8 @@ public class PromptSearchAdapter implements SearchPromptsPort {
                 .toList();
 
             // 3. 즐겨찾기 정보 조회
-            Set<Long> favoritePromptIds = getFavoritePromptIds(condition.getUserId(), promptTemplateIds);
+            Set<Long> favoritePromptIds = loadUserPromptMembershipPort
+                .findFavoritePromptIds(condition.getUserId(), promptTemplateIds);
 
             // 4. 좋아요 수 일괄 조회
             Map<Long, Long> likeCountMap = promptLikeCountRepository
@@ -65,10 +66,8 @@ public class PromptSearchAdapter implements SearchPromptsPort {
                     PromptLikeCountProjection::getLikeCount));
 
             // 5. 내가 좋아요 했는지 일괄 조회
-            Set<Long> likedPromptIds = (condition.getUserId() != null && !promptTemplateIds.isEmpty())
-                ? new java.util.HashSet<>(promptLikeJpaRepository
-                .findPromptTemplateIdsLikedByUser(condition.getUserId(), promptTemplateIds))
-                : java.util.Collections.emptySet();
+            Set<Long> likedPromptIds = loadUserPromptMembershipPort
+                .findLikedPromptIds(condition.getUserId(), promptTemplateIds);
 
             // 6. 결과 매핑
             return entityPage.map(entity -> toSearchResult(
@@ -82,18 +81,6 @@ public class PromptSearchAdapter implements SearchPromptsPort {
         }
     }
 
-    private Set<Long> getFavoritePromptIds(Long userId, List<Long> promptTemplateIds) {
-        if (userId == null || promptTemplateIds.isEmpty()) {
-            return Collections.emptySet();
-        }
-        List<Long> ids = favoriteRepository.findPromptTemplateIdsByUserIdAndPromptTemplateIdsIn(userId,
-            promptTemplateIds);
-        if (ids == null || ids.isEmpty()) {
-            return Collections.emptySet();
-        }
-        return new HashSet<>(ids);
-    }
-
     private PromptSearchResult toSearchResult(
         PromptTemplateEntity entity,
         boolean isFavorite,
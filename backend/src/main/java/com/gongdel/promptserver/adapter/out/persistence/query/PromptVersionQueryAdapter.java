@@ -1,13 +1,16 @@
 package com.gongdel.promptserver.adapter.out.persistence.query;
 
+import com.gongdel.promptserver.adapter.out.persistence.PromptVersionContentStore;
 import com.gongdel.promptserver.adapter.out.persistence.entity.PromptVersionEntity;
-import com.gongdel.promptserver.adapter.out.persistence.mapper.PromptVersionMapper;
 import com.gongdel.promptserver.adapter.out.persistence.repository.PromptVersionRepository;
+import com.gongdel.promptserver.adapter.out.persistence.repository.PromptVersionSummaryProjection;
 import com.gongdel.promptserver.application.port.out.query.FindPromptVersionsPort;
 import com.gongdel.promptserver.application.port.out.query.LoadPromptVersionPort;
 import com.gongdel.promptserver.domain.model.PromptVersion;
+import com.gongdel.promptserver.domain.model.PromptVersionSummary;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.Assert;
@@ -15,10 +18,10 @@ import org.springframework.util.Assert;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 /**
  * 프롬프트 버전 조회 포트 구현체입니다. PromptVersionRepository를 사용하여 프롬프트 버전 조회 작업을 수행합니다.
+ * 델타로 저장된 버전의 내용은 {@link PromptVersionContentStore}로 복원합니다.
  */
 @Slf4j
 @Component
@@ -27,7 +30,7 @@ import java.util.stream.Collectors;
 public class PromptVersionQueryAdapter implements FindPromptVersionsPort, LoadPromptVersionPort {
 
     private final PromptVersionRepository promptVersionRepository;
-    private final PromptVersionMapper promptVersionMapper;
+    private final PromptVersionContentStore promptVersionContentStore;
 
     /**
      * 프롬프트 템플릿 ID로 프롬프트 버전 목록을 조회합니다.
@@ -42,9 +45,7 @@ public class PromptVersionQueryAdapter implements FindPromptVersionsPort, LoadPr
             log.debug("Finding prompt versions by template id: {}", promptTemplateId);
             List<PromptVersionEntity> entities = promptVersionRepository.findAllByPromptTemplateId(promptTemplateId);
             log.debug("Found {} prompt versions for template id: {}", entities.size(), promptTemplateId);
-            return entities.stream()
-                .map(promptVersionMapper::toDomain)
-                .collect(Collectors.toList());
+            return promptVersionContentStore.toDomainList(entities);
         } catch (Exception e) {
             log.error("Failed to find prompt versions by template id: {}. Error: {}", promptTemplateId,
                 e.getMessage(),
@@ -53,6 +54,31 @@ public class PromptVersionQueryAdapter implements FindPromptVersionsPort, LoadPr
         }
     }
 
+    /**
+     * 프롬프트 템플릿의 버전 요약 목록을 버전 번호 내림차순으로 조회합니다.
+     * 요약 프로젝션만 읽으므로 본문 복원이나 입력 변수 JSON 파싱이 일어나지 않습니다.
+     *
+     * @param promptTemplateId    조회할 프롬프트 템플릿의 ID
+     * @param beforeVersionNumber 이 번호보다 이전 버전만 조회 (null이면 최신 버전부터)
+     * @param limit               최대 조회 건수
+     * @return 프롬프트 버전 요약 목록
+     */
+    @Override
+    public List<PromptVersionSummary> findPromptVersionSummaries(Long promptTemplateId, Integer beforeVersionNumber,
+                                                                 int limit) {
+        Assert.notNull(promptTemplateId, "PromptTemplateId must not be null");
+        Assert.isTrue(limit > 0, "Limit must be positive");
+        log.debug("Finding prompt version summaries: templateId={}, before={}, limit={}", promptTemplateId,
+            beforeVersionNumber, limit);
+        PageRequest pageRequest = PageRequest.of(0, limit);
+        List<PromptVersionSummaryProjection> projections = beforeVersionNumber == null
+            ? promptVersionRepository.findSummaries(promptTemplateId, pageRequest)
+            : promptVersionRepository.findSummariesBefore(promptTemplateId, beforeVersionNumber, pageRequest);
+        return projections.stream()
+            .map(this::toSummary)
+            .toList();
+    }
+
     /**
      * UUID로 프롬프트 버전을 단건 조회합니다.
      *
@@ -70,7 +96,7 @@ public class PromptVersionQueryAdapter implements FindPromptVersionsPort, LoadPr
                 return Optional.empty();
             }
             log.info("Prompt version found with uuid: {}", uuid);
-            return entityOpt.map(versionEntity -> promptVersionMapper.toDomain(versionEntity));
+            return entityOpt.map(promptVersionContentStore::toDomain);
         } catch (Exception e) {
             log.error("Failed to load prompt version by uuid: {}. Error: {}", uuid, e.getMessage(), e);
             throw e;
@@ -88,10 +114,22 @@ public class PromptVersionQueryAdapter implements FindPromptVersionsPort, LoadPr
                 return Optional.empty();
             }
             log.info("Prompt version found with id: {}", id);
-            return entityOpt.map(promptVersionMapper::toDomain);
+            return entityOpt.map(promptVersionContentStore::toDomain);
         } catch (Exception e) {
             log.error("Failed to load prompt version by id: {}. Error: {}", id, e.getMessage(), e);
             throw e;
         }
     }
+
+    private PromptVersionSummary toSummary(PromptVersionSummaryProjection projection) {
+        return PromptVersionSummary.builder()
+            .id(projection.getId())
+            .uuid(projection.getUuid())
+            .versionNumber(projection.getVersionNumber())
+            .actionType(projection.getActionType())
+            .createdById(projection.getCreatedById())
+            .authorName(projection.getAuthorName())
+            .createdAt(projection.getCreatedAt())
+            .build();
+    }
 }
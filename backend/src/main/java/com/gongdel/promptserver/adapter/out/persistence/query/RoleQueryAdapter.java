@@ -8,17 +8,28 @@ import com.gongdel.promptserver.domain.role.Role;
 import com.gongdel.promptserver.domain.role.RoleDomainException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.Assert;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * 역할(Role) 엔티티의 조회를 담당하는 CQRS 어댑터입니다.
  * 역할 정보를 조회하는 모든 쿼리 작업을 처리합니다.
+ * <p>
+ * 역할 정의는 수가 적고 거의 변경되지 않으므로 전체 목록을 메모리에 적재해 두고 조회합니다.
+ * 적재된 목록에 없는 역할을 조회하면 다시 적재하되, 마지막 적재 후 설정된 간격이 지나지 않았으면 다시 적재하지 않고
+ * 없는 역할로 판단합니다. 존재하지 않는 역할의 반복 조회가 매번 전체 목록 조회로 이어지지 않도록 하기 위함이며,
+ * 동시에 발생한 재적재 요청은 한 번의 조회로 합칩니다. 그 외의 변경은 주기적인 재적재로 반영합니다.
  */
 @Slf4j
 @Component
@@ -28,6 +39,17 @@ public class RoleQueryAdapter implements LoadRolePort, FindRolesPort {
     private final RoleRepository roleJpaRepository;
     private final RoleMapper roleMapper;
 
+    /**
+     * 조회 실패로 인한 재적재 사이의 최소 간격(초)
+     */
+    @Value("${role.miss-reload-interval-seconds:30}")
+    private long missReloadIntervalSeconds;
+
+    /**
+     * 메모리에 적재된 역할 정의 (최초 조회 전에는 null)
+     */
+    private volatile RoleSnapshot snapshot;
+
     /**
      * ID를 기반으로 역할을 조회합니다.
      *
@@ -40,8 +62,7 @@ public class RoleQueryAdapter implements LoadRolePort, FindRolesPort {
         try {
             Assert.notNull(id, "Role ID must not be null");
             log.debug("Loading role by ID: {}", id);
-            return roleJpaRepository.findById(id)
-                .map(roleMapper::toDomain);
+            return lookup(roles -> roles.byId().get(id));
         } catch (DataAccessException e) {
             log.error("Database error while loading role with ID: {}", id, e);
             throw new RoleDomainException("Database error while loading role", e);
@@ -63,9 +84,7 @@ public class RoleQueryAdapter implements LoadRolePort, FindRolesPort {
         try {
             Assert.hasText(name, "Role name must not be empty");
             log.debug("Loading role by name: {}", name);
-
-            return roleJpaRepository.findByName(name)
-                .map(roleMapper::toDomain);
+            return lookup(roles -> roles.byName().get(name));
         } catch (DataAccessException e) {
             log.error("Database error while loading role with name: {}", name, e);
             throw new RoleDomainException("Database error while loading role", e);
@@ -86,10 +105,7 @@ public class RoleQueryAdapter implements LoadRolePort, FindRolesPort {
         log.debug("Finding all roles");
 
         try {
-            List<Role> roles = roleJpaRepository.findAll()
-                .stream()
-                .map(roleMapper::toDomain)
-                .toList();
+            List<Role> roles = currentSnapshot().roles();
 
             log.debug("Found {} roles", roles.size());
             return roles;
@@ -101,4 +117,76 @@ public class RoleQueryAdapter implements LoadRolePort, FindRolesPort {
             throw new RoleDomainException("Failed to find all roles", e);
         }
     }
+
+    /**
+     * 10분마다 역할 정의를 다시 적재합니다.
+     * 적재에 실패하면 기존 목록을 유지하고 다음 주기에 다시 시도합니다.
+     */
+    @Scheduled(fixedDelay = 10, initialDelay = 10, timeUnit = TimeUnit.MINUTES)
+    public void refreshRoles() {
+        try {
+            reload();
+        } catch (Exception e) {
+            log.warn("Failed to refresh role definitions, keeping previous snapshot", e);
+        }
+    }
+
+    /**
+     * 적재된 목록에서 역할을 찾고, 없으면 재적재 간격이 지난 경우에만 다시 적재한 뒤 찾습니다.
+     */
+    private Optional<Role> lookup(Function<RoleSnapshot, Role> finder) {
+        RoleSnapshot current = snapshot;
+        if (current != null) {
+            Role role = finder.apply(current);
+            if (role != null) {
+                return Optional.of(role);
+            }
+            if (!current.isOlderThan(TimeUnit.SECONDS.toNanos(missReloadIntervalSeconds))) {
+                log.debug("Role not found in snapshot loaded recently, skipping reload");
+                return Optional.empty();
+            }
+        }
+        return Optional.ofNullable(finder.apply(reloadAfterMiss(current)));
+    }
+
+    /**
+     * 조회 실패로 다시 적재합니다. 다른 스레드가 먼저 다시 적재했다면 그 결과를 사용합니다.
+     */
+    private synchronized RoleSnapshot reloadAfterMiss(RoleSnapshot observed) {
+        RoleSnapshot current = snapshot;
+        if (current != null && current != observed) {
+            return current;
+        }
+        return reload();
+    }
+
+    private RoleSnapshot currentSnapshot() {
+        RoleSnapshot current = snapshot;
+        return current != null ? current : reload();
+    }
+
+    private RoleSnapshot reload() {
+        List<Role> roles = roleJpaRepository.findAll()
+            .stream()
+            .map(roleMapper::toDomain)
+            .toList();
+        RoleSnapshot loaded = new RoleSnapshot(roles,
+            roles.stream().collect(Collectors.toUnmodifiableMap(Role::getId, Function.identity())),
+            roles.stream().collect(Collectors.toUnmodifiableMap(Role::getName, Function.identity())),
+            System.nanoTime());
+        snapshot = loaded;
+        log.debug("Loaded {} role definitions", roles.size());
+        return loaded;
+    }
+
+    /**
+     * 한 번에 적재된 역할 정의와 ID/이름 색인, 적재 시각
+     */
+    private record RoleSnapshot(List<Role> roles, Map<Long, Role> byId, Map<String, Role> byName,
+                                long loadedAtNanos) {
+
+        boolean isOlderThan(long intervalNanos) {
+            return System.nanoTime() - loadedAtNanos >= intervalNanos;
+        }
+    }
 }
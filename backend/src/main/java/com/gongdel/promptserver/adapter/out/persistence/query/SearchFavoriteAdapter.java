@@ -7,7 +7,7 @@ import com.gongdel.promptserver.adapter.out.persistence.entity.favorite.Favorite
 import com.gongdel.promptserver.adapter.out.persistence.repository.FavoriteQueryRepository;
 import com.gongdel.promptserver.adapter.out.persistence.repository.PromptLikeCountProjection;
 import com.gongdel.promptserver.adapter.out.persistence.repository.PromptLikeCountRepository;
-import com.gongdel.promptserver.adapter.out.persistence.repository.PromptLikeJpaRepository;
+import com.gongdel.promptserver.application.port.out.query.LoadUserPromptMembershipPort;
 import com.gongdel.promptserver.application.port.out.query.SearchFavoritePort;
 import com.gongdel.promptserver.domain.model.PromptStats;
 import com.gongdel.promptserver.domain.model.favorite.FavoritePromptResult;
@@ -15,14 +15,15 @@ import com.gongdel.promptserver.domain.model.favorite.FavoriteSearchCondition;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.Assert;
 
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -37,7 +38,7 @@ public class SearchFavoriteAdapter implements SearchFavoritePort {
 
     private final FavoriteQueryRepository favoriteQueryRepository;
     private final PromptLikeCountRepository promptLikeCountRepository;
-    private final PromptLikeJpaRepository promptLikeJpaRepository;
+    private final LoadUserPromptMembershipPort loadUserPromptMembershipPort;
 
     /**
      * `
@@ -48,9 +49,31 @@ public class SearchFavoriteAdapter implements SearchFavoritePort {
         Assert.notNull(condition, "검색 조건은 null일 수 없습니다.");
         log.debug("Searching favorites with condition: {}", condition);
         Page<FavoriteEntity> entityPage = favoriteQueryRepository.searchFavorites(condition);
+        return entityPage.map(createResultMapper(entityPage.getContent(), condition.getUserId()));
+    }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Slice<FavoritePromptResult> scrollFavorites(FavoriteSearchCondition condition) {
+        Assert.notNull(condition, "검색 조건은 null일 수 없습니다.");
+        log.debug("Scrolling favorites with condition: {}", condition);
+        Slice<FavoriteEntity> entitySlice = favoriteQueryRepository.scrollFavorites(condition);
+        return entitySlice.map(createResultMapper(entitySlice.getContent(), condition.getUserId()));
+    }
+
+    /**
+     * 조회된 즐겨찾기의 좋아요 수와 좋아요 여부를 일괄 조회하여 결과 변환 함수를 생성합니다.
+     *
+     * @param entities 조회된 즐겨찾기 엔티티 목록
+     * @param userId   사용자 ID
+     * @return 엔티티를 결과로 변환하는 함수
+     */
+    private Function<FavoriteEntity, FavoritePromptResult> createResultMapper(List<FavoriteEntity> entities,
+                                                                              Long userId) {
         // 프롬프트 ID 목록 추출
-        List<Long> promptIds = entityPage.getContent().stream()
+        List<Long> promptIds = entities.stream()
             .map(e -> e.getPromptTemplate().getId())
             .toList();
 
@@ -63,16 +86,14 @@ public class SearchFavoriteAdapter implements SearchFavoritePort {
                 PromptLikeCountProjection::getLikeCount));
 
         // 내가 좋아요한 프롬프트 ID 일괄 조회
-        Set<Long> likedPromptIds = (condition.getUserId() != null && !promptIds.isEmpty())
-            ? new HashSet<>(
-            promptLikeJpaRepository.findPromptTemplateIdsLikedByUser(condition.getUserId(), promptIds))
-            : java.util.Collections.emptySet();
+        Set<Long> likedPromptIds = loadUserPromptMembershipPort
+            .findLikedPromptIds(userId, promptIds);
 
         // 결과 매핑 (likeCount, isLiked 반영)
-        return entityPage.map(entity -> toFavoritePromptResult(
+        return entity -> toFavoritePromptResult(
             entity,
             likeCountMap.getOrDefault(entity.getPromptTemplate().getId(), 0L),
-            likedPromptIds.contains(entity.getPromptTemplate().getId())));
+            likedPromptIds.contains(entity.getPromptTemplate().getId()));
     }
 
     /**
@@ -1,8 +1,13 @@
 package com.gongdel.promptserver.adapter.out.persistence.query;
 
+import com.gongdel.promptserver.adapter.out.persistence.entity.UserAuthenticationEntity;
+import com.gongdel.promptserver.adapter.out.persistence.entity.UserEntity;
+import com.gongdel.promptserver.adapter.out.persistence.mapper.UserAuthenticationMapper;
 import com.gongdel.promptserver.adapter.out.persistence.mapper.UserMapper;
 import com.gongdel.promptserver.adapter.out.persistence.repository.UserJpaRepository;
+import com.gongdel.promptserver.application.port.out.query.LoadUserCredentialsPort;
 import com.gongdel.promptserver.application.port.out.query.LoadUserPort;
+import com.gongdel.promptserver.application.port.out.query.UserCredentials;
 import com.gongdel.promptserver.domain.exception.UserOperationException;
 import com.gongdel.promptserver.domain.user.Email;
 import com.gongdel.promptserver.domain.user.User;
@@ -14,6 +19,8 @@ import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.Assert;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -23,9 +30,10 @@ import java.util.Optional;
 @Component
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
-public class UserQueryAdapter implements LoadUserPort {
+public class UserQueryAdapter implements LoadUserPort, LoadUserCredentialsPort {
     private final UserJpaRepository userJpaRepository;
     private final UserMapper userMapper;
+    private final UserAuthenticationMapper userAuthenticationMapper;
 
     /**
      * UUID로 사용자를 조회합니다.
@@ -95,4 +103,46 @@ public class UserQueryAdapter implements LoadUserPort {
             throw new UserOperationException("Unexpected error while loading user by id: " + id, e);
         }
     }
+
+    /**
+     * 이메일로 사용자, 인증 정보, 역할 이름을 한 번의 조인 쿼리로 조회합니다.
+     *
+     * @param email 사용자 이메일 값 객체
+     * @return 조회된 인증 정보 (Optional)
+     * @throws UserOperationException   조회 실패 시 발생
+     * @throws IllegalArgumentException email이 null인 경우 발생
+     */
+    @Override
+    public Optional<UserCredentials> loadUserCredentialsByEmail(Email email) {
+        Assert.notNull(email, "email must not be null");
+        try {
+            List<Object[]> rows = userJpaRepository.findCredentialRowsByEmail(email.getValue());
+            if (rows.isEmpty()) {
+                return Optional.empty();
+            }
+            Object[] first = rows.get(0);
+            List<String> roleNames = new ArrayList<>(rows.size());
+            List<Long> missingRoleIds = new ArrayList<>();
+            for (Object[] row : rows) {
+                if (row[2] != null) {
+                    roleNames.add((String) row[2]);
+                } else if (row[3] != null) {
+                    missingRoleIds.add((Long) row[3]);
+                }
+            }
+            UserAuthenticationEntity authEntity = (UserAuthenticationEntity) first[1];
+            return Optional.of(new UserCredentials(
+                userMapper.toDomain((UserEntity) first[0]),
+                authEntity != null ? userAuthenticationMapper.toDomain(authEntity) : null,
+                roleNames,
+                missingRoleIds));
+        } catch (DataAccessException e) {
+            log.error("Failed to load user credentials by email: {}", email.getValue(), e);
+            throw new UserOperationException("Failed to load user credentials by email: " + email.getValue(), e);
+        } catch (Exception e) {
+            log.error("Unexpected error while loading user credentials by email: {}", email.getValue(), e);
+            throw new UserOperationException(
+                "Unexpected error while loading user credentials by email: " + email.getValue(), e);
+        }
+    }
 }
@@ -0,0 +1,99 @@
+package com.gongdel.promptserver.adapter.out.persistence.repository;
+
+import com.gongdel.promptserver.adapter.out.persistence.entity.CategoryClosureEntity;
+import com.gongdel.promptserver.adapter.out.persistence.entity.CategoryClosureId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * 카테고리 클로저 테이블 JPA 리포지토리입니다.
+ * <p>
+ * category_closure 테이블의 경로 행을 카테고리 생성, 상위 변경, 삭제에 맞춰 집합 단위 SQL로 유지합니다.
+ * </p>
+ */
+public interface CategoryClosureRepository extends JpaRepository<CategoryClosureEntity, CategoryClosureId> {
+
+    /**
+     * ancestorId가 descendantId의 조상(자기 자신 포함)인지 확인합니다.
+     *
+     * @param ancestorId   조상 카테고리 ID
+     * @param descendantId 자손 카테고리 ID
+     * @return 존재 여부
+     */
+    boolean existsByAncestorIdAndDescendantId(Long ancestorId, Long descendantId);
+
+    /**
+     * 지정한 거리의 조상-자손 경로가 있는지 확인합니다. depth 1은 직접 상위 관계입니다.
+     *
+     * @param ancestorId   조상 카테고리 ID
+     * @param descendantId 자손 카테고리 ID
+     * @param depth        거리
+     * @return 존재 여부
+     */
+    boolean existsByAncestorIdAndDescendantIdAndDepth(Long ancestorId, Long descendantId, int depth);
+
+    /**
+     * 자손 카테고리가 지정한 거리의 조상을 가지는지 확인합니다. depth 1이 없으면 최상위 카테고리입니다.
+     *
+     * @param descendantId 자손 카테고리 ID
+     * @param depth        거리
+     * @return 존재 여부
+     */
+    boolean existsByDescendantIdAndDepth(Long descendantId, int depth);
+
+    /**
+     * 카테고리 계층 변경을 직렬화하는 트랜잭션 범위 advisory lock을 획득합니다. 다른 트랜잭션이 잡고 있으면 끝날 때까지
+     * 대기하며, 잠금은 현재 트랜잭션이 끝날 때 해제됩니다.
+     *
+     * @return 항상 1
+     */
+    @Query(value = "SELECT 1 FROM pg_advisory_xact_lock(hashtext('category_closure'))", nativeQuery = true)
+    Integer lockHierarchy();
+
+    /**
+     * 카테고리 자기 자신에 대한 경로(depth 0)를 추가합니다.
+     *
+     * @param categoryId 카테고리 ID
+     * @return 추가된 행 수
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO category_closure (ancestor_id, descendant_id, depth)
+            VALUES (:categoryId, :categoryId, 0)
+        """, nativeQuery = true)
+    int insertSelfPath(@Param("categoryId") Long categoryId);
+
+    /**
+     * 카테고리의 하위 트리(자기 자신 포함) 전체를 새 상위 카테고리의 모든 조상 아래에 연결합니다.
+     *
+     * @param categoryId 연결할 하위 트리의 루트 카테고리 ID
+     * @param parentId   새 상위 카테고리 ID
+     * @return 추가된 행 수
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO category_closure (ancestor_id, descendant_id, depth)
+            SELECT a.ancestor_id, d.descendant_id, a.depth + d.depth + 1
+            FROM category_closure a
+            CROSS JOIN category_closure d
+            WHERE a.descendant_id = :parentId
+              AND d.ancestor_id = :categoryId
+        """, nativeQuery = true)
+    int attachSubtree(@Param("categoryId") Long categoryId, @Param("parentId") Long parentId);
+
+    /**
+     * 카테고리의 하위 트리(자기 자신 포함)를 기존 조상들로부터 분리합니다. 하위 트리 내부 경로는 유지됩니다.
+     *
+     * @param categoryId 분리할 하위 트리의 루트 카테고리 ID
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query(value = """
+            DELETE FROM category_closure
+            WHERE descendant_id IN (SELECT descendant_id FROM category_closure WHERE ancestor_id = :categoryId)
+              AND ancestor_id NOT IN (SELECT descendant_id FROM category_closure WHERE ancestor_id = :categoryId)
+        """, nativeQuery = true)
+    int detachSubtree(@Param("categoryId") Long categoryId);
+}
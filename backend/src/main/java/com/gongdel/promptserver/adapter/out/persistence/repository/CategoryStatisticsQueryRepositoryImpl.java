@@ -1,11 +1,12 @@
 package com.gongdel.promptserver.adapter.out.persistence.repository;
 
+import com.gongdel.promptserver.adapter.out.persistence.entity.QCategoryClosureEntity;
 import com.gongdel.promptserver.adapter.out.persistence.entity.QCategoryEntity;
 import com.gongdel.promptserver.adapter.out.persistence.entity.QPromptTemplateEntity;
+import com.gongdel.promptserver.domain.model.statistics.CategoryDirectPromptCount;
 import com.gongdel.promptserver.domain.model.statistics.CategoryPromptCount;
 import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.impl.JPAQueryFactory;
-import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Repository;
@@ -14,44 +15,40 @@ import org.springframework.util.Assert;
 import java.util.List;
 
 /**
- * QueryDSL 및 네이티브 쿼리 기반 카테고리별 프롬프트 개수 집계용 Repository 구현체입니다.
+ * QueryDSL 기반 카테고리별 프롬프트 개수 집계용 Repository 구현체입니다.
  */
 @Slf4j
 @Repository
 @RequiredArgsConstructor
 public class CategoryStatisticsQueryRepositoryImpl implements CategoryStatisticsQueryRepository {
 
-    private static final String ROOT_CATEGORY_PROMPT_COUNT_SQL = """
-        WITH RECURSIVE category_tree AS (
-            SELECT id AS category_id, id AS root_id
-            FROM categories
-            WHERE parent_category_id IS NULL
-            UNION ALL
-            SELECT c.id AS category_id, ct.root_id
-            FROM categories c
-            JOIN category_tree ct ON c.parent_category_id = ct.category_id
-        )
-        SELECT ct.root_id, r.name AS root_name, COUNT(p.id) AS prompt_count
-        FROM category_tree ct
-        JOIN categories r ON ct.root_id = r.id
-        LEFT JOIN prompt_templates p ON p.category_id = ct.category_id
-        GROUP BY ct.root_id, r.name
-        ORDER BY ct.root_id
-        """;
     private final JPAQueryFactory queryFactory;
-    private final EntityManager entityManager;
 
     /**
      * 루트 카테고리별(모든 하위 포함) 프롬프트 개수 목록을 집계합니다.
      * <p>
-     * 재귀 CTE 기반 네이티브 쿼리를 사용합니다.
+     * 카테고리 클로저 테이블로 루트의 하위 트리를 조인하므로 재귀 없이 한 번의 집계로 계산합니다.
      *
      * @return 루트 카테고리별 프롬프트 개수 목록
      */
     @Override
     public List<CategoryPromptCount> findRootCategoryPromptCounts() {
-        List<Object[]> results = entityManager.createNativeQuery(ROOT_CATEGORY_PROMPT_COUNT_SQL).getResultList();
-        return mapToCategoryPromptCount(results);
+        QCategoryEntity root = QCategoryEntity.categoryEntity;
+        QCategoryClosureEntity closure = QCategoryClosureEntity.categoryClosureEntity;
+        QPromptTemplateEntity prompt = QPromptTemplateEntity.promptTemplateEntity;
+
+        return queryFactory
+            .select(Projections.constructor(CategoryPromptCount.class,
+                root.id,
+                root.name,
+                prompt.id.count()))
+            .from(root)
+            .join(closure).on(closure.ancestorId.eq(root.id))
+            .leftJoin(prompt).on(prompt.category.id.eq(closure.descendantId))
+            .where(root.parentCategory.isNull())
+            .groupBy(root.id, root.name)
+            .orderBy(root.id.asc())
+            .fetch();
     }
 
     /**
@@ -79,19 +76,28 @@ public class CategoryStatisticsQueryRepositoryImpl implements CategoryStatistics
     }
 
     /**
-     * 네이티브 쿼리 결과를 CategoryPromptCount 리스트로 변환합니다.
+     * 모든 카테고리의 상위 카테고리와 직접 속한 프롬프트 개수 목록을 집계합니다.
+     * <p>
+     * 카테고리와 프롬프트를 한 번 조인하여 집계하며, 하위 포함 개수는 호출 측에서 트리로 계산합니다.
      *
-     * @param results 네이티브 쿼리 결과
-     * @return CategoryPromptCount 리스트
+     * @return 카테고리별 직접 프롬프트 개수 목록
      */
-    private List<CategoryPromptCount> mapToCategoryPromptCount(List<Object[]> results) {
-        return results.stream()
-            .map(row -> {
-                Long rootId = ((Number) row[0]).longValue();
-                String rootName = (String) row[1];
-                Long promptCount = ((Number) row[2]).longValue();
-                return new CategoryPromptCount(rootId, rootName, promptCount);
-            })
-            .toList();
+    @Override
+    public List<CategoryDirectPromptCount> findCategoryDirectPromptCounts() {
+        QCategoryEntity category = QCategoryEntity.categoryEntity;
+        QCategoryEntity parent = new QCategoryEntity("parent");
+        QPromptTemplateEntity prompt = QPromptTemplateEntity.promptTemplateEntity;
+
+        return queryFactory
+            .select(Projections.constructor(CategoryDirectPromptCount.class,
+                category.id,
+                category.name,
+                parent.id,
+                prompt.id.count()))
+            .from(category)
+            .leftJoin(category.parentCategory, parent)
+            .leftJoin(prompt).on(prompt.category.id.eq(category.id))
+            .groupBy(category.id, category.name, parent.id)
+            .fetch();
     }
 }
@@ -0,0 +1,23 @@
+package com.gongdel.promptserver.adapter.out.persistence.repository;
+
+import com.gongdel.promptserver.adapter.out.persistence.entity.ContentBlobEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.Set;
+
+@Repository
+public interface ContentBlobRepository extends JpaRepository<ContentBlobEntity, String> {
+
+    /**
+     * 주어진 해시 중 이미 저장된 본문 블롭의 해시를 조회합니다.
+     *
+     * @param hashes 조회할 SHA-256 해시 목록
+     * @return 이미 존재하는 해시 집합
+     */
+    @Query("SELECT b.sha256 FROM ContentBlobEntity b WHERE b.sha256 IN :hashes")
+    Set<String> findExistingHashes(@Param("hashes") Collection<String> hashes);
+}
@@ -3,6 +3,7 @@ package com.gongdel.promptserver.adapter.out.persistence.repository;
 import com.gongdel.promptserver.adapter.out.persistence.entity.favorite.FavoriteEntity;
 import com.gongdel.promptserver.domain.model.favorite.FavoriteSearchCondition;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 /**
  * QueryDSL 기반 즐겨찾기 검색 전용 레포지토리입니다.
@@ -16,4 +17,13 @@ public interface FavoriteQueryRepository {
      * @return 즐겨찾기 엔티티 페이지
      */
     Page<FavoriteEntity> searchFavorites(FavoriteSearchCondition condition);
+
+    /**
+     * 즐겨찾기를 최신순으로 커서 기반 조회합니다. 전체 개수는 조회하지 않습니다.
+     *
+     * @param condition 즐겨찾기 검색 조건 (cursor가 null이면 첫 페이지)
+     * @return 즐겨찾기 엔티티 슬라이스
+     * @throws IllegalArgumentException 사용자의 즐겨찾기가 아닌 커서인 경우
+     */
+    Slice<FavoriteEntity> scrollFavorites(FavoriteSearchCondition condition);
 }
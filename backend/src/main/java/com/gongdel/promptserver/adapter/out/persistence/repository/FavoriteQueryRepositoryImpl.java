@@ -6,84 +6,138 @@ import com.gongdel.promptserver.adapter.out.persistence.entity.QTagEntity;
 import com.gongdel.promptserver.adapter.out.persistence.entity.favorite.FavoriteEntity;
 import com.gongdel.promptserver.adapter.out.persistence.entity.favorite.QFavoriteEntity;
 import com.gongdel.promptserver.domain.model.favorite.FavoriteSearchCondition;
+import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.dsl.BooleanExpression;
-import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
  * QueryDSL 기반 즐겨찾기 검색 전용 레포지토리 구현체입니다.
  * 동적 조건, 페이징, 정렬, 키워드 등 복합 검색을 지원합니다.
+ * <p>
+ * 태그는 검색어가 있을 때만 EXISTS 서브쿼리로 확인하여 목록 쿼리에 태그 조인과 DISTINCT가 생기지 않도록 하고,
+ * 전체 개수는 필요한 경우에만 조회합니다.
  */
 @Repository
 @RequiredArgsConstructor
 public class FavoriteQueryRepositoryImpl implements FavoriteQueryRepository {
 
+    private static final QFavoriteEntity favorite = QFavoriteEntity.favoriteEntity;
+    private static final QPromptTemplateEntity prompt = QPromptTemplateEntity.promptTemplateEntity;
+
     private final JPAQueryFactory queryFactory;
 
     @Override
     public Page<FavoriteEntity> searchFavorites(FavoriteSearchCondition condition) {
-        QFavoriteEntity favorite = QFavoriteEntity.favoriteEntity;
-        QPromptTemplateEntity prompt = QPromptTemplateEntity.promptTemplateEntity;
-        QPromptTemplateTagEntity tagRel = QPromptTemplateTagEntity.promptTemplateTagEntity;
-        QTagEntity tag = QTagEntity.tagEntity;
-
         Pageable pageable = condition.getPageable();
+        BooleanExpression keywordPredicate = buildSearchKeywordPredicate(condition.getSearchKeyword());
 
-        // 기본 조인 및 where
-        JPAQuery<FavoriteEntity> query = queryFactory.selectFrom(favorite)
+        List<FavoriteEntity> content = queryFactory.selectFrom(favorite)
             .join(favorite.promptTemplate, prompt).fetchJoin()
-            .leftJoin(prompt.tagRelations, tagRel)
-            .leftJoin(tagRel.tag, tag)
-            .where(
-                favorite.user.id.eq(condition.getUserId()),
-                buildSearchKeywordPredicate(condition.getSearchKeyword(), prompt, tag))
-            .distinct();
+            .where(favorite.user.id.eq(condition.getUserId()), keywordPredicate)
+            .orderBy(buildOrderSpecifiers(condition.getSortType()))
+            .offset(pageable.getOffset())
+            .limit(pageable.getPageSize())
+            .fetch();
+
+        // 마지막 페이지처럼 개수를 알 수 있는 경우에는 count 쿼리를 생략합니다.
+        return PageableExecutionUtils.getPage(content, pageable,
+            () -> countFavorites(condition.getUserId(), keywordPredicate));
+    }
 
-        // 정렬 처리
-        if (condition.getSortType() != null) {
-            switch (condition.getSortType()) {
-                case "title" -> query.orderBy(prompt.title.asc());
-                case "createdAt" -> query.orderBy(favorite.createdAt.desc());
-                default -> query.orderBy(favorite.createdAt.desc());
+    @Override
+    public Slice<FavoriteEntity> scrollFavorites(FavoriteSearchCondition condition) {
+        int size = condition.getPageable().getPageSize();
+        BooleanExpression cursorPredicate = null;
+        if (condition.getCursor() != null) {
+            LocalDateTime cursorCreatedAt = queryFactory.select(favorite.createdAt)
+                .from(favorite)
+                .where(favorite.id.eq(condition.getCursor()), favorite.user.id.eq(condition.getUserId()))
+                .fetchOne();
+            if (cursorCreatedAt == null) {
+                throw new IllegalArgumentException("Invalid favorite cursor: " + condition.getCursor());
             }
-        } else {
-            query.orderBy(favorite.createdAt.desc());
+            cursorPredicate = favorite.createdAt.lt(cursorCreatedAt)
+                .or(favorite.createdAt.eq(cursorCreatedAt).and(favorite.id.lt(condition.getCursor())));
         }
 
-        // 페이징
-        List<FavoriteEntity> content = query
-            .offset(pageable.getOffset())
-            .limit(pageable.getPageSize())
+        // (user_id, created_at DESC, id DESC) 인덱스 순서대로 size + 1건을 읽어 다음 페이지 여부를 판단합니다.
+        List<FavoriteEntity> content = queryFactory.selectFrom(favorite)
+            .join(favorite.promptTemplate, prompt).fetchJoin()
+            .where(
+                favorite.user.id.eq(condition.getUserId()),
+                cursorPredicate,
+                buildSearchKeywordPredicate(condition.getSearchKeyword()))
+            .orderBy(favorite.createdAt.desc(), favorite.id.desc())
+            .limit(size + 1L)
             .fetch();
 
-        // count 쿼리
-        long total = queryFactory.selectFrom(favorite)
+        boolean hasNext = content.size() > size;
+        List<FavoriteEntity> page = hasNext ? content.subList(0, size) : content;
+        return new SliceImpl<>(page, condition.getPageable(), hasNext);
+    }
+
+    /**
+     * 사용자의 즐겨찾기 개수를 조회합니다. 검색어가 없으면 favorites 테이블만 집계합니다.
+     */
+    private long countFavorites(Long userId, BooleanExpression keywordPredicate) {
+        if (keywordPredicate == null) {
+            Long count = queryFactory.select(favorite.count())
+                .from(favorite)
+                .where(favorite.user.id.eq(userId))
+                .fetchOne();
+            return count != null ? count : 0L;
+        }
+        Long count = queryFactory.select(favorite.count())
+            .from(favorite)
             .join(favorite.promptTemplate, prompt)
-            .leftJoin(prompt.tagRelations, tagRel)
-            .leftJoin(tagRel.tag, tag)
-            .where(
-                favorite.user.id.eq(condition.getUserId()),
-                buildSearchKeywordPredicate(condition.getSearchKeyword(), prompt, tag))
-            .distinct()
-            .fetchCount();
+            .where(favorite.user.id.eq(userId), keywordPredicate)
+            .fetchOne();
+        return count != null ? count : 0L;
+    }
 
-        return new PageImpl<>(content, pageable, total);
+    /**
+     * 정렬 타입("속성,방향")을 정렬 조건으로 변환합니다. 동일 값 사이의 순서는 즐겨찾기 ID로 고정합니다.
+     */
+    private OrderSpecifier<?>[] buildOrderSpecifiers(String sortType) {
+        String property = "createdAt";
+        boolean ascending = false;
+        if (sortType != null && !sortType.isBlank()) {
+            String[] parts = sortType.split(",");
+            property = parts[0].trim();
+            ascending = parts.length > 1 && "asc".equalsIgnoreCase(parts[1].trim());
+        }
+        if ("title".equals(property)) {
+            return new OrderSpecifier<?>[]{
+                ascending ? prompt.title.asc() : prompt.title.desc(), favorite.id.desc()};
+        }
+        return ascending
+            ? new OrderSpecifier<?>[]{favorite.createdAt.asc(), favorite.id.asc()}
+            : new OrderSpecifier<?>[]{favorite.createdAt.desc(), favorite.id.desc()};
     }
 
-    private BooleanExpression buildSearchKeywordPredicate(String keyword, QPromptTemplateEntity prompt,
-                                                          QTagEntity tag) {
+    private BooleanExpression buildSearchKeywordPredicate(String keyword) {
         if (keyword == null || keyword.isBlank()) {
             return null;
         }
+        QPromptTemplateTagEntity tagRel = QPromptTemplateTagEntity.promptTemplateTagEntity;
+        QTagEntity tag = QTagEntity.tagEntity;
         return prompt.title.containsIgnoreCase(keyword)
             .or(prompt.description.containsIgnoreCase(keyword))
-            .or(tag.name.containsIgnoreCase(keyword));
+            .or(JPAExpressions.selectOne()
+                .from(tagRel)
+                .join(tagRel.tag, tag)
+                .where(tagRel.promptTemplate.eq(prompt), tag.name.containsIgnoreCase(keyword))
+                .exists());
     }
 }
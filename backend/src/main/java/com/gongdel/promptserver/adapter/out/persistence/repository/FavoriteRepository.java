@@ -3,6 +3,7 @@ package com.gongdel.promptserver.adapter.out.persistence.repository;
 import com.gongdel.promptserver.adapter.out.persistence.entity.PromptTemplateEntity;
 import com.gongdel.promptserver.adapter.out.persistence.entity.UserEntity;
 import com.gongdel.promptserver.adapter.out.persistence.entity.favorite.FavoriteEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -54,11 +55,12 @@ public interface FavoriteRepository extends JpaRepository<FavoriteEntity, Long>
     /**
      * 특정 사용자가 즐겨찾기한 프롬프트 ID 목록을 반환합니다.
      *
-     * @param userId 사용자 ID
+     * @param userId   사용자 ID
+     * @param pageable 조회 개수 제한
      * @return 즐겨찾기한 프롬프트 ID 목록
      */
     @Query("select f.promptTemplate.id from FavoriteEntity f where f.user.id = :userId")
-    java.util.List<Long> findPromptTemplateIdsByUserId(@Param("userId") Long userId);
+    java.util.List<Long> findPromptTemplateIdsByUserId(@Param("userId") Long userId, Pageable pageable);
 
     /**
      * 특정 사용자가 즐겨찾기한 프롬프트 ID 목록을 반환합니다.
@@ -0,0 +1,24 @@
+package com.gongdel.promptserver.adapter.out.persistence.repository;
+
+import com.gongdel.promptserver.adapter.out.persistence.entity.LoginHistoryEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+/**
+ * 로그인 이력 JPA 리포지토리
+ * <p>
+ * login_history 테이블 조회를 담당합니다. 이력 저장은 {@code LoginHistoryBatchWriter}가 JDBC 배치로 수행합니다.
+ * </p>
+ */
+public interface LoginHistoryRepository extends JpaRepository<LoginHistoryEntity, Long> {
+    /**
+     * 사용자의 로그인 이력을 최신순으로 조회합니다. (user_id, login_at DESC) 인덱스를 순서대로 읽습니다.
+     *
+     * @param userId   사용자 PK
+     * @param pageable 조회 건수
+     * @return 최신순 로그인 이력 목록
+     */
+    List<LoginHistoryEntity> findByUserIdOrderByLoginAtDesc(Long userId, Pageable pageable);
+}
@@ -2,6 +2,7 @@ package com.gongdel.promptserver.adapter.out.persistence.repository;
 
 import com.gongdel.promptserver.adapter.out.persistence.entity.like.PromptLikeCountEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -20,6 +21,57 @@ public interface PromptLikeCountRepository extends JpaRepository<PromptLikeCount
      */
     Optional<PromptLikeCountEntity> findByPromptTemplateId(Long promptTemplateId);
 
+    /**
+     * 좋아요 수를 delta만큼 원자적으로 증감하고 갱신된 값을 반환합니다. 행이 없으면 생성하며, 결과는 0 미만이 되지 않습니다.
+     * 조회 후 수정하는 방식과 달리 한 번의 왕복으로 처리되고 동시 갱신이 유실되지 않습니다.
+     *
+     * @param promptTemplateId 프롬프트 ID
+     * @param delta            증감값 (양수: 증가, 음수: 감소)
+     * @return 갱신된 좋아요 수
+     */
+    @Query(value = """
+            INSERT INTO prompt_like_count (prompt_template_id, like_count, updated_at)
+            VALUES (:promptTemplateId, GREATEST(:delta, 0), now())
+            ON CONFLICT (prompt_template_id) DO UPDATE
+            SET like_count = GREATEST(prompt_like_count.like_count + :delta, 0),
+                updated_at = now()
+            RETURNING like_count
+        """, nativeQuery = true)
+    long upsertLikeCount(@Param("promptTemplateId") Long promptTemplateId, @Param("delta") long delta);
+
+    /**
+     * prompt_like 행 수와 다른 좋아요 수를 집계값으로 보정합니다. 누락된 Projection 행은 생성합니다.
+     *
+     * @return 보정된 행 수
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO prompt_like_count (prompt_template_id, like_count, updated_at)
+            SELECT pl.prompt_template_id, COUNT(*), now()
+            FROM prompt_like pl
+            GROUP BY pl.prompt_template_id
+            ON CONFLICT (prompt_template_id) DO UPDATE
+            SET like_count = EXCLUDED.like_count,
+                updated_at = now()
+            WHERE prompt_like_count.like_count <> EXCLUDED.like_count
+        """, nativeQuery = true)
+    int rebuildLikeCountsFromLikes();
+
+    /**
+     * 좋아요 행이 하나도 없는 프롬프트의 좋아요 수를 0으로 보정합니다.
+     *
+     * @return 보정된 행 수
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE prompt_like_count plc
+            SET like_count = 0,
+                updated_at = now()
+            WHERE plc.like_count <> 0
+              AND NOT EXISTS (SELECT 1 FROM prompt_like pl WHERE pl.prompt_template_id = plc.prompt_template_id)
+        """, nativeQuery = true)
+    int resetOrphanLikeCounts();
+
     /**
      * 여러 프롬프트 ID에 대해 좋아요 수 Projection을 조회합니다.
      *
@@ -4,6 +4,7 @@ import com.gongdel.promptserver.adapter.out.persistence.entity.like.PromptLikeEn
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -33,12 +34,31 @@ public interface PromptLikeJpaRepository extends JpaRepository<PromptLikeEntity,
     boolean existsByUserIdAndPromptTemplateId(Long userId, Long promptTemplateId);
 
     /**
-     * userId, promptTemplateId로 좋아요를 삭제합니다.
+     * 좋아요 행을 추가합니다. (user_id, prompt_template_id) 유니크 제약과 충돌하면 아무것도 하지 않습니다.
      *
      * @param userId           사용자 ID
      * @param promptTemplateId 프롬프트 템플릿 ID
+     * @return 추가된 행 수 (0 또는 1)
      */
-    void deleteByUserIdAndPromptTemplateId(Long userId, Long promptTemplateId);
+    @Modifying
+    @Query(value = """
+            INSERT INTO prompt_like (user_id, prompt_template_id, created_at, updated_at)
+            VALUES (:userId, :promptTemplateId, now(), now())
+            ON CONFLICT (user_id, prompt_template_id) DO NOTHING
+        """, nativeQuery = true)
+    int insertIfAbsent(@Param("userId") Long userId, @Param("promptTemplateId") Long promptTemplateId);
+
+    /**
+     * userId, promptTemplateId로 좋아요를 단일 DELETE 문으로 삭제합니다.
+     *
+     * @param userId           사용자 ID
+     * @param promptTemplateId 프롬프트 템플릿 ID
+     * @return 삭제된 행 수 (0 또는 1)
+     */
+    @Modifying
+    @Query("DELETE FROM PromptLikeEntity pl WHERE pl.user.id = :userId AND pl.promptTemplate.id = :promptTemplateId")
+    int deleteByUserIdAndPromptTemplateId(@Param("userId") Long userId,
+                                          @Param("promptTemplateId") Long promptTemplateId);
 
     /**
      * promptTemplateId로 좋아요 수를 집계합니다.
@@ -63,4 +83,18 @@ public interface PromptLikeJpaRepository extends JpaRepository<PromptLikeEntity,
         """)
     List<Long> findPromptTemplateIdsLikedByUser(@Param("userId") Long userId,
                                                 @Param("promptTemplateIds") List<Long> promptTemplateIds);
+
+    /**
+     * 사용자가 좋아요한 프롬프트 ID 목록을 조회합니다.
+     *
+     * @param userId   사용자 ID
+     * @param pageable 조회 개수 제한
+     * @return 사용자가 좋아요한 프롬프트 ID 리스트
+     */
+    @Query("""
+            SELECT pl.promptTemplate.id
+            FROM PromptLikeEntity pl
+            WHERE pl.user.id = :userId
+        """)
+    List<Long> findPromptTemplateIdsByUserId(@Param("userId") Long userId, Pageable pageable);
 }
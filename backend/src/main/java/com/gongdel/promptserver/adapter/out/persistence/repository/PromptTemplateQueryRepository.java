@@ -2,16 +2,22 @@ package com.gongdel.promptserver.adapter.out.persistence.repository;
 
 import com.gongdel.promptserver.adapter.out.persistence.entity.PromptTemplateEntity;
 import com.gongdel.promptserver.adapter.out.persistence.entity.QPromptTemplateEntity;
+import com.gongdel.promptserver.domain.model.PromptExportCondition;
+import com.gongdel.promptserver.domain.model.PromptExportRow;
 import com.gongdel.promptserver.domain.model.PromptSearchCondition;
 import com.gongdel.promptserver.domain.model.PromptSortType;
 import com.gongdel.promptserver.domain.model.PromptStatus;
+import com.gongdel.promptserver.domain.model.Visibility;
 import com.gongdel.promptserver.domain.model.statistics.PromptStatisticsResult;
 import com.querydsl.core.Tuple;
 import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.dsl.StringExpression;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.stereotype.Repository;
@@ -20,9 +26,14 @@ import org.springframework.util.StringUtils;
 
 import java.util.*;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import static com.gongdel.promptserver.adapter.out.persistence.entity.QCategoryClosureEntity.categoryClosureEntity;
+import static com.gongdel.promptserver.adapter.out.persistence.entity.QCategoryEntity.categoryEntity;
+import static com.gongdel.promptserver.adapter.out.persistence.entity.QContentBlobEntity.contentBlobEntity;
 import static com.gongdel.promptserver.adapter.out.persistence.entity.QPromptTemplateEntity.promptTemplateEntity;
 import static com.gongdel.promptserver.adapter.out.persistence.entity.QPromptTemplateTagEntity.promptTemplateTagEntity;
+import static com.gongdel.promptserver.adapter.out.persistence.entity.QPromptVersionEntity.promptVersionEntity;
 import static com.gongdel.promptserver.adapter.out.persistence.entity.QTagEntity.tagEntity;
 import static com.gongdel.promptserver.adapter.out.persistence.entity.like.QPromptLikeCountEntity.promptLikeCountEntity;
 import static com.gongdel.promptserver.adapter.out.persistence.entity.view.QPromptViewCountEntity.promptViewCountEntity;
@@ -254,7 +265,7 @@ public class PromptTemplateQueryRepository {
         BooleanExpression tag = tagContains(condition.getTag());
         if (tag != null)
             predicates.add(tag);
-        BooleanExpression category = categoryIdEq(condition.getCategoryId());
+        BooleanExpression category = categoryIdEq(condition.getCategoryId(), condition.isIncludeDescendants());
         if (category != null)
             predicates.add(category);
 
@@ -282,6 +293,88 @@ public class PromptTemplateQueryRepository {
         return predicates.toArray(new BooleanExpression[0]);
     }
 
+    /**
+     * 내보내기용 프롬프트 행을 전진 전용 커서로 조회합니다.
+     * <p>
+     * 현재 버전 내용까지 한 행으로 평탄화한 스칼라 프로젝션이므로 영속성 컨텍스트에 엔티티가 쌓이지 않으며, fetchSize 단위로만
+     * 결과를 가져옵니다. PostgreSQL 드라이버는 autocommit이 꺼진 트랜잭션 안에서만 커서를 사용하므로 읽기 전용 트랜잭션 안에서
+     * 호출하고, 반환된 스트림은 반드시 닫아야 합니다. 태그는 포함하지 않습니다({@link #findTagNamesByPromptIds} 참고).
+     * 스냅샷 본문은 content_blobs를 조인하여 함께 읽고, 현재 버전이 델타로 저장된 행은 content가 null이므로 versionId로
+     * 내용을 복원해야 합니다.
+     *
+     * @param condition 내보내기 조건
+     * @param fetchSize 한 번에 가져올 행 수
+     * @return ID 오름차순 내보내기 행 스트림
+     */
+    public Stream<PromptExportRow> streamForExport(PromptExportCondition condition, int fetchSize) {
+        Assert.notNull(condition, "Export condition must not be null");
+        Assert.notNull(condition.getRequesterId(), "Requester ID must not be null");
+        Assert.isTrue(fetchSize > 0, "Fetch size must be positive");
+
+        StringExpression content = promptVersionEntity.content.coalesce(contentBlobEntity.content);
+        return queryFactory
+            .select(promptTemplateEntity.id, promptTemplateEntity.uuid, promptTemplateEntity.title,
+                promptTemplateEntity.description, categoryEntity.name, promptTemplateEntity.visibility,
+                promptTemplateEntity.status, promptVersionEntity.id, promptVersionEntity.versionNumber, content,
+                promptTemplateEntity.createdAt, promptTemplateEntity.updatedAt)
+            .from(promptTemplateEntity)
+            .leftJoin(promptTemplateEntity.category, categoryEntity)
+            .leftJoin(promptVersionEntity).on(promptVersionEntity.id.eq(promptTemplateEntity.currentVersionId))
+            .leftJoin(contentBlobEntity).on(contentBlobEntity.sha256.eq(promptVersionEntity.contentHash))
+            .where(
+                notDeleted(),
+                promptTemplateEntity.visibility.eq(Visibility.PUBLIC)
+                    .or(promptTemplateEntity.createdBy.id.eq(condition.getRequesterId())),
+                categoryIdEq(condition.getCategoryId(), false),
+                statusEq(condition.getStatus()),
+                condition.getCreatedFrom() != null
+                    ? promptTemplateEntity.createdAt.goe(condition.getCreatedFrom()) : null,
+                condition.getCreatedTo() != null
+                    ? promptTemplateEntity.createdAt.lt(condition.getCreatedTo()) : null)
+            .orderBy(promptTemplateEntity.id.asc())
+            .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+            .setHint(HibernateHints.HINT_READ_ONLY, true)
+            .stream()
+            .map(tuple -> PromptExportRow.builder()
+                .id(tuple.get(promptTemplateEntity.id))
+                .uuid(tuple.get(promptTemplateEntity.uuid))
+                .title(tuple.get(promptTemplateEntity.title))
+                .description(tuple.get(promptTemplateEntity.description))
+                .categoryName(tuple.get(categoryEntity.name))
+                .visibility(tuple.get(promptTemplateEntity.visibility))
+                .status(tuple.get(promptTemplateEntity.status))
+                .versionId(tuple.get(promptVersionEntity.id))
+                .versionNumber(tuple.get(promptVersionEntity.versionNumber))
+                .content(tuple.get(content))
+                .createdAt(tuple.get(promptTemplateEntity.createdAt))
+                .updatedAt(tuple.get(promptTemplateEntity.updatedAt))
+                .build());
+    }
+
+    /**
+     * 프롬프트 ID 목록의 태그 이름을 한 번의 쿼리로 조회합니다.
+     *
+     * @param promptIds 프롬프트 템플릿 ID 목록
+     * @return 프롬프트 ID별 이름순 태그 이름 목록 (태그가 없는 프롬프트는 포함되지 않음)
+     */
+    public Map<Long, List<String>> findTagNamesByPromptIds(Collection<Long> promptIds) {
+        Assert.notNull(promptIds, "Prompt IDs must not be null");
+        if (promptIds.isEmpty()) {
+            return Map.of();
+        }
+        return queryFactory
+            .select(promptTemplateTagEntity.promptTemplate.id, tagEntity.name)
+            .from(promptTemplateTagEntity)
+            .join(promptTemplateTagEntity.tag, tagEntity)
+            .where(promptTemplateTagEntity.promptTemplate.id.in(promptIds))
+            .orderBy(tagEntity.name.asc())
+            .fetch()
+            .stream()
+            .collect(Collectors.groupingBy(
+                tuple -> tuple.get(promptTemplateTagEntity.promptTemplate.id),
+                Collectors.mapping(tuple -> tuple.get(tagEntity.name), Collectors.toList())));
+    }
+
     /**
      * status != DELETED 조건 반환
      */
@@ -324,10 +417,21 @@ public class PromptTemplateQueryRepository {
             : null;
     }
 
-    private BooleanExpression categoryIdEq(Long categoryId) {
-        return categoryId != null
-            ? promptTemplateEntity.category.id.eq(categoryId)
-            : null;
+    /**
+     * 카테고리 필터 조건을 생성합니다. 하위 카테고리를 포함하면 클로저 테이블의 (ancestor_id) 기본 키 인덱스로
+     * 하위 트리를 한 번에 찾는 세미 조인 조건이 됩니다.
+     */
+    private BooleanExpression categoryIdEq(Long categoryId, boolean includeDescendants) {
+        if (categoryId == null) {
+            return null;
+        }
+        if (!includeDescendants) {
+            return promptTemplateEntity.category.id.eq(categoryId);
+        }
+        return promptTemplateEntity.category.id.in(
+            JPAExpressions.select(categoryClosureEntity.descendantId)
+                .from(categoryClosureEntity)
+                .where(categoryClosureEntity.ancestorId.eq(categoryId)));
     }
 
     // 다중 상태 필터
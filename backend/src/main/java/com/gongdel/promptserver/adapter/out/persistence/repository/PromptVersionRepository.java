@@ -1,9 +1,13 @@
 package com.gongdel.promptserver.adapter.out.persistence.repository;
 
 import com.gongdel.promptserver.adapter.out.persistence.entity.PromptVersionEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -26,4 +30,92 @@ public interface PromptVersionRepository extends JpaRepository<PromptVersionEnti
      * @return 해당 템플릿에 속한 프롬프트 버전 엔티티 목록
      */
     List<PromptVersionEntity> findAllByPromptTemplateId(Long promptTemplateId);
+
+    /**
+     * 템플릿의 최신 버전부터 요약 정보를 조회합니다. 본문·입력 변수 컬럼은 읽지 않으며,
+     * (prompt_template_id, version_number DESC) 인덱스 순서대로 limit 건만 읽습니다.
+     *
+     * @param promptTemplateId 프롬프트 템플릿 ID
+     * @param pageable         조회 건수 제한 (첫 페이지 기준)
+     * @return 버전 번호 내림차순 요약 목록
+     */
+    @Query("""
+        SELECT new com.gongdel.promptserver.adapter.out.persistence.repository.PromptVersionSummaryProjection(
+            v.id, v.uuid, v.versionNumber, v.actionType, u.id, u.name, v.createdAt)
+        FROM PromptVersionEntity v
+        JOIN v.createdBy u
+        WHERE v.promptTemplate.id = :promptTemplateId
+        ORDER BY v.versionNumber DESC
+        """)
+    List<PromptVersionSummaryProjection> findSummaries(
+        @Param("promptTemplateId") Long promptTemplateId, Pageable pageable);
+
+    /**
+     * 지정한 버전 번호보다 이전 버전의 요약 정보를 최신순으로 조회합니다(키셋 페이지네이션).
+     *
+     * @param promptTemplateId    프롬프트 템플릿 ID
+     * @param beforeVersionNumber 커서 버전 번호 (미포함)
+     * @param pageable            조회 건수 제한 (첫 페이지 기준)
+     * @return 버전 번호 내림차순 요약 목록
+     */
+    @Query("""
+        SELECT new com.gongdel.promptserver.adapter.out.persistence.repository.PromptVersionSummaryProjection(
+            v.id, v.uuid, v.versionNumber, v.actionType, u.id, u.name, v.createdAt)
+        FROM PromptVersionEntity v
+        JOIN v.createdBy u
+        WHERE v.promptTemplate.id = :promptTemplateId
+          AND v.versionNumber < :beforeVersionNumber
+        ORDER BY v.versionNumber DESC
+        """)
+    List<PromptVersionSummaryProjection> findSummariesBefore(
+        @Param("promptTemplateId") Long promptTemplateId,
+        @Param("beforeVersionNumber") Integer beforeVersionNumber,
+        Pageable pageable);
+
+    /**
+     * 템플릿에서 지정한 버전 번호보다 작은 버전 중 가장 최근 버전을 조회합니다. 델타의 기준 버전을 찾는 데 사용합니다.
+     *
+     * @param promptTemplateId 프롬프트 템플릿 ID
+     * @param versionNumber    기준 버전 번호 (미포함)
+     * @return 직전 프롬프트 버전 엔티티(Optional)
+     */
+    Optional<PromptVersionEntity> findFirstByPromptTemplateIdAndVersionNumberLessThanOrderByVersionNumberDesc(
+        Long promptTemplateId, Integer versionNumber);
+
+    /**
+     * 지정한 버전을 델타의 기준으로 사용하는 버전 목록을 조회합니다.
+     *
+     * @param baseVersionId 기준 버전 ID
+     * @return 해당 버전에 의존하는 프롬프트 버전 엔티티 목록
+     */
+    List<PromptVersionEntity> findAllByBaseVersionId(Long baseVersionId);
+
+    /**
+     * 저장 방식이 지정되지 않은(델타 저장 도입 이전) 버전을 가진 템플릿 ID를 오름차순으로 조회합니다.
+     *
+     * @param limit 최대 조회 건수
+     * @return 변환 대상 템플릿 ID 목록
+     */
+    @Query(value = "SELECT DISTINCT prompt_template_id FROM prompt_versions "
+        + "WHERE storage_type IS NULL ORDER BY prompt_template_id LIMIT :limit", nativeQuery = true)
+    List<Long> findTemplateIdsWithUnconvertedVersions(@Param("limit") int limit);
+
+    /**
+     * 여러 템플릿의 버전을 템플릿·버전 번호 순으로 조회합니다.
+     *
+     * @param promptTemplateIds 프롬프트 템플릿 ID 목록
+     * @return 정렬된 프롬프트 버전 엔티티 목록
+     */
+    @Query("SELECT v FROM PromptVersionEntity v WHERE v.promptTemplate.id IN :promptTemplateIds "
+        + "ORDER BY v.promptTemplate.id, v.versionNumber")
+    List<PromptVersionEntity> findAllByPromptTemplateIdsOrdered(
+        @Param("promptTemplateIds") Collection<Long> promptTemplateIds);
+
+    /**
+     * 프롬프트 버전 ID 시퀀스의 다음 값을 조회합니다. 시퀀스는 50 단위로 증가하며, 반환값은 할당 블록의 상한입니다.
+     *
+     * @return prompt_versions_id_seq의 다음 값
+     */
+    @Query(value = "SELECT nextval('prompt_versions_id_seq')", nativeQuery = true)
+    Long nextSequenceValue();
 }
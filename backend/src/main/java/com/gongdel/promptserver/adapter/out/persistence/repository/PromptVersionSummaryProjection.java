@@ -0,0 +1,18 @@
+package com.gongdel.promptserver.adapter.out.persistence.repository;
+
+import com.gongdel.promptserver.domain.model.PromptVersionActionType;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Value(staticConstructor = "of")
+public class PromptVersionSummaryProjection {
+    Long id;
+    UUID uuid;
+    Integer versionNumber;
+    PromptVersionActionType actionType;
+    Long createdById;
+    String authorName;
+    LocalDateTime createdAt;
+}
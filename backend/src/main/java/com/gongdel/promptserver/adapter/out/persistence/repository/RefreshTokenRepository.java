@@ -2,8 +2,12 @@ package com.gongdel.promptserver.adapter.out.persistence.repository;
 
 import com.gongdel.promptserver.adapter.out.persistence.entity.RefreshTokenEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 /**
@@ -43,4 +47,27 @@ public interface RefreshTokenRepository extends JpaRepository<RefreshTokenEntity
      * @param token 토큰 값
      */
     void deleteByToken(String token);
+
+    /**
+     * 만료되지 않은 토큰 행을 삭제합니다. 동시에 같은 토큰을 삭제하면 한 쪽만 1을 반환합니다.
+     *
+     * @param token 토큰 값
+     * @param now   기준 일시
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query("DELETE FROM RefreshTokenEntity r WHERE r.token = :token AND r.expiresAt > :now")
+    int deleteActiveByToken(@Param("token") String token, @Param("now") LocalDateTime now);
+
+    /**
+     * 만료된 리프레시 토큰 행을 최대 limit건 삭제합니다.
+     *
+     * @param now   기준 일시
+     * @param limit 한 번에 삭제할 최대 행 수
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query(value = "DELETE FROM refresh_token WHERE ctid IN "
+        + "(SELECT ctid FROM refresh_token WHERE expires_at < :now LIMIT :limit)", nativeQuery = true)
+    int deleteExpiredChunk(@Param("now") LocalDateTime now, @Param("limit") int limit);
 }
@@ -4,6 +4,8 @@ import com.gongdel.promptserver.adapter.out.persistence.entity.TagEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -27,4 +29,12 @@ public interface TagRepository extends JpaRepository<TagEntity, Long> {
      * @return 존재 여부
      */
     boolean existsByName(String name);
+
+    /**
+     * 이름 목록에 해당하는 태그를 한 번의 IN 쿼리로 조회합니다.
+     *
+     * @param names 조회할 태그 이름 목록
+     * @return 태그 엔티티 목록
+     */
+    List<TagEntity> findAllByNameIn(Collection<String> names);
 }
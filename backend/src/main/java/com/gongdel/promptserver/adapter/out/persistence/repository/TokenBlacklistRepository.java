@@ -2,7 +2,12 @@ package com.gongdel.promptserver.adapter.out.persistence.repository;
 
 import com.gongdel.promptserver.adapter.out.persistence.entity.TokenBlacklistEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -27,4 +32,25 @@ public interface TokenBlacklistRepository extends JpaRepository<TokenBlacklistEn
      * @return 존재 여부
      */
     boolean existsByTokenId(String tokenId);
+
+    /**
+     * 아직 만료되지 않은 블랙리스트 엔티티를 조회합니다.
+     *
+     * @param now 기준 일시
+     * @return 만료 일시가 기준 일시 이후인 블랙리스트 목록
+     */
+    List<TokenBlacklistEntity> findByExpiresAtAfter(LocalDateTime now);
+
+    /**
+     * 만료된 블랙리스트 행을 최대 limit건 삭제합니다.
+     * 한 번에 삭제하는 행 수를 제한하여 잠금 시간과 WAL 발생량을 짧게 유지합니다.
+     *
+     * @param now   기준 일시
+     * @param limit 한 번에 삭제할 최대 행 수
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query(value = "DELETE FROM token_blacklist WHERE ctid IN "
+        + "(SELECT ctid FROM token_blacklist WHERE expires_at < :now LIMIT :limit)", nativeQuery = true)
+    int deleteExpiredChunk(@Param("now") LocalDateTime now, @Param("limit") int limit);
 }
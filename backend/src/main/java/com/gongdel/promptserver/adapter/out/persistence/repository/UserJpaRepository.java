@@ -2,8 +2,11 @@ package com.gongdel.promptserver.adapter.out.persistence.repository;
 
 import com.gongdel.promptserver.adapter.out.persistence.entity.UserEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -12,6 +15,21 @@ public interface UserJpaRepository extends JpaRepository<UserEntity, Long> {
 
     Optional<UserEntity> findByEmail(String email);
 
+    /**
+     * 이메일로 사용자, 인증 정보, 역할 이름을 한 번의 조인 쿼리로 조회합니다.
+     * 역할 수만큼 행이 반환되며, 인증 정보나 역할이 없으면 해당 컬럼은 null입니다.
+     * 역할 매핑은 있지만 역할 정의가 없으면 역할 이름만 null이고 역할 ID는 채워집니다.
+     *
+     * @param email 사용자 이메일
+     * @return [UserEntity, UserAuthenticationEntity, 역할 이름, 역할 ID] 행 목록
+     */
+    @Query("SELECT u, ua, r.name, ur.roleId FROM UserEntity u "
+        + "LEFT JOIN UserAuthenticationEntity ua ON ua.userId = u.id "
+        + "LEFT JOIN UserRoleEntity ur ON ur.userId = u.id "
+        + "LEFT JOIN RoleEntity r ON r.id = ur.roleId "
+        + "WHERE u.email = :email")
+    List<Object[]> findCredentialRowsByEmail(@Param("email") String email);
+
     void deleteByUuid(UUID uuid);
 
     Optional<UserEntity> findByUuid(UUID uuid);
@@ -0,0 +1,72 @@
+package com.gongdel.promptserver.adapter.out.redis;
+
+import com.gongdel.promptserver.application.port.out.CategoryChangeBroadcastPort;
+import com.gongdel.promptserver.domain.model.CategoryCatalogInvalidatedEvent;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * Redis Pub/Sub으로 카테고리 변경을 인스턴스 간에 알리는 어댑터입니다.
+ * <p>
+ * 변경을 일으킨 인스턴스는 자신의 ID를 채널에 발행하고, 다른 인스턴스는 메시지를 받으면
+ * {@link CategoryCatalogInvalidatedEvent}를 발행하여 로컬 카테고리 카탈로그를 다시 적재하게 합니다.
+ * 자신이 발행한 메시지는 이미 로컬에 반영했으므로 무시합니다.
+ * <p>
+ * 키 네이밍 규칙:
+ * - 변경 알림 채널: category:catalog:channel
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CategoryChangeRedisAdapter implements CategoryChangeBroadcastPort, MessageListener {
+
+    static final String CHANNEL = "category:catalog:channel";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final String instanceId = UUID.randomUUID().toString();
+
+    @PostConstruct
+    void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    /**
+     * 카테고리 변경을 다른 인스턴스에 알립니다. 실패해도 다른 인스턴스는 주기적 재적재로 따라오므로 예외를 던지지 않습니다.
+     */
+    @Override
+    public void broadcastCategoryChanged() {
+        try {
+            stringRedisTemplate.convertAndSend(CHANNEL, instanceId);
+            log.debug("Broadcast category change from instance {}", instanceId);
+        } catch (Exception e) {
+            log.warn("Failed to broadcast category change, peers will catch up on next catalog refresh", e);
+        }
+    }
+
+    /**
+     * 다른 인스턴스의 카테고리 변경 알림을 받아 로컬 카탈로그 무효화 이벤트를 발행합니다.
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String sourceInstanceId = new String(message.getBody(), StandardCharsets.UTF_8);
+        if (instanceId.equals(sourceInstanceId)) {
+            return;
+        }
+        log.debug("Received category change from instance {}", sourceInstanceId);
+        eventPublisher.publishEvent(new CategoryCatalogInvalidatedEvent(sourceInstanceId));
+    }
+}
@@ -0,0 +1,240 @@
+package com.gongdel.promptserver.adapter.out.redis;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gongdel.promptserver.application.exception.DashboardOperationFailedException;
+import com.gongdel.promptserver.application.port.out.DashboardSnapshotCachePort;
+import com.gongdel.promptserver.domain.model.statistics.CategoryPromptCount;
+import com.gongdel.promptserver.domain.statistics.ComparisonPeriod;
+import com.gongdel.promptserver.domain.statistics.ComparisonResult;
+import com.gongdel.promptserver.domain.statistics.DashboardSnapshot;
+import com.gongdel.promptserver.domain.statistics.FavoriteStatistics;
+import com.gongdel.promptserver.domain.statistics.PromptStatistics;
+import com.gongdel.promptserver.domain.statistics.UserStatistics;
+import com.gongdel.promptserver.domain.view.ViewStatistics;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.util.Assert;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 대시보드 통계 스냅샷을 Redis에 JSON으로 저장하여 인스턴스 간에 공유하는 어댑터입니다.
+ * <p>
+ * 스냅샷에는 생성 시각의 epoch 밀리초를 version으로 함께 저장하고, 저장된 스냅샷보다 version이 클 때만 교체하도록
+ * Lua 스크립트로 비교합니다. 늦게 끝난 인스턴스의 오래된 스냅샷이 공유 스냅샷을 되돌리지 않도록 하기 위함입니다.
+ * <p>
+ * 통계 변경 시각은 epoch 밀리초로 저장하며, 여러 인스턴스가 동시에 기록해도 가장 늦은 시각만 남도록 Lua 스크립트로 비교합니다.
+ * <p>
+ * 키 네이밍 규칙:
+ * - 스냅샷: dashboard:snapshot
+ * - 마지막 통계 변경 시각: dashboard:snapshot:changed-at
+ * - 재계산 락: lock:dashboard-snapshot
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DashboardSnapshotRedisAdapter implements DashboardSnapshotCachePort {
+
+    static final String SNAPSHOT_KEY = "dashboard:snapshot";
+    static final String CHANGED_AT_KEY = "dashboard:snapshot:changed-at";
+    static final String LOCK_KEY = "lock:dashboard-snapshot";
+
+    /**
+     * 기록된 시각보다 늦을 때만 변경 시각을 교체하고 TTL을 갱신합니다.
+     */
+    private static final RedisScript<Long> MARK_CHANGED_SCRIPT = new DefaultRedisScript<>("""
+        local current = tonumber(redis.call('GET', KEYS[1]) or '0')
+        if current < tonumber(ARGV[1]) then
+            redis.call('SET', KEYS[1], ARGV[1], 'EX', ARGV[2])
+            return 1
+        end
+        return 0
+        """, Long.class);
+
+    /**
+     * 저장된 스냅샷보다 version이 클 때만 스냅샷을 교체합니다. version이 없는 스냅샷은 가장 오래된 것으로 봅니다.
+     */
+    private static final RedisScript<Long> SAVE_IF_NEWER_SCRIPT = new DefaultRedisScript<>("""
+        local current = redis.call('GET', KEYS[1])
+        if current then
+            local ok, document = pcall(cjson.decode, current)
+            if ok and type(document) == 'table' and tonumber(document.version or 0) >= tonumber(ARGV[2]) then
+                return 0
+            end
+        end
+        redis.call('SET', KEYS[1], ARGV[1], 'EX', ARGV[3])
+        return 1
+        """, Long.class);
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Value("${dashboard.snapshot.ttl-minutes:30}")
+    private long snapshotTtlMinutes;
+
+    @Override
+    public boolean saveSnapshotIfNewer(DashboardSnapshot snapshot) {
+        Assert.notNull(snapshot, "snapshot must not be null");
+        SnapshotDocument document = SnapshotDocument.from(snapshot);
+        String json;
+        try {
+            json = OBJECT_MAPPER.writeValueAsString(document);
+        } catch (JsonProcessingException e) {
+            throw new DashboardOperationFailedException("Failed to serialize dashboard snapshot", e);
+        }
+        Long saved = stringRedisTemplate.execute(SAVE_IF_NEWER_SCRIPT, List.of(SNAPSHOT_KEY), json,
+            String.valueOf(document.getVersion()), String.valueOf(Duration.ofMinutes(snapshotTtlMinutes).toSeconds()));
+        boolean replaced = saved != null && saved == 1L;
+        log.debug("Dashboard snapshot save: generatedAt={}, replaced={}", snapshot.getGeneratedAt(), replaced);
+        return replaced;
+    }
+
+    @Override
+    public Optional<DashboardSnapshot> loadSnapshot() {
+        String json = stringRedisTemplate.opsForValue().get(SNAPSHOT_KEY);
+        if (json == null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(OBJECT_MAPPER.readValue(json, SnapshotDocument.class).toDomain());
+        } catch (Exception e) {
+            log.warn("Ignoring unreadable dashboard snapshot in Redis", e);
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void markChanged(LocalDateTime changedAt) {
+        Assert.notNull(changedAt, "changedAt must not be null");
+        long epochMillis = changedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        stringRedisTemplate.execute(MARK_CHANGED_SCRIPT, List.of(CHANGED_AT_KEY), String.valueOf(epochMillis),
+            String.valueOf(Duration.ofMinutes(snapshotTtlMinutes).toSeconds()));
+    }
+
+    @Override
+    public Optional<LocalDateTime> loadLastChangedAt() {
+        String value = stringRedisTemplate.opsForValue().get(CHANGED_AT_KEY);
+        if (value == null) {
+            return Optional.empty();
+        }
+        return Optional.of(LocalDateTime.ofInstant(Instant.ofEpochMilli(Long.parseLong(value)),
+            ZoneId.systemDefault()));
+    }
+
+    @Override
+    public boolean tryAcquireRefreshLock(Duration ttl) {
+        return Boolean.TRUE.equals(stringRedisTemplate.opsForValue()
+            .setIfAbsent(LOCK_KEY, UUID.randomUUID().toString(), ttl));
+    }
+
+    /**
+     * Redis에 저장하는 스냅샷 JSON 구조입니다. 날짜는 ISO-8601 문자열로 저장합니다.
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    static class SnapshotDocument {
+        private String periodStart;
+        private String periodEnd;
+        private long promptTotal;
+        private long promptCurrent;
+        private long promptPrevious;
+        private long userTotal;
+        private long userCurrent;
+        private long userPrevious;
+        private long favoriteTotal;
+        private long favoriteCurrent;
+        private long favoritePrevious;
+        private String weekStart;
+        private String weekEnd;
+        private long viewTotal;
+        private long viewCurrent;
+        private long viewPrevious;
+        private long activeMemberCount;
+        private List<CategoryDocument> rootCategories;
+        private String generatedAt;
+        private long version;
+
+        static SnapshotDocument from(DashboardSnapshot snapshot) {
+            SnapshotDocument document = new SnapshotDocument();
+            ComparisonPeriod period = snapshot.getPromptStatistics().getComparisonPeriod();
+            document.periodStart = period.getStartDate().toString();
+            document.periodEnd = period.getEndDate().toString();
+            document.promptTotal = snapshot.getPromptStatistics().getTotalCount();
+            document.promptCurrent = snapshot.getPromptStatistics().getComparisonResult().getCurrentCount();
+            document.promptPrevious = snapshot.getPromptStatistics().getComparisonResult().getPreviousCount();
+            document.userTotal = snapshot.getUserStatistics().getTotalCount();
+            document.userCurrent = snapshot.getUserStatistics().getComparisonResult().getCurrentCount();
+            document.userPrevious = snapshot.getUserStatistics().getComparisonResult().getPreviousCount();
+            document.favoriteTotal = snapshot.getFavoriteStatistics().getTotalCount();
+            document.favoriteCurrent = snapshot.getFavoriteStatistics().getComparisonResult().getCurrentCount();
+            document.favoritePrevious = snapshot.getFavoriteStatistics().getComparisonResult().getPreviousCount();
+            ViewStatistics views = snapshot.getWeeklyViewStatistics();
+            document.weekStart = views.getPeriod().getStartDate().toString();
+            document.weekEnd = views.getPeriod().getEndDate().toString();
+            document.viewTotal = views.getTotalViewCount();
+            document.viewCurrent = views.getCurrentPeriodViewCount();
+            document.viewPrevious = views.getPreviousPeriodViewCount();
+            document.activeMemberCount = snapshot.getActiveMemberCount();
+            document.rootCategories = snapshot.getRootCategoryCounts().stream()
+                .map(c -> new CategoryDocument(c.getCategoryId(), c.getCategoryName(), c.getPromptCount()))
+                .toList();
+            document.generatedAt = snapshot.getGeneratedAt().toString();
+            document.version = snapshot.getGeneratedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+            return document;
+        }
+
+        DashboardSnapshot toDomain() {
+            ComparisonPeriod period = new ComparisonPeriod(LocalDateTime.parse(periodStart),
+                LocalDateTime.parse(periodEnd));
+            ComparisonPeriod week = new ComparisonPeriod(LocalDateTime.parse(weekStart), LocalDateTime.parse(weekEnd));
+            return DashboardSnapshot.builder()
+                .promptStatistics(new PromptStatistics(promptTotal, period,
+                    ComparisonResult.of(promptCurrent, promptPrevious)))
+                .userStatistics(new UserStatistics(userTotal, period, ComparisonResult.of(userCurrent, userPrevious)))
+                .favoriteStatistics(new FavoriteStatistics(favoriteTotal, period,
+                    ComparisonResult.of(favoriteCurrent, favoritePrevious)))
+                .weeklyViewStatistics(new ViewStatistics(viewTotal, week, ComparisonResult.of(viewCurrent, viewPrevious)))
+                .activeMemberCount(activeMemberCount)
+                .rootCategoryCounts(rootCategories.stream()
+                    .map(c -> new CategoryPromptCount(c.getCategoryId(), c.getCategoryName(), c.getPromptCount()))
+                    .toList())
+                .generatedAt(LocalDateTime.parse(generatedAt))
+                .build();
+        }
+    }
+
+    /**
+     * 루트 카테고리별 프롬프트 수 JSON 구조입니다.
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    static class CategoryDocument {
+        private Long categoryId;
+        private String categoryName;
+        private long promptCount;
+
+        CategoryDocument(Long categoryId, String categoryName, long promptCount) {
+            this.categoryId = categoryId;
+            this.categoryName = categoryName;
+            this.promptCount = promptCount;
+        }
+    }
+}
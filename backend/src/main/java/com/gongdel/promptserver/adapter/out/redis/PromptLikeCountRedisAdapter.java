@@ -0,0 +1,304 @@
+package com.gongdel.promptserver.adapter.out.redis;
+
+import com.gongdel.promptserver.application.port.out.like.command.CachePromptLikeCountPort;
+import com.gongdel.promptserver.application.port.out.like.command.UpdatePromptLikeCount;
+import com.gongdel.promptserver.domain.exception.LikeOperationException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.util.Assert;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redis 기반 좋아요 수 write-behind 캐시 어댑터입니다.
+ * <p>
+ * 좋아요 수를 Redis 카운터로 증감하고, 같은 증감량을 반영 대기 증감량 Hash에 누적하며 프롬프트 ID를 반영 대기 Set에 기록합니다.
+ * 증감, TTL 갱신, 증감량 누적, 반영 대기 등록은 하나의 Lua 스크립트로 원자적으로 수행하여 카운터와 대기 목록이 어긋나지 않도록 합니다.
+ * 데이터베이스에는 절대값이 아닌 증감량만 더하므로, 캐시를 우회해 직접 반영된 증감을 덮어쓰지 않습니다.
+ * <p>
+ * 키 네이밍 규칙:
+ * - 좋아요 수: likecount:{promptId}
+ * - 반영 대기 목록: likecount:pending
+ * - 반영 대기 증감량: likecount:deltas (field: promptId)
+ * - 재계산 락: lock:like-count-reconcile
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PromptLikeCountRedisAdapter implements CachePromptLikeCountPort {
+
+    private static final String LIKE_COUNT_PREFIX = "likecount";
+    private static final String PENDING_KEY = LIKE_COUNT_PREFIX + ":pending";
+    private static final String DELTAS_KEY = LIKE_COUNT_PREFIX + ":deltas";
+    static final String RECONCILE_LOCK_KEY = "lock:like-count-reconcile";
+    private static final long NOT_CACHED = -1L;
+
+    /**
+     * KEYS[1]: 좋아요 수 키, KEYS[2]: 반영 대기 Set, KEYS[3]: 반영 대기 증감량 Hash
+     * ARGV[1]: 증감값, ARGV[2]: TTL(초), ARGV[3]: 프롬프트 ID
+     * 키가 없으면 -1을 반환하고, 결과가 음수가 되면 0으로 보정합니다. 증감량은 보정 없이 그대로 누적합니다.
+     */
+    private static final RedisScript<Long> INCREMENT_SCRIPT = new DefaultRedisScript<>("""
+        if redis.call('EXISTS', KEYS[1]) == 0 then
+            return -1
+        end
+        local count = redis.call('INCRBY', KEYS[1], ARGV[1])
+        if count < 0 then
+            redis.call('SET', KEYS[1], 0)
+            count = 0
+        end
+        redis.call('EXPIRE', KEYS[1], ARGV[2])
+        redis.call('HINCRBY', KEYS[3], ARGV[3], ARGV[1])
+        redis.call('SADD', KEYS[2], ARGV[3])
+        return count
+        """, Long.class);
+
+    /**
+     * KEYS[1]: 반영 대기 Set, KEYS[2]: 반영 대기 증감량 Hash
+     * ARGV[1]: 최대 개수
+     * 프롬프트 ID를 꺼내면서 누적된 증감량도 함께 제거하고 [ID, 증감량, ...] 형태로 반환합니다.
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> POP_DELTAS_SCRIPT = new DefaultRedisScript<>("""
+        local ids = redis.call('SPOP', KEYS[1], ARGV[1])
+        local result = {}
+        for _, id in ipairs(ids) do
+            local delta = redis.call('HGET', KEYS[2], id)
+            redis.call('HDEL', KEYS[2], id)
+            table.insert(result, id)
+            table.insert(result, delta or '0')
+        end
+        return result
+        """, List.class);
+
+    /**
+     * KEYS[1]: 반영 대기 Set, KEYS[2]: 반영 대기 증감량 Hash
+     * ARGV: [프롬프트 ID, 증감량, ...]
+     */
+    private static final RedisScript<Long> RESTORE_DELTAS_SCRIPT = new DefaultRedisScript<>("""
+        for i = 1, #ARGV, 2 do
+            redis.call('HINCRBY', KEYS[2], ARGV[i], ARGV[i + 1])
+            redis.call('SADD', KEYS[1], ARGV[i])
+        end
+        return #ARGV / 2
+        """, Long.class);
+
+    /**
+     * 락을 잡은 인스턴스일 때만 락을 해제합니다.
+     */
+    private static final RedisScript<Long> RELEASE_LOCK_SCRIPT = new DefaultRedisScript<>("""
+        if redis.call('GET', KEYS[1]) == ARGV[1] then
+            return redis.call('DEL', KEYS[1])
+        end
+        return 0
+        """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Value("${redis.like.count-cache-ttl-hours:24}")
+    private long countCacheTtlHours;
+
+    /**
+     * 캐시된 좋아요 수를 증감하고 같은 증감량을 반영 대기 증감량에 누적합니다.
+     *
+     * @param update 증감 요청 값
+     * @return 갱신된 좋아요 수 (캐시에 값이 없으면 OptionalLong.empty())
+     * @throws LikeOperationException Redis 작업 실패 시 발생
+     */
+    @Override
+    public OptionalLong incrementLikeCount(UpdatePromptLikeCount update) {
+        Assert.notNull(update, "update must not be null");
+        try {
+            Long count = stringRedisTemplate.execute(INCREMENT_SCRIPT,
+                List.of(createLikeCountKey(update.getPromptTemplateId()), PENDING_KEY, DELTAS_KEY),
+                String.valueOf(update.getLikeCount()),
+                String.valueOf(TimeUnit.HOURS.toSeconds(countCacheTtlHours)),
+                String.valueOf(update.getPromptTemplateId()));
+            if (count == null || count == NOT_CACHED) {
+                log.debug("No cached like count found for prompt: {}", update.getPromptTemplateId());
+                return OptionalLong.empty();
+            }
+            log.debug("Like count updated in cache for prompt: {}, count: {}", update.getPromptTemplateId(), count);
+            return OptionalLong.of(count);
+        } catch (Exception e) {
+            log.error("Failed to update cached like count for prompt: {}", update.getPromptTemplateId(), e);
+            throw new LikeOperationException("Failed to update cached like count", e);
+        }
+    }
+
+    /**
+     * 캐시에 좋아요 수가 없는 경우에만 초기값을 저장합니다.
+     *
+     * @param promptTemplateId 프롬프트 ID
+     * @param likeCount        데이터베이스에 저장된 좋아요 수
+     * @throws LikeOperationException Redis 작업 실패 시 발생
+     */
+    @Override
+    public void initializeLikeCount(Long promptTemplateId, long likeCount) {
+        Assert.notNull(promptTemplateId, "Prompt template ID must not be null");
+        try {
+            stringRedisTemplate.opsForValue().setIfAbsent(createLikeCountKey(promptTemplateId),
+                String.valueOf(likeCount), countCacheTtlHours, TimeUnit.HOURS);
+        } catch (Exception e) {
+            log.error("Failed to initialize cached like count for prompt: {}", promptTemplateId, e);
+            throw new LikeOperationException("Failed to initialize cached like count", e);
+        }
+    }
+
+    /**
+     * 캐시된 좋아요 수를 조회합니다.
+     *
+     * @param promptTemplateId 프롬프트 ID
+     * @return 캐시된 좋아요 수 (캐시에 값이 없으면 OptionalLong.empty())
+     * @throws LikeOperationException Redis 작업 실패 시 발생
+     */
+    @Override
+    public OptionalLong loadCachedLikeCount(Long promptTemplateId) {
+        Assert.notNull(promptTemplateId, "Prompt template ID must not be null");
+        try {
+            String value = stringRedisTemplate.opsForValue().get(createLikeCountKey(promptTemplateId));
+            if (value == null) {
+                return OptionalLong.empty();
+            }
+            try {
+                return OptionalLong.of(Long.parseLong(value));
+            } catch (NumberFormatException e) {
+                log.warn("Invalid like count value in cache for prompt {}: {}", promptTemplateId, value);
+                return OptionalLong.empty();
+            }
+        } catch (Exception e) {
+            log.error("Failed to load cached like count for prompt: {}", promptTemplateId, e);
+            throw new LikeOperationException("Failed to load cached like count", e);
+        }
+    }
+
+    /**
+     * 반영 대기 Set에서 최대 limit개의 프롬프트 ID를 꺼내고, 누적된 증감량을 같은 스크립트에서 함께 제거해 반환합니다.
+     *
+     * @param limit 최대 개수
+     * @return 프롬프트 ID별 증감량
+     * @throws LikeOperationException Redis 작업 실패 시 발생
+     */
+    @Override
+    public Map<Long, Long> popPendingLikeCountDeltas(int limit) {
+        Assert.isTrue(limit > 0, "limit must be positive");
+        try {
+            List<?> popped = stringRedisTemplate.execute(POP_DELTAS_SCRIPT, List.of(PENDING_KEY, DELTAS_KEY),
+                String.valueOf(limit));
+            if (popped == null || popped.isEmpty()) {
+                return Map.of();
+            }
+            Map<Long, Long> deltas = new LinkedHashMap<>();
+            for (int i = 0; i + 1 < popped.size(); i += 2) {
+                try {
+                    deltas.put(Long.parseLong(String.valueOf(popped.get(i))),
+                        Long.parseLong(String.valueOf(popped.get(i + 1))));
+                } catch (NumberFormatException e) {
+                    log.warn("Invalid pending like count entry: {}={}", popped.get(i), popped.get(i + 1));
+                }
+            }
+            return deltas;
+        } catch (Exception e) {
+            log.error("Failed to pop pending like count deltas", e);
+            throw new LikeOperationException("Failed to pop pending like count deltas", e);
+        }
+    }
+
+    /**
+     * 데이터베이스 반영에 실패한 증감량을 반영 대기 증감량에 다시 더하고 반영 대기 Set에 추가합니다.
+     * 그 사이 새로 누적된 증감량과 합쳐집니다.
+     *
+     * @param deltas 프롬프트 ID별 증감량
+     * @throws LikeOperationException Redis 작업 실패 시 발생
+     */
+    @Override
+    public void restorePendingLikeCountDeltas(Map<Long, Long> deltas) {
+        Assert.notNull(deltas, "deltas must not be null");
+        if (deltas.isEmpty()) {
+            return;
+        }
+        try {
+            String[] args = new String[deltas.size() * 2];
+            int i = 0;
+            for (Map.Entry<Long, Long> entry : deltas.entrySet()) {
+                args[i++] = String.valueOf(entry.getKey());
+                args[i++] = String.valueOf(entry.getValue());
+            }
+            stringRedisTemplate.execute(RESTORE_DELTAS_SCRIPT, List.of(PENDING_KEY, DELTAS_KEY), (Object[]) args);
+        } catch (Exception e) {
+            log.error("Failed to restore pending like count deltas: {}", deltas, e);
+            throw new LikeOperationException("Failed to restore pending like count deltas", e);
+        }
+    }
+
+    /**
+     * SCAN으로 좋아요 수 키를 모두 찾아 삭제합니다.
+     * 같은 접두사를 쓰는 반영 대기 Set과 증감량 Hash는 아직 반영되지 않은 변경을 담고 있으므로 삭제하지 않습니다.
+     *
+     * @throws LikeOperationException Redis 작업 실패 시 발생
+     */
+    @Override
+    public void evictLikeCounts() {
+        try {
+            List<String> keys = new ArrayList<>();
+            ScanOptions scanOptions = ScanOptions.scanOptions()
+                .match(LIKE_COUNT_PREFIX + ":*")
+                .count(100)
+                .build();
+            try (Cursor<String> cursor = stringRedisTemplate.scan(scanOptions)) {
+                while (cursor.hasNext()) {
+                    String key = cursor.next();
+                    if (!PENDING_KEY.equals(key) && !DELTAS_KEY.equals(key)) {
+                        keys.add(key);
+                    }
+                }
+            }
+            if (!keys.isEmpty()) {
+                stringRedisTemplate.delete(keys);
+            }
+            log.info("Evicted {} cached like count keys", keys.size());
+        } catch (Exception e) {
+            log.error("Failed to evict cached like counts", e);
+            throw new LikeOperationException("Failed to evict cached like counts", e);
+        }
+    }
+
+    /**
+     * 좋아요 수 재계산 락을 SET NX로 획득합니다.
+     *
+     * @param owner 락 소유자 식별 값
+     * @param ttl   락 유지 시간
+     * @return 획득했으면 true
+     */
+    @Override
+    public boolean tryAcquireReconcileLock(String owner, Duration ttl) {
+        return Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(RECONCILE_LOCK_KEY, owner, ttl));
+    }
+
+    /**
+     * owner가 잡은 락일 때만 좋아요 수 재계산 락을 해제합니다.
+     *
+     * @param owner 락 소유자 식별 값
+     */
+    @Override
+    public void releaseReconcileLock(String owner) {
+        stringRedisTemplate.execute(RELEASE_LOCK_SCRIPT, List.of(RECONCILE_LOCK_KEY), owner);
+    }
+
+    private String createLikeCountKey(Long promptTemplateId) {
+        return LIKE_COUNT_PREFIX + ":" + promptTemplateId;
+    }
+}
@@ -0,0 +1,263 @@
+package com.gongdel.promptserver.adapter.out.redis;
+
+import com.gongdel.promptserver.application.port.out.command.DeleteRefreshTokenPort;
+import com.gongdel.promptserver.application.port.out.command.SaveRefreshTokenPort;
+import com.gongdel.promptserver.domain.exception.TokenException;
+import com.gongdel.promptserver.domain.exception.TokenValidationException;
+import com.gongdel.promptserver.domain.refreshtoken.RefreshToken;
+import com.gongdel.promptserver.domain.refreshtoken.RefreshTokenRotation;
+import com.gongdel.promptserver.domain.user.UserId;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.util.Assert;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Redis 기반 리프레시 토큰 저장소 어댑터입니다.
+ * <p>
+ * 로그인마다 토큰 패밀리를 하나 만들고, 패밀리에는 현재 유효한 토큰의 해시만 보관합니다.
+ * 갱신 시에는 제시된 토큰이 현재 토큰과 같을 때만 새 토큰으로 교체하며, 이미 교체된 이전 토큰이 제시되면
+ * 탈취로 판단하여 패밀리 전체를 폐기합니다. 비교와 교체는 Lua 스크립트로 원자적으로 수행합니다.
+ * 모든 키는 토큰의 남은 수명만큼의 TTL을 가지므로 만료된 토큰을 별도로 정리할 필요가 없습니다.
+ * 사용자별 패밀리 목록에 남은 만료·폐기된 패밀리 ID는 새 패밀리를 저장할 때와 교체 시 패밀리가 없을 때 제거합니다.
+ * <p>
+ * Redis Cluster에서도 스크립트를 실행할 수 있도록 스크립트가 다루는 모든 키를 KEYS로 전달하며, 한 사용자의 키는
+ * 사용자 ID 해시 태그로 같은 슬롯에 배치합니다. 목록의 패밀리 키가 필요한 스크립트는 목록을 먼저 읽어 키를 전달합니다.
+ * <p>
+ * 키 네이밍 규칙:
+ * - 토큰 패밀리 (HASH: userId, token): refresh:{userId}:family:{familyId}
+ * - 사용자별 패밀리 목록 (SET): refresh:{userId}:families
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RefreshTokenRedisAdapter implements SaveRefreshTokenPort, DeleteRefreshTokenPort {
+
+    private static final String KEY_PREFIX = "refresh:";
+
+    /**
+     * 사용자의 토큰을 삭제하는 중 새 패밀리가 추가되었을 때 삭제를 시도하는 최대 횟수
+     */
+    static final int DELETE_MAX_ATTEMPTS = 3;
+
+    /**
+     * KEYS[1]: 새 패밀리, KEYS[2]: 사용자별 목록, KEYS[3..]: 목록에 있던 패밀리
+     * ARGV[1]: 사용자 ID, ARGV[2]: 토큰 해시, ARGV[3]: TTL(ms), ARGV[4]: 새 패밀리 ID, ARGV[5..]: KEYS[3..]의 패밀리 ID
+     * 사용자별 목록에서 만료된 패밀리를 제거한 뒤 패밀리를 저장하고 목록에 추가합니다.
+     * 목록의 TTL은 가장 늦게 만료되는 패밀리에 맞춥니다.
+     */
+    private static final RedisScript<Long> SAVE_SCRIPT = new DefaultRedisScript<>("""
+        for i = 3, #KEYS do
+            if redis.call('EXISTS', KEYS[i]) == 0 then
+                redis.call('SREM', KEYS[2], ARGV[i + 2])
+            end
+        end
+        redis.call('HSET', KEYS[1], 'userId', ARGV[1], 'token', ARGV[2])
+        redis.call('PEXPIRE', KEYS[1], ARGV[3])
+        redis.call('SADD', KEYS[2], ARGV[4])
+        if redis.call('PTTL', KEYS[2]) < tonumber(ARGV[3]) then
+            redis.call('PEXPIRE', KEYS[2], ARGV[3])
+        end
+        return 1
+        """, Long.class);
+
+    /**
+     * 현재 토큰이면 교체(1), 패밀리가 없으면 목록에서 제거하고 0, 이전 토큰이면 패밀리를 폐기하고 -1을 반환합니다.
+     */
+    private static final RedisScript<Long> ROTATE_SCRIPT = new DefaultRedisScript<>("""
+        local current = redis.call('HGET', KEYS[1], 'token')
+        if not current then
+            redis.call('SREM', KEYS[2], ARGV[4])
+            return 0
+        end
+        if current ~= ARGV[1] then
+            redis.call('DEL', KEYS[1])
+            redis.call('SREM', KEYS[2], ARGV[4])
+            return -1
+        end
+        redis.call('HSET', KEYS[1], 'token', ARGV[2])
+        redis.call('PEXPIRE', KEYS[1], ARGV[3])
+        if redis.call('PTTL', KEYS[2]) < tonumber(ARGV[3]) then
+            redis.call('PEXPIRE', KEYS[2], ARGV[3])
+        end
+        return 1
+        """, Long.class);
+
+    /**
+     * KEYS[1]: 사용자별 목록, KEYS[2..]: 목록에 있던 패밀리
+     * ARGV[1..]: KEYS[2..]의 패밀리 ID
+     * 전달된 패밀리를 삭제하고 목록에서 제거합니다. 그 사이 목록에 새 패밀리가 추가되었으면 목록을 남기고 -1을,
+     * 아니면 목록까지 삭제하고 삭제한 패밀리 수를 반환합니다.
+     */
+    private static final RedisScript<Long> DELETE_USER_SCRIPT = new DefaultRedisScript<>("""
+        for i = 2, #KEYS do
+            redis.call('DEL', KEYS[i])
+            redis.call('SREM', KEYS[1], ARGV[i - 1])
+        end
+        if redis.call('SCARD', KEYS[1]) > 0 then
+            return -1
+        end
+        redis.call('DEL', KEYS[1])
+        return #KEYS - 1
+        """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    /**
+     * 새 토큰 패밀리를 저장합니다.
+     *
+     * @param refreshToken 저장할 리프레시 토큰
+     * @throws TokenValidationException 리프레시 토큰이 null인 경우
+     * @throws TokenException           Redis 저장 실패 시
+     */
+    @Override
+    public void saveRefreshToken(RefreshToken refreshToken) {
+        if (refreshToken == null) {
+            throw TokenValidationException.nullRefreshToken();
+        }
+        String userId = refreshToken.getUserId().getValue().toString();
+        try {
+            List<String> familyIds = loadFamilyIds(userId);
+            List<String> keys = new ArrayList<>(familyIds.size() + 2);
+            keys.add(familyKey(userId, refreshToken.getFamilyId()));
+            keys.add(userKey(userId));
+            List<Object> args = new ArrayList<>(familyIds.size() + 4);
+            args.add(userId);
+            args.add(hash(refreshToken.getToken()));
+            args.add(ttlMillis(refreshToken.getExpiresAt()));
+            args.add(refreshToken.getFamilyId());
+            for (String familyId : familyIds) {
+                keys.add(familyKey(userId, familyId));
+                args.add(familyId);
+            }
+            stringRedisTemplate.execute(SAVE_SCRIPT, keys, args.toArray());
+            log.debug("Saved refresh token family: familyId={}, userId={}", refreshToken.getFamilyId(), userId);
+        } catch (Exception e) {
+            log.error("Failed to save refresh token for userId: {}", userId, e);
+            throw TokenException.saveFailed(userId, e);
+        }
+    }
+
+    /**
+     * 패밀리의 현재 토큰을 새 토큰으로 원자적으로 교체합니다.
+     *
+     * @param presented 클라이언트가 제시한 리프레시 토큰
+     * @param next      새로 발급한 리프레시 토큰
+     * @return 교체 결과
+     * @throws TokenException Redis 처리 실패 시
+     */
+    @Override
+    public RefreshTokenRotation rotateRefreshToken(RefreshToken presented, RefreshToken next) {
+        Assert.notNull(presented, "presented must not be null");
+        Assert.notNull(next, "next must not be null");
+        Assert.isTrue(presented.getFamilyId().equals(next.getFamilyId()), "Tokens must belong to the same family");
+        String userId = presented.getUserId().getValue().toString();
+        Long result;
+        try {
+            result = stringRedisTemplate.execute(ROTATE_SCRIPT,
+                List.of(familyKey(userId, presented.getFamilyId()), userKey(userId)),
+                hash(presented.getToken()), hash(next.getToken()), ttlMillis(next.getExpiresAt()),
+                presented.getFamilyId());
+        } catch (Exception e) {
+            log.error("Failed to rotate refresh token: familyId={}", presented.getFamilyId(), e);
+            throw TokenException.saveFailed(userId, e);
+        }
+        if (result == null || result == 0L) {
+            return RefreshTokenRotation.NOT_FOUND;
+        }
+        if (result < 0L) {
+            log.warn("Refresh token reuse detected, family revoked: familyId={}, userId={}",
+                presented.getFamilyId(), userId);
+            return RefreshTokenRotation.REUSED;
+        }
+        return RefreshTokenRotation.ROTATED;
+    }
+
+    /**
+     * 사용자의 모든 토큰 패밀리를 삭제합니다.
+     *
+     * @param userId 사용자 ID
+     * @throws TokenValidationException 사용자 ID가 null인 경우
+     * @throws TokenException           Redis 삭제 실패 시
+     */
+    @Override
+    public void deleteByUserId(UserId userId) {
+        if (userId == null) {
+            throw TokenValidationException.nullUserId();
+        }
+        String value = userId.getValue().toString();
+        try {
+            for (int attempt = 1; attempt <= DELETE_MAX_ATTEMPTS; attempt++) {
+                List<String> familyIds = loadFamilyIds(value);
+                List<String> keys = new ArrayList<>(familyIds.size() + 1);
+                keys.add(userKey(value));
+                familyIds.forEach(familyId -> keys.add(familyKey(value, familyId)));
+                Long deleted = stringRedisTemplate.execute(DELETE_USER_SCRIPT, keys, familyIds.toArray());
+                if (deleted != null && deleted >= 0) {
+                    log.info("Deleted {} refresh token families for userId: {}", deleted, value);
+                    return;
+                }
+                log.debug("Refresh token family added during deletion, retrying: userId={}, attempt={}", value,
+                    attempt);
+            }
+        } catch (Exception e) {
+            log.error("Failed to delete refresh tokens for userId: {}", value, e);
+            throw TokenException.deleteFailed(value, e);
+        }
+        log.error("Refresh token families kept changing during deletion for userId: {}", value);
+        throw TokenException.deleteFailed(value,
+            new IllegalStateException("Refresh token families changed during deletion"));
+    }
+
+    /**
+     * 사용자별 목록의 패밀리 ID를 조회합니다. 스크립트에 전달할 패밀리 키를 만들기 위해 사용합니다.
+     */
+    private List<String> loadFamilyIds(String userId) {
+        Set<String> members = stringRedisTemplate.opsForSet().members(userKey(userId));
+        return members != null ? new ArrayList<>(members) : List.of();
+    }
+
+    /**
+     * 사용자 ID를 해시 태그로 감싸 한 사용자의 키가 Redis Cluster의 같은 슬롯에 배치되도록 합니다.
+     */
+    private String familyKey(String userId, String familyId) {
+        return KEY_PREFIX + "{" + userId + "}:family:" + familyId;
+    }
+
+    private String userKey(String userId) {
+        return KEY_PREFIX + "{" + userId + "}:families";
+    }
+
+    /**
+     * 만료 시각까지 남은 시간(ms)을 반환합니다. 이미 만료된 토큰도 최소 1ms로 저장하여 즉시 사라지게 합니다.
+     */
+    private String ttlMillis(LocalDateTime expiresAt) {
+        long millis = Duration.between(LocalDateTime.now(), expiresAt).toMillis();
+        return String.valueOf(Math.max(millis, 1L));
+    }
+
+    /**
+     * 토큰 원문 대신 SHA-256 해시만 저장하여 Redis가 노출되어도 토큰을 재사용할 수 없게 합니다.
+     */
+    static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 algorithm is not available", e);
+        }
+    }
+}
@@ -0,0 +1,212 @@
+package com.gongdel.promptserver.adapter.out.redis;
+
+import com.gongdel.promptserver.adapter.out.persistence.entity.TokenBlacklistEntity;
+import com.gongdel.promptserver.adapter.out.persistence.repository.TokenBlacklistRepository;
+import com.gongdel.promptserver.application.port.out.command.SaveTokenBlacklistPort;
+import com.gongdel.promptserver.application.port.out.query.CheckTokenBlacklistPort;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.Assert;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redis 기반 토큰 블랙리스트 어댑터입니다.
+ * <p>
+ * 로그아웃된 토큰 ID(jti)를 남은 토큰 수명만큼의 TTL로 Redis에 저장하고, 프로세스 내부 Bloom 필터를 앞단에 둡니다.
+ * 블랙리스트에 없는 대부분의 토큰은 Bloom 필터만으로 판단하여 네트워크 왕복 없이 통과시키고,
+ * 필터가 있다고 판단한 경우에만 Redis에서 확정합니다. 필터가 있다고 판단했지만 Redis에 키가 없거나 Redis 오류가 나면
+ * 원본인 DB를 조회하므로, Redis 키가 유실되어도 폐기된 토큰이 통과하지 않습니다.
+ * <p>
+ * 원본 기록은 호출 측이 DB에 먼저 저장하며, 이 어댑터의 Redis 저장은 최선 노력으로 수행되어 Redis 장애가 로그아웃을 실패시키지 않습니다.
+ * <p>
+ * 다른 인스턴스에서 등록된 토큰은 Pub/Sub 메시지로 필터에 반영하며, 놓친 메시지와 만료된 토큰은
+ * 주기적으로 DB의 유효한 블랙리스트로 필터를 다시 만들면서 정리합니다. 이때 Redis에서 유실된 키도 다시 채웁니다.
+ * <p>
+ * 키 네이밍 규칙:
+ * - 블랙리스트 토큰: blacklist:token:{tokenId}
+ * - 등록 알림 채널: blacklist:token:channel
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TokenBlacklistRedisAdapter implements SaveTokenBlacklistPort, CheckTokenBlacklistPort, MessageListener {
+
+    private static final String KEY_PREFIX = "blacklist:token:";
+    static final String CHANNEL = "blacklist:token:channel";
+    private static final String BLACKLISTED = "1";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final TokenBlacklistRepository tokenBlacklistRepository;
+
+    @Value("${redis.blacklist.bloom-expected-insertions:100000}")
+    private long bloomExpectedInsertions;
+
+    @Value("${redis.blacklist.bloom-false-positive-rate:0.01}")
+    private double bloomFalsePositiveRate;
+
+    /**
+     * 현재 사용 중인 필터 (첫 적재 전에는 null이며, 이때는 모든 토큰을 Redis에서 확인)
+     */
+    private volatile TokenBloomFilter bloomFilter;
+
+    /**
+     * 재구성 중인 필터 (재구성 도중 수신한 토큰이 새 필터에서 누락되지 않도록 함께 추가)
+     */
+    private volatile TokenBloomFilter rebuildingFilter;
+
+    @PostConstruct
+    void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    /**
+     * 토큰 ID를 필터에 추가하고, 남은 수명 동안 Redis 블랙리스트에 등록한 뒤 다른 인스턴스에 알립니다.
+     * Redis 저장 실패는 기록만 하며, 다른 인스턴스의 필터에는 다음 재구성 때 DB에서 반영됩니다.
+     *
+     * @param tokenId   블랙리스트에 추가할 토큰 ID(jti)
+     * @param expiresAt 토큰 만료 일시
+     */
+    @Override
+    public void addToBlacklist(String tokenId, LocalDateTime expiresAt) {
+        Assert.hasText(tokenId, "tokenId must not be empty");
+        Assert.notNull(expiresAt, "expiresAt must not be null");
+        Duration ttl = Duration.between(LocalDateTime.now(), expiresAt);
+        if (ttl.isNegative() || ttl.isZero()) {
+            log.debug("Token already expired, skipping blacklist: {}", tokenId);
+            return;
+        }
+        addToFilters(tokenId);
+        try {
+            stringRedisTemplate.opsForValue().set(KEY_PREFIX + tokenId, BLACKLISTED, ttl.toSeconds() + 1,
+                TimeUnit.SECONDS);
+            stringRedisTemplate.convertAndSend(CHANNEL, tokenId);
+            log.debug("Token added to blacklist cache: {}, ttl={}s", tokenId, ttl.toSeconds());
+        } catch (Exception e) {
+            log.warn("Failed to add token to blacklist cache, relying on database record: {}", tokenId, e);
+        }
+    }
+
+    /**
+     * 토큰 ID가 블랙리스트에 있는지 확인합니다.
+     *
+     * @param tokenId 토큰 ID(jti)
+     * @return 블랙리스트 등록 여부
+     */
+    @Override
+    public boolean isBlacklisted(String tokenId) {
+        if (tokenId == null) {
+            return false;
+        }
+        TokenBloomFilter filter = bloomFilter;
+        if (filter != null && !filter.mightContain(tokenId)) {
+            return false;
+        }
+        try {
+            if (Boolean.TRUE.equals(stringRedisTemplate.hasKey(KEY_PREFIX + tokenId))) {
+                return true;
+            }
+        } catch (Exception e) {
+            log.warn("Failed to check token blacklist in cache, falling back to database: {}", tokenId, e);
+            return tokenBlacklistRepository.existsByTokenId(tokenId);
+        }
+        return filter != null && isBlacklistedInDatabase(tokenId);
+    }
+
+    /**
+     * 필터에는 있지만 Redis에 키가 없는 토큰을 DB에서 확인합니다.
+     * 필터의 거짓 양성이거나 Redis 키가 유실된 경우이며, 유실된 경우에는 키를 다시 채웁니다.
+     */
+    private boolean isBlacklistedInDatabase(String tokenId) {
+        LocalDateTime now = LocalDateTime.now();
+        Optional<TokenBlacklistEntity> token = tokenBlacklistRepository.findByTokenId(tokenId)
+            .filter(entity -> entity.getExpiresAt().isAfter(now));
+        if (token.isEmpty()) {
+            return false;
+        }
+        try {
+            restoreKey(token.get(), now);
+            log.info("Restored missing blacklist key from database: {}", tokenId);
+        } catch (Exception e) {
+            log.warn("Failed to restore blacklist key: {}", tokenId, e);
+        }
+        return true;
+    }
+
+    /**
+     * 다른 인스턴스에서 등록한 토큰 ID를 필터에 추가합니다.
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String tokenId = new String(message.getBody(), StandardCharsets.UTF_8);
+        if (!tokenId.isBlank()) {
+            addToFilters(tokenId);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initializeFilter() {
+        rebuildFilter();
+    }
+
+    /**
+     * 10분마다 DB의 유효한 블랙리스트로 Bloom 필터를 다시 만들고, Redis에서 유실된 키를 다시 채웁니다.
+     * 만료된 토큰이 필터에서 빠지므로 거짓 양성 비율이 시간이 지나도 늘어나지 않습니다.
+     */
+    @Scheduled(fixedDelay = 10, initialDelay = 10, timeUnit = TimeUnit.MINUTES)
+    public void rebuildFilter() {
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            TokenBloomFilter filter = new TokenBloomFilter(bloomExpectedInsertions, bloomFalsePositiveRate);
+            rebuildingFilter = filter;
+            List<TokenBlacklistEntity> activeTokens = tokenBlacklistRepository.findByExpiresAtAfter(now);
+            for (TokenBlacklistEntity token : activeTokens) {
+                filter.put(token.getTokenId());
+                restoreKey(token, now);
+            }
+            bloomFilter = filter;
+            log.info("Token blacklist filter rebuilt with {} active tokens", activeTokens.size());
+        } catch (Exception e) {
+            log.error("Failed to rebuild token blacklist filter", e);
+        } finally {
+            rebuildingFilter = null;
+        }
+    }
+
+    private void restoreKey(TokenBlacklistEntity token, LocalDateTime now) {
+        long ttlSeconds = Duration.between(now, token.getExpiresAt()).toSeconds() + 1;
+        stringRedisTemplate.opsForValue()
+            .setIfAbsent(KEY_PREFIX + token.getTokenId(), BLACKLISTED, ttlSeconds, TimeUnit.SECONDS);
+    }
+
+    /**
+     * 재구성 중인 필터를 먼저 읽어, 재구성 완료 직후 교체된 필터에 추가가 누락되지 않도록 합니다.
+     */
+    private void addToFilters(String tokenId) {
+        TokenBloomFilter rebuilding = rebuildingFilter;
+        if (rebuilding != null) {
+            rebuilding.put(tokenId);
+        }
+        TokenBloomFilter filter = bloomFilter;
+        if (filter != null) {
+            filter.put(tokenId);
+        }
+    }
+}
@@ -0,0 +1,265 @@
+package com.gongdel.promptserver.adapter.out.redis;
+
+import com.gongdel.promptserver.application.port.out.command.UpdateUserPromptMembershipPort;
+import com.gongdel.promptserver.application.port.out.like.query.FindLikedPromptsPort;
+import com.gongdel.promptserver.application.port.out.query.FindFavoritesPort;
+import com.gongdel.promptserver.application.port.out.query.LoadUserPromptMembershipPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 사용자별 좋아요·즐겨찾기 프롬프트 ID를 Redis Set으로 캐시하는 어댑터입니다.
+ * <p>
+ * 목록 화면의 isLiked/isFavorite 판단을 페이지 단위 DB 조회 대신 SMISMEMBER 한 번으로 처리합니다.
+ * Set은 처음 조회될 때 DB에서 적재되며, 적재 여부는 {@link #LOADED_MARKER} 멤버로 구분합니다.
+ * 이후 좋아요·즐겨찾기 명령이 커밋되면 적재된 Set에만 변경을 반영하고, TTL이 지나면 다시 적재하여 누락된 변경을 바로잡습니다.
+ * <p>
+ * 변경은 반영할 때마다 사용자별 변경 토큰을 새 값으로 바꿉니다. 적재는 DB 조회 전에 읽은 토큰이 그대로일 때만
+ * 하나의 Lua 스크립트로 Set 교체와 TTL 설정을 수행하므로, DB 조회와 적재 사이에 커밋된 변경이 오래된 Set에 덮이지 않습니다.
+ * 멤버가 {@link #MAX_CACHED_MEMBERS}개를 넘는 사용자나 Redis 오류 시에는 기존처럼 페이지 단위로 DB를 조회합니다.
+ * <p>
+ * 키 네이밍 규칙:
+ * - 좋아요: membership:like:user:{userId}
+ * - 즐겨찾기: membership:favorite:user:{userId}
+ * - 변경 토큰: membership:{like|favorite}:user:{userId}:version
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserPromptMembershipRedisAdapter implements LoadUserPromptMembershipPort, UpdateUserPromptMembershipPort {
+
+    /**
+     * 캐시할 사용자별 최대 멤버 수
+     */
+    static final int MAX_CACHED_MEMBERS = 10_000;
+
+    /**
+     * Set이 DB에서 적재되었음을 나타내는 멤버 (빈 Set은 Redis에 존재할 수 없으므로 함께 저장)
+     */
+    static final String LOADED_MARKER = "loaded";
+
+    private static final String KEY_PREFIX = "membership";
+
+    /**
+     * SADD 한 번에 전달할 최대 멤버 수 (Lua unpack 스택 한도 대비)
+     */
+    private static final int LOAD_CHUNK_SIZE = 1_000;
+
+    /**
+     * KEYS[1]: 멤버십 Set, KEYS[2]: 변경 토큰
+     * ARGV[1]: 프롬프트 ID, ARGV[2]: 새 변경 토큰, ARGV[3]: 토큰 TTL(초)
+     * 변경 토큰을 바꾼 뒤 적재된 Set에만 멤버를 추가/제거합니다. 적재되지 않은 Set은 다음 조회 시 DB에서 적재됩니다.
+     */
+    private static final RedisScript<Long> ADD_SCRIPT = new DefaultRedisScript<>("""
+        redis.call('SET', KEYS[2], ARGV[2], 'EX', ARGV[3])
+        if redis.call('EXISTS', KEYS[1]) == 1 then
+            return redis.call('SADD', KEYS[1], ARGV[1])
+        end
+        return 0
+        """, Long.class);
+
+    private static final RedisScript<Long> REMOVE_SCRIPT = new DefaultRedisScript<>("""
+        redis.call('SET', KEYS[2], ARGV[2], 'EX', ARGV[3])
+        if redis.call('EXISTS', KEYS[1]) == 1 then
+            return redis.call('SREM', KEYS[1], ARGV[1])
+        end
+        return 0
+        """, Long.class);
+
+    /**
+     * KEYS[1]: 멤버십 Set, KEYS[2]: 변경 토큰
+     * ARGV[1]: DB 조회 전에 읽은 변경 토큰 (없으면 빈 문자열), ARGV[2]: TTL(초), ARGV[3..]: 멤버
+     * 토큰이 바뀌었으면 적재하지 않고 0을, 아니면 Set을 교체하고 TTL을 설정한 뒤 1을 반환합니다.
+     */
+    private static final RedisScript<Long> LOAD_SCRIPT = new DefaultRedisScript<>("""
+        local current = redis.call('GET', KEYS[2]) or ''
+        if current ~= ARGV[1] then
+            return 0
+        end
+        redis.call('DEL', KEYS[1])
+        for i = 3, #ARGV, %d do
+            redis.call('SADD', KEYS[1], unpack(ARGV, i, math.min(i + %d, #ARGV)))
+        end
+        redis.call('EXPIRE', KEYS[1], ARGV[2])
+        return 1
+        """.formatted(LOAD_CHUNK_SIZE, LOAD_CHUNK_SIZE - 1), Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final FindLikedPromptsPort findLikedPromptsPort;
+    private final FindFavoritesPort findFavoritesPort;
+
+    @Value("${redis.membership.cache-ttl-hours:6}")
+    private long cacheTtlHours;
+
+    @Override
+    public Set<Long> findLikedPromptIds(Long userId, List<Long> promptTemplateIds) {
+        return findMembers(MembershipType.LIKE, userId, promptTemplateIds);
+    }
+
+    @Override
+    public Set<Long> findFavoritePromptIds(Long userId, List<Long> promptTemplateIds) {
+        return findMembers(MembershipType.FAVORITE, userId, promptTemplateIds);
+    }
+
+    @Override
+    public boolean isLiked(Long userId, Long promptTemplateId) {
+        return !findLikedPromptIds(userId, List.of(promptTemplateId)).isEmpty();
+    }
+
+    @Override
+    public boolean isFavorite(Long userId, Long promptTemplateId) {
+        return !findFavoritePromptIds(userId, List.of(promptTemplateId)).isEmpty();
+    }
+
+    @Override
+    public void addLikedPrompt(Long userId, Long promptTemplateId) {
+        updateAfterCommit(MembershipType.LIKE, ADD_SCRIPT, userId, promptTemplateId);
+    }
+
+    @Override
+    public void removeLikedPrompt(Long userId, Long promptTemplateId) {
+        updateAfterCommit(MembershipType.LIKE, REMOVE_SCRIPT, userId, promptTemplateId);
+    }
+
+    @Override
+    public void addFavoritePrompt(Long userId, Long promptTemplateId) {
+        updateAfterCommit(MembershipType.FAVORITE, ADD_SCRIPT, userId, promptTemplateId);
+    }
+
+    @Override
+    public void removeFavoritePrompt(Long userId, Long promptTemplateId) {
+        updateAfterCommit(MembershipType.FAVORITE, REMOVE_SCRIPT, userId, promptTemplateId);
+    }
+
+    /**
+     * 적재 표시 멤버와 확인할 프롬프트 ID를 SMISMEMBER 한 번으로 확인합니다.
+     * Set이 적재되지 않았으면 DB에서 적재한 뒤 결과를 계산합니다.
+     */
+    private Set<Long> findMembers(MembershipType type, Long userId, List<Long> promptTemplateIds) {
+        if (userId == null || promptTemplateIds == null || promptTemplateIds.isEmpty()) {
+            return Collections.emptySet();
+        }
+        try {
+            String key = type.key(userId);
+            Object[] members = new Object[promptTemplateIds.size() + 1];
+            members[0] = LOADED_MARKER;
+            for (int i = 0; i < promptTemplateIds.size(); i++) {
+                members[i + 1] = String.valueOf(promptTemplateIds.get(i));
+            }
+            Map<Object, Boolean> memberships = stringRedisTemplate.opsForSet().isMember(key, members);
+            if (memberships != null && Boolean.TRUE.equals(memberships.get(LOADED_MARKER))) {
+                return promptTemplateIds.stream()
+                    .filter(id -> Boolean.TRUE.equals(memberships.get(String.valueOf(id))))
+                    .collect(Collectors.toSet());
+            }
+            Optional<Set<Long>> loaded = load(type, userId);
+            if (loaded.isPresent()) {
+                Set<Long> all = loaded.get();
+                return promptTemplateIds.stream().filter(all::contains).collect(Collectors.toSet());
+            }
+        } catch (Exception e) {
+            log.warn("Failed to check {} membership in cache, falling back to database. userId={}",
+                type.label, userId, e);
+        }
+        return new HashSet<>(type == MembershipType.LIKE
+            ? findLikedPromptsPort.findLikedPromptIdsAmong(userId, promptTemplateIds)
+            : findFavoritesPort.findFavoritePromptIdsAmong(userId, promptTemplateIds));
+    }
+
+    /**
+     * 사용자의 전체 멤버를 DB에서 조회하여 Set으로 적재합니다.
+     * 조회 중 변경이 반영되어 변경 토큰이 바뀌었으면 적재하지 않고 조회 결과만 반환합니다.
+     *
+     * @return 조회한 프롬프트 ID (멤버 수가 한도를 넘으면 Optional.empty())
+     */
+    private Optional<Set<Long>> load(MembershipType type, Long userId) {
+        String key = type.key(userId);
+        String versionKey = type.versionKey(userId);
+        String version = stringRedisTemplate.opsForValue().get(versionKey);
+        List<Long> promptTemplateIds = type == MembershipType.LIKE
+            ? findLikedPromptsPort.findLikedPromptIds(userId, MAX_CACHED_MEMBERS + 1)
+            : findFavoritesPort.findFavoritePromptIds(userId, MAX_CACHED_MEMBERS + 1);
+        if (promptTemplateIds.size() > MAX_CACHED_MEMBERS) {
+            log.debug("Too many {} members to cache. userId={}", type.label, userId);
+            return Optional.empty();
+        }
+        Object[] args = new Object[promptTemplateIds.size() + 3];
+        args[0] = version != null ? version : "";
+        args[1] = String.valueOf(TimeUnit.HOURS.toSeconds(cacheTtlHours));
+        args[2] = LOADED_MARKER;
+        for (int i = 0; i < promptTemplateIds.size(); i++) {
+            args[i + 3] = String.valueOf(promptTemplateIds.get(i));
+        }
+        Long loaded = stringRedisTemplate.execute(LOAD_SCRIPT, List.of(key, versionKey), args);
+        if (loaded != null && loaded == 1L) {
+            log.debug("Loaded {} {} members into cache. userId={}", promptTemplateIds.size(), type.label, userId);
+        } else {
+            log.debug("Skipped caching {} members changed during load. userId={}", type.label, userId);
+        }
+        return Optional.of(new HashSet<>(promptTemplateIds));
+    }
+
+    /**
+     * 트랜잭션이 진행 중이면 커밋 이후에, 아니면 즉시 Set을 갱신합니다.
+     * 롤백된 변경이 캐시에 남지 않도록 하며, 캐시 갱신 실패는 명령 처리에 영향을 주지 않습니다.
+     */
+    private void updateAfterCommit(MembershipType type, RedisScript<Long> script, Long userId,
+                                   Long promptTemplateId) {
+        if (userId == null || promptTemplateId == null) {
+            return;
+        }
+        Runnable update = () -> {
+            try {
+                stringRedisTemplate.execute(script, List.of(type.key(userId), type.versionKey(userId)),
+                    String.valueOf(promptTemplateId), UUID.randomUUID().toString(),
+                    String.valueOf(TimeUnit.HOURS.toSeconds(cacheTtlHours)));
+            } catch (Exception e) {
+                log.warn("Failed to update {} membership cache. userId={}, promptTemplateId={}",
+                    type.label, userId, promptTemplateId, e);
+            }
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    update.run();
+                }
+            });
+        } else {
+            update.run();
+        }
+    }
+
+    /**
+     * 캐시하는 멤버십 종류
+     */
+    private enum MembershipType {
+        LIKE("like"),
+        FAVORITE("favorite");
+
+        private final String label;
+
+        MembershipType(String label) {
+            this.label = label;
+        }
+
+        private String key(Long userId) {
+            return KEY_PREFIX + ":" + label + ":user:" + userId;
+        }
+
+        private String versionKey(Long userId) {
+            return key(userId) + ":version";
+        }
+    }
+}
@@ -57,4 +57,11 @@ public interface CategoryQueryUseCase {
      * @return 하위 카테고리 목록
      */
     List<Category> getSubCategories(Long parentId);
+
+    /**
+     * 카테고리 카탈로그의 버전을 조회합니다. 카테고리가 변경되면 값이 바뀌므로 HTTP ETag로 사용합니다.
+     *
+     * @return 카탈로그 버전
+     */
+    String getCatalogVersion();
 }
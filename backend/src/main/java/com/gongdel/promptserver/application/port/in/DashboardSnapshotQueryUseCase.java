@@ -0,0 +1,15 @@
+package com.gongdel.promptserver.application.port.in;
+
+import com.gongdel.promptserver.domain.statistics.DashboardSnapshot;
+
+/**
+ * 미리 계산한 대시보드 통계 스냅샷 조회 유스케이스 인터페이스입니다.
+ */
+public interface DashboardSnapshotQueryUseCase {
+    /**
+     * 메모리에 보관 중인 최신 대시보드 통계 스냅샷을 조회합니다.
+     *
+     * @return 대시보드 통계 스냅샷
+     */
+    DashboardSnapshot getSnapshot();
+}
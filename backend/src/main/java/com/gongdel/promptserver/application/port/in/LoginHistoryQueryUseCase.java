@@ -0,0 +1,19 @@
+package com.gongdel.promptserver.application.port.in;
+
+import com.gongdel.promptserver.domain.login.LoginHistory;
+
+import java.util.List;
+
+/**
+ * 로그인 이력 조회 유스케이스 인터페이스입니다.
+ */
+public interface LoginHistoryQueryUseCase {
+    /**
+     * 사용자의 최근 로그인 이력을 최신순으로 조회합니다.
+     *
+     * @param userId 사용자 PK (null 불가)
+     * @param limit  최대 조회 건수 (1~100 범위로 보정)
+     * @return 최신순 로그인 이력 목록
+     */
+    List<LoginHistory> getRecentLoginHistories(Long userId, int limit);
+}
@@ -0,0 +1,21 @@
+package com.gongdel.promptserver.application.port.in;
+
+import com.gongdel.promptserver.domain.model.PromptExportCondition;
+import com.gongdel.promptserver.domain.model.PromptExportRow;
+
+import java.util.function.Consumer;
+
+/**
+ * 프롬프트 내보내기를 위한 유스케이스 인터페이스입니다.
+ */
+public interface PromptExportUseCase {
+
+    /**
+     * 조건에 맞는 프롬프트를 현재 버전 내용·태그와 함께 한 행씩 전달합니다.
+     *
+     * @param condition 내보내기 조건
+     * @param consumer  행을 처리할 함수 (예: 응답 스트림 writer)
+     * @return 내보낸 행 수
+     */
+    long exportPrompts(PromptExportCondition condition, Consumer<PromptExportRow> consumer);
+}
@@ -0,0 +1,22 @@
+package com.gongdel.promptserver.application.port.in;
+
+import com.gongdel.promptserver.application.port.in.command.ImportPromptLine;
+import com.gongdel.promptserver.application.port.in.result.ImportPromptLineResult;
+
+import java.util.List;
+
+/**
+ * 프롬프트 템플릿 벌크 가져오기를 위한 유스케이스 인터페이스입니다.
+ * 입력 스트림은 인바운드 어댑터가 청크 단위로 나누어 전달하며, 각 청크는 하나의 트랜잭션으로 처리됩니다.
+ */
+public interface PromptImportUseCase {
+
+    /**
+     * 한 청크의 프롬프트를 등록합니다.
+     * 도메인 검증에 실패한 줄은 실패 결과로 보고되고 나머지 줄만 저장됩니다.
+     *
+     * @param lines 등록할 줄 목록
+     * @return 줄 번호 순으로 정렬된 줄별 처리 결과
+     */
+    List<ImportPromptLineResult> importChunk(List<ImportPromptLine> lines);
+}
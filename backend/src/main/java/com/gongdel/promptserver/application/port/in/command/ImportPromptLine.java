@@ -0,0 +1,38 @@
+package com.gongdel.promptserver.application.port.in.command;
+
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.util.Assert;
+
+/**
+ * 벌크 가져오기의 한 줄(NDJSON 레코드)을 나타내는 커맨드 객체입니다.
+ * 원본 입력의 줄 번호와 해당 줄에서 만들어진 등록 커맨드를 함께 보관합니다.
+ */
+@Getter
+public class ImportPromptLine {
+
+    /**
+     * 원본 입력의 줄 번호 (1부터 시작)
+     */
+    private final long lineNumber;
+
+    /**
+     * 해당 줄의 프롬프트 등록 커맨드
+     */
+    private final RegisterPromptCommand command;
+
+    /**
+     * ImportPromptLine 객체를 생성합니다.
+     *
+     * @param lineNumber 원본 입력의 줄 번호
+     * @param command    프롬프트 등록 커맨드
+     * @throws IllegalArgumentException 줄 번호가 1보다 작거나 command가 null인 경우
+     */
+    @Builder
+    public ImportPromptLine(long lineNumber, RegisterPromptCommand command) {
+        Assert.isTrue(lineNumber > 0, "Line number must be positive");
+        Assert.notNull(command, "RegisterPromptCommand must not be null");
+        this.lineNumber = lineNumber;
+        this.command = command;
+    }
+}
@@ -7,7 +7,7 @@ import lombok.Getter;
 
 /**
  * 로그인 요청을 처리하기 위한 커맨드 객체입니다.
- * 이메일과 비밀번호를 포함하여 사용자 인증에 필요한 정보를 전달합니다.
+ * 이메일과 비밀번호를 포함하여 사용자 인증에 필요한 정보와 로그인 이력에 남길 접속 정보를 전달합니다.
  */
 @Getter
 public class LoginCommand {
@@ -21,16 +21,30 @@ public class LoginCommand {
      */
     private final Password password;
 
+    /**
+     * 클라이언트 IP 주소 (선택)
+     */
+    private final String ipAddress;
+
+    /**
+     * 클라이언트 User-Agent (선택)
+     */
+    private final String userAgent;
+
     /**
      * 로그인 커맨드를 생성합니다.
      *
-     * @param email    사용자 이메일
-     * @param password 사용자 비밀번호
+     * @param email     사용자 이메일
+     * @param password  사용자 비밀번호
+     * @param ipAddress 클라이언트 IP 주소 (선택)
+     * @param userAgent 클라이언트 User-Agent (선택)
      * @throws IllegalArgumentException 이메일이나 비밀번호가 null이거나 비어있는 경우
      */
     @Builder
-    public LoginCommand(String email, String password) {
+    public LoginCommand(String email, String password, String ipAddress, String userAgent) {
         this.email = new Email(email);
         this.password = new Password(password);
+        this.ipAddress = ipAddress;
+        this.userAgent = userAgent;
     }
 }
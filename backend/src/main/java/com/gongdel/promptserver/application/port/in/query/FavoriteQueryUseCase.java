@@ -5,6 +5,7 @@ import com.gongdel.promptserver.domain.model.favorite.FavoriteSearchCondition;
 import com.gongdel.promptserver.domain.statistics.ComparisonPeriod;
 import com.gongdel.promptserver.domain.statistics.FavoriteStatistics;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 /**
  * 즐겨찾기 관련 Query 유스케이스 인터페이스입니다.
@@ -42,4 +43,13 @@ public interface FavoriteQueryUseCase {
      */
     Page<FavoritePromptResult> searchFavorites(FavoriteSearchCondition condition);
 
+    /**
+     * 특정 사용자의 즐겨찾기 목록을 최신순으로 커서 기반 조회합니다.
+     * 전체 개수를 세지 않으므로 즐겨찾기가 많아도 페이지 위치와 관계없이 일정한 비용으로 조회합니다.
+     *
+     * @param condition 검색 조건 (cursor가 null이면 첫 페이지)
+     * @return 즐겨찾기 목록 슬라이스
+     */
+    Slice<FavoritePromptResult> scrollFavorites(FavoriteSearchCondition condition);
+
 }
@@ -1,8 +1,10 @@
 package com.gongdel.promptserver.application.port.in.query;
 
+import com.gongdel.promptserver.application.port.in.result.PromptVersionHistoryResult;
 import com.gongdel.promptserver.domain.model.PromptVersion;
 
 import java.util.List;
+import java.util.UUID;
 
 /**
  * 프롬프트 템플릿 ID로 프롬프트 버전 목록을 조회하는 유스케이스
@@ -16,4 +18,14 @@ public interface FindPromptVersionsUseCase {
      * @return 프롬프트 버전 도메인 목록
      */
     List<PromptVersion> findByPromptTemplateId(Long promptTemplateId);
+
+    /**
+     * 프롬프트의 버전 이력을 최신 버전부터 페이지 단위로 조회합니다. 본문은 포함하지 않습니다.
+     *
+     * @param promptUuid          프롬프트 템플릿 UUID
+     * @param beforeVersionNumber 이전 페이지의 다음 커서 (null이면 첫 페이지)
+     * @param size                페이지 크기
+     * @return 버전 이력 한 페이지
+     */
+    PromptVersionHistoryResult findHistory(UUID promptUuid, Integer beforeVersionNumber, int size);
 }
@@ -0,0 +1,21 @@
+package com.gongdel.promptserver.application.port.in.query;
+
+import com.gongdel.promptserver.application.port.in.result.PromptVersionDiffResult;
+
+import java.util.UUID;
+
+/**
+ * 프롬프트 버전 간 줄 단위 차이를 조회하는 유스케이스
+ */
+public interface GetPromptVersionDiffUseCase {
+
+    /**
+     * 프롬프트 버전과 비교 대상 버전 사이의 차이를 조회합니다.
+     *
+     * @param promptUuid         프롬프트 템플릿 UUID
+     * @param versionUuid        대상 버전 UUID
+     * @param againstVersionUuid 비교 기준 버전 UUID (null이면 직전 버전)
+     * @return 버전 차이
+     */
+    PromptVersionDiffResult getDiff(UUID promptUuid, UUID versionUuid, UUID againstVersionUuid);
+}
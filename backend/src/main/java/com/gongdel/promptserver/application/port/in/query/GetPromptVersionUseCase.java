@@ -16,4 +16,13 @@ public interface GetPromptVersionUseCase {
      * @return 프롬프트 버전 도메인
      */
     PromptVersion getByUuid(UUID uuid);
+
+    /**
+     * 프롬프트에 속한 버전을 UUID로 조회합니다. 버전 이력에서 사용자가 연 버전의 본문을 불러올 때 사용합니다.
+     *
+     * @param promptUuid  프롬프트 템플릿 UUID
+     * @param versionUuid 조회할 프롬프트 버전의 UUID
+     * @return 프롬프트 버전 도메인
+     */
+    PromptVersion getByPromptUuidAndUuid(UUID promptUuid, UUID versionUuid);
 }
@@ -0,0 +1,59 @@
+package com.gongdel.promptserver.application.port.in.result;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * 벌크 가져오기 한 줄의 처리 결과(애플리케이션 계층용) DTO입니다.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class ImportPromptLineResult {
+
+    /**
+     * 처리 결과 상태
+     */
+    public enum Status {
+        SUCCESS,
+        FAILED
+    }
+
+    private final long lineNumber;
+    private final Status status;
+    private final UUID promptUuid;
+    private final String message;
+
+    /**
+     * 등록에 성공한 줄의 결과를 생성합니다.
+     *
+     * @param lineNumber 원본 입력의 줄 번호
+     * @param promptUuid 등록된 프롬프트 UUID
+     * @return 성공 결과
+     */
+    public static ImportPromptLineResult success(long lineNumber, UUID promptUuid) {
+        return new ImportPromptLineResult(lineNumber, Status.SUCCESS, promptUuid, null);
+    }
+
+    /**
+     * 등록에 실패한 줄의 결과를 생성합니다.
+     *
+     * @param lineNumber 원본 입력의 줄 번호
+     * @param message    실패 사유
+     * @return 실패 결과
+     */
+    public static ImportPromptLineResult failure(long lineNumber, String message) {
+        return new ImportPromptLineResult(lineNumber, Status.FAILED, null, message);
+    }
+
+    /**
+     * 성공 여부를 반환합니다.
+     *
+     * @return 성공 시 true
+     */
+    public boolean isSuccess() {
+        return status == Status.SUCCESS;
+    }
+}
@@ -0,0 +1,21 @@
+package com.gongdel.promptserver.application.port.in.result;
+
+import com.gongdel.promptserver.domain.model.PromptContentDiff;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.UUID;
+
+/**
+ * 두 프롬프트 버전 사이의 차이(애플리케이션 계층용) DTO입니다.
+ * 기준 버전이 없는 최초 버전이면 from 필드는 null입니다.
+ */
+@Getter
+@Builder
+public class PromptVersionDiffResult {
+    private final UUID fromVersionUuid;
+    private final Integer fromVersionNumber;
+    private final UUID toVersionUuid;
+    private final Integer toVersionNumber;
+    private final PromptContentDiff diff;
+}
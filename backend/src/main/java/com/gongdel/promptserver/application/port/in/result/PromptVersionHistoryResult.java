@@ -0,0 +1,39 @@
+package com.gongdel.promptserver.application.port.in.result;
+
+import com.gongdel.promptserver.domain.model.PromptVersionSummary;
+import lombok.Getter;
+import org.springframework.util.Assert;
+
+import java.util.List;
+
+/**
+ * 프롬프트 버전 이력 한 페이지(애플리케이션 계층용) DTO입니다.
+ * 다음 페이지는 마지막 항목의 버전 번호를 커서로 사용해 조회합니다.
+ */
+@Getter
+public class PromptVersionHistoryResult {
+    private final List<PromptVersionSummary> versions;
+    private final boolean hasNext;
+    private final Integer nextCursor;
+
+    private PromptVersionHistoryResult(List<PromptVersionSummary> versions, boolean hasNext, Integer nextCursor) {
+        this.versions = versions;
+        this.hasNext = hasNext;
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * 페이지 크기보다 하나 더 조회한 목록으로 결과를 생성합니다. 초과분이 있으면 다음 페이지가 있는 것으로 판단합니다.
+     *
+     * @param fetched 버전 번호 내림차순으로 최대 size + 1건 조회한 목록
+     * @param size    페이지 크기
+     * @return 버전 이력 결과
+     */
+    public static PromptVersionHistoryResult of(List<PromptVersionSummary> fetched, int size) {
+        Assert.notNull(fetched, "fetched must not be null");
+        boolean hasNext = fetched.size() > size;
+        List<PromptVersionSummary> page = hasNext ? List.copyOf(fetched.subList(0, size)) : List.copyOf(fetched);
+        Integer nextCursor = hasNext ? page.get(page.size() - 1).getVersionNumber() : null;
+        return new PromptVersionHistoryResult(page, hasNext, nextCursor);
+    }
+}
@@ -0,0 +1,12 @@
+package com.gongdel.promptserver.application.port.out;
+
+/**
+ * 카테고리 변경을 다른 인스턴스에 알리기 위한 포트입니다.
+ */
+public interface CategoryChangeBroadcastPort {
+
+    /**
+     * 카테고리가 변경되었음을 다른 인스턴스에 알립니다.
+     */
+    void broadcastCategoryChanged();
+}
@@ -1,5 +1,6 @@
 package com.gongdel.promptserver.application.port.out;
 
+import com.gongdel.promptserver.domain.model.statistics.CategoryDirectPromptCount;
 import com.gongdel.promptserver.domain.model.statistics.CategoryPromptCount;
 
 import java.util.List;
@@ -22,4 +23,11 @@ public interface CategoryStatisticsQueryPort {
      * @return 하위 카테고리별 프롬프트 개수 목록
      */
     List<CategoryPromptCount> getChildCategoryPromptCounts(Long rootId);
+
+    /**
+     * 모든 카테고리의 상위 카테고리와 직접 속한 프롬프트 개수 목록을 조회합니다.
+     *
+     * @return 카테고리별 직접 프롬프트 개수 목록
+     */
+    List<CategoryDirectPromptCount> getCategoryDirectPromptCounts();
 }
@@ -0,0 +1,50 @@
+package com.gongdel.promptserver.application.port.out;
+
+import com.gongdel.promptserver.domain.statistics.DashboardSnapshot;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 대시보드 통계 스냅샷을 인스턴스 간에 공유하기 위한 포트 인터페이스입니다.
+ */
+public interface DashboardSnapshotCachePort {
+
+    /**
+     * 공유 저장소의 스냅샷보다 생성 시각이 늦을 때만 스냅샷을 저장합니다. 비교와 저장은 원자적으로 수행합니다.
+     *
+     * @param snapshot 저장할 스냅샷
+     * @return 저장했으면 true, 저장된 스냅샷이 같거나 더 최신이면 false
+     */
+    boolean saveSnapshotIfNewer(DashboardSnapshot snapshot);
+
+    /**
+     * 공유 저장소의 최신 스냅샷을 조회합니다.
+     *
+     * @return 저장된 스냅샷 (없는 경우 Optional.empty())
+     */
+    Optional<DashboardSnapshot> loadSnapshot();
+
+    /**
+     * 통계에 영향을 주는 변경이 일어난 시각을 공유 저장소에 기록합니다. 이미 더 늦은 시각이 기록되어 있으면 유지합니다.
+     *
+     * @param changedAt 변경 시각
+     */
+    void markChanged(LocalDateTime changedAt);
+
+    /**
+     * 공유 저장소에 기록된 마지막 변경 시각을 조회합니다.
+     *
+     * @return 마지막 변경 시각 (기록이 없는 경우 Optional.empty())
+     */
+    Optional<LocalDateTime> loadLastChangedAt();
+
+    /**
+     * 스냅샷 재계산 권한을 획득합니다. 권한은 ttl 동안 유지되며 그동안 다른 인스턴스는 재계산하지 않습니다.
+     *
+     * @param ttl 권한 유지 시간
+     * @return 획득했으면 true
+     */
+    boolean tryAcquireRefreshLock(Duration ttl);
+}
@@ -1,6 +1,11 @@
 package com.gongdel.promptserver.application.port.out;
 
 import com.gongdel.promptserver.domain.model.PromptTemplate;
+import com.gongdel.promptserver.domain.model.PromptVersion;
+
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 
 /**
  * 프롬프트 저장을 위한 포트 인터페이스
@@ -14,4 +19,27 @@ public interface SavePromptPort {
      * @return 저장된 프롬프트
      */
     PromptTemplate savePrompt(PromptTemplate promptTemplate);
+
+    /**
+     * 신규 프롬프트 템플릿과 최초 버전을 함께 저장합니다.
+     * 템플릿 ID가 할당된 뒤 {@code initialVersionFactory}로 최초 버전을 생성하며, 템플릿·버전·태그 관계 행은 각각 한 번만
+     * INSERT 됩니다.
+     *
+     * @param promptTemplate        저장할 신규 프롬프트 템플릿
+     * @param initialVersionFactory 할당된 템플릿 ID로 최초 버전을 생성하는 함수
+     * @return currentVersionId가 설정된 저장된 프롬프트 템플릿
+     */
+    PromptTemplate savePromptWithInitialVersion(PromptTemplate promptTemplate,
+                                                Function<Long, PromptVersion> initialVersionFactory);
+
+    /**
+     * 신규 프롬프트 템플릿 여러 건을 최초 버전과 함께 한 번의 flush로 저장합니다.
+     * 벌크 가져오기처럼 청크 단위로 등록할 때 사용하며, INSERT는 JDBC 배치로 묶여 전송됩니다.
+     *
+     * @param promptTemplates       저장할 신규 프롬프트 템플릿 목록
+     * @param initialVersionFactory 원본 템플릿과 할당된 템플릿 ID로 최초 버전을 생성하는 함수
+     * @return 입력 순서대로 정렬된, currentVersionId가 설정된 저장된 프롬프트 템플릿 목록
+     */
+    List<PromptTemplate> savePromptsWithInitialVersions(List<PromptTemplate> promptTemplates,
+                                                        BiFunction<PromptTemplate, Long, PromptVersion> initialVersionFactory);
 }
@@ -2,6 +2,9 @@ package com.gongdel.promptserver.application.port.out;
 
 import com.gongdel.promptserver.domain.model.Tag;
 
+import java.util.Collection;
+import java.util.List;
+
 /**
  * 태그 저장을 위한 포트 인터페이스
  */
@@ -14,4 +17,12 @@ public interface SaveTagPort {
      * @return 저장된 태그
      */
     Tag saveTag(Tag tag);
+
+    /**
+     * 여러 태그를 한 번에 저장합니다.
+     *
+     * @param tags 저장할 태그 목록
+     * @return 저장된 태그 목록
+     */
+    List<Tag> saveTags(Collection<Tag> tags);
 }
@@ -0,0 +1,14 @@
+package com.gongdel.promptserver.application.port.out.command;
+
+/**
+ * 토큰 패밀리 도입 이전에 발급된 리프레시 토큰을 한 번만 사용하도록 소비하는 포트입니다.
+ */
+public interface ConsumeLegacyRefreshTokenPort {
+    /**
+     * 기존 저장소에 남아 있는 유효한 리프레시 토큰을 삭제합니다.
+     *
+     * @param token 클라이언트가 제시한 리프레시 토큰
+     * @return 유효한 토큰이 있어 삭제했으면 true, 없거나 이미 사용되었으면 false
+     */
+    boolean consumeLegacyRefreshToken(String token);
+}
@@ -7,16 +7,9 @@ import com.gongdel.promptserver.domain.user.UserId;
  */
 public interface DeleteRefreshTokenPort {
     /**
-     * 사용자의 리프레시 토큰을 삭제합니다.
+     * 사용자의 모든 리프레시 토큰 패밀리를 삭제합니다.
      *
      * @param userId 사용자 ID
      */
     void deleteByUserId(UserId userId);
-
-    /**
-     * 특정 리프레시 토큰을 삭제합니다.
-     *
-     * @param token 삭제할 토큰 값
-     */
-    void deleteRefreshToken(String token);
 }
@@ -0,0 +1,15 @@
+package com.gongdel.promptserver.application.port.out.command;
+
+import com.gongdel.promptserver.domain.user.UserId;
+
+/**
+ * 인증 처리에 사용되는 사용자 캐시를 무효화하기 위한 포트입니다.
+ */
+public interface EvictAuthenticatedUserPort {
+    /**
+     * 사용자의 캐시된 인증 정보를 제거합니다. 다음 요청에서 사용자 정보를 다시 조회합니다.
+     *
+     * @param userId 사용자 ID
+     */
+    void evictAuthenticatedUser(UserId userId);
+}
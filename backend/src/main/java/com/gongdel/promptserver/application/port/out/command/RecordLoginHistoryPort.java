@@ -0,0 +1,27 @@
+package com.gongdel.promptserver.application.port.out.command;
+
+import com.gongdel.promptserver.domain.login.LoginHistory;
+import com.gongdel.promptserver.domain.user.Email;
+
+/**
+ * 로그인 이력을 기록하는 포트 인터페이스입니다.
+ * 구현체는 호출 스레드를 막지 않고 이력을 비동기로 저장하며, 저장하지 못하더라도 예외를 던지지 않습니다.
+ */
+public interface RecordLoginHistoryPort {
+    /**
+     * 로그인 이력을 기록 대기열에 추가합니다.
+     *
+     * @param loginHistory 기록할 로그인 이력
+     */
+    void recordLogin(LoginHistory loginHistory);
+
+    /**
+     * 자격 증명이 틀린 로그인 시도를 실패 이력으로 기록 대기열에 추가합니다.
+     * 사용자는 저장할 때 이메일로 찾으며, 가입되지 않은 이메일은 기록하지 않습니다.
+     *
+     * @param email     로그인 시도 이메일
+     * @param ipAddress 클라이언트 IP
+     * @param userAgent 클라이언트 User-Agent
+     */
+    void recordFailedLogin(Email email, String ipAddress, String userAgent);
+}
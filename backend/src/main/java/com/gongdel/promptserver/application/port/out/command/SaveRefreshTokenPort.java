@@ -1,15 +1,26 @@
 package com.gongdel.promptserver.application.port.out.command;
 
 import com.gongdel.promptserver.domain.refreshtoken.RefreshToken;
+import com.gongdel.promptserver.domain.refreshtoken.RefreshTokenRotation;
 
 /**
  * 리프레시 토큰 저장을 위한 포트입니다.
  */
 public interface SaveRefreshTokenPort {
     /**
-     * 리프레시 토큰을 저장합니다.
+     * 새 토큰 패밀리로 리프레시 토큰을 저장합니다.
      *
      * @param refreshToken 저장할 리프레시 토큰
      */
     void saveRefreshToken(RefreshToken refreshToken);
+
+    /**
+     * 제시된 토큰이 패밀리의 현재 토큰이면 새 토큰으로 원자적으로 교체합니다.
+     * 이미 교체된 이전 토큰이면 재사용으로 판단하여 패밀리 전체를 폐기합니다.
+     *
+     * @param presented 클라이언트가 제시한 리프레시 토큰
+     * @param next      새로 발급한 리프레시 토큰 (같은 패밀리)
+     * @return 교체 결과
+     */
+    RefreshTokenRotation rotateRefreshToken(RefreshToken presented, RefreshToken next);
 }
@@ -7,10 +7,10 @@ import java.time.LocalDateTime;
  */
 public interface SaveTokenBlacklistPort {
     /**
-     * 토큰을 블랙리스트에 추가합니다.
+     * 토큰을 블랙리스트에 추가합니다. 토큰이 만료되면 블랙리스트에서도 제거됩니다.
      *
-     * @param token     블랙리스트에 추가할 토큰
+     * @param tokenId   블랙리스트에 추가할 토큰 ID(jti)
      * @param expiresAt 만료 일시
      */
-    void addToBlacklist(String token, LocalDateTime expiresAt);
+    void addToBlacklist(String tokenId, LocalDateTime expiresAt);
 }
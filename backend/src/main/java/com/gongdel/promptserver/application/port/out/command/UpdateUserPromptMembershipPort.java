@@ -0,0 +1,39 @@
+package com.gongdel.promptserver.application.port.out.command;
+
+/**
+ * 사용자별 좋아요·즐겨찾기 프롬프트 멤버십 캐시를 갱신하는 포트입니다.
+ * 트랜잭션 안에서 호출되면 커밋 이후에 반영됩니다.
+ */
+public interface UpdateUserPromptMembershipPort {
+    /**
+     * 사용자가 좋아요한 프롬프트를 추가합니다.
+     *
+     * @param userId           사용자 ID
+     * @param promptTemplateId 프롬프트 ID
+     */
+    void addLikedPrompt(Long userId, Long promptTemplateId);
+
+    /**
+     * 사용자가 좋아요한 프롬프트에서 제거합니다.
+     *
+     * @param userId           사용자 ID
+     * @param promptTemplateId 프롬프트 ID
+     */
+    void removeLikedPrompt(Long userId, Long promptTemplateId);
+
+    /**
+     * 사용자가 즐겨찾기한 프롬프트를 추가합니다.
+     *
+     * @param userId           사용자 ID
+     * @param promptTemplateId 프롬프트 ID
+     */
+    void addFavoritePrompt(Long userId, Long promptTemplateId);
+
+    /**
+     * 사용자가 즐겨찾기한 프롬프트에서 제거합니다.
+     *
+     * @param userId           사용자 ID
+     * @param promptTemplateId 프롬프트 ID
+     */
+    void removeFavoritePrompt(Long userId, Long promptTemplateId);
+}
@@ -5,9 +5,10 @@ package com.gongdel.promptserver.application.port.out.like.command;
  */
 public interface AddPromptLikePort {
     /**
-     * 프롬프트 좋아요를 추가합니다.
+     * 프롬프트 좋아요를 추가합니다. 이미 좋아요한 경우 아무것도 변경하지 않습니다.
      *
      * @param addPromptLike 좋아요 추가 요청 값
+     * @return 좋아요 행이 새로 추가되었으면 true
      */
-    void addLike(AddPromptLike addPromptLike);
+    boolean addLike(AddPromptLike addPromptLike);
 }
@@ -0,0 +1,75 @@
+package com.gongdel.promptserver.application.port.out.like.command;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.OptionalLong;
+
+/**
+ * 프롬프트별 좋아요 수를 캐시에 누적하고, 데이터베이스 반영 대기 중인 프롬프트를 관리하는 포트입니다.
+ * <p>
+ * 좋아요 수는 캐시에서 먼저 증감되고, 아직 데이터베이스에 반영되지 않은 증감량은 프롬프트별로 따로 누적되어
+ * 배치로 데이터베이스에 더해집니다.
+ */
+public interface CachePromptLikeCountPort {
+    /**
+     * 캐시된 좋아요 수를 증감하고 같은 증감량을 반영 대기 증감량에 누적합니다.
+     *
+     * @param update 증감 요청 값
+     * @return 갱신된 좋아요 수 (캐시에 값이 없으면 OptionalLong.empty())
+     */
+    OptionalLong incrementLikeCount(UpdatePromptLikeCount update);
+
+    /**
+     * 캐시에 좋아요 수가 없는 경우에만 초기값을 저장합니다.
+     *
+     * @param promptTemplateId 프롬프트 ID
+     * @param likeCount        데이터베이스에 저장된 좋아요 수
+     */
+    void initializeLikeCount(Long promptTemplateId, long likeCount);
+
+    /**
+     * 캐시된 좋아요 수를 조회합니다.
+     *
+     * @param promptTemplateId 프롬프트 ID
+     * @return 캐시된 좋아요 수 (캐시에 값이 없으면 OptionalLong.empty())
+     */
+    OptionalLong loadCachedLikeCount(Long promptTemplateId);
+
+    /**
+     * 반영 대기 중인 프롬프트를 최대 limit개 꺼내고, 각 프롬프트에 누적된 증감량을 0으로 되돌리며 가져옵니다.
+     * 꺼낸 프롬프트와 증감량은 캐시에서 제거되므로 여러 인스턴스가 동시에 호출해도 같은 증감량을 두 번 가져가지 않습니다.
+     *
+     * @param limit 최대 개수
+     * @return 프롬프트 ID별 증감량 (반영 대기 목록이 비어 있으면 빈 Map)
+     */
+    Map<Long, Long> popPendingLikeCountDeltas(int limit);
+
+    /**
+     * 데이터베이스 반영에 실패한 증감량을 반영 대기 증감량에 다시 더하고 프롬프트를 반영 대기 목록에 추가합니다.
+     *
+     * @param deltas 프롬프트 ID별 증감량
+     */
+    void restorePendingLikeCountDeltas(Map<Long, Long> deltas);
+
+    /**
+     * 캐시된 좋아요 수를 모두 제거합니다. 반영 대기 목록과 증감량은 유지합니다.
+     * 이후 첫 증감 요청에서 데이터베이스 값으로 다시 초기화됩니다.
+     */
+    void evictLikeCounts();
+
+    /**
+     * 좋아요 수 재계산 권한을 획득합니다. 권한은 ttl 동안 유지되며 그동안 다른 인스턴스는 재계산하지 않습니다.
+     *
+     * @param owner 권한 소유자 식별 값
+     * @param ttl   권한 유지 시간
+     * @return 획득했으면 true
+     */
+    boolean tryAcquireReconcileLock(String owner, Duration ttl);
+
+    /**
+     * owner가 소유한 경우에만 좋아요 수 재계산 권한을 해제합니다.
+     *
+     * @param owner 권한 소유자 식별 값
+     */
+    void releaseReconcileLock(String owner);
+}
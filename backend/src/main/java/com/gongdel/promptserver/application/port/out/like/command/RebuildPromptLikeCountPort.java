@@ -0,0 +1,13 @@
+package com.gongdel.promptserver.application.port.out.like.command;
+
+/**
+ * 좋아요 원본 테이블로부터 프롬프트별 좋아요 수 Projection을 재계산하는 포트입니다.
+ */
+public interface RebuildPromptLikeCountPort {
+    /**
+     * 좋아요 원본 행을 집계하여 Projection 값을 다시 맞춥니다.
+     *
+     * @return 값이 보정된 Projection 행 수
+     */
+    int rebuildLikeCounts();
+}
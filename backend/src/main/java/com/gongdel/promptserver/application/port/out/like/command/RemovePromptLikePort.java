@@ -5,9 +5,10 @@ package com.gongdel.promptserver.application.port.out.like.command;
  */
 public interface RemovePromptLikePort {
     /**
-     * 프롬프트 좋아요를 취소합니다.
+     * 프롬프트 좋아요를 취소합니다. 좋아요하지 않은 경우 아무것도 변경하지 않습니다.
      *
      * @param removePromptLike 좋아요 취소 요청 값
+     * @return 좋아요 행이 실제로 삭제되었으면 true
      */
-    void removeLike(RemovePromptLike removePromptLike);
+    boolean removeLike(RemovePromptLike removePromptLike);
 }
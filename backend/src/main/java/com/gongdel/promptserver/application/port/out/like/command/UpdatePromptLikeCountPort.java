@@ -1,5 +1,7 @@
 package com.gongdel.promptserver.application.port.out.like.command;
 
+import java.util.Map;
+
 /**
  * 프롬프트별 좋아요 수 Projection을 갱신하는 포트입니다.
  */
@@ -11,4 +13,11 @@ public interface UpdatePromptLikeCountPort {
      * @return 갱신된 좋아요 수
      */
     long updateLikeCount(UpdatePromptLikeCount update);
+
+    /**
+     * 캐시에 누적된 증감량을 Projection 값에 더합니다.
+     *
+     * @param deltas 프롬프트 ID별 증감량
+     */
+    void addLikeCounts(Map<Long, Long> deltas);
 }
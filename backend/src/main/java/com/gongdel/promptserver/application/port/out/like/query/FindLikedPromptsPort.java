@@ -3,6 +3,8 @@ package com.gongdel.promptserver.application.port.out.like.query;
 import com.gongdel.promptserver.domain.like.LikedPromptResult;
 import org.springframework.data.domain.Page;
 
+import java.util.List;
+
 /**
  * 내가 좋아요한 프롬프트 목록을 조회하는 포트입니다.
  */
@@ -14,4 +16,22 @@ public interface FindLikedPromptsPort {
      * @return 좋아요한 프롬프트 목록(페이징)
      */
     Page<LikedPromptResult> findLikedPrompts(FindLikedPrompts findLikedPrompts);
+
+    /**
+     * 사용자가 좋아요한 프롬프트 ID를 최대 limit개 조회합니다.
+     *
+     * @param userId 사용자 ID
+     * @param limit  최대 개수
+     * @return 좋아요한 프롬프트 ID 목록
+     */
+    List<Long> findLikedPromptIds(Long userId, int limit);
+
+    /**
+     * 주어진 프롬프트 중 사용자가 좋아요한 프롬프트 ID를 조회합니다.
+     *
+     * @param userId            사용자 ID
+     * @param promptTemplateIds 확인할 프롬프트 ID 목록
+     * @return 좋아요한 프롬프트 ID 목록
+     */
+    List<Long> findLikedPromptIdsAmong(Long userId, List<Long> promptTemplateIds);
 }
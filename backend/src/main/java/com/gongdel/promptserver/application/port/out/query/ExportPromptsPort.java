@@ -0,0 +1,23 @@
+package com.gongdel.promptserver.application.port.out.query;
+
+import com.gongdel.promptserver.domain.model.PromptExportCondition;
+import com.gongdel.promptserver.domain.model.PromptExportRow;
+
+import java.util.function.Consumer;
+
+/**
+ * 프롬프트 내보내기를 위한 조회 포트입니다.
+ * 결과 전체를 메모리에 적재하지 않고 전진 전용 커서로 한 행씩 전달합니다.
+ */
+public interface ExportPromptsPort {
+
+    /**
+     * 조건에 맞는 프롬프트를 ID 순으로 읽어 한 행씩 전달합니다.
+     * 커서는 호출이 끝나기 전에 닫히므로, consumer는 전달받은 행을 즉시 처리해야 합니다.
+     *
+     * @param condition 내보내기 조건
+     * @param consumer  행을 처리할 함수
+     * @return 전달된 행 수
+     */
+    long exportPrompts(PromptExportCondition condition, Consumer<PromptExportRow> consumer);
+}
@@ -4,6 +4,8 @@ import com.gongdel.promptserver.domain.model.favorite.FavoritePromptResult;
 import com.gongdel.promptserver.domain.model.favorite.FavoriteSearchCondition;
 import org.springframework.data.domain.Page;
 
+import java.util.List;
+
 /**
  * 즐겨찾기 목록 조회 포트
  */
@@ -15,4 +17,22 @@ public interface FindFavoritesPort {
      * @return 즐겨찾기 프롬프트 결과 페이지
      */
     Page<FavoritePromptResult> findFavorites(FavoriteSearchCondition condition);
+
+    /**
+     * 사용자가 즐겨찾기한 프롬프트 ID를 최대 limit개 조회합니다.
+     *
+     * @param userId 사용자 ID
+     * @param limit  최대 개수
+     * @return 즐겨찾기한 프롬프트 ID 목록
+     */
+    List<Long> findFavoritePromptIds(Long userId, int limit);
+
+    /**
+     * 주어진 프롬프트 중 사용자가 즐겨찾기한 프롬프트 ID를 조회합니다.
+     *
+     * @param userId            사용자 ID
+     * @param promptTemplateIds 확인할 프롬프트 ID 목록
+     * @return 즐겨찾기한 프롬프트 ID 목록
+     */
+    List<Long> findFavoritePromptIdsAmong(Long userId, List<Long> promptTemplateIds);
 }
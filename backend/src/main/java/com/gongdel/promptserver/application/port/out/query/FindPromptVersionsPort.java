@@ -1,6 +1,7 @@
 package com.gongdel.promptserver.application.port.out.query;
 
 import com.gongdel.promptserver.domain.model.PromptVersion;
+import com.gongdel.promptserver.domain.model.PromptVersionSummary;
 
 import java.util.List;
 
@@ -16,4 +17,15 @@ public interface FindPromptVersionsPort {
      * @return 프롬프트 버전 도메인 목록
      */
     List<PromptVersion> findPromptVersionsByPromptTemplateId(Long promptTemplateId);
+
+    /**
+     * 프롬프트 템플릿의 버전 요약 목록을 버전 번호 내림차순으로 조회합니다. 본문은 조회하지 않습니다.
+     *
+     * @param promptTemplateId    조회할 프롬프트 템플릿의 ID
+     * @param beforeVersionNumber 이 번호보다 이전 버전만 조회 (null이면 최신 버전부터)
+     * @param limit               최대 조회 건수
+     * @return 프롬프트 버전 요약 목록
+     */
+    List<PromptVersionSummary> findPromptVersionSummaries(Long promptTemplateId, Integer beforeVersionNumber,
+                                                          int limit);
 }
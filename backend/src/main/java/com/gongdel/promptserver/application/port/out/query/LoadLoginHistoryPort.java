@@ -0,0 +1,19 @@
+package com.gongdel.promptserver.application.port.out.query;
+
+import com.gongdel.promptserver.domain.login.LoginHistory;
+
+import java.util.List;
+
+/**
+ * 로그인 이력 조회 포트입니다.
+ */
+public interface LoadLoginHistoryPort {
+    /**
+     * 사용자의 최근 로그인 이력을 최신순으로 조회합니다.
+     *
+     * @param userId 사용자 PK
+     * @param limit  최대 조회 건수
+     * @return 최신순 로그인 이력 목록
+     */
+    List<LoginHistory> loadRecentLoginHistories(Long userId, int limit);
+}
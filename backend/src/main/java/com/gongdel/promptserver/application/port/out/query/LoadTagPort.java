@@ -2,6 +2,8 @@ package com.gongdel.promptserver.application.port.out.query;
 
 import com.gongdel.promptserver.domain.model.Tag;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -26,4 +28,13 @@ public interface LoadTagPort {
      * @throws IllegalArgumentException name이 null이거나 빈 문자열인 경우
      */
     Optional<Tag> loadTagByName(String name);
+
+    /**
+     * 이름 목록에 해당하는 태그를 한 번에 조회합니다. 존재하지 않는 이름은 결과에서 제외됩니다.
+     *
+     * @param names 조회할 태그 이름 목록
+     * @return 조회된 태그 도메인 리스트
+     * @throws IllegalArgumentException names가 null인 경우
+     */
+    List<Tag> loadTagsByNames(Collection<String> names);
 }
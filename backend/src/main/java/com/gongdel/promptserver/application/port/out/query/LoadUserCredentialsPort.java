@@ -0,0 +1,19 @@
+package com.gongdel.promptserver.application.port.out.query;
+
+import com.gongdel.promptserver.domain.user.Email;
+
+import java.util.Optional;
+
+/**
+ * 로그인 인증에 필요한 사용자 정보를 한 번에 조회하는 포트입니다.
+ */
+public interface LoadUserCredentialsPort {
+    /**
+     * 이메일로 사용자, 비밀번호 해시를 포함한 인증 정보, 역할 이름을 조회합니다.
+     *
+     * @param email 사용자 이메일 값 객체
+     * @return 조회된 인증 정보 (사용자가 없으면 Optional.empty())
+     * @throws IllegalArgumentException email이 null인 경우 발생
+     */
+    Optional<UserCredentials> loadUserCredentialsByEmail(Email email);
+}
@@ -0,0 +1,46 @@
+package com.gongdel.promptserver.application.port.out.query;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 사용자별 좋아요·즐겨찾기 프롬프트 멤버십을 조회하는 포트입니다.
+ * 목록 화면의 isLiked/isFavorite 판단에 사용합니다.
+ */
+public interface LoadUserPromptMembershipPort {
+    /**
+     * 주어진 프롬프트 중 사용자가 좋아요한 프롬프트 ID를 조회합니다.
+     *
+     * @param userId            사용자 ID (null이면 빈 Set)
+     * @param promptTemplateIds 확인할 프롬프트 ID 목록
+     * @return 좋아요한 프롬프트 ID
+     */
+    Set<Long> findLikedPromptIds(Long userId, List<Long> promptTemplateIds);
+
+    /**
+     * 주어진 프롬프트 중 사용자가 즐겨찾기한 프롬프트 ID를 조회합니다.
+     *
+     * @param userId            사용자 ID (null이면 빈 Set)
+     * @param promptTemplateIds 확인할 프롬프트 ID 목록
+     * @return 즐겨찾기한 프롬프트 ID
+     */
+    Set<Long> findFavoritePromptIds(Long userId, List<Long> promptTemplateIds);
+
+    /**
+     * 사용자가 프롬프트를 좋아요했는지 확인합니다.
+     *
+     * @param userId           사용자 ID (null이면 false)
+     * @param promptTemplateId 프롬프트 ID
+     * @return 좋아요 여부
+     */
+    boolean isLiked(Long userId, Long promptTemplateId);
+
+    /**
+     * 사용자가 프롬프트를 즐겨찾기했는지 확인합니다.
+     *
+     * @param userId           사용자 ID (null이면 false)
+     * @param promptTemplateId 프롬프트 ID
+     * @return 즐겨찾기 여부
+     */
+    boolean isFavorite(Long userId, Long promptTemplateId);
+}
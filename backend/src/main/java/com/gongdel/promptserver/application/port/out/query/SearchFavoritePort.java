@@ -3,6 +3,7 @@ package com.gongdel.promptserver.application.port.out.query;
 import com.gongdel.promptserver.domain.model.favorite.FavoritePromptResult;
 import com.gongdel.promptserver.domain.model.favorite.FavoriteSearchCondition;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 /**
  * 즐겨찾기 검색(Search) 포트입니다.
@@ -16,4 +17,12 @@ public interface SearchFavoritePort {
      * @return 즐겨찾기 프롬프트 결과 페이지
      */
     Page<FavoritePromptResult> searchFavorites(FavoriteSearchCondition condition);
+
+    /**
+     * 즐겨찾기를 최신순으로 커서 기반 조회합니다.
+     *
+     * @param condition 즐겨찾기 검색 조건 (cursor가 null이면 첫 페이지)
+     * @return 즐겨찾기 프롬프트 결과 슬라이스
+     */
+    Slice<FavoritePromptResult> scrollFavorites(FavoriteSearchCondition condition);
 }
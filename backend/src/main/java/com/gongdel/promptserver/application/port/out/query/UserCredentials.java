@@ -0,0 +1,55 @@
+package com.gongdel.promptserver.application.port.out.query;
+
+import com.gongdel.promptserver.domain.user.User;
+import com.gongdel.promptserver.domain.userauth.UserAuthentication;
+import lombok.Getter;
+import lombok.ToString;
+import org.springframework.util.Assert;
+
+import java.util.List;
+
+/**
+ * 인증에 필요한 사용자, 인증 정보, 역할 이름을 함께 담는 조회 결과 값
+ * <p>
+ * 사용자 역할 매핑은 있지만 역할 정의가 없는 역할 ID는 누락된 역할 ID로 따로 담습니다.
+ */
+@Getter
+@ToString(exclude = "userAuthentication")
+public class UserCredentials {
+    private final User user;
+    private final UserAuthentication userAuthentication;
+    private final List<String> roleNames;
+    private final List<Long> missingRoleIds;
+
+    /**
+     * 인증 조회 결과 값 생성자
+     *
+     * @param user               사용자 (null 불가)
+     * @param userAuthentication 인증 정보 (없으면 null)
+     * @param roleNames          역할 이름 목록 (null 불가, 역할이 없으면 빈 목록)
+     * @throws IllegalArgumentException user 또는 roleNames가 null인 경우
+     */
+    public UserCredentials(User user, UserAuthentication userAuthentication, List<String> roleNames) {
+        this(user, userAuthentication, roleNames, List.of());
+    }
+
+    /**
+     * 누락된 역할 ID를 포함한 인증 조회 결과 값 생성자
+     *
+     * @param user               사용자 (null 불가)
+     * @param userAuthentication 인증 정보 (없으면 null)
+     * @param roleNames          역할 이름 목록 (null 불가, 역할이 없으면 빈 목록)
+     * @param missingRoleIds     역할 정의가 없는 역할 ID 목록 (null 불가)
+     * @throws IllegalArgumentException user, roleNames 또는 missingRoleIds가 null인 경우
+     */
+    public UserCredentials(User user, UserAuthentication userAuthentication, List<String> roleNames,
+                           List<Long> missingRoleIds) {
+        Assert.notNull(user, "user must not be null");
+        Assert.notNull(roleNames, "roleNames must not be null");
+        Assert.notNull(missingRoleIds, "missingRoleIds must not be null");
+        this.user = user;
+        this.userAuthentication = userAuthentication;
+        this.roleNames = List.copyOf(roleNames);
+        this.missingRoleIds = List.copyOf(missingRoleIds);
+    }
+}
@@ -8,30 +8,38 @@ import com.gongdel.promptserver.application.port.in.command.LogoutCommand;
 import com.gongdel.promptserver.application.port.in.command.SignUpCommand;
 import com.gongdel.promptserver.application.port.in.command.TokenRefreshCommand;
 import com.gongdel.promptserver.application.port.out.command.*;
-import com.gongdel.promptserver.application.port.out.query.LoadRefreshTokenPort;
 import com.gongdel.promptserver.application.port.out.query.LoadRolePort;
 import com.gongdel.promptserver.application.port.out.query.LoadUserPort;
 import com.gongdel.promptserver.common.security.JwtTokenProvider;
+import com.gongdel.promptserver.common.security.ParsedToken;
 import com.gongdel.promptserver.common.security.SecurityUserDetails;
+import com.gongdel.promptserver.domain.exception.AuthBusyException;
 import com.gongdel.promptserver.domain.exception.AuthErrorType;
 import com.gongdel.promptserver.domain.exception.AuthException;
+import com.gongdel.promptserver.domain.exception.InvalidJwtException;
 import com.gongdel.promptserver.domain.exception.TokenException;
 import com.gongdel.promptserver.domain.exception.TokenValidationException;
+import com.gongdel.promptserver.domain.login.LoginHistory;
 import com.gongdel.promptserver.domain.logout.LogoutToken;
 import com.gongdel.promptserver.domain.refreshtoken.RefreshToken;
+import com.gongdel.promptserver.domain.refreshtoken.RefreshTokenRotation;
 import com.gongdel.promptserver.domain.role.Role;
+import com.gongdel.promptserver.domain.statistics.DashboardStatisticsChangedEvent;
 import com.gongdel.promptserver.domain.user.*;
 import com.gongdel.promptserver.domain.userauth.UserAuthentication;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.Assert;
 
 import java.time.LocalDateTime;
@@ -41,6 +49,10 @@ import java.util.Date;
 /**
  * 인증 관련 서비스를 제공하는 클래스입니다.
  * 회원가입, 로그인, 토큰 발급/갱신, 로그아웃 기능을 담당합니다.
+ * <p>
+ * 비밀번호 해시는 해시 풀 대기열에서 기다리거나 수백 ms 동안 계산될 수 있으므로, 회원가입과 로그인은 트랜잭션 밖에서
+ * 해시를 처리합니다. 해시를 기다리는 동안 DB 커넥션을 점유하지 않도록 하기 위함이며,
+ * 회원가입의 저장은 해시가 끝난 뒤 별도 트랜잭션으로 수행합니다.
  */
 @Slf4j
 @Service
@@ -58,7 +70,10 @@ public class AuthCommandService implements AuthCommandUseCase {
     private final JwtTokenProvider jwtTokenProvider;
     private final LogoutPort logoutPort;
     private final SaveRefreshTokenPort saveRefreshTokenPort;
-    private final LoadRefreshTokenPort loadRefreshTokenPort;
+    private final ConsumeLegacyRefreshTokenPort consumeLegacyRefreshTokenPort;
+    private final RecordLoginHistoryPort recordLoginHistoryPort;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
 
     @PostConstruct
     public void init() {
@@ -69,17 +84,24 @@ public class AuthCommandService implements AuthCommandUseCase {
      * 회원가입을 처리합니다.
      *
      * @param command 회원가입 요청 정보
-     * @throws AuthException 이메일 중복 또는 비밀번호 정책 위반 시 발생
+     * @throws AuthException     이메일 중복 또는 비밀번호 정책 위반 시 발생
+     * @throws AuthBusyException 비밀번호 해시 대기열이 가득 찬 경우 발생
      */
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void signUp(SignUpCommand command) {
         Assert.notNull(command, "SignUpCommand must not be null");
         try {
             validateSignUpRequest(command);
+            String encodedPassword = passwordEncoder.encode(command.getPassword().toRaw());
 
-            User savedUser = createAndSaveUser(command);
-            createAndSaveUserAuthentication(savedUser.getId(), command.getPassword());
-            assignDefaultRole(savedUser.getId());
+            User savedUser = transactionTemplate.execute(status -> {
+                User user = createAndSaveUser(command);
+                createAndSaveUserAuthentication(user.getId(), encodedPassword);
+                assignDefaultRole(user.getId());
+                eventPublisher.publishEvent(new DashboardStatisticsChangedEvent("user-signed-up"));
+                return user;
+            });
 
             log.info("User signed up successfully: userId={}", savedUser.getUuid());
         } catch (IllegalArgumentException e) {
@@ -93,10 +115,12 @@ public class AuthCommandService implements AuthCommandUseCase {
      *
      * @param command 로그인 요청 정보
      * @return 로그인 응답 (JWT 토큰 포함)
-     * @throws AuthException  인증 실패 시 발생
-     * @throws TokenException 토큰 생성/저장 실패 시 발생
+     * @throws AuthException     인증 실패 시 발생
+     * @throws AuthBusyException 비밀번호 해시 대기열이 가득 찬 경우 발생
+     * @throws TokenException    토큰 생성/저장 실패 시 발생
      */
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public LoginResponse login(LoginCommand command) {
         Assert.notNull(command, "LoginCommand must not be null");
         User user = null;
@@ -107,12 +131,17 @@ public class AuthCommandService implements AuthCommandUseCase {
 
             String accessToken = generateAccessToken(user);
             String refreshToken = generateAndSaveRefreshToken(user);
+            recordLoginHistory(user, command);
 
             log.info("User logged in successfully: userId={}", user.getUuid());
             return new LoginResponse(accessToken, refreshToken, "Bearer");
         } catch (BadCredentialsException e) {
             log.warn("Login failed: invalid credentials");
+            recordFailedLogin(command);
             throw AuthException.invalidCredentials();
+        } catch (AuthBusyException e) {
+            log.warn("Login rejected: password hashing queue is full");
+            throw e;
         } catch (Exception e) {
             log.error("Token generation failed: {}", e.getClass().getSimpleName());
             throw TokenException.saveFailed(user != null ? user.getUuid().toString() : "unknown", e);
@@ -120,11 +149,14 @@ public class AuthCommandService implements AuthCommandUseCase {
     }
 
     /**
-     * 리프레시 토큰을 사용하여 액세스 토큰을 재발급합니다.
+     * 리프레시 토큰을 사용하여 액세스 토큰과 리프레시 토큰을 재발급합니다.
+     * 제시된 리프레시 토큰은 새 토큰으로 교체되어 더 이상 사용할 수 없으며, 이미 교체된 토큰이 다시 제시되면
+     * 해당 로그인의 토큰 패밀리 전체를 폐기합니다.
+     * 패밀리 도입 이전에 발급된 토큰은 기존 저장소에 남아 있는 경우 한 번만 받아들여 새 패밀리를 발급합니다.
      *
      * @param command 리프레시 토큰 요청 정보
      * @return 토큰 갱신 응답
-     * @throws TokenException 유효하지 않은 리프레시 토큰 또는 토큰 만료 시 발생
+     * @throws TokenException 유효하지 않거나 이미 사용된 리프레시 토큰인 경우 발생
      */
     @Override
     public TokenRefreshResponse refresh(TokenRefreshCommand command) {
@@ -134,15 +166,27 @@ public class AuthCommandService implements AuthCommandUseCase {
                 throw TokenValidationException.nullRefreshToken();
             }
 
-            validateRefreshToken(command.getRefreshToken());
-            User user = getUserFromRefreshToken(command.getRefreshToken());
+            ParsedToken parsedToken = parseRefreshToken(command.getRefreshToken());
+            if (parsedToken.getFamilyId() == null) {
+                return exchangeLegacyRefreshToken(command.getRefreshToken(), parsedToken);
+            }
+            RefreshToken presented = RefreshToken.create(parsedToken.getFamilyId(), parsedToken.getUserId(),
+                command.getRefreshToken(), parsedToken.getExpirationDate());
+            User user = getUser(presented.getUserId());
             String newAccessToken = generateAccessToken(user);
+            String newRefreshToken = jwtTokenProvider.generateRefreshToken(user, presented.getFamilyId());
+            RefreshToken next = RefreshToken.create(presented.getFamilyId(), user.getUuid(), newRefreshToken,
+                jwtTokenProvider.parseToken(newRefreshToken).getExpirationDate());
+            rotateRefreshToken(presented, next);
 
-            log.info("Access token refreshed successfully: userId={}", user.getUuid());
-            return new TokenRefreshResponse(newAccessToken, "Bearer");
+            log.info("Tokens refreshed successfully: userId={}", user.getUuid());
+            return new TokenRefreshResponse(newAccessToken, newRefreshToken, "Bearer");
         } catch (TokenValidationException e) {
             log.warn("Token validation failed: {}", e.getClass().getSimpleName());
             throw e;
+        } catch (TokenException e) {
+            log.warn("Token refresh rejected: {}", e.getErrorCode());
+            throw e;
         } catch (Exception e) {
             log.error("Token refresh failed: {}", e.getClass().getSimpleName());
             throw TokenException.saveFailed(command.getRefreshToken(), e);
@@ -159,7 +203,6 @@ public class AuthCommandService implements AuthCommandUseCase {
     public void logout(LogoutCommand command) {
         Assert.notNull(command, "LogoutCommand must not be null");
         try {
-            validateAccessToken(command.getAccessToken());
             LogoutToken logoutToken = createLogoutToken(command.getAccessToken());
             logoutPort.logout(logoutToken);
 
@@ -195,8 +238,7 @@ public class AuthCommandService implements AuthCommandUseCase {
         return saveUserPort.saveUser(user);
     }
 
-    private void createAndSaveUserAuthentication(Long userId, Password password) {
-        String encodedPassword = passwordEncoder.encode(password.toRaw());
+    private void createAndSaveUserAuthentication(Long userId, String encodedPassword) {
         UserAuthentication userAuth = UserAuthentication.register(
             userId,
             encodedPassword,
@@ -219,15 +261,43 @@ public class AuthCommandService implements AuthCommandUseCase {
                 command.getPassword().toRaw()));
     }
 
+    /**
+     * 로그인 이력을 비동기 기록 대기열에 넣습니다. 이력 기록 실패로 로그인이 실패하지 않도록 예외를 삼킵니다.
+     */
+    private void recordLoginHistory(User user, LoginCommand command) {
+        try {
+            recordLoginHistoryPort.recordLogin(LoginHistory.create(user.getId(), command.getIpAddress(),
+                command.getUserAgent(), LoginHistory.LoginStatus.SUCCESS));
+        } catch (Exception e) {
+            log.warn("Failed to record login history: userId={}", user.getUuid(), e);
+        }
+    }
+
+    /**
+     * 자격 증명이 틀린 로그인 시도를 실패 이력으로 남깁니다.
+     * 사용자 조회는 이력을 저장할 때 이메일로 수행하므로 실패 응답 전에 DB를 조회하지 않으며,
+     * 기록 실패는 로그인 응답에 영향을 주지 않습니다.
+     */
+    private void recordFailedLogin(LoginCommand command) {
+        try {
+            recordLoginHistoryPort.recordFailedLogin(command.getEmail(), command.getIpAddress(),
+                command.getUserAgent());
+        } catch (Exception e) {
+            log.warn("Failed to record failed login history", e);
+        }
+    }
+
     private String generateAccessToken(User user) {
         return jwtTokenProvider.generateAccessToken(user);
     }
 
     private String generateAndSaveRefreshToken(User user) {
         try {
-            String refreshToken = jwtTokenProvider.generateRefreshToken(user);
+            String familyId = RefreshToken.newFamilyId();
+            String refreshToken = jwtTokenProvider.generateRefreshToken(user, familyId);
             Date refreshTokenExpiry = jwtTokenProvider.getExpiration(refreshToken);
             RefreshToken refreshTokenDomain = RefreshToken.create(
+                familyId,
                 user.getUuid(),
                 refreshToken,
                 refreshTokenExpiry.toInstant().atZone(ZoneId.systemDefault()).toLocalDateTime());
@@ -238,15 +308,45 @@ public class AuthCommandService implements AuthCommandUseCase {
         }
     }
 
-    private void validateRefreshToken(String refreshToken) {
-        if (!loadRefreshTokenPort.isRefreshTokenValid(refreshToken)) {
+    private ParsedToken parseRefreshToken(String refreshToken) {
+        try {
+            return jwtTokenProvider.parseToken(refreshToken);
+        } catch (InvalidJwtException e) {
             log.warn("Invalid refresh token attempted");
-            throw TokenException.notFound(refreshToken);
+            throw TokenValidationException.invalidTokenFormat();
         }
     }
 
-    private User getUserFromRefreshToken(String refreshToken) {
-        UserId userId = jwtTokenProvider.getUserId(refreshToken);
+    /**
+     * 패밀리가 없는 토큰을 기존 저장소에서 소비하고 새 패밀리로 토큰을 발급합니다.
+     * 기존 저장소에 없는 토큰(액세스 토큰, 이미 교환된 토큰 등)은 거절합니다.
+     */
+    private TokenRefreshResponse exchangeLegacyRefreshToken(String refreshToken, ParsedToken parsedToken) {
+        if (!consumeLegacyRefreshTokenPort.consumeLegacyRefreshToken(refreshToken)) {
+            log.warn("Token without family attempted for refresh: tokenId={}", parsedToken.getTokenId());
+            throw TokenException.notFound(parsedToken.getTokenId());
+        }
+        User user = getUser(parsedToken.getUserId());
+        String newAccessToken = generateAccessToken(user);
+        String newRefreshToken = generateAndSaveRefreshToken(user);
+        log.info("Legacy refresh token exchanged for a new token family: userId={}", user.getUuid());
+        return new TokenRefreshResponse(newAccessToken, newRefreshToken, "Bearer");
+    }
+
+    private void rotateRefreshToken(RefreshToken presented, RefreshToken next) {
+        RefreshTokenRotation rotation = saveRefreshTokenPort.rotateRefreshToken(presented, next);
+        if (rotation == RefreshTokenRotation.REUSED) {
+            log.warn("Refresh token reuse detected: familyId={}, userId={}", presented.getFamilyId(),
+                presented.getUserId());
+            throw TokenException.reused(presented.getFamilyId());
+        }
+        if (rotation == RefreshTokenRotation.NOT_FOUND) {
+            log.warn("Refresh token family not found: familyId={}", presented.getFamilyId());
+            throw TokenException.notFound(presented.getFamilyId());
+        }
+    }
+
+    private User getUser(UserId userId) {
         return loadUserPort.loadUserByUserId(userId)
             .orElseThrow(() -> {
                 log.warn("User not found for refresh token");
@@ -254,17 +354,15 @@ public class AuthCommandService implements AuthCommandUseCase {
             });
     }
 
-    private void validateAccessToken(String accessToken) {
-        if (!jwtTokenProvider.validateToken(accessToken)) {
+    private LogoutToken createLogoutToken(String accessToken) {
+        ParsedToken parsedToken;
+        try {
+            parsedToken = jwtTokenProvider.parseToken(accessToken);
+        } catch (InvalidJwtException e) {
             log.warn("Invalid token attempted for logout");
             throw TokenValidationException.invalidTokenFormat();
         }
-    }
-
-    private LogoutToken createLogoutToken(String accessToken) {
-        String tokenId = jwtTokenProvider.getTokenId(accessToken);
-        UserId userId = jwtTokenProvider.getUserId(accessToken);
-        LocalDateTime expiresAt = jwtTokenProvider.getExpirationDate(accessToken);
-        return LogoutToken.create(userId, tokenId, expiresAt);
+        return LogoutToken.create(parsedToken.getUserId(), parsedToken.getTokenId(),
+            parsedToken.getExpirationDate());
     }
 }
@@ -13,8 +13,10 @@ import com.gongdel.promptserver.application.port.out.command.UpdateCategoryPort;
 import com.gongdel.promptserver.application.port.out.query.LoadCategoryPort;
 import com.gongdel.promptserver.domain.exception.*;
 import com.gongdel.promptserver.domain.model.Category;
+import com.gongdel.promptserver.domain.model.CategoryChangedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.Assert;
@@ -32,6 +34,7 @@ public class CategoryCommandService implements CategoryCommandUseCase {
     private final UpdateCategoryPort updateCategoryPort;
     private final DeleteCategoryPort deleteCategoryPort;
     private final LoadCategoryPort loadCategoryPort;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 새 카테고리를 생성합니다.
@@ -72,6 +75,7 @@ public class CategoryCommandService implements CategoryCommandUseCase {
             Category savedCategory = saveCategoryPort.saveCategory(categoryToSave);
             log.info("Category created successfully. ID: {}, Name: {}",
                 savedCategory.getId(), savedCategory.getName());
+            eventPublisher.publishEvent(CategoryChangedEvent.saved(savedCategory));
             return savedCategory;
         } catch (CategoryDomainException e) {
             // 도메인 예외를 애플리케이션 예외로 변환
@@ -117,6 +121,7 @@ public class CategoryCommandService implements CategoryCommandUseCase {
             Category updatedCategory = updateCategoryPort.updateCategory(existingCategory);
             log.info("Category updated successfully. ID: {}, Name: {}",
                 updatedCategory.getId(), updatedCategory.getName());
+            eventPublisher.publishEvent(CategoryChangedEvent.saved(updatedCategory));
 
             return updatedCategory;
         } catch (CategoryDomainException e) {
@@ -150,6 +155,7 @@ public class CategoryCommandService implements CategoryCommandUseCase {
             // 카테고리 삭제
             deleteCategoryPort.deleteCategory(id);
             log.info("Category deleted successfully. ID: {}", id);
+            eventPublisher.publishEvent(CategoryChangedEvent.deleted(id));
         } catch (CategoryDomainException e) {
             // 도메인 예외를 애플리케이션 예외로 변환
             throw CategoryExceptionConverter.convertToApplicationException(e, id);
@@ -3,11 +3,14 @@ package com.gongdel.promptserver.application.usecase.command;
 import com.gongdel.promptserver.application.port.in.command.FavoriteCommandUseCase;
 import com.gongdel.promptserver.application.port.out.command.DeleteFavoritePort;
 import com.gongdel.promptserver.application.port.out.command.SaveFavoritePort;
+import com.gongdel.promptserver.application.port.out.command.UpdateUserPromptMembershipPort;
 import com.gongdel.promptserver.application.port.out.query.LoadPromptTemplateIdPort;
 import com.gongdel.promptserver.domain.exception.FavoriteException;
 import com.gongdel.promptserver.domain.model.favorite.Favorite;
+import com.gongdel.promptserver.domain.statistics.DashboardStatisticsChangedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.Assert;
@@ -27,6 +30,8 @@ public class FavoriteCommandService implements FavoriteCommandUseCase {
     private final SaveFavoritePort saveFavoritePort;
     private final DeleteFavoritePort deleteFavoritePort;
     private final LoadPromptTemplateIdPort loadPromptTemplateIdPort;
+    private final UpdateUserPromptMembershipPort updateUserPromptMembershipPort;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 프롬프트를 즐겨찾기에 추가합니다.
@@ -47,6 +52,8 @@ public class FavoriteCommandService implements FavoriteCommandUseCase {
             .build();
         try {
             Favorite saved = saveFavoritePort.save(favorite);
+            updateUserPromptMembershipPort.addFavoritePrompt(userId, promptId);
+            eventPublisher.publishEvent(new DashboardStatisticsChangedEvent("favorite-added"));
             log.info("Favorite added successfully: userId={}, promptTemplateUuid={}", userId, promptTemplateUuid);
             return saved;
         } catch (Exception e) {
@@ -68,7 +75,11 @@ public class FavoriteCommandService implements FavoriteCommandUseCase {
         validateUserIdAndPromptTemplateUuid(userId, promptTemplateUuid);
         Long promptId = findPromptIdOrThrow(promptTemplateUuid);
         try {
-            deleteFavoritePort.deleteByUserIdAndPromptTemplateId(userId, promptId);
+            long deleted = deleteFavoritePort.deleteByUserIdAndPromptTemplateId(userId, promptId);
+            if (deleted > 0) {
+                updateUserPromptMembershipPort.removeFavoritePrompt(userId, promptId);
+                eventPublisher.publishEvent(new DashboardStatisticsChangedEvent("favorite-removed"));
+            }
             log.info("Favorite removed successfully: userId={}, promptTemplateUuid={}", userId, promptTemplateUuid);
         } catch (Exception e) {
             log.error("Failed to remove favorite: userId={}, promptTemplateUuid={}, error={}", userId,
@@ -19,9 +19,11 @@ import com.gongdel.promptserver.application.port.out.query.LoadTagPort;
 import com.gongdel.promptserver.domain.exception.PromptOperationException;
 import com.gongdel.promptserver.domain.exception.PromptValidationException;
 import com.gongdel.promptserver.domain.model.*;
+import com.gongdel.promptserver.domain.statistics.DashboardStatisticsChangedEvent;
 import com.gongdel.promptserver.domain.user.User;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.Assert;
@@ -29,6 +31,7 @@ import org.springframework.util.Assert;
 import java.time.LocalDateTime;
 import java.util.HashSet;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -51,9 +54,11 @@ public class PromptCommandService implements PromptCommandUseCase {
     private final LoadPromptPort loadPromptPort;
     private final LoadTagPort loadTagPort;
     private final LoadPromptVersionPort loadPromptVersionPort;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
-     * 새로운 프롬프트 템플릿을 등록합니다. 입력된 커맨드 객체를 기반으로 프롬프트 템플릿을 생성하고 저장합니다.
+     * 새로운 프롬프트 템플릿을 등록합니다. 입력된 커맨드 객체를 기반으로 프롬프트 템플릿과 최초 버전을 생성하고 저장합니다.
+     * 템플릿·버전·태그 관계는 한 번의 flush로 각각 한 번씩 저장되며, 응답은 재조회 없이 메모리상의 애그리거트로 구성합니다.
      *
      * @param command 프롬프트 등록에 필요한 정보를 담은 커맨드 객체
      * @return 등록된 프롬프트 정보 응답 DTO
@@ -65,16 +70,17 @@ public class PromptCommandService implements PromptCommandUseCase {
         try {
             Set<Tag> tags = extractOrCreateTags(command.getTags());
             PromptTemplate promptTemplate = buildPromptTemplate(command, tags);
-            PromptTemplate savedPrompt = savePromptPort.savePrompt(promptTemplate);
-            log.info("Prompt template saved. ID: {}", savedPrompt.getId());
+            validateVersionCreation(promptTemplate, command);
 
-            PromptVersion savedVersion = createAndSaveInitialVersion(savedPrompt, command);
-            log.info("Initial prompt version saved. ID: {}", savedVersion.getId());
+            PromptTemplate savedPrompt = savePromptPort.savePromptWithInitialVersion(
+                promptTemplate,
+                promptTemplateId -> buildInitialVersion(promptTemplateId, promptTemplate.getCreatedById(), command));
+            log.info("Prompt template saved with initial version. ID: {}, versionId: {}",
+                savedPrompt.getId(), savedPrompt.getCurrentVersionId());
+            eventPublisher.publishEvent(new DashboardStatisticsChangedEvent("prompt-registered"));
+            eventPublisher.publishEvent(new PromptCategoryChangedEvent(null, savedPrompt.getCategoryId()));
 
-            updatePromptWithCurrentVersion(savedPrompt, savedVersion.getId());
-
-            PromptTemplate foundPrompt = loadPromptByUuidOrThrow(savedPrompt.getUuid());
-            return RegisterPromptResponse.from(foundPrompt, tags);
+            return RegisterPromptResponse.from(savedPrompt, tags);
         } catch (PromptValidationException e) {
             log.error("Prompt validation failed: {}", e.getMessage());
             throw new PromptRegistrationException(
@@ -105,6 +111,7 @@ public class PromptCommandService implements PromptCommandUseCase {
         savePromptPort.savePrompt(prompt);
         log.info("Prompt {} deleted by user {}", prompt.getId(),
             command.getCurrentUser() != null ? command.getCurrentUser().getId() : null);
+        eventPublisher.publishEvent(new DashboardStatisticsChangedEvent("prompt-deleted"));
         return DeletePromptResponse.of(
             prompt.getUuid(),
             prompt.getTitle(),
@@ -166,6 +173,7 @@ public class PromptCommandService implements PromptCommandUseCase {
     private UpdatePromptResult executeUpdate(PromptTemplate template, UpdatePromptCommand command) {
         try {
             // 1. 변경 내용 적용
+            Long previousCategoryId = template.getCategoryId();
             applyPromptUpdate(template, command);
             log.debug("Applied updates to prompt template: {}", template.getId());
 
@@ -177,6 +185,10 @@ public class PromptCommandService implements PromptCommandUseCase {
             template.setCurrentVersionId(newVersion.getId());
             PromptTemplate updatedTemplate = savePromptPort.savePrompt(template);
             log.debug("Updated template with new version id: {}", newVersion.getId());
+            if (!Objects.equals(previousCategoryId, updatedTemplate.getCategoryId())) {
+                eventPublisher.publishEvent(
+                    new PromptCategoryChangedEvent(previousCategoryId, updatedTemplate.getCategoryId()));
+            }
 
             // 4. 태그 조회 및 결과 반환
             Set<Tag> tags = promptTemplateTagRelationPort.findTagsByPromptTemplateId(updatedTemplate.getId());
@@ -256,40 +268,27 @@ public class PromptCommandService implements PromptCommandUseCase {
     }
 
     /**
-     * 첫 번째 프롬프트 버전을 생성하고 저장합니다.
+     * 첫 번째 프롬프트 버전을 생성합니다.
      *
-     * @param promptTemplate 저장된 프롬프트 템플릿
-     * @param command        프롬프트 등록 커맨드
-     * @return 저장된 프롬프트 버전
+     * @param promptTemplateId 할당된 프롬프트 템플릿 ID
+     * @param createdById      생성자 ID
+     * @param command          프롬프트 등록 커맨드
+     * @return 생성된 최초 프롬프트 버전
      * @throws PromptValidationException 프롬프트 버전 유효성 검증에 실패한 경우
      */
-    private PromptVersion createAndSaveInitialVersion(PromptTemplate promptTemplate, RegisterPromptCommand command)
+    private PromptVersion buildInitialVersion(Long promptTemplateId, Long createdById, RegisterPromptCommand command)
         throws PromptValidationException {
-        validateVersionCreation(promptTemplate, command);
-        return savePromptVersionPort.savePromptVersion(
-            PromptVersion.builder()
-                .promptTemplateId(promptTemplate.getId())
-                .uuid(UUID.randomUUID())
-                .versionNumber(1)
-                .content(command.getContent())
-                .changes("프롬프트 템플릿 최초 생성")
-                .createdById(promptTemplate.getCreatedById())
-                .createdAt(LocalDateTime.now())
-                .inputVariables(command.getInputVariables())
-                .actionType(PromptVersionActionType.CREATE)
-                .build());
-    }
-
-    /**
-     * 프롬프트 템플릿에 현재 버전 ID를 설정하고 저장합니다.
-     *
-     * @param promptTemplate   프롬프트 템플릿
-     * @param currentVersionId 현재 버전 ID
-     */
-    private void updatePromptWithCurrentVersion(PromptTemplate promptTemplate, Long currentVersionId) {
-        promptTemplate.setCurrentVersionId(currentVersionId);
-        savePromptPort.savePrompt(promptTemplate);
-        log.info("Prompt template updated with current version ID: {}", currentVersionId);
+        return PromptVersion.builder()
+            .promptTemplateId(promptTemplateId)
+            .uuid(UUID.randomUUID())
+            .versionNumber(1)
+            .content(command.getContent())
+            .changes("프롬프트 템플릿 최초 생성")
+            .createdById(createdById)
+            .createdAt(LocalDateTime.now())
+            .inputVariables(command.getInputVariables())
+            .actionType(PromptVersionActionType.CREATE)
+            .build();
     }
 
     /**
@@ -307,7 +306,7 @@ public class PromptCommandService implements PromptCommandUseCase {
     }
 
     /**
-     * 버전 생성 전 유효성 검증을 수행합니다.
+     * 버전 생성 전 유효성 검증을 수행합니다. 저장 전에 호출되어 잘못된 요청이 INSERT까지 도달하지 않도록 합니다.
      *
      * @param promptTemplate 프롬프트 템플릿
      * @param command        프롬프트 등록 커맨드
@@ -318,9 +317,6 @@ public class PromptCommandService implements PromptCommandUseCase {
         if (command.getContent() == null || command.getContent().trim().isEmpty()) {
             throw new PromptValidationException("프롬프트 내용은 필수입니다.");
         }
-        if (promptTemplate.getId() == null) {
-            throw new PromptValidationException("프롬프트 템플릿 ID가 없습니다.");
-        }
         if (promptTemplate.getCreatedById() == null) {
             throw new PromptValidationException("생성자 ID가 없습니다.");
         }
@@ -372,15 +368,26 @@ public class PromptCommandService implements PromptCommandUseCase {
 
     /**
      * EDIT 버전 이력을 생성하고 저장합니다.
+     * 직전 버전 대비 줄 단위 차이를 이때 한 번 계산해 함께 저장하므로, 버전 비교 조회 시 다시 계산하지 않습니다.
      */
     private PromptVersion createAndSaveEditVersion(PromptTemplate template, UpdatePromptCommand command) {
-        int nextVersionNumber = getNextVersionNumber(template);
+        Optional<PromptVersion> previousVersion = loadCurrentVersion(template);
+        int nextVersionNumber = previousVersion
+            .map(PromptVersion::getVersionNumber)
+            .map(n -> n + 1)
+            .orElse(1); // 최초 버전이거나 버전이 없는 예외 상황
+        PromptContentDiff diff = previousVersion
+            .map(previous -> PromptContentDiff.between(previous.getContent(), command.getContent()))
+            .orElse(null);
         PromptVersion newVersion = PromptVersion.builder()
             .promptTemplateId(template.getId())
             .uuid(UUID.randomUUID())
             .versionNumber(nextVersionNumber)
             .content(command.getContent())
-            .changes("프롬프트 내용 수정") // TODO: 변경 diff 기록 가능
+            .changes(diff != null
+                ? String.format("프롬프트 내용 수정 (+%d줄, -%d줄)", diff.getAddedLineCount(), diff.getRemovedLineCount())
+                : "프롬프트 내용 수정")
+            .contentDiff(diff != null ? diff.encode() : null)
             .createdById(command.getEditor().getId())
             .createdAt(LocalDateTime.now())
             .inputVariables(command.getInputVariables())
@@ -389,14 +396,11 @@ public class PromptCommandService implements PromptCommandUseCase {
         return savePromptVersionPort.savePromptVersion(newVersion);
     }
 
-    private int getNextVersionNumber(PromptTemplate template) {
+    private Optional<PromptVersion> loadCurrentVersion(PromptTemplate template) {
         if (template.getCurrentVersionId() == null) {
-            return 1; // 최초 버전
+            return Optional.empty(); // 최초 버전
         }
-        return loadPromptVersionPort.loadPromptVersionById(template.getCurrentVersionId())
-            .map(PromptVersion::getVersionNumber)
-            .map(n -> n + 1)
-            .orElse(1); // 예외 상황: 버전이 없으면 1
+        return loadPromptVersionPort.loadPromptVersionById(template.getCurrentVersionId());
     }
 
 }
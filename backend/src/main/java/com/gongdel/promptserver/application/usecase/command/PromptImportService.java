@@ -0,0 +1,247 @@
+package com.gongdel.promptserver.application.usecase.command;
+
+import com.gongdel.promptserver.application.port.in.PromptImportUseCase;
+import com.gongdel.promptserver.application.port.in.command.ImportPromptLine;
+import com.gongdel.promptserver.application.port.in.command.RegisterPromptCommand;
+import com.gongdel.promptserver.application.port.in.result.ImportPromptLineResult;
+import com.gongdel.promptserver.application.port.out.SavePromptPort;
+import com.gongdel.promptserver.application.port.out.SaveTagPort;
+import com.gongdel.promptserver.application.port.out.query.LoadCategoryPort;
+import com.gongdel.promptserver.application.port.out.query.LoadTagPort;
+import com.gongdel.promptserver.domain.exception.PromptValidationException;
+import com.gongdel.promptserver.domain.model.*;
+import com.gongdel.promptserver.domain.statistics.DashboardStatisticsChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.Assert;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 프롬프트 템플릿 벌크 가져오기를 처리하는 서비스 구현체입니다.
+ * <p>
+ * 청크마다 카테고리 존재 여부와 태그를 한 번씩만 조회하고, 검증을 통과한 줄을 한 번의 flush로 저장합니다.
+ * 단건 등록({@link PromptCommandService#registerPrompt})과 동일한 도메인 검증 규칙을 적용합니다.
+ * <p>
+ * 통계 캐시에는 줄마다 이벤트를 보내지 않고, 청크마다 카테고리별 등록 수를 모은 이벤트 하나와 대시보드 통계 변경 이벤트 하나를
+ * 발행합니다. 두 이벤트 모두 청크 트랜잭션이 커밋된 뒤에 반영됩니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class PromptImportService implements PromptImportUseCase {
+
+    /**
+     * 저장 전 버전 검증에 사용하는 임시 템플릿 ID
+     */
+    private static final long UNASSIGNED_TEMPLATE_ID = 0L;
+
+    private final SavePromptPort savePromptPort;
+    private final SaveTagPort saveTagPort;
+    private final LoadTagPort loadTagPort;
+    private final LoadCategoryPort loadCategoryPort;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 한 청크의 프롬프트를 등록합니다.
+     *
+     * @param lines 등록할 줄 목록
+     * @return 줄 번호 순으로 정렬된 줄별 처리 결과
+     */
+    @Override
+    public List<ImportPromptLineResult> importChunk(List<ImportPromptLine> lines) {
+        Assert.notNull(lines, "Import lines must not be null");
+        log.debug("Start prompt import chunk. Lines: {}", lines.size());
+
+        List<ImportPromptLineResult> results = new ArrayList<>(lines.size());
+        Map<Long, Boolean> categoryExists = new HashMap<>();
+        Map<UUID, ImportPromptLine> validLines = new LinkedHashMap<>();
+        List<PromptTemplate> templates = new ArrayList<>();
+
+        for (ImportPromptLine line : lines) {
+            try {
+                PromptTemplate template = buildPromptTemplate(line.getCommand());
+                validateLine(line.getCommand(), categoryExists);
+                validLines.put(template.getUuid(), line);
+                templates.add(template);
+            } catch (PromptValidationException e) {
+                log.debug("Import line {} rejected: {}", line.getLineNumber(), e.getMessage());
+                results.add(ImportPromptLineResult.failure(line.getLineNumber(), e.getMessage()));
+            }
+        }
+
+        if (!templates.isEmpty()) {
+            Map<String, Tag> tagsByName = resolveTags(validLines.values());
+            for (PromptTemplate template : templates) {
+                template.updateTags(toTags(validLines.get(template.getUuid()).getCommand().getTags(), tagsByName));
+            }
+
+            List<PromptTemplate> savedTemplates = savePromptPort.savePromptsWithInitialVersions(
+                templates,
+                (template, promptTemplateId) -> buildInitialVersion(
+                    promptTemplateId, validLines.get(template.getUuid()).getCommand()));
+            for (PromptTemplate saved : savedTemplates) {
+                results.add(ImportPromptLineResult.success(
+                    validLines.get(saved.getUuid()).getLineNumber(), saved.getUuid()));
+            }
+            publishImported(savedTemplates);
+        }
+
+        results.sort(Comparator.comparingLong(ImportPromptLineResult::getLineNumber));
+        log.info("Prompt import chunk completed. Imported: {}, Rejected: {}",
+            templates.size(), lines.size() - templates.size());
+        return results;
+    }
+
+    /**
+     * 청크에서 등록된 프롬프트를 카테고리별로 모아 통계 변경 이벤트를 발행합니다.
+     *
+     * @param savedTemplates 저장된 프롬프트 템플릿 목록
+     */
+    private void publishImported(List<PromptTemplate> savedTemplates) {
+        if (savedTemplates.isEmpty()) {
+            return;
+        }
+        Map<Long, Long> registeredCounts = savedTemplates.stream()
+            .map(PromptTemplate::getCategoryId)
+            .filter(Objects::nonNull)
+            .collect(Collectors.groupingBy(categoryId -> categoryId, Collectors.counting()));
+        eventPublisher.publishEvent(new DashboardStatisticsChangedEvent("prompt-imported"));
+        if (!registeredCounts.isEmpty()) {
+            eventPublisher.publishEvent(PromptCategoryChangedEvent.registered(registeredCounts));
+        }
+    }
+
+    /**
+     * 단건 등록과 동일한 규칙으로 프롬프트 템플릿을 생성합니다. 태그는 청크 단위로 해석된 뒤 설정됩니다.
+     *
+     * @param command 프롬프트 등록 커맨드
+     * @return 생성된 프롬프트 템플릿
+     * @throws PromptValidationException 프롬프트 템플릿 유효성 검증에 실패한 경우
+     */
+    private PromptTemplate buildPromptTemplate(RegisterPromptCommand command) throws PromptValidationException {
+        Visibility visibility;
+        if (command.getVisibility() != null) {
+            visibility = command.getVisibility();
+        } else if (command.getCreatedBy().getTeam() != null) {
+            visibility = Visibility.TEAM;
+        } else {
+            visibility = Visibility.PRIVATE;
+        }
+        return PromptTemplate.newTemplateForInitialRegistration(
+            command.getTitle(),
+            command.getDescription(),
+            command.getCreatedBy().getId(),
+            visibility,
+            command.getCategoryId(),
+            command.getStatus(),
+            Set.of());
+    }
+
+    /**
+     * 최초 버전 생성과 저장 시점 제약(카테고리 FK)에 걸릴 줄을 저장 전에 걸러냅니다.
+     * 한 줄의 실패가 청크 전체의 롤백으로 번지지 않도록 합니다.
+     * <p>
+     * 버전 규칙(내용, 입력 변수 등)은 템플릿 ID가 아직 없으므로 임시 ID로 최초 버전을 도메인에서 생성해 검증합니다.
+     * 단건 등록과 같은 {@link PromptVersion} 규칙이 그대로 적용됩니다.
+     *
+     * @param command        프롬프트 등록 커맨드
+     * @param categoryExists 청크 내 카테고리 존재 여부 캐시
+     * @throws PromptValidationException 유효성 검증에 실패한 경우
+     */
+    private void validateLine(RegisterPromptCommand command, Map<Long, Boolean> categoryExists)
+        throws PromptValidationException {
+        buildInitialVersion(UNASSIGNED_TEMPLATE_ID, command);
+        Long categoryId = command.getCategoryId();
+        if (categoryId != null && !categoryExists.computeIfAbsent(
+            categoryId, id -> loadCategoryPort.loadCategoryById(id).isPresent())) {
+            throw new PromptValidationException("존재하지 않는 카테고리입니다: " + categoryId);
+        }
+    }
+
+    /**
+     * 청크에 포함된 모든 태그 이름을 한 번에 조회하고, 없는 태그는 한 번에 생성합니다.
+     *
+     * @param lines 검증을 통과한 줄 목록
+     * @return 이름별 태그 맵
+     */
+    private Map<String, Tag> resolveTags(Collection<ImportPromptLine> lines) {
+        Set<String> tagNames = lines.stream()
+            .flatMap(line -> normalizeTagNames(line.getCommand().getTags()).stream())
+            .collect(Collectors.toSet());
+        if (tagNames.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<String, Tag> tagsByName = new HashMap<>();
+        loadTagPort.loadTagsByNames(tagNames).forEach(tag -> tagsByName.put(tag.getName(), tag));
+
+        List<Tag> missingTags = tagNames.stream()
+            .filter(name -> !tagsByName.containsKey(name))
+            .map(Tag::create)
+            .toList();
+        if (!missingTags.isEmpty()) {
+            log.debug("Creating {} new tags for import chunk", missingTags.size());
+            saveTagPort.saveTags(missingTags).forEach(tag -> tagsByName.put(tag.getName(), tag));
+        }
+        return tagsByName;
+    }
+
+    /**
+     * 줄의 태그 이름을 해석된 태그 객체로 변환합니다.
+     *
+     * @param tagNames   태그 이름 목록
+     * @param tagsByName 이름별 태그 맵
+     * @return 태그 세트
+     */
+    private Set<Tag> toTags(Set<String> tagNames, Map<String, Tag> tagsByName) {
+        return normalizeTagNames(tagNames).stream()
+            .map(tagsByName::get)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toSet());
+    }
+
+    /**
+     * 단건 등록과 동일하게 공백·중복 태그 이름을 제거합니다. 태그가 없으면(null) 빈 세트로 처리합니다.
+     *
+     * @param tagNames 태그 이름 목록
+     * @return 정규화된 태그 이름 세트
+     */
+    private Set<String> normalizeTagNames(Set<String> tagNames) {
+        if (tagNames == null) {
+            return Set.of();
+        }
+        return tagNames.stream()
+            .filter(Objects::nonNull)
+            .map(String::trim)
+            .filter(s -> !s.isEmpty())
+            .collect(Collectors.toSet());
+    }
+
+    /**
+     * 최초 프롬프트 버전을 생성합니다.
+     *
+     * @param promptTemplateId 할당된 프롬프트 템플릿 ID
+     * @param command          프롬프트 등록 커맨드
+     * @return 생성된 최초 프롬프트 버전
+     */
+    private PromptVersion buildInitialVersion(Long promptTemplateId, RegisterPromptCommand command) {
+        return PromptVersion.builder()
+            .promptTemplateId(promptTemplateId)
+            .uuid(UUID.randomUUID())
+            .versionNumber(1)
+            .content(command.getContent())
+            .changes("프롬프트 템플릿 가져오기")
+            .createdById(command.getCreatedBy().getId())
+            .createdAt(LocalDateTime.now())
+            .inputVariables(command.getInputVariables())
+            .actionType(PromptVersionActionType.CREATE)
+            .build();
+    }
+}
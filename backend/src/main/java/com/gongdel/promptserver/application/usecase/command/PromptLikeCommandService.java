@@ -1,21 +1,30 @@
 package com.gongdel.promptserver.application.usecase.command;
 
 import com.gongdel.promptserver.application.port.in.command.like.PromptLikeCommandUseCase;
+import com.gongdel.promptserver.application.port.out.command.UpdateUserPromptMembershipPort;
 import com.gongdel.promptserver.application.port.out.like.command.*;
+import com.gongdel.promptserver.application.port.out.like.query.LoadPromptLikeCountPort;
 import com.gongdel.promptserver.application.port.out.query.LoadPromptTemplateIdPort;
 import com.gongdel.promptserver.domain.exception.BaseException;
 import com.gongdel.promptserver.domain.exception.LikeOperationException;
+import com.gongdel.promptserver.domain.model.PromptLikeCountChangedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.Assert;
 
+import java.util.OptionalLong;
 import java.util.UUID;
 
 /**
  * 프롬프트 좋아요 명령 유즈케이스 구현체입니다.
  * 좋아요 추가/취소 및 Projection 갱신을 처리합니다.
+ * <p>
+ * 좋아요 수는 커밋 이후 {@link PromptLikeCountChangedEvent}를 받은 {@link PromptLikeCountSyncService}가 Redis 카운터에서
+ * 증감하고 배치로 Projection에 반영하여, 인기 프롬프트의 Projection 행에 갱신이 몰리지 않도록 합니다.
+ * 카운터는 커밋 이후에 바뀌므로, 응답하는 좋아요 수는 현재 값에 이번 증감을 더한 추정치입니다.
  */
 @Slf4j
 @Service
@@ -25,8 +34,11 @@ public class PromptLikeCommandService implements PromptLikeCommandUseCase {
 
     private final AddPromptLikePort addPromptLikePort;
     private final RemovePromptLikePort removePromptLikePort;
-    private final UpdatePromptLikeCountPort updatePromptLikeCountPort;
+    private final CachePromptLikeCountPort cachePromptLikeCountPort;
+    private final LoadPromptLikeCountPort loadPromptLikeCountPort;
     private final LoadPromptTemplateIdPort loadPromptTemplateIdPort;
+    private final UpdateUserPromptMembershipPort updateUserPromptMembershipPort;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 프롬프트에 좋아요를 추가합니다.
@@ -43,9 +55,14 @@ public class PromptLikeCommandService implements PromptLikeCommandUseCase {
         try {
             Long promptId = findPromptIdOrThrow(promptTemplateUuid);
             AddPromptLike addPromptLike = AddPromptLike.of(userId, promptId);
-            addPromptLikePort.addLike(addPromptLike);
-            long likeCount = updatePromptLikeCountPort.updateLikeCount(
-                UpdatePromptLikeCount.increment(promptId));
+            boolean added = addPromptLikePort.addLike(addPromptLike);
+            if (added) {
+                updateUserPromptMembershipPort.addLikedPrompt(userId, promptId);
+            }
+            // 행이 실제로 추가된 경우에만 집계를 증가시켜 중복 요청이 수를 부풀리지 않도록 합니다.
+            long likeCount = added
+                ? publishLikeCountChange(promptId, 1)
+                : loadCurrentLikeCount(promptId);
             log.info("Like added successfully. userId={}, promptTemplateId={}, likeCount={}",
                 addPromptLike.getUserId(), addPromptLike.getPromptTemplateId(), likeCount);
             return likeCount;
@@ -71,9 +88,13 @@ public class PromptLikeCommandService implements PromptLikeCommandUseCase {
         try {
             Long promptId = findPromptIdOrThrow(promptTemplateUuid);
             RemovePromptLike removePromptLike = RemovePromptLike.of(userId, promptId);
-            removePromptLikePort.removeLike(removePromptLike);
-            long likeCount = updatePromptLikeCountPort.updateLikeCount(
-                UpdatePromptLikeCount.decrement(promptId));
+            boolean removed = removePromptLikePort.removeLike(removePromptLike);
+            if (removed) {
+                updateUserPromptMembershipPort.removeLikedPrompt(userId, promptId);
+            }
+            long likeCount = removed
+                ? publishLikeCountChange(promptId, -1)
+                : loadCurrentLikeCount(promptId);
             log.info("Like removed successfully. userId={}, promptTemplateId={}, likeCount={}",
                 removePromptLike.getUserId(), removePromptLike.getPromptTemplateId(), likeCount);
             return likeCount;
@@ -84,6 +105,37 @@ public class PromptLikeCommandService implements PromptLikeCommandUseCase {
         }
     }
 
+    /**
+     * 커밋 이후 좋아요 수 캐시를 증감하도록 이벤트를 발행하고, 현재 좋아요 수에 증감값을 더한 값을 반환합니다.
+     *
+     * @param promptId 프롬프트 ID
+     * @param delta    증감값
+     * @return 증감 후 예상 좋아요 수
+     */
+    private long publishLikeCountChange(Long promptId, long delta) {
+        long likeCount = Math.max(0L, loadCurrentLikeCount(promptId) + delta);
+        eventPublisher.publishEvent(new PromptLikeCountChangedEvent(promptId, delta));
+        return likeCount;
+    }
+
+    /**
+     * 현재 좋아요 수를 조회합니다. 아직 Projection에 반영되지 않은 캐시 값이 있으면 캐시 값을 사용합니다.
+     *
+     * @param promptId 프롬프트 ID
+     * @return 현재 좋아요 수
+     */
+    private long loadCurrentLikeCount(Long promptId) {
+        try {
+            OptionalLong cached = cachePromptLikeCountPort.loadCachedLikeCount(promptId);
+            if (cached.isPresent()) {
+                return cached.getAsLong();
+            }
+        } catch (LikeOperationException e) {
+            log.warn("Like count cache unavailable, loading projection. promptTemplateId={}", promptId, e);
+        }
+        return loadPromptLikeCountPort.loadLikeCount(promptId);
+    }
+
     /**
      * 프롬프트 UUID로 내부 ID를 조회합니다. 없으면 LikeOperationException.notFound 예외를 발생시킵니다.
      *
@@ -0,0 +1,163 @@
+package com.gongdel.promptserver.application.usecase.command;
+
+import com.gongdel.promptserver.application.port.out.like.command.CachePromptLikeCountPort;
+import com.gongdel.promptserver.application.port.out.like.command.RebuildPromptLikeCountPort;
+import com.gongdel.promptserver.application.port.out.like.command.UpdatePromptLikeCount;
+import com.gongdel.promptserver.application.port.out.like.command.UpdatePromptLikeCountPort;
+import com.gongdel.promptserver.application.port.out.like.query.LoadPromptLikeCountPort;
+import com.gongdel.promptserver.domain.exception.LikeOperationException;
+import com.gongdel.promptserver.domain.model.PromptLikeCountChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 좋아요 수 캐시와 데이터베이스 간의 동기화를 담당하는 배치 서비스입니다.
+ * <p>
+ * 좋아요 추가·취소가 커밋되면 캐시된 좋아요 수를 증감하고, 캐시를 사용할 수 없으면 Projection을 직접 갱신합니다.
+ * 주기적으로 캐시에 누적된 증감량을 꺼내 Projection에 더합니다. 절대값을 덮어쓰지 않으므로 캐시 장애 중 직접 반영된 증감이
+ * 나중의 반영으로 사라지지 않습니다. 매일 좋아요 원본 테이블로부터 Projection을 재계산하여 캐시 유실이나 롤백으로 생긴 오차를
+ * 바로잡으며, 재계산은 Redis 락을 잡은 인스턴스 하나만 실행합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PromptLikeCountSyncService {
+
+    /**
+     * 한 트랜잭션에서 반영할 프롬프트 수
+     */
+    static final int FLUSH_BATCH_SIZE = 500;
+
+    private final CachePromptLikeCountPort cachePromptLikeCountPort;
+    private final UpdatePromptLikeCountPort updatePromptLikeCountPort;
+    private final RebuildPromptLikeCountPort rebuildPromptLikeCountPort;
+    private final LoadPromptLikeCountPort loadPromptLikeCountPort;
+
+    @Value("${redis.like.reconcile-lock-ttl-minutes:30}")
+    private long reconcileLockTtlMinutes;
+
+    /**
+     * 좋아요 추가·취소가 커밋된 뒤 캐시된 좋아요 수를 증감합니다.
+     * 캐시에 값이 없으면 Projection 값으로 초기화한 뒤 증감하며, 캐시 작업이 실패하면 새 트랜잭션에서 Projection을 직접 갱신합니다.
+     *
+     * @param event 좋아요 수 변경 이벤트
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void applyLikeCountChange(PromptLikeCountChangedEvent event) {
+        Long promptId = event.getPromptTemplateId();
+        UpdatePromptLikeCount update = new UpdatePromptLikeCount(promptId, event.getDelta());
+        try {
+            if (cachePromptLikeCountPort.incrementLikeCount(update).isPresent()) {
+                return;
+            }
+            cachePromptLikeCountPort.initializeLikeCount(promptId, loadPromptLikeCountPort.loadLikeCount(promptId));
+            if (cachePromptLikeCountPort.incrementLikeCount(update).isPresent()) {
+                return;
+            }
+        } catch (LikeOperationException e) {
+            log.warn("Like count cache unavailable, updating projection directly. promptTemplateId={}", promptId, e);
+        }
+        updatePromptLikeCountPort.updateLikeCount(update);
+    }
+
+    /**
+     * 10초마다 반영 대기 중인 증감량을 배치 단위로 데이터베이스에 더합니다.
+     * 증감량은 꺼내는 순간 캐시에서 0으로 돌아가므로, 그 뒤의 증감은 새로 누적되어 다음 실행에 반영됩니다.
+     */
+    @Scheduled(fixedDelay = 10, timeUnit = TimeUnit.SECONDS)
+    public void flushLikeCounts() {
+        try {
+            long flushed = 0;
+            Map<Long, Long> deltas;
+            while (!(deltas = cachePromptLikeCountPort.popPendingLikeCountDeltas(FLUSH_BATCH_SIZE)).isEmpty()) {
+                flushBatch(deltas);
+                flushed += deltas.size();
+            }
+            if (flushed > 0) {
+                log.info("Flushed cached like count deltas of {} prompts to database", flushed);
+            }
+        } catch (Exception e) {
+            log.error("Failed to flush cached like counts to database", e);
+        }
+    }
+
+    /**
+     * 프롬프트 한 배치의 증감량을 저장합니다. 실패하면 증감량을 캐시에 되돌리고 예외를 전파합니다.
+     *
+     * @param deltas 프롬프트 ID별 증감량
+     */
+    private void flushBatch(Map<Long, Long> deltas) {
+        Map<Long, Long> changed = new LinkedHashMap<>();
+        deltas.forEach((promptId, delta) -> {
+            if (delta != 0) {
+                changed.put(promptId, delta);
+            }
+        });
+        if (changed.isEmpty()) {
+            return;
+        }
+        try {
+            updatePromptLikeCountPort.addLikeCounts(changed);
+        } catch (Exception e) {
+            cachePromptLikeCountPort.restorePendingLikeCountDeltas(changed);
+            throw e;
+        }
+    }
+
+    /**
+     * 매일 새벽 3시에 좋아요 원본 테이블로부터 Projection을 재계산합니다. 다른 인스턴스가 실행 중이면 건너뜁니다.
+     * 대기 중인 증감량을 먼저 반영한 뒤 재계산하고, 캐시된 좋아요 수를 비워 다음 증감부터 보정된 값을 사용하도록 합니다.
+     * 재계산 이후에 들어온 증감은 캐시된 좋아요 수와 별도로 누적된 증감량에 남아 있으므로 캐시를 비워도 유실되지 않습니다.
+     */
+    @Scheduled(cron = "0 0 3 * * ?")
+    public void reconcileLikeCounts() {
+        String owner = UUID.randomUUID().toString();
+        if (!acquireReconcileLock(owner)) {
+            log.debug("Like count reconciliation is running on another instance, skipping");
+            return;
+        }
+        log.info("Starting like count reconciliation");
+        try {
+            flushLikeCounts();
+            int corrected = rebuildPromptLikeCountPort.rebuildLikeCounts();
+            cachePromptLikeCountPort.evictLikeCounts();
+            log.info("Like count reconciliation completed, corrected rows={}", corrected);
+        } catch (Exception e) {
+            log.error("Failed to reconcile like counts", e);
+        } finally {
+            releaseReconcileLock(owner);
+        }
+    }
+
+    private boolean acquireReconcileLock(String owner) {
+        try {
+            return cachePromptLikeCountPort.tryAcquireReconcileLock(owner,
+                Duration.ofMinutes(reconcileLockTtlMinutes));
+        } catch (Exception e) {
+            log.warn("Failed to acquire like count reconciliation lock, skipping this run", e);
+            return false;
+        }
+    }
+
+    private void releaseReconcileLock(String owner) {
+        try {
+            cachePromptLikeCountPort.releaseReconcileLock(owner);
+        } catch (Exception e) {
+            log.warn("Failed to release like count reconciliation lock, it will expire after {} minutes",
+                reconcileLockTtlMinutes, e);
+        }
+    }
+}
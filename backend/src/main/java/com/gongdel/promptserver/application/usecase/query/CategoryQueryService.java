@@ -4,32 +4,49 @@ import com.gongdel.promptserver.application.exception.CategoryExceptionConverter
 import com.gongdel.promptserver.application.exception.CategoryNotFoundException;
 import com.gongdel.promptserver.application.exception.CategoryOperationFailedException;
 import com.gongdel.promptserver.application.port.in.CategoryQueryUseCase;
+import com.gongdel.promptserver.application.port.out.CategoryChangeBroadcastPort;
 import com.gongdel.promptserver.application.port.out.query.FindCategoriesPort;
-import com.gongdel.promptserver.application.port.out.query.LoadCategoryPort;
 import com.gongdel.promptserver.domain.exception.CategoryDomainException;
 import com.gongdel.promptserver.domain.exception.CategoryNotFoundDomainException;
 import com.gongdel.promptserver.domain.model.Category;
+import com.gongdel.promptserver.domain.model.CategoryCatalog;
+import com.gongdel.promptserver.domain.model.CategoryCatalogInvalidatedEvent;
+import com.gongdel.promptserver.domain.model.CategoryChangedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
 import org.springframework.util.Assert;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * 카테고리 조회 유즈케이스 구현체입니다.
  * 이 서비스는 카테고리 조회 작업을 처리합니다.
+ * <p>
+ * 카테고리는 거의 바뀌지 않고 대부분의 화면에서 조회하므로, 전체 카테고리를 ID·이름·상위 카테고리·시스템 여부로
+ * 색인한 불변 카탈로그를 메모리에 두고 응답합니다. 카탈로그는 첫 조회 시 적재하며, 카테고리 생성·수정·삭제가
+ * 커밋되면 무효화하고 다른 인스턴스에도 알립니다. 알림 유실에 대비해 주기적으로 다시 적재합니다.
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
-@Transactional(readOnly = true)
 public class CategoryQueryService implements CategoryQueryUseCase {
 
-    private final LoadCategoryPort loadCategoryPort;
     private final FindCategoriesPort findCategoriesPort;
+    private final CategoryChangeBroadcastPort categoryChangeBroadcastPort;
+
+    private final AtomicReference<CategoryCatalog> catalog = new AtomicReference<>();
+
+    /**
+     * 무효화 횟수 (적재 도중 무효화되면 적재한 카탈로그를 버리기 위해 사용)
+     */
+    private final AtomicLong invalidations = new AtomicLong();
 
     /**
      * 카테고리 ID로 카테고리를 조회합니다.
@@ -45,7 +62,7 @@ public class CategoryQueryService implements CategoryQueryUseCase {
         log.debug("Querying category by ID: {}", id);
 
         try {
-            Optional<Category> category = loadCategoryPort.loadCategoryById(id);
+            Optional<Category> category = currentCatalog().findById(id);
 
             if (category.isPresent()) {
                 log.info("Category found: id={}, name={}", id, category.get().getName());
@@ -79,7 +96,7 @@ public class CategoryQueryService implements CategoryQueryUseCase {
         log.debug("Querying category by name: {}", name);
 
         try {
-            Optional<Category> category = loadCategoryPort.loadCategoryByName(name);
+            Optional<Category> category = currentCatalog().findByName(name);
 
             if (category.isPresent()) {
                 log.info("Category found: name={}, id={}", name, category.get().getId());
@@ -110,7 +127,7 @@ public class CategoryQueryService implements CategoryQueryUseCase {
         log.debug("Querying all categories");
 
         try {
-            List<Category> categories = findCategoriesPort.findAllCategories();
+            List<Category> categories = currentCatalog().getAllCategories();
             log.info("Retrieved all categories: total count={}", categories.size());
             return categories;
         } catch (CategoryDomainException e) {
@@ -136,7 +153,7 @@ public class CategoryQueryService implements CategoryQueryUseCase {
         log.debug("Querying categories by system flag: isSystem={}", isSystem);
 
         try {
-            List<Category> categories = findCategoriesPort.findCategoriesByIsSystem(isSystem);
+            List<Category> categories = currentCatalog().getCategoriesBySystemFlag(isSystem);
             log.info("Retrieved categories by system flag: isSystem={}, total count={}", isSystem, categories.size());
             return categories;
         } catch (CategoryDomainException e) {
@@ -161,7 +178,7 @@ public class CategoryQueryService implements CategoryQueryUseCase {
         log.debug("Querying root categories");
 
         try {
-            List<Category> rootCategories = findCategoriesPort.findRootCategories();
+            List<Category> rootCategories = currentCatalog().getRootCategories();
             log.info("Retrieved root categories: total count={}", rootCategories.size());
             return rootCategories;
         } catch (CategoryDomainException e) {
@@ -189,13 +206,14 @@ public class CategoryQueryService implements CategoryQueryUseCase {
         log.debug("Querying subcategories by parent ID: {}", parentId);
 
         try {
+            CategoryCatalog current = currentCatalog();
             // 상위 카테고리가 존재하는지 확인
-            if (!loadCategoryPort.loadCategoryById(parentId).isPresent()) {
+            if (current.findById(parentId).isEmpty()) {
                 log.warn("Parent category not found. ID: {}", parentId);
                 throw new CategoryNotFoundDomainException(parentId);
             }
 
-            List<Category> subCategories = findCategoriesPort.findCategoriesByParentId(parentId);
+            List<Category> subCategories = current.getSubCategories(parentId);
             log.info("Retrieved subcategories: parentId={}, total count={}", parentId, subCategories.size());
             return subCategories;
         } catch (CategoryDomainException e) {
@@ -208,4 +226,83 @@ public class CategoryQueryService implements CategoryQueryUseCase {
                 e);
         }
     }
+
+    /**
+     * 카탈로그 버전을 반환합니다.
+     *
+     * @return 카탈로그 버전
+     * @throws CategoryOperationFailedException 카탈로그 적재 중 오류가 발생한 경우
+     */
+    @Override
+    public String getCatalogVersion() {
+        try {
+            return currentCatalog().getVersion();
+        } catch (Exception e) {
+            log.error("Unexpected error while loading category catalog", e);
+            throw new CategoryOperationFailedException(
+                "Error occurred during category operation: " + e.getMessage(),
+                e);
+        }
+    }
+
+    /**
+     * 카테고리 변경이 커밋되면 카탈로그를 무효화하고 다른 인스턴스에 알립니다.
+     *
+     * @param event 카테고리 변경 이벤트
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        invalidateCatalog();
+        categoryChangeBroadcastPort.broadcastCategoryChanged();
+    }
+
+    /**
+     * 다른 인스턴스에서 카테고리가 변경되면 카탈로그를 무효화합니다.
+     *
+     * @param event 카탈로그 무효화 이벤트
+     */
+    @EventListener
+    public void onCatalogInvalidated(CategoryCatalogInvalidatedEvent event) {
+        log.debug("Category catalog invalidated by instance {}", event.getSourceInstanceId());
+        invalidateCatalog();
+    }
+
+    /**
+     * 변경 알림이 유실되어도 일정 시간 안에 맞춰지도록 주기적으로 카탈로그를 다시 적재합니다.
+     */
+    @Scheduled(fixedDelayString = "${category.catalog.refresh-interval-millis:300000}",
+        initialDelayString = "${category.catalog.refresh-interval-millis:300000}")
+    public void refreshCatalog() {
+        try {
+            long generation = invalidations.get();
+            CategoryCatalog loaded = CategoryCatalog.of(findCategoriesPort.findAllCategories());
+            if (invalidations.get() == generation) {
+                catalog.set(loaded);
+            }
+        } catch (Exception e) {
+            log.error("Failed to refresh category catalog", e);
+        }
+    }
+
+    /**
+     * 현재 카탈로그를 반환하고, 없으면 적재합니다.
+     */
+    private CategoryCatalog currentCatalog() {
+        CategoryCatalog current = catalog.get();
+        if (current != null) {
+            return current;
+        }
+        long generation = invalidations.get();
+        CategoryCatalog loaded = CategoryCatalog.of(findCategoriesPort.findAllCategories());
+        if (invalidations.get() == generation) {
+            catalog.compareAndSet(null, loaded);
+        }
+        log.info("Category catalog loaded: {} categories, version={}", loaded.size(), loaded.getVersion());
+        return loaded;
+    }
+
+    private void invalidateCatalog() {
+        invalidations.incrementAndGet();
+        catalog.set(null);
+    }
 }
@@ -4,26 +4,45 @@ import com.gongdel.promptserver.application.port.in.CategoryStatisticsQueryUseCa
 import com.gongdel.promptserver.application.port.out.CategoryStatisticsQueryPort;
 import com.gongdel.promptserver.domain.exception.PromptStatisticsErrorType;
 import com.gongdel.promptserver.domain.exception.PromptStatisticsException;
+import com.gongdel.promptserver.domain.model.CategoryChangedEvent;
+import com.gongdel.promptserver.domain.model.PromptCategoryChangedEvent;
 import com.gongdel.promptserver.domain.model.statistics.CategoryPromptCount;
+import com.gongdel.promptserver.domain.model.statistics.CategoryTree;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
 import org.springframework.util.Assert;
 
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * 카테고리별 프롬프트 통계 조회 서비스 구현체입니다.
+ * <p>
+ * 카테고리 트리와 카테고리별 프롬프트 개수를 메모리에 두고 제공하여, 요청마다 DB 집계를 하지 않습니다.
+ * 트리는 기동 직후 SQL로 한 번 적재하고, 카테고리 변경과 프롬프트 등록·카테고리 이동 이벤트가 커밋되면 바뀐 노드만
+ * 교체한 새 트리로 바꿉니다. 조회는 AtomicReference의 현재 트리를 잠금 없이 읽습니다.
+ * <p>
+ * 다른 인스턴스에서 일어난 변경이나 놓친 이벤트는 주기적으로 SQL 집계와 대조하여 바로잡습니다.
+ * 트리가 아직 적재되지 않았으면 기존처럼 SQL로 집계합니다.
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
-@Transactional(readOnly = true)
 public class CategoryStatisticsQueryService implements CategoryStatisticsQueryUseCase {
 
     private final CategoryStatisticsQueryPort categoryStatisticsQueryPort;
 
+    private final AtomicReference<CategoryTree> tree = new AtomicReference<>();
+
+    /**
+     * 수신한 변경 이벤트 수 (대조 도중 이벤트가 들어오면 집계 결과를 버리기 위해 사용)
+     */
+    private final AtomicLong changeEvents = new AtomicLong();
+
     /**
      * 루트 카테고리별 프롬프트 개수 목록을 반환합니다.
      *
@@ -32,6 +51,10 @@ public class CategoryStatisticsQueryService implements CategoryStatisticsQueryUs
      */
     @Override
     public List<CategoryPromptCount> getRootCategoryPromptCounts() {
+        CategoryTree current = tree.get();
+        if (current != null) {
+            return current.getRootCategoryPromptCounts();
+        }
         try {
             log.debug("Getting root category prompt counts");
             return categoryStatisticsQueryPort.getRootCategoryPromptCounts();
@@ -55,6 +78,10 @@ public class CategoryStatisticsQueryService implements CategoryStatisticsQueryUs
     public List<CategoryPromptCount> getChildCategoryPromptCounts(Long rootId) {
         try {
             Assert.notNull(rootId, "rootId must not be null");
+            CategoryTree current = tree.get();
+            if (current != null) {
+                return current.getChildCategoryPromptCounts(rootId);
+            }
             log.debug("Getting child category prompt counts for rootId: {}", rootId);
             return categoryStatisticsQueryPort.getChildCategoryPromptCounts(rootId);
         } catch (Exception e) {
@@ -65,4 +92,62 @@ public class CategoryStatisticsQueryService implements CategoryStatisticsQueryUs
                 e);
         }
     }
+
+    /**
+     * 카테고리 트리를 SQL 집계로 다시 구성합니다. 기동 직후 한 번 적재하고 이후 주기적으로 대조합니다.
+     * 구성하는 동안 변경 이벤트가 들어왔으면 트리에 반영되었는지와 관계없이(적재 전이나 트리에 없는 카테고리의 이벤트 포함)
+     * 이번 결과는 버리고 다음 주기에 다시 대조합니다.
+     */
+    @Scheduled(fixedDelayString = "${category.tree.reconcile-interval-millis:60000}")
+    public void reconcile() {
+        long generation = changeEvents.get();
+        CategoryTree before = tree.get();
+        try {
+            CategoryTree loaded = CategoryTree.of(categoryStatisticsQueryPort.getCategoryDirectPromptCounts());
+            if (changeEvents.get() != generation || !tree.compareAndSet(before, loaded)) {
+                log.debug("Category tree changed while reconciling, retrying on next run");
+                return;
+            }
+            if (before == null) {
+                log.info("Category tree loaded with {} categories", loaded.size());
+            } else if (!before.hasSameCountsAs(loaded)) {
+                log.warn("Category tree drifted from database and was reconciled ({} categories)", loaded.size());
+            }
+        } catch (Exception e) {
+            log.error("Failed to reconcile category tree", e);
+        }
+    }
+
+    /**
+     * 카테고리 생성·수정·삭제가 커밋되면 트리에 반영합니다.
+     *
+     * @param event 카테고리 변경 이벤트
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        log.debug("Applying category change to category tree: {}", event);
+        changeEvents.incrementAndGet();
+        tree.updateAndGet(current -> {
+            if (current == null) {
+                return null;
+            }
+            return event.isDeleted()
+                ? current.withoutCategory(event.getCategoryId())
+                : current.withCategory(event.getCategoryId(), event.getCategoryName(), event.getParentCategoryId());
+        });
+    }
+
+    /**
+     * 프롬프트 등록·가져오기나 카테고리 이동이 커밋되면 트리의 프롬프트 개수에 반영합니다.
+     *
+     * @param event 프롬프트 카테고리 변경 이벤트
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPromptCategoryChanged(PromptCategoryChangedEvent event) {
+        log.debug("Applying prompt category change to category tree: {}", event);
+        changeEvents.incrementAndGet();
+        tree.updateAndGet(current -> current == null
+            ? null
+            : current.withPromptCountDeltas(event.getPromptCountDeltas()));
+    }
 }
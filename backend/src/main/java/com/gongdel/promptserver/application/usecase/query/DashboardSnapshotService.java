@@ -0,0 +1,225 @@
+package com.gongdel.promptserver.application.usecase.query;
+
+import com.gongdel.promptserver.application.port.in.CategoryStatisticsQueryUseCase;
+import com.gongdel.promptserver.application.port.in.DashboardSnapshotQueryUseCase;
+import com.gongdel.promptserver.application.port.in.PromptStatisticsQueryUseCase;
+import com.gongdel.promptserver.application.port.in.TeamMemberStatisticsQueryUseCase;
+import com.gongdel.promptserver.application.port.in.UserStatisticsQueryUseCase;
+import com.gongdel.promptserver.application.port.in.ViewStatisticsQueryUseCase;
+import com.gongdel.promptserver.application.port.in.query.FavoriteQueryUseCase;
+import com.gongdel.promptserver.application.port.out.DashboardSnapshotCachePort;
+import com.gongdel.promptserver.domain.statistics.ComparisonPeriod;
+import com.gongdel.promptserver.domain.statistics.DashboardSnapshot;
+import com.gongdel.promptserver.domain.statistics.DashboardStatisticsChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 대시보드 전역 통계를 주기적으로 미리 계산하여 메모리에서 제공하는 서비스입니다.
+ * <p>
+ * 대시보드 수치는 사용자와 무관하므로 요청마다 COUNT/SUM 집계를 다시 하지 않고, 한 인스턴스가 주기적으로 계산한
+ * 불변 스냅샷을 AtomicReference로 교체하여 제공합니다. 계산한 스냅샷은 Redis에 저장하고, 다른 인스턴스는 짧은 주기로
+ * Redis의 스냅샷을 확인하여 더 최신이면 교체합니다. 재계산은 Redis 락을 잡은 인스턴스 하나만 수행합니다.
+ * <p>
+ * 프롬프트 등록·삭제, 회원가입, 즐겨찾기 변경 이벤트를 받으면 변경 시각을 Redis에 기록합니다. 각 인스턴스는 동기화
+ * 주기마다 공유 스냅샷의 generatedAt보다 늦은 변경이 있는지 확인하므로, 이벤트를 받지 않은 인스턴스도 오래된 스냅샷을
+ * 알아채고 재계산 락 경쟁에 참여합니다. Redis에 기록하지 못한 변경은 이벤트를 받은 인스턴스에만 표시됩니다.
+ * 조회수는 변경이 잦으므로 정기 재계산에만 반영합니다.
+ * <p>
+ * 재계산 락을 확인하지 못하면(Redis 오류) 재계산하지 않고 기존 스냅샷을 유지합니다. Redis 장애 중에 모든 인스턴스가
+ * 동시에 전체 집계를 실행하지 않도록 하기 위함입니다.
+ * <p>
+ * 통계 기준 기간은 기존 대시보드 API의 기본값(최근 7일, 조회수는 이번 주 월~일)과 같습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DashboardSnapshotService implements DashboardSnapshotQueryUseCase {
+
+    private static final int DEFAULT_PERIOD_DAYS = 7;
+
+    private final PromptStatisticsQueryUseCase promptStatisticsQueryUseCase;
+    private final UserStatisticsQueryUseCase userStatisticsQueryUseCase;
+    private final FavoriteQueryUseCase favoriteQueryUseCase;
+    private final TeamMemberStatisticsQueryUseCase teamMemberStatisticsQueryUseCase;
+    private final ViewStatisticsQueryUseCase viewStatisticsQueryUseCase;
+    private final CategoryStatisticsQueryUseCase categoryStatisticsQueryUseCase;
+    private final DashboardSnapshotCachePort dashboardSnapshotCachePort;
+
+    private final AtomicReference<DashboardSnapshot> current = new AtomicReference<>();
+    private final AtomicBoolean stale = new AtomicBoolean(false);
+    private final Object coldStartLock = new Object();
+
+    @Value("${dashboard.snapshot.refresh-lock-seconds:10}")
+    private long refreshLockSeconds;
+
+    /**
+     * 최신 스냅샷을 반환합니다. 아직 스냅샷이 없으면 Redis에서 가져오고, 그래도 없으면 직접 계산합니다.
+     * 스냅샷이 없는 동안 들어온 요청은 한 요청만 계산하고 나머지는 그 결과를 기다리므로, 기동 직후 동시 요청이
+     * 모두 DB 집계를 실행하지 않습니다.
+     *
+     * @return 대시보드 통계 스냅샷
+     */
+    @Override
+    public DashboardSnapshot getSnapshot() {
+        DashboardSnapshot snapshot = current.get();
+        if (snapshot != null) {
+            return snapshot;
+        }
+        synchronized (coldStartLock) {
+            snapshot = current.get();
+            if (snapshot != null) {
+                return snapshot;
+            }
+            syncFromCache();
+            snapshot = current.get();
+            if (snapshot != null) {
+                return snapshot;
+            }
+            log.info("No dashboard snapshot available yet, computing on demand");
+            return publish(computeSnapshot());
+        }
+    }
+
+    /**
+     * 정기적으로 스냅샷을 다시 계산합니다. 다른 인스턴스가 방금 계산했거나 락을 확인할 수 없으면 건너뜁니다.
+     */
+    @Scheduled(fixedDelayString = "${dashboard.snapshot.refresh-interval-millis:60000}")
+    public void refresh() {
+        if (!acquireRefreshLock()) {
+            log.debug("Dashboard snapshot refresh lock not acquired, skipping");
+            return;
+        }
+        stale.set(false);
+        try {
+            publish(computeSnapshot());
+        } catch (Exception e) {
+            stale.set(true);
+            log.error("Failed to refresh dashboard snapshot", e);
+        }
+    }
+
+    /**
+     * 다른 인스턴스가 계산한 더 최신 스냅샷을 가져온 뒤, 스냅샷 이후의 변경이 있으면 다시 계산합니다.
+     */
+    @Scheduled(fixedDelayString = "${dashboard.snapshot.sync-interval-millis:5000}")
+    public void syncAndRefreshStale() {
+        syncFromCache();
+        if (stale.get() || hasSharedChangeAfterSnapshot()) {
+            refresh();
+        }
+    }
+
+    /**
+     * 대시보드 통계에 영향을 주는 변경이 커밋되면 변경 시각을 Redis에 기록합니다.
+     * 기록에 실패하면 이 인스턴스의 스냅샷만 오래된 것으로 표시합니다.
+     *
+     * @param event 통계 변경 이벤트
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStatisticsChanged(DashboardStatisticsChangedEvent event) {
+        log.debug("Dashboard statistics changed: {}", event.getSource());
+        try {
+            dashboardSnapshotCachePort.markChanged(LocalDateTime.now());
+        } catch (Exception e) {
+            log.warn("Failed to share dashboard statistics change, marking local snapshot stale", e);
+            stale.set(true);
+        }
+    }
+
+    /**
+     * Redis에 기록된 마지막 변경 시각이 현재 스냅샷의 생성 시각보다 늦은지 확인합니다.
+     */
+    private boolean hasSharedChangeAfterSnapshot() {
+        try {
+            DashboardSnapshot snapshot = current.get();
+            return dashboardSnapshotCachePort.loadLastChangedAt()
+                .map(changedAt -> snapshot == null || changedAt.isAfter(snapshot.getGeneratedAt()))
+                .orElse(false);
+        } catch (Exception e) {
+            log.warn("Failed to load dashboard statistics change time", e);
+            return false;
+        }
+    }
+
+    /**
+     * 기존 통계 유스케이스로 전역 통계를 계산합니다.
+     */
+    private DashboardSnapshot computeSnapshot() {
+        long startedAt = System.nanoTime();
+        LocalDateTime now = LocalDateTime.now();
+        ComparisonPeriod period = new ComparisonPeriod(now.minusDays(DEFAULT_PERIOD_DAYS), now);
+
+        // 이번주 기간 계산 (월요일~일요일)
+        LocalDate today = now.toLocalDate();
+        ComparisonPeriod weeklyPeriod = new ComparisonPeriod(
+            today.with(DayOfWeek.MONDAY).atStartOfDay(),
+            today.with(DayOfWeek.SUNDAY).atTime(23, 59, 59));
+
+        DashboardSnapshot snapshot = DashboardSnapshot.builder()
+            .promptStatistics(promptStatisticsQueryUseCase.getPromptStatistics(period))
+            .userStatistics(userStatisticsQueryUseCase.getUserStatistics(period))
+            .favoriteStatistics(favoriteQueryUseCase.getFavoriteStatistics(period))
+            .weeklyViewStatistics(viewStatisticsQueryUseCase.getViewStatistics(weeklyPeriod))
+            .activeMemberCount(teamMemberStatisticsQueryUseCase.getTotalActiveMemberCount())
+            .rootCategoryCounts(categoryStatisticsQueryUseCase.getRootCategoryPromptCounts())
+            .generatedAt(now)
+            .build();
+        log.info("Dashboard snapshot computed in {}ms", Duration.ofNanos(System.nanoTime() - startedAt).toMillis());
+        return snapshot;
+    }
+
+    /**
+     * 스냅샷을 메모리에 반영하고 Redis에 저장합니다. 이미 더 최신 스냅샷이 있으면 메모리와 Redis 모두 그대로 둡니다.
+     * Redis 저장도 저장된 스냅샷보다 최신일 때만 교체하므로, 늦게 끝난 계산이 공유 스냅샷을 되돌리지 않습니다.
+     */
+    private DashboardSnapshot publish(DashboardSnapshot snapshot) {
+        DashboardSnapshot latest = current.accumulateAndGet(snapshot,
+            (existing, candidate) -> candidate.isNewerThan(existing) ? candidate : existing);
+        if (latest != snapshot) {
+            log.debug("Discarding dashboard snapshot older than the current one: generatedAt={}",
+                snapshot.getGeneratedAt());
+            return latest;
+        }
+        try {
+            if (!dashboardSnapshotCachePort.saveSnapshotIfNewer(snapshot)) {
+                log.debug("Shared dashboard snapshot is newer, keeping it: generatedAt={}", snapshot.getGeneratedAt());
+            }
+        } catch (Exception e) {
+            log.warn("Failed to share dashboard snapshot, other instances will keep their own", e);
+        }
+        return latest;
+    }
+
+    private void syncFromCache() {
+        try {
+            dashboardSnapshotCachePort.loadSnapshot().ifPresent(shared -> current.accumulateAndGet(shared,
+                (existing, candidate) -> candidate.isNewerThan(existing) ? candidate : existing));
+        } catch (Exception e) {
+            log.warn("Failed to load shared dashboard snapshot", e);
+        }
+    }
+
+    /**
+     * 재계산 권한을 획득합니다. Redis 오류 시에는 권한을 획득하지 못한 것으로 보고 기존 스냅샷을 유지합니다.
+     */
+    private boolean acquireRefreshLock() {
+        try {
+            return dashboardSnapshotCachePort.tryAcquireRefreshLock(Duration.ofSeconds(refreshLockSeconds));
+        } catch (Exception e) {
+            log.warn("Failed to acquire dashboard snapshot refresh lock, keeping current snapshot", e);
+            return false;
+        }
+    }
+}
@@ -14,6 +14,7 @@ import com.gongdel.promptserver.domain.statistics.FavoriteStatistics;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.Assert;
@@ -104,15 +105,10 @@ public class FavoriteQueryService implements FavoriteQueryUseCase {
                 return searchResults;
             }
 
-            // 2. 프롬프트 ID 목록 추출
-            List<Long> promptIds = searchResults.getContent().stream()
-                .map(FavoritePromptResult::getPromptId)
-                .collect(Collectors.toList());
+            // 2. 배치로 조회수 정보 조회
+            Map<Long, Long> viewCountMap = loadViewCounts(searchResults.getContent());
 
-            // 3. 배치로 조회수 정보 조회
-            Map<Long, Long> viewCountMap = viewQueryService.getViewCountsByPromptIds(promptIds);
-
-            // 4. 검색 결과에 조회수 정보 통합
+            // 3. 검색 결과에 조회수 정보 통합
             Page<FavoritePromptResult> enrichedResults = searchResults
                 .map(result -> createFavoritePromptResultWithViewCount(result, viewCountMap));
 
@@ -130,6 +126,50 @@ public class FavoriteQueryService implements FavoriteQueryUseCase {
         }
     }
 
+    /**
+     * 즐겨찾기 목록을 최신순으로 커서 기반 조회합니다.
+     * 전체 개수를 조회하지 않으며, 조회수 정보를 포함한 즐겨찾기 목록을 반환합니다.
+     *
+     * @param condition 즐겨찾기 검색 조건 (cursor가 null이면 첫 페이지)
+     * @return 조회수가 포함된 즐겨찾기 프롬프트 결과 슬라이스
+     * @throws IllegalArgumentException condition이 null이거나 커서가 유효하지 않은 경우
+     * @throws FavoriteException        내부 오류 발생 시
+     */
+    @Override
+    public Slice<FavoritePromptResult> scrollFavorites(FavoriteSearchCondition condition) {
+        try {
+            validateSearchCondition(condition);
+            log.debug("Scrolling favorites for userId={}, condition={}", condition.getUserId(), condition);
+
+            Slice<FavoritePromptResult> results = searchFavoritePort.scrollFavorites(condition);
+            if (results.isEmpty()) {
+                return results;
+            }
+            Map<Long, Long> viewCountMap = loadViewCounts(results.getContent());
+            return results.map(result -> createFavoritePromptResultWithViewCount(result, viewCountMap));
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid FavoriteSearchCondition for scroll: {}", condition);
+            throw e;
+        } catch (Exception e) {
+            log.error("Failed to scroll favorites for userId={}: {}",
+                condition != null ? condition.getUserId() : null, e.getMessage(), e);
+            throw FavoriteException.internalError("Failed to scroll favorites", e);
+        }
+    }
+
+    /**
+     * 즐겨찾기 결과의 프롬프트 조회수를 일괄 조회합니다.
+     *
+     * @param results 즐겨찾기 프롬프트 결과 목록
+     * @return 프롬프트 ID별 조회수 맵
+     */
+    private Map<Long, Long> loadViewCounts(List<FavoritePromptResult> results) {
+        List<Long> promptIds = results.stream()
+            .map(FavoritePromptResult::getPromptId)
+            .collect(Collectors.toList());
+        return viewQueryService.getViewCountsByPromptIds(promptIds);
+    }
+
     /**
      * 사용자 ID의 유효성을 검증합니다.
      *
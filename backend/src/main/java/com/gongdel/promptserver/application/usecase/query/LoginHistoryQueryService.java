@@ -0,0 +1,46 @@
+package com.gongdel.promptserver.application.usecase.query;
+
+import com.gongdel.promptserver.application.port.in.LoginHistoryQueryUseCase;
+import com.gongdel.promptserver.application.port.out.query.LoadLoginHistoryPort;
+import com.gongdel.promptserver.domain.login.LoginHistory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.Assert;
+
+import java.util.List;
+
+/**
+ * 로그인 이력 조회 서비스입니다.
+ * <p>
+ * 로그인 이력은 백그라운드에서 배치로 저장되므로 방금 로그인한 기록은 최대 한 번의 기록 주기만큼 늦게 조회될 수 있습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class LoginHistoryQueryService implements LoginHistoryQueryUseCase {
+    /**
+     * 한 번에 조회할 수 있는 최대 이력 수
+     */
+    static final int MAX_LIMIT = 100;
+
+    private final LoadLoginHistoryPort loadLoginHistoryPort;
+
+    /**
+     * 사용자의 최근 로그인 이력을 최신순으로 조회합니다.
+     *
+     * @param userId 사용자 PK (null 불가)
+     * @param limit  최대 조회 건수 (1~100 범위로 보정)
+     * @return 최신순 로그인 이력 목록
+     * @throws IllegalArgumentException userId가 null인 경우
+     */
+    @Override
+    public List<LoginHistory> getRecentLoginHistories(Long userId, int limit) {
+        Assert.notNull(userId, "userId must not be null");
+        int boundedLimit = Math.min(Math.max(limit, 1), MAX_LIMIT);
+        log.debug("Loading recent login histories. userId={}, limit={}", userId, boundedLimit);
+        return loadLoginHistoryPort.loadRecentLoginHistories(userId, boundedLimit);
+    }
+}
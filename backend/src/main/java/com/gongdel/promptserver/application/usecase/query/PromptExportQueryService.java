@@ -0,0 +1,50 @@
+package com.gongdel.promptserver.application.usecase.query;
+
+import com.gongdel.promptserver.application.port.in.PromptExportUseCase;
+import com.gongdel.promptserver.application.port.out.query.ExportPromptsPort;
+import com.gongdel.promptserver.domain.model.PromptExportCondition;
+import com.gongdel.promptserver.domain.model.PromptExportRow;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.Assert;
+
+import java.util.function.Consumer;
+
+/**
+ * 프롬프트 내보내기 서비스입니다.
+ * <p>
+ * 읽기 전용 트랜잭션 안에서 커서를 열어 두고 행을 하나씩 전달하므로, 내보내는 행 수와 무관하게 메모리 사용량이 일정합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class PromptExportQueryService implements PromptExportUseCase {
+    private final ExportPromptsPort exportPromptsPort;
+
+    /**
+     * 조건에 맞는 프롬프트를 현재 버전 내용·태그와 함께 한 행씩 전달합니다.
+     *
+     * @param condition 내보내기 조건 (null 불가)
+     * @param consumer  행을 처리할 함수 (null 불가)
+     * @return 내보낸 행 수
+     * @throws IllegalArgumentException 조건이 유효하지 않은 경우
+     */
+    @Override
+    public long exportPrompts(PromptExportCondition condition, Consumer<PromptExportRow> consumer) {
+        Assert.notNull(condition, "condition must not be null");
+        Assert.notNull(consumer, "consumer must not be null");
+        Assert.notNull(condition.getRequesterId(), "requesterId must not be null");
+        if (condition.getCreatedFrom() != null && condition.getCreatedTo() != null) {
+            Assert.isTrue(condition.getCreatedFrom().isBefore(condition.getCreatedTo()),
+                "createdFrom must be before createdTo");
+        }
+
+        log.debug("Start exporting prompts with condition: {}", condition);
+        long exported = exportPromptsPort.exportPrompts(condition, consumer);
+        log.info("Exported {} prompts. Requester: {}", exported, condition.getRequesterId());
+        return exported;
+    }
+}
@@ -0,0 +1,136 @@
+package com.gongdel.promptserver.application.usecase.query;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.gongdel.promptserver.application.exception.PromptVersionNotFoundException;
+import com.gongdel.promptserver.application.port.in.query.GetPromptVersionDiffUseCase;
+import com.gongdel.promptserver.application.port.in.result.PromptVersionDiffResult;
+import com.gongdel.promptserver.application.port.out.query.FindPromptVersionsPort;
+import com.gongdel.promptserver.application.port.out.query.LoadPromptTemplateIdPort;
+import com.gongdel.promptserver.application.port.out.query.LoadPromptVersionPort;
+import com.gongdel.promptserver.domain.exception.PromptErrorType;
+import com.gongdel.promptserver.domain.exception.PromptOperationException;
+import com.gongdel.promptserver.domain.model.PromptContentDiff;
+import com.gongdel.promptserver.domain.model.PromptVersion;
+import com.gongdel.promptserver.domain.model.PromptVersionSummary;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.Assert;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 프롬프트 버전 차이 조회 유즈케이스 구현체입니다.
+ * <p>
+ * 직전 버전과의 차이는 버전 생성 시 저장된 값을 그대로 반환합니다. 저장된 값이 없는 버전이나 임의의 두 버전 비교는
+ * 요청 시 계산하며, 최근 결과를 크기가 제한된 Caffeine 캐시에 보관해 같은 비교를 반복 계산하지 않습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PromptVersionDiffService implements GetPromptVersionDiffUseCase {
+
+    /**
+     * 요청 시 계산한 차이를 보관하는 최대 개수
+     */
+    static final int DIFF_CACHE_SIZE = 256;
+
+    private final LoadPromptTemplateIdPort loadPromptTemplateIdPort;
+    private final LoadPromptVersionPort loadPromptVersionPort;
+    private final FindPromptVersionsPort findPromptVersionsPort;
+
+    private final Cache<DiffKey, PromptContentDiff> diffCache = Caffeine.newBuilder()
+        .maximumSize(DIFF_CACHE_SIZE)
+        .build();
+
+    /**
+     * 프롬프트 버전과 비교 대상 버전 사이의 차이를 조회합니다.
+     *
+     * @param promptUuid         프롬프트 템플릿 UUID
+     * @param versionUuid        대상 버전 UUID
+     * @param againstVersionUuid 비교 기준 버전 UUID (null이면 직전 버전)
+     * @return 버전 차이
+     * @throws PromptOperationException       프롬프트가 존재하지 않는 경우
+     * @throws PromptVersionNotFoundException 해당 프롬프트에 버전이 없는 경우
+     */
+    @Override
+    public PromptVersionDiffResult getDiff(UUID promptUuid, UUID versionUuid, UUID againstVersionUuid) {
+        Assert.notNull(promptUuid, "Prompt UUID must not be null");
+        Assert.notNull(versionUuid, "PromptVersion UUID must not be null");
+        Long promptTemplateId = loadPromptTemplateIdPort.findIdByUuid(promptUuid)
+            .orElseThrow(() -> {
+                log.warn("Prompt not found for UUID: {}", promptUuid);
+                return new PromptOperationException(PromptErrorType.NOT_FOUND,
+                    "Prompt template not found: " + promptUuid);
+            });
+        PromptVersion target = loadVersionOf(promptTemplateId, versionUuid);
+
+        if (againstVersionUuid != null) {
+            PromptVersion base = loadVersionOf(promptTemplateId, againstVersionUuid);
+            return toResult(base.getUuid(), base.getVersionNumber(), target, computeDiff(base, target));
+        }
+
+        Optional<PromptVersionSummary> previous = findPromptVersionsPort
+            .findPromptVersionSummaries(promptTemplateId, target.getVersionNumber(), 1)
+            .stream()
+            .findFirst();
+        if (previous.isEmpty()) {
+            return toResult(null, null, target, PromptContentDiff.initial(target.getContent()));
+        }
+        PromptVersionSummary base = previous.get();
+        if (target.getContentDiff() != null) {
+            log.debug("Using stored diff of prompt version {}", versionUuid);
+            return toResult(base.getUuid(), base.getVersionNumber(), target,
+                PromptContentDiff.decode(target.getContentDiff()));
+        }
+        PromptVersion baseVersion = loadVersionOf(promptTemplateId, base.getUuid());
+        return toResult(base.getUuid(), base.getVersionNumber(), target, computeDiff(baseVersion, target));
+    }
+
+    /**
+     * 두 버전의 차이를 계산합니다. 같은 내용의 비교는 캐시된 결과를 사용합니다.
+     */
+    private PromptContentDiff computeDiff(PromptVersion base, PromptVersion target) {
+        DiffKey key = new DiffKey(base.getId(), target.getId(),
+            base.getContent().hashCode(), target.getContent().hashCode());
+        PromptContentDiff cached = diffCache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+        PromptContentDiff diff = PromptContentDiff.between(base.getContent(), target.getContent());
+        diffCache.put(key, diff);
+        log.debug("Computed diff between prompt versions {} and {}", base.getUuid(), target.getUuid());
+        return diff;
+    }
+
+    private PromptVersion loadVersionOf(Long promptTemplateId, UUID versionUuid) {
+        PromptVersion version = loadPromptVersionPort.loadPromptVersionByUuid(versionUuid)
+            .orElseThrow(() -> new PromptVersionNotFoundException(versionUuid));
+        if (!promptTemplateId.equals(version.getPromptTemplateId())) {
+            log.warn("Prompt version {} does not belong to template {}", versionUuid, promptTemplateId);
+            throw new PromptVersionNotFoundException(versionUuid);
+        }
+        return version;
+    }
+
+    private PromptVersionDiffResult toResult(UUID fromUuid, Integer fromNumber, PromptVersion target,
+                                             PromptContentDiff diff) {
+        return PromptVersionDiffResult.builder()
+            .fromVersionUuid(fromUuid)
+            .fromVersionNumber(fromNumber)
+            .toVersionUuid(target.getUuid())
+            .toVersionNumber(target.getVersionNumber())
+            .diff(diff)
+            .build();
+    }
+
+    /**
+     * 캐시 키. 버전 내용이 수정된 경우 이전 결과를 재사용하지 않도록 내용 해시를 포함합니다.
+     */
+    private record DiffKey(Long fromVersionId, Long toVersionId, int fromContentHash, int toContentHash) {
+    }
+}
@@ -1,14 +1,20 @@
 package com.gongdel.promptserver.application.usecase.query;
 
+import com.gongdel.promptserver.application.exception.ApplicationException;
 import com.gongdel.promptserver.application.exception.PromptVersionExceptionConverter;
 import com.gongdel.promptserver.application.exception.PromptVersionNotFoundException;
 import com.gongdel.promptserver.application.exception.PromptVersionOperationFailedException;
 import com.gongdel.promptserver.application.port.in.query.FindPromptVersionsUseCase;
 import com.gongdel.promptserver.application.port.in.query.GetPromptVersionUseCase;
+import com.gongdel.promptserver.application.port.in.result.PromptVersionHistoryResult;
 import com.gongdel.promptserver.application.port.out.query.FindPromptVersionsPort;
+import com.gongdel.promptserver.application.port.out.query.LoadPromptTemplateIdPort;
 import com.gongdel.promptserver.application.port.out.query.LoadPromptVersionPort;
+import com.gongdel.promptserver.domain.exception.PromptErrorType;
+import com.gongdel.promptserver.domain.exception.PromptOperationException;
 import com.gongdel.promptserver.domain.exception.PromptVersionDomainException;
 import com.gongdel.promptserver.domain.model.PromptVersion;
+import com.gongdel.promptserver.domain.model.PromptVersionSummary;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -27,8 +33,14 @@ import java.util.UUID;
 @Transactional(readOnly = true)
 public class PromptVersionQueryService implements FindPromptVersionsUseCase, GetPromptVersionUseCase {
 
+    /**
+     * 버전 이력 페이지 최대 크기
+     */
+    static final int MAX_HISTORY_PAGE_SIZE = 100;
+
     private final FindPromptVersionsPort findPromptVersionsPort;
     private final LoadPromptVersionPort loadPromptVersionPort;
+    private final LoadPromptTemplateIdPort loadPromptTemplateIdPort;
 
     /**
      * 프롬프트 템플릿 ID로 프롬프트 버전 목록을 조회합니다.
@@ -77,6 +89,8 @@ public class PromptVersionQueryService implements FindPromptVersionsUseCase, Get
                     log.warn("Prompt version not found: uuid={}", uuid);
                     return new PromptVersionNotFoundException(uuid);
                 });
+        } catch (ApplicationException e) {
+            throw e;
         } catch (PromptVersionDomainException e) {
             // 도메인 예외를 애플리케이션 예외로 변환
             throw PromptVersionExceptionConverter
@@ -87,4 +101,64 @@ public class PromptVersionQueryService implements FindPromptVersionsUseCase, Get
                 "프롬프트 버전 조회 중 오류가 발생했습니다: " + e.getMessage(), e);
         }
     }
+
+    /**
+     * 프롬프트의 버전 이력을 버전 번호 내림차순 키셋 페이지네이션으로 조회합니다.
+     * 다음 페이지 존재 여부는 페이지 크기보다 한 건 더 조회해 판단하므로 별도의 count 쿼리가 없습니다.
+     *
+     * @param promptUuid          프롬프트 템플릿 UUID
+     * @param beforeVersionNumber 이전 페이지의 다음 커서 (null이면 첫 페이지)
+     * @param size                페이지 크기 (1 ~ {@value #MAX_HISTORY_PAGE_SIZE})
+     * @return 버전 이력 한 페이지
+     * @throws PromptOperationException              프롬프트가 존재하지 않는 경우
+     * @throws PromptVersionOperationFailedException 조회 중 오류가 발생한 경우
+     */
+    @Override
+    public PromptVersionHistoryResult findHistory(UUID promptUuid, Integer beforeVersionNumber, int size) {
+        Assert.notNull(promptUuid, "Prompt UUID must not be null");
+        Assert.isTrue(size > 0 && size <= MAX_HISTORY_PAGE_SIZE,
+            "Page size must be between 1 and " + MAX_HISTORY_PAGE_SIZE);
+        Long promptTemplateId = findPromptTemplateIdOrThrow(promptUuid);
+        log.debug("Querying prompt version history: templateId={}, before={}, size={}", promptTemplateId,
+            beforeVersionNumber, size);
+        try {
+            List<PromptVersionSummary> fetched = findPromptVersionsPort.findPromptVersionSummaries(
+                promptTemplateId, beforeVersionNumber, size + 1);
+            return PromptVersionHistoryResult.of(fetched, size);
+        } catch (Exception e) {
+            log.error("Unexpected error while querying prompt version history: templateId={}", promptTemplateId, e);
+            throw new PromptVersionOperationFailedException(
+                "프롬프트 버전 이력 조회 중 오류가 발생했습니다: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 프롬프트에 속한 버전을 UUID로 조회합니다. 다른 프롬프트의 버전 UUID이면 존재하지 않는 것으로 처리합니다.
+     *
+     * @param promptUuid  프롬프트 템플릿 UUID
+     * @param versionUuid 조회할 프롬프트 버전의 UUID
+     * @return 프롬프트 버전 도메인
+     * @throws PromptOperationException       프롬프트가 존재하지 않는 경우
+     * @throws PromptVersionNotFoundException 해당 프롬프트에 버전이 없는 경우
+     */
+    @Override
+    public PromptVersion getByPromptUuidAndUuid(UUID promptUuid, UUID versionUuid) {
+        Assert.notNull(promptUuid, "Prompt UUID must not be null");
+        Long promptTemplateId = findPromptTemplateIdOrThrow(promptUuid);
+        PromptVersion version = getByUuid(versionUuid);
+        if (!promptTemplateId.equals(version.getPromptTemplateId())) {
+            log.warn("Prompt version {} does not belong to prompt {}", versionUuid, promptUuid);
+            throw new PromptVersionNotFoundException(versionUuid);
+        }
+        return version;
+    }
+
+    private Long findPromptTemplateIdOrThrow(UUID promptUuid) {
+        return loadPromptTemplateIdPort.findIdByUuid(promptUuid)
+            .orElseThrow(() -> {
+                log.warn("Prompt not found for UUID: {}", promptUuid);
+                return new PromptOperationException(PromptErrorType.NOT_FOUND,
+                    "Prompt template not found: " + promptUuid);
+            });
+    }
 }
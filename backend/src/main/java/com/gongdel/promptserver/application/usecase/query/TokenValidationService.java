@@ -2,6 +2,7 @@ package com.gongdel.promptserver.application.usecase.query;
 
 import com.gongdel.promptserver.application.port.out.query.CheckTokenBlacklistPort;
 import com.gongdel.promptserver.common.security.JwtTokenProvider;
+import com.gongdel.promptserver.common.security.ParsedToken;
 import com.gongdel.promptserver.domain.exception.InvalidJwtException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -20,27 +21,25 @@ public class TokenValidationService {
     private final CheckTokenBlacklistPort checkTokenBlacklistPort;
 
     /**
-     * JWT 토큰의 유효성을 검증합니다.
+     * JWT 토큰의 유효성을 검증하고 검증된 토큰 정보를 반환합니다.
+     * 토큰은 한 번만 파싱되며, 반환된 정보를 인증 단계에서 그대로 사용합니다.
      *
      * @param token 검증할 JWT 토큰
-     * @return 유효하면 true, 아니면 false
+     * @return 검증된 토큰 정보
      * @throws InvalidJwtException 토큰이 유효하지 않거나 블랙리스트에 등록된 경우
      */
-    public boolean validateToken(String token) {
+    public ParsedToken validateToken(String token) {
         // 1. 토큰 형식 및 서명 검증
-        if (!jwtTokenProvider.validateToken(token)) {
-            log.warn("Invalid JWT token format or signature");
-            throw new InvalidJwtException("유효하지 않은 토큰입니다.");
-        }
+        ParsedToken parsedToken = jwtTokenProvider.parseToken(token);
 
         // 2. 블랙리스트 검증
-        String tokenId = jwtTokenProvider.getTokenId(token);
+        String tokenId = parsedToken.getTokenId();
         if (checkTokenBlacklistPort.isBlacklisted(tokenId)) {
             log.warn("Token is blacklisted: {}", tokenId);
             throw new InvalidJwtException("블랙리스트에 등록된 토큰입니다.");
         }
 
         log.debug("Token validation successful: {}", tokenId);
-        return true;
+        return parsedToken;
     }
 }
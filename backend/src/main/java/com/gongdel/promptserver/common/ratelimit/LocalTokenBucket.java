@@ -0,0 +1,51 @@
+package com.gongdel.promptserver.common.ratelimit;
+
+/**
+ * 인스턴스 내부에서 키 하나의 요청 수를 제한하는 토큰 버킷입니다.
+ * <p>
+ * 용량만큼 토큰을 가지고 시작하며, 윈도 길이 동안 용량만큼의 토큰이 균등하게 다시 채워집니다.
+ */
+final class LocalTokenBucket {
+    private final int capacity;
+    private final double refillPerNano;
+    private double tokens;
+    private long lastRefillNanos;
+
+    LocalTokenBucket(int capacity, long windowNanos, long nowNanos) {
+        this.capacity = capacity;
+        this.refillPerNano = (double) capacity / windowNanos;
+        this.tokens = capacity;
+        this.lastRefillNanos = nowNanos;
+    }
+
+    /**
+     * 토큰 하나를 사용합니다.
+     *
+     * @param nowNanos 현재 시각 (System.nanoTime 기준)
+     * @return 토큰이 남아 있어 사용했으면 true
+     */
+    synchronized boolean tryConsume(long nowNanos) {
+        refill(nowNanos);
+        if (tokens < 1) {
+            return false;
+        }
+        tokens -= 1;
+        return true;
+    }
+
+    /**
+     * 버킷이 가득 찼는지 확인합니다. 가득 찬 버킷은 제거해도 동작이 달라지지 않습니다.
+     */
+    synchronized boolean isFull(long nowNanos) {
+        refill(nowNanos);
+        return tokens >= capacity;
+    }
+
+    private void refill(long nowNanos) {
+        long elapsed = nowNanos - lastRefillNanos;
+        if (elapsed > 0) {
+            tokens = Math.min(capacity, tokens + elapsed * refillPerNano);
+            lastRefillNanos = nowNanos;
+        }
+    }
+}
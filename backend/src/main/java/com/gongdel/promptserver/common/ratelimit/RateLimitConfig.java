@@ -0,0 +1,52 @@
+package com.gongdel.promptserver.common.ratelimit;
+
+import com.gongdel.promptserver.common.web.ClientIpResolver;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * 요청 수 제한 필터 설정을 담당하는 설정 클래스입니다.
+ */
+@Slf4j
+@Configuration
+@Profile("!test")
+@EnableConfigurationProperties(RateLimitProperties.class)
+public class RateLimitConfig {
+
+    /**
+     * 요청 수 제한 필터를 생성합니다. 보안 필터 체인에 등록하여 인증 이후에 실행합니다.
+     *
+     * @param properties          요청 수 제한 설정
+     * @param stringRedisTemplate Redis 템플릿
+     * @param clientIpResolver    클라이언트 IP 판단 컴포넌트
+     * @param meterRegistry       지표 레지스트리
+     * @return RateLimitFilter
+     */
+    @Bean
+    public RateLimitFilter rateLimitFilter(RateLimitProperties properties, StringRedisTemplate stringRedisTemplate,
+                                           ClientIpResolver clientIpResolver, MeterRegistry meterRegistry) {
+        log.info("Configuring rate limit filter: enabled={}, rules={}", properties.isEnabled(),
+            properties.getRules().size());
+        return new RateLimitFilter(properties, new RedisSlidingWindowLimiter(stringRedisTemplate), clientIpResolver,
+            meterRegistry);
+    }
+
+    /**
+     * 서블릿 컨테이너에 필터가 자동 등록되지 않도록 합니다. 자동 등록되면 인증 전에 먼저 실행되어 사용자 키를 쓸 수 없습니다.
+     *
+     * @param rateLimitFilter 요청 수 제한 필터
+     * @return 비활성화된 FilterRegistrationBean
+     */
+    @Bean
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilterRegistration(RateLimitFilter rateLimitFilter) {
+        FilterRegistrationBean<RateLimitFilter> registration = new FilterRegistrationBean<>(rateLimitFilter);
+        registration.setEnabled(false);
+        return registration;
+    }
+}
@@ -0,0 +1,209 @@
+package com.gongdel.promptserver.common.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gongdel.promptserver.common.security.SecurityUserDetails;
+import com.gongdel.promptserver.common.web.ClientIpResolver;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * 설정된 경로의 요청 수를 키(IP 또는 사용자)별로 제한하는 필터입니다.
+ * <p>
+ * 요청마다 먼저 인스턴스 내부 토큰 버킷을 확인하고, 통과한 요청만 Redis 슬라이딩 윈도 카운터로 전체 인스턴스 기준
+ * 한도를 확인합니다. 두 단계의 한도가 같으므로 한 인스턴스에서 이미 한도를 넘긴 키는 Redis를 호출하지 않고 바로 거절합니다.
+ * Redis 오류 시에는 내부 토큰 버킷 판단만으로 요청을 통과시킵니다.
+ * <p>
+ * 인증된 사용자 ID를 키로 쓰기 위해 보안 필터 체인에서 JWT 인증 필터 뒤에 등록합니다.
+ * <p>
+ * 클라이언트 IP는 {@link ClientIpResolver}로 판단하므로, 클라이언트가 X-Forwarded-For를 꾸며 키를 바꿀 수 없습니다.
+ * <p>
+ * 지표:
+ * - http.rate_limit.rejected (tag rule, layer=local|cluster): 거절된 요청 수
+ * - http.rate_limit.redis.errors: Redis 확인에 실패하여 내부 판단으로 통과시킨 요청 수
+ */
+@Slf4j
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    static final String REJECTED_METRIC = "http.rate_limit.rejected";
+    static final String REDIS_ERROR_METRIC = "http.rate_limit.redis.errors";
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final String ERROR_CODE = "TOO_MANY_REQUESTS";
+    private static final String ERROR_TYPE = "RATE_LIMIT_EXCEEDED";
+    private static final String ERROR_MESSAGE = "요청이 너무 많습니다. 잠시 후 다시 시도해주세요.";
+    private static final String ERROR_DESCRIPTION = "요청 수 제한 초과";
+    private static final String CONTENT_TYPE = MediaType.APPLICATION_JSON_VALUE + ";charset=UTF-8";
+    private static final Map<String, String> ERROR_DETAILS = Map.of(
+        "type", ERROR_TYPE,
+        "description", ERROR_DESCRIPTION);
+
+    private final RateLimitProperties properties;
+    private final RedisSlidingWindowLimiter redisLimiter;
+    private final MeterRegistry meterRegistry;
+    private final LongSupplier nanoClock;
+    private final LongSupplier epochMillisClock;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final ConcurrentMap<String, LocalTokenBucket> localBuckets = new ConcurrentHashMap<>();
+    private final Counter redisErrors;
+    private final ClientIpResolver clientIpResolver;
+
+    public RateLimitFilter(RateLimitProperties properties, RedisSlidingWindowLimiter redisLimiter,
+                           ClientIpResolver clientIpResolver, MeterRegistry meterRegistry) {
+        this(properties, redisLimiter, clientIpResolver, meterRegistry, System::nanoTime, System::currentTimeMillis);
+    }
+
+    RateLimitFilter(RateLimitProperties properties, RedisSlidingWindowLimiter redisLimiter,
+                    ClientIpResolver clientIpResolver, MeterRegistry meterRegistry, LongSupplier nanoClock,
+                    LongSupplier epochMillisClock) {
+        this.properties = properties;
+        this.redisLimiter = redisLimiter;
+        this.clientIpResolver = clientIpResolver;
+        this.meterRegistry = meterRegistry;
+        this.nanoClock = nanoClock;
+        this.epochMillisClock = epochMillisClock;
+        this.redisErrors = Counter.builder(REDIS_ERROR_METRIC)
+            .description("Rate limit checks that fell back to the local bucket because Redis failed")
+            .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled() || properties.getRules().isEmpty();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+        throws ServletException, IOException {
+        RateLimitProperties.Rule rule = findRule(request);
+        if (rule == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String key = rule.getName() + ":" + resolveKey(rule, request);
+        long windowMillis = rule.getWindow().toMillis();
+        if (!tryAcquireLocal(key, rule)) {
+            reject(response, rule, "local", Math.max(1, TimeUnit.MILLISECONDS.toSeconds(windowMillis / rule.getLimit())));
+            return;
+        }
+        long nowMillis = epochMillisClock.getAsLong();
+        if (!tryAcquireCluster(key, rule, windowMillis, nowMillis)) {
+            long untilNextWindow = windowMillis - nowMillis % windowMillis;
+            reject(response, rule, "cluster", Math.max(1, TimeUnit.MILLISECONDS.toSeconds(untilNextWindow)));
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    /**
+     * 요청 메서드와 경로에 먼저 일치하는 규칙을 찾습니다.
+     */
+    private RateLimitProperties.Rule findRule(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        for (RateLimitProperties.Rule rule : properties.getRules()) {
+            boolean methodMatches = !StringUtils.hasText(rule.getMethod())
+                || rule.getMethod().equalsIgnoreCase(request.getMethod());
+            if (methodMatches && pathMatcher.match(rule.getPath(), path)) {
+                return rule;
+            }
+        }
+        return null;
+    }
+
+    private String resolveKey(RateLimitProperties.Rule rule, HttpServletRequest request) {
+        if (rule.getKey() == RateLimitProperties.KeyType.USER_OR_IP) {
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            if (authentication != null && authentication.isAuthenticated()
+                && authentication.getPrincipal() instanceof SecurityUserDetails userDetails
+                && userDetails.getUser().getId() != null) {
+                return "user:" + userDetails.getUser().getId();
+            }
+        }
+        return "ip:" + clientIpResolver.resolve(request);
+    }
+
+    /**
+     * 내부 토큰 버킷에서 토큰을 사용합니다. 추적 키 수가 최대치에 도달하면 새 키는 Redis로만 판단합니다.
+     */
+    private boolean tryAcquireLocal(String key, RateLimitProperties.Rule rule) {
+        long now = nanoClock.getAsLong();
+        LocalTokenBucket bucket = localBuckets.get(key);
+        if (bucket == null) {
+            if (localBuckets.size() >= properties.getMaxLocalKeys()) {
+                return true;
+            }
+            bucket = localBuckets.computeIfAbsent(key,
+                k -> new LocalTokenBucket(rule.getLimit(), rule.getWindow().toNanos(), now));
+        }
+        return bucket.tryConsume(now);
+    }
+
+    private boolean tryAcquireCluster(String key, RateLimitProperties.Rule rule, long windowMillis, long nowMillis) {
+        try {
+            return redisLimiter.tryAcquire(key, rule.getLimit(), windowMillis, nowMillis);
+        } catch (Exception e) {
+            redisErrors.increment();
+            log.debug("Rate limit check failed on Redis, allowing request for key={}", key, e);
+            return true;
+        }
+    }
+
+    private void reject(HttpServletResponse response, RateLimitProperties.Rule rule, String layer,
+                        long retryAfterSeconds) throws IOException {
+        Counter.builder(REJECTED_METRIC)
+            .description("Requests rejected by the rate limiter")
+            .tag("rule", rule.getName())
+            .tag("layer", layer)
+            .register(meterRegistry)
+            .increment();
+        log.debug("Rate limit exceeded: rule={}, layer={}", rule.getName(), layer);
+
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setContentType(CONTENT_TYPE);
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setHeader("Cache-Control", "no-store");
+        try (PrintWriter writer = response.getWriter()) {
+            writer.write(OBJECT_MAPPER.writeValueAsString(Map.of(
+                "timestamp", LocalDateTime.now().toString(),
+                "code", ERROR_CODE,
+                "message", ERROR_MESSAGE,
+                "error", ERROR_DETAILS)));
+        }
+    }
+
+    /**
+     * 가득 찬 토큰 버킷을 제거합니다. 가득 찬 버킷은 새로 만든 버킷과 같으므로 제거해도 판단이 달라지지 않습니다.
+     */
+    @Scheduled(fixedDelay = 1, initialDelay = 1, timeUnit = TimeUnit.MINUTES)
+    public void evictIdleBuckets() {
+        long now = nanoClock.getAsLong();
+        localBuckets.values().removeIf(bucket -> bucket.isFull(now));
+    }
+
+    int localBucketCount() {
+        return localBuckets.size();
+    }
+}
@@ -0,0 +1,97 @@
+package com.gongdel.promptserver.common.ratelimit;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 요청 수 제한 설정 프로퍼티를 담는 클래스입니다.
+ * 경로별 규칙마다 키 기준과 허용 요청 수, 윈도 길이를 지정합니다.
+ */
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+    /**
+     * 요청 수 제한 사용 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * 인스턴스 내부 토큰 버킷으로 추적할 최대 키 수 (초과 시 새 키는 Redis로만 판단)
+     */
+    @Positive(message = "Max local keys must be positive")
+    private int maxLocalKeys = 100_000;
+
+    /**
+     * 경로별 제한 규칙 (먼저 일치하는 규칙 하나만 적용)
+     */
+    @Valid
+    private List<Rule> rules = new ArrayList<>();
+
+    /**
+     * 경로별 요청 수 제한 규칙입니다.
+     */
+    @Getter
+    @Setter
+    public static class Rule {
+        /**
+         * 규칙 이름 (Redis 키와 지표 태그에 사용)
+         */
+        @NotBlank(message = "Rule name must not be blank")
+        private String name;
+
+        /**
+         * HTTP 메서드 (비어 있으면 모든 메서드)
+         */
+        private String method;
+
+        /**
+         * Ant 스타일 경로 패턴
+         */
+        @NotBlank(message = "Rule path must not be blank")
+        private String path;
+
+        /**
+         * 요청을 구분하는 키 기준
+         */
+        @NotNull(message = "Rule key must not be null")
+        private KeyType key = KeyType.IP;
+
+        /**
+         * 윈도 동안 허용하는 요청 수
+         */
+        @Positive(message = "Rule limit must be positive")
+        private int limit;
+
+        /**
+         * 윈도 길이
+         */
+        @NotNull(message = "Rule window must not be null")
+        private Duration window = Duration.ofMinutes(1);
+    }
+
+    /**
+     * 요청을 구분하는 키 기준입니다.
+     */
+    public enum KeyType {
+        /**
+         * 클라이언트 IP
+         */
+        IP,
+        /**
+         * 인증된 사용자 ID, 비로그인 요청은 클라이언트 IP
+         */
+        USER_OR_IP
+    }
+}
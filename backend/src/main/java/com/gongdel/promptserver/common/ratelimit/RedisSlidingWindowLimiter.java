@@ -0,0 +1,57 @@
+package com.gongdel.promptserver.common.ratelimit;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.List;
+
+/**
+ * Redis에 저장한 슬라이딩 윈도 카운터로 인스턴스 전체의 요청 수를 제한합니다.
+ * <p>
+ * 고정 윈도 두 개(현재, 직전)의 카운터만 저장하고, 직전 윈도 카운트는 현재 윈도와 겹치는 비율만큼만 반영하여
+ * 슬라이딩 윈도를 근사합니다. 키당 값 두 개만 사용하므로 요청마다 항목을 쌓는 정렬 집합 방식보다 메모리가 적게 듭니다.
+ * 조회와 증가는 Lua 스크립트 한 번으로 원자적으로 수행합니다.
+ * <p>
+ * 키 네이밍 규칙: ratelimit:{rule}:{key}:{windowIndex}
+ */
+@RequiredArgsConstructor
+public class RedisSlidingWindowLimiter {
+
+    private static final String KEY_PREFIX = "ratelimit:";
+
+    /**
+     * 근사 요청 수가 한도 미만이면 현재 윈도 카운터를 올리고 1, 아니면 0을 반환합니다.
+     */
+    private static final RedisScript<Long> ACQUIRE_SCRIPT = new DefaultRedisScript<>("""
+        local current = tonumber(redis.call('GET', KEYS[1]) or '0')
+        local previous = tonumber(redis.call('GET', KEYS[2]) or '0')
+        if previous * tonumber(ARGV[2]) + current >= tonumber(ARGV[1]) then
+            return 0
+        end
+        redis.call('INCR', KEYS[1])
+        redis.call('PEXPIRE', KEYS[1], ARGV[3])
+        return 1
+        """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    /**
+     * 요청 하나를 허용할지 판단합니다.
+     *
+     * @param key         규칙과 요청 키를 합친 식별자
+     * @param limit       윈도 동안 허용하는 요청 수
+     * @param windowMillis 윈도 길이 (ms)
+     * @param nowMillis   현재 시각 (epoch ms)
+     * @return 허용하면 true
+     */
+    public boolean tryAcquire(String key, int limit, long windowMillis, long nowMillis) {
+        long windowIndex = nowMillis / windowMillis;
+        double previousWeight = 1.0 - (double) (nowMillis % windowMillis) / windowMillis;
+        Long allowed = stringRedisTemplate.execute(ACQUIRE_SCRIPT,
+            List.of(KEY_PREFIX + key + ":" + windowIndex, KEY_PREFIX + key + ":" + (windowIndex - 1)),
+            String.valueOf(limit), String.valueOf(previousWeight), String.valueOf(windowMillis * 2));
+        return allowed == null || allowed == 1L;
+    }
+}
@@ -0,0 +1,108 @@
+package com.gongdel.promptserver.common.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.gongdel.promptserver.application.port.out.command.EvictAuthenticatedUserPort;
+import com.gongdel.promptserver.domain.user.UserId;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.Assert;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * JWT 인증 시 조회한 사용자 정보를 짧은 시간 동안 보관하는 크기 제한 Caffeine 캐시입니다.
+ * <p>
+ * 같은 사용자의 연속된 요청마다 사용자 조회 쿼리가 실행되지 않도록 하며,
+ * 사용자 정보가 수정·삭제되거나 로그아웃하면 즉시 제거합니다.
+ * 무효화마다 세대 번호를 올리고, 조회를 시작할 때의 세대가 그대로일 때만 결과를 보관하므로
+ * 무효화 이전에 시작된 조회가 이전 정보를 다시 채우지 않습니다.
+ * 캐시는 인스턴스마다 따로 유지되므로 다른 인스턴스에는 최대 TTL만큼 이전 정보가 남을 수 있습니다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class AuthenticatedUserCache implements EvictAuthenticatedUserPort {
+    /**
+     * 보관할 최대 사용자 수
+     */
+    static final int MAX_SIZE = 10_000;
+
+    private final Duration ttl;
+    private final Cache<UserId, SecurityUserDetails> entries;
+    private final AtomicLong generation = new AtomicLong();
+
+    public AuthenticatedUserCache(@Value("${jwt.principal-cache-ttl-seconds:30}") long ttlSeconds) {
+        Assert.isTrue(ttlSeconds >= 0, "TTL must not be negative");
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+        this.entries = Caffeine.newBuilder()
+            .maximumSize(MAX_SIZE)
+            .expireAfterWrite(ttl)
+            .executor(Runnable::run)
+            .build();
+    }
+
+    /**
+     * 캐시된 사용자 정보를 반환하고, 없거나 만료되었으면 loader로 조회하여 보관합니다.
+     * 조회 도중 무효화가 일어났거나 사용자가 없으면 보관하지 않습니다.
+     *
+     * @param userId 사용자 ID
+     * @param loader 사용자 정보 조회 함수
+     * @return 사용자 정보 (사용자가 없으면 Optional.empty())
+     */
+    public Optional<SecurityUserDetails> get(UserId userId,
+                                             Function<UserId, Optional<SecurityUserDetails>> loader) {
+        Assert.notNull(userId, "UserId must not be null");
+        SecurityUserDetails cached = entries.getIfPresent(userId);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        long observed = generation.get();
+        Optional<SecurityUserDetails> loaded = loader.apply(userId);
+        if (loaded.isPresent() && !ttl.isZero()) {
+            // 무효화와 같은 키에서 직렬화되도록 compute 안에서 세대를 확인합니다.
+            entries.asMap().compute(userId,
+                (id, current) -> generation.get() == observed ? loaded.get() : current);
+        }
+        return loaded;
+    }
+
+    /**
+     * 사용자의 캐시를 즉시 제거하고, 트랜잭션이 진행 중이면 커밋 이후에 한 번 더 제거합니다.
+     * 커밋 전에 다른 요청이 이전 정보를 다시 적재하더라도 남지 않도록 하기 위함입니다.
+     *
+     * @param userId 사용자 ID
+     */
+    @Override
+    public void evictAuthenticatedUser(UserId userId) {
+        if (userId == null) {
+            return;
+        }
+        remove(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    remove(userId);
+                }
+            });
+        }
+        log.debug("Evicted authenticated user cache for userId={}", userId);
+    }
+
+    long size() {
+        entries.cleanUp();
+        return entries.estimatedSize();
+    }
+
+    private void remove(UserId userId) {
+        generation.incrementAndGet();
+        entries.invalidate(userId);
+    }
+}
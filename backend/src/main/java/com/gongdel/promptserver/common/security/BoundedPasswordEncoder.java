@@ -0,0 +1,148 @@
+package com.gongdel.promptserver.common.security;
+
+import com.gongdel.promptserver.domain.exception.AuthBusyException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.util.Assert;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 비밀번호 해시를 전용 스레드 풀에서 수행하는 PasswordEncoder입니다.
+ * <p>
+ * BCrypt 해시는 요청마다 수백 ms의 CPU를 사용하므로, 요청 스레드에서 직접 수행하면 로그인이 몰릴 때
+ * 다른 API까지 CPU를 빼앗깁니다. 해시 작업은 고정 크기 풀에서만 실행하여 동시에 사용하는 코어 수를 제한하고,
+ * 대기열이 가득 차면 작업을 쌓지 않고 {@link AuthBusyException}으로 즉시 거절합니다.
+ * 해시 소요 시간과 대기열 대기 시간은 Micrometer 지표로 기록합니다.
+ */
+@Slf4j
+public class BoundedPasswordEncoder implements PasswordEncoder, DisposableBean {
+
+    static final String HASH_METRIC = "auth.password.hash";
+    static final String QUEUE_WAIT_METRIC = "auth.password.hash.queue.wait";
+    static final String REJECTED_METRIC = "auth.password.hash.rejected";
+    static final String QUEUE_SIZE_METRIC = "auth.password.hash.queue.size";
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final long retryAfterSeconds;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Timer queueWaitTimer;
+    private final Counter rejected;
+
+    /**
+     * @param delegate          실제 해시를 수행할 인코더
+     * @param poolSize          해시 스레드 수
+     * @param queueCapacity     대기열 최대 길이
+     * @param retryAfterSeconds 거절 시 클라이언트에 안내할 재시도 대기 시간(초)
+     * @param meterRegistry     지표 레지스트리
+     */
+    public BoundedPasswordEncoder(PasswordEncoder delegate, int poolSize, int queueCapacity,
+                                  long retryAfterSeconds, MeterRegistry meterRegistry) {
+        Assert.notNull(delegate, "delegate must not be null");
+        Assert.isTrue(poolSize > 0, "poolSize must be positive");
+        Assert.isTrue(queueCapacity > 0, "queueCapacity must be positive");
+        this.delegate = delegate;
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity), new HashThreadFactory(), new ThreadPoolExecutor.AbortPolicy());
+        this.encodeTimer = Timer.builder(HASH_METRIC)
+            .description("Time spent computing password hashes")
+            .tag("operation", "encode")
+            .register(meterRegistry);
+        this.matchesTimer = Timer.builder(HASH_METRIC)
+            .description("Time spent computing password hashes")
+            .tag("operation", "matches")
+            .register(meterRegistry);
+        this.queueWaitTimer = Timer.builder(QUEUE_WAIT_METRIC)
+            .description("Time password hashing tasks wait in the queue")
+            .register(meterRegistry);
+        this.rejected = Counter.builder(REJECTED_METRIC)
+            .description("Password hashing tasks rejected because the queue was full")
+            .register(meterRegistry);
+        Gauge.builder(QUEUE_SIZE_METRIC, executor, e -> e.getQueue().size())
+            .description("Password hashing tasks waiting in the queue")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return execute(encodeTimer, () -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return execute(matchesTimer, () -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * 저장된 해시의 강도가 설정값보다 낮은지 확인합니다. 해시 계산이 없으므로 호출 스레드에서 수행합니다.
+     */
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    /**
+     * 해시 작업을 풀에 제출하고 결과를 기다립니다.
+     *
+     * @throws AuthBusyException 대기열이 가득 찬 경우
+     */
+    private <T> T execute(Timer timer, Supplier<T> task) {
+        long submittedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                queueWaitTimer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+                return timer.record(task);
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            log.warn("Password hashing queue is full, rejecting request (queued={})", executor.getQueue().size());
+            throw new AuthBusyException(retryAfterSeconds);
+        }
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for password hashing", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException("Password hashing failed", cause);
+        }
+    }
+
+    /**
+     * 해시 전용 데몬 스레드를 생성합니다.
+     */
+    private static final class HashThreadFactory implements ThreadFactory {
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "password-hash-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
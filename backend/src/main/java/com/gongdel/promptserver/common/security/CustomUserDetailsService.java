@@ -1,46 +1,59 @@
 package com.gongdel.promptserver.common.security;
 
-import com.gongdel.promptserver.application.port.out.query.*;
-import com.gongdel.promptserver.domain.user.User;
+import com.gongdel.promptserver.application.port.out.command.SaveUserAuthenticationPort;
+import com.gongdel.promptserver.application.port.out.query.LoadUserCredentialsPort;
+import com.gongdel.promptserver.application.port.out.query.UserCredentials;
 import com.gongdel.promptserver.domain.user.Email;
-import com.gongdel.promptserver.domain.user.UserRole;
 import com.gongdel.promptserver.domain.user.UserDomainException;
 import com.gongdel.promptserver.domain.user.UserRoleDomainException;
-import com.gongdel.promptserver.domain.role.Role;
 import com.gongdel.promptserver.domain.userauth.UserAuthentication;
 import com.gongdel.promptserver.domain.userauth.UserAuthenticationDomainException;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.StringUtils;
 
-import java.util.*;
-import java.util.stream.Collectors;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
 
 /**
  * 사용자 정보를 DB에서 조회하여 UserDetails를 반환하는 서비스입니다.
  * <p>
  * username은 email로 간주합니다.
+ * 사용자, 인증 정보, 역할 이름은 한 번의 조인 쿼리로 조회합니다.
+ * 저장된 비밀번호 해시의 강도가 설정값보다 낮으면 로그인 성공 시 새 해시로 교체합니다.
+ * 교체는 항상 별도의 새 트랜잭션에서 수행하여, 저장 실패가 호출 측 트랜잭션을 롤백 전용으로 만들지 않도록 합니다.
  * </p>
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
     private static final String DEFAULT_ROLE = "ROLE_USER";
     private static final String USER_NOT_FOUND_MESSAGE = "User not found for email: %s";
     private static final String AUTH_NOT_FOUND_MESSAGE = "UserAuthentication not found for userId: %d";
+    private static final String ROLE_NOT_FOUND_MESSAGE = "Role not found for roleId: %d";
     private static final String INVALID_EMAIL_MESSAGE = "Invalid email format: %s";
     private static final String NULL_USERNAME_MESSAGE = "Username cannot be null or empty";
-    private static final String ROLE_NOT_FOUND_MESSAGE = "Role not found for roleId: %d";
 
-    private final LoadUserPort loadUserPort;
-    private final LoadUserAuthenticationPort loadUserAuthenticationPort;
-    private final LoadRolePort loadRolePort;
-    private final FindUserRolesPort findUserRolesPort;
+    private final LoadUserCredentialsPort loadUserCredentialsPort;
+    private final SaveUserAuthenticationPort saveUserAuthenticationPort;
+    private final TransactionTemplate rehashTransaction;
+
+    public CustomUserDetailsService(LoadUserCredentialsPort loadUserCredentialsPort,
+                                    SaveUserAuthenticationPort saveUserAuthenticationPort,
+                                    PlatformTransactionManager transactionManager) {
+        this.loadUserCredentialsPort = loadUserCredentialsPort;
+        this.saveUserAuthenticationPort = saveUserAuthenticationPort;
+        this.rehashTransaction = new TransactionTemplate(transactionManager);
+        this.rehashTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
 
     /**
      * 이메일(username)로 사용자 정보를 조회하여 UserDetails를 반환합니다.
@@ -54,17 +67,54 @@ public class CustomUserDetailsService implements UserDetailsService {
         try {
             validateUsername(username);
 
-            User user = findUserByEmail(username);
-            UserAuthentication userAuth = findUserAuthentication(user.getId());
-            List<String> roles = findUserRoles(user.getId());
+            UserCredentials credentials = findUserCredentials(username);
+            if (credentials.getUserAuthentication() == null) {
+                log.error("UserAuthentication not found for userId={}", credentials.getUser().getId());
+                throw new UserAuthenticationDomainException(
+                        String.format(AUTH_NOT_FOUND_MESSAGE, credentials.getUser().getId()));
+            }
 
-            return new SecurityUserDetails(user, userAuth, roles);
+            return new SecurityUserDetails(credentials.getUser(), credentials.getUserAuthentication(),
+                    resolveRoles(credentials));
         } catch (UserDomainException | UserAuthenticationDomainException | UserRoleDomainException e) {
             log.error("Domain exception occurred while loading user: {}", e.getMessage());
             throw new UsernameNotFoundException(e.getMessage(), e);
         }
     }
 
+    /**
+     * 로그인에 성공한 사용자의 비밀번호 해시를 현재 설정의 해시로 교체합니다.
+     * 비밀번호 자체가 바뀐 것은 아니므로 마지막 비밀번호 변경 일시는 유지하며,
+     * 저장은 새 트랜잭션에서 수행하므로 실패해도 호출 측 트랜잭션에 영향을 주지 않고 로그인은 기존 해시로 계속 진행합니다.
+     *
+     * @param user        인증된 사용자
+     * @param newPassword 새 비밀번호 해시
+     * @return 새 해시가 반영된 UserDetails
+     */
+    @Override
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        if (!(user instanceof SecurityUserDetails details)) {
+            return user;
+        }
+        UserAuthentication current = details.getUserAuth();
+        try {
+            UserAuthentication rehashed = rehashTransaction.execute(status ->
+                    saveUserAuthenticationPort.saveUserAuthentication(UserAuthentication.builder()
+                            .id(current.getId())
+                            .userId(current.getUserId())
+                            .passwordHash(newPassword)
+                            .lastPasswordChangeAt(current.getLastPasswordChangeAt())
+                            .createdAt(current.getCreatedAt())
+                            .updatedAt(LocalDateTime.now())
+                            .build()));
+            log.info("Rehashed password with current encoder settings for userId={}", current.getUserId());
+            return new SecurityUserDetails(details.getUser(), rehashed, details.getRoleNames());
+        } catch (Exception e) {
+            log.warn("Failed to rehash password for userId={}", current.getUserId(), e);
+            return user;
+        }
+    }
+
     /**
      * 사용자명의 유효성을 검증합니다.
      *
@@ -86,14 +136,14 @@ public class CustomUserDetailsService implements UserDetailsService {
     }
 
     /**
-     * 이메일로 사용자를 조회합니다.
+     * 이메일로 사용자, 인증 정보, 역할 이름을 조회합니다.
      *
      * @param email 사용자 이메일
-     * @return 조회된 사용자
+     * @return 조회된 인증 정보
      * @throws UserDomainException 사용자가 존재하지 않을 경우
      */
-    private User findUserByEmail(String email) {
-        return loadUserPort.loadUserByEmail(new Email(email))
+    private UserCredentials findUserCredentials(String email) {
+        return loadUserCredentialsPort.loadUserCredentialsByEmail(new Email(email))
                 .orElseThrow(() -> {
                     log.warn("User not found for email={}", email);
                     return new UserDomainException(String.format(USER_NOT_FOUND_MESSAGE, email));
@@ -101,51 +151,24 @@ public class CustomUserDetailsService implements UserDetailsService {
     }
 
     /**
-     * 사용자 ID로 인증 정보를 조회합니다.
+     * 사용자의 권한 목록을 반환합니다. 권한이 없으면 기본 권한을 사용합니다.
      *
-     * @param userId 사용자 ID
-     * @return 조회된 인증 정보
-     * @throws UserAuthenticationDomainException 인증 정보가 존재하지 않을 경우
-     */
-    private UserAuthentication findUserAuthentication(Long userId) {
-        Objects.requireNonNull(userId, "userId cannot be null");
-
-        return loadUserAuthenticationPort.loadUserAuthenticationByUserId(userId)
-                .orElseThrow(() -> {
-                    log.error("UserAuthentication not found for userId={}", userId);
-                    return new UserAuthenticationDomainException(String.format(AUTH_NOT_FOUND_MESSAGE, userId));
-                });
-    }
-
-    /**
-     * 사용자의 권한 목록을 조회합니다.
-     *
-     * @param userId 사용자 ID
+     * @param credentials 조회된 인증 정보
      * @return 권한 목록
-     * @throws UserRoleDomainException 권한 조회 중 오류가 발생한 경우
+     * @throws UserRoleDomainException 사용자에게 매핑된 역할 정의가 존재하지 않을 경우
      */
-    private List<String> findUserRoles(Long userId) {
-        Objects.requireNonNull(userId, "userId cannot be null");
-
-        try {
-            List<UserRole> userRoles = findUserRolesPort.findUserRolesByUserId(userId);
-            if (userRoles.isEmpty()) {
-                log.debug("No roles found for userId={}, using default role", userId);
-                return Collections.singletonList(DEFAULT_ROLE);
-            }
-
-            List<String> roleNames = userRoles.stream()
-                    .map(userRole -> loadRolePort.loadRoleById(userRole.getRoleId())
-                            .map(Role::getName)
-                            .orElseThrow(() -> new UserRoleDomainException(
-                                    String.format(ROLE_NOT_FOUND_MESSAGE, userRole.getRoleId()))))
-                    .collect(Collectors.toList());
-
-            log.debug("Roles for userId={}: {}", userId, roleNames);
-            return roleNames;
-        } catch (Exception e) {
-            log.error("Error while fetching roles for userId={}", userId, e);
-            throw new UserRoleDomainException("Failed to fetch user roles", e);
+    private List<String> resolveRoles(UserCredentials credentials) {
+        if (!credentials.getMissingRoleIds().isEmpty()) {
+            Long roleId = credentials.getMissingRoleIds().get(0);
+            log.error("Role not found for roleId={}, userId={}", roleId, credentials.getUser().getId());
+            throw new UserRoleDomainException(String.format(ROLE_NOT_FOUND_MESSAGE, roleId));
+        }
+        List<String> roleNames = credentials.getRoleNames();
+        if (roleNames.isEmpty()) {
+            log.debug("No roles found for userId={}, using default role", credentials.getUser().getId());
+            return Collections.singletonList(DEFAULT_ROLE);
         }
+        log.debug("Roles for userId={}: {}", credentials.getUser().getId(), roleNames);
+        return roleNames;
     }
 }
@@ -27,7 +27,6 @@ import java.io.IOException;
 @Component
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
-    private final JwtTokenProvider jwtTokenProvider;
     private final JwtAuthenticationProvider jwtAuthenticationProvider;
     private final TokenValidationService tokenValidationService;
 
@@ -39,17 +38,16 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
             // 토큰이 있는 경우에만 인증 처리
             if (StringUtils.hasText(token)) {
-                // 1. 토큰 검증 (형식, 서명, 블랙리스트)
-                if (tokenValidationService.validateToken(token)) {
-                    // 2. 인증 처리
-                    Authentication authentication = jwtAuthenticationProvider.getAuthentication(token);
-                    if (authentication instanceof UsernamePasswordAuthenticationToken) {
-                        ((UsernamePasswordAuthenticationToken) authentication)
-                                .setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                    }
-                    SecurityContextHolder.getContext().setAuthentication(authentication);
-                    log.debug("JWT authentication successful for userId={}", jwtTokenProvider.getUserId(token));
+                // 1. 토큰 검증 (형식, 서명, 블랙리스트) - 토큰은 여기서 한 번만 파싱합니다.
+                ParsedToken parsedToken = tokenValidationService.validateToken(token);
+                // 2. 인증 처리
+                Authentication authentication = jwtAuthenticationProvider.getAuthentication(parsedToken);
+                if (authentication instanceof UsernamePasswordAuthenticationToken) {
+                    ((UsernamePasswordAuthenticationToken) authentication)
+                            .setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                 }
+                SecurityContextHolder.getContext().setAuthentication(authentication);
+                log.debug("JWT authentication successful for userId={}", parsedToken.getUserId());
             }
         } catch (Exception ex) {
             // 인증 실패/예외 발생 시 SecurityContext clear 및 WARN 로그
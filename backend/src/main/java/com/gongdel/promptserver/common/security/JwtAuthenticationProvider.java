@@ -1,23 +1,34 @@
 package com.gongdel.promptserver.common.security;
 
 import com.gongdel.promptserver.application.port.out.query.LoadUserPort;
+import com.gongdel.promptserver.domain.team.Team;
+import com.gongdel.promptserver.domain.team.TeamId;
+import com.gongdel.promptserver.domain.user.Email;
 import com.gongdel.promptserver.domain.user.User;
 import com.gongdel.promptserver.domain.user.UserId;
+import com.gongdel.promptserver.domain.user.UserStatus;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Component;
 import org.springframework.util.Assert;
 
-import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
 
 /**
  * JWT 토큰에서 인증(Authentication) 객체를 생성하는 컴포넌트입니다.
  * <p>
- * JWT 토큰에서 사용자 ID를 추출하고, LoadUserPort로 사용자 정보를 조회하여
+ * 검증된 JWT 토큰의 사용자 ID로 LoadUserPort로 사용자 정보를 조회하여
  * Spring Security의 Authentication 객체를 반환합니다.
+ * 조회한 사용자 정보는 {@link AuthenticatedUserCache}에 짧은 시간 보관하여 요청마다 사용자를 다시 조회하지 않습니다.
+ * 무상태 모드({@code jwt.stateless-principal=true})에서는 액세스 토큰에 서명된 이름, 권한, 소속 팀 클레임으로
+ * 사용자 조회 없이 인증 정보를 만들며, 이 경우 사용자 정보 변경은 토큰이 다시 발급될 때 반영됩니다.
+ * 해당 클레임이 없는 이전 토큰은 조회 방식으로 처리합니다.
  * 인증 성공/실패에 대해 로깅을 공통적으로 처리합니다.
  * </p>
  */
@@ -25,34 +36,70 @@ import java.util.Collections;
 @Component
 @RequiredArgsConstructor
 public class JwtAuthenticationProvider {
-    private final JwtTokenProvider jwtTokenProvider;
     private final LoadUserPort loadUserPort;
+    private final AuthenticatedUserCache authenticatedUserCache;
+
+    @Value("${jwt.stateless-principal:false}")
+    private boolean statelessPrincipal;
 
     /**
-     * JWT 토큰에서 인증(Authentication) 객체를 생성합니다.
+     * 검증된 JWT 토큰에서 인증(Authentication) 객체를 생성합니다.
      *
-     * @param token JWT 토큰
+     * @param parsedToken 검증된 JWT 토큰 정보
      * @return 인증(Authentication) 객체
      * @throws IllegalArgumentException 인증 실패 시
      */
-    public Authentication getAuthentication(String token) {
-        Assert.hasText(token, "JWT token must not be empty");
+    public Authentication getAuthentication(ParsedToken parsedToken) {
+        Assert.notNull(parsedToken, "Parsed token must not be null");
         try {
-            UserId userId = jwtTokenProvider.getUserId(token);
-            User user = loadUserPort.loadUserByUserId(userId)
+            UserId userId = parsedToken.getUserId();
+            Optional<SecurityUserDetails> fromClaims = statelessPrincipal
+                ? principalFromClaims(parsedToken)
+                : Optional.empty();
+            SecurityUserDetails userDetails = fromClaims.isPresent()
+                ? fromClaims.get()
+                : authenticatedUserCache.get(userId, this::loadUserDetails)
                     .orElseThrow(() -> new IllegalArgumentException("User not found"));
 
-            // 기본 권한 설정
-            var authorities = Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER"));
-            log.debug("Authentication created for userId={}", userId);
-
-            return new UsernamePasswordAuthenticationToken(
-                    new SecurityUserDetails(user, null, Collections.singletonList("ROLE_USER")),
-                    null,
-                    authorities);
+            log.debug("Authentication created for userId={}, stateless={}", userId, fromClaims.isPresent());
+            return new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
         } catch (Exception ex) {
             log.warn("Failed to create authentication from JWT: {}", ex.getMessage());
             throw new IllegalArgumentException("Invalid JWT authentication: " + ex.getMessage(), ex);
         }
     }
+
+    private Optional<SecurityUserDetails> loadUserDetails(UserId userId) {
+        Optional<User> user = loadUserPort.loadUserByUserId(userId);
+        return user.map(u -> new SecurityUserDetails(u, null, JwtTokenProvider.DEFAULT_ROLES));
+    }
+
+    /**
+     * 액세스 토큰의 서명된 사용자 정보 클레임으로 인증 정보를 만듭니다.
+     *
+     * @return 인증 정보 (사용자 정보 클레임이 없는 토큰이면 Optional.empty())
+     */
+    private Optional<SecurityUserDetails> principalFromClaims(ParsedToken parsedToken) {
+        Map<String, Object> claims = parsedToken.getClaims();
+        if (!(claims.get(JwtTokenProvider.USER_PK_CLAIM) instanceof Number userPk)
+            || !(claims.get(JwtTokenProvider.ROLES_CLAIM) instanceof List<?> roles)) {
+            return Optional.empty();
+        }
+        Team team = null;
+        if (claims.get(JwtTokenProvider.TEAM_ID_CLAIM) instanceof Number teamId) {
+            team = new Team(teamId.longValue(),
+                new TeamId(UUID.fromString((String) claims.get(JwtTokenProvider.TEAM_UUID_CLAIM))),
+                (String) claims.get(JwtTokenProvider.TEAM_NAME_CLAIM), null, null);
+        }
+        User user = User.builder()
+            .id(userPk.longValue())
+            .uuid(parsedToken.getUserId())
+            .email(new Email((String) claims.get("email")))
+            .name((String) claims.get("name"))
+            .team(team)
+            .status(UserStatus.valueOf((String) claims.get(JwtTokenProvider.STATUS_CLAIM)))
+            .build();
+        List<String> roleNames = roles.stream().map(String::valueOf).toList();
+        return Optional.of(new SecurityUserDetails(user, null, roleNames));
+    }
 }
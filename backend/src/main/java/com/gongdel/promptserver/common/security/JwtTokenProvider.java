@@ -10,23 +10,49 @@ import org.springframework.stereotype.Component;
 import org.springframework.util.Assert;
 
 import javax.crypto.SecretKey;
+import java.time.Instant;
 import java.time.LocalDateTime;
-import java.time.ZoneId;
 import java.util.Date;
+import java.util.List;
 import java.util.UUID;
 
 /**
  * JWT 토큰 생성 및 검증을 담당하는 유틸리티 클래스입니다.
  * <p>
  * 액세스 토큰/리프레시 토큰 발급, 파싱, 만료 체크, 클레임 추출 기능을 제공합니다.
+ * 서명 검증을 마친 토큰은 만료 시각까지 {@link VerifiedTokenCache}에 보관하여, 같은 토큰이 다시 들어오면
+ * 파싱과 서명 검증을 생략합니다.
  * </p>
  */
 @Slf4j
 @Component
 public class JwtTokenProvider {
+    /**
+     * 검증 결과를 보관할 최대 토큰 수
+     */
+    static final int VERIFIED_TOKEN_CACHE_SIZE = 10_000;
+    /**
+     * 리프레시 토큰 패밀리 ID 클레임 이름
+     */
+    public static final String FAMILY_ID_CLAIM = "fam";
+    /**
+     * 액세스 토큰에 담는 사용자 정보 클레임 이름 (무상태 인증 모드에서 사용자 조회 없이 인증 정보를 만들 때 사용)
+     */
+    static final String USER_PK_CLAIM = "uid";
+    static final String STATUS_CLAIM = "status";
+    static final String ROLES_CLAIM = "roles";
+    static final String TEAM_ID_CLAIM = "tid";
+    static final String TEAM_UUID_CLAIM = "tuuid";
+    static final String TEAM_NAME_CLAIM = "tname";
+    /**
+     * 액세스 토큰에 담는 기본 권한
+     */
+    static final List<String> DEFAULT_ROLES = List.of("ROLE_USER");
+
     private final SecretKey key;
     private final long accessTokenValidityInMs;
     private final long refreshTokenValidityInMs;
+    private final VerifiedTokenCache verifiedTokenCache = new VerifiedTokenCache(VERIFIED_TOKEN_CACHE_SIZE);
 
     /**
      * JwtTokenProvider 생성자
@@ -53,6 +79,7 @@ public class JwtTokenProvider {
 
     /**
      * 사용자 정보를 기반으로 액세스 토큰을 생성합니다.
+     * 이름, 상태, 권한, 소속 팀을 서명된 클레임으로 함께 담습니다.
      *
      * @param user 사용자 객체
      * @return JWT 액세스 토큰
@@ -67,10 +94,19 @@ public class JwtTokenProvider {
         Date now = new Date();
         Date expiry = new Date(now.getTime() + accessTokenValidityInMs);
 
-        String token = Jwts.builder()
+        JwtBuilder builder = Jwts.builder()
             .setSubject(user.getUuid().getValue().toString())
             .claim("email", user.getEmail().getValue())
             .claim("name", user.getName())
+            .claim(USER_PK_CLAIM, user.getId())
+            .claim(STATUS_CLAIM, user.getStatus().name())
+            .claim(ROLES_CLAIM, DEFAULT_ROLES);
+        if (user.getTeam() != null) {
+            builder.claim(TEAM_ID_CLAIM, user.getTeam().getId())
+                .claim(TEAM_UUID_CLAIM, user.getTeam().getUuid().getValue().toString())
+                .claim(TEAM_NAME_CLAIM, user.getTeam().getName());
+        }
+        String token = builder
                 .setId(UUID.randomUUID().toString())
                 .setIssuedAt(now)
                 .setExpiration(expiry)
@@ -84,27 +120,31 @@ public class JwtTokenProvider {
 
     /**
      * 사용자 정보를 기반으로 리프레시 토큰을 생성합니다.
+     * 토큰에는 교체(rotation) 시에도 유지되는 패밀리 ID가 포함됩니다.
      *
-     * @param user 사용자 객체
+     * @param user     사용자 객체
+     * @param familyId 리프레시 토큰 패밀리 ID
      * @return JWT 리프레시 토큰
-     * @throws IllegalArgumentException user가 null인 경우
+     * @throws IllegalArgumentException user가 null이거나 familyId가 비어있는 경우
      */
-    public String generateRefreshToken(com.gongdel.promptserver.domain.user.User user) {
+    public String generateRefreshToken(com.gongdel.promptserver.domain.user.User user, String familyId) {
         Assert.notNull(user, "User must not be null");
         Assert.notNull(user.getUuid(), "UserId must not be null");
+        Assert.hasText(familyId, "FamilyId must not be empty");
 
         Date now = new Date();
         Date expiry = new Date(now.getTime() + refreshTokenValidityInMs);
 
         String token = Jwts.builder()
             .setSubject(user.getUuid().getValue().toString())
+            .claim(FAMILY_ID_CLAIM, familyId)
                 .setId(UUID.randomUUID().toString())
                 .setIssuedAt(now)
                 .setExpiration(expiry)
                 .signWith(key, SignatureAlgorithm.HS256)
                 .compact();
 
-        log.debug("Generated refresh token for userId={}", user.getUuid());
+        log.debug("Generated refresh token for userId={}, familyId={}", user.getUuid(), familyId);
         return token;
     }
 
@@ -116,34 +156,28 @@ public class JwtTokenProvider {
      * @throws InvalidJwtException 토큰이 유효하지 않은 경우
      */
     public boolean validateToken(String token) {
-        Assert.hasText(token, "Token must not be empty");
-        try {
-            Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token);
+        parseToken(token);
+        log.debug("JWT token is valid");
+        return true;
+    }
 
-            log.debug("JWT token is valid");
-            return true;
-        } catch (ExpiredJwtException e) {
-            log.warn("JWT token expired: {}", e.getMessage());
-            throw new InvalidJwtException(JwtErrorType.EXPIRED_JWT.getMessage(), e);
-        } catch (UnsupportedJwtException e) {
-            log.warn("Unsupported JWT token: {}", e.getMessage());
-            throw new InvalidJwtException(JwtErrorType.UNSUPPORTED_JWT.getMessage(), e);
-        } catch (MalformedJwtException e) {
-            log.warn("Malformed JWT token: {}", e.getMessage());
-            throw new InvalidJwtException(JwtErrorType.MALFORMED_JWT.getMessage(), e);
-        } catch (SignatureException e) {
-            log.warn("Invalid JWT signature: {}", e.getMessage());
-            throw new InvalidJwtException(JwtErrorType.JWT_SIGNATURE_ERROR.getMessage(), e);
-        } catch (IllegalArgumentException e) {
-            log.warn("JWT token is empty or null: {}", e.getMessage());
-            throw new InvalidJwtException(JwtErrorType.INVALID_JWT.getMessage(), e);
-        } catch (Exception e) {
-            log.error("Unexpected error during JWT validation: {}", e.getMessage(), e);
-            throw new InvalidJwtException(JwtErrorType.INVALID_JWT.getMessage(), e);
+    /**
+     * 토큰을 검증하고 클레임을 {@link ParsedToken}으로 반환합니다.
+     * 최근에 검증된 토큰이면 만료 시각까지 캐시된 결과를 재사용합니다.
+     *
+     * @param token JWT 토큰
+     * @return 검증된 토큰 정보
+     * @throws InvalidJwtException 토큰이 유효하지 않거나 파싱에 실패한 경우
+     */
+    public ParsedToken parseToken(String token) {
+        Assert.hasText(token, "Token must not be empty");
+        ParsedToken cached = verifiedTokenCache.get(token, Instant.now());
+        if (cached != null) {
+            return cached;
         }
+        ParsedToken parsedToken = ParsedToken.from(getClaims(token));
+        verifiedTokenCache.put(token, parsedToken);
+        return parsedToken;
     }
 
     /**
@@ -194,20 +228,9 @@ public class JwtTokenProvider {
      * @throws IllegalArgumentException token이 비어있는 경우
      */
     public UserId getUserId(String token) {
-        Assert.hasText(token, "Token must not be empty");
-        try {
-            String uuidStr = getClaims(token).getSubject();
-            UUID uuid = UUID.fromString(uuidStr);
-            UserId userId = new UserId(uuid);
-            log.debug("Extracted userId from token: {}", userId);
-            return userId;
-        } catch (IllegalArgumentException e) {
-            log.error("Invalid UUID format in token: {}", e.getMessage());
-            throw new InvalidJwtException(JwtErrorType.INVALID_JWT.getMessage(), e);
-        } catch (Exception e) {
-            log.error("Failed to extract userId from token: {}", e.getMessage(), e);
-            throw new InvalidJwtException(JwtErrorType.INVALID_JWT.getMessage(), e);
-        }
+        UserId userId = parseToken(token).getUserId();
+        log.debug("Extracted userId from token: {}", userId);
+        return userId;
     }
 
     /**
@@ -218,15 +241,9 @@ public class JwtTokenProvider {
      * @throws InvalidJwtException 토큰이 유효하지 않거나 파싱에 실패한 경우
      */
     public Date getExpiration(String token) {
-        Assert.hasText(token, "Token must not be empty");
-        try {
-            Date expiration = getClaims(token).getExpiration();
-            log.debug("Extracted expiration from token: {}", expiration);
-            return expiration;
-        } catch (Exception e) {
-            log.error("Failed to extract expiration from token: {}", e.getMessage(), e);
-            throw new InvalidJwtException(JwtErrorType.INVALID_JWT.getMessage(), e);
-        }
+        Date expiration = Date.from(parseToken(token).getExpiresAt());
+        log.debug("Extracted expiration from token: {}", expiration);
+        return expiration;
     }
 
     /**
@@ -237,20 +254,9 @@ public class JwtTokenProvider {
      * @throws InvalidJwtException 토큰이 유효하지 않거나 파싱에 실패한 경우
      */
     public String getTokenId(String token) {
-        Assert.hasText(token, "Token must not be empty");
-        try {
-            String tokenId = Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody()
-                    .getId();
-            log.debug("Extracted token ID: {}", tokenId);
-            return tokenId;
-        } catch (Exception e) {
-            log.error("Failed to extract token ID: {}", e.getMessage(), e);
-            throw new InvalidJwtException(JwtErrorType.INVALID_JWT.getMessage(), e);
-        }
+        String tokenId = parseToken(token).getTokenId();
+        log.debug("Extracted token ID: {}", tokenId);
+        return tokenId;
     }
 
     /**
@@ -261,22 +267,8 @@ public class JwtTokenProvider {
      * @throws InvalidJwtException 토큰이 유효하지 않거나 파싱에 실패한 경우
      */
     public LocalDateTime getExpirationDate(String token) {
-        Assert.hasText(token, "Token must not be empty");
-        try {
-            Date expiration = Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody()
-                    .getExpiration();
-            LocalDateTime expirationDate = expiration.toInstant()
-                    .atZone(ZoneId.systemDefault())
-                    .toLocalDateTime();
-            log.debug("Extracted expiration date: {}", expirationDate);
-            return expirationDate;
-        } catch (Exception e) {
-            log.error("Failed to extract expiration date: {}", e.getMessage(), e);
-            throw new InvalidJwtException(JwtErrorType.INVALID_JWT.getMessage(), e);
-        }
+        LocalDateTime expirationDate = parseToken(token).getExpirationDate();
+        log.debug("Extracted expiration date: {}", expirationDate);
+        return expirationDate;
     }
 }
@@ -0,0 +1,103 @@
+package com.gongdel.promptserver.common.security;
+
+import com.gongdel.promptserver.domain.exception.InvalidJwtException;
+import com.gongdel.promptserver.domain.exception.JwtErrorType;
+import com.gongdel.promptserver.domain.user.UserId;
+import io.jsonwebtoken.Claims;
+import lombok.Getter;
+import lombok.ToString;
+import org.springframework.util.Assert;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 서명 검증을 마친 JWT 토큰의 클레임을 담는 불변 객체입니다.
+ * <p>
+ * {@link JwtTokenProvider#parseToken(String)}에서 한 번 생성되어 검증과 인증 단계에 그대로 전달되므로,
+ * 요청마다 같은 토큰을 반복해서 파싱하지 않습니다.
+ * </p>
+ */
+@Getter
+@ToString(of = {"tokenId", "userId", "expiresAt"})
+public final class ParsedToken {
+    /**
+     * 토큰 ID (jti)
+     */
+    private final String tokenId;
+    /**
+     * 토큰 주체(subject)인 사용자 ID
+     */
+    private final UserId userId;
+    /**
+     * 토큰 만료 시각
+     */
+    private final Instant expiresAt;
+    /**
+     * 읽기 전용 클레임
+     */
+    private final Map<String, Object> claims;
+
+    private ParsedToken(String tokenId, UserId userId, Instant expiresAt, Map<String, Object> claims) {
+        this.tokenId = tokenId;
+        this.userId = userId;
+        this.expiresAt = expiresAt;
+        this.claims = claims;
+    }
+
+    /**
+     * 검증된 클레임으로부터 ParsedToken을 생성합니다.
+     *
+     * @param claims 서명 검증을 마친 클레임
+     * @return ParsedToken
+     * @throws InvalidJwtException subject가 UUID 형식이 아니거나 만료 시각이 없는 경우
+     */
+    static ParsedToken from(Claims claims) {
+        Assert.notNull(claims, "Claims must not be null");
+        if (claims.getExpiration() == null) {
+            throw new InvalidJwtException(JwtErrorType.INVALID_JWT.getMessage());
+        }
+        UserId userId;
+        try {
+            userId = new UserId(UUID.fromString(claims.getSubject()));
+        } catch (RuntimeException e) {
+            throw new InvalidJwtException(JwtErrorType.INVALID_JWT.getMessage(), e);
+        }
+        return new ParsedToken(claims.getId(), userId, claims.getExpiration().toInstant(),
+            Collections.unmodifiableMap(new LinkedHashMap<>(claims)));
+    }
+
+    /**
+     * 주어진 시각 기준으로 토큰이 만료되었는지 확인합니다.
+     *
+     * @param now 기준 시각
+     * @return 만료되었으면 true
+     */
+    public boolean isExpired(Instant now) {
+        return !expiresAt.isAfter(now);
+    }
+
+    /**
+     * 토큰 만료 시각을 시스템 기본 시간대의 LocalDateTime으로 반환합니다.
+     *
+     * @return 만료 시각
+     */
+    public LocalDateTime getExpirationDate() {
+        return LocalDateTime.ofInstant(expiresAt, ZoneId.systemDefault());
+    }
+
+    /**
+     * 리프레시 토큰의 패밀리 ID를 반환합니다. 액세스 토큰에는 패밀리 ID가 없습니다.
+     *
+     * @return 패밀리 ID, 없으면 null
+     */
+    public String getFamilyId() {
+        Object familyId = claims.get(JwtTokenProvider.FAMILY_ID_CLAIM);
+        return familyId instanceof String value ? value : null;
+    }
+}
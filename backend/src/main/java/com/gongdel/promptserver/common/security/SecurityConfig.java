@@ -1,5 +1,7 @@
 package com.gongdel.promptserver.common.security;
 
+import com.gongdel.promptserver.common.ratelimit.RateLimitFilter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -14,6 +16,7 @@ import org.springframework.security.config.annotation.method.configuration.Enabl
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -59,18 +62,32 @@ public class SecurityConfig {
     @Value("${spring.profiles.active:prod}")
     private String activeProfile;
 
+    @Value("${security.password.bcrypt-strength:12}")
+    private int bcryptStrength;
+
+    @Value("${security.password.hash-pool-size:0}")
+    private int hashPoolSize;
+
+    @Value("${security.password.hash-queue-capacity:64}")
+    private int hashQueueCapacity;
+
+    @Value("${security.password.retry-after-seconds:1}")
+    private long retryAfterSeconds;
+
     /**
      * 보안 필터 체인을 구성합니다.
      *
      * @param http                    HttpSecurity 객체
      * @param jwtAuthenticationFilter JWT 인증 필터
+     * @param rateLimitFilter         요청 수 제한 필터 (인증 사용자 기준 제한을 위해 JWT 인증 필터 뒤에 실행)
      * @return SecurityFilterChain
      * @throws Exception 보안 설정 중 발생할 수 있는 예외
      */
     @Bean
     public SecurityFilterChain securityFilterChain(
             HttpSecurity http,
-            JwtAuthenticationFilter jwtAuthenticationFilter) throws Exception {
+            JwtAuthenticationFilter jwtAuthenticationFilter,
+            RateLimitFilter rateLimitFilter) throws Exception {
         log.info("Configuring security filter chain for profile: {}", activeProfile);
 
         http
@@ -94,7 +111,8 @@ public class SecurityConfig {
                 .exceptionHandling(ex -> ex
                         .authenticationEntryPoint(customAuthenticationEntryPoint)
                         .accessDeniedHandler(customAccessDeniedHandler))
-                .addFilterAfter(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+                .addFilterAfter(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+                .addFilterAfter(rateLimitFilter, JwtAuthenticationFilter.class);
 
         log.debug("Security filter chain configuration completed");
         return http.build();
@@ -118,6 +136,10 @@ public class SecurityConfig {
             provider.setUserDetailsService(userDetailsService);
             provider.setPasswordEncoder(passwordEncoder);
             provider.setHideUserNotFoundExceptions(true); // 보안을 위해 사용자 존재 여부 숨김
+            if (userDetailsService instanceof UserDetailsPasswordService userDetailsPasswordService) {
+                // 저장된 해시의 강도가 설정값보다 낮으면 로그인 성공 시 다시 해시하여 저장
+                provider.setUserDetailsPasswordService(userDetailsPasswordService);
+            }
 
             return new ProviderManager(provider);
         } catch (Exception e) {
@@ -128,14 +150,19 @@ public class SecurityConfig {
 
     /**
      * 비밀번호 암호화를 위한 PasswordEncoder를 생성합니다.
-     * BCrypt 알고리즘을 사용하여 비밀번호를 안전하게 해시화합니다.
+     * BCrypt 알고리즘을 사용하여 비밀번호를 안전하게 해시화하며,
+     * 해시 작업은 요청 스레드가 아닌 CPU 코어 수 크기의 전용 풀에서 수행합니다.
      *
+     * @param meterRegistry 해시 지표를 등록할 레지스트리
      * @return PasswordEncoder
      */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        log.info("Creating BCrypt password encoder with strength 12");
-        return new BCryptPasswordEncoder(12); // 강도 12로 설정
+    public PasswordEncoder passwordEncoder(MeterRegistry meterRegistry) {
+        int poolSize = hashPoolSize > 0 ? hashPoolSize : Runtime.getRuntime().availableProcessors();
+        log.info("Creating BCrypt password encoder with strength {}, hash pool size {}, queue capacity {}",
+                bcryptStrength, poolSize, hashQueueCapacity);
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(bcryptStrength), poolSize,
+                hashQueueCapacity, retryAfterSeconds, meterRegistry);
     }
 
     /**
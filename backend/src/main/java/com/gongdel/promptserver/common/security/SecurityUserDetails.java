@@ -3,12 +3,9 @@ package com.gongdel.promptserver.common.security;
 import com.gongdel.promptserver.domain.user.User;
 import com.gongdel.promptserver.domain.userauth.UserAuthentication;
 import lombok.Getter;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 
 import java.util.Collection;
 import java.util.List;
@@ -20,7 +17,6 @@ import java.util.stream.Collectors;
  */
 @Getter
 public class SecurityUserDetails implements UserDetails {
-    private static final Logger log = LoggerFactory.getLogger(SecurityUserDetails.class);
     private final User user;
     private final UserAuthentication userAuth;
     private final List<String> roleNames;
@@ -40,8 +36,6 @@ public class SecurityUserDetails implements UserDetails {
 
     @Override
     public String getPassword() {
-        log.info(userAuth.getPasswordHash());
-        log.info(String.valueOf(new BCryptPasswordEncoder(12).matches("nkia@019",userAuth.getPasswordHash())));
         return userAuth.getPasswordHash();
     }
 
@@ -0,0 +1,91 @@
+package com.gongdel.promptserver.common.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * 최근에 서명 검증을 마친 토큰을 만료 시각까지 보관하는 크기 제한 캐시입니다.
+ * <p>
+ * Caffeine 캐시를 사용하여 요청 경로에서 전역 잠금 없이 조회하며, 항목은 토큰의 만료 시각에 맞춰 제거됩니다.
+ * 키는 토큰 원문이 아닌 SHA-256 해시이므로, 요청이 끝난 뒤에도 유효한 Bearer 토큰 원문이 힙에 남지 않습니다.
+ * 블랙리스트 확인은 캐시와 관계없이 매 요청 수행되어야 합니다.
+ * </p>
+ */
+final class VerifiedTokenCache {
+    private final Cache<String, ParsedToken> entries;
+
+    VerifiedTokenCache(int maxSize) {
+        this.entries = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfter(new Expiry<String, ParsedToken>() {
+                @Override
+                public long expireAfterCreate(String key, ParsedToken parsedToken, long currentTime) {
+                    return remainingNanos(parsedToken);
+                }
+
+                @Override
+                public long expireAfterUpdate(String key, ParsedToken parsedToken, long currentTime,
+                                              long currentDuration) {
+                    return remainingNanos(parsedToken);
+                }
+
+                @Override
+                public long expireAfterRead(String key, ParsedToken parsedToken, long currentTime,
+                                            long currentDuration) {
+                    return currentDuration;
+                }
+            })
+            .executor(Runnable::run)
+            .build();
+    }
+
+    /**
+     * 만료되지 않은 검증 결과를 조회합니다. 만료된 항목은 제거합니다.
+     *
+     * @param token JWT 토큰
+     * @param now   기준 시각
+     * @return 검증 결과 (없거나 만료되었으면 null)
+     */
+    ParsedToken get(String token, Instant now) {
+        String key = keyOf(token);
+        ParsedToken parsedToken = entries.getIfPresent(key);
+        if (parsedToken != null && parsedToken.isExpired(now)) {
+            entries.invalidate(key);
+            return null;
+        }
+        return parsedToken;
+    }
+
+    void put(String token, ParsedToken parsedToken) {
+        entries.put(keyOf(token), parsedToken);
+    }
+
+    long size() {
+        entries.cleanUp();
+        return entries.estimatedSize();
+    }
+
+    /**
+     * 토큰의 SHA-256 해시를 캐시 키로 사용합니다.
+     */
+    static String keyOf(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 algorithm is not available", e);
+        }
+    }
+
+    private static long remainingNanos(ParsedToken parsedToken) {
+        return Math.max(0L, Duration.between(Instant.now(), parsedToken.getExpiresAt()).toNanos());
+    }
+}
@@ -0,0 +1,27 @@
+package com.gongdel.promptserver.common.web;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 클라이언트 IP 판단 설정을 담당하는 설정 클래스입니다.
+ */
+@Slf4j
+@Configuration
+@EnableConfigurationProperties(ClientIpProperties.class)
+public class ClientIpConfig {
+
+    /**
+     * 신뢰 프록시 설정으로 클라이언트 IP를 판단하는 컴포넌트를 생성합니다.
+     *
+     * @param properties 클라이언트 IP 설정
+     * @return ClientIpResolver
+     */
+    @Bean
+    public ClientIpResolver clientIpResolver(ClientIpProperties properties) {
+        log.info("Configuring client IP resolver: trustedProxies={}", properties.getTrustedProxies().size());
+        return new ClientIpResolver(properties);
+    }
+}
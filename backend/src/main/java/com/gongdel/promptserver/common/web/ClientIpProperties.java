@@ -0,0 +1,21 @@
+package com.gongdel.promptserver.common.web;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 클라이언트 IP 판단 설정 프로퍼티를 담는 클래스입니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "client-ip")
+public class ClientIpProperties {
+    /**
+     * X-Forwarded-For를 신뢰할 프록시 주소 또는 CIDR 대역 (비어 있으면 헤더를 무시하고 연결 주소만 사용)
+     */
+    private List<String> trustedProxies = new ArrayList<>();
+}
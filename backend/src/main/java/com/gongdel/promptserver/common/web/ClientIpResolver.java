@@ -0,0 +1,79 @@
+package com.gongdel.promptserver.common.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
+import org.springframework.util.StringUtils;
+
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * 요청의 클라이언트 IP를 판단하는 컴포넌트입니다.
+ * <p>
+ * 연결 주소({@code getRemoteAddr})를 기본으로 사용합니다. 연결 주소가 설정된 신뢰 프록시일 때만
+ * X-Forwarded-For를 오른쪽부터 읽어 신뢰 프록시가 아닌 첫 주소를 사용하므로, 클라이언트가 헤더를 꾸며 IP를 바꿀 수 없습니다.
+ * 요청 수 제한 키와 로그인 이력처럼 클라이언트가 바꿀 수 없어야 하는 IP에 사용합니다.
+ */
+public class ClientIpResolver {
+
+    private static final String FORWARDED_FOR_HEADER = "X-Forwarded-For";
+    private static final Pattern IPV4_LITERAL = Pattern.compile("\\d{1,3}(\\.\\d{1,3}){3}");
+    private static final Pattern IPV6_LITERAL = Pattern.compile("[0-9a-fA-F:.]*:[0-9a-fA-F:.]*");
+
+    private final List<IpAddressMatcher> trustedProxies;
+
+    public ClientIpResolver(ClientIpProperties properties) {
+        this.trustedProxies = properties.getTrustedProxies().stream()
+            .map(IpAddressMatcher::new)
+            .toList();
+    }
+
+    /**
+     * 연결 주소가 신뢰 프록시이면 X-Forwarded-For를 오른쪽부터 읽어 신뢰 프록시가 아닌 첫 주소를 반환합니다.
+     * 프록시가 덧붙인 오른쪽 주소만 믿을 수 있으므로, 그보다 왼쪽의 클라이언트가 보낸 값은 사용하지 않습니다.
+     *
+     * @param request HTTP 요청
+     * @return 클라이언트 IP
+     */
+    public String resolve(HttpServletRequest request) {
+        String remoteAddr = request.getRemoteAddr();
+        if (!isTrustedProxy(remoteAddr)) {
+            return remoteAddr;
+        }
+        String forwardedFor = request.getHeader(FORWARDED_FOR_HEADER);
+        if (!StringUtils.hasText(forwardedFor)) {
+            return remoteAddr;
+        }
+        String[] hops = forwardedFor.split(",");
+        for (int i = hops.length - 1; i >= 0; i--) {
+            String hop = hops[i].trim();
+            if (!isIpLiteral(hop)) {
+                return remoteAddr;
+            }
+            if (!isTrustedProxy(hop)) {
+                return hop;
+            }
+        }
+        return remoteAddr;
+    }
+
+    private boolean isTrustedProxy(String address) {
+        if (trustedProxies.isEmpty() || !isIpLiteral(address)) {
+            return false;
+        }
+        for (IpAddressMatcher matcher : trustedProxies) {
+            if (matcher.matches(address)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * IP 리터럴인지 확인합니다. 헤더 값이 호스트 이름이면 주소 비교 중 DNS 조회가 일어나므로 미리 걸러냅니다.
+     */
+    private boolean isIpLiteral(String address) {
+        return address != null
+            && (IPV4_LITERAL.matcher(address).matches() || IPV6_LITERAL.matcher(address).matches());
+    }
+}
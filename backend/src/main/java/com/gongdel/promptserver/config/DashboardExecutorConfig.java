@@ -0,0 +1,63 @@
+package com.gongdel.promptserver.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 대시보드 요약 위젯을 병렬로 조회할 스레드 풀 설정 클래스입니다.
+ * <p>
+ * 풀 크기와 대기열을 제한하여 대시보드 요청이 몰려도 DB 커넥션과 스레드를 무제한으로 점유하지 않도록 합니다.
+ * 풀 크기는 DB 커넥션 풀보다 충분히 작게 두어, 대시보드 위젯이 커넥션을 모두 차지해 다른 API가 커넥션을 기다리지 않도록 합니다.
+ * 대기열까지 가득 차면 위젯 작업을 거절하고, 해당 위젯은 응답에서 조회 실패로 표시됩니다.
+ * <p>
+ * 각 위젯 작업은 제한 시간이 있는 읽기 전용 트랜잭션 안에서 실행됩니다. 위젯 유스케이스의 트랜잭션이 여기에 참여하므로
+ * JPA와 JdbcTemplate 쿼리에 남은 시간만큼의 JDBC 쿼리 타임아웃이 적용되고, 응답에서 빠진 느린 쿼리가 DB에서 계속 실행되지 않습니다.
+ */
+@Slf4j
+@Configuration
+public class DashboardExecutorConfig {
+
+    @Value("${dashboard.summary.pool-size:4}")
+    private int poolSize;
+
+    @Value("${dashboard.summary.queue-capacity:100}")
+    private int queueCapacity;
+
+    @Value("${dashboard.summary.query-timeout-seconds:2}")
+    private int queryTimeoutSeconds;
+
+    /**
+     * 대시보드 위젯 조회 전용 Executor를 생성합니다.
+     *
+     * @param transactionManager 위젯 작업을 감쌀 트랜잭션 매니저
+     * @return ThreadPoolTaskExecutor
+     */
+    @Bean(name = "dashboardExecutor")
+    public ThreadPoolTaskExecutor dashboardExecutor(PlatformTransactionManager transactionManager) {
+        TransactionTemplate widgetTransaction = new TransactionTemplate(transactionManager);
+        widgetTransaction.setReadOnly(true);
+        widgetTransaction.setTimeout(queryTimeoutSeconds);
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("dashboard-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setTaskDecorator(task -> () -> widgetTransaction.executeWithoutResult(status -> task.run()));
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        executor.initialize();
+
+        log.info("Dashboard executor configured with pool size: {}, queue capacity: {}, query timeout: {}s",
+            poolSize, queueCapacity, queryTimeoutSeconds);
+        return executor;
+    }
+}
@@ -10,6 +10,7 @@ import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
@@ -20,6 +21,7 @@ import org.springframework.data.redis.serializer.StringRedisSerializer;
  * - 기본 RedisTemplate: 일반적인 객체 캐싱 및 데이터 저장
  * - StringRedisTemplate: 문자열 기반 캐싱 및 카운터 작업
  * - ViewCount RedisTemplate: 고성능 카운터 및 간단한 키-값 작업
+ * - RedisMessageListenerContainer: 인스턴스 간 Pub/Sub 메시지 수신
  * <p>
  * 각 템플릿은 용도에 맞는 직렬화 전략을 사용하여 성능을 최적화합니다.
  */
@@ -140,4 +142,21 @@ public class RedisConfig {
         log.debug("High-performance String RedisTemplate configured");
         return template;
     }
+
+    /**
+     * Redis Pub/Sub 메시지 리스너 컨테이너를 생성합니다.
+     * <p>
+     * 인스턴스 로컬 캐시를 다른 인스턴스의 변경과 맞추는 데 사용되며, 리스너는 각 어댑터가 등록합니다.
+     *
+     * @param connectionFactory Redis 연결 팩토리
+     * @return RedisMessageListenerContainer
+     */
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+
+        log.debug("RedisMessageListenerContainer configured for pub/sub");
+        return container;
+    }
 }
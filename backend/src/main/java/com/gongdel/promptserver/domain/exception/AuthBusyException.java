@@ -0,0 +1,17 @@
+package com.gongdel.promptserver.domain.exception;
+
+import lombok.Getter;
+
+/**
+ * 비밀번호 해시 작업이 한도를 넘어 인증 요청을 처리할 수 없을 때 발생하는 예외입니다.
+ * 클라이언트는 {@link #getRetryAfterSeconds()} 이후 다시 시도해야 합니다.
+ */
+@Getter
+public class AuthBusyException extends AuthDomainException {
+    private final long retryAfterSeconds;
+
+    public AuthBusyException(long retryAfterSeconds) {
+        super(AuthErrorType.AUTH_BUSY, "비밀번호 해시 대기열이 가득 찼습니다");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
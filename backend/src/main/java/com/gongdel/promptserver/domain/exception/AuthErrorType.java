@@ -14,7 +14,9 @@ public enum AuthErrorType implements ErrorCode {
     TOKEN_ALREADY_BLACKLISTED(2007, "이미 블랙리스트에 등록된 토큰입니다"),
     LOGIN_FAILED(2008, "로그인에 실패했습니다"),
     UNAUTHORIZED(2009, "인증되지 않은 접근입니다"),
-    FORBIDDEN(2010, "접근 권한이 없습니다");
+    FORBIDDEN(2010, "접근 권한이 없습니다"),
+    AUTH_BUSY(2011, "인증 요청이 많아 잠시 후 다시 시도해주세요"),
+    TOKEN_REUSED(2012, "이미 사용된 리프레시 토큰입니다");
 
     private final int code;
     private final String message;
@@ -38,6 +38,18 @@ public class TokenException extends AuthDomainException {
                 String.format("토큰을 찾을 수 없습니다: %s", tokenId));
     }
 
+    /**
+     * 이미 교체된 리프레시 토큰이 다시 사용된 경우의 예외를 생성합니다.
+     *
+     * @param familyId 폐기된 토큰 패밀리 ID
+     * @return 리프레시 토큰 재사용을 나타내는 예외
+     */
+    public static TokenException reused(String familyId) {
+        return new TokenException(
+                AuthErrorType.TOKEN_REUSED,
+                String.format("이미 사용된 리프레시 토큰입니다. 패밀리를 폐기했습니다: %s", familyId));
+    }
+
     /**
      * 토큰이 만료된 경우의 예외를 생성합니다.
      *
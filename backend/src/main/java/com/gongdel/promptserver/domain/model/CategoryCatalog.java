@@ -0,0 +1,152 @@
+package com.gongdel.promptserver.domain.model;
+
+import org.springframework.util.Assert;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 전체 카테고리 목록과 조회용 색인을 담는 불변 카탈로그입니다.
+ * <p>
+ * ID, 이름, 상위 카테고리, 시스템 카테고리 여부로 색인하며, 목록은 모두 카테고리 ID 순입니다.
+ * 버전은 카테고리 내용으로 계산하므로 같은 데이터를 적재한 인스턴스는 같은 버전을 가집니다.
+ */
+public final class CategoryCatalog {
+
+    private static final Long ROOT = -1L;
+
+    private final List<Category> categories;
+    private final Map<Long, Category> byId;
+    private final Map<String, Category> byName;
+    private final Map<Long, List<Category>> byParentId;
+    private final Map<Boolean, List<Category>> bySystem;
+    private final String version;
+
+    private CategoryCatalog(List<Category> categories) {
+        this.categories = categories;
+        this.byId = categories.stream()
+            .collect(Collectors.toUnmodifiableMap(Category::getId, Function.identity(), (first, second) -> first));
+        this.byName = categories.stream()
+            .collect(Collectors.toUnmodifiableMap(Category::getName, Function.identity(), (first, second) -> first));
+        this.byParentId = categories.stream()
+            .collect(Collectors.groupingBy(CategoryCatalog::parentKey, Collectors.toUnmodifiableList()));
+        this.bySystem = categories.stream()
+            .collect(Collectors.partitioningBy(Category::isSystem, Collectors.toUnmodifiableList()));
+        this.version = computeVersion(categories);
+    }
+
+    /**
+     * 카테고리 목록으로 카탈로그를 생성합니다.
+     *
+     * @param categories 전체 카테고리 목록
+     * @return 카탈로그
+     */
+    public static CategoryCatalog of(List<Category> categories) {
+        Assert.notNull(categories, "categories must not be null");
+        return new CategoryCatalog(categories.stream()
+            .sorted(Comparator.comparing(Category::getId))
+            .toList());
+    }
+
+    /**
+     * 모든 카테고리를 반환합니다.
+     *
+     * @return 카테고리 목록
+     */
+    public List<Category> getAllCategories() {
+        return categories;
+    }
+
+    /**
+     * ID로 카테고리를 찾습니다.
+     *
+     * @param id 카테고리 ID
+     * @return 카테고리 Optional
+     */
+    public Optional<Category> findById(Long id) {
+        return Optional.ofNullable(byId.get(id));
+    }
+
+    /**
+     * 이름으로 카테고리를 찾습니다.
+     *
+     * @param name 카테고리 이름
+     * @return 카테고리 Optional
+     */
+    public Optional<Category> findByName(String name) {
+        return Optional.ofNullable(byName.get(name));
+    }
+
+    /**
+     * 시스템 카테고리 여부로 카테고리 목록을 반환합니다.
+     *
+     * @param isSystem 시스템 카테고리 여부
+     * @return 카테고리 목록
+     */
+    public List<Category> getCategoriesBySystemFlag(boolean isSystem) {
+        return bySystem.get(isSystem);
+    }
+
+    /**
+     * 최상위 카테고리(상위 카테고리가 없는) 목록을 반환합니다.
+     *
+     * @return 최상위 카테고리 목록
+     */
+    public List<Category> getRootCategories() {
+        return byParentId.getOrDefault(ROOT, List.of());
+    }
+
+    /**
+     * 특정 카테고리의 하위 카테고리 목록을 반환합니다.
+     *
+     * @param parentId 상위 카테고리 ID
+     * @return 하위 카테고리 목록
+     */
+    public List<Category> getSubCategories(Long parentId) {
+        Assert.notNull(parentId, "parentId must not be null");
+        return byParentId.getOrDefault(parentId, List.of());
+    }
+
+    /**
+     * 카탈로그 내용으로 계산한 버전을 반환합니다. HTTP ETag로 사용합니다.
+     *
+     * @return 카탈로그 버전
+     */
+    public String getVersion() {
+        return version;
+    }
+
+    /**
+     * 카테고리 수를 반환합니다.
+     *
+     * @return 카테고리 수
+     */
+    public int size() {
+        return categories.size();
+    }
+
+    private static Long parentKey(Category category) {
+        return category.getParentCategory() != null ? category.getParentCategory().getId() : ROOT;
+    }
+
+    private static String computeVersion(List<Category> categories) {
+        StringBuilder content = new StringBuilder();
+        for (Category category : categories) {
+            content.append(category.getId()).append('|')
+                .append(category.getName()).append('|')
+                .append(category.getDisplayName()).append('|')
+                .append(category.getDescription()).append('|')
+                .append(category.isSystem()).append('|')
+                .append(parentKey(category)).append('|')
+                .append(category.getCreatedAt()).append('|')
+                .append(category.getUpdatedAt()).append('\n');
+        }
+        return DigestUtils.md5DigestAsHex(content.toString().getBytes(StandardCharsets.UTF_8));
+    }
+}
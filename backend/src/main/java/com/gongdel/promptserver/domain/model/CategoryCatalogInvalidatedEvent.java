@@ -0,0 +1,18 @@
+package com.gongdel.promptserver.domain.model;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 다른 인스턴스에서 카테고리가 변경되어 로컬 카테고리 카탈로그를 다시 적재해야 함을 알리는 이벤트입니다.
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class CategoryCatalogInvalidatedEvent {
+    /**
+     * 변경을 알린 인스턴스 ID (로그용)
+     */
+    private final String sourceInstanceId;
+}
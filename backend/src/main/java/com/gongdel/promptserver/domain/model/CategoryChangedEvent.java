@@ -0,0 +1,55 @@
+package com.gongdel.promptserver.domain.model;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 카테고리가 생성·수정·삭제되었음을 알리는 이벤트입니다.
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class CategoryChangedEvent {
+    /**
+     * 카테고리 ID
+     */
+    private final Long categoryId;
+
+    /**
+     * 카테고리명 (삭제 시 null)
+     */
+    private final String categoryName;
+
+    /**
+     * 상위 카테고리 ID (루트이거나 삭제 시 null)
+     */
+    private final Long parentCategoryId;
+
+    /**
+     * 삭제 여부
+     */
+    private final boolean deleted;
+
+    /**
+     * 생성 또는 수정된 카테고리의 변경 이벤트를 생성합니다.
+     *
+     * @param category 저장된 카테고리
+     * @return 카테고리 변경 이벤트
+     */
+    public static CategoryChangedEvent saved(Category category) {
+        Long parentId = category.getParentCategory() != null ? category.getParentCategory().getId() : null;
+        return new CategoryChangedEvent(category.getId(), category.getName(), parentId, false);
+    }
+
+    /**
+     * 삭제된 카테고리의 변경 이벤트를 생성합니다.
+     *
+     * @param categoryId 삭제된 카테고리 ID
+     * @return 카테고리 변경 이벤트
+     */
+    public static CategoryChangedEvent deleted(Long categoryId) {
+        return new CategoryChangedEvent(categoryId, null, null, true);
+    }
+}
@@ -0,0 +1,55 @@
+package com.gongdel.promptserver.domain.model;
+
+import lombok.Getter;
+import lombok.ToString;
+import org.springframework.util.Assert;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 카테고리별 프롬프트 개수가 바뀌었음을 알리는 이벤트입니다.
+ * <p>
+ * 카테고리 ID별 직접 프롬프트 개수의 증감을 담습니다. 단건 등록은 새 카테고리에 +1, 카테고리 변경은 이전 카테고리에
+ * -1과 새 카테고리에 +1로 표현하며, 가져오기처럼 여러 프롬프트를 한 번에 등록하면 카테고리별 개수를 모아 한 이벤트로 보냅니다.
+ */
+@Getter
+@ToString
+public class PromptCategoryChangedEvent {
+    /**
+     * 카테고리 ID별 직접 프롬프트 개수 증감
+     */
+    private final Map<Long, Long> promptCountDeltas;
+
+    /**
+     * 프롬프트 하나가 이전 카테고리에서 새 카테고리로 옮겨졌음을 나타내는 이벤트를 생성합니다.
+     *
+     * @param previousCategoryId 이전 카테고리 ID (등록 시 null)
+     * @param newCategoryId      새 카테고리 ID
+     */
+    public PromptCategoryChangedEvent(Long previousCategoryId, Long newCategoryId) {
+        Map<Long, Long> deltas = new HashMap<>();
+        if (previousCategoryId != null) {
+            deltas.merge(previousCategoryId, -1L, Long::sum);
+        }
+        if (newCategoryId != null) {
+            deltas.merge(newCategoryId, 1L, Long::sum);
+        }
+        this.promptCountDeltas = Map.copyOf(deltas);
+    }
+
+    private PromptCategoryChangedEvent(Map<Long, Long> promptCountDeltas) {
+        this.promptCountDeltas = Map.copyOf(promptCountDeltas);
+    }
+
+    /**
+     * 여러 프롬프트가 등록되었음을 나타내는 이벤트를 생성합니다.
+     *
+     * @param registeredCounts 카테고리 ID별 등록된 프롬프트 수
+     * @return 프롬프트 카테고리 변경 이벤트
+     */
+    public static PromptCategoryChangedEvent registered(Map<Long, Long> registeredCounts) {
+        Assert.notNull(registeredCounts, "registeredCounts must not be null");
+        return new PromptCategoryChangedEvent(registeredCounts);
+    }
+}
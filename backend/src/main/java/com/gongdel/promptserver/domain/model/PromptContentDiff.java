@@ -0,0 +1,326 @@
+package com.gongdel.promptserver.domain.model;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 두 프롬프트 본문 사이의 줄 단위 차이를 표현하는 값 객체입니다.
+ * <p>
+ * 공통 앞뒤 줄을 제외한 변경 구간을 Myers 알고리즘으로 비교하며, 편집 거리가 {@link #MAX_EDIT_DISTANCE}를 넘으면
+ * 변경 구간 전체를 삭제 후 삽입으로 기록하여 계산 시간을 제한합니다.
+ * <p>
+ * {@link #encode()}는 다음 형식의 압축 표현을 만듭니다. 동일한 줄은 개수만 기록합니다.
+ * <ul>
+ * <li>{@code =n}: 동일한 n줄</li>
+ * <li>{@code -n}: 뒤따르는 n줄 삭제</li>
+ * <li>{@code +n}: 뒤따르는 n줄 삽입</li>
+ * </ul>
+ */
+@Getter
+public final class PromptContentDiff {
+
+    /**
+     * Myers 탐색의 최대 편집 거리
+     */
+    public static final int MAX_EDIT_DISTANCE = 1_000;
+
+    private static final String LINE_SEPARATOR = "\n";
+
+    private final List<Operation> operations;
+
+    private PromptContentDiff(List<Operation> operations) {
+        this.operations = Collections.unmodifiableList(operations);
+    }
+
+    /**
+     * 이전 본문을 대상 본문으로 바꾸는 줄 단위 차이를 계산합니다.
+     *
+     * @param from 이전 본문
+     * @param to   대상 본문
+     * @return 줄 단위 차이
+     */
+    public static PromptContentDiff between(String from, String to) {
+        String[] a = split(from);
+        String[] b = split(to);
+
+        int prefix = 0;
+        while (prefix < a.length && prefix < b.length && a[prefix].equals(b[prefix])) {
+            prefix++;
+        }
+        int suffix = 0;
+        while (suffix < a.length - prefix && suffix < b.length - prefix
+            && a[a.length - 1 - suffix].equals(b[b.length - 1 - suffix])) {
+            suffix++;
+        }
+
+        OperationsBuilder builder = new OperationsBuilder();
+        builder.equal(prefix);
+        diffMiddle(a, prefix, a.length - suffix, b, prefix, b.length - suffix, builder);
+        builder.equal(suffix);
+        return new PromptContentDiff(builder.build());
+    }
+
+    /**
+     * 이전 버전이 없는 최초 본문을 전체 삽입으로 표현합니다.
+     *
+     * @param content 최초 본문
+     * @return 본문 전체를 삽입하는 차이
+     */
+    public static PromptContentDiff initial(String content) {
+        List<String> lines = Arrays.asList(split(content));
+        return new PromptContentDiff(List.of(new Operation(OperationType.INSERT, lines.size(), lines)));
+    }
+
+    /**
+     * {@link #encode()}로 만든 압축 표현을 복원합니다.
+     *
+     * @param encoded 압축 표현
+     * @return 줄 단위 차이
+     * @throws IllegalArgumentException 형식이 올바르지 않은 경우
+     */
+    public static PromptContentDiff decode(String encoded) {
+        if (encoded == null || encoded.isEmpty()) {
+            return new PromptContentDiff(new ArrayList<>());
+        }
+        String[] parts = split(encoded);
+        List<Operation> operations = new ArrayList<>();
+        int i = 0;
+        while (i < parts.length) {
+            String header = parts[i++];
+            OperationType type = header.isEmpty() ? null : OperationType.fromSymbol(header.charAt(0));
+            if (type == null || header.length() < 2) {
+                throw new IllegalArgumentException("Invalid prompt content diff header: '" + header + "'");
+            }
+            int count = Integer.parseInt(header.substring(1));
+            if (type == OperationType.EQUAL) {
+                operations.add(new Operation(type, count, List.of()));
+                continue;
+            }
+            if (i + count > parts.length) {
+                throw new IllegalArgumentException("Invalid prompt content diff: missing lines at '" + header + "'");
+            }
+            operations.add(new Operation(type, count, Arrays.asList(parts).subList(i, i + count)));
+            i += count;
+        }
+        return new PromptContentDiff(operations);
+    }
+
+    /**
+     * 동일한 줄은 개수만 남긴 압축 표현으로 직렬화합니다.
+     *
+     * @return 압축 표현
+     */
+    public String encode() {
+        StringBuilder out = new StringBuilder();
+        for (Operation operation : operations) {
+            if (!out.isEmpty()) {
+                out.append(LINE_SEPARATOR);
+            }
+            out.append(operation.getType().getSymbol()).append(operation.getCount());
+            for (String line : operation.getLines()) {
+                out.append(LINE_SEPARATOR).append(line);
+            }
+        }
+        return out.toString();
+    }
+
+    /**
+     * 삽입된 줄 수를 반환합니다.
+     *
+     * @return 삽입된 줄 수
+     */
+    public int getAddedLineCount() {
+        return countOf(OperationType.INSERT);
+    }
+
+    /**
+     * 삭제된 줄 수를 반환합니다.
+     *
+     * @return 삭제된 줄 수
+     */
+    public int getRemovedLineCount() {
+        return countOf(OperationType.DELETE);
+    }
+
+    private int countOf(OperationType type) {
+        return operations.stream()
+            .filter(operation -> operation.getType() == type)
+            .mapToInt(Operation::getCount)
+            .sum();
+    }
+
+    /**
+     * 변경 구간을 Myers 알고리즘으로 비교하여 연산을 추가합니다.
+     * 편집 거리가 한도를 넘으면 구간 전체를 삭제 후 삽입으로 기록합니다.
+     */
+    private static void diffMiddle(String[] a, int aFrom, int aTo, String[] b, int bFrom, int bTo,
+        OperationsBuilder builder) {
+        int n = aTo - aFrom;
+        int m = bTo - bFrom;
+        int max = Math.min(n + m, MAX_EDIT_DISTANCE);
+        if (n > 0 && m > 0) {
+            int offset = max + 1;
+            int[] v = new int[2 * max + 3];
+            // trace.get(d): d단계 시작 시점의 v 중 k ∈ [-d-1, d+1] 구간
+            List<int[]> trace = new ArrayList<>();
+            for (int d = 0; d <= max; d++) {
+                int[] snapshot = new int[2 * d + 3];
+                System.arraycopy(v, offset - d - 1, snapshot, 0, snapshot.length);
+                trace.add(snapshot);
+                for (int k = -d; k <= d; k += 2) {
+                    int x = k == -d || (k != d && v[offset + k - 1] < v[offset + k + 1])
+                        ? v[offset + k + 1]
+                        : v[offset + k - 1] + 1;
+                    int y = x - k;
+                    while (x < n && y < m && a[aFrom + x].equals(b[bFrom + y])) {
+                        x++;
+                        y++;
+                    }
+                    v[offset + k] = x;
+                    if (x >= n && y >= m) {
+                        backtrack(trace, d, a, aFrom, n, b, bFrom, m, builder);
+                        return;
+                    }
+                }
+            }
+        }
+        for (int i = aFrom; i < aTo; i++) {
+            builder.add(OperationType.DELETE, a[i]);
+        }
+        for (int j = bFrom; j < bTo; j++) {
+            builder.add(OperationType.INSERT, b[j]);
+        }
+    }
+
+    /**
+     * 탐색 기록을 거슬러 올라가 최단 편집 경로를 연산으로 변환합니다.
+     */
+    private static void backtrack(List<int[]> trace, int distance, String[] a, int aFrom, int n,
+        String[] b, int bFrom, int m, OperationsBuilder builder) {
+        List<OperationType> types = new ArrayList<>();
+        List<String> lines = new ArrayList<>();
+        int x = n;
+        int y = m;
+        for (int d = distance; d > 0; d--) {
+            int[] v = trace.get(d);
+            int k = x - y;
+            int previousK = k == -d || (k != d && v[k - 1 + d + 1] < v[k + 1 + d + 1]) ? k + 1 : k - 1;
+            int previousX = v[previousK + d + 1];
+            int previousY = previousX - previousK;
+            while (x > previousX && y > previousY) {
+                types.add(OperationType.EQUAL);
+                lines.add(a[aFrom + --x]);
+                y--;
+            }
+            if (x == previousX) {
+                types.add(OperationType.INSERT);
+                lines.add(b[bFrom + --y]);
+            } else {
+                types.add(OperationType.DELETE);
+                lines.add(a[aFrom + --x]);
+            }
+        }
+        while (x > 0 && y > 0) {
+            types.add(OperationType.EQUAL);
+            lines.add(a[aFrom + --x]);
+            y--;
+        }
+        for (int i = types.size() - 1; i >= 0; i--) {
+            builder.add(types.get(i), lines.get(i));
+        }
+    }
+
+    private static String[] split(String text) {
+        return text.split(LINE_SEPARATOR, -1);
+    }
+
+    /**
+     * 줄 단위 차이 연산 유형
+     */
+    @Getter
+    public enum OperationType {
+        EQUAL('='),
+        DELETE('-'),
+        INSERT('+');
+
+        private final char symbol;
+
+        OperationType(char symbol) {
+            this.symbol = symbol;
+        }
+
+        private static OperationType fromSymbol(char symbol) {
+            for (OperationType type : values()) {
+                if (type.symbol == symbol) {
+                    return type;
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * 같은 유형의 연속된 줄을 묶은 연산입니다. 동일 연산은 줄 내용 없이 개수만 가집니다.
+     */
+    @Getter
+    public static final class Operation {
+        private final OperationType type;
+        private final int count;
+        private final List<String> lines;
+
+        private Operation(OperationType type, int count, List<String> lines) {
+            this.type = type;
+            this.count = count;
+            this.lines = List.copyOf(lines);
+        }
+    }
+
+    /**
+     * 같은 유형의 연속된 줄을 하나의 연산으로 합칩니다.
+     */
+    private static final class OperationsBuilder {
+        private final List<Operation> operations = new ArrayList<>();
+        private final List<String> pendingLines = new ArrayList<>();
+        private OperationType pendingType;
+        private int pendingCount;
+
+        void equal(int count) {
+            if (count > 0) {
+                switchTo(OperationType.EQUAL);
+                pendingCount += count;
+            }
+        }
+
+        void add(OperationType type, String line) {
+            switchTo(type);
+            pendingCount++;
+            if (type != OperationType.EQUAL) {
+                pendingLines.add(line);
+            }
+        }
+
+        private void switchTo(OperationType type) {
+            if (type != pendingType) {
+                flush();
+                pendingType = type;
+            }
+        }
+
+        private void flush() {
+            if (pendingCount > 0) {
+                operations.add(new Operation(pendingType, pendingCount, pendingLines));
+            }
+            pendingLines.clear();
+            pendingCount = 0;
+        }
+
+        List<Operation> build() {
+            flush();
+            return operations;
+        }
+    }
+}
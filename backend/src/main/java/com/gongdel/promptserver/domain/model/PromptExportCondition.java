@@ -0,0 +1,38 @@
+package com.gongdel.promptserver.domain.model;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * 프롬프트 내보내기 조건을 담는 불변 객체입니다.
+ * <p>
+ * 요청자는 공개(PUBLIC) 프롬프트와 본인이 작성한 프롬프트만 내보낼 수 있으며, 삭제된 프롬프트는 항상 제외됩니다.
+ */
+@Getter
+@Builder
+@ToString
+public class PromptExportCondition {
+    /**
+     * 내보내기를 요청한 사용자 ID
+     */
+    private final Long requesterId;
+    /**
+     * 카테고리 ID
+     */
+    private final Long categoryId;
+    /**
+     * 프롬프트 상태
+     */
+    private final PromptStatus status;
+    /**
+     * 생성일 시작 (포함)
+     */
+    private final LocalDateTime createdFrom;
+    /**
+     * 생성일 종료 (미포함)
+     */
+    private final LocalDateTime createdTo;
+}
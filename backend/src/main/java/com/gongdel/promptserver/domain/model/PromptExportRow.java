@@ -0,0 +1,51 @@
+package com.gongdel.promptserver.domain.model;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 내보내기 결과의 한 행을 나타내는 불변 객체입니다.
+ * 프롬프트 템플릿 메타데이터와 현재 버전 내용, 태그 이름을 평탄화하여 담습니다.
+ */
+@Getter
+@Builder(toBuilder = true)
+public class PromptExportRow {
+    private final Long id;
+    private final UUID uuid;
+    private final String title;
+    private final String description;
+    private final String categoryName;
+    private final Visibility visibility;
+    private final PromptStatus status;
+    private final Long versionId;
+    private final Integer versionNumber;
+    private final String content;
+    @Builder.Default
+    private final List<String> tags = List.of();
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+
+    /**
+     * 태그 이름을 설정한 새 행을 반환합니다.
+     *
+     * @param tags 태그 이름 목록
+     * @return 태그가 설정된 행
+     */
+    public PromptExportRow withTags(List<String> tags) {
+        return toBuilder().tags(tags != null ? List.copyOf(tags) : List.of()).build();
+    }
+
+    /**
+     * 버전 내용을 설정한 새 행을 반환합니다.
+     *
+     * @param content 버전 내용
+     * @return 내용이 설정된 행
+     */
+    public PromptExportRow withContent(String content) {
+        return toBuilder().content(content).build();
+    }
+}
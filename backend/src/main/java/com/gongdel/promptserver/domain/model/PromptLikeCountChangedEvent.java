@@ -0,0 +1,25 @@
+package com.gongdel.promptserver.domain.model;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 좋아요 추가·취소로 프롬프트의 좋아요 수가 바뀌었음을 알리는 이벤트입니다.
+ * <p>
+ * 좋아요 수 캐시는 이 이벤트를 커밋 이후에 받아 증감하므로, 롤백된 좋아요가 카운터에 남지 않습니다.
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class PromptLikeCountChangedEvent {
+    /**
+     * 프롬프트 ID
+     */
+    private final Long promptTemplateId;
+
+    /**
+     * 좋아요 수 증감값 (추가 1, 취소 -1)
+     */
+    private final long delta;
+}
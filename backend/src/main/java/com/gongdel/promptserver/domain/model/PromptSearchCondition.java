@@ -32,6 +32,10 @@ public class PromptSearchCondition {
      * 카테고리 ID
      */
     private final Long categoryId;
+    /**
+     * 카테고리 필터에 하위 카테고리 포함 여부
+     */
+    private final boolean includeDescendants;
     /**
      * 프롬프트 상태
      */
@@ -79,6 +83,7 @@ public class PromptSearchCondition {
         String description,
         String tag,
         Long categoryId,
+        boolean includeDescendants,
         PromptStatus status,
         PromptSortType sortType,
         Pageable pageable,
@@ -93,6 +98,7 @@ public class PromptSearchCondition {
         this.description = description;
         this.tag = tag;
         this.categoryId = categoryId;
+        this.includeDescendants = includeDescendants;
         this.status = status;
         this.sortType = sortType;
         this.pageable = pageable;
@@ -32,6 +32,7 @@ public class PromptVersion {
     private List<InputVariable> inputVariables;
     private PromptVersionActionType actionType;
     private UUID uuid;
+    private String contentDiff;
 
     /**
      * 프롬프트 버전 생성자
@@ -46,6 +47,7 @@ public class PromptVersion {
      * @param actionType       작업 유형
      * @param createdAt        생성 시간
      * @param uuid             고유 식별자
+     * @param contentDiff      직전 버전 대비 줄 단위 차이 ({@link PromptContentDiff} 압축 표현)
      * @throws PromptValidationException 유효성 검증에 실패한 경우
      */
     @Builder
@@ -59,7 +61,8 @@ public class PromptVersion {
         List<InputVariable> inputVariables,
         PromptVersionActionType actionType,
         LocalDateTime createdAt,
-        UUID uuid) throws PromptValidationException {
+        UUID uuid,
+        String contentDiff) throws PromptValidationException {
 
         // 필수 필드 유효성 검증
         validatePromptTemplateId(promptTemplateId);
@@ -81,6 +84,7 @@ public class PromptVersion {
         this.actionType = actionType;
         this.createdAt = createdAt != null ? createdAt : LocalDateTime.now();
         this.uuid = uuid;
+        this.contentDiff = contentDiff;
 
         log.debug("Created prompt version: id={}, promptTemplateId={}, versionNumber={}",
             this.id, this.promptTemplateId, this.versionNumber);
@@ -0,0 +1,22 @@
+package com.gongdel.promptserver.domain.model;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 버전 이력 목록에 표시할 프롬프트 버전 요약 정보입니다. 본문과 입력 변수는 포함하지 않습니다.
+ */
+@Getter
+@Builder
+public class PromptVersionSummary {
+    private final Long id;
+    private final UUID uuid;
+    private final Integer versionNumber;
+    private final PromptVersionActionType actionType;
+    private final Long createdById;
+    private final String authorName;
+    private final LocalDateTime createdAt;
+}
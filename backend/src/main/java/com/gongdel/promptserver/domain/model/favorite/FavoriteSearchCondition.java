@@ -10,6 +10,7 @@ import org.springframework.util.Assert;
  * 즐겨찾기 목록 조회용 검색 조건을 담는 불변 객체입니다.
  * <p>
  * - 사용자 ID, 통합 검색어, 정렬, 페이징 정보를 포함합니다.
+ * - 커서 기반 조회 시에는 cursor 이후의 항목을 pageable의 페이지 크기만큼 조회합니다.
  * - userId, pageable은 필수값입니다.
  */
 @Getter
@@ -32,13 +33,19 @@ public class FavoriteSearchCondition {
      * 사용자 ID (필수)
      */
     private final Long userId;
+    /**
+     * 커서 기반 조회 시 이전 페이지의 마지막 즐겨찾기 ID (null이면 첫 페이지)
+     */
+    private final Long cursor;
 
-    public FavoriteSearchCondition(String searchKeyword, String sortType, Pageable pageable, Long userId) {
+    public FavoriteSearchCondition(String searchKeyword, String sortType, Pageable pageable, Long userId,
+                                   Long cursor) {
         Assert.notNull(userId, "userId must not be null");
         Assert.notNull(pageable, "pageable must not be null");
         this.searchKeyword = searchKeyword;
         this.sortType = sortType;
         this.pageable = pageable;
         this.userId = userId;
+        this.cursor = cursor;
     }
 }
@@ -0,0 +1,43 @@
+package com.gongdel.promptserver.domain.model.statistics;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 카테고리 하나에 직접 속한 프롬프트 개수와 상위 카테고리 정보를 담는 도메인 클래스입니다.
+ * <p>
+ * 하위 카테고리의 프롬프트는 포함하지 않으며, 카테고리 트리를 구성하는 원본 데이터로 사용합니다.
+ */
+@Getter
+@ToString
+@Builder
+public class CategoryDirectPromptCount {
+    /**
+     * 카테고리 ID
+     */
+    private final Long categoryId;
+
+    /**
+     * 카테고리명
+     */
+    private final String categoryName;
+
+    /**
+     * 상위 카테고리 ID (루트이면 null)
+     */
+    private final Long parentCategoryId;
+
+    /**
+     * 카테고리에 직접 속한 프롬프트 개수
+     */
+    private final long promptCount;
+
+    // QueryDSL에서 사용할 생성자
+    public CategoryDirectPromptCount(Long categoryId, String categoryName, Long parentCategoryId, Long promptCount) {
+        this.categoryId = categoryId;
+        this.categoryName = categoryName;
+        this.parentCategoryId = parentCategoryId;
+        this.promptCount = promptCount;
+    }
+}
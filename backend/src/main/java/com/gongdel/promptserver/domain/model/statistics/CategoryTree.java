@@ -0,0 +1,313 @@
+package com.gongdel.promptserver.domain.model.statistics;
+
+import lombok.EqualsAndHashCode;
+import org.springframework.util.Assert;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 카테고리 계층과 카테고리별 프롬프트 개수를 담는 불변 트리입니다.
+ * <p>
+ * 각 노드는 상위·하위 카테고리와 함께 직접 속한 프롬프트 개수, 모든 하위 카테고리를 포함한 프롬프트 개수를 가집니다.
+ * 변경 메서드는 기존 트리를 수정하지 않고 바뀐 노드만 교체한 새 트리를 반환하므로(copy-on-write), 조회 스레드는
+ * 잠금 없이 한 시점의 트리를 읽을 수 있습니다.
+ */
+public final class CategoryTree {
+
+    private static final CategoryTree EMPTY = new CategoryTree(Map.of());
+
+    private final Map<Long, Node> nodes;
+
+    private CategoryTree(Map<Long, Node> nodes) {
+        this.nodes = nodes;
+    }
+
+    /**
+     * 빈 트리를 반환합니다.
+     *
+     * @return 빈 트리
+     */
+    public static CategoryTree empty() {
+        return EMPTY;
+    }
+
+    /**
+     * 카테고리별 직접 프롬프트 개수 목록으로 트리를 구성합니다. 목록에 없는 상위 카테고리를 가리키는 카테고리는 루트로 봅니다.
+     *
+     * @param counts 카테고리별 직접 프롬프트 개수 목록
+     * @return 구성된 트리
+     */
+    public static CategoryTree of(List<CategoryDirectPromptCount> counts) {
+        Assert.notNull(counts, "counts must not be null");
+        Map<Long, Long> parents = new HashMap<>();
+        Map<Long, List<Long>> children = new HashMap<>();
+        for (CategoryDirectPromptCount count : counts) {
+            parents.put(count.getCategoryId(), count.getParentCategoryId());
+        }
+        for (CategoryDirectPromptCount count : counts) {
+            Long parentId = count.getParentCategoryId();
+            if (parentId != null && parents.containsKey(parentId)) {
+                children.computeIfAbsent(parentId, id -> new ArrayList<>()).add(count.getCategoryId());
+            }
+        }
+
+        Map<Long, Node> nodes = new HashMap<>();
+        for (CategoryDirectPromptCount count : counts) {
+            Long parentId = parents.containsKey(count.getParentCategoryId()) ? count.getParentCategoryId() : null;
+            nodes.put(count.getCategoryId(), new Node(count.getCategoryId(), count.getCategoryName(), parentId,
+                children.getOrDefault(count.getCategoryId(), List.of()), count.getPromptCount(),
+                count.getPromptCount()));
+        }
+        // 직접 개수를 모든 상위 노드에 더해 하위 포함 개수를 계산
+        for (CategoryDirectPromptCount count : counts) {
+            addToAncestors(nodes, nodes.get(count.getCategoryId()).parentId, count.getPromptCount());
+        }
+        return new CategoryTree(Collections.unmodifiableMap(nodes));
+    }
+
+    /**
+     * 루트 카테고리별(모든 하위 포함) 프롬프트 개수 목록을 카테고리 ID 순으로 반환합니다.
+     *
+     * @return 루트 카테고리별 프롬프트 개수 목록
+     */
+    public List<CategoryPromptCount> getRootCategoryPromptCounts() {
+        return nodes.values().stream()
+            .filter(node -> node.parentId == null)
+            .sorted(Comparator.comparing(node -> node.id))
+            .map(node -> new CategoryPromptCount(node.id, node.name, node.subtreePromptCount))
+            .toList();
+    }
+
+    /**
+     * 특정 카테고리의 바로 아래 카테고리별 직접 프롬프트 개수 목록을 카테고리 ID 순으로 반환합니다.
+     *
+     * @param parentId 상위 카테고리 ID
+     * @return 하위 카테고리별 프롬프트 개수 목록 (카테고리가 없으면 빈 목록)
+     */
+    public List<CategoryPromptCount> getChildCategoryPromptCounts(Long parentId) {
+        Assert.notNull(parentId, "parentId must not be null");
+        Node parent = nodes.get(parentId);
+        if (parent == null) {
+            return List.of();
+        }
+        return parent.childIds.stream()
+            .map(nodes::get)
+            .map(node -> new CategoryPromptCount(node.id, node.name, node.directPromptCount))
+            .toList();
+    }
+
+    /**
+     * 카테고리를 포함한 모든 하위 카테고리의 프롬프트 개수를 반환합니다.
+     *
+     * @param categoryId 카테고리 ID
+     * @return 하위 포함 프롬프트 개수 (카테고리가 없으면 0)
+     */
+    public long getSubtreePromptCount(Long categoryId) {
+        Node node = nodes.get(categoryId);
+        return node != null ? node.subtreePromptCount : 0;
+    }
+
+    /**
+     * 카테고리 수를 반환합니다.
+     *
+     * @return 카테고리 수
+     */
+    public int size() {
+        return nodes.size();
+    }
+
+    /**
+     * 프롬프트 하나가 한 카테고리에서 다른 카테고리로 옮겨진 트리를 반환합니다.
+     * 등록은 이전 카테고리가 없는 이동, 삭제는 새 카테고리가 없는 이동으로 표현합니다. 트리에 없는 카테고리는 무시합니다.
+     *
+     * @param fromCategoryId 이전 카테고리 ID (없으면 null)
+     * @param toCategoryId   새 카테고리 ID (없으면 null)
+     * @return 변경된 트리
+     */
+    public CategoryTree withPromptMoved(Long fromCategoryId, Long toCategoryId) {
+        if (Objects.equals(fromCategoryId, toCategoryId)) {
+            return this;
+        }
+        Map<Long, Long> deltas = new HashMap<>();
+        if (fromCategoryId != null) {
+            deltas.put(fromCategoryId, -1L);
+        }
+        if (toCategoryId != null) {
+            deltas.put(toCategoryId, 1L);
+        }
+        return withPromptCountDeltas(deltas);
+    }
+
+    /**
+     * 카테고리별 직접 프롬프트 개수를 증감한 트리를 반환합니다. 트리에 없는 카테고리는 무시합니다.
+     *
+     * @param deltas 카테고리 ID별 직접 프롬프트 개수 증감
+     * @return 변경된 트리
+     */
+    public CategoryTree withPromptCountDeltas(Map<Long, Long> deltas) {
+        Assert.notNull(deltas, "deltas must not be null");
+        Map<Long, Node> copy = null;
+        for (Map.Entry<Long, Long> delta : deltas.entrySet()) {
+            if (delta.getValue() == 0 || !nodes.containsKey(delta.getKey())) {
+                continue;
+            }
+            if (copy == null) {
+                copy = new HashMap<>(nodes);
+            }
+            copy.put(delta.getKey(), copy.get(delta.getKey()).withDirectDelta(delta.getValue()));
+            addToAncestors(copy, copy.get(delta.getKey()).parentId, delta.getValue());
+        }
+        return copy == null ? this : new CategoryTree(Collections.unmodifiableMap(copy));
+    }
+
+    /**
+     * 카테고리를 추가하거나 이름·상위 카테고리를 변경한 트리를 반환합니다.
+     * 상위 카테고리가 바뀌면 하위 포함 프롬프트 개수를 이전 상위 경로에서 빼고 새 상위 경로에 더합니다.
+     * 트리에 없는 상위 카테고리나 순환을 만드는 상위 카테고리는 루트로 봅니다.
+     *
+     * @param categoryId       카테고리 ID
+     * @param categoryName     카테고리명
+     * @param parentCategoryId 상위 카테고리 ID (루트이면 null)
+     * @return 변경된 트리
+     */
+    public CategoryTree withCategory(Long categoryId, String categoryName, Long parentCategoryId) {
+        Assert.notNull(categoryId, "categoryId must not be null");
+        Long parentId = parentCategoryId != null && nodes.containsKey(parentCategoryId)
+            && !isSelfOrDescendant(parentCategoryId, categoryId) ? parentCategoryId : null;
+        Map<Long, Node> copy = new HashMap<>(nodes);
+        Node existing = copy.get(categoryId);
+        if (existing == null) {
+            copy.put(categoryId, new Node(categoryId, categoryName, parentId, List.of(), 0, 0));
+            linkChild(copy, parentId, categoryId);
+            return new CategoryTree(Collections.unmodifiableMap(copy));
+        }
+
+        copy.put(categoryId, existing.withNameAndParent(categoryName, parentId));
+        if (!Objects.equals(existing.parentId, parentId)) {
+            unlinkChild(copy, existing.parentId, categoryId);
+            addToAncestors(copy, existing.parentId, -existing.subtreePromptCount);
+            linkChild(copy, parentId, categoryId);
+            addToAncestors(copy, parentId, existing.subtreePromptCount);
+        }
+        return new CategoryTree(Collections.unmodifiableMap(copy));
+    }
+
+    /**
+     * 카테고리를 제거한 트리를 반환합니다. 하위 카테고리는 DB의 ON DELETE SET NULL과 같이 루트가 됩니다.
+     *
+     * @param categoryId 카테고리 ID
+     * @return 변경된 트리
+     */
+    public CategoryTree withoutCategory(Long categoryId) {
+        Node removed = nodes.get(categoryId);
+        if (removed == null) {
+            return this;
+        }
+        Map<Long, Node> copy = new HashMap<>(nodes);
+        copy.remove(categoryId);
+        unlinkChild(copy, removed.parentId, categoryId);
+        addToAncestors(copy, removed.parentId, -removed.subtreePromptCount);
+        for (Long childId : removed.childIds) {
+            copy.put(childId, copy.get(childId).withNameAndParent(copy.get(childId).name, null));
+        }
+        return new CategoryTree(Collections.unmodifiableMap(copy));
+    }
+
+    /**
+     * 다른 트리와 카테고리 구성 및 프롬프트 개수가 같은지 확인합니다.
+     *
+     * @param other 비교할 트리
+     * @return 같으면 true
+     */
+    public boolean hasSameCountsAs(CategoryTree other) {
+        return other != null && nodes.equals(other.nodes);
+    }
+
+    private boolean isSelfOrDescendant(Long candidateId, Long ancestorId) {
+        Long current = candidateId;
+        while (current != null) {
+            if (current.equals(ancestorId)) {
+                return true;
+            }
+            current = nodes.get(current).parentId;
+        }
+        return false;
+    }
+
+    private static void addToAncestors(Map<Long, Node> nodes, Long startId, long delta) {
+        if (delta == 0) {
+            return;
+        }
+        Long current = startId;
+        while (current != null) {
+            Node node = nodes.get(current);
+            nodes.put(current, node.withSubtreeDelta(delta));
+            current = node.parentId;
+        }
+    }
+
+    private static void linkChild(Map<Long, Node> nodes, Long parentId, Long childId) {
+        if (parentId != null) {
+            nodes.put(parentId, nodes.get(parentId).withChildAdded(childId));
+        }
+    }
+
+    private static void unlinkChild(Map<Long, Node> nodes, Long parentId, Long childId) {
+        if (parentId != null && nodes.containsKey(parentId)) {
+            nodes.put(parentId, nodes.get(parentId).withChildRemoved(childId));
+        }
+    }
+
+    /**
+     * 트리의 불변 노드입니다. 하위 카테고리 ID는 오름차순으로 유지합니다.
+     */
+    @EqualsAndHashCode
+    private static final class Node {
+        private final Long id;
+        private final String name;
+        private final Long parentId;
+        private final List<Long> childIds;
+        private final long directPromptCount;
+        private final long subtreePromptCount;
+
+        private Node(Long id, String name, Long parentId, List<Long> childIds, long directPromptCount,
+                     long subtreePromptCount) {
+            this.id = id;
+            this.name = name;
+            this.parentId = parentId;
+            this.childIds = childIds.stream().sorted().toList();
+            this.directPromptCount = directPromptCount;
+            this.subtreePromptCount = subtreePromptCount;
+        }
+
+        private Node withDirectDelta(long delta) {
+            return new Node(id, name, parentId, childIds, directPromptCount + delta, subtreePromptCount + delta);
+        }
+
+        private Node withSubtreeDelta(long delta) {
+            return new Node(id, name, parentId, childIds, directPromptCount, subtreePromptCount + delta);
+        }
+
+        private Node withNameAndParent(String newName, Long newParentId) {
+            return new Node(id, newName, newParentId, childIds, directPromptCount, subtreePromptCount);
+        }
+
+        private Node withChildAdded(Long childId) {
+            List<Long> added = new ArrayList<>(childIds);
+            added.add(childId);
+            return new Node(id, name, parentId, added, directPromptCount, subtreePromptCount);
+        }
+
+        private Node withChildRemoved(Long childId) {
+            List<Long> removed = new ArrayList<>(childIds);
+            removed.remove(childId);
+            return new Node(id, name, parentId, removed, directPromptCount, subtreePromptCount);
+        }
+    }
+}
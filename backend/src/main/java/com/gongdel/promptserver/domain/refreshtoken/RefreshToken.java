@@ -5,13 +5,18 @@ import lombok.Value;
 import org.springframework.util.Assert;
 
 import java.time.LocalDateTime;
+import java.util.UUID;
 
 /**
  * 리프레시 토큰 도메인 모델입니다.
  * 사용자의 인증 상태를 유지하기 위한 리프레시 토큰을 표현합니다.
+ * <p>
+ * 한 번의 로그인에서 시작된 토큰들은 같은 패밀리(familyId)에 속하며, 갱신할 때마다 패밀리의 현재 토큰이 교체됩니다.
+ * </p>
  */
 @Value
 public class RefreshToken {
+    String familyId;
     UserId userId;
     String token;
     LocalDateTime expiresAt;
@@ -25,21 +30,32 @@ public class RefreshToken {
         return expiresAt.isAfter(LocalDateTime.now());
     }
 
+    /**
+     * 새 로그인에 사용할 토큰 패밀리 ID를 생성합니다.
+     *
+     * @return 패밀리 ID
+     */
+    public static String newFamilyId() {
+        return UUID.randomUUID().toString();
+    }
+
     /**
      * 리프레시 토큰을 생성합니다.
      *
+     * @param familyId  토큰 패밀리 ID
      * @param userId    사용자 ID
      * @param token     토큰 문자열
      * @param expiresAt 만료 일시
      * @return RefreshToken 인스턴스
-     * @throws IllegalArgumentException userId가 null이거나, token이 비어있거나, expiresAt이
+     * @throws IllegalArgumentException familyId나 token이 비어있거나, userId 또는 expiresAt이
      *                                  null인 경우
      */
-    public static RefreshToken create(UserId userId, String token, LocalDateTime expiresAt) {
+    public static RefreshToken create(String familyId, UserId userId, String token, LocalDateTime expiresAt) {
+        Assert.hasText(familyId, "FamilyId must not be empty");
         Assert.notNull(userId, "UserId must not be null");
         Assert.hasText(token, "Token must not be empty");
         Assert.notNull(expiresAt, "ExpiresAt must not be null");
 
-        return new RefreshToken(userId, token, expiresAt);
+        return new RefreshToken(familyId, userId, token, expiresAt);
     }
 }
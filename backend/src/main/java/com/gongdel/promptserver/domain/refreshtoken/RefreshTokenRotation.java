@@ -0,0 +1,19 @@
+package com.gongdel.promptserver.domain.refreshtoken;
+
+/**
+ * 리프레시 토큰 교체 결과입니다.
+ */
+public enum RefreshTokenRotation {
+    /**
+     * 제시된 토큰이 패밀리의 현재 토큰이어서 새 토큰으로 교체됨
+     */
+    ROTATED,
+    /**
+     * 이미 교체된 이전 토큰이 다시 제시됨. 탈취로 간주하여 패밀리 전체를 폐기함
+     */
+    REUSED,
+    /**
+     * 패밀리가 없음 (만료, 로그아웃 또는 폐기됨)
+     */
+    NOT_FOUND
+}
@@ -0,0 +1,63 @@
+package com.gongdel.promptserver.domain.statistics;
+
+import com.gongdel.promptserver.domain.model.statistics.CategoryPromptCount;
+import com.gongdel.promptserver.domain.view.ViewStatistics;
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.util.Assert;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 미리 계산한 대시보드 전역 통계 스냅샷을 나타내는 불변 도메인 객체입니다.
+ * <p>
+ * 사용자와 무관한 대시보드 수치(프롬프트·유저·즐겨찾기·조회수 통계, 활성 팀멤버 수, 루트 카테고리별 프롬프트 수)를
+ * 한 시점에 계산한 결과이며, generatedAt으로 계산 시각을 알 수 있습니다.
+ */
+@Getter
+@Builder
+public class DashboardSnapshot {
+    private final PromptStatistics promptStatistics;
+    private final UserStatistics userStatistics;
+    private final FavoriteStatistics favoriteStatistics;
+    private final ViewStatistics weeklyViewStatistics;
+    private final long activeMemberCount;
+    private final List<CategoryPromptCount> rootCategoryCounts;
+    private final LocalDateTime generatedAt;
+
+    /**
+     * DashboardSnapshot 객체를 생성합니다.
+     *
+     * @throws IllegalArgumentException 유효하지 않은 값이 전달된 경우
+     */
+    public DashboardSnapshot(PromptStatistics promptStatistics, UserStatistics userStatistics,
+                             FavoriteStatistics favoriteStatistics, ViewStatistics weeklyViewStatistics,
+                             long activeMemberCount, List<CategoryPromptCount> rootCategoryCounts,
+                             LocalDateTime generatedAt) {
+        Assert.notNull(promptStatistics, "promptStatistics must not be null");
+        Assert.notNull(userStatistics, "userStatistics must not be null");
+        Assert.notNull(favoriteStatistics, "favoriteStatistics must not be null");
+        Assert.notNull(weeklyViewStatistics, "weeklyViewStatistics must not be null");
+        Assert.isTrue(activeMemberCount >= 0, "activeMemberCount must be non-negative");
+        Assert.notNull(rootCategoryCounts, "rootCategoryCounts must not be null");
+        Assert.notNull(generatedAt, "generatedAt must not be null");
+        this.promptStatistics = promptStatistics;
+        this.userStatistics = userStatistics;
+        this.favoriteStatistics = favoriteStatistics;
+        this.weeklyViewStatistics = weeklyViewStatistics;
+        this.activeMemberCount = activeMemberCount;
+        this.rootCategoryCounts = List.copyOf(rootCategoryCounts);
+        this.generatedAt = generatedAt;
+    }
+
+    /**
+     * 다른 스냅샷보다 나중에 계산되었는지 확인합니다.
+     *
+     * @param other 비교할 스냅샷 (null이면 true)
+     * @return 이 스냅샷이 더 최신이면 true
+     */
+    public boolean isNewerThan(DashboardSnapshot other) {
+        return other == null || generatedAt.isAfter(other.generatedAt);
+    }
+}
@@ -0,0 +1,18 @@
+package com.gongdel.promptserver.domain.statistics;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 대시보드 전역 통계에 영향을 주는 변경(프롬프트 등록·삭제, 회원가입, 즐겨찾기 추가·삭제)이 일어났음을 알리는 이벤트입니다.
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class DashboardStatisticsChangedEvent {
+    /**
+     * 변경 종류 (로그용)
+     */
+    private final String source;
+}
@@ -0,0 +1,11 @@
+-- 프롬프트 쓰기 경로를 위한 시퀀스/FK 조정
+-- Hibernate pooled 옵티마이저(allocationSize = 50)와 시퀀스 증가값을 일치시켜 ID 할당 시 DB 왕복을 줄이고,
+-- IDENTITY 전략에서 불가능했던 JDBC 배치 INSERT를 사용할 수 있도록 합니다.
+ALTER SEQUENCE prompt_templates_id_seq INCREMENT BY 50;
+ALTER SEQUENCE prompt_versions_id_seq INCREMENT BY 50;
+ALTER SEQUENCE prompt_template_tags_id_seq INCREMENT BY 50;
+
+-- 템플릿과 최초 버전을 한 번의 flush로 저장할 때 템플릿 행이 먼저 INSERT 되므로,
+-- current_version_id FK 검증을 커밋 시점으로 미룹니다.
+ALTER TABLE prompt_templates
+    ALTER CONSTRAINT fk_current_version DEFERRABLE INITIALLY DEFERRED;
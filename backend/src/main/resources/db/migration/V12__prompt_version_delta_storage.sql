@@ -0,0 +1,14 @@
+-- 프롬프트 버전 내용을 주기적 스냅샷 + 줄 단위 델타로 저장하기 위한 컬럼 추가
+-- storage_type: SNAPSHOT(content에 전체 내용) 또는 DELTA(base_version_id 버전에 대한 content_delta 편집 스크립트)
+-- 기존 행은 storage_type을 NULL로 두고(스냅샷으로 취급) PromptVersionDeltaCompactor가 템플릿 단위 청크로 변환합니다.
+ALTER TABLE prompt_versions
+    ADD COLUMN storage_type    VARCHAR(16),
+    ADD COLUMN base_version_id BIGINT,
+    ADD COLUMN content_delta   TEXT,
+    ALTER COLUMN content DROP NOT NULL;
+
+CREATE INDEX idx_prompt_version_base ON prompt_versions (base_version_id);
+
+-- 변환 대상 조회용 부분 인덱스 (변환이 끝나면 비어 있음)
+CREATE INDEX idx_prompt_version_unconverted ON prompt_versions (prompt_template_id)
+    WHERE storage_type IS NULL;
@@ -0,0 +1,13 @@
+-- 프롬프트 버전 본문을 SHA-256 해시 기준으로 한 번만 저장하는 내용 주소 기반 블롭 테이블
+CREATE TABLE content_blobs
+(
+    sha256     VARCHAR(64) PRIMARY KEY,
+    content    TEXT        NOT NULL,
+    created_at TIMESTAMP   NOT NULL DEFAULT now()
+);
+
+-- 스냅샷 버전은 content 대신 content_hash로 블롭을 참조합니다.
+-- 기존 인라인 행은 PromptVersionDeltaCompactor가 변환하면서 블롭으로 옮깁니다.
+ALTER TABLE prompt_versions
+    ADD COLUMN content_hash VARCHAR(64),
+    ADD CONSTRAINT fk_prompt_version_content_blob FOREIGN KEY (content_hash) REFERENCES content_blobs (sha256);
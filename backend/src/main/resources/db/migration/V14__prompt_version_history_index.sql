@@ -0,0 +1,5 @@
+-- 버전 이력 키셋 페이지네이션(템플릿별 version_number 내림차순)을 인덱스 순서대로 읽기 위한 복합 인덱스
+CREATE INDEX idx_prompt_version_template_number ON prompt_versions (prompt_template_id, version_number DESC);
+
+-- prompt_template_id 단일 인덱스는 위 복합 인덱스의 선두 컬럼으로 대체됩니다.
+DROP INDEX IF EXISTS idx_prompt_version_template;
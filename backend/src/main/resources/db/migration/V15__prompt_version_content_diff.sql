@@ -0,0 +1,3 @@
+-- 수정으로 생성된 버전의 직전 버전 대비 줄 단위 차이(PromptContentDiff 압축 표현)
+ALTER TABLE prompt_versions
+    ADD COLUMN content_diff TEXT;
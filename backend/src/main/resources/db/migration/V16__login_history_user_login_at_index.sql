@@ -0,0 +1,11 @@
+-- 엔티티에 정의된 uuid 컬럼 추가 (기존 행에는 임의 UUID 부여)
+ALTER TABLE login_history ADD COLUMN IF NOT EXISTS uuid UUID;
+UPDATE login_history SET uuid = gen_random_uuid() WHERE uuid IS NULL;
+ALTER TABLE login_history ALTER COLUMN uuid SET NOT NULL;
+CREATE UNIQUE INDEX IF NOT EXISTS idx_login_history_uuid ON login_history (uuid);
+
+-- 사용자별 최근 로그인 이력을 인덱스 순서대로 읽기 위한 복합 인덱스
+CREATE INDEX idx_login_history_user_login_at ON login_history (user_id, login_at DESC);
+
+-- user_id 단일 인덱스는 위 복합 인덱스의 선두 컬럼으로 대체됩니다.
+DROP INDEX IF EXISTS idx_login_history_user;
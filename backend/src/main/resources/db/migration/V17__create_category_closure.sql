@@ -0,0 +1,24 @@
+-- 카테고리의 모든 (조상, 자손) 쌍과 거리를 저장하는 클로저 테이블 (자기 자신은 depth 0)
+CREATE TABLE category_closure
+(
+    ancestor_id   BIGINT NOT NULL REFERENCES categories (id) ON DELETE CASCADE,
+    descendant_id BIGINT NOT NULL REFERENCES categories (id) ON DELETE CASCADE,
+    depth         INT    NOT NULL,
+    PRIMARY KEY (ancestor_id, descendant_id)
+);
+
+-- 자손 기준 조회(상위 경로 조회, 하위 트리 이동)를 위한 인덱스
+CREATE INDEX idx_category_closure_descendant ON category_closure (descendant_id, ancestor_id);
+
+-- 기존 카테고리 계층으로 클로저 테이블을 채웁니다.
+WITH RECURSIVE category_paths AS (
+    SELECT id AS ancestor_id, id AS descendant_id, 0 AS depth
+    FROM categories
+    UNION ALL
+    SELECT cp.ancestor_id, c.id AS descendant_id, cp.depth + 1
+    FROM categories c
+    JOIN category_paths cp ON c.parent_category_id = cp.descendant_id
+)
+INSERT INTO category_closure (ancestor_id, descendant_id, depth)
+SELECT ancestor_id, descendant_id, depth
+FROM category_paths;
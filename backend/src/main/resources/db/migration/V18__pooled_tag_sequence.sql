@@ -0,0 +1,3 @@
+-- 태그 ID를 Hibernate pooled 옵티마이저(allocationSize = 50)로 할당하여
+-- 벌크 가져오기에서 새 태그 INSERT를 JDBC 배치로 묶을 수 있도록 합니다. (V11과 동일한 방식)
+ALTER SEQUENCE tags_id_seq INCREMENT BY 50;
@@ -2,6 +2,8 @@ package com.gongdel.promptserver.adapter.in.rest.advice;
 
 import com.gongdel.promptserver.application.exception.ApplicationErrorCode;
 import com.gongdel.promptserver.application.exception.ApplicationException;
+import com.gongdel.promptserver.domain.exception.AuthBusyException;
+import com.gongdel.promptserver.domain.exception.AuthErrorType;
 import com.gongdel.promptserver.domain.exception.BaseException;
 import com.gongdel.promptserver.domain.exception.ErrorCode;
 import com.gongdel.promptserver.domain.exception.PromptErrorType;
@@ -9,6 +11,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -50,6 +53,25 @@ class GlobalExceptionHandlerTest {
         }
     }
 
+    @Nested
+    @DisplayName("handleAuthBusyException(AuthBusyException) 메서드는")
+    class HandleAuthBusyExceptionTest {
+        @Test
+        @DisplayName("503 상태코드와 Retry-After 헤더를 반환한다")
+        void givenAuthBusyException_whenHandle_thenReturnsServiceUnavailable() {
+            // Given
+            AuthBusyException ex = new AuthBusyException(2);
+
+            // When
+            ResponseEntity<Map<String, Object>> response = handler.handleAuthBusyException(ex);
+
+            // Then
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+            assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("2");
+            assertThat(response.getBody()).containsEntry("message", AuthErrorType.AUTH_BUSY.getMessage());
+        }
+    }
+
     @Nested
     @DisplayName("handleApplicationException(ApplicationException) 메서드는")
     class HandleApplicationExceptionTest {
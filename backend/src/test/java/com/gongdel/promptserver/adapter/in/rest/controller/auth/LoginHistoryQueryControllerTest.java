@@ -0,0 +1,61 @@
+package com.gongdel.promptserver.adapter.in.rest.controller.auth;
+
+import com.gongdel.promptserver.adapter.in.rest.BaseControllerTest;
+import com.gongdel.promptserver.application.port.in.LoginHistoryQueryUseCase;
+import com.gongdel.promptserver.domain.login.LoginHistory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(LoginHistoryQueryController.class)
+@AutoConfigureMockMvc(addFilters = false)
+class LoginHistoryQueryControllerTest extends BaseControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private LoginHistoryQueryUseCase loginHistoryQueryUseCase;
+
+    @Test
+    @DisplayName("현재 사용자의 최근 로그인 이력을 반환한다")
+    void getRecentLoginHistories_returnsCurrentUserHistories() throws Exception {
+        // Given
+        LoginHistory history = LoginHistory.create(1L, "203.0.113.7", "JUnit", LoginHistory.LoginStatus.FAILED);
+        when(loginHistoryQueryUseCase.getRecentLoginHistories(1L, 5)).thenReturn(List.of(history));
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/users/me/login-history").param("limit", "5"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(1))
+            .andExpect(jsonPath("$[0].id").value(history.getLoginHistoryId().getValue().toString()))
+            .andExpect(jsonPath("$[0].ipAddress").value("203.0.113.7"))
+            .andExpect(jsonPath("$[0].userAgent").value("JUnit"))
+            .andExpect(jsonPath("$[0].status").value("FAILED"));
+    }
+
+    @Test
+    @DisplayName("limit이 없으면 기본 20건을 조회한다")
+    void getRecentLoginHistories_withoutLimit_usesDefault() throws Exception {
+        // Given
+        when(loginHistoryQueryUseCase.getRecentLoginHistories(1L, 20)).thenReturn(List.of());
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/users/me/login-history"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(0));
+        verify(loginHistoryQueryUseCase).getRecentLoginHistories(1L, 20);
+    }
+}
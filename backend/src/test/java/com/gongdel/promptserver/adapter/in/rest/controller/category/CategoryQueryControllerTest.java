@@ -12,12 +12,15 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.util.List;
 import java.util.Optional;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -131,4 +134,28 @@ class CategoryQueryControllerTest extends BaseControllerTest {
         mockMvc.perform(get("/api/v1/categories/1/subcategories"))
             .andExpect(status().isNotFound());
     }
+
+    @Test
+    @DisplayName("카테고리 목록 조회 - 카탈로그 버전을 ETag로 응답한다")
+    void getAllCategories_withETag() throws Exception {
+        Category c1 = new Category(1L, "test1", "테스트1", "설명1", null, false, null, null);
+        Mockito.when(categoryQueryUseCase.getCatalogVersion()).thenReturn("v1");
+        Mockito.when(categoryQueryUseCase.getAllCategories()).thenReturn(List.of(c1));
+
+        mockMvc.perform(get("/api/v1/categories"))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, "\"v1\""));
+    }
+
+    @Test
+    @DisplayName("카테고리 목록 조회 - If-None-Match가 현재 버전과 같으면 304를 반환한다")
+    void getAllCategories_notModified() throws Exception {
+        Category c1 = new Category(1L, "test1", "테스트1", "설명1", null, false, null, null);
+        Mockito.when(categoryQueryUseCase.getCatalogVersion()).thenReturn("v1");
+        Mockito.when(categoryQueryUseCase.getAllCategories()).thenReturn(List.of(c1));
+
+        mockMvc.perform(get("/api/v1/categories").header(HttpHeaders.IF_NONE_MATCH, "\"v1\""))
+            .andExpect(status().isNotModified())
+            .andExpect(content().string(""));
+    }
 }
@@ -0,0 +1,177 @@
+package com.gongdel.promptserver.adapter.in.rest.controller.dashboard;
+
+import com.gongdel.promptserver.adapter.in.rest.BaseControllerTest;
+import com.gongdel.promptserver.application.port.in.CategoryStatisticsQueryUseCase;
+import com.gongdel.promptserver.application.port.in.PromptDashboardQueryUseCase;
+import com.gongdel.promptserver.application.port.in.PromptStatisticsQueryUseCase;
+import com.gongdel.promptserver.application.port.in.TeamMemberStatisticsQueryUseCase;
+import com.gongdel.promptserver.application.port.in.UserStatisticsQueryUseCase;
+import com.gongdel.promptserver.application.port.in.ViewStatisticsQueryUseCase;
+import com.gongdel.promptserver.application.port.in.query.FavoriteQueryUseCase;
+import com.gongdel.promptserver.domain.model.statistics.CategoryPromptCount;
+import com.gongdel.promptserver.domain.statistics.ComparisonPeriod;
+import com.gongdel.promptserver.domain.statistics.ComparisonResult;
+import com.gongdel.promptserver.domain.statistics.FavoriteStatistics;
+import com.gongdel.promptserver.domain.statistics.PromptStatistics;
+import com.gongdel.promptserver.domain.statistics.UserStatistics;
+import com.gongdel.promptserver.domain.view.ViewStatistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(value = DashboardSummaryController.class,
+    properties = "dashboard.summary.widget-timeout-millis=300")
+@AutoConfigureMockMvc(addFilters = false)
+@Import(DashboardSummaryControllerTest.ExecutorConfig.class)
+class DashboardSummaryControllerTest extends BaseControllerTest {
+
+    @TestConfiguration
+    static class ExecutorConfig {
+        @Bean(name = "dashboardExecutor")
+        Executor dashboardExecutor() {
+            return Executors.newFixedThreadPool(8);
+        }
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private PromptStatisticsQueryUseCase promptStatisticsQueryUseCase;
+    @MockBean
+    private UserStatisticsQueryUseCase userStatisticsQueryUseCase;
+    @MockBean
+    private FavoriteQueryUseCase favoriteQueryUseCase;
+    @MockBean
+    private TeamMemberStatisticsQueryUseCase teamMemberStatisticsQueryUseCase;
+    @MockBean
+    private ViewStatisticsQueryUseCase viewStatisticsQueryUseCase;
+    @MockBean
+    private CategoryStatisticsQueryUseCase categoryStatisticsQueryUseCase;
+    @MockBean
+    private PromptDashboardQueryUseCase promptDashboardQueryUseCase;
+
+    private final ComparisonPeriod period = new ComparisonPeriod(
+        LocalDateTime.of(2024, 6, 1, 0, 0), LocalDateTime.of(2024, 6, 8, 0, 0));
+    private final ComparisonResult result = ComparisonResult.of(10, 5);
+
+    @BeforeEach
+    void givenWidgets() {
+        when(promptStatisticsQueryUseCase.getPromptStatistics(any()))
+            .thenReturn(new PromptStatistics(100, period, result));
+        when(userStatisticsQueryUseCase.getUserStatistics(any()))
+            .thenReturn(new UserStatistics(50, period, result));
+        when(favoriteQueryUseCase.getFavoriteStatistics(any()))
+            .thenReturn(new FavoriteStatistics(30, period, result));
+        when(teamMemberStatisticsQueryUseCase.getTotalActiveMemberCount()).thenReturn(24L);
+        when(viewStatisticsQueryUseCase.getViewStatistics(any()))
+            .thenReturn(new ViewStatistics(3891, period, result));
+        when(categoryStatisticsQueryUseCase.getRootCategoryPromptCounts())
+            .thenReturn(List.of(new CategoryPromptCount(1L, "Backend", 7L)));
+        when(promptDashboardQueryUseCase.getRecentPrompts(anyInt())).thenReturn(List.of());
+    }
+
+    @Nested
+    @DisplayName("대시보드 요약 조회 API")
+    class GetDashboardSummary {
+
+        @Test
+        @DisplayName("모든 위젯 결과를 한 번에 반환한다")
+        void givenAllWidgetsLoaded_whenGetSummary_thenReturnsAllWidgets() throws Exception {
+            // When & Then
+            mockMvc.perform(get("/api/v1/dashboard/summary")
+                    .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.promptStatistics.totalCount").value(100))
+                .andExpect(jsonPath("$.userStatistics.totalCount").value(50))
+                .andExpect(jsonPath("$.favoriteStatistics.totalCount").value(30))
+                .andExpect(jsonPath("$.teamMemberStatistics.totalMemberCount").value(24))
+                .andExpect(jsonPath("$.weeklyViewStatistics.thisWeekViewCount").value(10))
+                .andExpect(jsonPath("$.rootCategoryStatistics.categories[0].categoryName").value("Backend"))
+                .andExpect(jsonPath("$.recentPrompts").isArray())
+                .andExpect(jsonPath("$.unavailableWidgets").isEmpty());
+        }
+
+        @Test
+        @DisplayName("제한 시간을 넘긴 위젯만 비우고 나머지 결과를 반환한다")
+        void givenSlowWidget_whenGetSummary_thenReturnsPartialResult() throws Exception {
+            // Given
+            when(userStatisticsQueryUseCase.getUserStatistics(any())).thenAnswer(invocation -> {
+                Thread.sleep(2_000);
+                return new UserStatistics(50, period, result);
+            });
+
+            // When & Then
+            mockMvc.perform(get("/api/v1/dashboard/summary")
+                    .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.promptStatistics.totalCount").value(100))
+                .andExpect(jsonPath("$.userStatistics").isEmpty())
+                .andExpect(jsonPath("$.unavailableWidgets[0]").value("userStatistics"));
+        }
+
+        @Test
+        @DisplayName("제한 시간을 넘긴 위젯 작업은 인터럽트하여 취소한다")
+        void givenSlowWidget_whenGetSummary_thenInterruptsWidget() throws Exception {
+            // Given
+            CountDownLatch interrupted = new CountDownLatch(1);
+            when(userStatisticsQueryUseCase.getUserStatistics(any())).thenAnswer(invocation -> {
+                try {
+                    Thread.sleep(5_000);
+                } catch (InterruptedException e) {
+                    interrupted.countDown();
+                    throw e;
+                }
+                return new UserStatistics(50, period, result);
+            });
+
+            // When
+            mockMvc.perform(get("/api/v1/dashboard/summary")
+                    .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.unavailableWidgets[0]").value("userStatistics"));
+
+            // Then
+            assertThat(interrupted.await(1, TimeUnit.SECONDS)).isTrue();
+        }
+
+        @Test
+        @DisplayName("실패한 위젯은 비우고 나머지 결과를 반환한다")
+        void givenFailingWidget_whenGetSummary_thenReturnsPartialResult() throws Exception {
+            // Given
+            when(favoriteQueryUseCase.getFavoriteStatistics(any())).thenThrow(new IllegalStateException("db down"));
+
+            // When & Then
+            mockMvc.perform(get("/api/v1/dashboard/summary")
+                    .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.teamMemberStatistics.totalMemberCount").value(24))
+                .andExpect(jsonPath("$.unavailableWidgets[0]").value("favoriteStatistics"));
+        }
+    }
+}
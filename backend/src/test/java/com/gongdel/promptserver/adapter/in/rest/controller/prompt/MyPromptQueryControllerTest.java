@@ -18,6 +18,7 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -286,6 +287,53 @@ class MyPromptQueryControllerTest extends BaseControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("scrollMyFavoritePrompts()")
+    class ScrollMyFavoritePrompts {
+        @Test
+        @DisplayName("다음 페이지가 있으면 마지막 즐겨찾기 ID를 nextCursor로 반환한다")
+        void givenHasNext_whenScrollMyFavoritePrompts_thenReturnsNextCursor() throws Exception {
+            // Given
+            FavoritePromptResult result = FavoritePromptResult.builder()
+                .favoriteId(42L)
+                .promptId(1L)
+                .promptUuid(UUID.randomUUID())
+                .title("favorite")
+                .visibility(com.gongdel.promptserver.domain.model.Visibility.PUBLIC)
+                .status(PromptStatus.PUBLISHED)
+                .promptCreatedAt(java.time.LocalDateTime.now())
+                .promptUpdatedAt(java.time.LocalDateTime.now())
+                .favoriteCreatedAt(java.time.LocalDateTime.now())
+                .stats(new PromptStats(100, 50))
+                .build();
+            SliceImpl<FavoritePromptResult> slice = new SliceImpl<>(Collections.singletonList(result),
+                PageRequest.of(0, 1), true);
+            when(currentUserProvider.getCurrentUserId()).thenReturn(1L);
+            when(favoriteQueryUseCase.scrollFavorites(any(FavoriteSearchCondition.class))).thenReturn(slice);
+
+            // When & Then
+            mockMvc.perform(get("/api/v1/prompts/my/favorites/scroll")
+                    .param("cursor", "50")
+                    .param("size", "1")
+                    .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].title").value("favorite"))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.nextCursor").value(42));
+        }
+
+        @Test
+        @DisplayName("size가 0이면 400 Bad Request를 반환한다")
+        void givenZeroSize_whenScrollMyFavoritePrompts_thenBadRequest() throws Exception {
+            // When & Then
+            mockMvc.perform(get("/api/v1/prompts/my/favorites/scroll")
+                    .param("size", "0")
+                    .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Page size must be greater than zero"));
+        }
+    }
+
     @Nested
     @DisplayName("getMyFavoriteCount()")
     class GetMyFavoriteCount {
@@ -0,0 +1,122 @@
+package com.gongdel.promptserver.adapter.in.rest.controller.prompt;
+
+import com.gongdel.promptserver.adapter.in.rest.BaseControllerTest;
+import com.gongdel.promptserver.application.port.in.PromptExportUseCase;
+import com.gongdel.promptserver.domain.model.PromptExportCondition;
+import com.gongdel.promptserver.domain.model.PromptExportRow;
+import com.gongdel.promptserver.domain.model.PromptStatus;
+import com.gongdel.promptserver.domain.model.Visibility;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(PromptExportController.class)
+@AutoConfigureMockMvc(addFilters = false)
+class PromptExportControllerTest extends BaseControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private PromptExportUseCase promptExportUseCase;
+
+    private static final List<PromptExportRow> ROWS = List.of(
+        PromptExportRow.builder()
+            .id(1L).uuid(UUID.randomUUID()).title("첫째").description("설명, 쉼표 포함")
+            .categoryName("AI").visibility(Visibility.PUBLIC).status(PromptStatus.PUBLISHED)
+            .versionNumber(2).content("줄1\n\"인용\"").tags(List.of("a", "b"))
+            .createdAt(LocalDateTime.of(2024, 1, 1, 0, 0)).updatedAt(LocalDateTime.of(2024, 1, 2, 0, 0))
+            .build(),
+        PromptExportRow.builder()
+            .id(2L).uuid(UUID.randomUUID()).title("둘째").visibility(Visibility.PRIVATE)
+            .status(PromptStatus.DRAFT).versionNumber(1).content("내용")
+            .build());
+
+    @SuppressWarnings("unchecked")
+    private void givenRowsExported() {
+        when(promptExportUseCase.exportPrompts(any(), any())).thenAnswer(invocation -> {
+            Consumer<PromptExportRow> consumer = invocation.getArgument(1);
+            ROWS.forEach(consumer);
+            return (long) ROWS.size();
+        });
+    }
+
+    @Test
+    @DisplayName("기본 형식(NDJSON)으로 행마다 한 줄의 JSON을 기록한다")
+    void exportPrompts_ndjson() throws Exception {
+        // given
+        givenRowsExported();
+
+        // when
+        String body = mockMvc.perform(get("/api/v1/prompts:export"))
+            .andExpect(status().isOk())
+            .andExpect(header().string("Content-Type", org.hamcrest.Matchers.startsWith("application/x-ndjson")))
+            .andReturn().getResponse().getContentAsString();
+
+        // then
+        List<String> lines = body.lines().toList();
+        assertThat(lines).hasSize(2);
+        assertThat(lines.get(0)).contains("\"title\":\"첫째\"", "\"tags\":[\"a\",\"b\"]", "\"versionNumber\":2");
+        assertThat(lines.get(1)).contains("\"title\":\"둘째\"", "\"tags\":[]");
+        assertThat(body).endsWith("\n");
+    }
+
+    @Test
+    @DisplayName("CSV 형식은 헤더와 이스케이프된 데이터 행을 기록하고 필터를 조건으로 전달한다")
+    void exportPrompts_csvWithFilters() throws Exception {
+        // given
+        givenRowsExported();
+
+        // when
+        String body = mockMvc.perform(get("/api/v1/prompts:export")
+                .param("format", "csv")
+                .param("categoryId", "3")
+                .param("status", "PUBLISHED")
+                .param("createdFrom", "2024-01-01")
+                .param("createdTo", "2024-01-31"))
+            .andExpect(status().isOk())
+            .andExpect(header().string("Content-Type", org.hamcrest.Matchers.startsWith("text/csv")))
+            .andReturn().getResponse().getContentAsString();
+
+        // then
+        String[] records = body.split("\r\n");
+        assertThat(records[0]).isEqualTo(
+            "uuid,title,description,category,visibility,status,versionNumber,content,tags,createdAt,updatedAt");
+        assertThat(records[1]).contains("첫째,\"설명, 쉼표 포함\",AI,PUBLIC,PUBLISHED,2,\"줄1\n\"\"인용\"\"\",a|b,2024-01-01T00:00");
+        assertThat(records).hasSize(3);
+
+        ArgumentCaptor<PromptExportCondition> captor = ArgumentCaptor.forClass(PromptExportCondition.class);
+        verify(promptExportUseCase).exportPrompts(captor.capture(), any());
+        PromptExportCondition condition = captor.getValue();
+        assertThat(condition.getRequesterId()).isEqualTo(1L);
+        assertThat(condition.getCategoryId()).isEqualTo(3L);
+        assertThat(condition.getStatus()).isEqualTo(PromptStatus.PUBLISHED);
+        assertThat(condition.getCreatedFrom()).isEqualTo(LocalDateTime.of(2024, 1, 1, 0, 0));
+        assertThat(condition.getCreatedTo()).isEqualTo(LocalDateTime.of(2024, 2, 1, 0, 0));
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 형식이면 400을 반환한다")
+    void exportPrompts_unsupportedFormat() throws Exception {
+        mockMvc.perform(get("/api/v1/prompts:export").param("format", "xml"))
+            .andExpect(status().isBadRequest());
+        verifyNoInteractions(promptExportUseCase);
+    }
+}
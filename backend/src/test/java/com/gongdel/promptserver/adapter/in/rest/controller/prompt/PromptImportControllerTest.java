@@ -0,0 +1,157 @@
+package com.gongdel.promptserver.adapter.in.rest.controller.prompt;
+
+import com.gongdel.promptserver.adapter.in.rest.BaseControllerTest;
+import com.gongdel.promptserver.application.port.in.PromptImportUseCase;
+import com.gongdel.promptserver.application.port.in.command.ImportPromptLine;
+import com.gongdel.promptserver.application.port.in.result.ImportPromptLineResult;
+import com.gongdel.promptserver.domain.exception.PromptOperationException;
+import com.gongdel.promptserver.domain.exception.PromptErrorType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(PromptImportController.class)
+@AutoConfigureMockMvc(addFilters = false)
+class PromptImportControllerTest extends BaseControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private PromptImportUseCase promptImportUseCase;
+
+    private static String validLine(String title) {
+        return "{\"title\":\"" + title + "\",\"description\":\"설명\",\"content\":\"내용\","
+            + "\"categoryId\":1,\"visibility\":\"PUBLIC\",\"status\":\"DRAFT\",\"tags\":[\"tag1\"]}";
+    }
+
+    private static List<ImportPromptLineResult> successes(List<ImportPromptLine> lines) {
+        return lines.stream()
+            .map(line -> ImportPromptLineResult.success(line.getLineNumber(), UUID.randomUUID()))
+            .toList();
+    }
+
+    @Test
+    @DisplayName("NDJSON 줄을 청크로 나누어 등록하고 줄별 결과를 NDJSON으로 반환한다")
+    void importPrompts_streamsResultsPerLine() throws Exception {
+        // given
+        int total = PromptImportController.CHUNK_SIZE + 2;
+        String body = IntStream.rangeClosed(1, total)
+            .mapToObj(i -> validLine("프롬프트 " + i))
+            .collect(Collectors.joining("\n"));
+        when(promptImportUseCase.importChunk(anyList()))
+            .thenAnswer(invocation -> successes(invocation.getArgument(0)));
+
+        // when
+        String response = mockMvc.perform(post("/api/v1/prompts:import")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content(body))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsString();
+
+        // then
+        List<String> lines = response.lines().toList();
+        assertThat(lines).hasSize(total);
+        assertThat(lines).allMatch(line -> line.contains("\"status\":\"SUCCESS\""));
+        assertThat(lines.get(0)).contains("\"line\":1");
+        verify(promptImportUseCase).importChunk(argThat(chunk -> chunk.size() == PromptImportController.CHUNK_SIZE));
+        verify(promptImportUseCase).importChunk(argThat(chunk -> chunk.size() == 2));
+    }
+
+    @Test
+    @DisplayName("형식이 잘못되었거나 필수값이 없는 줄은 유스케이스에 전달하지 않고 실패로 보고한다")
+    void importPrompts_reportsMalformedLines() throws Exception {
+        // given
+        String body = String.join("\n",
+            validLine("정상"),
+            "{not json",
+            "",
+            "{\"description\":\"제목 없음\",\"content\":\"내용\",\"categoryId\":1,"
+                + "\"visibility\":\"PUBLIC\",\"status\":\"DRAFT\"}");
+        when(promptImportUseCase.importChunk(anyList()))
+            .thenAnswer(invocation -> successes(invocation.getArgument(0)));
+
+        // when
+        String response = mockMvc.perform(post("/api/v1/prompts:import")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content(body))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsString();
+
+        // then
+        List<String> lines = response.lines().toList();
+        assertThat(lines).hasSize(3);
+        assertThat(lines.get(0)).contains("\"line\":1", "SUCCESS");
+        assertThat(lines.get(1)).contains("\"line\":2", "FAILED", "Malformed JSON");
+        assertThat(lines.get(2)).contains("\"line\":4", "FAILED", "Title is required");
+        verify(promptImportUseCase).importChunk(argThat(chunk -> chunk.size() == 1));
+    }
+
+    @Test
+    @DisplayName("청크 트랜잭션이 실패하면 줄 단위로 재시도하여 문제 줄만 실패로 보고한다")
+    void importPrompts_retriesLineByLineWhenChunkFails() throws Exception {
+        // given
+        String body = String.join("\n", validLine("첫째"), validLine("둘째"), validLine("셋째"));
+        when(promptImportUseCase.importChunk(anyList())).thenAnswer(invocation -> {
+            List<ImportPromptLine> chunk = invocation.getArgument(0);
+            if (chunk.stream().anyMatch(line -> line.getLineNumber() == 2)) {
+                throw new PromptOperationException(PromptErrorType.PERSISTENCE_ERROR, "constraint violation");
+            }
+            return successes(chunk);
+        });
+
+        // when
+        String response = mockMvc.perform(post("/api/v1/prompts:import")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content(body))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsString();
+
+        // then
+        List<String> lines = response.lines().toList();
+        assertThat(lines).hasSize(3);
+        assertThat(lines.get(0)).contains("SUCCESS");
+        assertThat(lines.get(1)).contains("FAILED", "constraint violation");
+        assertThat(lines.get(2)).contains("SUCCESS");
+        verify(promptImportUseCase, times(4)).importChunk(anyList());
+    }
+
+    @Test
+    @DisplayName("tags가 null인 줄은 태그 없이 등록한다")
+    void importPrompts_treatsNullTagsAsEmpty() throws Exception {
+        // given
+        String body = "{\"title\":\"태그 없음\",\"description\":\"설명\",\"content\":\"내용\","
+            + "\"categoryId\":1,\"visibility\":\"PUBLIC\",\"status\":\"DRAFT\",\"tags\":null}";
+        when(promptImportUseCase.importChunk(anyList()))
+            .thenAnswer(invocation -> successes(invocation.getArgument(0)));
+
+        // when
+        String response = mockMvc.perform(post("/api/v1/prompts:import")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content(body))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsString();
+
+        // then
+        assertThat(response).contains("\"line\":1", "SUCCESS");
+        verify(promptImportUseCase).importChunk(argThat(chunk -> chunk.size() == 1
+            && chunk.get(0).getCommand().getTags().isEmpty()));
+    }
+}
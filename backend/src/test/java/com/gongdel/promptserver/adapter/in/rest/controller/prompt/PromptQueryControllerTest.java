@@ -10,6 +10,7 @@ import com.gongdel.promptserver.domain.user.UserId;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
@@ -25,7 +26,11 @@ import java.util.Collections;
 import java.util.Optional;
 import java.util.UUID;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
@@ -182,5 +187,28 @@ class PromptQueryControllerTest extends BaseControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.content[0].title").value("테스트 프롬프트"));
         }
+
+        @Test
+        @DisplayName("includeDescendants 파라미터를 검색 조건에 전달하고 기본값은 false")
+        void searchPromptsAdvanced_includeDescendants() throws Exception {
+            when(promptsQueryUseCase.searchPrompts(any()))
+                .thenReturn(new PageImpl<>(Collections.emptyList(), PageRequest.of(0, 20), 0));
+
+            mockMvc.perform(get("/api/v1/prompts/advanced-search")
+                    .param("categoryId", "1")
+                    .param("includeDescendants", "true"))
+                .andExpect(status().isOk());
+            mockMvc.perform(get("/api/v1/prompts/advanced-search")
+                    .param("categoryId", "1"))
+                .andExpect(status().isOk());
+
+            ArgumentCaptor<PromptSearchCondition> captor = ArgumentCaptor.forClass(PromptSearchCondition.class);
+            verify(promptsQueryUseCase, times(2)).searchPrompts(captor.capture());
+            assertThat(captor.getAllValues())
+                .extracting(PromptSearchCondition::getCategoryId, PromptSearchCondition::isIncludeDescendants)
+                .containsExactly(
+                    tuple(1L, true),
+                    tuple(1L, false));
+        }
     }
 }
@@ -0,0 +1,132 @@
+package com.gongdel.promptserver.adapter.in.rest.controller.prompt;
+
+import com.gongdel.promptserver.adapter.in.rest.BaseControllerTest;
+import com.gongdel.promptserver.application.exception.PromptVersionNotFoundException;
+import com.gongdel.promptserver.application.port.in.query.FindPromptVersionsUseCase;
+import com.gongdel.promptserver.application.port.in.query.GetPromptVersionDiffUseCase;
+import com.gongdel.promptserver.application.port.in.query.GetPromptVersionUseCase;
+import com.gongdel.promptserver.application.port.in.result.PromptVersionDiffResult;
+import com.gongdel.promptserver.domain.model.PromptContentDiff;
+import com.gongdel.promptserver.application.port.in.result.PromptVersionHistoryResult;
+import com.gongdel.promptserver.domain.model.PromptVersion;
+import com.gongdel.promptserver.domain.model.PromptVersionActionType;
+import com.gongdel.promptserver.domain.model.PromptVersionSummary;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(PromptVersionQueryController.class)
+@AutoConfigureMockMvc(addFilters = false)
+class PromptVersionQueryControllerTest extends BaseControllerTest {
+
+    private static final UUID PROMPT_UUID = UUID.randomUUID();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private FindPromptVersionsUseCase findPromptVersionsUseCase;
+
+    @MockBean
+    private GetPromptVersionUseCase getPromptVersionUseCase;
+
+    @MockBean
+    private GetPromptVersionDiffUseCase getPromptVersionDiffUseCase;
+
+    private static PromptVersionSummary summary(int versionNumber) {
+        return PromptVersionSummary.builder()
+            .id((long) versionNumber).uuid(UUID.randomUUID()).versionNumber(versionNumber)
+            .actionType(PromptVersionActionType.EDIT).createdById(1L).authorName("작성자")
+            .createdAt(LocalDateTime.of(2024, 1, 1, 0, 0))
+            .build();
+    }
+
+    @Test
+    @DisplayName("버전 이력을 본문 없이 요약과 다음 커서로 반환한다")
+    void getVersionHistory_returnsSummariesWithCursor() throws Exception {
+        // given
+        List<PromptVersionSummary> fetched = IntStream.of(30, 29, 28).mapToObj(n -> summary(n)).toList();
+        when(findPromptVersionsUseCase.findHistory(PROMPT_UUID, 31, 2))
+            .thenReturn(PromptVersionHistoryResult.of(fetched, 2));
+
+        // when & then
+        mockMvc.perform(get("/api/v1/prompts/{id}/versions", PROMPT_UUID).param("before", "31").param("size", "2"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.versions.length()").value(2))
+            .andExpect(jsonPath("$.versions[0].versionNumber").value(30))
+            .andExpect(jsonPath("$.versions[0].authorName").value("작성자"))
+            .andExpect(jsonPath("$.versions[0].content").doesNotExist())
+            .andExpect(jsonPath("$.hasNext").value(true))
+            .andExpect(jsonPath("$.nextCursor").value(29));
+    }
+
+    @Test
+    @DisplayName("선택한 버전은 본문과 함께 반환한다")
+    void getVersion_returnsContent() throws Exception {
+        // given
+        UUID versionUuid = UUID.randomUUID();
+        PromptVersion version = PromptVersion.builder()
+            .id(3L).uuid(versionUuid).promptTemplateId(1L).versionNumber(3).content("버전 본문")
+            .createdById(1L).actionType(PromptVersionActionType.EDIT).createdAt(LocalDateTime.now())
+            .build();
+        when(getPromptVersionUseCase.getByPromptUuidAndUuid(PROMPT_UUID, versionUuid)).thenReturn(version);
+
+        // when & then
+        mockMvc.perform(get("/api/v1/prompts/{id}/versions/{versionUuid}", PROMPT_UUID, versionUuid))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.id").value(versionUuid.toString()))
+            .andExpect(jsonPath("$.content").value("버전 본문"));
+    }
+
+    @Test
+    @DisplayName("프롬프트에 없는 버전이면 404를 반환한다")
+    void getVersion_notFound() throws Exception {
+        // given
+        UUID versionUuid = UUID.randomUUID();
+        when(getPromptVersionUseCase.getByPromptUuidAndUuid(PROMPT_UUID, versionUuid))
+            .thenThrow(new PromptVersionNotFoundException(versionUuid));
+
+        // when & then
+        mockMvc.perform(get("/api/v1/prompts/{id}/versions/{versionUuid}", PROMPT_UUID, versionUuid))
+            .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("버전 차이를 줄 단위 연산 목록으로 반환한다")
+    void getVersionDiff_returnsOperations() throws Exception {
+        // given
+        UUID versionUuid = UUID.randomUUID();
+        UUID againstUuid = UUID.randomUUID();
+        when(getPromptVersionDiffUseCase.getDiff(PROMPT_UUID, versionUuid, againstUuid))
+            .thenReturn(PromptVersionDiffResult.builder()
+                .fromVersionUuid(againstUuid).fromVersionNumber(1)
+                .toVersionUuid(versionUuid).toVersionNumber(3)
+                .diff(PromptContentDiff.between("a\nb\nc", "a\nx\nc"))
+                .build());
+
+        // when & then
+        mockMvc.perform(get("/api/v1/prompts/{id}/versions/{versionUuid}/diff", PROMPT_UUID, versionUuid)
+                .param("against", againstUuid.toString()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.fromVersionNumber").value(1))
+            .andExpect(jsonPath("$.addedLines").value(1))
+            .andExpect(jsonPath("$.removedLines").value(1))
+            .andExpect(jsonPath("$.operations[0].type").value("EQUAL"))
+            .andExpect(jsonPath("$.operations[1].lines[0]").value("b"))
+            .andExpect(jsonPath("$.operations[2].lines[0]").value("x"));
+    }
+}
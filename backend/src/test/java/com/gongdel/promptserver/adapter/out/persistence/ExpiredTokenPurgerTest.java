@@ -0,0 +1,91 @@
+package com.gongdel.promptserver.adapter.out.persistence;
+
+import com.gongdel.promptserver.adapter.out.persistence.repository.RefreshTokenRepository;
+import com.gongdel.promptserver.adapter.out.persistence.repository.TokenBlacklistRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ExpiredTokenPurger 테스트")
+class ExpiredTokenPurgerTest {
+
+    @Mock
+    private TokenBlacklistRepository tokenBlacklistRepository;
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ExpiredTokenPurger purger;
+
+    @BeforeEach
+    void setUp() {
+        purger = new ExpiredTokenPurger(tokenBlacklistRepository, refreshTokenRepository, transactionTemplate,
+            stringRedisTemplate, meterRegistry);
+        ReflectionTestUtils.setField(purger, "chunkSize", 2);
+        ReflectionTestUtils.setField(purger, "pauseMillis", 0L);
+        ReflectionTestUtils.setField(purger, "lockTtlMinutes", 10L);
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+    }
+
+    @Test
+    @DisplayName("락을 잡으면 삭제할 행이 청크보다 적어질 때까지 청크 단위로 삭제하고 지표를 기록한다")
+    void givenLockAcquired_whenPurge_thenDeletesInChunksAndRecordsMetrics() {
+        // Given
+        when(valueOperations.setIfAbsent(eq(ExpiredTokenPurger.LOCK_KEY), anyString(), eq(10L), eq(TimeUnit.MINUTES)))
+            .thenReturn(true);
+        when(transactionTemplate.execute(any()))
+            .thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        when(tokenBlacklistRepository.deleteExpiredChunk(any(LocalDateTime.class), eq(2))).thenReturn(2, 2, 1);
+        when(refreshTokenRepository.deleteExpiredChunk(any(LocalDateTime.class), eq(2))).thenReturn(0);
+
+        // When
+        purger.purgeExpiredTokens();
+
+        // Then
+        verify(tokenBlacklistRepository, times(3)).deleteExpiredChunk(any(LocalDateTime.class), eq(2));
+        verify(refreshTokenRepository, times(1)).deleteExpiredChunk(any(LocalDateTime.class), eq(2));
+        assertThat(meterRegistry.get(ExpiredTokenPurger.DELETED_METRIC).tag("table", "token_blacklist").counter()
+            .count()).isEqualTo(5);
+        assertThat(meterRegistry.get(ExpiredTokenPurger.DURATION_METRIC).timer().count()).isEqualTo(1);
+        verify(stringRedisTemplate).execute(any(RedisScript.class), eq(List.of(ExpiredTokenPurger.LOCK_KEY)),
+            anyString());
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 락을 잡고 있으면 삭제하지 않는다")
+    void givenLockHeldElsewhere_whenPurge_thenSkips() {
+        // Given
+        when(valueOperations.setIfAbsent(anyString(), anyString(), anyLong(), any(TimeUnit.class))).thenReturn(false);
+
+        // When
+        purger.purgeExpiredTokens();
+
+        // Then
+        verifyNoInteractions(transactionTemplate, tokenBlacklistRepository, refreshTokenRepository);
+    }
+}
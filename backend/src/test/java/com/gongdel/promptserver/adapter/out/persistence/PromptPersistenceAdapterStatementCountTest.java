@@ -0,0 +1,183 @@
+package com.gongdel.promptserver.adapter.out.persistence;
+
+import com.gongdel.promptserver.adapter.out.persistence.config.JpaConfig;
+import com.gongdel.promptserver.adapter.out.persistence.config.QuerydslConfig;
+import com.gongdel.promptserver.adapter.out.persistence.entity.TagEntity;
+import com.gongdel.promptserver.adapter.out.persistence.mapper.PromptTemplateMapperImpl;
+import com.gongdel.promptserver.adapter.out.persistence.mapper.PromptVersionMapperImpl;
+import com.gongdel.promptserver.adapter.out.persistence.repository.TagRepository;
+import com.gongdel.promptserver.domain.model.*;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import net.ttddyy.dsproxy.QueryCount;
+import net.ttddyy.dsproxy.QueryCountHolder;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * 프롬프트 등록 쓰기 경로의 SQL 실행 횟수를 datasource-proxy로 측정하는 테스트입니다.
+ * Docker가 없는 환경에서는 건너뜁니다.
+ */
+@DataJpaTest
+@Testcontainers(disabledWithoutDocker = true)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({
+    PromptPersistenceAdapter.class,
+    PromptVersionIdAllocator.class,
+    PromptVersionContentStore.class,
+    PromptTemplateMapperImpl.class,
+    PromptVersionMapperImpl.class,
+    JpaConfig.class,
+    QuerydslConfig.class,
+    PromptPersistenceAdapterStatementCountTest.DataSourceProxyConfig.class
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PromptPersistenceAdapterStatementCountTest {
+
+    private static final String DATA_SOURCE_NAME = "statement-count";
+    private static final long SYSTEM_USER_ID = 1L;
+
+    /**
+     * 실행된 INSERT 문 (배치 실행은 한 건으로 기록하고 묶인 행 수를 함께 보관)
+     */
+    private static final List<InsertExecution> INSERTS = new CopyOnWriteArrayList<>();
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15");
+
+    @DynamicPropertySource
+    static void datasourceProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    @Autowired
+    PromptPersistenceAdapter promptPersistenceAdapter;
+    @Autowired
+    TagRepository tagRepository;
+
+    Set<Tag> tags;
+    String suffix;
+
+    @BeforeEach
+    void setUp() {
+        suffix = UUID.randomUUID().toString();
+        tags = tagRepository.saveAll(List.of(
+                TagEntity.create(null, "tag-a-" + suffix),
+                TagEntity.create(null, "tag-b-" + suffix)))
+            .stream()
+            .map(TagEntity::toDomain)
+            .collect(Collectors.toSet());
+        QueryCountHolder.clear();
+        INSERTS.clear();
+    }
+
+    @Test
+    @DisplayName("프롬프트 등록 시 템플릿·본문 블롭·버전·태그 관계를 각각 한 번의 INSERT 실행으로 저장한다")
+    void givenNewPrompt_whenSaveWithInitialVersion_thenEachRowIsWrittenOnce() {
+        // Given
+        PromptTemplate template = PromptTemplate.newTemplateForInitialRegistration(
+            "statement count", "description", SYSTEM_USER_ID, Visibility.PUBLIC, null, PromptStatus.PUBLISHED,
+            tags);
+
+        // When
+        PromptTemplate saved = promptPersistenceAdapter.savePromptWithInitialVersion(template,
+            promptTemplateId -> PromptVersion.builder()
+                .promptTemplateId(promptTemplateId)
+                .uuid(UUID.randomUUID())
+                .versionNumber(1)
+                .content("content " + suffix)
+                .changes("프롬프트 템플릿 최초 생성")
+                .createdById(SYSTEM_USER_ID)
+                .createdAt(LocalDateTime.now())
+                .actionType(PromptVersionActionType.CREATE)
+                .build());
+
+        // Then
+        QueryCount queryCount = QueryCountHolder.get(DATA_SOURCE_NAME);
+        assertThat(saved.getId()).isNotNull();
+        assertThat(saved.getCurrentVersionId()).isNotNull();
+        assertThat(saved.getTags()).hasSize(2);
+        // prompt_templates, content_blobs, prompt_versions, prompt_template_tags(배치 1회)
+        assertThat(queryCount.getInsert()).isEqualTo(4);
+        assertThat(queryCount.getUpdate()).isZero();
+        assertThat(queryCount.getDelete()).isZero();
+        assertThat(INSERTS)
+            .extracting(InsertExecution::table, InsertExecution::rows)
+            .containsExactlyInAnyOrder(
+                tuple("prompt_templates", 1),
+                tuple("content_blobs", 1),
+                tuple("prompt_versions", 1),
+                tuple("prompt_template_tags", 2));
+    }
+
+    private record InsertExecution(String table, int rows) {
+
+        static InsertExecution of(String sql, boolean batch, int batchSize) {
+            String normalized = sql.trim().toLowerCase(Locale.ROOT).replaceAll("\\s+", " ");
+            String table = normalized.substring("insert into ".length()).split("[ (]")[0];
+            return new InsertExecution(table, batch ? batchSize : 1);
+        }
+    }
+
+    @TestConfiguration
+    static class DataSourceProxyConfig {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        static BeanPostProcessor dataSourceProxyBeanPostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+                        return ProxyDataSourceBuilder.create(dataSource)
+                            .name(DATA_SOURCE_NAME)
+                            .countQuery()
+                            .afterQuery((execInfo, queryInfoList) -> queryInfoList.stream()
+                                .map(QueryInfo::getQuery)
+                                .filter(sql -> sql.trim().toLowerCase(Locale.ROOT).startsWith("insert"))
+                                .forEach(sql -> INSERTS.add(
+                                    InsertExecution.of(sql, execInfo.isBatch(), execInfo.getBatchSize()))))
+                            .build();
+                    }
+                    return bean;
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,293 @@
+package com.gongdel.promptserver.adapter.out.persistence;
+
+import com.gongdel.promptserver.adapter.out.persistence.entity.ContentBlobEntity;
+import com.gongdel.promptserver.adapter.out.persistence.entity.PromptTemplateEntity;
+import com.gongdel.promptserver.adapter.out.persistence.entity.PromptVersionEntity;
+import com.gongdel.promptserver.adapter.out.persistence.entity.PromptVersionEntity.StorageType;
+import com.gongdel.promptserver.adapter.out.persistence.mapper.PromptVersionMapper;
+import com.gongdel.promptserver.adapter.out.persistence.repository.ContentBlobRepository;
+import com.gongdel.promptserver.adapter.out.persistence.repository.PromptVersionRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@DisplayName("PromptVersionContentStore 테스트")
+@ExtendWith(MockitoExtension.class)
+class PromptVersionContentStoreTest {
+
+    private static final long TEMPLATE_ID = 1L;
+    private static final String BASE_CONTENT = IntStream.range(0, 50)
+        .mapToObj(i -> "line " + i).collect(Collectors.joining("\n"));
+
+    @Mock
+    PromptVersionRepository promptVersionRepository;
+    @Mock
+    ContentBlobRepository contentBlobRepository;
+    @Mock
+    PromptVersionMapper promptVersionMapper;
+
+    SimpleMeterRegistry meterRegistry;
+    PromptVersionContentStore store;
+    Map<String, String> blobs;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        store = new PromptVersionContentStore(promptVersionRepository, contentBlobRepository, promptVersionMapper,
+            meterRegistry);
+        // 저장된 블롭을 메모리에 보관하는 content_blobs 대역
+        blobs = new HashMap<>();
+        lenient().when(contentBlobRepository.findExistingHashes(anyCollection())).thenAnswer(invocation -> {
+            Collection<String> hashes = invocation.getArgument(0);
+            Set<String> existing = new HashSet<>(hashes);
+            existing.retainAll(blobs.keySet());
+            return existing;
+        });
+        lenient().when(contentBlobRepository.save(any(ContentBlobEntity.class))).thenAnswer(invocation -> {
+            ContentBlobEntity blob = invocation.getArgument(0);
+            blobs.put(blob.getSha256(), blob.getContent());
+            return blob;
+        });
+        lenient().when(contentBlobRepository.findById(any())).thenAnswer(invocation -> Optional.ofNullable(
+            blobs.get(invocation.<String>getArgument(0))).map(content -> ContentBlobEntity.of(
+            invocation.getArgument(0), content)));
+    }
+
+    private static PromptVersionEntity version(long id, int versionNumber, String content) {
+        PromptVersionEntity entity = new PromptVersionEntity(id);
+        entity.setPromptTemplate(new PromptTemplateEntity(TEMPLATE_ID));
+        entity.setVersionNumber(versionNumber);
+        entity.setContent(content);
+        return entity;
+    }
+
+    private static String edited(int revision) {
+        return BASE_CONTENT.replace("line 25", "revision " + revision);
+    }
+
+    @Test
+    @DisplayName("직전 버전이 없으면 스냅샷으로 저장한다")
+    void encode_firstVersion_storesSnapshot() {
+        // Given
+        PromptVersionEntity first = version(10L, 1, BASE_CONTENT);
+        given(promptVersionRepository.findFirstByPromptTemplateIdAndVersionNumberLessThanOrderByVersionNumberDesc(
+            TEMPLATE_ID, 1)).willReturn(Optional.empty());
+
+        // When
+        store.encode(first);
+
+        // Then
+        assertThat(first.getStorageType()).isEqualTo(StorageType.SNAPSHOT);
+        assertThat(first.getContent()).isNull();
+        assertThat(first.getContentHash()).hasSize(64);
+        assertThat(blobs).containsEntry(first.getContentHash(), BASE_CONTENT);
+        assertThat(first.getContentDelta()).isNull();
+    }
+
+    @Test
+    @DisplayName("같은 본문의 블롭이 이미 있으면 블롭을 다시 쓰지 않고 참조하며 중복 제거 비율에 반영한다")
+    void encode_identicalContent_reusesBlob() {
+        // Given
+        PromptVersionEntity first = version(10L, 1, BASE_CONTENT);
+        PromptVersionEntity second = version(11L, 2, BASE_CONTENT);
+        given(promptVersionRepository.findFirstByPromptTemplateIdAndVersionNumberLessThanOrderByVersionNumberDesc(
+            TEMPLATE_ID, 1)).willReturn(Optional.empty());
+        given(promptVersionRepository.findFirstByPromptTemplateIdAndVersionNumberLessThanOrderByVersionNumberDesc(
+            TEMPLATE_ID, 2)).willReturn(Optional.of(first));
+
+        // When
+        store.encode(first);
+        store.encode(second);
+
+        // Then
+        assertThat(second.getStorageType()).isEqualTo(StorageType.SNAPSHOT);
+        assertThat(second.getContentHash()).isEqualTo(first.getContentHash());
+        then(contentBlobRepository).should(times(1)).save(any(ContentBlobEntity.class));
+        assertThat(meterRegistry.get(PromptVersionContentStore.DEDUP_RATIO_METRIC).gauge().value()).isEqualTo(0.5);
+    }
+
+    @Test
+    @DisplayName("최초 버전 목록은 블롭 존재 여부를 한 번에 확인하고 목록 안의 같은 본문은 한 번만 저장한다")
+    void encodeSnapshots_checksExistingBlobsOnce() {
+        // Given
+        PromptVersionEntity a = version(10L, 1, "same body");
+        PromptVersionEntity b = version(11L, 1, "same body");
+        PromptVersionEntity c = version(12L, 1, "other body");
+
+        // When
+        store.encodeSnapshots(List.of(a, b, c));
+
+        // Then
+        then(contentBlobRepository).should(times(1)).findExistingHashes(anyCollection());
+        ArgumentCaptor<ContentBlobEntity> saved = ArgumentCaptor.forClass(ContentBlobEntity.class);
+        then(contentBlobRepository).should(times(2)).save(saved.capture());
+        assertThat(saved.getAllValues()).extracting(ContentBlobEntity::getContent)
+            .containsExactly("same body", "other body");
+        assertThat(a.getContentHash()).isEqualTo(b.getContentHash()).isNotEqualTo(c.getContentHash());
+        assertThat(store.contentOf(b)).isEqualTo("same body");
+    }
+
+    @Test
+    @DisplayName("직전 버전과 거의 같은 내용은 델타로 저장하고, 복원 시 캐시를 사용한다")
+    void encode_smallEdit_storesDeltaAndMaterializesFromCache() {
+        // Given
+        PromptVersionEntity first = version(10L, 1, BASE_CONTENT);
+        PromptVersionEntity second = version(11L, 2, edited(1));
+        given(promptVersionRepository.findFirstByPromptTemplateIdAndVersionNumberLessThanOrderByVersionNumberDesc(
+            TEMPLATE_ID, 2)).willReturn(Optional.of(first));
+
+        // When
+        store.encode(second);
+
+        // Then
+        assertThat(second.getStorageType()).isEqualTo(StorageType.DELTA);
+        assertThat(second.getBaseVersionId()).isEqualTo(10L);
+        assertThat(second.getContent()).isNull();
+        assertThat(second.getContentDelta().length()).isLessThan(edited(1).length());
+        assertThat(store.contentOf(second)).isEqualTo(edited(1));
+        then(promptVersionRepository).should(never()).findById(anyLong());
+    }
+
+    @Test
+    @DisplayName("캐시에 없는 델타 버전은 스냅샷까지 기준 버전을 거슬러 올라가 복원한다")
+    void contentOf_uncachedDelta_walksChainToSnapshot() {
+        // Given
+        PromptVersionEntity snapshot = version(10L, 1, null);
+        snapshot.setStorageType(StorageType.SNAPSHOT);
+        snapshot.setContentHash("hash-10");
+        blobs.put("hash-10", BASE_CONTENT);
+        PromptVersionEntity middle = version(11L, 2, null);
+        middle.setStorageType(StorageType.DELTA);
+        middle.setBaseVersionId(10L);
+        middle.setContentDelta(PromptVersionDeltaCodec.diff(BASE_CONTENT, edited(1)));
+        PromptVersionEntity latest = version(12L, 3, null);
+        latest.setStorageType(StorageType.DELTA);
+        latest.setBaseVersionId(11L);
+        latest.setContentDelta(PromptVersionDeltaCodec.diff(edited(1), edited(2)));
+        given(promptVersionRepository.findById(11L)).willReturn(Optional.of(middle));
+        given(promptVersionRepository.findById(10L)).willReturn(Optional.of(snapshot));
+
+        // When
+        String content = store.contentOf(latest);
+        String cached = store.contentOf(middle);
+
+        // Then
+        assertThat(content).isEqualTo(edited(2));
+        assertThat(cached).isEqualTo(edited(1));
+        then(promptVersionRepository).should().findById(11L);
+        then(promptVersionRepository).should().findById(10L);
+    }
+
+    @Test
+    @DisplayName("기존 인라인 행을 다시 인코딩하면 스냅샷 간격마다 블롭 스냅샷을 두고 나머지는 델타로 저장하며 내용은 보존된다")
+    void reencode_placesSnapshotEveryInterval() {
+        // Given
+        int total = PromptVersionContentStore.SNAPSHOT_INTERVAL * 2 + 1;
+        List<PromptVersionEntity> versions = new ArrayList<>();
+        for (int i = 0; i < total; i++) {
+            versions.add(version(100L + i, i + 1, edited(i)));
+        }
+
+        // When
+        store.reencode(versions);
+
+        // Then
+        for (int i = 0; i < total; i++) {
+            StorageType expected = i % PromptVersionContentStore.SNAPSHOT_INTERVAL == 0
+                ? StorageType.SNAPSHOT : StorageType.DELTA;
+            assertThat(versions.get(i).getStorageType()).as("version %d", i + 1).isEqualTo(expected);
+        }
+        Map<Long, String> contents = store.contentsOf(versions);
+        for (int i = 0; i < total; i++) {
+            assertThat(contents.get(100L + i)).isEqualTo(edited(i));
+        }
+        then(promptVersionRepository).should(never()).findById(anyLong());
+    }
+
+    @Test
+    @DisplayName("기준 버전을 수정·삭제하기 전에 의존하는 델타 버전을 스냅샷으로 바꾼다")
+    void detachDependents_convertsDeltasToSnapshots() {
+        // Given
+        PromptVersionEntity base = version(10L, 1, BASE_CONTENT);
+        PromptVersionEntity dependent = version(11L, 2, null);
+        dependent.setStorageType(StorageType.DELTA);
+        dependent.setBaseVersionId(10L);
+        dependent.setContentDelta(PromptVersionDeltaCodec.diff(BASE_CONTENT, edited(1)));
+        given(promptVersionRepository.findAllByBaseVersionId(10L)).willReturn(List.of(dependent));
+        given(promptVersionRepository.findById(10L)).willReturn(Optional.of(base));
+
+        // When
+        store.detachDependents(10L);
+
+        // Then
+        assertThat(dependent.getStorageType()).isEqualTo(StorageType.SNAPSHOT);
+        assertThat(blobs).containsEntry(dependent.getContentHash(), edited(1));
+        assertThat(dependent.getBaseVersionId()).isNull();
+        assertThat(dependent.getContentDelta()).isNull();
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 인코딩한 내용은 커밋 이후에만 캐시하고 롤백되면 캐시하지 않는다")
+    void encode_inTransaction_cachesOnlyAfterCommit() {
+        // Given
+        PromptVersionEntity first = version(10L, 1, BASE_CONTENT);
+        PromptVersionEntity second = version(11L, 2, edited(1));
+        given(promptVersionRepository.findFirstByPromptTemplateIdAndVersionNumberLessThanOrderByVersionNumberDesc(
+            TEMPLATE_ID, 2)).willReturn(Optional.of(first));
+        given(promptVersionRepository.findById(10L)).willReturn(Optional.of(first));
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // When
+            store.encode(second);
+            TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // Then
+        assertThat(store.contentOf(second)).isEqualTo(edited(1));
+        then(promptVersionRepository).should().findById(10L);
+    }
+
+    @Test
+    @DisplayName("캐시된 버전이 다른 곳에서 수정되어 저장 형태가 바뀌면 캐시를 쓰지 않고 다시 읽는다")
+    void contentOf_changedStorage_ignoresStaleCacheEntry() {
+        // Given
+        PromptVersionEntity snapshot = version(10L, 1, null);
+        snapshot.setStorageType(StorageType.SNAPSHOT);
+        snapshot.setContentHash("hash-old");
+        blobs.put("hash-old", BASE_CONTENT);
+        blobs.put("hash-new", edited(1));
+        store.contentOf(snapshot);
+
+        // When
+        PromptVersionEntity reloaded = version(10L, 1, null);
+        reloaded.setStorageType(StorageType.SNAPSHOT);
+        reloaded.setContentHash("hash-new");
+
+        // Then
+        assertThat(store.contentOf(reloaded)).isEqualTo(edited(1));
+    }
+}
@@ -0,0 +1,81 @@
+package com.gongdel.promptserver.adapter.out.persistence;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("PromptVersionDeltaCodec 테스트")
+class PromptVersionDeltaCodecTest {
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+        "a\\nb\\nc|a\\nb\\nc",
+        "a\\nb\\nc|a\\nx\\nc",
+        "a\\nb\\nc|a\\nb\\nc\\n",
+        "a\\nb\\nc|b\\nc\\nd\\ne",
+        "''|new content",
+        "old content|''",
+        "line\\r\\nwindows|line\\r\\nunix"
+    })
+    @DisplayName("생성한 델타를 이전 내용에 적용하면 대상 내용과 정확히 일치한다")
+    void diffAndApply_roundTrip(String base, String target) {
+        // Given
+        String from = base.replace("\\n", "\n").replace("\\r", "\r");
+        String to = target.replace("\\n", "\n").replace("\\r", "\r");
+
+        // When
+        String delta = PromptVersionDeltaCodec.diff(from, to);
+
+        // Then
+        assertThat(PromptVersionDeltaCodec.apply(from, delta)).isEqualTo(to);
+    }
+
+    @Test
+    @DisplayName("긴 내용에서 한 줄만 바뀌면 델타는 변경된 줄만 담는다")
+    void diff_singleLineChange_isSmall() {
+        // Given
+        String base = IntStream.range(0, 200).mapToObj(i -> "line " + i).collect(Collectors.joining("\n"));
+        String target = base.replace("line 100", "changed line");
+
+        // When
+        String delta = PromptVersionDeltaCodec.diff(base, target);
+
+        // Then
+        assertThat(delta).isEqualTo("=100\n-1\n+1\nchanged line\n=99");
+        assertThat(PromptVersionDeltaCodec.apply(base, delta)).isEqualTo(target);
+    }
+
+    @Test
+    @DisplayName("편집 거리가 한도를 넘으면 구간 전체를 교체하는 델타로도 복원된다")
+    void diff_largeChangedRegion_fallsBackToReplace() {
+        // Given
+        String base = IntStream.range(0, 600).mapToObj(i -> "a" + i).collect(Collectors.joining("\n"));
+        String target = IntStream.range(0, 600).mapToObj(i -> "b" + i).collect(Collectors.joining("\n"));
+
+        // When
+        String delta = PromptVersionDeltaCodec.diff(base, target);
+
+        // Then
+        assertThat(delta).startsWith("-600\n+600\n");
+        assertThat(PromptVersionDeltaCodec.apply(base, delta)).isEqualTo(target);
+    }
+
+    @Test
+    @DisplayName("이전 내용과 맞지 않는 델타는 예외를 던진다")
+    void apply_mismatchedBase_throws() {
+        // Given
+        String delta = PromptVersionDeltaCodec.diff("a\nb\nc", "a\nb\nd");
+
+        // When & Then
+        assertThatThrownBy(() -> PromptVersionDeltaCodec.apply("a", delta))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("Corrupted prompt version delta");
+    }
+}
@@ -0,0 +1,81 @@
+package com.gongdel.promptserver.adapter.out.persistence;
+
+import com.gongdel.promptserver.adapter.out.persistence.repository.PromptVersionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PromptVersionDeltaCompactor 테스트")
+class PromptVersionDeltaCompactorTest {
+
+    @Mock
+    private PromptVersionRepository promptVersionRepository;
+    @Mock
+    private PromptVersionContentStore promptVersionContentStore;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+    @InjectMocks
+    private PromptVersionDeltaCompactor compactor;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(compactor, "lockTtlMinutes", 30L);
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+    }
+
+    @Test
+    @DisplayName("락을 잡으면 변환 대상이 없을 때까지 청크 단위로 변환하고 락을 해제한다")
+    void givenLockAcquired_whenConvert_thenConvertsUntilNothingLeft() {
+        // Given
+        when(valueOperations.setIfAbsent(eq(PromptVersionDeltaCompactor.LOCK_KEY), anyString(), eq(30L),
+            eq(TimeUnit.MINUTES))).thenReturn(true);
+        when(transactionTemplate.execute(any()))
+            .thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        when(promptVersionRepository.findTemplateIdsWithUnconvertedVersions(PromptVersionDeltaCompactor.CHUNK_SIZE))
+            .thenReturn(List.of(1L), List.of());
+
+        // When
+        compactor.convertLegacyVersions();
+
+        // Then
+        verify(promptVersionRepository, times(2))
+            .findTemplateIdsWithUnconvertedVersions(PromptVersionDeltaCompactor.CHUNK_SIZE);
+        verify(promptVersionRepository).findAllByPromptTemplateIdsOrdered(List.of(1L));
+        verify(stringRedisTemplate).execute(any(RedisScript.class),
+            eq(List.of(PromptVersionDeltaCompactor.LOCK_KEY)), anyString());
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 락을 잡고 있으면 변환하지 않는다")
+    void givenLockHeld_whenConvert_thenSkips() {
+        // Given
+        when(valueOperations.setIfAbsent(anyString(), anyString(), anyLong(), any())).thenReturn(false);
+
+        // When
+        compactor.convertLegacyVersions();
+
+        // Then
+        verifyNoInteractions(transactionTemplate, promptVersionRepository);
+    }
+}
@@ -1,6 +1,7 @@
 package com.gongdel.promptserver.adapter.out.persistence.command;
 
 import com.gongdel.promptserver.adapter.out.persistence.entity.CategoryEntity;
+import com.gongdel.promptserver.adapter.out.persistence.repository.CategoryClosureRepository;
 import com.gongdel.promptserver.adapter.out.persistence.repository.JpaCategoryRepository;
 import com.gongdel.promptserver.domain.exception.CategoryErrorType;
 import com.gongdel.promptserver.domain.exception.CategoryNotFoundDomainException;
@@ -32,6 +33,9 @@ class CategoryCommandAdapterTest {
     @Mock
     private JpaCategoryRepository jpaCategoryRepository;
 
+    @Mock
+    private CategoryClosureRepository categoryClosureRepository;
+
     @InjectMocks
     private CategoryCommandAdapter categoryCommandAdapter;
 
@@ -139,6 +143,12 @@ class CategoryCommandAdapterTest {
             assertThat(savedCategory.isSystem()).isFalse();
             assertThat(savedCategory.getParentCategory()).isNotNull();
             assertThat(savedCategory.getParentCategory().getId()).isEqualTo(parentCategory.getId());
+
+            // 클로저 경로 검증
+            var inOrder = inOrder(categoryClosureRepository);
+            inOrder.verify(categoryClosureRepository).lockHierarchy();
+            inOrder.verify(categoryClosureRepository).insertSelfPath(categoryId);
+            inOrder.verify(categoryClosureRepository).attachSubtree(categoryId, parentCategory.getId());
         }
 
         @Test
@@ -305,6 +315,59 @@ class CategoryCommandAdapterTest {
                 .isEqualTo(CategoryErrorType.NOT_FOUND);
         }
 
+        @Test
+        @DisplayName("상위 카테고리가 바뀌면 하위 트리를 분리한 뒤 새 상위 아래에 연결한다")
+        void updateCategory_WithParentChange_ShouldMoveSubtree() {
+            // given
+            when(jpaCategoryRepository.existsById(categoryId)).thenReturn(true);
+            when(jpaCategoryRepository.save(any(CategoryEntity.class))).thenReturn(categoryEntity);
+            when(categoryClosureRepository.existsByAncestorIdAndDescendantIdAndDepth(parentCategory.getId(), categoryId, 1))
+                .thenReturn(false);
+
+            // when
+            categoryCommandAdapter.updateCategory(category);
+
+            // then
+            var inOrder = inOrder(categoryClosureRepository);
+            inOrder.verify(categoryClosureRepository).lockHierarchy();
+            inOrder.verify(categoryClosureRepository).existsByAncestorIdAndDescendantId(categoryId, parentCategory.getId());
+            inOrder.verify(categoryClosureRepository).detachSubtree(categoryId);
+            inOrder.verify(categoryClosureRepository).attachSubtree(categoryId, parentCategory.getId());
+        }
+
+        @Test
+        @DisplayName("상위 카테고리가 그대로면 클로저 경로를 바꾸지 않는다")
+        void updateCategory_WithSameParent_ShouldNotTouchClosure() {
+            // given
+            when(jpaCategoryRepository.existsById(categoryId)).thenReturn(true);
+            when(jpaCategoryRepository.save(any(CategoryEntity.class))).thenReturn(categoryEntity);
+            when(categoryClosureRepository.existsByAncestorIdAndDescendantIdAndDepth(parentCategory.getId(), categoryId, 1))
+                .thenReturn(true);
+
+            // when
+            categoryCommandAdapter.updateCategory(category);
+
+            // then
+            verify(categoryClosureRepository, never()).detachSubtree(anyLong());
+            verify(categoryClosureRepository, never()).attachSubtree(anyLong(), anyLong());
+        }
+
+        @Test
+        @DisplayName("자신의 하위 카테고리를 상위로 지정하면 순환 참조 예외가 발생한다")
+        void updateCategory_WithDescendantAsParent_ShouldThrowException() {
+            // given
+            when(jpaCategoryRepository.existsById(categoryId)).thenReturn(true);
+            when(categoryClosureRepository.existsByAncestorIdAndDescendantId(categoryId, parentCategory.getId()))
+                .thenReturn(true);
+
+            // when, then
+            assertThatThrownBy(() -> categoryCommandAdapter.updateCategory(category))
+                .isInstanceOf(CategoryOperationException.class)
+                .extracting("errorType")
+                .isEqualTo(CategoryErrorType.CIRCULAR_REFERENCE);
+            verify(jpaCategoryRepository, never()).save(any(CategoryEntity.class));
+        }
+
         @Test
         @DisplayName("null 카테고리를 업데이트하면 예외가 발생한다")
         void updateCategory_WithNullCategory_ShouldThrowException() {
@@ -403,7 +466,10 @@ class CategoryCommandAdapterTest {
             categoryCommandAdapter.deleteCategory(categoryIdToDelete);
 
             // then
-            verify(jpaCategoryRepository).deleteById(categoryIdToDelete);
+            var inOrder = inOrder(categoryClosureRepository, jpaCategoryRepository);
+            inOrder.verify(categoryClosureRepository).lockHierarchy();
+            inOrder.verify(categoryClosureRepository).detachSubtree(categoryIdToDelete);
+            inOrder.verify(jpaCategoryRepository).deleteById(categoryIdToDelete);
         }
 
         @Test
@@ -0,0 +1,173 @@
+package com.gongdel.promptserver.adapter.out.persistence.command;
+
+import com.gongdel.promptserver.domain.login.LoginHistory;
+import com.gongdel.promptserver.domain.user.Email;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LoginHistoryBatchWriter 테스트")
+class LoginHistoryBatchWriterTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private LoginHistoryBatchWriter writer(int queueCapacity, int batchSize) {
+        return new LoginHistoryBatchWriter(jdbcTemplate, meterRegistry, queueCapacity, batchSize);
+    }
+
+    private LoginHistory history(long userId) {
+        return LoginHistory.create(userId, "127.0.0.1", "JUnit", LoginHistory.LoginStatus.SUCCESS);
+    }
+
+    private double counter(String name, String reason) {
+        return reason == null
+            ? meterRegistry.get(name).counter().count()
+            : meterRegistry.get(name).tag("reason", reason).counter().count();
+    }
+
+    @Nested
+    @DisplayName("recordLogin(LoginHistory) 메서드는")
+    class RecordLoginTest {
+        @Test
+        @DisplayName("저장하지 않고 대기열에만 넣는다")
+        void givenHistory_whenRecord_thenOnlyQueues() {
+            // Given
+            LoginHistoryBatchWriter writer = writer(10, 5);
+            // When
+            writer.recordLogin(history(1L));
+            // Then
+            verifyNoInteractions(jdbcTemplate);
+            assertThat(meterRegistry.get(LoginHistoryBatchWriter.QUEUE_SIZE_METRIC).gauge().value()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("대기열이 가득 차면 예외 없이 버리고 지표를 남긴다")
+        void givenFullQueue_whenRecord_thenDropsWithoutException() {
+            // Given
+            LoginHistoryBatchWriter writer = writer(1, 5);
+            writer.recordLogin(history(1L));
+            // When
+            writer.recordLogin(history(2L));
+            // Then
+            assertThat(counter(LoginHistoryBatchWriter.DROPPED_METRIC, "queue_full")).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("flush() 메서드는")
+    class FlushTest {
+        @Test
+        @SuppressWarnings("unchecked")
+        @DisplayName("대기열을 batch-size 단위의 JDBC 배치로 저장한다")
+        void givenQueuedHistories_whenFlush_thenWritesInBatches() {
+            // Given
+            LoginHistoryBatchWriter writer = writer(10, 2);
+            for (long userId = 1; userId <= 5; userId++) {
+                writer.recordLogin(history(userId));
+            }
+            when(jdbcTemplate.batchUpdate(eq(LoginHistoryBatchWriter.INSERT_SQL), anyList(), anyInt(),
+                any(ParameterizedPreparedStatementSetter.class)))
+                .thenReturn(new int[][]{{1, 1}}, new int[][]{{1, 1}}, new int[][]{{1}});
+            // When
+            writer.flush();
+            // Then
+            verify(jdbcTemplate, times(2)).batchUpdate(eq(LoginHistoryBatchWriter.INSERT_SQL), anyList(), eq(2),
+                any(ParameterizedPreparedStatementSetter.class));
+            verify(jdbcTemplate).batchUpdate(eq(LoginHistoryBatchWriter.INSERT_SQL), anyList(), eq(1),
+                any(ParameterizedPreparedStatementSetter.class));
+            assertThat(counter(LoginHistoryBatchWriter.WRITTEN_METRIC, null)).isEqualTo(5);
+        }
+
+        @Test
+        @SuppressWarnings("unchecked")
+        @DisplayName("실패한 로그인은 이메일로 사용자를 찾는 INSERT로 저장하고 삽입된 행만 집계한다")
+        void givenFailedLogins_whenFlush_thenWritesByEmail() {
+            // Given
+            LoginHistoryBatchWriter writer = writer(10, 5);
+            writer.recordLogin(history(1L));
+            writer.recordFailedLogin(new Email("user@example.com"), "127.0.0.1", "JUnit");
+            writer.recordFailedLogin(new Email("unknown@example.com"), "127.0.0.1", "JUnit");
+            when(jdbcTemplate.batchUpdate(eq(LoginHistoryBatchWriter.INSERT_SQL), anyList(), eq(1),
+                any(ParameterizedPreparedStatementSetter.class))).thenReturn(new int[][]{{1}});
+            when(jdbcTemplate.batchUpdate(eq(LoginHistoryBatchWriter.INSERT_BY_EMAIL_SQL), anyList(), eq(2),
+                any(ParameterizedPreparedStatementSetter.class))).thenReturn(new int[][]{{1, 0}});
+            // When
+            writer.flush();
+            // Then
+            verify(jdbcTemplate).batchUpdate(eq(LoginHistoryBatchWriter.INSERT_BY_EMAIL_SQL), anyList(), eq(2),
+                any(ParameterizedPreparedStatementSetter.class));
+            assertThat(counter(LoginHistoryBatchWriter.WRITTEN_METRIC, null)).isEqualTo(2);
+        }
+
+        @Test
+        @SuppressWarnings("unchecked")
+        @DisplayName("DB 연결 오류로 저장에 실패하면 남은 이력을 버리고 지표를 남긴다")
+        void givenWriteFailure_whenFlush_thenDropsBatch() {
+            // Given
+            LoginHistoryBatchWriter writer = writer(10, 5);
+            writer.recordLogin(history(1L));
+            writer.recordLogin(history(2L));
+            when(jdbcTemplate.batchUpdate(anyString(), anyList(), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .thenThrow(new DataAccessResourceFailureException("down"));
+            when(jdbcTemplate.update(anyString(), any(PreparedStatementSetter.class)))
+                .thenThrow(new DataAccessResourceFailureException("down"));
+            // When
+            writer.flush();
+            // Then
+            verify(jdbcTemplate, times(1)).update(anyString(), any(PreparedStatementSetter.class));
+            assertThat(counter(LoginHistoryBatchWriter.DROPPED_METRIC, "write_failed")).isEqualTo(2);
+            assertThat(meterRegistry.get(LoginHistoryBatchWriter.QUEUE_SIZE_METRIC).gauge().value()).isZero();
+        }
+
+        @Test
+        @SuppressWarnings("unchecked")
+        @DisplayName("배치 중 한 행이 제약 조건을 위반하면 한 건씩 다시 저장하고 그 행만 버린다")
+        void givenConstraintViolation_whenFlush_thenRetriesRowByRow() {
+            // Given
+            LoginHistoryBatchWriter writer = writer(10, 5);
+            writer.recordLogin(history(1L));
+            writer.recordLogin(history(2L));
+            writer.recordLogin(history(3L));
+            when(jdbcTemplate.batchUpdate(anyString(), anyList(), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .thenThrow(new DataIntegrityViolationException("fk"));
+            when(jdbcTemplate.update(anyString(), any(PreparedStatementSetter.class)))
+                .thenReturn(1)
+                .thenThrow(new DataIntegrityViolationException("fk"))
+                .thenReturn(1);
+            // When
+            writer.flush();
+            // Then
+            verify(jdbcTemplate, times(3)).update(eq(LoginHistoryBatchWriter.INSERT_SQL), any(PreparedStatementSetter.class));
+            assertThat(counter(LoginHistoryBatchWriter.WRITTEN_METRIC, null)).isEqualTo(2);
+            assertThat(counter(LoginHistoryBatchWriter.DROPPED_METRIC, "write_failed")).isEqualTo(1);
+        }
+
+        @Test
+        @SuppressWarnings("unchecked")
+        @DisplayName("비어 있는 대기열은 저장하지 않는다")
+        void givenEmptyQueue_whenFlush_thenDoesNothing() {
+            // When
+            writer(10, 5).flush();
+            // Then
+            verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList(), anyInt(),
+                any(ParameterizedPreparedStatementSetter.class));
+        }
+    }
+}
@@ -2,6 +2,8 @@ package com.gongdel.promptserver.adapter.out.persistence.command;
 
 import com.gongdel.promptserver.application.port.out.command.BlacklistTokenPort;
 import com.gongdel.promptserver.application.port.out.command.DeleteRefreshTokenPort;
+import com.gongdel.promptserver.application.port.out.command.EvictAuthenticatedUserPort;
+import com.gongdel.promptserver.application.port.out.command.SaveTokenBlacklistPort;
 import com.gongdel.promptserver.domain.exception.InvalidJwtException;
 import com.gongdel.promptserver.domain.logout.LogoutToken;
 import com.gongdel.promptserver.domain.user.UserId;
@@ -28,9 +30,15 @@ class LogoutCommandAdapterTest {
     @Mock
     private BlacklistTokenPort blacklistTokenPort;
 
+    @Mock
+    private SaveTokenBlacklistPort saveTokenBlacklistPort;
+
     @Mock
     private DeleteRefreshTokenPort deleteRefreshTokenPort;
 
+    @Mock
+    private EvictAuthenticatedUserPort evictAuthenticatedUserPort;
+
     @InjectMocks
     private LogoutCommandAdapter logoutCommandAdapter;
 
@@ -63,7 +71,9 @@ class LogoutCommandAdapterTest {
 
             // Then
             verify(blacklistTokenPort).blacklistToken(tokenId, userId, expiresAt);
+            verify(saveTokenBlacklistPort).addToBlacklist(tokenId, expiresAt);
             verify(deleteRefreshTokenPort).deleteByUserId(userId);
+            verify(evictAuthenticatedUserPort).evictAuthenticatedUser(userId);
         }
 
         @Test
@@ -3,6 +3,7 @@ package com.gongdel.promptserver.adapter.out.persistence.command;
 import com.gongdel.promptserver.adapter.out.persistence.entity.UserEntity;
 import com.gongdel.promptserver.adapter.out.persistence.mapper.UserMapper;
 import com.gongdel.promptserver.adapter.out.persistence.repository.UserJpaRepository;
+import com.gongdel.promptserver.application.port.out.command.EvictAuthenticatedUserPort;
 import com.gongdel.promptserver.domain.exception.UserOperationException;
 import com.gongdel.promptserver.domain.user.Email;
 import com.gongdel.promptserver.domain.user.User;
@@ -34,6 +35,9 @@ class UserCommandAdapterTest {
     @Mock
     private UserMapper userMapper;
 
+    @Mock
+    private EvictAuthenticatedUserPort evictAuthenticatedUserPort;
+
     @InjectMocks
     private UserCommandAdapter userCommandAdapter;
 
@@ -121,7 +125,9 @@ class UserCommandAdapterTest {
         void givenValidUser_whenUpdateUser_thenReturnsUpdatedUser() {
             // Given
             Email email = new Email("test@example.com");
+            UserId userId = new UserId(UUID.randomUUID());
             when(mockUser.getEmail()).thenReturn(email);
+            when(mockUser.getUuid()).thenReturn(userId);
             when(userMapper.toEntity(any(User.class))).thenReturn(mockEntity);
             when(userJpaRepository.save(any(UserEntity.class))).thenReturn(updatedEntity);
             when(userMapper.toDomain(any(UserEntity.class))).thenReturn(mockUser);
@@ -135,6 +141,7 @@ class UserCommandAdapterTest {
             verify(userMapper).toEntity(mockUser);
             verify(userJpaRepository).save(mockEntity);
             verify(userMapper).toDomain(updatedEntity);
+            verify(evictAuthenticatedUserPort).evictAuthenticatedUser(userId);
         }
 
         @Test
@@ -184,6 +191,7 @@ class UserCommandAdapterTest {
 
             // Then
             verify(userJpaRepository).deleteByUuid(userId.getValue());
+            verify(evictAuthenticatedUserPort).evictAuthenticatedUser(userId);
         }
 
         @Test
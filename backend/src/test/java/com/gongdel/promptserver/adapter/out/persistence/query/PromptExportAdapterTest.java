@@ -0,0 +1,117 @@
+package com.gongdel.promptserver.adapter.out.persistence.query;
+
+import com.gongdel.promptserver.adapter.out.persistence.PromptVersionContentStore;
+import com.gongdel.promptserver.adapter.out.persistence.repository.PromptTemplateQueryRepository;
+import com.gongdel.promptserver.domain.model.PromptExportCondition;
+import com.gongdel.promptserver.domain.model.PromptExportRow;
+import com.gongdel.promptserver.domain.model.PromptStatus;
+import com.gongdel.promptserver.domain.model.Visibility;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@DisplayName("PromptExportAdapter 테스트")
+@ExtendWith(MockitoExtension.class)
+class PromptExportAdapterTest {
+
+    @Mock
+    private PromptTemplateQueryRepository promptTemplateQueryRepository;
+    @Mock
+    private PromptVersionContentStore promptVersionContentStore;
+
+    @InjectMocks
+    private PromptExportAdapter adapter;
+
+    private final PromptExportCondition condition = PromptExportCondition.builder().requesterId(1L).build();
+
+    private static PromptExportRow row(long id) {
+        return PromptExportRow.builder()
+            .id(id)
+            .uuid(UUID.randomUUID())
+            .title("title " + id)
+            .visibility(Visibility.PUBLIC)
+            .status(PromptStatus.PUBLISHED)
+            .versionNumber(1)
+            .content("content " + id)
+            .build();
+    }
+
+    @Test
+    @DisplayName("fetchSize 블록마다 태그를 한 번씩 조회하여 채운 뒤 순서대로 전달하고 커서를 닫는다")
+    void givenRowsOverOneBlock_whenExport_thenLoadsTagsPerBlockAndClosesCursor() {
+        // Given
+        int total = PromptExportAdapter.FETCH_SIZE + 3;
+        AtomicBoolean closed = new AtomicBoolean(false);
+        Stream<PromptExportRow> rows = LongStream.rangeClosed(1, total).mapToObj(PromptExportAdapterTest::row)
+            .onClose(() -> closed.set(true));
+        when(promptTemplateQueryRepository.streamForExport(condition, PromptExportAdapter.FETCH_SIZE))
+            .thenReturn(rows);
+        when(promptTemplateQueryRepository.findTagNamesByPromptIds(anyCollection()))
+            .thenAnswer(invocation -> {
+                Collection<Long> ids = invocation.getArgument(0);
+                Map<Long, List<String>> tags = new HashMap<>();
+                ids.stream().filter(id -> id % 2 == 0).forEach(id -> tags.put(id, List.of("even")));
+                return tags;
+            });
+        List<PromptExportRow> exported = new ArrayList<>();
+
+        // When
+        long count = adapter.exportPrompts(condition, exported::add);
+
+        // Then
+        assertThat(count).isEqualTo(total);
+        assertThat(exported).extracting(PromptExportRow::getId)
+            .containsExactlyElementsOf(LongStream.rangeClosed(1, total).boxed().toList());
+        assertThat(exported.get(0).getTags()).isEmpty();
+        assertThat(exported.get(1).getTags()).containsExactly("even");
+        verify(promptTemplateQueryRepository, times(2)).findTagNamesByPromptIds(anyCollection());
+        assertThat(closed).isTrue();
+    }
+
+    @Test
+    @DisplayName("현재 버전이 델타로 저장된 행은 블록 단위로 내용을 복원하여 전달한다")
+    void givenDeltaRows_whenExport_thenResolvesContentPerBlock() {
+        // Given
+        PromptExportRow snapshot = row(1);
+        PromptExportRow delta = row(2).toBuilder().versionId(20L).content(null).build();
+        when(promptTemplateQueryRepository.streamForExport(eq(condition), anyInt()))
+            .thenReturn(Stream.of(snapshot, delta));
+        when(promptVersionContentStore.contentsByIds(List.of(20L))).thenReturn(Map.of(20L, "restored"));
+        List<PromptExportRow> exported = new ArrayList<>();
+
+        // When
+        adapter.exportPrompts(condition, exported::add);
+
+        // Then
+        assertThat(exported).extracting(PromptExportRow::getContent).containsExactly("content 1", "restored");
+        verify(promptVersionContentStore, times(1)).contentsByIds(anyCollection());
+    }
+
+    @Test
+    @DisplayName("결과가 없으면 태그를 조회하지 않는다")
+    void givenNoRows_whenExport_thenSkipsTagLookup() {
+        // Given
+        when(promptTemplateQueryRepository.streamForExport(eq(condition), anyInt())).thenReturn(Stream.empty());
+
+        // When
+        long count = adapter.exportPrompts(condition, row -> {
+        });
+
+        // Then
+        assertThat(count).isZero();
+        verify(promptTemplateQueryRepository, never()).findTagNamesByPromptIds(anyCollection());
+    }
+}
@@ -1,11 +1,12 @@
 package com.gongdel.promptserver.adapter.out.persistence.query;
 
+import com.gongdel.promptserver.adapter.out.persistence.PromptVersionContentStore;
 import com.gongdel.promptserver.adapter.out.persistence.entity.*;
 import com.gongdel.promptserver.adapter.out.persistence.mapper.PromptTemplateMapper;
-import com.gongdel.promptserver.adapter.out.persistence.mapper.PromptVersionMapper;
 import com.gongdel.promptserver.adapter.out.persistence.mapper.UserMapper;
 import com.gongdel.promptserver.adapter.out.persistence.repository.*;
 import com.gongdel.promptserver.application.port.in.query.LoadPromptDetailQuery;
+import com.gongdel.promptserver.application.port.out.query.LoadUserPromptMembershipPort;
 import com.gongdel.promptserver.domain.exception.PromptErrorType;
 import com.gongdel.promptserver.domain.exception.PromptOperationException;
 import com.gongdel.promptserver.domain.model.*;
@@ -25,6 +26,7 @@ import java.util.UUID;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -37,15 +39,13 @@ class PromptLoadAdapterTest {
     @Mock
     PromptTemplateMapper promptTemplateMapper;
     @Mock
-    PromptVersionMapper promptVersionMapper;
-    @Mock
-    FavoriteRepository favoriteRepository;
+    PromptVersionContentStore promptVersionContentStore;
     @Mock
     UserMapper userMapper;
     @Mock
     PromptLikeCountRepository promptLikeCountRepository;
     @Mock
-    PromptLikeJpaRepository promptLikeJpaRepository;
+    LoadUserPromptMembershipPort loadUserPromptMembershipPort;
 
     @InjectMocks
     PromptLoadAdapter promptLoadAdapter;
@@ -202,9 +202,8 @@ class PromptLoadAdapterTest {
             when(promptTemplateJpaRepository.findByUuidWithRelations(uuid)).thenReturn(Optional.of(entity));
             when(promptTemplateMapper.toDomain(entity)).thenReturn(template);
             when(promptVersionRepository.findById(10L)).thenReturn(Optional.of(versionEntity));
-            when(promptVersionMapper.toDomain(versionEntity)).thenReturn(version);
-            when(favoriteRepository.existsByUserAndPromptTemplate(any(UserEntity.class),
-                any(PromptTemplateEntity.class)))
+            when(promptVersionContentStore.toDomain(versionEntity)).thenReturn(version);
+            when(loadUserPromptMembershipPort.isFavorite(eq(userId), any()))
                 .thenReturn(true);
 
             // When
@@ -215,6 +214,7 @@ class PromptLoadAdapterTest {
             assertThat(result.get().getId()).isEqualTo(uuid);
             assertThat(result.get().getTitle()).isEqualTo("title");
             assertThat(result.get().getTags()).contains("tag1");
+            assertThat(result.get().isFavorite()).isTrue();
         }
 
         @Test
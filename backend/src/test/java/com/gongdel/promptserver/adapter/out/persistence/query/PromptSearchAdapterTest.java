@@ -2,6 +2,7 @@ package com.gongdel.promptserver.adapter.out.persistence.query;
 
 import com.gongdel.promptserver.adapter.out.persistence.entity.*;
 import com.gongdel.promptserver.adapter.out.persistence.repository.*;
+import com.gongdel.promptserver.application.port.out.query.LoadUserPromptMembershipPort;
 import com.gongdel.promptserver.domain.exception.PromptErrorType;
 import com.gongdel.promptserver.domain.exception.PromptOperationException;
 import com.gongdel.promptserver.domain.model.PromptSearchCondition;
@@ -21,6 +22,7 @@ import org.springframework.data.domain.PageRequest;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -36,14 +38,11 @@ class PromptSearchAdapterTest {
     @Mock
     PromptTemplateQueryRepository promptTemplateQueryRepository;
 
-    @Mock
-    FavoriteRepository favoriteRepository;
-
     @Mock
     PromptLikeCountRepository promptLikeCountRepository;
 
     @Mock
-    PromptLikeJpaRepository promptLikeJpaRepository;
+    LoadUserPromptMembershipPort loadUserPromptMembershipPort;
 
     @InjectMocks
     PromptSearchAdapter promptSearchAdapter;
@@ -167,8 +166,8 @@ class PromptSearchAdapterTest {
 
             Page<PromptTemplateEntity> page = new PageImpl<>(List.of(entity), condition.getPageable(), 1);
             when(promptTemplateQueryRepository.searchPrompts(condition)).thenReturn(page);
-            when(favoriteRepository.findPromptTemplateIdsByUserIdAndPromptTemplateIdsIn(eq(99L), anyList()))
-                .thenReturn(List.of(1L));
+            when(loadUserPromptMembershipPort.findFavoritePromptIds(eq(99L), anyList()))
+                .thenReturn(Set.of(1L));
 
             // When
             Page<PromptSearchResult> result = promptSearchAdapter.searchPrompts(condition);
@@ -211,8 +210,8 @@ class PromptSearchAdapterTest {
 
             Page<PromptTemplateEntity> page = new PageImpl<>(List.of(entity), condition.getPageable(), 1);
             when(promptTemplateQueryRepository.searchPrompts(condition)).thenReturn(page);
-            when(favoriteRepository.findPromptTemplateIdsByUserIdAndPromptTemplateIdsIn(eq(99L), anyList()))
-                .thenReturn(List.of(2L)); // 즐겨찾기 미포함
+            when(loadUserPromptMembershipPort.findFavoritePromptIds(eq(99L), anyList()))
+                .thenReturn(Set.of(2L)); // 즐겨찾기 미포함
 
             // When
             Page<PromptSearchResult> result = promptSearchAdapter.searchPrompts(condition);
@@ -222,8 +221,8 @@ class PromptSearchAdapterTest {
         }
 
         @Test
-        @DisplayName("Given 즐겨찾기 repository가 null 반환, When 검색, Then isFavorite false")
-        void givenFavoriteRepositoryReturnsNull_whenSearch_thenIsFavoriteFalse() {
+        @DisplayName("Given 즐겨찾기한 프롬프트 없음, When 검색, Then isFavorite false")
+        void givenNoFavorites_whenSearch_thenIsFavoriteFalse() {
             // Given
             PromptSearchCondition condition = PromptSearchCondition.builder()
                 .userId(99L)
@@ -255,8 +254,8 @@ class PromptSearchAdapterTest {
 
             Page<PromptTemplateEntity> page = new PageImpl<>(List.of(entity), condition.getPageable(), 1);
             when(promptTemplateQueryRepository.searchPrompts(condition)).thenReturn(page);
-            when(favoriteRepository.findPromptTemplateIdsByUserIdAndPromptTemplateIdsIn(eq(99L), anyList()))
-                .thenReturn(null); // null 반환
+            when(loadUserPromptMembershipPort.findFavoritePromptIds(eq(99L), anyList()))
+                .thenReturn(Set.of()); // 즐겨찾기 없음
 
             // When
             Page<PromptSearchResult> result = promptSearchAdapter.searchPrompts(condition);
@@ -341,8 +340,8 @@ class PromptSearchAdapterTest {
             entity.setTagRelations(List.of(tagRel));
             Page<PromptTemplateEntity> page = new PageImpl<>(List.of(entity), condition.getPageable(), 1);
             when(promptTemplateQueryRepository.searchPrompts(condition)).thenReturn(page);
-            when(promptLikeJpaRepository.findPromptTemplateIdsLikedByUser(99L, List.of(1L)))
-                .thenReturn(List.of(1L));
+            when(loadUserPromptMembershipPort.findLikedPromptIds(99L, List.of(1L)))
+                .thenReturn(Set.of(1L));
             when(promptLikeCountRepository.findLikeCountsByPromptTemplateIds(List.of(1L)))
                 .thenReturn(List.of());
 
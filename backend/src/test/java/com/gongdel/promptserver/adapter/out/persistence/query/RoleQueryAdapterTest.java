@@ -14,6 +14,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.dao.DataAccessException;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.Arrays;
 import java.util.List;
@@ -37,72 +38,96 @@ class RoleQueryAdapterTest {
     @InjectMocks
     private RoleQueryAdapter roleQueryAdapter;
 
+    private RoleEntity userEntity;
+    private RoleEntity adminEntity;
+    private Role userRole;
+    private Role adminRole;
+
+    @BeforeEach
+    void setUp() {
+        userEntity = mock(RoleEntity.class);
+        adminEntity = mock(RoleEntity.class);
+        userRole = Role.builder().id(1L).name("ROLE_USER").build();
+        adminRole = Role.builder().id(2L).name("ROLE_ADMIN").build();
+    }
+
+    private void givenRoles() {
+        when(roleJpaRepository.findAll()).thenReturn(Arrays.asList(userEntity, adminEntity));
+        when(roleMapper.toDomain(userEntity)).thenReturn(userRole);
+        when(roleMapper.toDomain(adminEntity)).thenReturn(adminRole);
+    }
+
     @Nested
     @DisplayName("loadRoleById(Long) 메서드는")
     class LoadRoleByIdTest {
 
-        private Long roleId;
-        private Role mockRole;
-        private RoleEntity mockEntity;
+        @Test
+        @DisplayName("역할 정의를 한 번 적재한 뒤 메모리에서 조회한다")
+        void givenValidRoleId_whenLoadRoleById_thenReturnsRoleFromMemory() {
+            // Given
+            givenRoles();
 
-        @BeforeEach
-        void setUp() {
-            roleId = 1L;
-            mockRole = mock(Role.class);
-            mockEntity = mock(RoleEntity.class);
+            // When
+            Optional<Role> first = roleQueryAdapter.loadRoleById(1L);
+            Optional<Role> second = roleQueryAdapter.loadRoleById(2L);
+
+            // Then
+            assertThat(first).contains(userRole);
+            assertThat(second).contains(adminRole);
+            verify(roleJpaRepository, times(1)).findAll();
+            verify(roleJpaRepository, never()).findById(any());
         }
 
         @Test
-        @DisplayName("역할을 성공적으로 조회한다")
-        void givenValidRoleId_whenLoadRoleById_thenReturnsRole() {
+        @DisplayName("적재된 목록에 없으면 다시 적재한 뒤 빈 Optional을 반환한다")
+        void givenNonExistentRoleId_whenLoadRoleById_thenReloadsAndReturnsEmpty() {
             // Given
-            when(roleJpaRepository.findById(roleId))
-                .thenReturn(Optional.of(mockEntity));
-            when(roleMapper.toDomain(any(RoleEntity.class))).thenReturn(mockRole);
+            givenRoles();
+            roleQueryAdapter.loadRoleById(1L);
 
             // When
-            Optional<Role> result = roleQueryAdapter.loadRoleById(roleId);
+            Optional<Role> result = roleQueryAdapter.loadRoleById(99L);
 
             // Then
-            assertThat(result).isPresent();
-            assertThat(result.get()).isEqualTo(mockRole);
-            verify(roleJpaRepository).findById(roleId);
-            verify(roleMapper).toDomain(mockEntity);
+            assertThat(result).isEmpty();
+            verify(roleJpaRepository, times(2)).findAll();
         }
 
         @Test
-        @DisplayName("역할이 존재하지 않으면 빈 Optional을 반환한다")
-        void givenNonExistentRoleId_whenLoadRoleById_thenReturnsEmpty() {
+        @DisplayName("재적재 간격 안에서는 없는 역할을 반복 조회해도 다시 적재하지 않는다")
+        void givenRecentReload_whenLoadMissingRoleRepeatedly_thenSkipsReload() {
             // Given
-            when(roleJpaRepository.findById(roleId))
-                .thenReturn(Optional.empty());
+            ReflectionTestUtils.setField(roleQueryAdapter, "missReloadIntervalSeconds", 30L);
+            givenRoles();
+            roleQueryAdapter.loadRoleById(1L);
 
             // When
-            Optional<Role> result = roleQueryAdapter.loadRoleById(roleId);
+            Optional<Role> first = roleQueryAdapter.loadRoleById(99L);
+            Optional<Role> second = roleQueryAdapter.loadRoleById(98L);
 
             // Then
-            assertThat(result).isEmpty();
-            verify(roleJpaRepository).findById(roleId);
-            verify(roleMapper, never()).toDomain(any(RoleEntity.class));
+            assertThat(first).isEmpty();
+            assertThat(second).isEmpty();
+            verify(roleJpaRepository, times(1)).findAll();
         }
 
         @Test
         @DisplayName("데이터베이스 오류 발생 시 RoleDomainException을 던진다")
         void givenDatabaseError_whenLoadRoleById_thenThrowsRoleDomainException() {
             // Given
-            when(roleJpaRepository.findById(roleId))
+            when(roleJpaRepository.findAll())
                 .thenThrow(new DataAccessException("Database error") {
                 });
 
             // When & Then
-            assertThatThrownBy(() -> roleQueryAdapter.loadRoleById(roleId))
+            assertThatThrownBy(() -> roleQueryAdapter.loadRoleById(1L))
                 .isInstanceOf(RoleDomainException.class)
                 .hasMessageContaining("Database error while loading role");
         }
 
         @Test
-        @DisplayName("null RoleId가 전달되면 IllegalArgumentException을 던진다")
-        void givenNullRoleId_whenLoadRoleById_thenThrowsIllegalArgumentException() {
+        @DisplayName("null RoleId가 전달되면 RoleDomainException을 던진다")
+        void givenNullRoleId_whenLoadRoleById_thenThrowsRoleDomainException() {
             // When & Then
             assertThatThrownBy(() -> roleQueryAdapter.loadRoleById(null))
                 .isInstanceOf(RoleDomainException.class)
@@ -114,68 +139,42 @@ class RoleQueryAdapterTest {
     @DisplayName("loadRoleByName(String) 메서드는")
     class LoadRoleByNameTest {
 
-        private String roleName;
-        private Role mockRole;
-        private RoleEntity mockEntity;
-
-        @BeforeEach
-        void setUp() {
-            roleName = "ADMIN";
-            mockRole = mock(Role.class);
-            mockEntity = mock(RoleEntity.class);
-        }
-
         @Test
         @DisplayName("역할을 성공적으로 조회한다")
         void givenValidRoleName_whenLoadRoleByName_thenReturnsRole() {
             // Given
-            when(roleJpaRepository.findByName(roleName))
-                .thenReturn(Optional.of(mockEntity));
-            when(roleMapper.toDomain(any(RoleEntity.class))).thenReturn(mockRole);
+            givenRoles();
 
             // When
-            Optional<Role> result = roleQueryAdapter.loadRoleByName(roleName);
+            Optional<Role> result = roleQueryAdapter.loadRoleByName("ROLE_ADMIN");
 
             // Then
-            assertThat(result).isPresent();
-            assertThat(result.get()).isEqualTo(mockRole);
-            verify(roleJpaRepository).findByName(roleName);
-            verify(roleMapper).toDomain(mockEntity);
+            assertThat(result).contains(adminRole);
+            verify(roleJpaRepository, never()).findByName(any());
         }
 
         @Test
-        @DisplayName("역할이 존재하지 않으면 빈 Optional을 반환한다")
-        void givenNonExistentRoleName_whenLoadRoleByName_thenReturnsEmpty() {
+        @DisplayName("새로 추가된 역할은 다시 적재하여 조회한다")
+        void givenNewlyAddedRole_whenLoadRoleByName_thenReloadsSnapshot() {
             // Given
-            when(roleJpaRepository.findByName(roleName))
-                .thenReturn(Optional.empty());
+            when(roleJpaRepository.findAll())
+                .thenReturn(List.of(userEntity))
+                .thenReturn(List.of(userEntity, adminEntity));
+            when(roleMapper.toDomain(userEntity)).thenReturn(userRole);
+            when(roleMapper.toDomain(adminEntity)).thenReturn(adminRole);
+            roleQueryAdapter.loadRoleByName("ROLE_USER");
 
             // When
-            Optional<Role> result = roleQueryAdapter.loadRoleByName(roleName);
+            Optional<Role> result = roleQueryAdapter.loadRoleByName("ROLE_ADMIN");
 
             // Then
-            assertThat(result).isEmpty();
-            verify(roleJpaRepository).findByName(roleName);
-            verify(roleMapper, never()).toDomain(any(RoleEntity.class));
-        }
-
-        @Test
-        @DisplayName("데이터베이스 오류 발생 시 RoleDomainException을 던진다")
-        void givenDatabaseError_whenLoadRoleByName_thenThrowsRoleDomainException() {
-            // Given
-            when(roleJpaRepository.findByName(roleName))
-                .thenThrow(new DataAccessException("Database error") {
-                });
-
-            // When & Then
-            assertThatThrownBy(() -> roleQueryAdapter.loadRoleByName(roleName))
-                .isInstanceOf(RoleDomainException.class)
-                .hasMessageContaining("Database error while loading role");
+            assertThat(result).contains(adminRole);
+            verify(roleJpaRepository, times(2)).findAll();
         }
 
         @Test
-        @DisplayName("빈 이름이 전달되면 IllegalArgumentException을 던진다")
-        void givenEmptyRoleName_whenLoadRoleByName_thenThrowsIllegalArgumentException() {
+        @DisplayName("빈 이름이 전달되면 RoleDomainException을 던진다")
+        void givenEmptyRoleName_whenLoadRoleByName_thenThrowsRoleDomainException() {
             // When & Then
             assertThatThrownBy(() -> roleQueryAdapter.loadRoleByName(""))
                 .isInstanceOf(RoleDomainException.class)
@@ -187,37 +186,17 @@ class RoleQueryAdapterTest {
     @DisplayName("findAllRoles() 메서드는")
     class FindAllRolesTest {
 
-        private Role mockRole1;
-        private Role mockRole2;
-        private RoleEntity mockEntity1;
-        private RoleEntity mockEntity2;
-
-        @BeforeEach
-        void setUp() {
-            mockRole1 = mock(Role.class);
-            mockRole2 = mock(Role.class);
-            mockEntity1 = mock(RoleEntity.class);
-            mockEntity2 = mock(RoleEntity.class);
-        }
-
         @Test
         @DisplayName("모든 역할을 성공적으로 조회한다")
         void givenRolesExist_whenFindAllRoles_thenReturnsAllRoles() {
             // Given
-            List<RoleEntity> entities = Arrays.asList(mockEntity1, mockEntity2);
-            when(roleJpaRepository.findAll()).thenReturn(entities);
-            when(roleMapper.toDomain(mockEntity1)).thenReturn(mockRole1);
-            when(roleMapper.toDomain(mockEntity2)).thenReturn(mockRole2);
+            givenRoles();
 
             // When
             List<Role> result = roleQueryAdapter.findAllRoles();
 
             // Then
-            assertThat(result).hasSize(2);
-            assertThat(result).containsExactly(mockRole1, mockRole2);
-            verify(roleJpaRepository).findAll();
-            verify(roleMapper).toDomain(mockEntity1);
-            verify(roleMapper).toDomain(mockEntity2);
+            assertThat(result).containsExactly(userRole, adminRole);
         }
 
         @Test
@@ -231,7 +210,6 @@ class RoleQueryAdapterTest {
 
             // Then
             assertThat(result).isEmpty();
-            verify(roleJpaRepository).findAll();
             verify(roleMapper, never()).toDomain(any(RoleEntity.class));
         }
 
@@ -249,4 +227,25 @@ class RoleQueryAdapterTest {
                 .hasMessageContaining("Database error while finding roles");
         }
     }
+
+    @Nested
+    @DisplayName("refreshRoles() 메서드는")
+    class RefreshRolesTest {
+
+        @Test
+        @DisplayName("재적재에 실패하면 기존 역할 정의를 유지한다")
+        void givenReloadFailure_whenRefresh_thenKeepsPreviousSnapshot() {
+            // Given
+            givenRoles();
+            roleQueryAdapter.findAllRoles();
+            when(roleJpaRepository.findAll()).thenThrow(new DataAccessException("Database error") {
+            });
+
+            // When
+            roleQueryAdapter.refreshRoles();
+
+            // Then
+            assertThat(roleQueryAdapter.loadRoleById(1L)).contains(userRole);
+        }
+    }
 }
@@ -1,12 +1,16 @@
 package com.gongdel.promptserver.adapter.out.persistence.query;
 
+import com.gongdel.promptserver.adapter.out.persistence.entity.UserAuthenticationEntity;
 import com.gongdel.promptserver.adapter.out.persistence.entity.UserEntity;
+import com.gongdel.promptserver.adapter.out.persistence.mapper.UserAuthenticationMapper;
 import com.gongdel.promptserver.adapter.out.persistence.mapper.UserMapper;
 import com.gongdel.promptserver.adapter.out.persistence.repository.UserJpaRepository;
+import com.gongdel.promptserver.application.port.out.query.UserCredentials;
 import com.gongdel.promptserver.domain.exception.UserOperationException;
 import com.gongdel.promptserver.domain.user.Email;
 import com.gongdel.promptserver.domain.user.User;
 import com.gongdel.promptserver.domain.user.UserId;
+import com.gongdel.promptserver.domain.userauth.UserAuthentication;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -17,6 +21,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.dao.DataAccessException;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -35,6 +40,9 @@ class UserQueryAdapterTest {
     @Mock
     private UserMapper userMapper;
 
+    @Mock
+    private UserAuthenticationMapper userAuthenticationMapper;
+
     @InjectMocks
     private UserQueryAdapter userQueryAdapter;
 
@@ -256,4 +264,109 @@ class UserQueryAdapterTest {
                 .hasMessageContaining("id must not be null");
         }
     }
+
+    @Nested
+    @DisplayName("loadUserCredentialsByEmail(Email) 메서드는")
+    class LoadUserCredentialsByEmailTest {
+
+        private Email email;
+        private UserEntity userEntity;
+        private UserAuthenticationEntity authEntity;
+        private User mockUser;
+        private UserAuthentication mockAuth;
+
+        @BeforeEach
+        void setUp() {
+            email = new Email("test@example.com");
+            userEntity = mock(UserEntity.class);
+            authEntity = mock(UserAuthenticationEntity.class);
+            mockUser = mock(User.class);
+            mockAuth = mock(UserAuthentication.class);
+        }
+
+        @Test
+        @DisplayName("조인 결과 행들을 사용자, 인증 정보, 역할 이름으로 조립한다")
+        void givenJoinedRows_whenLoadCredentials_thenAssemblesCredentials() {
+            // Given
+            when(userJpaRepository.findCredentialRowsByEmail(email.getValue())).thenReturn(List.of(
+                new Object[]{userEntity, authEntity, "ROLE_USER", 1L},
+                new Object[]{userEntity, authEntity, "ROLE_ADMIN", 2L}));
+            when(userMapper.toDomain(userEntity)).thenReturn(mockUser);
+            when(userAuthenticationMapper.toDomain(authEntity)).thenReturn(mockAuth);
+
+            // When
+            Optional<UserCredentials> result = userQueryAdapter.loadUserCredentialsByEmail(email);
+
+            // Then
+            assertThat(result).isPresent();
+            assertThat(result.get().getUser()).isEqualTo(mockUser);
+            assertThat(result.get().getUserAuthentication()).isEqualTo(mockAuth);
+            assertThat(result.get().getRoleNames()).containsExactly("ROLE_USER", "ROLE_ADMIN");
+            verify(userMapper, times(1)).toDomain(userEntity);
+        }
+
+        @Test
+        @DisplayName("역할과 인증 정보가 없으면 빈 역할 목록과 null 인증 정보를 반환한다")
+        void givenNoRolesAndNoAuth_whenLoadCredentials_thenReturnsEmptyRoles() {
+            // Given
+            when(userJpaRepository.findCredentialRowsByEmail(email.getValue()))
+                .thenReturn(List.<Object[]>of(new Object[]{userEntity, null, null, null}));
+            when(userMapper.toDomain(userEntity)).thenReturn(mockUser);
+
+            // When
+            Optional<UserCredentials> result = userQueryAdapter.loadUserCredentialsByEmail(email);
+
+            // Then
+            assertThat(result).isPresent();
+            assertThat(result.get().getUserAuthentication()).isNull();
+            assertThat(result.get().getRoleNames()).isEmpty();
+            assertThat(result.get().getMissingRoleIds()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("역할 매핑은 있지만 역할 정의가 없으면 누락된 역할 ID로 반환한다")
+        void givenDanglingRoleReference_whenLoadCredentials_thenReturnsMissingRoleId() {
+            // Given
+            when(userJpaRepository.findCredentialRowsByEmail(email.getValue())).thenReturn(List.of(
+                new Object[]{userEntity, authEntity, "ROLE_USER", 1L},
+                new Object[]{userEntity, authEntity, null, 99L}));
+            when(userMapper.toDomain(userEntity)).thenReturn(mockUser);
+            when(userAuthenticationMapper.toDomain(authEntity)).thenReturn(mockAuth);
+
+            // When
+            Optional<UserCredentials> result = userQueryAdapter.loadUserCredentialsByEmail(email);
+
+            // Then
+            assertThat(result).isPresent();
+            assertThat(result.get().getRoleNames()).containsExactly("ROLE_USER");
+            assertThat(result.get().getMissingRoleIds()).containsExactly(99L);
+        }
+
+        @Test
+        @DisplayName("사용자가 존재하지 않으면 빈 Optional을 반환한다")
+        void givenNoRows_whenLoadCredentials_thenReturnsEmpty() {
+            // Given
+            when(userJpaRepository.findCredentialRowsByEmail(email.getValue())).thenReturn(List.of());
+
+            // When
+            Optional<UserCredentials> result = userQueryAdapter.loadUserCredentialsByEmail(email);
+
+            // Then
+            assertThat(result).isEmpty();
+        }
+
+        @Test
+        @DisplayName("데이터베이스 오류 발생 시 UserOperationException을 던진다")
+        void givenDatabaseError_whenLoadCredentials_thenThrowsUserOperationException() {
+            // Given
+            when(userJpaRepository.findCredentialRowsByEmail(email.getValue()))
+                .thenThrow(new DataAccessException("Database error") {
+                });
+
+            // When & Then
+            assertThatThrownBy(() -> userQueryAdapter.loadUserCredentialsByEmail(email))
+                .isInstanceOf(UserOperationException.class)
+                .hasMessageContaining("Failed to load user credentials by email");
+        }
+    }
 }
@@ -0,0 +1,69 @@
+package com.gongdel.promptserver.adapter.out.redis;
+
+import com.gongdel.promptserver.domain.model.CategoryCatalogInvalidatedEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CategoryChangeRedisAdapter 테스트")
+class CategoryChangeRedisAdapterTest {
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+    @Mock
+    private RedisMessageListenerContainer redisMessageListenerContainer;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @InjectMocks
+    private CategoryChangeRedisAdapter adapter;
+
+    private DefaultMessage message(String body) {
+        return new DefaultMessage(CategoryChangeRedisAdapter.CHANNEL.getBytes(StandardCharsets.UTF_8),
+            body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("자신이 발행한 알림은 무시하고 다른 인스턴스의 알림만 무효화 이벤트로 발행한다")
+    void givenMessages_whenOnMessage_thenPublishesOnlyForPeers() {
+        // Given
+        adapter.broadcastCategoryChanged();
+        ArgumentCaptor<String> ownId = ArgumentCaptor.forClass(String.class);
+        verify(stringRedisTemplate).convertAndSend(eq(CategoryChangeRedisAdapter.CHANNEL), ownId.capture());
+
+        // When
+        adapter.onMessage(message(ownId.getValue()), null);
+        adapter.onMessage(message("peer-instance"), null);
+
+        // Then
+        verify(eventPublisher, times(1)).publishEvent(any(CategoryCatalogInvalidatedEvent.class));
+    }
+
+    @Test
+    @DisplayName("알림 발행에 실패해도 예외를 던지지 않는다")
+    void givenRedisFailure_whenBroadcast_thenDoesNotThrow() {
+        // Given
+        when(stringRedisTemplate.convertAndSend(anyString(), anyString()))
+            .thenThrow(new RedisConnectionFailureException("down"));
+
+        // When & Then
+        assertThatCode(() -> adapter.broadcastCategoryChanged()).doesNotThrowAnyException();
+    }
+}
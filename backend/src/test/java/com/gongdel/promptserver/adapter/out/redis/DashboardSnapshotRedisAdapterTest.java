@@ -0,0 +1,116 @@
+package com.gongdel.promptserver.adapter.out.redis;
+
+import com.gongdel.promptserver.domain.model.statistics.CategoryPromptCount;
+import com.gongdel.promptserver.domain.statistics.ComparisonPeriod;
+import com.gongdel.promptserver.domain.statistics.ComparisonResult;
+import com.gongdel.promptserver.domain.statistics.DashboardSnapshot;
+import com.gongdel.promptserver.domain.statistics.FavoriteStatistics;
+import com.gongdel.promptserver.domain.statistics.PromptStatistics;
+import com.gongdel.promptserver.domain.statistics.UserStatistics;
+import com.gongdel.promptserver.domain.view.ViewStatistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DashboardSnapshotRedisAdapter 테스트")
+class DashboardSnapshotRedisAdapterTest {
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+    @InjectMocks
+    private DashboardSnapshotRedisAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(adapter, "snapshotTtlMinutes", 30L);
+    }
+
+    private DashboardSnapshot snapshot() {
+        ComparisonPeriod period = new ComparisonPeriod(LocalDateTime.of(2024, 6, 1, 0, 0),
+            LocalDateTime.of(2024, 6, 8, 0, 0));
+        ComparisonPeriod week = new ComparisonPeriod(LocalDateTime.of(2024, 6, 3, 0, 0),
+            LocalDateTime.of(2024, 6, 9, 23, 59, 59));
+        return new DashboardSnapshot(
+            new PromptStatistics(100, period, ComparisonResult.of(10, 5)),
+            new UserStatistics(50, period, ComparisonResult.of(4, 2)),
+            new FavoriteStatistics(30, period, ComparisonResult.of(3, 0)),
+            new ViewStatistics(3891, week, ComparisonResult.of(120, 100)),
+            24, List.of(new CategoryPromptCount(1L, "Backend", 7L)), LocalDateTime.of(2024, 6, 8, 10, 0));
+    }
+
+    @Test
+    @DisplayName("저장한 JSON을 다시 읽으면 같은 통계의 스냅샷으로 복원된다")
+    void givenSavedSnapshot_whenLoad_thenRestoresSameValues() {
+        // Given
+        DashboardSnapshot snapshot = snapshot();
+        long version = snapshot.getGeneratedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        when(stringRedisTemplate.execute(any(RedisScript.class), anyList(), anyString(), anyString(), anyString()))
+            .thenReturn(1L);
+        assertThat(adapter.saveSnapshotIfNewer(snapshot)).isTrue();
+        ArgumentCaptor<String> json = ArgumentCaptor.forClass(String.class);
+        verify(stringRedisTemplate).execute(any(RedisScript.class),
+            eq(List.of(DashboardSnapshotRedisAdapter.SNAPSHOT_KEY)), json.capture(), eq(String.valueOf(version)),
+            eq("1800"));
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get(DashboardSnapshotRedisAdapter.SNAPSHOT_KEY)).thenReturn(json.getValue());
+
+        // When
+        Optional<DashboardSnapshot> loaded = adapter.loadSnapshot();
+
+        // Then
+        assertThat(loaded).isPresent();
+        DashboardSnapshot restored = loaded.get();
+        assertThat(restored.getPromptStatistics().getComparisonResult().getCurrentCount()).isEqualTo(10);
+        assertThat(restored.getUserStatistics().getTotalCount()).isEqualTo(50);
+        assertThat(restored.getFavoriteStatistics().getComparisonResult().getPercentageChange()).isEqualTo(100.0);
+        assertThat(restored.getWeeklyViewStatistics().getPeriod().getEndDate()).isEqualTo(snapshot.getWeeklyViewStatistics().getPeriod().getEndDate());
+        assertThat(restored.getActiveMemberCount()).isEqualTo(24);
+        assertThat(restored.getRootCategoryCounts().get(0).getCategoryName()).isEqualTo("Backend");
+        assertThat(restored.getGeneratedAt()).isEqualTo(snapshot.getGeneratedAt());
+    }
+
+    @Test
+    @DisplayName("Redis에 같거나 더 최신 스냅샷이 있으면 교체하지 않고 false를 반환한다")
+    void givenNewerSharedSnapshot_whenSave_thenReturnsFalse() {
+        // Given
+        when(stringRedisTemplate.execute(any(RedisScript.class), anyList(), anyString(), anyString(), anyString()))
+            .thenReturn(0L);
+        // When & Then
+        assertThat(adapter.saveSnapshotIfNewer(snapshot())).isFalse();
+    }
+
+    @Test
+    @DisplayName("읽을 수 없는 JSON이면 빈 값을 반환한다")
+    void givenCorruptJson_whenLoad_thenReturnsEmpty() {
+        // Given
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get(DashboardSnapshotRedisAdapter.SNAPSHOT_KEY)).thenReturn("{not-json");
+        // When & Then
+        assertThat(adapter.loadSnapshot()).isEmpty();
+    }
+}
@@ -0,0 +1,213 @@
+package com.gongdel.promptserver.adapter.out.redis;
+
+import com.gongdel.promptserver.domain.exception.TokenException;
+import com.gongdel.promptserver.domain.exception.TokenValidationException;
+import com.gongdel.promptserver.domain.refreshtoken.RefreshToken;
+import com.gongdel.promptserver.domain.refreshtoken.RefreshTokenRotation;
+import com.gongdel.promptserver.domain.user.UserId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RefreshTokenRedisAdapter 테스트")
+class RefreshTokenRedisAdapterTest {
+
+    private static final String FAMILY_ID = "family-1";
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+    @Mock
+    private SetOperations<String, String> setOperations;
+    @InjectMocks
+    private RefreshTokenRedisAdapter adapter;
+
+    private UserId userId;
+    private String familyKey;
+    private String userKey;
+
+    @BeforeEach
+    void setUp() {
+        userId = new UserId(UUID.randomUUID());
+        familyKey = "refresh:{" + userId.getValue() + "}:family:" + FAMILY_ID;
+        userKey = "refresh:{" + userId.getValue() + "}:families";
+    }
+
+    private void givenFamilies(String... familyIds) {
+        when(stringRedisTemplate.opsForSet()).thenReturn(setOperations);
+        when(setOperations.members(userKey)).thenReturn(Set.of(familyIds));
+    }
+
+    private RefreshToken token(String value) {
+        return RefreshToken.create(FAMILY_ID, userId, value, LocalDateTime.now().plusDays(7));
+    }
+
+    @Nested
+    @DisplayName("saveRefreshToken(RefreshToken) 메서드는")
+    class SaveRefreshTokenTest {
+        @Test
+        @DisplayName("토큰 원문 대신 해시를 패밀리 키에 저장한다")
+        void givenToken_whenSave_thenStoresHashUnderFamilyKey() {
+            // Given
+            givenFamilies();
+            // When
+            adapter.saveRefreshToken(token("token-1"));
+            // Then
+            verify(stringRedisTemplate).execute(any(RedisScript.class), eq(List.of(familyKey, userKey)),
+                eq(userId.getValue().toString()), eq(RefreshTokenRedisAdapter.hash("token-1")), anyString(),
+                eq(FAMILY_ID));
+        }
+
+        @Test
+        @DisplayName("기존 패밀리 키를 같은 해시 태그로 KEYS에 전달한다")
+        void givenExistingFamily_whenSave_thenPassesFamilyKeysThroughKeys() {
+            // Given
+            givenFamilies("family-0");
+            String existingKey = "refresh:{" + userId.getValue() + "}:family:family-0";
+            // When
+            adapter.saveRefreshToken(token("token-1"));
+            // Then
+            verify(stringRedisTemplate).execute(any(RedisScript.class),
+                eq(List.of(familyKey, userKey, existingKey)),
+                eq(userId.getValue().toString()), eq(RefreshTokenRedisAdapter.hash("token-1")), anyString(),
+                eq(FAMILY_ID), eq("family-0"));
+        }
+
+        @Test
+        @DisplayName("null 토큰이면 TokenValidationException을 던진다")
+        void givenNullToken_whenSave_thenThrowsTokenValidationException() {
+            // When & Then
+            assertThatThrownBy(() -> adapter.saveRefreshToken(null))
+                .isInstanceOf(TokenValidationException.class);
+            verifyNoInteractions(stringRedisTemplate);
+        }
+
+        @Test
+        @DisplayName("Redis 오류 시 TokenException을 던진다")
+        void givenRedisFailure_whenSave_thenThrowsTokenException() {
+            // Given
+            givenFamilies();
+            when(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenThrow(new RedisConnectionFailureException("down"));
+            // When & Then
+            assertThatThrownBy(() -> adapter.saveRefreshToken(token("token-1")))
+                .isInstanceOf(TokenException.class)
+                .hasMessageContaining("토큰 저장에 실패했습니다");
+        }
+    }
+
+    @Nested
+    @DisplayName("rotateRefreshToken(RefreshToken, RefreshToken) 메서드는")
+    class RotateRefreshTokenTest {
+        private void givenScriptResult(long result) {
+            when(stringRedisTemplate.execute(any(RedisScript.class), eq(List.of(familyKey, userKey)),
+                eq(RefreshTokenRedisAdapter.hash("old")), eq(RefreshTokenRedisAdapter.hash("new")), anyString(),
+                eq(FAMILY_ID))).thenReturn(result);
+        }
+
+        @Test
+        @DisplayName("현재 토큰이면 ROTATED를 반환한다")
+        void givenCurrentToken_whenRotate_thenReturnsRotated() {
+            // Given
+            givenScriptResult(1L);
+            // When & Then
+            assertThat(adapter.rotateRefreshToken(token("old"), token("new"))).isEqualTo(RefreshTokenRotation.ROTATED);
+        }
+
+        @Test
+        @DisplayName("이미 교체된 토큰이면 REUSED를 반환한다")
+        void givenStaleToken_whenRotate_thenReturnsReused() {
+            // Given
+            givenScriptResult(-1L);
+            // When & Then
+            assertThat(adapter.rotateRefreshToken(token("old"), token("new"))).isEqualTo(RefreshTokenRotation.REUSED);
+        }
+
+        @Test
+        @DisplayName("패밀리가 없으면 NOT_FOUND를 반환한다")
+        void givenMissingFamily_whenRotate_thenReturnsNotFound() {
+            // Given
+            givenScriptResult(0L);
+            // When & Then
+            assertThat(adapter.rotateRefreshToken(token("old"), token("new")))
+                .isEqualTo(RefreshTokenRotation.NOT_FOUND);
+        }
+    }
+
+    @Nested
+    @DisplayName("deleteByUserId(UserId) 메서드는")
+    class DeleteByUserIdTest {
+        @Test
+        @DisplayName("목록 키와 패밀리 키를 KEYS로 전달해 삭제 스크립트를 실행한다")
+        void givenUserId_whenDelete_thenRunsScriptWithAllKeys() {
+            // Given
+            givenFamilies(FAMILY_ID);
+            when(stringRedisTemplate.execute(any(RedisScript.class), eq(List.of(userKey, familyKey)), eq(FAMILY_ID)))
+                .thenReturn(1L);
+            // When
+            adapter.deleteByUserId(userId);
+            // Then
+            verify(stringRedisTemplate).execute(any(RedisScript.class), eq(List.of(userKey, familyKey)),
+                eq(FAMILY_ID));
+        }
+
+        @Test
+        @DisplayName("삭제 중 패밀리가 추가되면 목록을 다시 읽어 재시도한다")
+        void givenFamilyAddedDuringDelete_whenDelete_thenRetries() {
+            // Given
+            givenFamilies(FAMILY_ID);
+            when(stringRedisTemplate.execute(any(RedisScript.class), eq(List.of(userKey, familyKey)), eq(FAMILY_ID)))
+                .thenReturn(-1L, 1L);
+            // When
+            adapter.deleteByUserId(userId);
+            // Then
+            verify(setOperations, times(2)).members(userKey);
+        }
+
+        @Test
+        @DisplayName("재시도 횟수를 넘기면 TokenException을 던진다")
+        void givenFamiliesKeepChanging_whenDelete_thenThrowsTokenException() {
+            // Given
+            givenFamilies(FAMILY_ID);
+            when(stringRedisTemplate.execute(any(RedisScript.class), eq(List.of(userKey, familyKey)), eq(FAMILY_ID)))
+                .thenReturn(-1L);
+            // When & Then
+            assertThatThrownBy(() -> adapter.deleteByUserId(userId))
+                .isInstanceOf(TokenException.class)
+                .hasMessageContaining("토큰 삭제에 실패했습니다");
+            verify(setOperations, times(RefreshTokenRedisAdapter.DELETE_MAX_ATTEMPTS)).members(userKey);
+        }
+
+        @Test
+        @DisplayName("Redis 오류 시 TokenException을 던진다")
+        void givenRedisFailure_whenDelete_thenThrowsTokenException() {
+            // Given
+            givenFamilies();
+            when(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenThrow(new RedisConnectionFailureException("down"));
+            // When & Then
+            assertThatThrownBy(() -> adapter.deleteByUserId(userId))
+                .isInstanceOf(TokenException.class)
+                .hasMessageContaining("토큰 삭제에 실패했습니다");
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package com.gongdel.promptserver.adapter.out.redis;
+
+import com.gongdel.promptserver.adapter.out.persistence.entity.TokenBlacklistEntity;
+import com.gongdel.promptserver.adapter.out.persistence.repository.TokenBlacklistRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TokenBlacklistRedisAdapter 테스트")
+class TokenBlacklistRedisAdapterTest {
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+    @Mock
+    private RedisMessageListenerContainer redisMessageListenerContainer;
+    @Mock
+    private TokenBlacklistRepository tokenBlacklistRepository;
+    @InjectMocks
+    private TokenBlacklistRedisAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(adapter, "bloomExpectedInsertions", 1000L);
+        ReflectionTestUtils.setField(adapter, "bloomFalsePositiveRate", 0.01);
+    }
+
+    private TokenBlacklistEntity activeToken(String tokenId) {
+        return TokenBlacklistEntity.builder()
+            .tokenId(tokenId)
+            .userId("user")
+            .expiresAt(LocalDateTime.now().plusMinutes(30))
+            .build();
+    }
+
+    @Nested
+    @DisplayName("isBlacklisted(String) 메서드는")
+    class IsBlacklistedTest {
+        @Test
+        @DisplayName("Bloom 필터에 없는 토큰은 Redis를 조회하지 않고 false를 반환한다")
+        void givenTokenNotInFilter_whenIsBlacklisted_thenSkipsRedis() {
+            // Given
+            when(tokenBlacklistRepository.findByExpiresAtAfter(any())).thenReturn(List.of());
+            adapter.rebuildFilter();
+            // When
+            boolean blacklisted = adapter.isBlacklisted("jti-1");
+            // Then
+            assertThat(blacklisted).isFalse();
+            verify(stringRedisTemplate, never()).hasKey(anyString());
+        }
+
+        @Test
+        @DisplayName("Bloom 필터에 있는 토큰은 Redis에서 확정한다")
+        void givenTokenInFilter_whenIsBlacklisted_thenChecksRedis() {
+            // Given
+            when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+            when(tokenBlacklistRepository.findByExpiresAtAfter(any())).thenReturn(List.of(activeToken("jti-1")));
+            adapter.rebuildFilter();
+            when(stringRedisTemplate.hasKey("blacklist:token:jti-1")).thenReturn(true);
+            // When & Then
+            assertThat(adapter.isBlacklisted("jti-1")).isTrue();
+            verify(valueOperations).setIfAbsent(eq("blacklist:token:jti-1"), eq("1"), anyLong(), eq(TimeUnit.SECONDS));
+        }
+
+        @Test
+        @DisplayName("Bloom 필터에 있지만 Redis에 키가 없으면 DB에서 확인하고 키를 다시 채운다")
+        void givenTokenInFilterButMissingInRedis_whenIsBlacklisted_thenChecksDatabase() {
+            // Given
+            TokenBlacklistEntity token = activeToken("jti-1");
+            when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+            when(tokenBlacklistRepository.findByExpiresAtAfter(any())).thenReturn(List.of(token));
+            adapter.rebuildFilter();
+            when(stringRedisTemplate.hasKey("blacklist:token:jti-1")).thenReturn(false);
+            when(tokenBlacklistRepository.findByTokenId("jti-1")).thenReturn(Optional.of(token));
+            // When & Then
+            assertThat(adapter.isBlacklisted("jti-1")).isTrue();
+            verify(valueOperations, times(2))
+                .setIfAbsent(eq("blacklist:token:jti-1"), eq("1"), anyLong(), eq(TimeUnit.SECONDS));
+        }
+
+        @Test
+        @DisplayName("Bloom 필터 거짓 양성으로 DB에도 없으면 false를 반환한다")
+        void givenFalsePositive_whenIsBlacklisted_thenReturnsFalse() {
+            // Given
+            when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+            when(tokenBlacklistRepository.findByExpiresAtAfter(any())).thenReturn(List.of(activeToken("jti-1")));
+            adapter.rebuildFilter();
+            when(stringRedisTemplate.hasKey("blacklist:token:jti-1")).thenReturn(false);
+            when(tokenBlacklistRepository.findByTokenId("jti-1")).thenReturn(Optional.empty());
+            // When & Then
+            assertThat(adapter.isBlacklisted("jti-1")).isFalse();
+        }
+
+        @Test
+        @DisplayName("필터 적재 전에는 모든 토큰을 Redis에서 확인하고, Redis 오류 시 DB를 조회한다")
+        void givenFilterNotLoadedAndRedisDown_whenIsBlacklisted_thenFallsBackToDatabase() {
+            // Given
+            when(stringRedisTemplate.hasKey("blacklist:token:jti-1"))
+                .thenThrow(new RedisConnectionFailureException("down"));
+            when(tokenBlacklistRepository.existsByTokenId("jti-1")).thenReturn(true);
+            // When & Then
+            assertThat(adapter.isBlacklisted("jti-1")).isTrue();
+        }
+
+        @Test
+        @DisplayName("다른 인스턴스에서 알린 토큰은 필터에 추가된다")
+        void givenPublishedToken_whenOnMessage_thenAddsToFilter() {
+            // Given
+            when(tokenBlacklistRepository.findByExpiresAtAfter(any())).thenReturn(List.of());
+            adapter.rebuildFilter();
+            when(stringRedisTemplate.hasKey("blacklist:token:jti-2")).thenReturn(true);
+            // When
+            adapter.onMessage(new DefaultMessage(TokenBlacklistRedisAdapter.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                "jti-2".getBytes(StandardCharsets.UTF_8)), null);
+            // Then
+            assertThat(adapter.isBlacklisted("jti-2")).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("addToBlacklist(String, LocalDateTime) 메서드는")
+    class AddToBlacklistTest {
+        @Test
+        @DisplayName("남은 수명을 TTL로 저장하고 다른 인스턴스에 알린다")
+        void givenValidToken_whenAdd_thenStoresWithTtlAndPublishes() {
+            // Given
+            when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+            // When
+            adapter.addToBlacklist("jti-1", LocalDateTime.now().plusMinutes(10));
+            // Then
+            verify(valueOperations).set(eq("blacklist:token:jti-1"), eq("1"), longThat(ttl -> ttl > 590 && ttl <= 601),
+                eq(TimeUnit.SECONDS));
+            verify(stringRedisTemplate).convertAndSend(TokenBlacklistRedisAdapter.CHANNEL, "jti-1");
+        }
+
+        @Test
+        @DisplayName("이미 만료된 토큰은 저장하지 않는다")
+        void givenExpiredToken_whenAdd_thenSkips() {
+            // When
+            adapter.addToBlacklist("jti-1", LocalDateTime.now().minusSeconds(1));
+            // Then
+            verifyNoInteractions(stringRedisTemplate);
+        }
+
+        @Test
+        @DisplayName("Redis 저장에 실패해도 예외 없이 필터에 추가한다")
+        void givenRedisFailure_whenAdd_thenAddsToFilterWithoutThrowing() {
+            // Given
+            when(tokenBlacklistRepository.findByExpiresAtAfter(any())).thenReturn(List.of());
+            adapter.rebuildFilter();
+            when(stringRedisTemplate.opsForValue()).thenThrow(new RedisConnectionFailureException("down"));
+            // When
+            adapter.addToBlacklist("jti-1", LocalDateTime.now().plusMinutes(10));
+            // Then
+            when(stringRedisTemplate.hasKey("blacklist:token:jti-1"))
+                .thenThrow(new RedisConnectionFailureException("down"));
+            when(tokenBlacklistRepository.existsByTokenId("jti-1")).thenReturn(true);
+            assertThat(adapter.isBlacklisted("jti-1")).isTrue();
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package com.gongdel.promptserver.adapter.out.redis;
+
+import com.gongdel.promptserver.application.port.out.like.query.FindLikedPromptsPort;
+import com.gongdel.promptserver.application.port.out.query.FindFavoritesPort;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserPromptMembershipRedisAdapter 테스트")
+class UserPromptMembershipRedisAdapterTest {
+
+    private static final Long USER_ID = 7L;
+    private static final String LIKE_KEY = "membership:like:user:7";
+    private static final String FAVORITE_KEY = "membership:favorite:user:7";
+    private static final String FAVORITE_VERSION_KEY = FAVORITE_KEY + ":version";
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+    @Mock
+    private SetOperations<String, String> setOperations;
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+    @Mock
+    private FindLikedPromptsPort findLikedPromptsPort;
+    @Mock
+    private FindFavoritesPort findFavoritesPort;
+    @InjectMocks
+    private UserPromptMembershipRedisAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(adapter, "cacheTtlHours", 6L);
+    }
+
+    @Nested
+    @DisplayName("findLikedPromptIds / findFavoritePromptIds 메서드는")
+    class FindMembersTest {
+        @Test
+        @DisplayName("적재된 Set이면 SMISMEMBER 한 번으로 멤버를 판단한다")
+        void givenLoadedSet_whenFind_thenUsesSingleMembershipCheck() {
+            // Given
+            when(stringRedisTemplate.opsForSet()).thenReturn(setOperations);
+            when(setOperations.isMember(LIKE_KEY, "loaded", "1", "2"))
+                .thenReturn(Map.of("loaded", true, "1", true, "2", false));
+            // When
+            Set<Long> liked = adapter.findLikedPromptIds(USER_ID, List.of(1L, 2L));
+            // Then
+            assertThat(liked).containsExactly(1L);
+            verifyNoInteractions(findLikedPromptsPort);
+        }
+
+        @Test
+        @DisplayName("Set이 적재되지 않았으면 조회 전 변경 토큰을 조건으로 전체 멤버를 한 번에 적재한다")
+        void givenNotLoaded_whenFind_thenLoadsFromDatabase() {
+            // Given
+            when(stringRedisTemplate.opsForSet()).thenReturn(setOperations);
+            when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+            when(setOperations.isMember(FAVORITE_KEY, "loaded", "1", "2"))
+                .thenReturn(Map.of("loaded", false, "1", false, "2", false));
+            when(valueOperations.get(FAVORITE_VERSION_KEY)).thenReturn("token-1");
+            when(findFavoritesPort.findFavoritePromptIds(eq(USER_ID), anyInt()))
+                .thenReturn(List.of(2L, 3L));
+            // When
+            Set<Long> favorites = adapter.findFavoritePromptIds(USER_ID, List.of(1L, 2L));
+            // Then
+            assertThat(favorites).containsExactly(2L);
+            verify(stringRedisTemplate).execute(any(RedisScript.class), eq(List.of(FAVORITE_KEY, FAVORITE_VERSION_KEY)),
+                eq("token-1"), eq(String.valueOf(TimeUnit.HOURS.toSeconds(6))), eq("loaded"), eq("2"), eq("3"));
+            verify(setOperations, never()).add(any(), any(String[].class));
+        }
+
+        @Test
+        @DisplayName("적재 중 변경 토큰이 바뀌어 적재되지 않아도 DB 조회 결과를 반환한다")
+        void givenChangedDuringLoad_whenFind_thenReturnsDatabaseResult() {
+            // Given
+            when(stringRedisTemplate.opsForSet()).thenReturn(setOperations);
+            when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+            when(setOperations.isMember(LIKE_KEY, "loaded", "1"))
+                .thenReturn(Map.of("loaded", false, "1", false));
+            when(findLikedPromptsPort.findLikedPromptIds(eq(USER_ID), anyInt()))
+                .thenReturn(List.of(1L));
+            when(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(), any(), any(), any()))
+                .thenReturn(0L);
+            // When
+            Set<Long> liked = adapter.findLikedPromptIds(USER_ID, List.of(1L));
+            // Then
+            assertThat(liked).containsExactly(1L);
+            verify(stringRedisTemplate).execute(any(RedisScript.class), eq(List.of(LIKE_KEY, LIKE_KEY + ":version")),
+                eq(""), any(), eq("loaded"), eq("1"));
+        }
+
+        @Test
+        @DisplayName("멤버 수가 한도를 넘으면 캐시하지 않고 페이지 단위로 DB를 조회한다")
+        void givenTooManyMembers_whenFind_thenQueriesPageFromDatabase() {
+            // Given
+            List<Long> all = LongStream.rangeClosed(1, UserPromptMembershipRedisAdapter.MAX_CACHED_MEMBERS + 1)
+                .boxed().collect(Collectors.toList());
+            when(stringRedisTemplate.opsForSet()).thenReturn(setOperations);
+            when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+            when(setOperations.isMember(LIKE_KEY, "loaded", "1"))
+                .thenReturn(Map.of("loaded", false, "1", false));
+            when(findLikedPromptsPort.findLikedPromptIds(eq(USER_ID), anyInt()))
+                .thenReturn(all);
+            when(findLikedPromptsPort.findLikedPromptIdsAmong(USER_ID, List.of(1L)))
+                .thenReturn(List.of(1L));
+            // When
+            Set<Long> liked = adapter.findLikedPromptIds(USER_ID, List.of(1L));
+            // Then
+            assertThat(liked).containsExactly(1L);
+            verify(stringRedisTemplate, never()).execute(any(RedisScript.class), anyList(), any(Object[].class));
+        }
+
+        @Test
+        @DisplayName("Redis 오류 시 페이지 단위로 DB를 조회한다")
+        void givenRedisFailure_whenFind_thenFallsBackToDatabase() {
+            // Given
+            when(stringRedisTemplate.opsForSet()).thenThrow(new RedisConnectionFailureException("down"));
+            when(findLikedPromptsPort.findLikedPromptIdsAmong(USER_ID, List.of(1L, 2L)))
+                .thenReturn(List.of(2L));
+            // When
+            Set<Long> liked = adapter.findLikedPromptIds(USER_ID, List.of(1L, 2L));
+            // Then
+            assertThat(liked).containsExactly(2L);
+        }
+
+        @Test
+        @DisplayName("비로그인 사용자는 조회 없이 빈 Set을 반환한다")
+        void givenAnonymousUser_whenFind_thenReturnsEmpty() {
+            // When
+            Set<Long> liked = adapter.findLikedPromptIds(null, List.of(1L));
+            // Then
+            assertThat(liked).isEmpty();
+            verifyNoInteractions(stringRedisTemplate, findLikedPromptsPort);
+        }
+    }
+
+    @Nested
+    @DisplayName("멤버십 갱신 메서드는")
+    class UpdateMembershipTest {
+        @AfterEach
+        void tearDown() {
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+        }
+
+        @Test
+        @DisplayName("트랜잭션 밖에서는 즉시 변경 토큰을 바꾸고 적재된 Set을 갱신한다")
+        void givenNoTransaction_whenAdd_thenUpdatesImmediately() {
+            // When
+            adapter.addLikedPrompt(USER_ID, 10L);
+            // Then
+            verify(stringRedisTemplate).execute(any(RedisScript.class), eq(List.of(LIKE_KEY, LIKE_KEY + ":version")),
+                eq("10"), anyString(), eq(String.valueOf(TimeUnit.HOURS.toSeconds(6))));
+        }
+
+        @Test
+        @DisplayName("트랜잭션 안에서는 커밋 이후에 Set을 갱신한다")
+        void givenTransaction_whenRemove_thenUpdatesAfterCommit() {
+            // Given
+            TransactionSynchronizationManager.initSynchronization();
+            // When
+            adapter.removeFavoritePrompt(USER_ID, 10L);
+            // Then
+            verify(stringRedisTemplate, never()).execute(any(RedisScript.class), anyList(), any());
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            verify(stringRedisTemplate).execute(any(RedisScript.class), eq(List.of(FAVORITE_KEY, FAVORITE_VERSION_KEY)),
+                eq("10"), anyString(), anyString());
+        }
+    }
+}
@@ -7,16 +7,22 @@ import com.gongdel.promptserver.application.port.in.command.LogoutCommand;
 import com.gongdel.promptserver.application.port.in.command.SignUpCommand;
 import com.gongdel.promptserver.application.port.in.command.TokenRefreshCommand;
 import com.gongdel.promptserver.application.port.out.command.*;
-import com.gongdel.promptserver.application.port.out.query.LoadRefreshTokenPort;
 import com.gongdel.promptserver.application.port.out.query.LoadRolePort;
 import com.gongdel.promptserver.application.port.out.query.LoadUserPort;
 import com.gongdel.promptserver.common.security.JwtTokenProvider;
+import com.gongdel.promptserver.common.security.ParsedToken;
 import com.gongdel.promptserver.common.security.SecurityUserDetails;
+import com.gongdel.promptserver.domain.exception.AuthBusyException;
 import com.gongdel.promptserver.domain.exception.AuthException;
+import com.gongdel.promptserver.domain.exception.InvalidJwtException;
 import com.gongdel.promptserver.domain.exception.TokenException;
 import com.gongdel.promptserver.domain.exception.TokenValidationException;
+import com.gongdel.promptserver.domain.login.LoginHistory;
 import com.gongdel.promptserver.domain.logout.LogoutToken;
+import com.gongdel.promptserver.domain.refreshtoken.RefreshToken;
+import com.gongdel.promptserver.domain.refreshtoken.RefreshTokenRotation;
 import com.gongdel.promptserver.domain.role.Role;
+import com.gongdel.promptserver.domain.statistics.DashboardStatisticsChangedEvent;
 import com.gongdel.promptserver.domain.user.*;
 import com.gongdel.promptserver.domain.userauth.UserAuthentication;
 import org.junit.jupiter.api.BeforeEach;
@@ -24,14 +30,18 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 import java.util.Date;
@@ -70,7 +80,13 @@ class AuthCommandServiceTest {
     @Mock
     private SaveRefreshTokenPort saveRefreshTokenPort;
     @Mock
-    private LoadRefreshTokenPort loadRefreshTokenPort;
+    private ConsumeLegacyRefreshTokenPort consumeLegacyRefreshTokenPort;
+    @Mock
+    private RecordLoginHistoryPort recordLoginHistoryPort;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private TransactionTemplate transactionTemplate;
 
     @InjectMocks
     private AuthCommandService authCommandService;
@@ -101,15 +117,22 @@ class AuthCommandServiceTest {
             when(saveUserPort.saveUser(any(User.class))).thenReturn(mockUser);
             when(loadRolePort.loadRoleByName("ROLE_USER")).thenReturn(Optional.of(mockRole));
             when(passwordEncoder.encode(anyString())).thenReturn("encodedPassword");
+            when(transactionTemplate.execute(any()))
+                    .thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
 
             // When
             authCommandService.signUp(signUpCommand);
 
             // Then
+            InOrder inOrder = inOrder(passwordEncoder, transactionTemplate, saveUserPort);
+            inOrder.verify(passwordEncoder).encode(anyString());
+            inOrder.verify(transactionTemplate).execute(any());
+            inOrder.verify(saveUserPort).saveUser(any(User.class));
             verify(loadUserPort).loadUserByEmail(any(Email.class));
             verify(saveUserPort).saveUser(any(User.class));
             verify(saveUserAuthPort).saveUserAuthentication(any(UserAuthentication.class));
             verify(saveUserRolePort).saveUserRole(any(UserRole.class));
+            verify(eventPublisher).publishEvent(any(DashboardStatisticsChangedEvent.class));
         }
 
         @Test
@@ -179,7 +202,7 @@ class AuthCommandServiceTest {
             when(userDetails.getUser()).thenReturn(mockUser);
             when(mockUser.getUuid()).thenReturn(new UserId(UUID.randomUUID()));
             when(jwtTokenProvider.generateAccessToken(any(User.class))).thenReturn("accessToken");
-            when(jwtTokenProvider.generateRefreshToken(any(User.class))).thenReturn("refreshToken");
+            when(jwtTokenProvider.generateRefreshToken(any(User.class), anyString())).thenReturn("refreshToken");
             when(jwtTokenProvider.getExpiration(eq("refreshToken"))).thenReturn(new Date());
 
             // When
@@ -190,6 +213,29 @@ class AuthCommandServiceTest {
             assertThat(response.getAccessToken()).isEqualTo("accessToken");
             assertThat(response.getRefreshToken()).isEqualTo("refreshToken");
             assertThat(response.getTokenType()).isEqualTo("Bearer");
+            verify(saveRefreshTokenPort).saveRefreshToken(any(RefreshToken.class));
+            verify(recordLoginHistoryPort).recordLogin(any(LoginHistory.class));
+        }
+
+        @Test
+        @DisplayName("로그인 이력 기록에 실패해도 로그인은 성공한다")
+        void givenHistoryRecordingFails_whenLogin_thenStillReturnsTokens() {
+            // Given
+            when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
+                    .thenReturn(authentication);
+            when(authentication.getPrincipal()).thenReturn(userDetails);
+            when(userDetails.getUser()).thenReturn(mockUser);
+            when(mockUser.getUuid()).thenReturn(new UserId(UUID.randomUUID()));
+            when(jwtTokenProvider.generateAccessToken(any(User.class))).thenReturn("accessToken");
+            when(jwtTokenProvider.generateRefreshToken(any(User.class), anyString())).thenReturn("refreshToken");
+            when(jwtTokenProvider.getExpiration(eq("refreshToken"))).thenReturn(new Date());
+            doThrow(new IllegalStateException("queue error")).when(recordLoginHistoryPort).recordLogin(any());
+
+            // When
+            LoginResponse response = authCommandService.login(loginCommand);
+
+            // Then
+            assertThat(response.getAccessToken()).isEqualTo("accessToken");
         }
 
         @Test
@@ -204,6 +250,33 @@ class AuthCommandServiceTest {
                 .isInstanceOf(AuthException.class)
                 .hasMessageContaining(AuthException.invalidCredentials().getMessage());
         }
+
+        @Test
+        @DisplayName("자격증명이 틀리면 사용자를 조회하지 않고 이메일로 실패 이력을 남긴다")
+        void givenInvalidCredentials_whenLogin_thenRecordsFailedLoginByEmail() {
+            // Given
+            when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
+                    .thenThrow(new BadCredentialsException("Invalid credentials"));
+
+            // When & Then
+            assertThatThrownBy(() -> authCommandService.login(loginCommand))
+                .isInstanceOf(AuthException.class);
+            verify(recordLoginHistoryPort).recordFailedLogin(loginCommand.getEmail(), loginCommand.getIpAddress(),
+                loginCommand.getUserAgent());
+            verifyNoInteractions(loadUserPort);
+        }
+
+        @Test
+        @DisplayName("비밀번호 해시 대기열이 가득 차면 AuthBusyException을 그대로 전파한다")
+        void givenHashQueueFull_whenLogin_thenPropagatesAuthBusyException() {
+            // Given
+            when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
+                    .thenThrow(new AuthBusyException(1));
+
+            // When & Then
+            assertThatThrownBy(() -> authCommandService.login(loginCommand))
+                .isInstanceOf(AuthBusyException.class);
+        }
     }
 
     @Nested
@@ -212,7 +285,8 @@ class AuthCommandServiceTest {
         private TokenRefreshCommand refreshCommand;
         private User mockUser;
         private UserId userId;
-        private Email email;
+        private ParsedToken presentedToken;
+        private ParsedToken nextToken;
 
         @BeforeEach
         void setUp() {
@@ -221,44 +295,123 @@ class AuthCommandServiceTest {
                     .build();
             mockUser = mock(User.class);
             userId = new UserId(UUID.randomUUID());
-            email = new Email("test@example.com");
+            presentedToken = mock(ParsedToken.class);
+            nextToken = mock(ParsedToken.class);
         }
 
-        @Test
-        @DisplayName("리프레시 토큰으로 액세스 토큰을 성공적으로 갱신한다")
-        void givenValidRefreshToken_whenRefresh_thenReturnsNewAccessToken() {
-            // Given
-            when(loadRefreshTokenPort.isRefreshTokenValid(anyString())).thenReturn(true);
-            when(jwtTokenProvider.getUserId(anyString())).thenReturn(userId);
+        private void givenRefreshableToken() {
+            when(jwtTokenProvider.parseToken("refreshToken")).thenReturn(presentedToken);
+            when(presentedToken.getFamilyId()).thenReturn("family-1");
+            when(presentedToken.getUserId()).thenReturn(userId);
+            when(presentedToken.getExpirationDate()).thenReturn(LocalDateTime.now().plusDays(1));
             when(loadUserPort.loadUserByUserId(userId)).thenReturn(Optional.of(mockUser));
+            when(mockUser.getUuid()).thenReturn(userId);
             when(jwtTokenProvider.generateAccessToken(any(User.class))).thenReturn("newAccessToken");
-            // when(jwtTokenProvider.getExpiration(anyString())).thenReturn(mock(Date.class));
+            when(jwtTokenProvider.generateRefreshToken(mockUser, "family-1")).thenReturn("newRefreshToken");
+            when(jwtTokenProvider.parseToken("newRefreshToken")).thenReturn(nextToken);
+            when(nextToken.getExpirationDate()).thenReturn(LocalDateTime.now().plusDays(7));
+        }
+
+        @Test
+        @DisplayName("리프레시 토큰을 교체하고 새 액세스 토큰과 리프레시 토큰을 발급한다")
+        void givenValidRefreshToken_whenRefresh_thenRotatesAndReturnsNewTokens() {
+            // Given
+            givenRefreshableToken();
+            when(saveRefreshTokenPort.rotateRefreshToken(any(RefreshToken.class), any(RefreshToken.class)))
+                .thenReturn(RefreshTokenRotation.ROTATED);
+
             // When
             TokenRefreshResponse response = authCommandService.refresh(refreshCommand);
 
             // Then
-            assertThat(response).isNotNull();
             assertThat(response.getAccessToken()).isEqualTo("newAccessToken");
+            assertThat(response.getRefreshToken()).isEqualTo("newRefreshToken");
             assertThat(response.getTokenType()).isEqualTo("Bearer");
-            verify(loadRefreshTokenPort).isRefreshTokenValid(refreshCommand.getRefreshToken());
-            verify(jwtTokenProvider).getUserId(refreshCommand.getRefreshToken());
-            verify(loadUserPort).loadUserByUserId(userId);
-            verify(jwtTokenProvider).generateAccessToken(any(User.class));
+            verify(saveRefreshTokenPort).rotateRefreshToken(
+                argThat(presented -> presented.getToken().equals("refreshToken")
+                    && presented.getFamilyId().equals("family-1")),
+                argThat(next -> next.getToken().equals("newRefreshToken")
+                    && next.getFamilyId().equals("family-1")));
+        }
+
+        @Test
+        @DisplayName("이미 교체된 리프레시 토큰이면 TokenException(재사용)을 던진다")
+        void givenReusedRefreshToken_whenRefresh_thenThrowsReusedException() {
+            // Given
+            givenRefreshableToken();
+            when(saveRefreshTokenPort.rotateRefreshToken(any(RefreshToken.class), any(RefreshToken.class)))
+                .thenReturn(RefreshTokenRotation.REUSED);
+
+            // When & Then
+            assertThatThrownBy(() -> authCommandService.refresh(refreshCommand))
+                .isInstanceOf(TokenException.class)
+                .hasMessageContaining("이미 사용된 리프레시 토큰입니다");
         }
 
         @Test
-        @DisplayName("유효하지 않은 리프레시 토큰으로 갱신하면 TokenException을 던진다")
-        void givenInvalidRefreshToken_whenRefresh_thenThrowsTokenException() {
+        @DisplayName("저장소에 없는 토큰 패밀리면 TokenException(없음)을 던진다")
+        void givenUnknownFamily_whenRefresh_thenThrowsNotFoundException() {
             // Given
-            when(loadRefreshTokenPort.isRefreshTokenValid(anyString())).thenReturn(false);
+            givenRefreshableToken();
+            when(saveRefreshTokenPort.rotateRefreshToken(any(RefreshToken.class), any(RefreshToken.class)))
+                .thenReturn(RefreshTokenRotation.NOT_FOUND);
 
             // When & Then
             assertThatThrownBy(() -> authCommandService.refresh(refreshCommand))
                 .isInstanceOf(TokenException.class)
-                .hasMessageContaining("토큰 저장에 실패했습니다:");
-            verify(loadRefreshTokenPort).isRefreshTokenValid(refreshCommand.getRefreshToken());
-            verify(jwtTokenProvider, never()).getUserId(anyString());
+                .hasMessageContaining("토큰을 찾을 수 없습니다");
+        }
+
+        @Test
+        @DisplayName("패밀리 ID가 없고 기존 저장소에도 없는 토큰(액세스 토큰 등)이면 사용자를 조회하지 않고 TokenException을 던진다")
+        void givenTokenWithoutFamily_whenRefresh_thenThrowsTokenException() {
+            // Given
+            when(jwtTokenProvider.parseToken("refreshToken")).thenReturn(presentedToken);
+            when(presentedToken.getFamilyId()).thenReturn(null);
+            when(consumeLegacyRefreshTokenPort.consumeLegacyRefreshToken("refreshToken")).thenReturn(false);
+
+            // When & Then
+            assertThatThrownBy(() -> authCommandService.refresh(refreshCommand))
+                .isInstanceOf(TokenException.class)
+                .hasMessageContaining("토큰을 찾을 수 없습니다");
             verify(loadUserPort, never()).loadUserByUserId(any(UserId.class));
+            verify(saveRefreshTokenPort, never()).rotateRefreshToken(any(), any());
+        }
+
+        @Test
+        @DisplayName("패밀리 도입 이전의 리프레시 토큰이면 한 번 소비하고 새 패밀리로 토큰을 발급한다")
+        void givenLegacyRefreshToken_whenRefresh_thenMintsNewFamily() {
+            // Given
+            when(jwtTokenProvider.parseToken("refreshToken")).thenReturn(presentedToken);
+            when(presentedToken.getFamilyId()).thenReturn(null);
+            when(presentedToken.getUserId()).thenReturn(userId);
+            when(consumeLegacyRefreshTokenPort.consumeLegacyRefreshToken("refreshToken")).thenReturn(true);
+            when(loadUserPort.loadUserByUserId(userId)).thenReturn(Optional.of(mockUser));
+            when(mockUser.getUuid()).thenReturn(userId);
+            when(jwtTokenProvider.generateAccessToken(mockUser)).thenReturn("newAccessToken");
+            when(jwtTokenProvider.generateRefreshToken(eq(mockUser), anyString())).thenReturn("newRefreshToken");
+            when(jwtTokenProvider.getExpiration("newRefreshToken")).thenReturn(new Date());
+
+            // When
+            TokenRefreshResponse response = authCommandService.refresh(refreshCommand);
+
+            // Then
+            assertThat(response.getAccessToken()).isEqualTo("newAccessToken");
+            assertThat(response.getRefreshToken()).isEqualTo("newRefreshToken");
+            verify(saveRefreshTokenPort).saveRefreshToken(argThat(token -> token.getToken().equals("newRefreshToken")));
+            verify(saveRefreshTokenPort, never()).rotateRefreshToken(any(), any());
+        }
+
+        @Test
+        @DisplayName("서명이 유효하지 않은 토큰이면 TokenValidationException을 던진다")
+        void givenInvalidRefreshToken_whenRefresh_thenThrowsTokenValidationException() {
+            // Given
+            when(jwtTokenProvider.parseToken("refreshToken")).thenThrow(new InvalidJwtException("invalid"));
+
+            // When & Then
+            assertThatThrownBy(() -> authCommandService.refresh(refreshCommand))
+                .isInstanceOf(TokenValidationException.class);
+            verify(saveRefreshTokenPort, never()).rotateRefreshToken(any(), any());
         }
     }
 
@@ -278,10 +431,11 @@ class AuthCommandServiceTest {
         @DisplayName("로그아웃을 성공적으로 처리한다")
         void givenValidAccessToken_whenLogout_thenSuccess() {
             // Given
-            when(jwtTokenProvider.validateToken(anyString())).thenReturn(true);
-            when(jwtTokenProvider.getTokenId(anyString())).thenReturn("tokenId");
-            when(jwtTokenProvider.getUserId(anyString())).thenReturn(new UserId(UUID.randomUUID()));
-            when(jwtTokenProvider.getExpirationDate(anyString())).thenReturn(LocalDateTime.now());
+            ParsedToken parsedToken = mock(ParsedToken.class);
+            when(parsedToken.getTokenId()).thenReturn("tokenId");
+            when(parsedToken.getUserId()).thenReturn(new UserId(UUID.randomUUID()));
+            when(parsedToken.getExpirationDate()).thenReturn(LocalDateTime.now());
+            when(jwtTokenProvider.parseToken(anyString())).thenReturn(parsedToken);
 
             // When
             authCommandService.logout(logoutCommand);
@@ -294,7 +448,7 @@ class AuthCommandServiceTest {
         @DisplayName("유효하지 않은 액세스 토큰으로 로그아웃하면 TokenValidationException을 던진다")
         void givenInvalidAccessToken_whenLogout_thenThrowsTokenValidationException() {
             // Given
-            when(jwtTokenProvider.validateToken(anyString())).thenReturn(false);
+            when(jwtTokenProvider.parseToken(anyString())).thenThrow(new InvalidJwtException("invalid"));
 
             // When & Then
             assertThatThrownBy(() -> authCommandService.logout(logoutCommand))
@@ -10,6 +10,7 @@ import com.gongdel.promptserver.application.port.out.command.SaveCategoryPort;
 import com.gongdel.promptserver.application.port.out.command.UpdateCategoryPort;
 import com.gongdel.promptserver.application.port.out.query.LoadCategoryPort;
 import com.gongdel.promptserver.domain.model.Category;
+import com.gongdel.promptserver.domain.model.CategoryChangedEvent;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -17,6 +18,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.Optional;
 
@@ -42,6 +44,9 @@ class CategoryCommandServiceTest {
     @Mock
     private LoadCategoryPort loadCategoryPort;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private CategoryCommandService categoryCommandService;
 
@@ -81,6 +86,7 @@ class CategoryCommandServiceTest {
             assertThat(result.getDisplayName()).isEqualTo("프로그래밍");
             verify(loadCategoryPort).loadCategoryByName("programming");
             verify(saveCategoryPort).saveCategory(any(Category.class));
+            verify(eventPublisher).publishEvent(any(CategoryChangedEvent.class));
         }
 
         @Test
@@ -352,6 +358,7 @@ class CategoryCommandServiceTest {
 
             // then
             verify(deleteCategoryPort).deleteCategory(categoryId);
+            verify(eventPublisher).publishEvent(any(CategoryChangedEvent.class));
         }
 
         @Test
@@ -2,9 +2,11 @@ package com.gongdel.promptserver.application.usecase.command;
 
 import com.gongdel.promptserver.application.port.out.command.DeleteFavoritePort;
 import com.gongdel.promptserver.application.port.out.command.SaveFavoritePort;
+import com.gongdel.promptserver.application.port.out.command.UpdateUserPromptMembershipPort;
 import com.gongdel.promptserver.application.port.out.query.LoadPromptTemplateIdPort;
 import com.gongdel.promptserver.domain.exception.FavoriteException;
 import com.gongdel.promptserver.domain.model.favorite.Favorite;
+import com.gongdel.promptserver.domain.statistics.DashboardStatisticsChangedEvent;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -13,6 +15,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDateTime;
 import java.util.Optional;
@@ -32,6 +35,10 @@ class FavoriteCommandServiceTest {
     private DeleteFavoritePort deleteFavoritePort;
     @Mock
     private LoadPromptTemplateIdPort loadPromptTemplateIdPort;
+    @Mock
+    private UpdateUserPromptMembershipPort updateUserPromptMembershipPort;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
     @InjectMocks
     private FavoriteCommandService favoriteCommandService;
@@ -71,6 +78,8 @@ class FavoriteCommandServiceTest {
             assertThat(result.getUserId()).isEqualTo(userId);
             assertThat(result.getPromptTemplateId()).isEqualTo(promptId);
             then(saveFavoritePort).should().save(any(Favorite.class));
+            then(updateUserPromptMembershipPort).should().addFavoritePrompt(userId, promptId);
+            then(eventPublisher).should().publishEvent(any(DashboardStatisticsChangedEvent.class));
         }
 
         @Test
@@ -130,6 +139,21 @@ class FavoriteCommandServiceTest {
             // When & Then
             assertThatCode(() -> favoriteCommandService.removeFavorite(userId, promptTemplateUuid))
                 .doesNotThrowAnyException();
+            then(updateUserPromptMembershipPort).should().removeFavoritePrompt(userId, promptId);
+        }
+
+        @Test
+        @DisplayName("삭제된 즐겨찾기가 없으면 멤버십 캐시를 갱신하지 않는다")
+        void givenNoFavorite_whenRemoveFavorite_thenDoesNotUpdateMembership() {
+            // Given
+            given(loadPromptTemplateIdPort.findIdByUuid(promptTemplateUuid)).willReturn(Optional.of(promptId));
+            given(deleteFavoritePort.deleteByUserIdAndPromptTemplateId(userId, promptId)).willReturn(0L);
+
+            // When
+            favoriteCommandService.removeFavorite(userId, promptTemplateUuid);
+
+            // Then
+            then(updateUserPromptMembershipPort).shouldHaveNoInteractions();
         }
 
         @Test
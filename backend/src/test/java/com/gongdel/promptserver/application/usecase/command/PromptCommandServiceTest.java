@@ -17,6 +17,7 @@ import com.gongdel.promptserver.application.port.out.query.LoadPromptVersionPort
 import com.gongdel.promptserver.application.port.out.query.LoadTagPort;
 import com.gongdel.promptserver.domain.exception.PromptOperationException;
 import com.gongdel.promptserver.domain.model.*;
+import com.gongdel.promptserver.domain.statistics.DashboardStatisticsChangedEvent;
 import com.gongdel.promptserver.domain.team.Team;
 import com.gongdel.promptserver.domain.team.TeamId;
 import com.gongdel.promptserver.domain.user.Email;
@@ -30,9 +31,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.function.Function;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -56,6 +59,8 @@ class PromptCommandServiceTest {
     LoadPromptPort loadPromptPort;
     @Mock
     LoadPromptVersionPort loadPromptVersionPort;
+    @Mock
+    ApplicationEventPublisher eventPublisher;
 
     @InjectMocks
     PromptCommandService promptCommandService;
@@ -118,9 +123,7 @@ class PromptCommandServiceTest {
         // given
         given(loadTagPort.loadTagByName("Tag1")).willReturn(Optional.of(tag1));
         given(loadTagPort.loadTagByName("Tag2")).willReturn(Optional.of(tag2));
-        given(savePromptPort.savePrompt(any(PromptTemplate.class))).willReturn(savedPrompt);
-        given(savePromptVersionPort.savePromptVersion(any(PromptVersion.class))).willReturn(savedVersion);
-        given(loadPromptPort.loadPromptByUuid(any(UUID.class))).willReturn(Optional.of(savedPrompt));
+        givenPromptSavedWithInitialVersion();
 
         // when
         RegisterPromptResponse response = promptCommandService.registerPrompt(baseCommand);
@@ -128,6 +131,62 @@ class PromptCommandServiceTest {
         // then
         assertThat(response).isNotNull();
         assertThat(response.getTitle()).isEqualTo("Test Prompt");
+        then(eventPublisher).should().publishEvent(any(DashboardStatisticsChangedEvent.class));
+        then(eventPublisher).should().publishEvent(any(PromptCategoryChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("템플릿과 최초 버전을 한 번에 저장하고 재조회 없이 응답을 구성한다")
+    void registerPrompt_savesTemplateWithInitialVersionOnce() {
+        // given
+        given(loadTagPort.loadTagByName("Tag1")).willReturn(Optional.of(tag1));
+        given(loadTagPort.loadTagByName("Tag2")).willReturn(Optional.of(tag2));
+        List<PromptVersion> createdVersions = givenPromptSavedWithInitialVersion();
+
+        // when
+        RegisterPromptResponse response = promptCommandService.registerPrompt(baseCommand);
+
+        // then
+        assertThat(response.getId()).isEqualTo(savedPrompt.getId());
+        assertThat(response.getCurrentVersionId()).isEqualTo(savedVersion.getId());
+        assertThat(response.getTags()).isNotEmpty();
+        assertThat(createdVersions).singleElement().satisfies(version -> {
+            assertThat(version.getPromptTemplateId()).isEqualTo(savedPrompt.getId());
+            assertThat(version.getVersionNumber()).isEqualTo(1);
+            assertThat(version.getContent()).isEqualTo("Content");
+            assertThat(version.getActionType()).isEqualTo(PromptVersionActionType.CREATE);
+        });
+        then(savePromptPort).should(never()).savePrompt(any());
+        then(savePromptVersionPort).shouldHaveNoInteractions();
+        then(loadPromptPort).shouldHaveNoInteractions();
+    }
+
+    /**
+     * 템플릿 ID를 할당하고 최초 버전 팩토리를 호출하는 저장 포트 동작을 설정합니다.
+     *
+     * @return 팩토리로 생성된 최초 버전 목록
+     */
+    private List<PromptVersion> givenPromptSavedWithInitialVersion() {
+        List<PromptVersion> createdVersions = new ArrayList<>();
+        given(savePromptPort.savePromptWithInitialVersion(any(PromptTemplate.class), any()))
+            .willAnswer(invocation -> {
+                PromptTemplate template = invocation.getArgument(0);
+                Function<Long, PromptVersion> initialVersionFactory = invocation.getArgument(1);
+                createdVersions.add(initialVersionFactory.apply(savedPrompt.getId()));
+                return PromptTemplate.builder()
+                    .id(savedPrompt.getId())
+                    .uuid(template.getUuid())
+                    .title(template.getTitle())
+                    .description(template.getDescription())
+                    .createdById(template.getCreatedById())
+                    .visibility(template.getVisibility())
+                    .categoryId(template.getCategoryId())
+                    .status(template.getStatus())
+                    .currentVersionId(savedVersion.getId())
+                    .tags(template.getTags())
+                    .build();
+            });
+        return createdVersions;
     }
 
     @Test
@@ -143,9 +202,7 @@ class PromptCommandServiceTest {
             .tags(Collections.emptySet())
             .createdBy(testUser)
             .build();
-        given(savePromptPort.savePrompt(any(PromptTemplate.class))).willReturn(savedPrompt);
-        given(savePromptVersionPort.savePromptVersion(any(PromptVersion.class))).willReturn(savedVersion);
-        given(loadPromptPort.loadPromptByUuid(any(UUID.class))).willReturn(Optional.of(savedPrompt));
+        givenPromptSavedWithInitialVersion();
 
         // when
         RegisterPromptResponse response = promptCommandService.registerPrompt(command);
@@ -170,9 +227,7 @@ class PromptCommandServiceTest {
             .build();
         given(loadTagPort.loadTagByName("Tag1")).willReturn(Optional.of(tag1));
         given(loadTagPort.loadTagByName("Tag2")).willReturn(Optional.of(tag2));
-        given(savePromptPort.savePrompt(any(PromptTemplate.class))).willReturn(savedPrompt);
-        given(savePromptVersionPort.savePromptVersion(any(PromptVersion.class))).willReturn(savedVersion);
-        given(loadPromptPort.loadPromptByUuid(any(UUID.class))).willReturn(Optional.of(savedPrompt));
+        givenPromptSavedWithInitialVersion();
 
         // when
         RegisterPromptResponse response = promptCommandService.registerPrompt(command);
@@ -193,7 +248,6 @@ class PromptCommandServiceTest {
             .status(PromptStatus.PUBLISHED)
             .createdBy(testUser)
             .build();
-        given(savePromptPort.savePrompt(any(PromptTemplate.class))).willReturn(savedPrompt);
 
         // when
         Throwable thrown = catchThrowable(() -> promptCommandService.registerPrompt(command));
@@ -493,7 +547,9 @@ class PromptCommandServiceTest {
             verify(savePromptVersionPort)
                 .savePromptVersion(argThat(version -> version.getVersionNumber() == 2 &&
                     version.getContent().equals("Updated Content") &&
-                    version.getActionType() == PromptVersionActionType.EDIT));
+                    version.getActionType() == PromptVersionActionType.EDIT &&
+                    "-1\nOld Content\n+1\nUpdated Content".equals(version.getContentDiff()) &&
+                    version.getChanges().contains("+1줄, -1줄")));
         }
     }
 
@@ -524,14 +580,7 @@ class PromptCommandServiceTest {
                 .visibility(null)
                 .build();
 
-            PromptTemplate teamTemplate = PromptTemplate.of(
-                10L, UUID.randomUUID(), command.getTitle(),
-                1L, command.getCategoryId(), teamUser.getId(), Visibility.TEAM,
-                command.getStatus(), command.getDescription(), LocalDateTime.now(), LocalDateTime.now(),
-                Set.of(Tag.create("Tag1")));
-            given(savePromptPort.savePrompt(any())).willReturn(teamTemplate);
-            given(savePromptVersionPort.savePromptVersion(any())).willReturn(savedVersion);
-            given(loadPromptPort.loadPromptByUuid(any())).willReturn(Optional.of(teamTemplate));
+            givenPromptSavedWithInitialVersion();
             given(loadTagPort.loadTagByName(anyString()))
                 .willAnswer(inv -> Optional.of(Tag.create(inv.getArgument(0))));
 
@@ -0,0 +1,259 @@
+package com.gongdel.promptserver.application.usecase.command;
+
+import com.gongdel.promptserver.application.port.in.command.ImportPromptLine;
+import com.gongdel.promptserver.application.port.in.command.RegisterPromptCommand;
+import com.gongdel.promptserver.application.port.in.result.ImportPromptLineResult;
+import com.gongdel.promptserver.application.port.out.SavePromptPort;
+import com.gongdel.promptserver.application.port.out.SaveTagPort;
+import com.gongdel.promptserver.application.port.out.query.LoadCategoryPort;
+import com.gongdel.promptserver.application.port.out.query.LoadTagPort;
+import com.gongdel.promptserver.domain.model.*;
+import com.gongdel.promptserver.domain.statistics.DashboardStatisticsChangedEvent;
+import com.gongdel.promptserver.domain.user.Email;
+import com.gongdel.promptserver.domain.user.User;
+import com.gongdel.promptserver.domain.user.UserId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PromptImportServiceTest {
+
+    @Mock
+    SavePromptPort savePromptPort;
+    @Mock
+    SaveTagPort saveTagPort;
+    @Mock
+    LoadTagPort loadTagPort;
+    @Mock
+    LoadCategoryPort loadCategoryPort;
+    @Mock
+    ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    PromptImportService promptImportService;
+
+    User testUser;
+    Category category;
+
+    @BeforeEach
+    void setUp() {
+        testUser = User.builder().id(1L).uuid(new UserId(UUID.randomUUID())).name("TestUser")
+            .email(new Email("test@test.com")).build();
+        LocalDateTime now = LocalDateTime.now();
+        category = new Category(1L, "category", "카테고리", "설명", null, false, now, now);
+    }
+
+    private ImportPromptLine line(long lineNumber, String title, Long categoryId, Set<String> tags) {
+        return ImportPromptLine.builder()
+            .lineNumber(lineNumber)
+            .command(RegisterPromptCommand.builder()
+                .title(title)
+                .description("Description")
+                .content("Content " + lineNumber)
+                .categoryId(categoryId)
+                .visibility(Visibility.PUBLIC)
+                .status(PromptStatus.DRAFT)
+                .tags(tags)
+                .createdBy(testUser)
+                .build())
+            .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<PromptVersion> givenTemplatesSaved() {
+        List<PromptVersion> createdVersions = new ArrayList<>();
+        AtomicLong sequence = new AtomicLong(100L);
+        given(savePromptPort.savePromptsWithInitialVersions(anyList(), any(BiFunction.class)))
+            .willAnswer(invocation -> {
+                List<PromptTemplate> templates = invocation.getArgument(0);
+                BiFunction<PromptTemplate, Long, PromptVersion> factory = invocation.getArgument(1);
+                List<PromptTemplate> saved = new ArrayList<>();
+                for (PromptTemplate template : templates) {
+                    long id = sequence.incrementAndGet();
+                    createdVersions.add(factory.apply(template, id));
+                    saved.add(PromptTemplate.builder()
+                        .id(id)
+                        .uuid(template.getUuid())
+                        .title(template.getTitle())
+                        .createdById(template.getCreatedById())
+                        .currentVersionId(id)
+                        .categoryId(template.getCategoryId())
+                        .tags(template.getTags())
+                        .build());
+                }
+                return saved;
+            });
+        return createdVersions;
+    }
+
+    @Test
+    @DisplayName("청크의 모든 줄을 한 번의 저장 호출로 등록하고 줄 번호 순으로 결과를 반환한다")
+    void importChunk_savesAllLinesOnce() {
+        // Given
+        given(loadCategoryPort.loadCategoryById(1L)).willReturn(Optional.of(category));
+        List<PromptVersion> createdVersions = givenTemplatesSaved();
+
+        // When
+        List<ImportPromptLineResult> results = promptImportService.importChunk(List.of(
+            line(1, "First", 1L, Set.of()),
+            line(2, "Second", 1L, Set.of()),
+            line(3, "Third", 1L, Set.of())));
+
+        // Then
+        assertThat(results).extracting(ImportPromptLineResult::getLineNumber).containsExactly(1L, 2L, 3L);
+        assertThat(results).allMatch(ImportPromptLineResult::isSuccess);
+        assertThat(createdVersions).extracting(PromptVersion::getContent)
+            .containsExactly("Content 1", "Content 2", "Content 3");
+        assertThat(createdVersions).allMatch(v -> v.getVersionNumber() == 1
+            && v.getActionType() == PromptVersionActionType.CREATE);
+        then(savePromptPort).should(times(1)).savePromptsWithInitialVersions(anyList(), any());
+        then(loadCategoryPort).should(times(1)).loadCategoryById(1L);
+    }
+
+    @Test
+    @DisplayName("청크마다 카테고리별 등록 수를 모은 이벤트와 대시보드 통계 변경 이벤트를 한 번씩 발행한다")
+    void importChunk_publishesAggregatedEventsOncePerChunk() {
+        // Given
+        given(loadCategoryPort.loadCategoryById(1L)).willReturn(Optional.of(category));
+        givenTemplatesSaved();
+
+        // When
+        promptImportService.importChunk(List.of(
+            line(1, "First", 1L, Set.of()),
+            line(2, "Second", 1L, Set.of()),
+            line(3, "Third", null, Set.of())));
+
+        // Then
+        ArgumentCaptor<PromptCategoryChangedEvent> eventCaptor = ArgumentCaptor.forClass(PromptCategoryChangedEvent.class);
+        then(eventPublisher).should().publishEvent(eventCaptor.capture());
+        assertThat(eventCaptor.getValue().getPromptCountDeltas()).containsExactly(Map.entry(1L, 2L));
+        then(eventPublisher).should().publishEvent(any(DashboardStatisticsChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("청크의 태그는 한 번에 조회하고 없는 태그만 한 번에 생성한다")
+    @SuppressWarnings("unchecked")
+    void importChunk_resolvesTagsOncePerChunk() {
+        // Given
+        given(loadCategoryPort.loadCategoryById(1L)).willReturn(Optional.of(category));
+        Tag existing = Tag.of(1L, "java", LocalDateTime.now(), LocalDateTime.now());
+        given(loadTagPort.loadTagsByNames(anyCollection())).willReturn(List.of(existing));
+        given(saveTagPort.saveTags(anyCollection())).willAnswer(invocation -> {
+            Collection<Tag> tags = invocation.getArgument(0);
+            AtomicLong id = new AtomicLong(10L);
+            return tags.stream()
+                .map(tag -> Tag.of(id.incrementAndGet(), tag.getName(), LocalDateTime.now(), LocalDateTime.now()))
+                .toList();
+        });
+        givenTemplatesSaved();
+        ArgumentCaptor<List<PromptTemplate>> templatesCaptor = ArgumentCaptor.forClass(List.class);
+
+        // When
+        promptImportService.importChunk(List.of(
+            line(1, "First", 1L, Set.of("java", " spring ")),
+            line(2, "Second", 1L, Set.of("java", "sql"))));
+
+        // Then
+        ArgumentCaptor<Collection<String>> namesCaptor = ArgumentCaptor.forClass(Collection.class);
+        then(loadTagPort).should(times(1)).loadTagsByNames(namesCaptor.capture());
+        assertThat(namesCaptor.getValue()).containsExactlyInAnyOrder("java", "spring", "sql");
+
+        ArgumentCaptor<Collection<Tag>> newTagsCaptor = ArgumentCaptor.forClass(Collection.class);
+        then(saveTagPort).should(times(1)).saveTags(newTagsCaptor.capture());
+        assertThat(newTagsCaptor.getValue()).extracting(Tag::getName).containsExactlyInAnyOrder("spring", "sql");
+
+        then(savePromptPort).should().savePromptsWithInitialVersions(templatesCaptor.capture(), any());
+        assertThat(templatesCaptor.getValue().get(0).getTags()).extracting(Tag::getName)
+            .containsExactlyInAnyOrder("java", "spring");
+        assertThat(templatesCaptor.getValue().get(1).getTags()).extracting(Tag::getName)
+            .containsExactlyInAnyOrder("java", "sql");
+    }
+
+    @Test
+    @DisplayName("도메인 검증에 실패한 줄은 실패로 보고하고 나머지 줄만 저장한다")
+    @SuppressWarnings("unchecked")
+    void importChunk_reportsInvalidLinesWithoutSavingThem() {
+        // Given
+        given(loadCategoryPort.loadCategoryById(1L)).willReturn(Optional.of(category));
+        given(loadCategoryPort.loadCategoryById(99L)).willReturn(Optional.empty());
+        givenTemplatesSaved();
+        ArgumentCaptor<List<PromptTemplate>> templatesCaptor = ArgumentCaptor.forClass(List.class);
+
+        // When
+        List<ImportPromptLineResult> results = promptImportService.importChunk(List.of(
+            line(1, "Valid", 1L, Set.of()),
+            line(2, "x".repeat(201), 1L, Set.of()),
+            line(3, "Unknown category", 99L, Set.of())));
+
+        // Then
+        assertThat(results).extracting(ImportPromptLineResult::getStatus).containsExactly(
+            ImportPromptLineResult.Status.SUCCESS,
+            ImportPromptLineResult.Status.FAILED,
+            ImportPromptLineResult.Status.FAILED);
+        assertThat(results.get(2).getMessage()).contains("99");
+        then(savePromptPort).should().savePromptsWithInitialVersions(templatesCaptor.capture(), any());
+        assertThat(templatesCaptor.getValue()).extracting(PromptTemplate::getTitle).containsExactly("Valid");
+    }
+
+    @Test
+    @DisplayName("입력 변수가 중복된 줄은 버전 도메인 규칙의 메시지로 실패한다")
+    void importChunk_duplicateInputVariable_failsWithDomainMessage() {
+        // Given
+        InputVariable variable = InputVariable.builder().name("topic").type("string").build();
+        ImportPromptLine duplicated = ImportPromptLine.builder()
+            .lineNumber(1)
+            .command(RegisterPromptCommand.builder()
+                .title("Duplicated")
+                .description("Description")
+                .content("Content {{topic}}")
+                .inputVariables(List.of(variable, variable))
+                .visibility(Visibility.PUBLIC)
+                .status(PromptStatus.DRAFT)
+                .createdBy(testUser)
+                .build())
+            .build();
+
+        // When
+        List<ImportPromptLineResult> results = promptImportService.importChunk(List.of(duplicated));
+
+        // Then
+        assertThat(results).singleElement().satisfies(r -> {
+            assertThat(r.isSuccess()).isFalse();
+            assertThat(r.getMessage()).isEqualTo("중복된 변수명이 있습니다: topic");
+        });
+        then(savePromptPort).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("모든 줄이 검증에 실패하면 저장하지 않는다")
+    void importChunk_allInvalid_doesNotSave() {
+        // Given
+        given(loadCategoryPort.loadCategoryById(99L)).willReturn(Optional.empty());
+
+        // When
+        List<ImportPromptLineResult> results = promptImportService.importChunk(List.of(
+            line(1, "Unknown category", 99L, Set.of())));
+
+        // Then
+        assertThat(results).singleElement().satisfies(r -> assertThat(r.isSuccess()).isFalse());
+        then(savePromptPort).shouldHaveNoInteractions();
+        then(loadTagPort).shouldHaveNoInteractions();
+    }
+}
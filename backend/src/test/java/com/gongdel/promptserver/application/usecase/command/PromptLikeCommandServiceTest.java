@@ -1,10 +1,13 @@
 package com.gongdel.promptserver.application.usecase.command;
 
+import com.gongdel.promptserver.application.port.out.command.UpdateUserPromptMembershipPort;
 import com.gongdel.promptserver.application.port.out.like.command.AddPromptLikePort;
+import com.gongdel.promptserver.application.port.out.like.command.CachePromptLikeCountPort;
 import com.gongdel.promptserver.application.port.out.like.command.RemovePromptLikePort;
-import com.gongdel.promptserver.application.port.out.like.command.UpdatePromptLikeCountPort;
+import com.gongdel.promptserver.application.port.out.like.query.LoadPromptLikeCountPort;
 import com.gongdel.promptserver.application.port.out.query.LoadPromptTemplateIdPort;
 import com.gongdel.promptserver.domain.exception.LikeOperationException;
+import com.gongdel.promptserver.domain.model.PromptLikeCountChangedEvent;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -13,13 +16,16 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -30,9 +36,15 @@ class PromptLikeCommandServiceTest {
     @Mock
     private RemovePromptLikePort removePromptLikePort;
     @Mock
-    private UpdatePromptLikeCountPort updatePromptLikeCountPort;
+    private CachePromptLikeCountPort cachePromptLikeCountPort;
+    @Mock
+    private LoadPromptLikeCountPort loadPromptLikeCountPort;
     @Mock
     private LoadPromptTemplateIdPort loadPromptTemplateIdPort;
+    @Mock
+    private UpdateUserPromptMembershipPort updateUserPromptMembershipPort;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
     @InjectMocks
     private PromptLikeCommandService promptLikeCommandService;
 
@@ -51,17 +63,53 @@ class PromptLikeCommandServiceTest {
     @DisplayName("addLike(Long, UUID) 메서드는")
     class AddLikeTest {
         @Test
-        @DisplayName("정상적으로 좋아요를 추가하고 count를 반환한다")
-        void givenValidInput_whenAddLike_thenReturnsLikeCount() {
+        @DisplayName("좋아요를 추가하고 커밋 이후 반영할 증가 이벤트를 발행한다")
+        void givenValidInput_whenAddLike_thenPublishesIncrementEvent() {
             // Given
             when(loadPromptTemplateIdPort.findIdByUuid(promptTemplateUuid)).thenReturn(Optional.of(promptId));
-            when(updatePromptLikeCountPort.updateLikeCount(any())).thenReturn(5L);
+            when(addPromptLikePort.addLike(any())).thenReturn(true);
+            when(cachePromptLikeCountPort.loadCachedLikeCount(promptId)).thenReturn(OptionalLong.of(4L));
             // When
             long result = promptLikeCommandService.addLike(userId, promptTemplateUuid);
             // Then
             assertThat(result).isEqualTo(5L);
             verify(addPromptLikePort).addLike(any());
-            verify(updatePromptLikeCountPort).updateLikeCount(any());
+            verify(cachePromptLikeCountPort, never()).incrementLikeCount(any());
+            verify(eventPublisher).publishEvent(argThat((Object event) -> event instanceof PromptLikeCountChangedEvent
+                && ((PromptLikeCountChangedEvent) event).getPromptTemplateId().equals(promptId)
+                && ((PromptLikeCountChangedEvent) event).getDelta() == 1L));
+            verify(updateUserPromptMembershipPort).addLikedPrompt(userId, promptId);
+        }
+
+        @Test
+        @DisplayName("캐시를 사용할 수 없으면 Projection 값으로 예상 좋아요 수를 계산한다")
+        void givenCacheFailure_whenAddLike_thenEstimatesFromProjection() {
+            // Given
+            when(loadPromptTemplateIdPort.findIdByUuid(promptTemplateUuid)).thenReturn(Optional.of(promptId));
+            when(addPromptLikePort.addLike(any())).thenReturn(true);
+            when(cachePromptLikeCountPort.loadCachedLikeCount(promptId))
+                .thenThrow(new LikeOperationException("redis down"));
+            when(loadPromptLikeCountPort.loadLikeCount(promptId)).thenReturn(7L);
+            // When
+            long result = promptLikeCommandService.addLike(userId, promptTemplateUuid);
+            // Then
+            assertThat(result).isEqualTo(8L);
+            verify(eventPublisher).publishEvent(any(PromptLikeCountChangedEvent.class));
+        }
+
+        @Test
+        @DisplayName("이미 좋아요한 경우 count를 증가시키지 않고 현재 count를 반환한다")
+        void givenAlreadyLiked_whenAddLike_thenDoesNotIncrementCount() {
+            // Given
+            when(loadPromptTemplateIdPort.findIdByUuid(promptTemplateUuid)).thenReturn(Optional.of(promptId));
+            when(addPromptLikePort.addLike(any())).thenReturn(false);
+            when(cachePromptLikeCountPort.loadCachedLikeCount(promptId)).thenReturn(OptionalLong.of(5L));
+            // When
+            long result = promptLikeCommandService.addLike(userId, promptTemplateUuid);
+            // Then
+            assertThat(result).isEqualTo(5L);
+            verifyNoInteractions(eventPublisher);
+            verifyNoInteractions(updateUserPromptMembershipPort);
         }
 
         @Test
@@ -110,17 +158,34 @@ class PromptLikeCommandServiceTest {
     @DisplayName("removeLike(Long, UUID) 메서드는")
     class RemoveLikeTest {
         @Test
-        @DisplayName("정상적으로 좋아요를 취소하고 count를 반환한다")
+        @DisplayName("좋아요를 취소하고 감소 이벤트를 발행한 뒤 예상 count를 반환한다")
         void givenValidInput_whenRemoveLike_thenReturnsLikeCount() {
             // Given
             when(loadPromptTemplateIdPort.findIdByUuid(promptTemplateUuid)).thenReturn(Optional.of(promptId));
-            when(updatePromptLikeCountPort.updateLikeCount(any())).thenReturn(3L);
+            when(removePromptLikePort.removeLike(any())).thenReturn(true);
+            when(cachePromptLikeCountPort.loadCachedLikeCount(promptId)).thenReturn(OptionalLong.of(4L));
             // When
             long result = promptLikeCommandService.removeLike(userId, promptTemplateUuid);
             // Then
             assertThat(result).isEqualTo(3L);
             verify(removePromptLikePort).removeLike(any());
-            verify(updatePromptLikeCountPort).updateLikeCount(any());
+            verify(eventPublisher).publishEvent(any(PromptLikeCountChangedEvent.class));
+            verify(updateUserPromptMembershipPort).removeLikedPrompt(userId, promptId);
+        }
+
+        @Test
+        @DisplayName("좋아요하지 않은 상태에서 취소하면 count를 감소시키지 않는다")
+        void givenNotLiked_whenRemoveLike_thenDoesNotDecrementCount() {
+            // Given
+            when(loadPromptTemplateIdPort.findIdByUuid(promptTemplateUuid)).thenReturn(Optional.of(promptId));
+            when(removePromptLikePort.removeLike(any())).thenReturn(false);
+            when(cachePromptLikeCountPort.loadCachedLikeCount(promptId)).thenReturn(OptionalLong.empty());
+            when(loadPromptLikeCountPort.loadLikeCount(promptId)).thenReturn(3L);
+            // When
+            long result = promptLikeCommandService.removeLike(userId, promptTemplateUuid);
+            // Then
+            assertThat(result).isEqualTo(3L);
+            verifyNoInteractions(eventPublisher);
         }
 
         @Test
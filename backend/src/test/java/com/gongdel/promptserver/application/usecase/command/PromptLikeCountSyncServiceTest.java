@@ -0,0 +1,162 @@
+package com.gongdel.promptserver.application.usecase.command;
+
+import com.gongdel.promptserver.application.port.out.like.command.CachePromptLikeCountPort;
+import com.gongdel.promptserver.application.port.out.like.command.RebuildPromptLikeCountPort;
+import com.gongdel.promptserver.application.port.out.like.command.UpdatePromptLikeCount;
+import com.gongdel.promptserver.application.port.out.like.command.UpdatePromptLikeCountPort;
+import com.gongdel.promptserver.application.port.out.like.query.LoadPromptLikeCountPort;
+import com.gongdel.promptserver.domain.exception.LikeOperationException;
+import com.gongdel.promptserver.domain.model.PromptLikeCountChangedEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Map;
+import java.util.OptionalLong;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PromptLikeCountSyncService 테스트")
+class PromptLikeCountSyncServiceTest {
+    @Mock
+    private CachePromptLikeCountPort cachePromptLikeCountPort;
+    @Mock
+    private UpdatePromptLikeCountPort updatePromptLikeCountPort;
+    @Mock
+    private RebuildPromptLikeCountPort rebuildPromptLikeCountPort;
+    @Mock
+    private LoadPromptLikeCountPort loadPromptLikeCountPort;
+    @InjectMocks
+    private PromptLikeCountSyncService promptLikeCountSyncService;
+
+    @Nested
+    @DisplayName("applyLikeCountChange(PromptLikeCountChangedEvent) 메서드는")
+    class ApplyLikeCountChangeTest {
+        @Test
+        @DisplayName("캐시된 좋아요 수를 증감하고 Projection은 갱신하지 않는다")
+        void givenCached_whenApply_thenIncrementsCache() {
+            // Given
+            when(cachePromptLikeCountPort.incrementLikeCount(new UpdatePromptLikeCount(100L, 1L)))
+                .thenReturn(OptionalLong.of(5L));
+            // When
+            promptLikeCountSyncService.applyLikeCountChange(new PromptLikeCountChangedEvent(100L, 1L));
+            // Then
+            verify(cachePromptLikeCountPort, never()).initializeLikeCount(any(), anyLong());
+            verify(updatePromptLikeCountPort, never()).updateLikeCount(any());
+        }
+
+        @Test
+        @DisplayName("캐시에 좋아요 수가 없으면 Projection 값으로 초기화한 뒤 증감한다")
+        void givenNotCached_whenApply_thenInitializesCacheFromProjection() {
+            // Given
+            when(cachePromptLikeCountPort.incrementLikeCount(any()))
+                .thenReturn(OptionalLong.empty(), OptionalLong.of(8L));
+            when(loadPromptLikeCountPort.loadLikeCount(100L)).thenReturn(7L);
+            // When
+            promptLikeCountSyncService.applyLikeCountChange(new PromptLikeCountChangedEvent(100L, 1L));
+            // Then
+            verify(cachePromptLikeCountPort).initializeLikeCount(100L, 7L);
+            verify(updatePromptLikeCountPort, never()).updateLikeCount(any());
+        }
+
+        @Test
+        @DisplayName("캐시 작업이 실패하면 Projection을 직접 갱신한다")
+        void givenCacheFailure_whenApply_thenUpdatesProjectionDirectly() {
+            // Given
+            when(cachePromptLikeCountPort.incrementLikeCount(any()))
+                .thenThrow(new LikeOperationException("redis down"));
+            // When
+            promptLikeCountSyncService.applyLikeCountChange(new PromptLikeCountChangedEvent(100L, -1L));
+            // Then
+            verify(updatePromptLikeCountPort).updateLikeCount(new UpdatePromptLikeCount(100L, -1L));
+        }
+    }
+
+    @Nested
+    @DisplayName("flushLikeCounts() 메서드는")
+    class FlushLikeCountsTest {
+        @Test
+        @DisplayName("반영 대기 목록이 빌 때까지 누적된 증감량을 배치로 더하고 0인 증감량은 건너뛴다")
+        void givenPendingDeltas_whenFlush_thenAddsDeltasPerBatch() {
+            // Given
+            when(cachePromptLikeCountPort.popPendingLikeCountDeltas(PromptLikeCountSyncService.FLUSH_BATCH_SIZE))
+                .thenReturn(Map.of(1L, 3L, 2L, 0L), Map.of(3L, -1L), Map.of());
+            // When
+            promptLikeCountSyncService.flushLikeCounts();
+            // Then
+            verify(updatePromptLikeCountPort).addLikeCounts(Map.of(1L, 3L));
+            verify(updatePromptLikeCountPort).addLikeCounts(Map.of(3L, -1L));
+            verify(cachePromptLikeCountPort, never()).restorePendingLikeCountDeltas(any());
+        }
+
+        @Test
+        @DisplayName("저장에 실패하면 꺼낸 증감량을 캐시에 되돌리고 중단한다")
+        void givenSaveFailure_whenFlush_thenRestoresDeltas() {
+            // Given
+            when(cachePromptLikeCountPort.popPendingLikeCountDeltas(anyInt())).thenReturn(Map.of(1L, 2L));
+            doThrow(new LikeOperationException("db down")).when(updatePromptLikeCountPort).addLikeCounts(anyMap());
+            // When
+            promptLikeCountSyncService.flushLikeCounts();
+            // Then
+            verify(cachePromptLikeCountPort).restorePendingLikeCountDeltas(Map.of(1L, 2L));
+            verify(cachePromptLikeCountPort, times(1)).popPendingLikeCountDeltas(anyInt());
+        }
+    }
+
+    @Nested
+    @DisplayName("reconcileLikeCounts() 메서드는")
+    class ReconcileLikeCountsTest {
+        @Test
+        @DisplayName("락을 잡으면 대기 값을 반영한 뒤 원본 테이블로 재계산하고 캐시를 비운 뒤 락을 해제한다")
+        void givenLock_whenReconcile_thenFlushesRebuildsEvictsAndReleases() {
+            // Given
+            when(cachePromptLikeCountPort.tryAcquireReconcileLock(anyString(), any())).thenReturn(true);
+            when(cachePromptLikeCountPort.popPendingLikeCountDeltas(anyInt())).thenReturn(Map.of());
+            when(rebuildPromptLikeCountPort.rebuildLikeCounts()).thenReturn(2);
+            // When
+            promptLikeCountSyncService.reconcileLikeCounts();
+            // Then
+            InOrder inOrder = inOrder(cachePromptLikeCountPort, rebuildPromptLikeCountPort);
+            inOrder.verify(cachePromptLikeCountPort).popPendingLikeCountDeltas(anyInt());
+            inOrder.verify(rebuildPromptLikeCountPort).rebuildLikeCounts();
+            inOrder.verify(cachePromptLikeCountPort).evictLikeCounts();
+            inOrder.verify(cachePromptLikeCountPort).releaseReconcileLock(anyString());
+        }
+
+        @Test
+        @DisplayName("다른 인스턴스가 락을 잡고 있으면 재계산하지 않는다")
+        void givenLockHeldElsewhere_whenReconcile_thenSkips() {
+            // Given
+            when(cachePromptLikeCountPort.tryAcquireReconcileLock(anyString(), any())).thenReturn(false);
+            // When
+            promptLikeCountSyncService.reconcileLikeCounts();
+            // Then
+            verify(rebuildPromptLikeCountPort, never()).rebuildLikeCounts();
+            verify(cachePromptLikeCountPort, never()).evictLikeCounts();
+            verify(cachePromptLikeCountPort, never()).releaseReconcileLock(anyString());
+        }
+
+        @Test
+        @DisplayName("재계산에 실패하면 캐시를 비우지 않고 락을 해제한다")
+        void givenRebuildFailure_whenReconcile_thenKeepsCache() {
+            // Given
+            when(cachePromptLikeCountPort.tryAcquireReconcileLock(anyString(), any())).thenReturn(true);
+            when(cachePromptLikeCountPort.popPendingLikeCountDeltas(anyInt())).thenReturn(Map.of());
+            when(rebuildPromptLikeCountPort.rebuildLikeCounts()).thenThrow(new LikeOperationException("db down"));
+            // When
+            promptLikeCountSyncService.reconcileLikeCounts();
+            // Then
+            verify(cachePromptLikeCountPort, never()).evictLikeCounts();
+            verify(cachePromptLikeCountPort).releaseReconcileLock(anyString());
+        }
+    }
+}
@@ -1,8 +1,11 @@
 package com.gongdel.promptserver.application.usecase.query;
 
+import com.gongdel.promptserver.application.exception.CategoryNotFoundException;
+import com.gongdel.promptserver.application.port.out.CategoryChangeBroadcastPort;
 import com.gongdel.promptserver.application.port.out.query.FindCategoriesPort;
-import com.gongdel.promptserver.application.port.out.query.LoadCategoryPort;
 import com.gongdel.promptserver.domain.model.Category;
+import com.gongdel.promptserver.domain.model.CategoryCatalogInvalidatedEvent;
+import com.gongdel.promptserver.domain.model.CategoryChangedEvent;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -16,18 +19,20 @@ import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.BDDMockito.given;
-import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 class CategoryQueryServiceTest {
 
     @Mock
-    private LoadCategoryPort loadCategoryPort;
+    private FindCategoriesPort findCategoriesPort;
 
     @Mock
-    private FindCategoriesPort findCategoriesPort;
+    private CategoryChangeBroadcastPort categoryChangeBroadcastPort;
 
     @InjectMocks
     private CategoryQueryService categoryQueryService;
@@ -51,7 +56,7 @@ class CategoryQueryServiceTest {
                 null,
                 null);
 
-            given(loadCategoryPort.loadCategoryById(categoryId)).willReturn(Optional.of(category));
+            given(findCategoriesPort.findAllCategories()).willReturn(List.of(category));
 
             // when
             Optional<Category> result = categoryQueryService.getCategoryById(categoryId);
@@ -60,7 +65,7 @@ class CategoryQueryServiceTest {
             assertThat(result).isPresent();
             assertThat(result.get().getId()).isEqualTo(categoryId);
             assertThat(result.get().getName()).isEqualTo("test");
-            verify(loadCategoryPort).loadCategoryById(categoryId);
+            verify(findCategoriesPort).findAllCategories();
         }
 
         @Test
@@ -68,14 +73,13 @@ class CategoryQueryServiceTest {
         void getCategoryByNonExistingId() {
             // given
             Long nonExistingId = 999L;
-            given(loadCategoryPort.loadCategoryById(nonExistingId)).willReturn(Optional.empty());
+            given(findCategoriesPort.findAllCategories()).willReturn(List.of());
 
             // when
             Optional<Category> result = categoryQueryService.getCategoryById(nonExistingId);
 
             // then
             assertThat(result).isEmpty();
-            verify(loadCategoryPort).loadCategoryById(nonExistingId);
         }
 
         @Test
@@ -93,7 +97,7 @@ class CategoryQueryServiceTest {
                 null,
                 null);
 
-            given(loadCategoryPort.loadCategoryByName(categoryName)).willReturn(Optional.of(category));
+            given(findCategoriesPort.findAllCategories()).willReturn(List.of(category));
 
             // when
             Optional<Category> result = categoryQueryService.getCategoryByName(categoryName);
@@ -101,7 +105,6 @@ class CategoryQueryServiceTest {
             // then
             assertThat(result).isPresent();
             assertThat(result.get().getName()).isEqualTo(categoryName);
-            verify(loadCategoryPort).loadCategoryByName(categoryName);
         }
     }
 
@@ -114,8 +117,8 @@ class CategoryQueryServiceTest {
         void getAllCategories() {
             // given
             List<Category> categories = Arrays.asList(
-                new Category(1L, "cat1", "카테고리1", "설명1", null, false, null, null),
-                new Category(2L, "cat2", "카테고리2", "설명2", null, false, null, null));
+                new Category(2L, "cat2", "카테고리2", "설명2", null, false, null, null),
+                new Category(1L, "cat1", "카테고리1", "설명1", null, false, null, null));
 
             given(findCategoriesPort.findAllCategories()).willReturn(categories);
 
@@ -133,31 +136,31 @@ class CategoryQueryServiceTest {
         @DisplayName("시스템 카테고리 여부로 카테고리를 조회할 수 있다")
         void getCategoriesBySystemFlag() {
             // given
-            List<Category> systemCategories = Arrays.asList(
+            List<Category> categories = Arrays.asList(
                 new Category(1L, "sys1", "시스템1", "설명1", null, true, null, null),
-                new Category(2L, "sys2", "시스템2", "설명2", null, true, null, null));
+                new Category(2L, "user1", "사용자1", "설명2", null, false, null, null),
+                new Category(3L, "sys2", "시스템2", "설명3", null, true, null, null));
 
-            given(findCategoriesPort.findCategoriesByIsSystem(true)).willReturn(systemCategories);
+            given(findCategoriesPort.findAllCategories()).willReturn(categories);
 
             // when
             List<Category> result = categoryQueryService.getCategoriesBySystemFlag(true);
 
             // then
-            assertThat(result).hasSize(2);
-            assertThat(result.get(0).isSystem()).isTrue();
-            assertThat(result.get(1).isSystem()).isTrue();
-            verify(findCategoriesPort).findCategoriesByIsSystem(true);
+            assertThat(result).extracting(Category::getName).containsExactly("sys1", "sys2");
         }
 
         @Test
         @DisplayName("최상위 카테고리를 조회할 수 있다")
         void getRootCategories() {
             // given
-            List<Category> rootCategories = Arrays.asList(
-                new Category(1L, "root1", "루트1", "설명1", null, false, null, null),
-                new Category(2L, "root2", "루트2", "설명2", null, false, null, null));
+            Category root = new Category(1L, "root1", "루트1", "설명1", null, false, null, null);
+            List<Category> categories = Arrays.asList(
+                root,
+                new Category(2L, "root2", "루트2", "설명2", null, false, null, null),
+                new Category(3L, "sub", "하위", "설명3", root, false, null, null));
 
-            given(findCategoriesPort.findRootCategories()).willReturn(rootCategories);
+            given(findCategoriesPort.findAllCategories()).willReturn(categories);
 
             // when
             List<Category> result = categoryQueryService.getRootCategories();
@@ -166,7 +169,6 @@ class CategoryQueryServiceTest {
             assertThat(result).hasSize(2);
             assertThat(result.get(0).getParentCategory()).isNull();
             assertThat(result.get(1).getParentCategory()).isNull();
-            verify(findCategoriesPort).findRootCategories();
         }
 
         @Test
@@ -176,12 +178,12 @@ class CategoryQueryServiceTest {
             Long parentId = 1L;
             Category parent = new Category(parentId, "parent", "상위", "상위 설명", null, false, null, null);
 
-            List<Category> subCategories = Arrays.asList(
+            List<Category> categories = Arrays.asList(
+                parent,
                 new Category(2L, "sub1", "하위1", "설명1", parent, false, null, null),
                 new Category(3L, "sub2", "하위2", "설명2", parent, false, null, null));
 
-            given(loadCategoryPort.loadCategoryById(parentId)).willReturn(Optional.of(mock(Category.class)));
-            given(findCategoriesPort.findCategoriesByParentId(parentId)).willReturn(subCategories);
+            given(findCategoriesPort.findAllCategories()).willReturn(categories);
 
             // when
             List<Category> result = categoryQueryService.getSubCategories(parentId);
@@ -190,7 +192,73 @@ class CategoryQueryServiceTest {
             assertThat(result).hasSize(2);
             assertThat(result.get(0).getParentCategory()).isEqualTo(parent);
             assertThat(result.get(1).getParentCategory()).isEqualTo(parent);
-            verify(findCategoriesPort).findCategoriesByParentId(parentId);
+        }
+
+        @Test
+        @DisplayName("상위 카테고리가 없으면 CategoryNotFoundException을 던진다")
+        void getSubCategoriesOfNonExistingParent() {
+            // given
+            given(findCategoriesPort.findAllCategories()).willReturn(List.of());
+
+            // when & then
+            assertThatThrownBy(() -> categoryQueryService.getSubCategories(1L))
+                .isInstanceOf(CategoryNotFoundException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("카테고리 카탈로그 캐시 테스트")
+    class CatalogCacheTest {
+
+        private final Category category = new Category(1L, "test", "테스트", "설명", null, false, null, null);
+
+        @Test
+        @DisplayName("한 번 적재한 카탈로그로 이후 조회에 응답한다")
+        void givenLoadedCatalog_whenQueryAgain_thenServesFromMemory() {
+            // given
+            given(findCategoriesPort.findAllCategories()).willReturn(List.of(category));
+
+            // when
+            categoryQueryService.getAllCategories();
+            categoryQueryService.getCategoryById(1L);
+            categoryQueryService.getRootCategories();
+
+            // then
+            verify(findCategoriesPort, times(1)).findAllCategories();
+        }
+
+        @Test
+        @DisplayName("카테고리가 변경되면 다시 적재하고 다른 인스턴스에 알리며 버전이 바뀐다")
+        void givenCategoryChanged_whenQuery_thenReloadsAndBroadcasts() {
+            // given
+            Category renamed = new Category(1L, "test", "변경됨", "설명", null, false, null, null);
+            given(findCategoriesPort.findAllCategories()).willReturn(List.of(category), List.of(renamed));
+            String before = categoryQueryService.getCatalogVersion();
+
+            // when
+            categoryQueryService.onCategoryChanged(CategoryChangedEvent.saved(renamed));
+
+            // then
+            assertThat(categoryQueryService.getCategoryById(1L)).get()
+                .extracting(Category::getDisplayName).isEqualTo("변경됨");
+            assertThat(categoryQueryService.getCatalogVersion()).isNotEqualTo(before);
+            verify(categoryChangeBroadcastPort).broadcastCategoryChanged();
+        }
+
+        @Test
+        @DisplayName("다른 인스턴스의 변경 알림을 받으면 다시 알리지 않고 다시 적재한다")
+        void givenRemoteInvalidation_whenQuery_thenReloadsWithoutBroadcast() {
+            // given
+            given(findCategoriesPort.findAllCategories()).willReturn(List.of(category));
+            categoryQueryService.getAllCategories();
+
+            // when
+            categoryQueryService.onCatalogInvalidated(new CategoryCatalogInvalidatedEvent("peer"));
+            categoryQueryService.getAllCategories();
+
+            // then
+            verify(findCategoriesPort, times(2)).findAllCategories();
+            verify(categoryChangeBroadcastPort, never()).broadcastCategoryChanged();
         }
     }
 }
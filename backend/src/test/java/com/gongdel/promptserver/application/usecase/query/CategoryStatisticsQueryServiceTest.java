@@ -2,7 +2,12 @@ package com.gongdel.promptserver.application.usecase.query;
 
 import com.gongdel.promptserver.application.port.out.CategoryStatisticsQueryPort;
 import com.gongdel.promptserver.domain.exception.PromptStatisticsException;
+import com.gongdel.promptserver.domain.model.Category;
+import com.gongdel.promptserver.domain.model.CategoryChangedEvent;
+import com.gongdel.promptserver.domain.model.PromptCategoryChangedEvent;
+import com.gongdel.promptserver.domain.model.statistics.CategoryDirectPromptCount;
 import com.gongdel.promptserver.domain.model.statistics.CategoryPromptCount;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -14,9 +19,11 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -106,4 +113,112 @@ class CategoryStatisticsQueryServiceTest {
             verify(categoryStatisticsQueryPort).getChildCategoryPromptCounts(rootId);
         }
     }
+
+    @Test
+    @DisplayName("최초 적재 중 변경 이벤트가 들어오면 적재 결과를 버리고 SQL 집계로 응답한다")
+    void givenEventDuringInitialLoad_whenReconcile_thenDiscardsTree() {
+        // Given
+        when(categoryStatisticsQueryPort.getCategoryDirectPromptCounts()).thenAnswer(invocation -> {
+            service.onPromptCategoryChanged(new PromptCategoryChangedEvent(null, 1L));
+            return List.of(new CategoryDirectPromptCount(1L, "dev", null, 1L));
+        });
+        when(categoryStatisticsQueryPort.getRootCategoryPromptCounts()).thenReturn(List.of());
+
+        // When
+        service.reconcile();
+        service.getRootCategoryPromptCounts();
+
+        // Then
+        verify(categoryStatisticsQueryPort).getRootCategoryPromptCounts();
+    }
+
+    @Nested
+    @DisplayName("카테고리 트리를 적재한 뒤에는")
+    class CategoryTreeLoadedTest {
+        @BeforeEach
+        void setUp() {
+            when(categoryStatisticsQueryPort.getCategoryDirectPromptCounts()).thenReturn(List.of(
+                new CategoryDirectPromptCount(1L, "dev", null, 1L),
+                new CategoryDirectPromptCount(2L, "backend", 1L, 2L)));
+            service.reconcile();
+        }
+
+        @Test
+        @DisplayName("SQL 집계 없이 메모리 트리로 응답한다")
+        void givenLoadedTree_whenGetCounts_thenServesFromMemory() {
+            // When
+            List<CategoryPromptCount> roots = service.getRootCategoryPromptCounts();
+            List<CategoryPromptCount> children = service.getChildCategoryPromptCounts(1L);
+
+            // Then
+            assertThat(roots).extracting(CategoryPromptCount::getPromptCount).containsExactly(3L);
+            assertThat(children).extracting(CategoryPromptCount::getCategoryId).containsExactly(2L);
+            verify(categoryStatisticsQueryPort, never()).getRootCategoryPromptCounts();
+            verify(categoryStatisticsQueryPort, never()).getChildCategoryPromptCounts(any());
+        }
+
+        @Test
+        @DisplayName("카테고리·프롬프트 변경 이벤트를 트리에 반영한다")
+        void givenChangeEvents_whenGetCounts_thenReflectsChanges() {
+            // Given
+            Category root = new Category(1L, "dev", "개발", null, null, false, null, null);
+            service.onCategoryChanged(CategoryChangedEvent.saved(
+                new Category(3L, "frontend", "프론트엔드", null, root, false, null, null)));
+            service.onPromptCategoryChanged(new PromptCategoryChangedEvent(null, 3L));
+            service.onPromptCategoryChanged(new PromptCategoryChangedEvent(2L, 3L));
+
+            // When
+            List<CategoryPromptCount> children = service.getChildCategoryPromptCounts(1L);
+
+            // Then
+            assertThat(service.getRootCategoryPromptCounts())
+                .extracting(CategoryPromptCount::getPromptCount).containsExactly(4L);
+            assertThat(children).extracting(CategoryPromptCount::getCategoryId, CategoryPromptCount::getPromptCount)
+                .containsExactly(tuple(2L, 1L), tuple(3L, 2L));
+        }
+
+        @Test
+        @DisplayName("가져오기 청크의 카테고리별 등록 수를 한 번에 반영한다")
+        void givenImportedEvent_whenGetCounts_thenAddsAllCounts() {
+            // When
+            service.onPromptCategoryChanged(PromptCategoryChangedEvent.registered(Map.of(1L, 2L, 2L, 3L)));
+
+            // Then
+            assertThat(service.getRootCategoryPromptCounts())
+                .extracting(CategoryPromptCount::getPromptCount).containsExactly(8L);
+            assertThat(service.getChildCategoryPromptCounts(1L))
+                .extracting(CategoryPromptCount::getPromptCount).containsExactly(5L);
+        }
+
+        @Test
+        @DisplayName("대조 중 변경 이벤트가 들어오면 집계 결과를 버리고 기존 트리를 유지한다")
+        void givenEventDuringReconcile_whenReconcile_thenDiscardsResult() {
+            // Given
+            when(categoryStatisticsQueryPort.getCategoryDirectPromptCounts()).thenAnswer(invocation -> {
+                service.onPromptCategoryChanged(new PromptCategoryChangedEvent(null, 99L));
+                return List.of(new CategoryDirectPromptCount(1L, "dev", null, 10L));
+            });
+
+            // When
+            service.reconcile();
+
+            // Then
+            assertThat(service.getRootCategoryPromptCounts())
+                .extracting(CategoryPromptCount::getPromptCount).containsExactly(3L);
+        }
+
+        @Test
+        @DisplayName("대조 중 SQL 오류가 나면 기존 트리를 유지한다")
+        void givenReconcileFailure_whenReconcile_thenKeepsTree() {
+            // Given
+            when(categoryStatisticsQueryPort.getCategoryDirectPromptCounts()).thenThrow(new RuntimeException("DB error"));
+
+            // When
+            service.reconcile();
+
+            // Then
+            assertThat(service.getRootCategoryPromptCounts())
+                .extracting(CategoryPromptCount::getPromptCount).containsExactly(3L);
+        }
+    }
 }
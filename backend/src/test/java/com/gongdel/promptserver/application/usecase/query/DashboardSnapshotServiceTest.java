@@ -0,0 +1,284 @@
+package com.gongdel.promptserver.application.usecase.query;
+
+import com.gongdel.promptserver.application.port.in.CategoryStatisticsQueryUseCase;
+import com.gongdel.promptserver.application.port.in.PromptStatisticsQueryUseCase;
+import com.gongdel.promptserver.application.port.in.TeamMemberStatisticsQueryUseCase;
+import com.gongdel.promptserver.application.port.in.UserStatisticsQueryUseCase;
+import com.gongdel.promptserver.application.port.in.ViewStatisticsQueryUseCase;
+import com.gongdel.promptserver.application.port.in.query.FavoriteQueryUseCase;
+import com.gongdel.promptserver.application.port.out.DashboardSnapshotCachePort;
+import com.gongdel.promptserver.domain.model.statistics.CategoryPromptCount;
+import com.gongdel.promptserver.domain.statistics.ComparisonPeriod;
+import com.gongdel.promptserver.domain.statistics.ComparisonResult;
+import com.gongdel.promptserver.domain.statistics.DashboardSnapshot;
+import com.gongdel.promptserver.domain.statistics.DashboardStatisticsChangedEvent;
+import com.gongdel.promptserver.domain.statistics.FavoriteStatistics;
+import com.gongdel.promptserver.domain.statistics.PromptStatistics;
+import com.gongdel.promptserver.domain.statistics.UserStatistics;
+import com.gongdel.promptserver.domain.view.ViewStatistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DashboardSnapshotService 테스트")
+class DashboardSnapshotServiceTest {
+
+    @Mock
+    private PromptStatisticsQueryUseCase promptStatisticsQueryUseCase;
+    @Mock
+    private UserStatisticsQueryUseCase userStatisticsQueryUseCase;
+    @Mock
+    private FavoriteQueryUseCase favoriteQueryUseCase;
+    @Mock
+    private TeamMemberStatisticsQueryUseCase teamMemberStatisticsQueryUseCase;
+    @Mock
+    private ViewStatisticsQueryUseCase viewStatisticsQueryUseCase;
+    @Mock
+    private CategoryStatisticsQueryUseCase categoryStatisticsQueryUseCase;
+    @Mock
+    private DashboardSnapshotCachePort dashboardSnapshotCachePort;
+
+    @InjectMocks
+    private DashboardSnapshotService service;
+
+    private final ComparisonPeriod period = new ComparisonPeriod(
+        LocalDateTime.of(2024, 6, 1, 0, 0), LocalDateTime.of(2024, 6, 8, 0, 0));
+    private final ComparisonResult result = ComparisonResult.of(10, 5);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(service, "refreshLockSeconds", 10L);
+    }
+
+    private void givenStatistics() {
+        when(promptStatisticsQueryUseCase.getPromptStatistics(any())).thenReturn(new PromptStatistics(100, period, result));
+        when(userStatisticsQueryUseCase.getUserStatistics(any())).thenReturn(new UserStatistics(50, period, result));
+        when(favoriteQueryUseCase.getFavoriteStatistics(any())).thenReturn(new FavoriteStatistics(30, period, result));
+        when(viewStatisticsQueryUseCase.getViewStatistics(any())).thenReturn(new ViewStatistics(3891, period, result));
+        when(teamMemberStatisticsQueryUseCase.getTotalActiveMemberCount()).thenReturn(24L);
+        when(categoryStatisticsQueryUseCase.getRootCategoryPromptCounts())
+            .thenReturn(List.of(new CategoryPromptCount(1L, "Backend", 7L)));
+    }
+
+    private DashboardSnapshot snapshot(LocalDateTime generatedAt) {
+        return new DashboardSnapshot(new PromptStatistics(1, period, result), new UserStatistics(1, period, result),
+            new FavoriteStatistics(1, period, result), new ViewStatistics(1, period, result), 1, List.of(), generatedAt);
+    }
+
+    @Nested
+    @DisplayName("refresh() 메서드는")
+    class RefreshTest {
+        @Test
+        @DisplayName("락을 잡으면 통계를 계산하여 메모리와 Redis에 반영한다")
+        void givenLockAcquired_whenRefresh_thenPublishesSnapshot() {
+            // Given
+            givenStatistics();
+            when(dashboardSnapshotCachePort.tryAcquireRefreshLock(Duration.ofSeconds(10))).thenReturn(true);
+
+            // When
+            service.refresh();
+
+            // Then
+            verify(dashboardSnapshotCachePort).saveSnapshotIfNewer(any(DashboardSnapshot.class));
+            DashboardSnapshot snapshot = service.getSnapshot();
+            assertThat(snapshot.getPromptStatistics().getTotalCount()).isEqualTo(100);
+            assertThat(snapshot.getActiveMemberCount()).isEqualTo(24);
+            assertThat(snapshot.getRootCategoryCounts()).hasSize(1);
+        }
+
+        @Test
+        @DisplayName("다른 인스턴스가 락을 잡고 있으면 계산하지 않는다")
+        void givenLockHeldElsewhere_whenRefresh_thenSkips() {
+            // Given
+            when(dashboardSnapshotCachePort.tryAcquireRefreshLock(any())).thenReturn(false);
+
+            // When
+            service.refresh();
+
+            // Then
+            verifyNoInteractions(promptStatisticsQueryUseCase);
+            verify(dashboardSnapshotCachePort, never()).saveSnapshotIfNewer(any());
+        }
+
+        @Test
+        @DisplayName("Redis 오류로 락을 확인할 수 없으면 계산하지 않고 기존 스냅샷을 유지한다")
+        void givenRedisFailure_whenRefresh_thenSkips() {
+            // Given
+            when(dashboardSnapshotCachePort.tryAcquireRefreshLock(any()))
+                .thenThrow(new RedisConnectionFailureException("down"));
+
+            // When
+            service.refresh();
+
+            // Then
+            verifyNoInteractions(promptStatisticsQueryUseCase);
+            verify(dashboardSnapshotCachePort, never()).saveSnapshotIfNewer(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("syncAndRefreshStale() 메서드는")
+    class SyncAndRefreshStaleTest {
+        @Test
+        @DisplayName("Redis의 스냅샷이 더 최신이면 교체하고, 오래되었으면 유지한다")
+        void givenSharedSnapshots_whenSync_thenKeepsNewest() {
+            // Given
+            DashboardSnapshot newer = snapshot(LocalDateTime.of(2024, 6, 8, 10, 0));
+            DashboardSnapshot older = snapshot(LocalDateTime.of(2024, 6, 8, 9, 0));
+            when(dashboardSnapshotCachePort.loadSnapshot()).thenReturn(Optional.of(newer), Optional.of(older));
+
+            // When
+            service.syncAndRefreshStale();
+            service.syncAndRefreshStale();
+
+            // Then
+            assertThat(service.getSnapshot()).isSameAs(newer);
+            verifyNoInteractions(promptStatisticsQueryUseCase);
+        }
+
+        @Test
+        @DisplayName("통계 변경 이벤트를 받으면 변경 시각을 Redis에 기록한다")
+        void givenChangedEvent_whenHandled_thenMarksSharedChange() {
+            // When
+            service.onStatisticsChanged(new DashboardStatisticsChangedEvent("prompt-registered"));
+
+            // Then
+            verify(dashboardSnapshotCachePort).markChanged(any(LocalDateTime.class));
+            verifyNoInteractions(promptStatisticsQueryUseCase);
+        }
+
+        @Test
+        @DisplayName("Redis에 기록된 변경 시각이 스냅샷보다 늦으면 이벤트를 받지 않은 인스턴스도 다시 계산한다")
+        void givenSharedChangeAfterSnapshot_whenSync_thenRefreshes() {
+            // Given
+            givenStatistics();
+            DashboardSnapshot shared = snapshot(LocalDateTime.now().minusMinutes(1));
+            when(dashboardSnapshotCachePort.loadSnapshot()).thenReturn(Optional.of(shared));
+            when(dashboardSnapshotCachePort.loadLastChangedAt())
+                .thenReturn(Optional.of(shared.getGeneratedAt().plusSeconds(30)));
+            when(dashboardSnapshotCachePort.tryAcquireRefreshLock(any())).thenReturn(true);
+
+            // When
+            service.syncAndRefreshStale();
+            service.syncAndRefreshStale();
+
+            // Then
+            verify(promptStatisticsQueryUseCase, times(1)).getPromptStatistics(any());
+            assertThat(service.getSnapshot().getPromptStatistics().getTotalCount()).isEqualTo(100);
+        }
+
+        @Test
+        @DisplayName("변경 시각을 Redis에 기록하지 못하면 이 인스턴스의 다음 동기화 주기에 다시 계산한다")
+        void givenMarkFailure_whenSync_thenRefreshesLocally() {
+            // Given
+            givenStatistics();
+            doThrow(new RedisConnectionFailureException("down")).when(dashboardSnapshotCachePort).markChanged(any());
+            when(dashboardSnapshotCachePort.tryAcquireRefreshLock(any())).thenReturn(true);
+            service.onStatisticsChanged(new DashboardStatisticsChangedEvent("prompt-registered"));
+
+            // When
+            service.syncAndRefreshStale();
+            service.syncAndRefreshStale();
+
+            // Then
+            verify(promptStatisticsQueryUseCase, times(1)).getPromptStatistics(any());
+            verify(dashboardSnapshotCachePort).saveSnapshotIfNewer(any(DashboardSnapshot.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("getSnapshot() 메서드는")
+    class GetSnapshotTest {
+        @Test
+        @DisplayName("메모리와 Redis에 스냅샷이 없으면 직접 계산한다")
+        void givenNoSnapshot_whenGet_thenComputesOnDemand() {
+            // Given
+            givenStatistics();
+            when(dashboardSnapshotCachePort.loadSnapshot()).thenReturn(Optional.empty());
+
+            // When
+            DashboardSnapshot snapshot = service.getSnapshot();
+
+            // Then
+            assertThat(snapshot.getUserStatistics().getTotalCount()).isEqualTo(50);
+            assertThat(snapshot.getGeneratedAt()).isNotNull();
+        }
+
+        @Test
+        @DisplayName("스냅샷이 없을 때 동시에 들어온 요청은 한 번만 계산하고 같은 결과를 공유한다")
+        void givenConcurrentColdStartRequests_whenGet_thenComputesOnce() throws Exception {
+            // Given
+            givenStatistics();
+            when(dashboardSnapshotCachePort.loadSnapshot()).thenReturn(Optional.empty());
+            int threads = 8;
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+            CountDownLatch start = new CountDownLatch(1);
+            try {
+                List<Future<DashboardSnapshot>> results = new ArrayList<>();
+                for (int i = 0; i < threads; i++) {
+                    results.add(executor.submit(() -> {
+                        start.await();
+                        return service.getSnapshot();
+                    }));
+                }
+
+                // When
+                start.countDown();
+
+                // Then
+                DashboardSnapshot first = results.get(0).get(5, TimeUnit.SECONDS);
+                for (Future<DashboardSnapshot> result : results) {
+                    assertThat(result.get(5, TimeUnit.SECONDS)).isSameAs(first);
+                }
+                verify(promptStatisticsQueryUseCase, times(1)).getPromptStatistics(any());
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("스냅샷 게시는")
+    class PublishTest {
+        @Test
+        @DisplayName("현재 스냅샷보다 오래된 계산 결과는 Redis에 저장하지 않는다")
+        void givenCurrentSnapshotNewer_whenRefresh_thenSkipsSharedWrite() {
+            // Given
+            givenStatistics();
+            DashboardSnapshot newer = snapshot(LocalDateTime.now().plusMinutes(5));
+            when(dashboardSnapshotCachePort.loadSnapshot()).thenReturn(Optional.of(newer));
+            service.syncAndRefreshStale();
+            when(dashboardSnapshotCachePort.tryAcquireRefreshLock(any())).thenReturn(true);
+
+            // When
+            service.refresh();
+
+            // Then
+            verify(dashboardSnapshotCachePort, never()).saveSnapshotIfNewer(any());
+            assertThat(service.getSnapshot()).isSameAs(newer);
+        }
+    }
+}
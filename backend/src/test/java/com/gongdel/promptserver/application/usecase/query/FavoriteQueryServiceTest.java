@@ -19,6 +19,8 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 
 import java.time.LocalDateTime;
 import java.util.*;
@@ -301,4 +303,67 @@ class FavoriteQueryServiceTest {
                 .hasMessageContaining("Failed to search favorites");
         }
     }
+
+    @Nested
+    @DisplayName("scrollFavorites(FavoriteSearchCondition) 메서드는")
+    class ScrollFavoritesTest {
+
+        private FavoritePromptResult createFavoritePromptResult(Long favoriteId, Long promptId) {
+            return FavoritePromptResult.builder()
+                .favoriteId(favoriteId)
+                .promptId(promptId)
+                .promptUuid(UUID.randomUUID())
+                .title("Test Prompt")
+                .visibility(Visibility.PUBLIC)
+                .status(PromptStatus.PUBLISHED)
+                .promptCreatedAt(LocalDateTime.now())
+                .promptUpdatedAt(LocalDateTime.now())
+                .favoriteCreatedAt(LocalDateTime.now())
+                .stats(new PromptStats(0, 2))
+                .build();
+        }
+
+        @Test
+        @DisplayName("커서 이후의 즐겨찾기 목록에 조회수를 통합하여 반환한다")
+        void givenCursor_whenScrollFavorites_thenReturnsSliceWithViewCounts() {
+            // Given
+            FavoriteSearchCondition condition = FavoriteSearchCondition.builder()
+                .userId(1L)
+                .pageable(PageRequest.of(0, 1))
+                .cursor(30L)
+                .build();
+            Slice<FavoritePromptResult> slice = new SliceImpl<>(
+                List.of(createFavoritePromptResult(29L, 101L)), condition.getPageable(), true);
+            when(searchFavoritePort.scrollFavorites(condition)).thenReturn(slice);
+            when(viewQueryService.getViewCountsByPromptIds(List.of(101L))).thenReturn(Map.of(101L, 7L));
+
+            // When
+            Slice<FavoritePromptResult> result = favoriteQueryService.scrollFavorites(condition);
+
+            // Then
+            assertThat(result.hasNext()).isTrue();
+            assertThat(result.getContent()).hasSize(1);
+            assertThat(result.getContent().get(0).getFavoriteId()).isEqualTo(29L);
+            assertThat(result.getContent().get(0).getStats().getViewCount()).isEqualTo(7);
+            assertThat(result.getContent().get(0).getStats().getFavoriteCount()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("유효하지 않은 커서면 IllegalArgumentException을 그대로 던진다")
+        void givenInvalidCursor_whenScrollFavorites_thenThrowsIllegalArgumentException() {
+            // Given
+            FavoriteSearchCondition condition = FavoriteSearchCondition.builder()
+                .userId(1L)
+                .pageable(PageRequest.of(0, 10))
+                .cursor(999L)
+                .build();
+            when(searchFavoritePort.scrollFavorites(condition))
+                .thenThrow(new IllegalArgumentException("Invalid favorite cursor: 999"));
+
+            // When & Then
+            assertThatThrownBy(() -> favoriteQueryService.scrollFavorites(condition))
+                .isInstanceOf(IllegalArgumentException.class);
+            verify(viewQueryService, never()).getViewCountsByPromptIds(anyList());
+        }
+    }
 }
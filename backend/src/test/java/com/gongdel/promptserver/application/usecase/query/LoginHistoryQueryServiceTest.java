@@ -0,0 +1,70 @@
+package com.gongdel.promptserver.application.usecase.query;
+
+import com.gongdel.promptserver.application.port.out.query.LoadLoginHistoryPort;
+import com.gongdel.promptserver.domain.login.LoginHistory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LoginHistoryQueryService 테스트")
+class LoginHistoryQueryServiceTest {
+    @Mock
+    private LoadLoginHistoryPort loadLoginHistoryPort;
+    @InjectMocks
+    private LoginHistoryQueryService loginHistoryQueryService;
+
+    @Nested
+    @DisplayName("getRecentLoginHistories(Long, int) 메서드는")
+    class GetRecentLoginHistories {
+        @Test
+        @DisplayName("포트에서 조회한 최신순 이력을 그대로 반환한다")
+        void givenValidRequest_whenGetRecentLoginHistories_thenReturnsHistories() {
+            // Given
+            List<LoginHistory> histories = List.of(
+                LoginHistory.create(1L, "203.0.113.7", "JUnit", LoginHistory.LoginStatus.SUCCESS));
+            when(loadLoginHistoryPort.loadRecentLoginHistories(1L, 20)).thenReturn(histories);
+            // When
+            List<LoginHistory> result = loginHistoryQueryService.getRecentLoginHistories(1L, 20);
+            // Then
+            assertThat(result).isEqualTo(histories);
+        }
+
+        @Test
+        @DisplayName("최대 건수를 넘는 limit은 최대 건수로 보정한다")
+        void givenLimitAboveMax_whenGetRecentLoginHistories_thenClampsToMax() {
+            // When
+            loginHistoryQueryService.getRecentLoginHistories(1L, 1_000);
+            // Then
+            verify(loadLoginHistoryPort).loadRecentLoginHistories(1L, LoginHistoryQueryService.MAX_LIMIT);
+        }
+
+        @Test
+        @DisplayName("1보다 작은 limit은 1로 보정한다")
+        void givenNonPositiveLimit_whenGetRecentLoginHistories_thenClampsToOne() {
+            // When
+            loginHistoryQueryService.getRecentLoginHistories(1L, 0);
+            // Then
+            verify(loadLoginHistoryPort).loadRecentLoginHistories(1L, 1);
+        }
+
+        @Test
+        @DisplayName("userId가 null이면 IllegalArgumentException을 던진다")
+        void givenNullUserId_whenGetRecentLoginHistories_thenThrowsException() {
+            // When & Then
+            assertThatThrownBy(() -> loginHistoryQueryService.getRecentLoginHistories(null, 20))
+                .isInstanceOf(IllegalArgumentException.class);
+            verifyNoInteractions(loadLoginHistoryPort);
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.gongdel.promptserver.application.usecase.query;
+
+import com.gongdel.promptserver.application.exception.PromptVersionNotFoundException;
+import com.gongdel.promptserver.application.port.in.result.PromptVersionDiffResult;
+import com.gongdel.promptserver.application.port.out.query.FindPromptVersionsPort;
+import com.gongdel.promptserver.application.port.out.query.LoadPromptTemplateIdPort;
+import com.gongdel.promptserver.application.port.out.query.LoadPromptVersionPort;
+import com.gongdel.promptserver.domain.model.PromptContentDiff;
+import com.gongdel.promptserver.domain.model.PromptVersion;
+import com.gongdel.promptserver.domain.model.PromptVersionActionType;
+import com.gongdel.promptserver.domain.model.PromptVersionSummary;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PromptVersionDiffService 테스트")
+class PromptVersionDiffServiceTest {
+
+    private static final UUID PROMPT_UUID = UUID.randomUUID();
+    private static final Long TEMPLATE_ID = 7L;
+
+    @Mock
+    private LoadPromptTemplateIdPort loadPromptTemplateIdPort;
+    @Mock
+    private LoadPromptVersionPort loadPromptVersionPort;
+    @Mock
+    private FindPromptVersionsPort findPromptVersionsPort;
+    @InjectMocks
+    private PromptVersionDiffService promptVersionDiffService;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(loadPromptTemplateIdPort.findIdByUuid(PROMPT_UUID)).thenReturn(Optional.of(TEMPLATE_ID));
+    }
+
+    private PromptVersion givenVersion(long id, int versionNumber, String content, String contentDiff,
+                                       Long templateId) {
+        UUID uuid = UUID.randomUUID();
+        PromptVersion version = PromptVersion.builder()
+            .id(id).uuid(uuid).promptTemplateId(templateId).versionNumber(versionNumber).content(content)
+            .contentDiff(contentDiff).createdById(1L).actionType(PromptVersionActionType.EDIT)
+            .createdAt(LocalDateTime.now())
+            .build();
+        lenient().when(loadPromptVersionPort.loadPromptVersionByUuid(uuid)).thenReturn(Optional.of(version));
+        return version;
+    }
+
+    private void givenPrevious(PromptVersion target, PromptVersion previous) {
+        List<PromptVersionSummary> summaries = previous == null ? List.of() : List.of(PromptVersionSummary.builder()
+            .id(previous.getId()).uuid(previous.getUuid()).versionNumber(previous.getVersionNumber())
+            .build());
+        given(findPromptVersionsPort.findPromptVersionSummaries(TEMPLATE_ID, target.getVersionNumber(), 1))
+            .willReturn(summaries);
+    }
+
+    @Test
+    @DisplayName("직전 버전과의 차이는 저장된 값을 사용하고 직전 버전 본문을 읽지 않는다")
+    void storedDiff_isUsedWithoutLoadingPrevious() {
+        // Given
+        PromptVersion previous = givenVersion(1L, 1, "a\nb", null, TEMPLATE_ID);
+        String stored = PromptContentDiff.between("a\nb", "a\nc").encode();
+        PromptVersion target = givenVersion(2L, 2, "a\nc", stored, TEMPLATE_ID);
+        givenPrevious(target, previous);
+
+        // When
+        PromptVersionDiffResult result = promptVersionDiffService.getDiff(PROMPT_UUID, target.getUuid(), null);
+
+        // Then
+        assertThat(result.getFromVersionNumber()).isEqualTo(1);
+        assertThat(result.getDiff().encode()).isEqualTo(stored);
+        then(loadPromptVersionPort).should(times(0)).loadPromptVersionByUuid(previous.getUuid());
+    }
+
+    @Test
+    @DisplayName("저장된 차이가 없으면 직전 버전 본문과 비교해 계산한다")
+    void missingStoredDiff_computesAgainstPrevious() {
+        // Given
+        PromptVersion previous = givenVersion(1L, 1, "a\nb", null, TEMPLATE_ID);
+        PromptVersion target = givenVersion(2L, 2, "a\nb\nc", null, TEMPLATE_ID);
+        givenPrevious(target, previous);
+
+        // When
+        PromptVersionDiffResult result = promptVersionDiffService.getDiff(PROMPT_UUID, target.getUuid(), null);
+
+        // Then
+        assertThat(result.getDiff().getAddedLineCount()).isEqualTo(1);
+        assertThat(result.getDiff().getRemovedLineCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("최초 버전은 본문 전체를 추가된 줄로 반환한다")
+    void firstVersion_returnsWholeContentAsInsert() {
+        // Given
+        PromptVersion target = givenVersion(1L, 1, "a\nb", null, TEMPLATE_ID);
+        givenPrevious(target, null);
+
+        // When
+        PromptVersionDiffResult result = promptVersionDiffService.getDiff(PROMPT_UUID, target.getUuid(), null);
+
+        // Then
+        assertThat(result.getFromVersionUuid()).isNull();
+        assertThat(result.getDiff().getAddedLineCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("임의의 두 버전 비교는 같은 요청에 대해 캐시된 결과를 재사용한다")
+    void againstVersion_isMemoized() {
+        // Given
+        PromptVersion base = givenVersion(1L, 1, "a\nb\nc", null, TEMPLATE_ID);
+        PromptVersion target = givenVersion(5L, 5, "a\nx\nc", null, TEMPLATE_ID);
+
+        // When
+        PromptVersionDiffResult first = promptVersionDiffService.getDiff(PROMPT_UUID, target.getUuid(), base.getUuid());
+        PromptVersionDiffResult second = promptVersionDiffService.getDiff(PROMPT_UUID, target.getUuid(), base.getUuid());
+
+        // Then
+        assertThat(first.getFromVersionNumber()).isEqualTo(1);
+        assertThat(second.getDiff()).isSameAs(first.getDiff());
+    }
+
+    @Test
+    @DisplayName("다른 프롬프트의 버전과는 비교할 수 없다")
+    void againstOtherPromptVersion_throwsNotFound() {
+        // Given
+        PromptVersion other = givenVersion(9L, 1, "a", null, 99L);
+        PromptVersion target = givenVersion(5L, 5, "b", null, TEMPLATE_ID);
+
+        // When & Then
+        assertThatThrownBy(() -> promptVersionDiffService.getDiff(PROMPT_UUID, target.getUuid(), other.getUuid()))
+            .isInstanceOf(PromptVersionNotFoundException.class);
+    }
+}
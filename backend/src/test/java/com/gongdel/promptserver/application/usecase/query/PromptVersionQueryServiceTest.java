@@ -0,0 +1,174 @@
+package com.gongdel.promptserver.application.usecase.query;
+
+import com.gongdel.promptserver.application.exception.PromptVersionNotFoundException;
+import com.gongdel.promptserver.application.port.in.result.PromptVersionHistoryResult;
+import com.gongdel.promptserver.application.port.out.query.FindPromptVersionsPort;
+import com.gongdel.promptserver.application.port.out.query.LoadPromptTemplateIdPort;
+import com.gongdel.promptserver.application.port.out.query.LoadPromptVersionPort;
+import com.gongdel.promptserver.domain.exception.PromptOperationException;
+import com.gongdel.promptserver.domain.model.PromptVersion;
+import com.gongdel.promptserver.domain.model.PromptVersionActionType;
+import com.gongdel.promptserver.domain.model.PromptVersionSummary;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PromptVersionQueryService 테스트")
+class PromptVersionQueryServiceTest {
+
+    private static final UUID PROMPT_UUID = UUID.randomUUID();
+    private static final Long TEMPLATE_ID = 7L;
+
+    @Mock
+    private FindPromptVersionsPort findPromptVersionsPort;
+    @Mock
+    private LoadPromptVersionPort loadPromptVersionPort;
+    @Mock
+    private LoadPromptTemplateIdPort loadPromptTemplateIdPort;
+    @InjectMocks
+    private PromptVersionQueryService promptVersionQueryService;
+
+    private static List<PromptVersionSummary> summaries(int from, int count) {
+        return IntStream.range(0, count)
+            .mapToObj(i -> PromptVersionSummary.builder()
+                .id((long) (from - i)).uuid(UUID.randomUUID()).versionNumber(from - i)
+                .actionType(PromptVersionActionType.EDIT).createdById(1L).authorName("작성자")
+                .createdAt(LocalDateTime.now())
+                .build())
+            .toList();
+    }
+
+    private static PromptVersion version(UUID uuid, Long templateId) {
+        return PromptVersion.builder()
+            .id(1L).uuid(uuid).promptTemplateId(templateId).versionNumber(1).content("본문")
+            .createdById(1L).actionType(PromptVersionActionType.CREATE).createdAt(LocalDateTime.now())
+            .build();
+    }
+
+    @Nested
+    @DisplayName("findHistory 메서드는")
+    class FindHistory {
+
+        @Test
+        @DisplayName("페이지 크기보다 한 건 더 조회해 다음 페이지 여부와 커서를 계산한다")
+        void moreThanSize_hasNextWithCursor() {
+            // Given
+            given(loadPromptTemplateIdPort.findIdByUuid(PROMPT_UUID)).willReturn(Optional.of(TEMPLATE_ID));
+            given(findPromptVersionsPort.findPromptVersionSummaries(TEMPLATE_ID, null, 3))
+                .willReturn(summaries(10, 3));
+
+            // When
+            PromptVersionHistoryResult result = promptVersionQueryService.findHistory(PROMPT_UUID, null, 2);
+
+            // Then
+            assertThat(result.getVersions()).extracting(PromptVersionSummary::getVersionNumber)
+                .containsExactly(10, 9);
+            assertThat(result.isHasNext()).isTrue();
+            assertThat(result.getNextCursor()).isEqualTo(9);
+        }
+
+        @Test
+        @DisplayName("마지막 페이지면 커서 없이 반환한다")
+        void lastPage_noCursor() {
+            // Given
+            given(loadPromptTemplateIdPort.findIdByUuid(PROMPT_UUID)).willReturn(Optional.of(TEMPLATE_ID));
+            given(findPromptVersionsPort.findPromptVersionSummaries(TEMPLATE_ID, 3, 21))
+                .willReturn(summaries(2, 2));
+
+            // When
+            PromptVersionHistoryResult result = promptVersionQueryService.findHistory(PROMPT_UUID, 3, 20);
+
+            // Then
+            assertThat(result.getVersions()).hasSize(2);
+            assertThat(result.isHasNext()).isFalse();
+            assertThat(result.getNextCursor()).isNull();
+        }
+
+        @Test
+        @DisplayName("프롬프트가 없으면 PromptOperationException을 던진다")
+        void promptNotFound_throws() {
+            // Given
+            given(loadPromptTemplateIdPort.findIdByUuid(PROMPT_UUID)).willReturn(Optional.empty());
+
+            // When & Then
+            assertThatThrownBy(() -> promptVersionQueryService.findHistory(PROMPT_UUID, null, 20))
+                .isInstanceOf(PromptOperationException.class);
+            then(findPromptVersionsPort).should(never()).findPromptVersionSummaries(anyLong(), anyInt(), anyInt());
+        }
+
+        @Test
+        @DisplayName("허용 범위를 벗어난 페이지 크기는 IllegalArgumentException을 던진다")
+        void invalidSize_throws() {
+            assertThatThrownBy(() -> promptVersionQueryService.findHistory(PROMPT_UUID, null,
+                PromptVersionQueryService.MAX_HISTORY_PAGE_SIZE + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("getByPromptUuidAndUuid 메서드는")
+    class GetByPromptUuidAndUuid {
+
+        @Test
+        @DisplayName("프롬프트에 속한 버전을 본문과 함께 반환한다")
+        void belongsToPrompt_returnsVersion() {
+            // Given
+            UUID versionUuid = UUID.randomUUID();
+            given(loadPromptTemplateIdPort.findIdByUuid(PROMPT_UUID)).willReturn(Optional.of(TEMPLATE_ID));
+            given(loadPromptVersionPort.loadPromptVersionByUuid(versionUuid))
+                .willReturn(Optional.of(version(versionUuid, TEMPLATE_ID)));
+
+            // When
+            PromptVersion result = promptVersionQueryService.getByPromptUuidAndUuid(PROMPT_UUID, versionUuid);
+
+            // Then
+            assertThat(result.getContent()).isEqualTo("본문");
+        }
+
+        @Test
+        @DisplayName("다른 프롬프트의 버전이면 PromptVersionNotFoundException을 던진다")
+        void otherPromptVersion_throwsNotFound() {
+            // Given
+            UUID versionUuid = UUID.randomUUID();
+            given(loadPromptTemplateIdPort.findIdByUuid(PROMPT_UUID)).willReturn(Optional.of(TEMPLATE_ID));
+            given(loadPromptVersionPort.loadPromptVersionByUuid(versionUuid))
+                .willReturn(Optional.of(version(versionUuid, 99L)));
+
+            // When & Then
+            assertThatThrownBy(() -> promptVersionQueryService.getByPromptUuidAndUuid(PROMPT_UUID, versionUuid))
+                .isInstanceOf(PromptVersionNotFoundException.class);
+        }
+
+        @Test
+        @DisplayName("버전이 없으면 작업 실패로 감싸지 않고 PromptVersionNotFoundException을 던진다")
+        void missingVersion_throwsNotFound() {
+            // Given
+            UUID versionUuid = UUID.randomUUID();
+            given(loadPromptTemplateIdPort.findIdByUuid(PROMPT_UUID)).willReturn(Optional.of(TEMPLATE_ID));
+            given(loadPromptVersionPort.loadPromptVersionByUuid(versionUuid)).willReturn(Optional.empty());
+
+            // When & Then
+            assertThatThrownBy(() -> promptVersionQueryService.getByPromptUuidAndUuid(PROMPT_UUID, versionUuid))
+                .isInstanceOf(PromptVersionNotFoundException.class);
+        }
+    }
+}
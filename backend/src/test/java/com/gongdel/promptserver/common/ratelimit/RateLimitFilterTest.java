@@ -0,0 +1,241 @@
+package com.gongdel.promptserver.common.ratelimit;
+
+import com.gongdel.promptserver.common.security.SecurityUserDetails;
+import com.gongdel.promptserver.common.web.ClientIpProperties;
+import com.gongdel.promptserver.common.web.ClientIpResolver;
+import com.gongdel.promptserver.domain.user.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RateLimitFilter 테스트")
+class RateLimitFilterTest {
+
+    private static final long WINDOW_MILLIS = Duration.ofMinutes(1).toMillis();
+
+    @Mock
+    private RedisSlidingWindowLimiter redisLimiter;
+    @Mock
+    private FilterChain filterChain;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicLong nanoTime = new AtomicLong();
+    private RateLimitProperties properties;
+    private RateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        properties = new RateLimitProperties();
+        properties.setRules(List.of(
+            rule("login", "POST", "/api/auth/login", RateLimitProperties.KeyType.IP, 2),
+            rule("prompt-view", "POST", "/api/v1/prompts/*/view", RateLimitProperties.KeyType.USER_OR_IP, 2)));
+        filter = filter(List.of());
+    }
+
+    private RateLimitFilter filter(List<String> trustedProxies) {
+        ClientIpProperties clientIpProperties = new ClientIpProperties();
+        clientIpProperties.setTrustedProxies(trustedProxies);
+        return new RateLimitFilter(properties, redisLimiter, new ClientIpResolver(clientIpProperties), meterRegistry,
+            nanoTime::get, () -> 1_000L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private RateLimitProperties.Rule rule(String name, String method, String path, RateLimitProperties.KeyType key,
+                                          int limit) {
+        RateLimitProperties.Rule rule = new RateLimitProperties.Rule();
+        rule.setName(name);
+        rule.setMethod(method);
+        rule.setPath(path);
+        rule.setKey(key);
+        rule.setLimit(limit);
+        rule.setWindow(Duration.ofMillis(WINDOW_MILLIS));
+        return rule;
+    }
+
+    private MockHttpServletResponse send(String method, String uri) throws Exception {
+        return send(method, uri, "10.0.0.1", null);
+    }
+
+    private MockHttpServletResponse send(String method, String uri, String remoteAddr, String forwardedFor)
+        throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        request.setRemoteAddr(remoteAddr);
+        if (forwardedFor != null) {
+            request.addHeader("X-Forwarded-For", forwardedFor);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, filterChain);
+        return response;
+    }
+
+    private double rejected(String rule, String layer) {
+        return meterRegistry.get(RateLimitFilter.REJECTED_METRIC).tag("rule", rule).tag("layer", layer).counter()
+            .count();
+    }
+
+    @Nested
+    @DisplayName("doFilter 메서드는")
+    class DoFilterTest {
+        @Test
+        @DisplayName("규칙에 없는 경로는 제한 없이 통과시킨다")
+        void givenUnmatchedPath_whenFilter_thenPassesThrough() throws Exception {
+            // When
+            MockHttpServletResponse response = send("GET", "/api/v1/prompts/1");
+            // Then
+            verify(filterChain).doFilter(any(), any());
+            verifyNoInteractions(redisLimiter);
+            assertThat(response.getStatus()).isEqualTo(200);
+        }
+
+        @Test
+        @DisplayName("한도 안의 요청은 Redis에서 규칙과 IP 키로 확인한 뒤 통과시킨다")
+        void givenRequestWithinLimit_whenFilter_thenChecksRedisWithIpKey() throws Exception {
+            // Given
+            when(redisLimiter.tryAcquire(anyString(), anyInt(), anyLong(), anyLong())).thenReturn(true);
+            // When
+            send("POST", "/api/auth/login");
+            // Then
+            verify(redisLimiter).tryAcquire("login:ip:10.0.0.1", 2, WINDOW_MILLIS, 1_000L);
+            verify(filterChain).doFilter(any(), any());
+        }
+
+        @Test
+        @DisplayName("신뢰 프록시가 아닌 연결이면 X-Forwarded-For를 무시하고 연결 주소로 제한한다")
+        void givenUntrustedForwardedFor_whenFilter_thenKeysOnRemoteAddr() throws Exception {
+            // Given
+            when(redisLimiter.tryAcquire(anyString(), anyInt(), anyLong(), anyLong())).thenReturn(true);
+            // When
+            send("POST", "/api/auth/login", "10.0.0.1", "203.0.113.7");
+            // Then
+            verify(redisLimiter).tryAcquire("login:ip:10.0.0.1", 2, WINDOW_MILLIS, 1_000L);
+        }
+
+        @Test
+        @DisplayName("신뢰 프록시를 거친 요청은 오른쪽부터 신뢰 프록시가 아닌 첫 주소로 제한한다")
+        void givenTrustedProxy_whenFilter_thenKeysOnRightmostUntrustedHop() throws Exception {
+            // Given
+            filter = filter(List.of("10.0.0.0/8"));
+            when(redisLimiter.tryAcquire(anyString(), anyInt(), anyLong(), anyLong())).thenReturn(true);
+            // When
+            send("POST", "/api/auth/login", "10.0.0.1", "198.51.100.1, 203.0.113.7, 10.0.0.2");
+            // Then
+            verify(redisLimiter).tryAcquire("login:ip:203.0.113.7", 2, WINDOW_MILLIS, 1_000L);
+        }
+
+        @Test
+        @DisplayName("내부 토큰 버킷이 비면 Redis를 호출하지 않고 429와 Retry-After로 거절한다")
+        void givenLocalBucketExhausted_whenFilter_thenRejectsWithoutRedis() throws Exception {
+            // Given
+            when(redisLimiter.tryAcquire(anyString(), anyInt(), anyLong(), anyLong())).thenReturn(true);
+            send("POST", "/api/auth/login");
+            send("POST", "/api/auth/login");
+            // When
+            MockHttpServletResponse response = send("POST", "/api/auth/login");
+            // Then
+            assertThat(response.getStatus()).isEqualTo(429);
+            assertThat(response.getHeader("Retry-After")).isEqualTo("30");
+            assertThat(response.getContentAsString()).contains("TOO_MANY_REQUESTS");
+            verify(redisLimiter, times(2)).tryAcquire(anyString(), anyInt(), anyLong(), anyLong());
+            verify(filterChain, times(2)).doFilter(any(), any());
+            assertThat(rejected("login", "local")).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Redis 한도를 넘으면 다음 윈도까지 남은 시간을 Retry-After로 거절한다")
+        void givenClusterLimitExceeded_whenFilter_thenRejects() throws Exception {
+            // Given
+            when(redisLimiter.tryAcquire(anyString(), anyInt(), anyLong(), anyLong())).thenReturn(false);
+            // When
+            MockHttpServletResponse response = send("POST", "/api/auth/login");
+            // Then
+            assertThat(response.getStatus()).isEqualTo(429);
+            assertThat(response.getHeader("Retry-After")).isEqualTo("59");
+            verifyNoInteractions(filterChain);
+            assertThat(rejected("login", "cluster")).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Redis 오류 시 내부 판단만으로 통과시키고 지표를 남긴다")
+        void givenRedisFailure_whenFilter_thenFailsOpen() throws Exception {
+            // Given
+            when(redisLimiter.tryAcquire(anyString(), anyInt(), anyLong(), anyLong()))
+                .thenThrow(new RedisConnectionFailureException("down"));
+            // When
+            send("POST", "/api/auth/login");
+            // Then
+            verify(filterChain).doFilter(any(), any());
+            assertThat(meterRegistry.get(RateLimitFilter.REDIS_ERROR_METRIC).counter().count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("USER_OR_IP 규칙은 인증된 사용자 ID를 키로 사용한다")
+        void givenAuthenticatedUser_whenFilter_thenUsesUserKey() throws Exception {
+            // Given
+            SecurityUserDetails userDetails = mock(SecurityUserDetails.class);
+            when(userDetails.getUser()).thenReturn(User.builder().id(7L).build());
+            SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(userDetails, null, List.of()));
+            when(redisLimiter.tryAcquire(anyString(), anyInt(), anyLong(), anyLong())).thenReturn(true);
+            // When
+            send("POST", "/api/v1/prompts/abc/view");
+            // Then
+            verify(redisLimiter).tryAcquire(eq("prompt-view:user:7"), anyInt(), anyLong(), anyLong());
+        }
+
+        @Test
+        @DisplayName("비활성화되면 제한하지 않는다")
+        void givenDisabled_whenFilter_thenPassesThrough() throws Exception {
+            // Given
+            properties.setEnabled(false);
+            // When
+            send("POST", "/api/auth/login");
+            // Then
+            verify(filterChain).doFilter(any(), any());
+            verifyNoInteractions(redisLimiter);
+        }
+    }
+
+    @Nested
+    @DisplayName("evictIdleBuckets() 메서드는")
+    class EvictIdleBucketsTest {
+        @Test
+        @DisplayName("윈도가 지나 가득 찬 버킷만 제거한다")
+        void givenRefilledBucket_whenEvict_thenRemovesIt() throws Exception {
+            // Given
+            when(redisLimiter.tryAcquire(anyString(), anyInt(), anyLong(), anyLong())).thenReturn(true);
+            send("POST", "/api/auth/login");
+            filter.evictIdleBuckets();
+            assertThat(filter.localBucketCount()).isEqualTo(1);
+            // When
+            nanoTime.addAndGet(Duration.ofMillis(WINDOW_MILLIS).toNanos());
+            filter.evictIdleBuckets();
+            // Then
+            assertThat(filter.localBucketCount()).isZero();
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.gongdel.promptserver.common.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RedisSlidingWindowLimiter 테스트")
+class RedisSlidingWindowLimiterTest {
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+    @InjectMocks
+    private RedisSlidingWindowLimiter limiter;
+
+    @Test
+    @DisplayName("현재·직전 윈도 키와 직전 윈도의 남은 비율로 스크립트를 실행한다")
+    void givenMidWindow_whenTryAcquire_thenPassesWindowKeysAndWeight() {
+        // Given
+        when(stringRedisTemplate.execute(any(RedisScript.class),
+            eq(List.of("ratelimit:login:ip:1:2", "ratelimit:login:ip:1:1")), eq("10"), eq("0.75"), eq("2000")))
+            .thenReturn(1L);
+        // When & Then
+        assertThat(limiter.tryAcquire("login:ip:1", 10, 1_000L, 2_250L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("스크립트가 0을 반환하면 거절한다")
+    void givenLimitReached_whenTryAcquire_thenReturnsFalse() {
+        // Given
+        when(stringRedisTemplate.execute(any(RedisScript.class), any(List.class), any(Object[].class)))
+            .thenReturn(0L);
+        // When & Then
+        assertThat(limiter.tryAcquire("login:ip:1", 10, 1_000L, 2_250L)).isFalse();
+    }
+}
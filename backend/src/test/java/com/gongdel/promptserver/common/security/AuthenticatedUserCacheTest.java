@@ -0,0 +1,91 @@
+package com.gongdel.promptserver.common.security;
+
+import com.gongdel.promptserver.domain.user.User;
+import com.gongdel.promptserver.domain.user.UserId;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("AuthenticatedUserCache 테스트")
+class AuthenticatedUserCacheTest {
+
+    private final UserId userId = new UserId(UUID.randomUUID());
+    private final SecurityUserDetails userDetails =
+        new SecurityUserDetails(mock(User.class), null, List.of("ROLE_USER"));
+
+    private Function<UserId, Optional<SecurityUserDetails>> countingLoader(AtomicInteger calls,
+                                                                           Optional<SecurityUserDetails> result) {
+        return id -> {
+            calls.incrementAndGet();
+            return result;
+        };
+    }
+
+    @Test
+    @DisplayName("TTL 안에서는 사용자 정보를 한 번만 조회한다")
+    void givenCachedUser_whenGet_thenLoadsOnce() {
+        // Given
+        AuthenticatedUserCache cache = new AuthenticatedUserCache(30);
+        AtomicInteger calls = new AtomicInteger();
+        // When
+        cache.get(userId, countingLoader(calls, Optional.of(userDetails)));
+        Optional<SecurityUserDetails> result = cache.get(userId, countingLoader(calls, Optional.of(userDetails)));
+        // Then
+        assertThat(result).containsSame(userDetails);
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("무효화된 사용자는 다음 요청에서 다시 조회한다")
+    void givenEvictedUser_whenGet_thenReloads() {
+        // Given
+        AuthenticatedUserCache cache = new AuthenticatedUserCache(30);
+        AtomicInteger calls = new AtomicInteger();
+        cache.get(userId, countingLoader(calls, Optional.of(userDetails)));
+        // When
+        cache.evictAuthenticatedUser(userId);
+        cache.get(userId, countingLoader(calls, Optional.of(userDetails)));
+        // Then
+        assertThat(calls).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 사용자는 캐시하지 않는다")
+    void givenMissingUser_whenGet_thenDoesNotCache() {
+        // Given
+        AuthenticatedUserCache cache = new AuthenticatedUserCache(30);
+        AtomicInteger calls = new AtomicInteger();
+        // When
+        Optional<SecurityUserDetails> result = cache.get(userId, countingLoader(calls, Optional.empty()));
+        // Then
+        assertThat(result).isEmpty();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("조회 도중 무효화되면 조회 결과를 보관하지 않는다")
+    void givenEvictionDuringLoad_whenGet_thenDoesNotCacheStaleResult() {
+        // Given
+        AuthenticatedUserCache cache = new AuthenticatedUserCache(30);
+        AtomicInteger calls = new AtomicInteger();
+        Function<UserId, Optional<SecurityUserDetails>> racingLoader = id -> {
+            calls.incrementAndGet();
+            cache.evictAuthenticatedUser(id);
+            return Optional.of(userDetails);
+        };
+        // When
+        Optional<SecurityUserDetails> result = cache.get(userId, racingLoader);
+        cache.get(userId, countingLoader(calls, Optional.of(userDetails)));
+        // Then
+        assertThat(result).containsSame(userDetails);
+        assertThat(calls).hasValue(2);
+    }
+}
@@ -0,0 +1,121 @@
+package com.gongdel.promptserver.common.security;
+
+import com.gongdel.promptserver.domain.exception.AuthBusyException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("BoundedPasswordEncoder 테스트")
+class BoundedPasswordEncoderTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private BoundedPasswordEncoder encoder;
+
+    @AfterEach
+    void tearDown() {
+        if (encoder != null) {
+            encoder.destroy();
+        }
+    }
+
+    @Nested
+    @DisplayName("encode / matches 메서드는")
+    class HashTest {
+        @Test
+        @DisplayName("전용 풀에서 해시를 계산하고 소요 시간과 대기 시간을 기록한다")
+        void givenPassword_whenEncodeAndMatch_thenRecordsMetrics() {
+            // Given
+            encoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(4), 2, 4, 1, meterRegistry);
+
+            // When
+            String hash = encoder.encode("password123");
+            boolean matched = encoder.matches("password123", hash);
+
+            // Then
+            assertThat(matched).isTrue();
+            assertThat(meterRegistry.get(BoundedPasswordEncoder.HASH_METRIC).tag("operation", "encode").timer().count())
+                .isEqualTo(1);
+            assertThat(meterRegistry.get(BoundedPasswordEncoder.HASH_METRIC).tag("operation", "matches").timer().count())
+                .isEqualTo(1);
+            assertThat(meterRegistry.get(BoundedPasswordEncoder.QUEUE_WAIT_METRIC).timer().count()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("저장된 해시의 강도가 설정값보다 낮으면 재해시가 필요하다고 판단한다")
+        void givenWeakerHash_whenUpgradeEncoding_thenReturnsTrue() {
+            // Given
+            String weakHash = new BCryptPasswordEncoder(4).encode("password123");
+            encoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(5), 1, 1, 1, meterRegistry);
+
+            // When & Then
+            assertThat(encoder.upgradeEncoding(weakHash)).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("대기열이 가득 차면")
+    class RejectionTest {
+        @Test
+        @DisplayName("작업을 쌓지 않고 AuthBusyException으로 거절한다")
+        void givenFullQueue_whenEncode_thenThrowsAuthBusyException() throws Exception {
+            // Given
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            encoder = new BoundedPasswordEncoder(blockingEncoder(started, release), 1, 1, 3, meterRegistry);
+            CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> encoder.encode("a"));
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+            CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> encoder.encode("b"));
+            waitUntilQueued();
+
+            // When & Then
+            assertThatThrownBy(() -> encoder.encode("c"))
+                .isInstanceOf(AuthBusyException.class)
+                .extracting("retryAfterSeconds")
+                .isEqualTo(3L);
+            assertThat(meterRegistry.get(BoundedPasswordEncoder.REJECTED_METRIC).counter().count()).isEqualTo(1);
+
+            release.countDown();
+            assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("a");
+            assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("b");
+        }
+
+        private void waitUntilQueued() throws InterruptedException {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (meterRegistry.get(BoundedPasswordEncoder.QUEUE_SIZE_METRIC).gauge().value() < 1
+                && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+        }
+
+        private PasswordEncoder blockingEncoder(CountDownLatch started, CountDownLatch release) {
+            return new PasswordEncoder() {
+                @Override
+                public String encode(CharSequence rawPassword) {
+                    started.countDown();
+                    try {
+                        release.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return rawPassword.toString();
+                }
+
+                @Override
+                public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                    return rawPassword.toString().equals(encodedPassword);
+                }
+            };
+        }
+    }
+}
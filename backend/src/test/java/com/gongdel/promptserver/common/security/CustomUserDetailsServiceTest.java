@@ -1,14 +1,12 @@
 package com.gongdel.promptserver.common.security;
 
-import com.gongdel.promptserver.application.port.out.query.*;
-import com.gongdel.promptserver.domain.user.User;
+import com.gongdel.promptserver.application.port.out.command.SaveUserAuthenticationPort;
+import com.gongdel.promptserver.application.port.out.query.LoadUserCredentialsPort;
+import com.gongdel.promptserver.application.port.out.query.UserCredentials;
+import com.gongdel.promptserver.domain.exception.UserOperationException;
 import com.gongdel.promptserver.domain.user.Email;
-import com.gongdel.promptserver.domain.user.UserRole;
-import com.gongdel.promptserver.domain.user.UserDomainException;
-import com.gongdel.promptserver.domain.user.UserRoleDomainException;
-import com.gongdel.promptserver.domain.role.Role;
+import com.gongdel.promptserver.domain.user.User;
 import com.gongdel.promptserver.domain.userauth.UserAuthentication;
-import com.gongdel.promptserver.domain.userauth.UserAuthenticationDomainException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -19,36 +17,43 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 
-import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.when;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("CustomUserDetailsService 테스트")
 class CustomUserDetailsServiceTest {
 
     @Mock
-    private LoadUserPort loadUserPort;
-    @Mock
-    private LoadUserAuthenticationPort loadUserAuthenticationPort;
+    private LoadUserCredentialsPort loadUserCredentialsPort;
     @Mock
-    private LoadRolePort loadRolePort;
+    private SaveUserAuthenticationPort saveUserAuthenticationPort;
     @Mock
-    private FindUserRolesPort findUserRolesPort;
+    private PlatformTransactionManager transactionManager;
 
     @InjectMocks
     private CustomUserDetailsService customUserDetailsService;
 
     private static final String VALID_EMAIL = "test@example.com";
     private static final Long USER_ID = 1L;
-    private static final Long ROLE_ID = 1L;
-    private static final String ROLE_NAME = "ROLE_USER";
+    private static final String ROLE_NAME = "ROLE_ADMIN";
+
+    private static UserCredentials credentials(List<String> roleNames) {
+        return new UserCredentials(
+                User.builder().id(USER_ID).email(new Email(VALID_EMAIL)).build(),
+                UserAuthentication.builder().userId(USER_ID).build(),
+                roleNames);
+    }
 
     @Nested
     @DisplayName("loadUserByUsername 메서드는")
@@ -58,38 +63,14 @@ class CustomUserDetailsServiceTest {
         @DisplayName("정상적인 이메일이 주어지면")
         class WhenValidEmailProvided {
 
-            private User user;
-            private UserAuthentication userAuth;
-            private Role role;
-
             @BeforeEach
             void setUp() {
-                user = User.builder()
-                        .id(USER_ID)
-                        .email(new Email(VALID_EMAIL))
-                        .build();
-
-                userAuth = UserAuthentication.builder()
-                        .userId(USER_ID)
-                        .build();
-
-                role = Role.builder()
-                        .id(ROLE_ID)
-                        .name(ROLE_NAME)
-                        .build();
-
-                when(loadUserPort.loadUserByEmail(any(Email.class)))
-                        .thenReturn(Optional.of(user));
-                when(loadUserAuthenticationPort.loadUserAuthenticationByUserId(USER_ID))
-                        .thenReturn(Optional.of(userAuth));
-                when(findUserRolesPort.findUserRolesByUserId(USER_ID))
-                        .thenReturn(Collections.singletonList(UserRole.register(USER_ID, ROLE_ID)));
-                when(loadRolePort.loadRoleById(ROLE_ID))
-                        .thenReturn(Optional.of(role));
+                when(loadUserCredentialsPort.loadUserCredentialsByEmail(any(Email.class)))
+                        .thenReturn(Optional.of(credentials(List.of(ROLE_NAME))));
             }
 
             @Test
-            @DisplayName("UserDetails를 반환한다")
+            @DisplayName("한 번의 조회 결과로 UserDetails를 반환한다")
             void shouldReturnUserDetails() {
                 // when
                 UserDetails userDetails = customUserDetailsService.loadUserByUsername(VALID_EMAIL);
@@ -97,6 +78,10 @@ class CustomUserDetailsServiceTest {
                 // then
                 assertThat(userDetails).isNotNull();
                 assertThat(userDetails.getUsername()).isEqualTo(VALID_EMAIL);
+                assertThat(userDetails.getAuthorities())
+                        .extracting("authority")
+                        .containsExactly(ROLE_NAME);
+                verify(loadUserCredentialsPort, times(1)).loadUserCredentialsByEmail(any(Email.class));
             }
         }
 
@@ -106,7 +91,7 @@ class CustomUserDetailsServiceTest {
 
             @BeforeEach
             void setUp() {
-                when(loadUserPort.loadUserByEmail(any(Email.class)))
+                when(loadUserCredentialsPort.loadUserCredentialsByEmail(any(Email.class)))
                         .thenReturn(Optional.empty());
             }
 
@@ -145,12 +130,8 @@ class CustomUserDetailsServiceTest {
 
             @BeforeEach
             void setUp() {
-                when(loadUserPort.loadUserByEmail(any(Email.class)))
-                        .thenReturn(Optional.of(User.builder().id(USER_ID).email(new Email(VALID_EMAIL)).build()));
-                when(loadUserAuthenticationPort.loadUserAuthenticationByUserId(USER_ID))
-                        .thenReturn(Optional.of(UserAuthentication.builder().userId(USER_ID).build()));
-                when(findUserRolesPort.findUserRolesByUserId(USER_ID))
-                        .thenReturn(Collections.emptyList());
+                when(loadUserCredentialsPort.loadUserCredentialsByEmail(any(Email.class)))
+                        .thenReturn(Optional.of(credentials(Collections.emptyList())));
             }
 
             @Test
@@ -168,17 +149,37 @@ class CustomUserDetailsServiceTest {
         }
 
         @Nested
-        @DisplayName("사용자의 권한 조회 중 오류가 발생하면")
+        @DisplayName("사용자에게 매핑된 역할 정의가 없으면")
+        class WhenRoleDefinitionMissing {
+
+            @BeforeEach
+            void setUp() {
+                when(loadUserCredentialsPort.loadUserCredentialsByEmail(any(Email.class)))
+                        .thenReturn(Optional.of(new UserCredentials(
+                                User.builder().id(USER_ID).email(new Email(VALID_EMAIL)).build(),
+                                UserAuthentication.builder().userId(USER_ID).build(),
+                                List.of(ROLE_NAME),
+                                List.of(99L))));
+            }
+
+            @Test
+            @DisplayName("UsernameNotFoundException을 발생시킨다")
+            void shouldThrowUsernameNotFoundException() {
+                // when & then
+                assertThatThrownBy(() -> customUserDetailsService.loadUserByUsername(VALID_EMAIL))
+                        .isInstanceOf(UsernameNotFoundException.class)
+                        .hasMessageContaining("Role not found for roleId: 99");
+            }
+        }
+
+        @Nested
+        @DisplayName("사용자 정보 조회 중 오류가 발생하면")
         class WhenErrorOccursDuringRoleRetrieval {
 
             @BeforeEach
             void setUp() {
-                when(loadUserPort.loadUserByEmail(any(Email.class)))
-                        .thenReturn(Optional.of(User.builder().id(USER_ID).email(new Email(VALID_EMAIL)).build()));
-                when(loadUserAuthenticationPort.loadUserAuthenticationByUserId(USER_ID))
-                        .thenReturn(Optional.of(UserAuthentication.builder().userId(USER_ID).build()));
-                when(findUserRolesPort.findUserRolesByUserId(USER_ID))
-                        .thenThrow(new RuntimeException("Database error"));
+                when(loadUserCredentialsPort.loadUserCredentialsByEmail(any(Email.class)))
+                        .thenThrow(new UserOperationException("Database error"));
             }
 
             @Test
@@ -187,7 +188,7 @@ class CustomUserDetailsServiceTest {
                 // when & then
                 assertThatThrownBy(() -> customUserDetailsService.loadUserByUsername(VALID_EMAIL))
                         .isInstanceOf(UsernameNotFoundException.class)
-                        .hasMessageContaining("Failed to fetch user roles");
+                        .hasMessageContaining("Database error");
             }
         }
     }
@@ -202,10 +203,9 @@ class CustomUserDetailsServiceTest {
 
             @BeforeEach
             void setUp() {
-                when(loadUserPort.loadUserByEmail(any(Email.class)))
-                        .thenReturn(Optional.of(User.builder().id(USER_ID).email(new Email(VALID_EMAIL)).build()));
-                when(loadUserAuthenticationPort.loadUserAuthenticationByUserId(USER_ID))
-                        .thenReturn(Optional.empty());
+                User user = User.builder().id(USER_ID).email(new Email(VALID_EMAIL)).build();
+                when(loadUserCredentialsPort.loadUserCredentialsByEmail(any(Email.class)))
+                        .thenReturn(Optional.of(new UserCredentials(user, null, List.of(ROLE_NAME))));
             }
 
             @Test
@@ -218,4 +218,56 @@ class CustomUserDetailsServiceTest {
             }
         }
     }
+
+    @Nested
+    @DisplayName("updatePassword 메서드는")
+    class UpdatePasswordTest {
+
+        private SecurityUserDetails userDetails;
+
+        @BeforeEach
+        void setUp() {
+            userDetails = new SecurityUserDetails(
+                    User.builder().id(USER_ID).email(new Email(VALID_EMAIL)).build(),
+                    UserAuthentication.builder().id(10L).userId(USER_ID).passwordHash("old-hash").build(),
+                    List.of(ROLE_NAME));
+        }
+
+        @Test
+        @DisplayName("새 해시를 같은 인증 정보 행에 저장하고 반영된 UserDetails를 반환한다")
+        void shouldSaveRehashedPassword() {
+            // given
+            when(saveUserAuthenticationPort.saveUserAuthentication(any(UserAuthentication.class)))
+                    .thenAnswer(invocation -> invocation.getArgument(0));
+
+            // when
+            UserDetails updated = customUserDetailsService.updatePassword(userDetails, "new-hash");
+
+            // then
+            verify(transactionManager).getTransaction(argThat(definition ->
+                    definition.getPropagationBehavior() == TransactionDefinition.PROPAGATION_REQUIRES_NEW));
+            verify(transactionManager).commit(any());
+            assertThat(updated.getPassword()).isEqualTo("new-hash");
+            assertThat(updated.getAuthorities()).extracting("authority").containsExactly(ROLE_NAME);
+            verify(saveUserAuthenticationPort).saveUserAuthentication(argThat(auth ->
+                    auth.getId().equals(10L) && auth.getPasswordHash().equals("new-hash")));
+        }
+
+        @Test
+        @DisplayName("저장에 실패하면 기존 UserDetails를 그대로 반환한다")
+        void shouldKeepUserDetailsWhenSaveFails() {
+            // given
+            when(saveUserAuthenticationPort.saveUserAuthentication(any(UserAuthentication.class)))
+                    .thenThrow(new UserOperationException("Database error"));
+
+            // when
+            UserDetails updated = customUserDetailsService.updatePassword(userDetails, "new-hash");
+
+            // then
+            verify(transactionManager).rollback(any());
+            verify(transactionManager, never()).commit(any());
+            assertThat(updated).isSameAs(userDetails);
+            assertThat(updated.getPassword()).isEqualTo("old-hash");
+        }
+    }
 }
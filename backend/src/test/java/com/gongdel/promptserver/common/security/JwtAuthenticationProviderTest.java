@@ -0,0 +1,108 @@
+package com.gongdel.promptserver.common.security;
+
+import com.gongdel.promptserver.application.port.out.query.LoadUserPort;
+import com.gongdel.promptserver.domain.team.Team;
+import com.gongdel.promptserver.domain.team.TeamId;
+import com.gongdel.promptserver.domain.user.Email;
+import com.gongdel.promptserver.domain.user.User;
+import com.gongdel.promptserver.domain.user.UserId;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.Authentication;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("JwtAuthenticationProvider 테스트")
+class JwtAuthenticationProviderTest {
+
+    private final SecretKey secretKey =
+        Keys.hmacShaKeyFor("test-secret-key-12345678901234567890".getBytes(StandardCharsets.UTF_8));
+    private final JwtTokenProvider jwtTokenProvider = new JwtTokenProvider(secretKey, 600_000L, 600_000L);
+
+    @Mock
+    private LoadUserPort loadUserPort;
+
+    private JwtAuthenticationProvider provider;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        provider = new JwtAuthenticationProvider(loadUserPort, new AuthenticatedUserCache(30));
+        user = User.builder()
+            .id(1L)
+            .uuid(new UserId(UUID.randomUUID()))
+            .email(new Email("test@example.com"))
+            .name("홍길동")
+            .team(new Team(3L, TeamId.randomId(), "플랫폼", null, null))
+            .build();
+    }
+
+    @Test
+    @DisplayName("기본 모드에서는 사용자를 조회하고 TTL 동안 재사용한다")
+    void givenDefaultMode_whenAuthenticate_thenLoadsUserOnce() {
+        // Given
+        when(loadUserPort.loadUserByUserId(user.getUuid())).thenReturn(Optional.of(user));
+        ParsedToken token = jwtTokenProvider.parseToken(jwtTokenProvider.generateAccessToken(user));
+        // When
+        provider.getAuthentication(token);
+        Authentication authentication = provider.getAuthentication(token);
+        // Then
+        assertThat(((SecurityUserDetails) authentication.getPrincipal()).getUser()).isSameAs(user);
+        verify(loadUserPort, times(1)).loadUserByUserId(user.getUuid());
+    }
+
+    @Test
+    @DisplayName("무상태 모드에서는 서명된 클레임으로 사용자 조회 없이 인증 정보를 만든다")
+    void givenStatelessMode_whenAuthenticate_thenBuildsPrincipalFromClaims() {
+        // Given
+        ReflectionTestUtils.setField(provider, "statelessPrincipal", true);
+        ParsedToken token = jwtTokenProvider.parseToken(jwtTokenProvider.generateAccessToken(user));
+        // When
+        Authentication authentication = provider.getAuthentication(token);
+        // Then
+        User principal = ((SecurityUserDetails) authentication.getPrincipal()).getUser();
+        assertThat(principal.getId()).isEqualTo(1L);
+        assertThat(principal.getUuid()).isEqualTo(user.getUuid());
+        assertThat(principal.getName()).isEqualTo("홍길동");
+        assertThat(principal.getTeam().getId()).isEqualTo(3L);
+        assertThat(principal.getTeam().getUuid()).isEqualTo(user.getTeam().getUuid());
+        assertThat(authentication.getAuthorities()).extracting("authority").containsExactly("ROLE_USER");
+        verifyNoInteractions(loadUserPort);
+    }
+
+    @Test
+    @DisplayName("무상태 모드라도 사용자 클레임이 없는 이전 토큰은 사용자를 조회한다")
+    void givenStatelessModeAndLegacyToken_whenAuthenticate_thenLoadsUser() {
+        // Given
+        ReflectionTestUtils.setField(provider, "statelessPrincipal", true);
+        when(loadUserPort.loadUserByUserId(user.getUuid())).thenReturn(Optional.of(user));
+        String legacyToken = Jwts.builder()
+            .setSubject(user.getUuid().getValue().toString())
+            .claim("email", "test@example.com")
+            .claim("name", "홍길동")
+            .setId(UUID.randomUUID().toString())
+            .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+            .signWith(secretKey, SignatureAlgorithm.HS256)
+            .compact();
+        // When
+        Authentication authentication = provider.getAuthentication(jwtTokenProvider.parseToken(legacyToken));
+        // Then
+        assertThat(((SecurityUserDetails) authentication.getPrincipal()).getUser()).isSameAs(user);
+    }
+}
@@ -1,5 +1,6 @@
 package com.gongdel.promptserver.common.security;
 
+import com.gongdel.promptserver.domain.exception.InvalidJwtException;
 import com.gongdel.promptserver.domain.user.Email;
 import com.gongdel.promptserver.domain.user.User;
 import com.gongdel.promptserver.domain.user.UserId;
@@ -12,6 +13,7 @@ import org.junit.jupiter.api.Test;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.util.Base64;
 import java.util.Date;
 import java.util.UUID;
@@ -66,13 +68,13 @@ class JwtTokenProviderTest {
     }
 
     @Nested
-    @DisplayName("generateRefreshToken(User) 메서드는")
+    @DisplayName("generateRefreshToken(User, String) 메서드는")
     class GenerateRefreshTokenTest {
         @Test
         @DisplayName("정상적으로 refresh token을 생성하고 name 클레임은 포함하지 않는다")
         void givenValidUser_whenGenerateRefreshToken_thenNoNameClaim() {
             // Given & When
-            String token = jwtTokenProvider.generateRefreshToken(user);
+            String token = jwtTokenProvider.generateRefreshToken(user, "family-1");
             // Then
             Claims claims = jwtTokenProvider.getClaims(token);
             assertThat(claims.getSubject()).isEqualTo(user.getUuid().getValue().toString());
@@ -80,11 +82,23 @@ class JwtTokenProviderTest {
             assertThat(claims.get("name")).isNull();
         }
 
+        @Test
+        @DisplayName("패밀리 ID를 클레임에 담아 파싱 결과로 확인할 수 있다")
+        void givenFamilyId_whenGenerateRefreshToken_thenParsedTokenHasFamilyId() {
+            // Given
+            String token = jwtTokenProvider.generateRefreshToken(user, "family-1");
+            // When
+            ParsedToken parsed = jwtTokenProvider.parseToken(token);
+            // Then
+            assertThat(parsed.getFamilyId()).isEqualTo("family-1");
+            assertThat(jwtTokenProvider.parseToken(jwtTokenProvider.generateAccessToken(user)).getFamilyId()).isNull();
+        }
+
         @Test
         @DisplayName("user가 null이면 IllegalArgumentException을 던진다")
         void givenNullUser_whenGenerateRefreshToken_thenThrowsException() {
             // When & Then
-            assertThatThrownBy(() -> jwtTokenProvider.generateRefreshToken(null))
+            assertThatThrownBy(() -> jwtTokenProvider.generateRefreshToken(null, "family-1"))
                 .isInstanceOf(IllegalArgumentException.class);
         }
     }
@@ -110,6 +124,47 @@ class JwtTokenProviderTest {
         }
     }
 
+    @Nested
+    @DisplayName("parseToken(String) 메서드는")
+    class ParseTokenTest {
+        @Test
+        @DisplayName("토큰 ID, 사용자 ID, 만료 시각을 한 번에 추출한다")
+        void givenValidToken_whenParseToken_thenReturnsParsedToken() {
+            // Given
+            String token = jwtTokenProvider.generateAccessToken(user);
+            // When
+            ParsedToken parsedToken = jwtTokenProvider.parseToken(token);
+            // Then
+            assertThat(parsedToken.getTokenId()).isNotBlank();
+            assertThat(parsedToken.getUserId()).isEqualTo(user.getUuid());
+            assertThat(parsedToken.getExpiresAt()).isAfter(Instant.now());
+            assertThat(parsedToken.getClaims()).containsEntry("email", "test@example.com");
+        }
+
+        @Test
+        @DisplayName("이미 검증된 토큰은 캐시된 결과를 재사용한다")
+        void givenVerifiedToken_whenParseTokenAgain_thenReturnsCachedResult() {
+            // Given
+            String token = jwtTokenProvider.generateAccessToken(user);
+            ParsedToken first = jwtTokenProvider.parseToken(token);
+            // When
+            ParsedToken second = jwtTokenProvider.parseToken(token);
+            // Then
+            assertThat(second).isSameAs(first);
+        }
+
+        @Test
+        @DisplayName("서명이 변조된 토큰이면 InvalidJwtException을 던진다")
+        void givenTamperedToken_whenParseToken_thenThrowsInvalidJwtException() {
+            // Given
+            String token = jwtTokenProvider.generateAccessToken(user);
+            String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+            // When & Then
+            assertThatThrownBy(() -> jwtTokenProvider.parseToken(tampered))
+                .isInstanceOf(InvalidJwtException.class);
+        }
+    }
+
     @Nested
     @DisplayName("getClaims(String) 메서드는")
     class GetClaimsTest {
@@ -1,5 +1,7 @@
 package com.gongdel.promptserver.common.security;
 
+import com.gongdel.promptserver.common.ratelimit.RateLimitFilter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -10,10 +12,10 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.core.userdetails.UserDetailsService;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.DefaultSecurityFilterChain;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -37,6 +39,9 @@ class SecurityConfigTest {
     @Mock
     private JwtAuthenticationFilter jwtAuthenticationFilter;
 
+    @Mock
+    private RateLimitFilter rateLimitFilter;
+
     @Mock
     private HttpSecurity httpSecurity;
 
@@ -48,6 +53,9 @@ class SecurityConfigTest {
                 customUserDetailsService,
                 customAuthenticationEntryPoint,
                 customAccessDeniedHandler);
+        ReflectionTestUtils.setField(securityConfig, "bcryptStrength", 4);
+        ReflectionTestUtils.setField(securityConfig, "hashQueueCapacity", 4);
+        ReflectionTestUtils.setField(securityConfig, "retryAfterSeconds", 1L);
     }
 
     @Nested
@@ -55,14 +63,14 @@ class SecurityConfigTest {
     class PasswordEncoderTest {
 
         @Test
-        @DisplayName("BCryptPasswordEncoder가 올바르게 생성되어야 함")
+        @DisplayName("전용 해시 풀을 사용하는 BCrypt 인코더가 올바르게 생성되어야 함")
         void shouldCreateBCryptPasswordEncoder() {
             // when
-            PasswordEncoder passwordEncoder = securityConfig.passwordEncoder();
+            PasswordEncoder passwordEncoder = securityConfig.passwordEncoder(new SimpleMeterRegistry());
 
             // then
             assertThat(passwordEncoder).isNotNull();
-            assertThat(passwordEncoder).isInstanceOf(BCryptPasswordEncoder.class);
+            assertThat(passwordEncoder).isInstanceOf(BoundedPasswordEncoder.class);
 
             // 비밀번호 인코딩 테스트
             String rawPassword = "testPassword123";
@@ -97,7 +105,7 @@ class SecurityConfigTest {
         @DisplayName("AuthenticationManager가 올바르게 생성되어야 함")
         void shouldCreateAuthenticationManager() {
             // given
-            PasswordEncoder passwordEncoder = securityConfig.passwordEncoder();
+            PasswordEncoder passwordEncoder = securityConfig.passwordEncoder(new SimpleMeterRegistry());
 
             // when
             AuthenticationManager authenticationManager = securityConfig.authenticationManager(
@@ -127,7 +135,8 @@ class SecurityConfigTest {
             // when
             SecurityFilterChain filterChain = securityConfig.securityFilterChain(
                     httpSecurity,
-                    jwtAuthenticationFilter);
+                    jwtAuthenticationFilter,
+                    rateLimitFilter);
 
             // then
             assertThat(filterChain).isNotNull();
@@ -135,7 +144,8 @@ class SecurityConfigTest {
             verify(httpSecurity).sessionManagement(any());
             verify(httpSecurity).authorizeHttpRequests(any());
             verify(httpSecurity).exceptionHandling(any());
-            verify(httpSecurity).addFilterAfter(any(), any());
+            verify(httpSecurity).addFilterAfter(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+            verify(httpSecurity).addFilterAfter(rateLimitFilter, JwtAuthenticationFilter.class);
         }
 
         @Test
@@ -151,7 +161,7 @@ class SecurityConfigTest {
             when(httpSecurity.build()).thenReturn(mock(DefaultSecurityFilterChain.class));
 
             // when
-            securityConfig.securityFilterChain(httpSecurity, jwtAuthenticationFilter);
+            securityConfig.securityFilterChain(httpSecurity, jwtAuthenticationFilter, rateLimitFilter);
 
             // then
             verify(httpSecurity).authorizeHttpRequests(any());
@@ -0,0 +1,74 @@
+package com.gongdel.promptserver.common.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("VerifiedTokenCache 테스트")
+class VerifiedTokenCacheTest {
+
+    private ParsedToken parsedToken(Instant expiresAt) {
+        Claims claims = Jwts.claims()
+            .setSubject(UUID.randomUUID().toString())
+            .setId(UUID.randomUUID().toString())
+            .setExpiration(Date.from(expiresAt));
+        return ParsedToken.from(claims);
+    }
+
+    @Test
+    @DisplayName("만료된 항목은 조회되지 않고 제거된다")
+    void givenExpiredEntry_whenGet_thenReturnsNullAndRemoves() {
+        // Given
+        VerifiedTokenCache cache = new VerifiedTokenCache(10);
+        Instant now = Instant.now();
+        cache.put("token", parsedToken(now.plusSeconds(1)));
+        // When & Then
+        assertThat(cache.get("token", now)).isNotNull();
+        assertThat(cache.get("token", now.plusSeconds(1))).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 항목을 제거하여 크기를 유지한다")
+    void givenFullCache_whenPut_thenKeepsMaximumSize() {
+        // Given
+        VerifiedTokenCache cache = new VerifiedTokenCache(2);
+        Instant now = Instant.now();
+        cache.put("a", parsedToken(now.plusSeconds(60)));
+        cache.put("b", parsedToken(now.plusSeconds(60)));
+        // When
+        cache.put("c", parsedToken(now.plusSeconds(60)));
+        // Then
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("같은 토큰이면 캐시된 검증 결과를 반환한다")
+    void givenCachedToken_whenGet_thenReturnsSameResult() {
+        // Given
+        VerifiedTokenCache cache = new VerifiedTokenCache(10);
+        Instant now = Instant.now();
+        ParsedToken parsedToken = parsedToken(now.plusSeconds(60));
+        cache.put("token", parsedToken);
+        // When & Then
+        assertThat(cache.get("token", now)).isSameAs(parsedToken);
+        assertThat(cache.get("other", now)).isNull();
+    }
+
+    @Test
+    @DisplayName("토큰 원문 대신 SHA-256 해시를 키로 사용한다")
+    void keyOf_returnsSha256DigestInsteadOfRawToken() {
+        // When
+        String key = VerifiedTokenCache.keyOf("token");
+        // Then
+        assertThat(key).isEqualTo("PEaenWxYddN6Q/NT1PiOYfz4EsZu7jRXRlpAsNpBU+A=").doesNotContain("token");
+        assertThat(VerifiedTokenCache.keyOf("other")).isNotEqualTo(key);
+    }
+}
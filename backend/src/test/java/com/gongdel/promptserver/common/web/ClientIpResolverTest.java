@@ -0,0 +1,72 @@
+package com.gongdel.promptserver.common.web;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ClientIpResolver 테스트")
+class ClientIpResolverTest {
+
+    private ClientIpResolver resolver(String... trustedProxies) {
+        ClientIpProperties properties = new ClientIpProperties();
+        properties.setTrustedProxies(List.of(trustedProxies));
+        return new ClientIpResolver(properties);
+    }
+
+    private MockHttpServletRequest request(String remoteAddr, String forwardedFor) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr(remoteAddr);
+        if (forwardedFor != null) {
+            request.addHeader("X-Forwarded-For", forwardedFor);
+        }
+        return request;
+    }
+
+    @Nested
+    @DisplayName("resolve(HttpServletRequest) 메서드는")
+    class ResolveTest {
+        @Test
+        @DisplayName("신뢰 프록시가 없으면 X-Forwarded-For를 무시하고 연결 주소를 반환한다")
+        void givenNoTrustedProxies_whenResolve_thenReturnsRemoteAddr() {
+            // When & Then
+            assertThat(resolver().resolve(request("203.0.113.7", "198.51.100.1"))).isEqualTo("203.0.113.7");
+        }
+
+        @Test
+        @DisplayName("신뢰 프록시가 아닌 연결이면 X-Forwarded-For를 무시한다")
+        void givenUntrustedRemoteAddr_whenResolve_thenReturnsRemoteAddr() {
+            // When & Then
+            assertThat(resolver("10.0.0.0/8").resolve(request("203.0.113.7", "198.51.100.1")))
+                .isEqualTo("203.0.113.7");
+        }
+
+        @Test
+        @DisplayName("신뢰 프록시를 거친 요청은 오른쪽부터 신뢰 프록시가 아닌 첫 주소를 반환한다")
+        void givenTrustedProxy_whenResolve_thenReturnsRightmostUntrustedHop() {
+            // When & Then
+            assertThat(resolver("10.0.0.0/8").resolve(
+                request("10.0.0.1", "198.51.100.1, 203.0.113.7, 10.0.0.2"))).isEqualTo("203.0.113.7");
+        }
+
+        @Test
+        @DisplayName("IP가 아닌 값이 섞여 있으면 연결 주소를 반환한다")
+        void givenNonIpHop_whenResolve_thenReturnsRemoteAddr() {
+            // When & Then
+            assertThat(resolver("10.0.0.0/8").resolve(request("10.0.0.1", "evil.example.com")))
+                .isEqualTo("10.0.0.1");
+        }
+
+        @Test
+        @DisplayName("모든 주소가 신뢰 프록시이면 연결 주소를 반환한다")
+        void givenOnlyTrustedHops_whenResolve_thenReturnsRemoteAddr() {
+            // When & Then
+            assertThat(resolver("10.0.0.0/8").resolve(request("10.0.0.1", "10.0.0.2, 10.0.0.3")))
+                .isEqualTo("10.0.0.1");
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.gongdel.promptserver.domain.model;
+
+import com.gongdel.promptserver.domain.model.PromptContentDiff.Operation;
+import com.gongdel.promptserver.domain.model.PromptContentDiff.OperationType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("PromptContentDiff 테스트")
+class PromptContentDiffTest {
+
+    /**
+     * 이전 본문에 차이를 적용해 대상 본문을 재구성합니다. 삭제 줄이 이전 본문과 일치하는지도 확인합니다.
+     */
+    private static String applyTo(String from, PromptContentDiff diff) {
+        String[] a = from.split("\n", -1);
+        List<String> result = new ArrayList<>();
+        int position = 0;
+        for (Operation operation : diff.getOperations()) {
+            switch (operation.getType()) {
+                case EQUAL -> {
+                    for (int k = 0; k < operation.getCount(); k++) {
+                        result.add(a[position++]);
+                    }
+                }
+                case DELETE -> {
+                    for (String line : operation.getLines()) {
+                        assertThat(a[position++]).isEqualTo(line);
+                    }
+                }
+                case INSERT -> result.addAll(operation.getLines());
+            }
+        }
+        assertThat(position).isEqualTo(a.length);
+        return String.join("\n", result);
+    }
+
+    private static int lcsLength(String[] a, String[] b) {
+        int[][] lcs = new int[a.length + 1][b.length + 1];
+        for (int i = a.length - 1; i >= 0; i--) {
+            for (int j = b.length - 1; j >= 0; j--) {
+                lcs[i][j] = a[i].equals(b[j]) ? lcs[i + 1][j + 1] + 1 : Math.max(lcs[i + 1][j], lcs[i][j + 1]);
+            }
+        }
+        return lcs[0][0];
+    }
+
+    @Test
+    @DisplayName("한 줄이 바뀌면 삭제·삽입 줄과 앞뒤 동일 줄 수만 기록한다")
+    void between_singleLineChange() {
+        // Given
+        String from = "a\nb\nc\nd";
+        String to = "a\nb\nx\nd";
+
+        // When
+        PromptContentDiff diff = PromptContentDiff.between(from, to);
+
+        // Then
+        assertThat(diff.encode()).isEqualTo("=2\n-1\nc\n+1\nx\n=1");
+        assertThat(diff.getAddedLineCount()).isEqualTo(1);
+        assertThat(diff.getRemovedLineCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("무작위 편집에 대해 최소 편집 거리의 차이를 만들고 대상 본문을 정확히 재구성한다")
+    void between_randomEdits_isMinimalAndReconstructsTarget() {
+        Random random = new Random(42);
+        for (int round = 0; round < 300; round++) {
+            // Given
+            String[] a = IntStream.range(0, random.nextInt(30))
+                .mapToObj(i -> String.valueOf((char) ('a' + random.nextInt(4)))).toArray(String[]::new);
+            String[] b = IntStream.range(0, random.nextInt(30))
+                .mapToObj(i -> String.valueOf((char) ('a' + random.nextInt(4)))).toArray(String[]::new);
+            String from = String.join("\n", a);
+            String to = String.join("\n", b);
+
+            // When
+            PromptContentDiff diff = PromptContentDiff.between(from, to);
+
+            // Then
+            String[] fromLines = from.split("\n", -1);
+            String[] toLines = to.split("\n", -1);
+            assertThat(applyTo(from, diff)).isEqualTo(to);
+            assertThat(diff.getAddedLineCount() + diff.getRemovedLineCount())
+                .isEqualTo(fromLines.length + toLines.length - 2 * lcsLength(fromLines, toLines));
+        }
+    }
+
+    @Test
+    @DisplayName("편집 거리가 한도를 넘으면 변경 구간 전체를 삭제 후 삽입으로 기록한다")
+    void between_beyondMaxEditDistance_fallsBackToReplace() {
+        // Given
+        int lines = PromptContentDiff.MAX_EDIT_DISTANCE;
+        String from = IntStream.range(0, lines).mapToObj(i -> "a" + i).collect(Collectors.joining("\n"));
+        String to = IntStream.range(0, lines).mapToObj(i -> "b" + i).collect(Collectors.joining("\n"));
+
+        // When
+        PromptContentDiff diff = PromptContentDiff.between(from, to);
+
+        // Then
+        assertThat(diff.getOperations()).extracting(Operation::getType)
+            .containsExactly(OperationType.DELETE, OperationType.INSERT);
+        assertThat(applyTo(from, diff)).isEqualTo(to);
+    }
+
+    @Test
+    @DisplayName("압축 표현을 복원하면 같은 연산 목록이 된다")
+    void encodeAndDecode_roundTrip() {
+        // Given
+        PromptContentDiff diff = PromptContentDiff.between("첫 줄\n둘째 줄\n\n셋째 줄", "첫 줄\n새 줄\n\n셋째 줄\n");
+
+        // When
+        PromptContentDiff decoded = PromptContentDiff.decode(diff.encode());
+
+        // Then
+        assertThat(decoded.encode()).isEqualTo(diff.encode());
+        assertThat(decoded.getAddedLineCount()).isEqualTo(diff.getAddedLineCount());
+        assertThat(decoded.getRemovedLineCount()).isEqualTo(diff.getRemovedLineCount());
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 압축 표현은 IllegalArgumentException을 던진다")
+    void decode_invalid_throws() {
+        assertThatThrownBy(() -> PromptContentDiff.decode("+3\nonly one"))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> PromptContentDiff.decode("?1"))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,122 @@
+package com.gongdel.promptserver.domain.model.statistics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DisplayName("CategoryTree 테스트")
+class CategoryTreeTest {
+
+    // 1(root) ─ 2 ─ 3, 4(root)
+    private final CategoryTree tree = CategoryTree.of(List.of(
+        new CategoryDirectPromptCount(1L, "dev", null, 1L),
+        new CategoryDirectPromptCount(2L, "backend", 1L, 2L),
+        new CategoryDirectPromptCount(3L, "java", 2L, 3L),
+        new CategoryDirectPromptCount(4L, "design", null, 5L)));
+
+    @Nested
+    @DisplayName("of(List) 메서드는")
+    class OfTest {
+        @Test
+        @DisplayName("루트별로 모든 하위 카테고리를 포함한 개수를 계산한다")
+        void givenDirectCounts_whenOf_thenComputesSubtreeCounts() {
+            assertThat(tree.getRootCategoryPromptCounts())
+                .extracting(CategoryPromptCount::getCategoryId, CategoryPromptCount::getCategoryName,
+                    CategoryPromptCount::getPromptCount)
+                .containsExactly(tuple(1L, "dev", 6L), tuple(4L, "design", 5L));
+            assertThat(tree.getSubtreePromptCount(2L)).isEqualTo(5);
+        }
+
+        @Test
+        @DisplayName("하위 카테고리는 직접 속한 개수로 반환한다")
+        void givenDirectCounts_whenGetChildren_thenReturnsDirectCounts() {
+            assertThat(tree.getChildCategoryPromptCounts(1L))
+                .extracting(CategoryPromptCount::getCategoryId, CategoryPromptCount::getPromptCount)
+                .containsExactly(tuple(2L, 2L));
+            assertThat(tree.getChildCategoryPromptCounts(99L)).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("withPromptMoved(Long, Long) 메서드는")
+    class WithPromptMovedTest {
+        @Test
+        @DisplayName("이전 카테고리 경로에서 빼고 새 카테고리 경로에 더하며 기존 트리는 바꾸지 않는다")
+        void givenMove_whenWithPromptMoved_thenUpdatesBothPaths() {
+            // When
+            CategoryTree moved = tree.withPromptMoved(3L, 4L);
+
+            // Then
+            assertThat(moved.getSubtreePromptCount(1L)).isEqualTo(5);
+            assertThat(moved.getSubtreePromptCount(2L)).isEqualTo(4);
+            assertThat(moved.getSubtreePromptCount(4L)).isEqualTo(6);
+            assertThat(tree.getSubtreePromptCount(1L)).isEqualTo(6);
+        }
+
+        @Test
+        @DisplayName("등록은 새 카테고리 경로에만 더한다")
+        void givenRegistration_whenWithPromptMoved_thenIncrementsPath() {
+            CategoryTree registered = tree.withPromptMoved(null, 3L);
+
+            assertThat(registered.getSubtreePromptCount(1L)).isEqualTo(7);
+            assertThat(registered.getSubtreePromptCount(3L)).isEqualTo(4);
+        }
+    }
+
+    @Nested
+    @DisplayName("카테고리 변경 메서드는")
+    class CategoryChangeTest {
+        @Test
+        @DisplayName("상위 카테고리를 바꾸면 하위 포함 개수를 이전 경로에서 새 경로로 옮긴다")
+        void givenReparent_whenWithCategory_thenMovesSubtreeCount() {
+            // When
+            CategoryTree moved = tree.withCategory(2L, "backend", 4L);
+
+            // Then
+            assertThat(moved.getSubtreePromptCount(1L)).isEqualTo(1);
+            assertThat(moved.getSubtreePromptCount(4L)).isEqualTo(10);
+            assertThat(moved.getChildCategoryPromptCounts(1L)).isEmpty();
+            assertThat(moved.getChildCategoryPromptCounts(4L))
+                .extracting(CategoryPromptCount::getCategoryId).containsExactly(2L);
+        }
+
+        @Test
+        @DisplayName("순환을 만드는 상위 카테고리는 루트로 처리한다")
+        void givenCircularParent_whenWithCategory_thenBecomesRoot() {
+            CategoryTree moved = tree.withCategory(1L, "dev", 3L);
+
+            assertThat(moved.getRootCategoryPromptCounts())
+                .extracting(CategoryPromptCount::getCategoryId).containsExactly(1L, 4L);
+        }
+
+        @Test
+        @DisplayName("카테고리를 제거하면 하위 카테고리는 루트가 된다")
+        void givenCategoryWithChildren_whenWithoutCategory_thenChildrenBecomeRoots() {
+            CategoryTree removed = tree.withoutCategory(2L);
+
+            assertThat(removed.getRootCategoryPromptCounts())
+                .extracting(CategoryPromptCount::getCategoryId, CategoryPromptCount::getPromptCount)
+                .containsExactly(tuple(1L, 1L), tuple(3L, 3L), tuple(4L, 5L));
+        }
+
+        @Test
+        @DisplayName("변경 후 다시 구성한 트리와 같은 상태가 된다")
+        void givenIncrementalChanges_whenCompareWithRebuilt_thenSame() {
+            CategoryTree changed = tree.withCategory(5L, "kotlin", 2L).withPromptMoved(null, 5L);
+            CategoryTree rebuilt = CategoryTree.of(List.of(
+                new CategoryDirectPromptCount(4L, "design", null, 5L),
+                new CategoryDirectPromptCount(5L, "kotlin", 2L, 1L),
+                new CategoryDirectPromptCount(3L, "java", 2L, 3L),
+                new CategoryDirectPromptCount(2L, "backend", 1L, 2L),
+                new CategoryDirectPromptCount(1L, "dev", null, 1L)));
+
+            assertThat(changed.hasSameCountsAs(rebuilt)).isTrue();
+            assertThat(tree.hasSameCountsAs(rebuilt)).isFalse();
+        }
+    }
+}